@@ -1,22 +1,28 @@
 package urSQL.API;
 
+import urSQL.RuntimeDatabaseProcessor.RuntimeDatabaseProcessor;
+import urSQL.System.Session;
+
 public class Connection {
 	private String current_schema; // Base actual
 	private boolean closed; // Bandera de apertura de conexión
+	private Session session; // Estado en el motor, lo comparten sus sentencias
 	
 	public Connection() {
 		this.current_schema = ""; // No hay base actual
 		this.closed = true; // Aún no existe conexión
+		this.session = new Session();
 	}
 	
 	public Connection(String url) {
 		String[] items = url.split("\\\\");
 		this.current_schema = items[items.length - 1]; // Actualiza la base actual
 		this.closed = true; // Aún no existe conexión
+		this.session = new Session(this.current_schema); // Empieza en la base del url
 	}
 	
 	public String getSchema() {
-		return this.current_schema; // Retorna la base actual
+		return this.session.getDatabase(); // Cambia con SET DATABASE
 	}
 	
 	public boolean getClosed()
@@ -27,7 +33,7 @@ public class Connection {
 	public Statement createStatement() {
 		if (this.closed) { // Si está cerrado puede habilitar una conexión
 			this.closed = false; // Abre una conexión
-			Statement stmt = new Statement(this.current_schema); // Crea un objeto Statement
+			Statement stmt = new Statement(this.session); // Crea un objeto Statement
 			return stmt;
 		} else {
 			System.out.println("Connection not closed"); // Si ya hay conexión no puede abrir otra
@@ -35,8 +41,14 @@ public class Connection {
 		}
 	}
 	
+	public PreparedStatement prepareStatement(String sql) {
+		// No ocupa la conexion, se pueden tener varias sentencias preparadas
+		return new PreparedStatement(this.session, sql);
+	}
+	
 	public boolean close() {
 		this.closed = true; // Cierra la conexión actual
+		RuntimeDatabaseProcessor.endTransaction(this.session, false); // Descarta la transacción abierta
 		return this.closed;
 	}
 }
@@ -0,0 +1,106 @@
+package urSQL.API;
+
+import java.io.IOException;
+
+import urSQL.QueryProcessor.PreparedPlan;
+import urSQL.QueryProcessor.QueryProcessor;
+import urSQL.System.Session;
+
+public class PreparedStatement 
+{
+	private String schema; // Base de datos actual
+	private String sql; // Sentencia con parametros [?]
+	private String[] parameters; // Valores de los parametros
+	private QueryProcessor q_proc; // Ejecuta el plan
+	
+	public PreparedStatement(String schema, String sql) {
+		this.schema = schema; // Base actual
+		this.sql = sql; // Sentencia a preparar
+		this.parameters = new String[0]; // Se dimensiona al preparar
+		this.q_proc = new QueryProcessor(); // Inicializa el procesador
+	}
+	
+	public PreparedStatement(Session session, String sql) {
+		this.schema = session.getDatabase(); // Base al preparar
+		this.sql = sql; // Sentencia a preparar
+		this.parameters = new String[0]; // Se dimensiona al preparar
+		this.q_proc = new QueryProcessor("", session); // Ejecuta en la sesion de la conexion
+	}
+	
+	public String getSchema()
+	{
+		return this.schema; // Obtiene la base actual
+	}
+	
+	public QueryProcessor getQ_Proc()
+	{
+		return this.q_proc; // Obtiene el procesador
+	}
+	
+	public void setString(int index, String value) {
+		this.set(index, value); // Los parametros empiezan en 1
+	}
+	
+	public void setInt(int index, int value) {
+		this.set(index, String.valueOf(value));
+	}
+	
+	public void setFloat(int index, float value) {
+		this.set(index, String.valueOf(value));
+	}
+	
+	public void setNull(int index) {
+		this.set(index, "null");
+	}
+	
+	public void clearParameters() {
+		this.parameters = new String[this.parameters.length]; // Borra los valores
+	}
+	
+	public ResultSet executeQuery() throws IOException {
+		if (this.run()) {
+			return new ResultSet();
+		}
+		return null;
+	}
+	
+	public int executeUpdate() throws IOException {
+		return this.run() ? 0 : -1; // Retorna -1 si no se pudo ejecutar
+	}
+	
+	public boolean execute() throws IOException {
+		return this.run();
+	}
+	
+	public boolean close() {
+		return true; // El plan queda en el cache para otras sentencias
+	}
+	
+	private void set(int index, String value) {
+		if (index > this.parameters.length) { // Crece hasta el parametro
+			String[] tmp = new String[index];
+			System.arraycopy(this.parameters, 0, tmp, 0, this.parameters.length);
+			this.parameters = tmp;
+		}
+		this.parameters[index - 1] = value;
+	}
+	
+	private boolean run() throws IOException {
+		PreparedPlan plan = QueryProcessor.prepare(this.q_proc.getSession(), this.sql); // Sale del cache si ya se analizo
+		if (plan == null) {
+			return false;
+		}
+		if (this.parameters.length != plan.getParameterCount()) {
+			System.out.println("Statement has " + plan.getParameterCount() + " parameters");
+			return false;
+		}
+		for (int i = 0; i < this.parameters.length; i++) {
+			if (this.parameters[i] == null) {
+				System.out.println("Parameter " + (i + 1) + " not set");
+				return false;
+			}
+		}
+		this.q_proc.execute(this.sql, plan, this.parameters.clone());
+		return true;
+	}
+}
@@ -3,6 +3,7 @@ package urSQL.API;
 import java.io.IOException;
 
 import urSQL.QueryProcessor.QueryProcessor;
+import urSQL.System.Session;
 
 
 public class Statement 
@@ -23,6 +24,12 @@ public class Statement
 		this.q_proc = new QueryProcessor(); // Inicializa el parser
 	}
 	
+	public Statement(Session session) {
+		this.schema = session.getDatabase(); // Base al crear la sentencia
+		this.closed = true; // No hay sentencia abierta
+		this.q_proc = new QueryProcessor("", session); // Ejecuta en la sesion de la conexion
+	}
+	
 	public String getSchema()
 	{
 		return this.schema; // Obtiene la base actual
@@ -0,0 +1,33 @@
+package urSQL.Metrics;
+
+/**
+ * JFR event of a value read from the chained buffers of a LinkedFile.
+ * @author ArturoMora™
+ *
+ */
+public class ChunkReadEvent extends FlightEvent
+{
+	private static final FlightEventType TYPE = new FlightEventType("urSQL.ChunkRead", "Chunk Read",
+			new String[] { "urSQL", "Storage" },
+			"Value read from the blocks file of a tree",
+			new FlightEventType.Field("headBuffer", "Head Buffer", long.class),
+			new FlightEventType.Field("buffers", "Buffers", int.class),
+			new FlightEventType.Field("bytes", "Bytes", long.class, null, true));
+
+	public long headBuffer;
+
+	public int buffers;
+
+	public long bytes;
+
+	public ChunkReadEvent()
+	{
+		super(TYPE);
+	}
+
+	@Override
+	protected Object[] values()
+	{
+		return new Object[] { this.headBuffer, this.buffers, this.bytes };
+	}
+}
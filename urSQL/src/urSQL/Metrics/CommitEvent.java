@@ -0,0 +1,27 @@
+package urSQL.Metrics;
+
+/**
+ * JFR event of the commit of a B+ tree and its blocks file.
+ * @author ArturoMora™
+ *
+ */
+public class CommitEvent extends FlightEvent
+{
+	private static final FlightEventType TYPE = new FlightEventType("urSQL.Commit", "Commit",
+			new String[] { "urSQL", "Storage" },
+			"Flush of the new blocks and the tree root, and release of the replaced blocks",
+			new FlightEventType.Field("freedChunks", "Freed Chunks", int.class));
+
+	public int freedChunks;
+
+	public CommitEvent()
+	{
+		super(TYPE);
+	}
+
+	@Override
+	protected Object[] values()
+	{
+		return new Object[] { this.freedChunks };
+	}
+}
@@ -0,0 +1,36 @@
+package urSQL.Metrics;
+
+/**
+ * JFR event of one component of a routine.
+ * @author ArturoMora™
+ *
+ */
+public class ComponentEvent extends FlightEvent
+{
+	private static final FlightEventType TYPE = new FlightEventType("urSQL.ComponentApply", "Component Apply",
+			new String[] { "urSQL", "Query" },
+			"Execution of one component of a routine",
+			new FlightEventType.Field("component", "Component", String.class),
+			new FlightEventType.Field("table", "Table", String.class, "Table of the rows the component returned", false),
+			new FlightEventType.Field("rowsIn", "Rows In", int.class),
+			new FlightEventType.Field("rowsOut", "Rows Out", int.class));
+
+	public String component;
+
+	public String table;
+
+	public int rowsIn;
+
+	public int rowsOut;
+
+	public ComponentEvent()
+	{
+		super(TYPE);
+	}
+
+	@Override
+	protected Object[] values()
+	{
+		return new Object[] { this.component, this.table, this.rowsIn, this.rowsOut };
+	}
+}
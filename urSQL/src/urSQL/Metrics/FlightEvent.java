@@ -0,0 +1,56 @@
+package urSQL.Metrics;
+
+/**
+ * FlightEvent is the base of the JFR events of urSQL. It has the begin,
+ * end, shouldCommit and commit of jdk.jfr.Event, and on commit gives the
+ * values of its fields to an event of its FlightEventType. When the type
+ * is off, or no recording has it enabled, they do nothing.
+ * @author ArturoMora™
+ *
+ */
+public abstract class FlightEvent
+{
+	/**
+	 * The jdk.jfr.Event, null when nothing is recorded.
+	 */
+	private final Object _Event;
+
+	protected FlightEvent(FlightEventType pType)
+	{
+		this._Event = pType.newEvent();
+	}
+
+	public void begin()
+	{
+		if (this._Event != null)
+		{
+			FlightEventType.begin(this._Event);
+		}
+	}
+
+	public void end()
+	{
+		if (this._Event != null)
+		{
+			FlightEventType.end(this._Event);
+		}
+	}
+
+	public boolean shouldCommit()
+	{
+		return this._Event != null && FlightEventType.shouldCommit(this._Event);
+	}
+
+	public void commit()
+	{
+		if (this._Event != null)
+		{
+			FlightEventType.commit(this._Event, this.values());
+		}
+	}
+
+	/**
+	 * @return The values of the fields, in the order of the type.
+	 */
+	protected abstract Object[] values();
+}
@@ -0,0 +1,244 @@
+package urSQL.Metrics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FlightEventType is a JFR event type made at run time. The project
+ * compiles at Java 8, which has no jdk.jfr, so the type is created
+ * through reflection with jdk.jfr.EventFactory when the JVM running
+ * urSQL has it. On a JVM without it the type is off and its events do
+ * nothing.
+ * @author ArturoMora™
+ *
+ */
+public class FlightEventType
+{
+	/**
+	 * Field of an event type, in the order the event gives its values.
+	 */
+	public static class Field
+	{
+		private final String _Name;
+		private final String _Label;
+		private final Class<?> _Type;
+		private final String _Description;
+		private final boolean _Bytes;
+
+		public Field(String pName, String pLabel, Class<?> pType)
+		{
+			this(pName, pLabel, pType, null, false);
+		}
+
+		/**
+		 * @param pDescription Description of the field, null for none.
+		 * @param pBytes True if the field is an amount of bytes.
+		 */
+		public Field(String pName, String pLabel, Class<?> pType, String pDescription, boolean pBytes)
+		{
+			this._Name = pName;
+			this._Label = pLabel;
+			this._Type = pType;
+			this._Description = pDescription;
+			this._Bytes = pBytes;
+		}
+	}
+
+	/**
+	 * Constructors and methods of jdk.jfr, null when the JVM has no JFR.
+	 */
+	private static final Constructor<?> ANNOTATION_ELEMENT;
+	private static final Constructor<?> VALUE_DESCRIPTOR;
+	private static final Method CREATE;
+	private static final Method GET_EVENT_TYPE;
+	private static final Method IS_ENABLED;
+	private static final Method NEW_EVENT;
+	private static final Method BEGIN;
+	private static final Method END;
+	private static final Method SHOULD_COMMIT;
+	private static final Method SET;
+	private static final Method COMMIT;
+	private static final Class<?> NAME;
+	private static final Class<?> LABEL;
+	private static final Class<?> CATEGORY;
+	private static final Class<?> DESCRIPTION;
+	private static final Class<?> DATA_AMOUNT;
+
+	static
+	{
+		Constructor<?> annotationElement = null;
+		Constructor<?> valueDescriptor = null;
+		Method create = null;
+		Method getEventType = null;
+		Method isEnabled = null;
+		Method newEvent = null;
+		Method begin = null;
+		Method end = null;
+		Method shouldCommit = null;
+		Method set = null;
+		Method commit = null;
+		Class<?> name = null;
+		Class<?> label = null;
+		Class<?> category = null;
+		Class<?> description = null;
+		Class<?> dataAmount = null;
+		try
+		{
+			Class<?> factory = Class.forName("jdk.jfr.EventFactory");
+			Class<?> event = Class.forName("jdk.jfr.Event");
+			annotationElement = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class,
+					Object.class);
+			valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class,
+					String.class, List.class);
+			create = factory.getMethod("create", List.class, List.class);
+			getEventType = factory.getMethod("getEventType");
+			isEnabled = Class.forName("jdk.jfr.EventType").getMethod("isEnabled");
+			newEvent = factory.getMethod("newEvent");
+			begin = event.getMethod("begin");
+			end = event.getMethod("end");
+			shouldCommit = event.getMethod("shouldCommit");
+			set = event.getMethod("set", int.class, Object.class);
+			commit = event.getMethod("commit");
+			name = Class.forName("jdk.jfr.Name");
+			label = Class.forName("jdk.jfr.Label");
+			category = Class.forName("jdk.jfr.Category");
+			description = Class.forName("jdk.jfr.Description");
+			dataAmount = Class.forName("jdk.jfr.DataAmount");
+		}
+		catch (ReflectiveOperationException e)
+		{
+			// no JFR in this JVM, every type is off
+			create = null;
+		}
+		ANNOTATION_ELEMENT = annotationElement;
+		VALUE_DESCRIPTOR = valueDescriptor;
+		CREATE = create;
+		GET_EVENT_TYPE = getEventType;
+		IS_ENABLED = isEnabled;
+		NEW_EVENT = newEvent;
+		BEGIN = begin;
+		END = end;
+		SHOULD_COMMIT = shouldCommit;
+		SET = set;
+		COMMIT = commit;
+		NAME = name;
+		LABEL = label;
+		CATEGORY = category;
+		DESCRIPTION = description;
+		DATA_AMOUNT = dataAmount;
+	}
+
+	/**
+	 * The jdk.jfr.EventFactory of the type and its jdk.jfr.EventType, null
+	 * when the type is off.
+	 */
+	private final Object _Factory;
+	private final Object _EventType;
+
+	/**
+	 * Registers the type with JFR, if the JVM has it.
+	 * @param pCategory Category path, from the top.
+	 * @param pFields Fields, in the order FlightEvent.values gives them.
+	 */
+	public FlightEventType(String pName, String pLabel, String[] pCategory, String pDescription,
+			Field... pFields)
+	{
+		Object factory = null;
+		Object eventType = null;
+		if (CREATE != null)
+		{
+			try
+			{
+				List<Object> annotations = new ArrayList<Object>();
+				annotations.add(ANNOTATION_ELEMENT.newInstance(NAME, pName));
+				annotations.add(ANNOTATION_ELEMENT.newInstance(LABEL, pLabel));
+				annotations.add(ANNOTATION_ELEMENT.newInstance(CATEGORY, pCategory));
+				annotations.add(ANNOTATION_ELEMENT.newInstance(DESCRIPTION, pDescription));
+				List<Object> fields = new ArrayList<Object>();
+				for (Field field : pFields)
+				{
+					List<Object> fieldAnnotations = new ArrayList<Object>();
+					fieldAnnotations.add(ANNOTATION_ELEMENT.newInstance(LABEL, field._Label));
+					if (field._Description != null)
+					{
+						fieldAnnotations.add(ANNOTATION_ELEMENT.newInstance(DESCRIPTION, field._Description));
+					}
+					if (field._Bytes)
+					{
+						fieldAnnotations.add(ANNOTATION_ELEMENT.newInstance(DATA_AMOUNT, "BYTES"));
+					}
+					fields.add(VALUE_DESCRIPTOR.newInstance(field._Type, field._Name, fieldAnnotations));
+				}
+				factory = CREATE.invoke(null, annotations, fields);
+				eventType = GET_EVENT_TYPE.invoke(factory);
+			}
+			catch (ReflectiveOperationException e)
+			{
+				// JFR refused the type, it stays off
+				factory = null;
+				eventType = null;
+			}
+		}
+		this._Factory = factory;
+		this._EventType = eventType;
+	}
+
+	/**
+	 * @return A new jdk.jfr.Event of the type, null if the type is off or
+	 * no recording has it enabled.
+	 */
+	Object newEvent()
+	{
+		if (this._Factory == null || !(Boolean) invoke(IS_ENABLED, this._EventType))
+		{
+			return null;
+		}
+		return invoke(NEW_EVENT, this._Factory);
+	}
+
+	static void begin(Object pEvent)
+	{
+		invoke(BEGIN, pEvent);
+	}
+
+	static void end(Object pEvent)
+	{
+		invoke(END, pEvent);
+	}
+
+	static boolean shouldCommit(Object pEvent)
+	{
+		return (Boolean) invoke(SHOULD_COMMIT, pEvent);
+	}
+
+	/**
+	 * Sets the fields of an event, in the order of the type, and commits it.
+	 */
+	static void commit(Object pEvent, Object[] pValues)
+	{
+		for (int i = 0; i < pValues.length; i++)
+		{
+			invoke(SET, pEvent, i, pValues[i]);
+		}
+		invoke(COMMIT, pEvent);
+	}
+
+	private static Object invoke(Method pMethod, Object pTarget, Object... pArguments)
+	{
+		try
+		{
+			return pMethod.invoke(pTarget, pArguments);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new IllegalStateException(e);
+		}
+		catch (InvocationTargetException e)
+		{
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package urSQL.Metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram counts durations in nanoseconds in buckets whose
+ * width grows with the value, like an HDR histogram: values below 128
+ * have a bucket each and above that every power of two is split in 64
+ * buckets, so any percentile is off by less than 1.6%. Recording is a
+ * single atomic increment on the bucket of the thread's stripe; reading
+ * adds the stripes.
+ * @author ArturoMora™
+ *
+ */
+public class LatencyHistogram
+{
+	/**
+	 * Bits of each value kept exactly: 2^7 = 128 sub-buckets.
+	 */
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+
+	/**
+	 * Largest value kept apart, about 68 seconds; longer durations are
+	 * counted in the last bucket.
+	 */
+	private static final long MAX_VALUE = (1L << 36) - 1;
+
+	/**
+	 * Buckets of one stripe.
+	 */
+	private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+	/**
+	 * Buckets of every stripe, one after the other.
+	 */
+	protected final AtomicLongArray _Counts;
+
+	/**
+	 * Sum and largest of the recorded values.
+	 */
+	protected final StripedCounter _Sum;
+	protected final AtomicLong _Max;
+
+	public LatencyHistogram()
+	{
+		this._Counts = new AtomicLongArray(BUCKETS * StripedCounter.STRIPES);
+		this._Sum = new StripedCounter(null);
+		this._Max = new AtomicLong();
+	}
+
+	/**
+	 * Records a duration.
+	 * @param pNanos Duration in nanoseconds, negative values count as 0.
+	 */
+	public void record(long pNanos)
+	{
+		long value = Math.max(pNanos, 0);
+		this._Counts.getAndIncrement(StripedCounter.stripe() * BUCKETS + index(Math.min(value, MAX_VALUE)));
+		this._Sum.add(value);
+		long max = this._Max.get();
+		while (value > max && !this._Max.compareAndSet(max, value))
+		{
+			max = this._Max.get();
+		}
+	}
+
+	/**
+	 * Number of recorded values.
+	 */
+	public long getCount()
+	{
+		long count = 0;
+		for (int i = 0; i < this._Counts.length(); i++)
+		{
+			count += this._Counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Mean of the recorded values, 0 if there are none.
+	 */
+	public double getMean()
+	{
+		long count = this.getCount();
+		return count == 0 ? 0 : (double) this._Sum.getValue() / count;
+	}
+
+	public long getMax()
+	{
+		return this._Max.get();
+	}
+
+	/**
+	 * Smallest value such that the given fraction of the recorded values
+	 * are not larger, rounded up to the end of its bucket.
+	 * @param pQuantile Fraction between 0 and 1, e.g. 0.99.
+	 * @return The value in nanoseconds, 0 if nothing was recorded.
+	 */
+	public long getValueAtQuantile(double pQuantile)
+	{
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < this._Counts.length(); i++)
+		{
+			long count = this._Counts.get(i);
+			counts[i % BUCKETS] += count;
+			total += count;
+		}
+		if (total == 0)
+		{
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(pQuantile * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += counts[i];
+			if (seen >= rank)
+			{
+				return Math.min(highestValue(i), this.getMax());
+			}
+		}
+		return this.getMax();
+	}
+
+	public void reset()
+	{
+		for (int i = 0; i < this._Counts.length(); i++)
+		{
+			this._Counts.set(i, 0);
+		}
+		this._Sum.reset();
+		this._Max.set(0);
+	}
+
+	/**
+	 * Bucket of a value: the value itself below SUB_BUCKETS, and above
+	 * it the power of two and the top SUB_BUCKET_BITS - 1 bits after
+	 * the highest one.
+	 */
+	private static int index(long pValue)
+	{
+		if (pValue < SUB_BUCKETS)
+		{
+			return (int) pValue;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(pValue) - (SUB_BUCKET_BITS - 1);
+		return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) ((pValue >>> shift) - HALF_SUB_BUCKETS);
+	}
+
+	/**
+	 * Largest value that falls in a bucket.
+	 */
+	private static long highestValue(int pIndex)
+	{
+		if (pIndex < SUB_BUCKETS)
+		{
+			return pIndex;
+		}
+		int shift = (pIndex - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+		long sub = (pIndex - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+		return ((sub + 1) << shift) - 1;
+	}
+}
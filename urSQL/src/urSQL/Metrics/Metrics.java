@@ -0,0 +1,179 @@
+package urSQL.Metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics is the registry of the timers and counters of the engine.
+ * The hot paths use the constants, so recording never looks up a
+ * name; other code may ask for a timer or counter by name. Every
+ * metric is published as an MBean under the urSQL domain and listed
+ * by GET STATUS.
+ * @author ArturoMora™
+ *
+ */
+public class Metrics
+{
+	/**
+	 * Domain of the MBeans.
+	 */
+	public static final String DOMAIN = "urSQL";
+
+	private static final ConcurrentMap< String, OperationTimer > TIMERS =
+			new ConcurrentHashMap< String, OperationTimer >();
+
+	private static final ConcurrentMap< String, StripedCounter > COUNTERS =
+			new ConcurrentHashMap< String, StripedCounter >();
+
+	/**
+	 * Operations of the StoreDataManager.
+	 */
+	public static final OperationTimer STORE_INSERT = timer("store.insertRow");
+	public static final OperationTimer STORE_GET_ROW = timer("store.getRow");
+	public static final OperationTimer STORE_SCAN = timer("store.getTable");
+	public static final OperationTimer STORE_GET_BY_KEYS = timer("store.getTableByKeys");
+	public static final OperationTimer STORE_GET_BY_INDEX = timer("store.getTableByIndex");
+	public static final OperationTimer STORE_DELETE = timer("store.deleteRow");
+	public static final OperationTimer STORE_UPDATE = timer("store.updateRegister");
+
+	/**
+	 * Operations of the B+ trees of the tables and indexes.
+	 */
+	public static final OperationTimer TREE_GET = timer("tree.get");
+	public static final OperationTimer TREE_SET = timer("tree.set");
+	public static final OperationTimer TREE_NEXT_KEY = timer("tree.nextKey");
+
+	/**
+	 * Reads and writes of the buffers of the tree files.
+	 */
+	public static final OperationTimer FILE_READ = timer("file.read");
+	public static final OperationTimer FILE_WRITE = timer("file.write");
+	public static final StripedCounter FILE_BYTES_READ = counter("file.bytesRead");
+	public static final StripedCounter FILE_BYTES_WRITTEN = counter("file.bytesWritten");
+
+	/**
+	 * Parsing of the statements in the QueryProcessor.
+	 */
+	public static final OperationTimer QUERY_PARSE = timer("query.parse");
+	public static final StripedCounter QUERY_ERRORS = counter("query.errors");
+
+	/**
+	 * Connections and requests of the Server. Open connections go up and
+	 * down; the rate covers the last RATE_SECONDS complete seconds.
+	 */
+	public static final StripedCounter SERVER_CONNECTIONS = counter("server.connections");
+	public static final StripedCounter SERVER_OPEN_CONNECTIONS = counter("server.openConnections");
+	public static final StripedCounter SERVER_BYTES_IN = counter("server.bytesIn");
+	public static final StripedCounter SERVER_BYTES_OUT = counter("server.bytesOut");
+	public static final OperationTimer SERVER_REQUEST = timer("server.request");
+	public static final RateMeter SERVER_REQUEST_RATE = new RateMeter("server.requestsPerSecond", 10);
+
+	/**
+	 * Time routines wait for the locks of their tables and rows,
+	 * recorded only when they do wait, and the row requests that failed.
+	 */
+	public static final OperationTimer LOCK_WAIT = timer("lock.tableWait");
+	public static final OperationTimer ROW_LOCK_WAIT = timer("lock.rowWait");
+	public static final StripedCounter LOCK_DEADLOCKS = counter("lock.deadlocks");
+	public static final StripedCounter LOCK_TIMEOUTS = counter("lock.timeouts");
+
+	/**
+	 * Commits of transactions, from the log record to the last tree,
+	 * and the transactions rolled back.
+	 */
+	public static final OperationTimer TRANSACTION_COMMIT = timer("transaction.commit");
+	public static final StripedCounter TRANSACTION_ROLLBACKS = counter("transaction.rollbacks");
+
+	/**
+	 * Forces of the write-ahead log, the bytes appended to it and the
+	 * time commits wait for their record to be durable.
+	 */
+	public static final OperationTimer WAL_FORCE = timer("wal.force");
+	public static final StripedCounter WAL_BYTES = counter("wal.bytes");
+	public static final OperationTimer WAL_COMMIT_WAIT = timer("wal.commitWait");
+
+	/**
+	 * Checkpoints of the trees and the replay of the log at startup.
+	 */
+	public static final OperationTimer WAL_CHECKPOINT = timer("wal.checkpoint");
+	public static final OperationTimer WAL_RECOVERY = timer("wal.recovery");
+
+	/**
+	 * Prefix of the timers of each kind of routine.
+	 */
+	public static final String ROUTINE_PREFIX = "routine.";
+
+	/**
+	 * Timer of a name, created and published the first time.
+	 */
+	public static OperationTimer timer(String pName)
+	{
+		OperationTimer timer = TIMERS.get(pName);
+		if (timer == null)
+		{
+			OperationTimer created = new OperationTimer(pName);
+			timer = TIMERS.putIfAbsent(pName, created);
+			if (timer == null)
+			{
+				timer = created;
+				register("Operation", pName, created);
+			}
+		}
+		return timer;
+	}
+
+	/**
+	 * Counter of a name, created and published the first time.
+	 */
+	public static StripedCounter counter(String pName)
+	{
+		StripedCounter counter = COUNTERS.get(pName);
+		if (counter == null)
+		{
+			StripedCounter created = new StripedCounter(pName);
+			counter = COUNTERS.putIfAbsent(pName, created);
+			if (counter == null)
+			{
+				counter = created;
+				register("Counter", pName, created);
+			}
+		}
+		return counter;
+	}
+
+	public static Collection< OperationTimer > getTimers()
+	{
+		return TIMERS.values();
+	}
+
+	public static Collection< StripedCounter > getCounters()
+	{
+		return COUNTERS.values();
+	}
+
+	/**
+	 * Publishes a metric in the platform MBean server. A metric that
+	 * cannot be published is still recorded and shown by GET STATUS.
+	 */
+	private static void register(String pType, String pName, Object pMBean)
+	{
+		try
+		{
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(DOMAIN + ":type=" + pType + ",name=" + ObjectName.quote(pName));
+			if (!server.isRegistered(name))
+			{
+				server.registerMBean(pMBean, name);
+			}
+		}
+		catch (Exception e)
+		{
+			System.err.println("Could not publish metric " + pName + ": " + e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package urSQL.Metrics;
+
+/**
+ * JFR event of a B+ tree node read from its file because it was not
+ * in memory.
+ * @author ArturoMora™
+ *
+ */
+public class NodeLoadEvent extends FlightEvent
+{
+	private static final FlightEventType TYPE = new FlightEventType("urSQL.TreeNodeLoad", "Tree Node Load",
+			new String[] { "urSQL", "Storage" },
+			"B+ tree node read from disk",
+			new FlightEventType.Field("bufferNumber", "Buffer Number", long.class),
+			new FlightEventType.Field("bytes", "Bytes", long.class, null, true));
+
+	public long bufferNumber;
+
+	public long bytes;
+
+	public NodeLoadEvent()
+	{
+		super(TYPE);
+	}
+
+	@Override
+	protected Object[] values()
+	{
+		return new Object[] { this.bufferNumber, this.bytes };
+	}
+}
@@ -0,0 +1,102 @@
+package urSQL.Metrics;
+
+/**
+ * OperationTimer measures how long each call of an operation takes.
+ * The caller keeps the value returned by start and passes it to stop:
+ *
+ *	long start = timer.start();
+ *	try { ... } finally { timer.stop(start); }
+ *
+ * @author ArturoMora™
+ *
+ */
+public class OperationTimer implements OperationTimerMBean
+{
+	/**
+	 * Name of the operation in the registry.
+	 */
+	protected final String _Name;
+
+	/**
+	 * Durations of the calls.
+	 */
+	protected final LatencyHistogram _Histogram;
+
+	public OperationTimer(String pName)
+	{
+		this._Name = pName;
+		this._Histogram = new LatencyHistogram();
+	}
+
+	/**
+	 * Time at which a call starts.
+	 */
+	public long start()
+	{
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records a call that started at pStart.
+	 */
+	public void stop(long pStart)
+	{
+		this._Histogram.record(System.nanoTime() - pStart);
+	}
+
+	/**
+	 * Get for _Histogram.
+	 */
+	public LatencyHistogram getHistogram()
+	{
+		return this._Histogram;
+	}
+
+	@Override
+	public String getName()
+	{
+		return this._Name;
+	}
+
+	@Override
+	public long getCount()
+	{
+		return this._Histogram.getCount();
+	}
+
+	@Override
+	public double getMeanMicros()
+	{
+		return this._Histogram.getMean() / 1e3;
+	}
+
+	@Override
+	public double getP50Micros()
+	{
+		return this._Histogram.getValueAtQuantile(0.5) / 1e3;
+	}
+
+	@Override
+	public double getP99Micros()
+	{
+		return this._Histogram.getValueAtQuantile(0.99) / 1e3;
+	}
+
+	@Override
+	public double getP999Micros()
+	{
+		return this._Histogram.getValueAtQuantile(0.999) / 1e3;
+	}
+
+	@Override
+	public double getMaxMicros()
+	{
+		return this._Histogram.getMax() / 1e3;
+	}
+
+	@Override
+	public void reset()
+	{
+		this._Histogram.reset();
+	}
+}
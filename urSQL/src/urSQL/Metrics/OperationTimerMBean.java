@@ -0,0 +1,25 @@
+package urSQL.Metrics;
+
+/**
+ * JMX view of an OperationTimer, durations in microseconds.
+ * @author ArturoMora™
+ *
+ */
+public interface OperationTimerMBean
+{
+	public String getName();
+
+	public long getCount();
+
+	public double getMeanMicros();
+
+	public double getP50Micros();
+
+	public double getP99Micros();
+
+	public double getP999Micros();
+
+	public double getMaxMicros();
+
+	public void reset();
+}
@@ -0,0 +1,30 @@
+package urSQL.Metrics;
+
+/**
+ * JFR event of the parsing of a statement.
+ * @author ArturoMora™
+ *
+ */
+public class ParseEvent extends FlightEvent
+{
+	private static final FlightEventType TYPE = new FlightEventType("urSQL.Parse", "Parse",
+			new String[] { "urSQL", "Query" },
+			"Lexing and parsing of a statement, including its planning",
+			new FlightEventType.Field("statement", "Statement", String.class),
+			new FlightEventType.Field("parsed", "Parsed", boolean.class, "False when the statement has syntax errors", false));
+
+	public String statement;
+
+	public boolean parsed;
+
+	public ParseEvent()
+	{
+		super(TYPE);
+	}
+
+	@Override
+	protected Object[] values()
+	{
+		return new Object[] { this.statement, this.parsed };
+	}
+}
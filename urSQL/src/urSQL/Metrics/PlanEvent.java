@@ -0,0 +1,34 @@
+package urSQL.Metrics;
+
+/**
+ * JFR event of the optimization of a DML statement and the creation
+ * of its routine.
+ * @author ArturoMora™
+ *
+ */
+public class PlanEvent extends FlightEvent
+{
+	private static final FlightEventType TYPE = new FlightEventType("urSQL.Plan", "Plan",
+			new String[] { "urSQL", "Query" },
+			"Optimization of the logical plan of a DML statement and creation of its routine",
+			new FlightEventType.Field("table", "Table", String.class),
+			new FlightEventType.Field("components", "Components", int.class),
+			new FlightEventType.Field("estimatedRows", "Estimated Rows", long.class, "Rows the optimizer expects the statement to return, -1 if unknown", false));
+
+	public String table;
+
+	public int components;
+
+	public long estimatedRows;
+
+	public PlanEvent()
+	{
+		super(TYPE);
+	}
+
+	@Override
+	protected Object[] values()
+	{
+		return new Object[] { this.table, this.components, this.estimatedRows };
+	}
+}
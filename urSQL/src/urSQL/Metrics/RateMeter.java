@@ -0,0 +1,73 @@
+package urSQL.Metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * RateMeter counts events per second over a sliding window. Each slot
+ * of a ring holds the count of one second; a slot is cleared when its
+ * second comes around again. The rate only uses complete seconds, so it
+ * does not drop at the start of every second.
+ * @author ArturoMora™
+ *
+ */
+public class RateMeter
+{
+	protected final String _Name;
+
+	/**
+	 * Second of each slot, since the epoch, and its count.
+	 */
+	protected final AtomicLongArray _Seconds;
+	protected final AtomicLongArray _Counts;
+
+	/**
+	 * @param pSeconds Complete seconds of the window.
+	 */
+	public RateMeter(String pName, int pSeconds)
+	{
+		this._Name = pName;
+		this._Seconds = new AtomicLongArray(pSeconds + 1);
+		this._Counts = new AtomicLongArray(pSeconds + 1);
+	}
+
+	public String getName()
+	{
+		return this._Name;
+	}
+
+	/**
+	 * Counts one event in the current second.
+	 */
+	public void mark()
+	{
+		long second = System.currentTimeMillis() / 1000;
+		int slot = (int) (second % this._Seconds.length());
+		long previous = this._Seconds.get(slot);
+		if (previous != second && this._Seconds.compareAndSet(slot, previous, second))
+		{
+			// events of the old second that arrive now are lost, it is a
+			// rate and not a total
+			this._Counts.set(slot, 0);
+		}
+		this._Counts.incrementAndGet(slot);
+	}
+
+	/**
+	 * Events per second in the complete seconds of the window.
+	 */
+	public double getRate()
+	{
+		long now = System.currentTimeMillis() / 1000;
+		int window = this._Seconds.length() - 1;
+		long events = 0;
+		for (int i = 0; i < this._Seconds.length(); i++)
+		{
+			long second = this._Seconds.get(i);
+			if (second < now && second >= now - window)
+			{
+				events += this._Counts.get(i);
+			}
+		}
+		return (double) events / window;
+	}
+}
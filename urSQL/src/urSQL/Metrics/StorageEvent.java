@@ -0,0 +1,38 @@
+package urSQL.Metrics;
+
+/**
+ * JFR event of an operation of the StoreDataManager. Tree node loads,
+ * chunk reads and commits happen inside it on the same thread, which
+ * is how they are tied to a table.
+ * @author ArturoMora™
+ *
+ */
+public class StorageEvent extends FlightEvent
+{
+	private static final FlightEventType TYPE = new FlightEventType("urSQL.StorageOperation", "Storage Operation",
+			new String[] { "urSQL", "Storage" },
+			"Read or write of the rows of a table",
+			new FlightEventType.Field("operation", "Operation", String.class),
+			new FlightEventType.Field("table", "Table", String.class),
+			new FlightEventType.Field("rows", "Rows", int.class),
+			new FlightEventType.Field("bytesRead", "Bytes Read", long.class, null, true));
+
+	public String operation;
+
+	public String table;
+
+	public int rows;
+
+	public long bytesRead;
+
+	public StorageEvent()
+	{
+		super(TYPE);
+	}
+
+	@Override
+	protected Object[] values()
+	{
+		return new Object[] { this.operation, this.table, this.rows, this.bytesRead };
+	}
+}
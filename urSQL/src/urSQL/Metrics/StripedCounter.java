@@ -0,0 +1,92 @@
+package urSQL.Metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * StripedCounter is a counter that many threads can increment without
+ * fighting over one memory word. Each thread adds to one of several
+ * cells, chosen by its id, and the value is the sum of the cells.
+ * Cells are kept a cache line apart so they never share one.
+ * @author ArturoMora™
+ *
+ */
+public class StripedCounter implements StripedCounterMBean
+{
+	/**
+	 * Number of cells, a power of two.
+	 */
+	static final int STRIPES = 8;
+
+	/**
+	 * Distance between cells, in longs: 64 bytes.
+	 */
+	private static final int PADDING = 8;
+
+	/**
+	 * Name of the counter in the registry.
+	 */
+	protected final String _Name;
+
+	/**
+	 * The cells, only one of every PADDING positions is used.
+	 */
+	protected final AtomicLongArray _Cells;
+
+	public StripedCounter(String pName)
+	{
+		this._Name = pName;
+		this._Cells = new AtomicLongArray(STRIPES * PADDING);
+	}
+
+	/**
+	 * Adds to the cell of the current thread.
+	 */
+	public void add(long pValue)
+	{
+		this._Cells.getAndAdd(stripe() * PADDING, pValue);
+	}
+
+	public void increment()
+	{
+		this.add(1);
+	}
+
+	@Override
+	public String getName()
+	{
+		return this._Name;
+	}
+
+	/**
+	 * Sum of the cells. It is not a snapshot: additions made while
+	 * adding the cells may or may not be counted.
+	 */
+	@Override
+	public long getValue()
+	{
+		long sum = 0;
+		for (int i = 0; i < STRIPES; i++)
+		{
+			sum += this._Cells.get(i * PADDING);
+		}
+		return sum;
+	}
+
+	@Override
+	public void reset()
+	{
+		for (int i = 0; i < STRIPES; i++)
+		{
+			this._Cells.set(i * PADDING, 0);
+		}
+	}
+
+	/**
+	 * Cell of the current thread.
+	 */
+	static int stripe()
+	{
+		long id = Thread.currentThread().getId();
+		return (int) (id ^ (id >>> 3)) & (STRIPES - 1);
+	}
+}
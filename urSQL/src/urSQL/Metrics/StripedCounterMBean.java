@@ -0,0 +1,15 @@
+package urSQL.Metrics;
+
+/**
+ * JMX view of a StripedCounter.
+ * @author ArturoMora™
+ *
+ */
+public interface StripedCounterMBean
+{
+	public String getName();
+
+	public long getValue();
+
+	public void reset();
+}
@@ -6,6 +6,7 @@ import java.util.Vector;
 
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.SystemCatalog.SystemCatalog;
+import urSQL.System.Session;
 
 public class Main {
 
@@ -17,7 +18,6 @@ public class Main {
 		//sc.addDatabase("Basesita");
 		//sdm.createDatabase("Basesita");
 		
-		sc.setDatabase("Basesita");
 		sdm.setDatabase("Basesita");
 		
 		LinkedList<LinkedList<String>> list = sdm.getTable("Basesita", "Tablita");
@@ -57,11 +57,11 @@ public class Main {
 		vec.addElement(vec2);
 		vec.addElement(vec3);
 		
-		sc.addTable("Tablita", "Cedula", vec);
+		sc.addTable("Basesita", "Tablita", "Cedula", vec);
 		
-		sdm.createTable(sc.getMetadata("Tablita"));
+		sdm.createTable(sc.getMetadata("Basesita", "Tablita"));
 		
-		QueryProcessor q = new QueryProcessor();
+		QueryProcessor q = new QueryProcessor("", new Session("Basesita"));
 		try {
 			q.start_cli();
 		} catch (IOException e) {
@@ -0,0 +1,58 @@
+package urSQL.QueryProcessor.Plan;
+
+import urSQL.RuntimeDatabaseProcessor.Components.Parameter;
+import urSQL.StoredDataManager.ScanPredicate;
+
+/**
+ * Condicion de un WHERE: columna, operador y valor. Los operadores
+ * son los de ScanPredicate; IS NULL e IS NOT NULL no tienen valor.
+ */
+public class Condition {
+	private final String column;
+	private final String operator;
+	private final String value;
+
+	public Condition(String column, String operator, String value) {
+		this.column = column;
+		this.operator = operator;
+		this.value = value;
+	}
+
+	/**
+	 * Condicion sobre nulos, sin valor
+	 */
+	public Condition(String column, String operator) {
+		this(column, operator, "");
+	}
+
+	public String getColumn() {
+		return this.column;
+	}
+
+	public String getOperator() {
+		return this.operator;
+	}
+
+	public String getValue() {
+		return this.value;
+	}
+
+	public boolean isNullTest() {
+		return this.operator.equals(ScanPredicate.IS_NULL) || this.operator.equals(ScanPredicate.IS_NOT_NULL);
+	}
+
+	/**
+	 * El valor es la marca de un parametro [?] que se conoce al ejecutar
+	 */
+	public boolean isParameter() {
+		return this.value.startsWith(Parameter.MARKER);
+	}
+
+	@Override
+	public String toString() {
+		if (this.isNullTest()) {
+			return this.column + " " + this.operator;
+		}
+		return this.column + " " + this.operator + " " + this.value;
+	}
+}
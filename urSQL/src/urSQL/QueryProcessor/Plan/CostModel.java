@@ -0,0 +1,136 @@
+package urSQL.QueryProcessor.Plan;
+
+import urSQL.StoredDataManager.ScanPredicate;
+import urSQL.System.ColumnStatistics;
+import urSQL.System.TableStatistics;
+
+/**
+ * Modelo de costos del optimizador. Los costos estan en unidades de
+ * una fila leida en orden del arbol de la tabla; las cantidades de
+ * filas salen de las estadisticas de ANALYZE.
+ */
+public class CostModel {
+	/**
+	 * Leer y revisar una fila al recorrer la tabla
+	 */
+	static final double ROW_COST = 1.0;
+
+	/**
+	 * Bajar por un arbol hasta una llave
+	 */
+	static final double SEEK_COST = 3.0;
+
+	/**
+	 * Leer una llave de un indice en orden
+	 */
+	static final double INDEX_ENTRY_COST = 0.5;
+
+	/**
+	 * Buscar en la tabla la fila de una llave que dio un indice
+	 */
+	static final double FETCH_COST = 4.0;
+
+	/**
+	 * Buscar en un indice hash
+	 */
+	static final double HASH_PROBE_COST = 1.0;
+
+	/**
+	 * Comparar un par de filas en un JOIN por ciclos anidados
+	 */
+	static final double COMPARE_COST = 0.05;
+
+	/**
+	 * Guardar o buscar una fila en la tabla hash de un JOIN
+	 */
+	static final double HASH_ROW_COST = 1.0;
+
+	/**
+	 * Fracciones de filas que se suponen sin estadisticas de la columna
+	 */
+	private static final double DEFAULT_EQUAL = 0.1;
+	private static final double DEFAULT_RANGE = 1.0 / 3;
+	private static final double DEFAULT_LIKE = 0.1;
+
+	/**
+	 * Fraccion de las filas de la tabla que cumplen la condicion
+	 */
+	static double selectivity(Condition condition, TableStatistics statistics) {
+		ColumnStatistics column = statistics.getColumn(condition.getColumn());
+		String operator = condition.getOperator();
+		if (column == null) {
+			if (operator.equals(ScanPredicate.EQUAL)) {
+				return DEFAULT_EQUAL;
+			}
+			if (operator.equals(ScanPredicate.NOT)) {
+				return 1 - DEFAULT_EQUAL;
+			}
+			return operator.equals(ScanPredicate.LIKE) ? DEFAULT_LIKE : DEFAULT_RANGE;
+		}
+		double not_null = 1 - column.getNullFraction();
+		switch (operator) {
+		case ScanPredicate.IS_NULL:
+			return column.getNullFraction();
+		case ScanPredicate.IS_NOT_NULL:
+			return not_null;
+		case ScanPredicate.EQUAL:
+			return equality(condition, column, statistics) * not_null;
+		case ScanPredicate.NOT:
+			return (1 - equality(condition, column, statistics)) * not_null;
+		case ScanPredicate.LESS_THAN:
+			if (condition.isParameter()) {
+				return DEFAULT_RANGE * not_null;
+			}
+			return column.fractionBelow(condition.getValue()) * not_null;
+		case ScanPredicate.MORE_THAN:
+			if (condition.isParameter()) {
+				return DEFAULT_RANGE * not_null;
+			}
+			return (1 - column.fractionBelow(condition.getValue())) * not_null;
+		default:
+			return DEFAULT_LIKE * not_null;
+		}
+	}
+
+	/**
+	 * Fraccion de los valores iguales al de la condicion. Un valor fuera
+	 * del rango de la columna se toma como una sola fila, porque las
+	 * estadisticas pueden ser de antes de que se insertara.
+	 */
+	private static double equality(Condition condition, ColumnStatistics column, TableStatistics statistics) {
+		double rows = Math.max(statistics.getRowCount(), 1);
+		if (!condition.isParameter() && column.isOutOfRange(condition.getValue())) {
+			return 1 / rows;
+		}
+		return 1.0 / Math.max(column.getDistinctValues(), 1);
+	}
+
+	static double scan(double rows) {
+		return rows * ROW_COST;
+	}
+
+	static double seek() {
+		return SEEK_COST;
+	}
+
+	/**
+	 * Lectura por un indice B+ de las filas que cumplen la condicion;
+	 * si el indice no guarda todas las columnas cada fila se busca en
+	 * la tabla
+	 */
+	static double indexScan(double matches, boolean covering) {
+		return SEEK_COST + matches * (covering ? INDEX_ENTRY_COST : INDEX_ENTRY_COST + FETCH_COST);
+	}
+
+	static double hashIndex(double matches) {
+		return HASH_PROBE_COST + matches * FETCH_COST;
+	}
+
+	static double nestedLoopJoin(double left, double right) {
+		return left * right * COMPARE_COST;
+	}
+
+	static double hashJoin(double left, double right) {
+		return (left + right) * HASH_ROW_COST;
+	}
+}
@@ -0,0 +1,15 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * Borra las filas que lee
+ */
+public class DeleteNode extends LogicalNode {
+	public DeleteNode(LogicalNode child) {
+		super(child);
+	}
+
+	@Override
+	public String describe() {
+		return "Delete";
+	}
+}
@@ -0,0 +1,30 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * DELETE FROM tabla [WHERE condicion]
+ */
+public class DeleteStatement {
+	private final String table;
+	private final Condition where;
+
+	public DeleteStatement(String table, Condition where) {
+		this.table = table;
+		this.where = where;
+	}
+
+	public String getTable() {
+		return this.table;
+	}
+
+	/**
+	 * Condicion del WHERE, null si no hay
+	 */
+	public Condition getWhere() {
+		return this.where;
+	}
+
+	@Override
+	public String toString() {
+		return "DELETE FROM " + this.table + (this.where != null ? " WHERE " + this.where : "");
+	}
+}
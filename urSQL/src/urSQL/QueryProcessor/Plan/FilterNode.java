@@ -0,0 +1,22 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * Deja pasar las filas que cumplen una condicion
+ */
+public class FilterNode extends LogicalNode {
+	private final Condition condition;
+
+	public FilterNode(Condition condition, LogicalNode child) {
+		super(child);
+		this.condition = condition;
+	}
+
+	public Condition getCondition() {
+		return this.condition;
+	}
+
+	@Override
+	public String describe() {
+		return "Filter " + this.condition;
+	}
+}
@@ -0,0 +1,25 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * FOR JSON o FOR XML
+ */
+public class FormatNode extends LogicalNode {
+	private final String format;
+
+	public FormatNode(String format, LogicalNode child) {
+		super(child);
+		this.format = format;
+	}
+
+	/**
+	 * JSON, XML o null
+	 */
+	public String getFormat() {
+		return this.format;
+	}
+
+	@Override
+	public String describe() {
+		return this.format != null ? "Return in " + this.format : "Return";
+	}
+}
@@ -0,0 +1,24 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+/**
+ * GROUP BY
+ */
+public class GroupNode extends LogicalNode {
+	private final LinkedList<String> columns;
+
+	public GroupNode(LinkedList<String> columns, LogicalNode child) {
+		super(child);
+		this.columns = columns;
+	}
+
+	public LinkedList<String> getColumns() {
+		return this.columns;
+	}
+
+	@Override
+	public String describe() {
+		return "Group by " + SelectStatement.join(this.columns);
+	}
+}
@@ -0,0 +1,30 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+/**
+ * Inserta una fila; del ScanNode solo se usa la metadata
+ */
+public class InsertNode extends LogicalNode {
+	private final LinkedList<String> columns;
+	private final LinkedList<String> values;
+
+	public InsertNode(LinkedList<String> columns, LinkedList<String> values, LogicalNode child) {
+		super(child);
+		this.columns = columns;
+		this.values = values;
+	}
+
+	public LinkedList<String> getColumns() {
+		return this.columns;
+	}
+
+	public LinkedList<String> getValues() {
+		return this.values;
+	}
+
+	@Override
+	public String describe() {
+		return "Insert (" + SelectStatement.join(this.columns) + ") values (" + SelectStatement.join(this.values) + ")";
+	}
+}
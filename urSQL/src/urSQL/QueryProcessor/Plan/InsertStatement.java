@@ -0,0 +1,36 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+/**
+ * INSERT INTO tabla (columnas) VALUES (valores)
+ */
+public class InsertStatement {
+	private final String table;
+	private final LinkedList<String> columns;
+	private final LinkedList<String> values;
+
+	public InsertStatement(String table, LinkedList<String> columns, LinkedList<String> values) {
+		this.table = table;
+		this.columns = columns;
+		this.values = values;
+	}
+
+	public String getTable() {
+		return this.table;
+	}
+
+	public LinkedList<String> getColumns() {
+		return this.columns;
+	}
+
+	public LinkedList<String> getValues() {
+		return this.values;
+	}
+
+	@Override
+	public String toString() {
+		return "INSERT INTO " + this.table + " (" + SelectStatement.join(this.columns) + ") VALUES ("
+				+ SelectStatement.join(this.values) + ")";
+	}
+}
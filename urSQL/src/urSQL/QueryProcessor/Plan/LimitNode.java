@@ -0,0 +1,28 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * LIMIT filas OFFSET saltadas
+ */
+public class LimitNode extends LogicalNode {
+	private final int limit;
+	private final int offset;
+
+	public LimitNode(int limit, int offset, LogicalNode child) {
+		super(child);
+		this.limit = limit;
+		this.offset = offset;
+	}
+
+	public int getLimit() {
+		return this.limit;
+	}
+
+	public int getOffset() {
+		return this.offset;
+	}
+
+	@Override
+	public String describe() {
+		return "Limit " + this.limit + " offset " + this.offset;
+	}
+}
@@ -0,0 +1,67 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * Operacion del plan logico. Cada nodo lee las filas de su hijo;
+ * el nodo de mas abajo siempre es un ScanNode.
+ */
+public abstract class LogicalNode {
+	private LogicalNode child;
+	private double estimated_rows = -1;
+
+	protected LogicalNode(LogicalNode child) {
+		this.child = child;
+	}
+
+	public LogicalNode getChild() {
+		return this.child;
+	}
+
+	public void setChild(LogicalNode child) {
+		this.child = child;
+	}
+
+	/**
+	 * Filas que se espera que devuelva el nodo, -1 si no se sabe
+	 */
+	public double getEstimatedRows() {
+		return this.estimated_rows;
+	}
+
+	public void setEstimatedRows(double estimated_rows) {
+		this.estimated_rows = estimated_rows;
+	}
+
+	/**
+	 * Descripcion de la operacion en una linea
+	 */
+	public abstract String describe();
+
+	/**
+	 * Estimacion del nodo para el plan, null si no hay
+	 */
+	public String estimate() {
+		if (this.estimated_rows < 0) {
+			return null;
+		}
+		return String.format("(rows=%.0f)", this.estimated_rows);
+	}
+
+	/**
+	 * El plan completo, un nodo por linea y cada hijo con mas sangria
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		String indent = "";
+		for (LogicalNode node = this; node != null; node = node.getChild()) {
+			String estimate = node.estimate();
+			sb.append(indent).append(node.describe());
+			if (estimate != null) {
+				sb.append(' ').append(estimate);
+			}
+			sb.append('\n');
+			indent += "  ";
+		}
+		return sb.toString();
+	}
+}
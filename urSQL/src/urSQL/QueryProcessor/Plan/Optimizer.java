@@ -0,0 +1,380 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentFrom;
+import urSQL.RuntimeDatabaseProcessor.Components.Parameter;
+import urSQL.StoredDataManager.ScanPredicate;
+import urSQL.StoredDataManager.SecondaryIndex;
+import urSQL.System.ColumnStatistics;
+import urSQL.System.IndexMetadata;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableStatistics;
+import urSQL.SystemCatalog.SystemCatalog;
+
+/**
+ * Optimizador por reglas del plan logico. Las reglas se aplican una
+ * vez y en orden: primero las que pueden vaciar el plan, despues
+ * las que bajan operaciones a la lectura de la tabla y al final la
+ * eleccion de la forma de leer, que depende de las columnas que se
+ * leen. Si las tablas tienen estadisticas de ANALYZE la lectura y
+ * los JOIN se eligen por costo; si no, por la forma de la consulta.
+ */
+public class Optimizer {
+
+	public static LogicalNode optimize(String database, LogicalNode plan) {
+		return optimize(database, plan, null);
+	}
+
+	/**
+	 * @param database base de datos de la sesion, de donde se leen la
+	 * metadata, los indices y las estadisticas de las tablas
+	 *
+	 * @param peek valores de los parametros [?] con que se estiman las
+	 * filas que cumplen las condiciones, null si no se conocen. El plan
+	 * se guarda con los parametros y sirve para cualquier otro valor.
+	 */
+	public static LogicalNode optimize(String database, LogicalNode plan, String[] peek) {
+		LinkedList<LogicalNode> nodes = new LinkedList<LogicalNode>();
+		for (LogicalNode node = plan; node != null; node = node.getChild()) {
+			nodes.add(node);
+		}
+		ScanNode scan = (ScanNode) nodes.getLast();
+
+		// Sin la metadata de la tabla solo se aplican las reglas que no la usan
+		TableMetadata metadata = null;
+		SystemCatalog sc = SystemCatalog.getInstance();
+		if (sc.tableExist(database, scan.getTable())) {
+			metadata = sc.getMetadata(database, scan.getTable());
+		}
+
+		foldConstants(nodes, scan, metadata);
+		pushDownPredicate(nodes, scan);
+		fuseTopN(nodes);
+		pushDownLimit(nodes, scan);
+		pruneColumns(nodes, scan);
+		TableStatistics statistics = metadata != null ? sc.getStatistics(database, scan.getTable()) : null;
+		chooseAccessPath(database, scan, metadata, statistics, peek);
+		chooseJoins(database, scan, statistics);
+		estimateRows(nodes, statistics);
+
+		for (int i = 0; i + 1 < nodes.size(); i++) {
+			nodes.get(i).setChild(nodes.get(i + 1));
+		}
+		return nodes.getFirst();
+	}
+
+	/**
+	 * Resuelve lo que se sabe antes de leer: la llave primaria nunca es
+	 * nula, LIMIT 0 no devuelve filas y un INSERT no lee la tabla.
+	 */
+	private static void foldConstants(LinkedList<LogicalNode> nodes, ScanNode scan, TableMetadata metadata) {
+		if (nodes.getFirst() instanceof InsertNode) {
+			scan.setEmpty();
+		}
+		Iterator<LogicalNode> it = nodes.iterator();
+		while (it.hasNext()) {
+			LogicalNode node = it.next();
+			if (node instanceof LimitNode && ((LimitNode) node).getLimit() == 0) {
+				scan.setEmpty();
+			}
+			if (node instanceof FilterNode && metadata != null && !scan.hasJoins()
+					&& metadata.getPrimaryKey() != null) {
+				Condition condition = ((FilterNode) node).getCondition();
+				if (!condition.getColumn().equals(metadata.getPrimaryKey().getName())) {
+					continue;
+				}
+				if (condition.getOperator().equals(ScanPredicate.IS_NULL)) {
+					scan.setEmpty();
+					it.remove();
+				} else if (condition.getOperator().equals(ScanPredicate.IS_NOT_NULL)) {
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Una condicion sobre una sola tabla se revisa al leerla, sobre los
+	 * registros en bytes
+	 */
+	private static void pushDownPredicate(LinkedList<LogicalNode> nodes, ScanNode scan) {
+		int i = nodes.size() - 2;
+		if (i < 0 || !(nodes.get(i) instanceof FilterNode) || scan.hasJoins()) {
+			return;
+		}
+		if (!scan.isEmpty()) {
+			scan.setFilter(((FilterNode) nodes.get(i)).getCondition());
+		}
+		nodes.remove(i);
+	}
+
+	/**
+	 * ORDER BY con LIMIT solo guarda las mejores filas
+	 */
+	private static void fuseTopN(LinkedList<LogicalNode> nodes) {
+		for (int i = 0; i + 1 < nodes.size(); i++) {
+			if (nodes.get(i) instanceof LimitNode && nodes.get(i + 1) instanceof SortNode) {
+				LimitNode limit = (LimitNode) nodes.get(i);
+				((SortNode) nodes.get(i + 1)).setLimit(limit.getLimit(), limit.getOffset());
+				nodes.remove(i);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Si nada entre el LIMIT y la lectura cambia las filas, la lectura
+	 * se detiene al reunir las filas pedidas
+	 */
+	private static void pushDownLimit(LinkedList<LogicalNode> nodes, ScanNode scan) {
+		int i = nodes.size() - 2;
+		if (i < 0 || !(nodes.get(i) instanceof LimitNode) || scan.hasJoins() || scan.isEmpty()) {
+			return;
+		}
+		LimitNode limit = (LimitNode) nodes.get(i);
+		scan.setLimit(limit.getOffset() + limit.getLimit());
+	}
+
+	/**
+	 * Solo se convierten a String las columnas que usa la consulta
+	 */
+	private static void pruneColumns(LinkedList<LogicalNode> nodes, ScanNode scan) {
+		if (scan.hasJoins()) {
+			return;
+		}
+		LinkedList<String> needed = null;
+		for (LogicalNode node : nodes) {
+			if (node instanceof ProjectNode) {
+				needed = new LinkedList<String>(((ProjectNode) node).getColumns());
+			}
+		}
+		// Sin proyeccion se devuelven, actualizan o borran filas completas
+		if (needed == null) {
+			return;
+		}
+		for (LogicalNode node : nodes) {
+			if (node instanceof GroupNode) {
+				for (String column : ((GroupNode) node).getColumns()) {
+					addColumn(needed, column);
+				}
+			} else if (node instanceof SortNode) {
+				addColumn(needed, ((SortNode) node).getColumn());
+			} else if (node instanceof FilterNode) {
+				addColumn(needed, ((FilterNode) node).getCondition().getColumn());
+			}
+		}
+		scan.setColumns(needed);
+	}
+
+	private static void addColumn(LinkedList<String> columns, String column) {
+		if (!columns.contains(column)) {
+			columns.add(column);
+		}
+	}
+
+	/**
+	 * Elige como se lee la tabla: recorriendola, buscando la llave
+	 * primaria o por un indice secundario cuya primera columna
+	 * resuelva la condicion. Con estadisticas se elige la forma mas
+	 * barata segun las filas que se espera que cumplan la condicion.
+	 */
+	private static void chooseAccessPath(String database, ScanNode scan, TableMetadata metadata, TableStatistics statistics,
+			String[] peek) {
+		Condition filter = scan.getFilter();
+		if (scan.isEmpty()) {
+			scan.setEstimate(0, 0);
+			return;
+		}
+		if (metadata == null || scan.hasJoins()) {
+			return;
+		}
+		double rows = statistics != null ? statistics.getRowCount() : -1;
+		if (filter == null) {
+			if (statistics != null) {
+				scan.setEstimate(rows, CostModel.scan(rows));
+			}
+			return;
+		}
+		String pk = metadata.getPrimaryKey().getName();
+		boolean seekable = filter.getOperator().equals(ScanPredicate.EQUAL) && filter.getColumn().equals(pk)
+				&& (filter.isParameter() || isInteger(filter.getValue()));
+
+		if (statistics == null) {
+			// Sin estadisticas la busqueda por llave nunca es peor que recorrer
+			if (seekable) {
+				scan.setSeek(true);
+			} else {
+				scan.setIndex(findIndex(database, scan, metadata));
+			}
+			return;
+		}
+
+		Condition estimated = filter;
+		if (filter.isParameter() && peek != null) {
+			estimated = new Condition(filter.getColumn(), filter.getOperator(),
+					Parameter.resolve(filter.getValue(), peek));
+		}
+		// Como en los demas motores, la estimacion nunca baja de una fila
+		double matches = Math.max(rows * CostModel.selectivity(estimated, statistics), Math.min(rows, 1));
+		double best = CostModel.scan(rows);
+		String index_name = null;
+		boolean seek = false;
+		if (seekable && CostModel.seek() < best) {
+			best = CostModel.seek();
+			seek = true;
+			matches = Math.min(matches, 1);
+		}
+		String type = columnType(metadata, filter.getColumn());
+		if (type != null && SecondaryIndex.supports(filter.getOperator(), type)) {
+			for (IndexMetadata index : SystemCatalog.getInstance().getIndexes(database, scan.getTable())) {
+				if (!index.getLeadingColumn().equals(filter.getColumn())) {
+					continue;
+				}
+				double cost;
+				if (index.isHash()) {
+					if (!filter.getOperator().equals(ScanPredicate.EQUAL)) {
+						continue;
+					}
+					cost = CostModel.hashIndex(matches);
+				} else {
+					boolean covering = scan.getColumns() != null && index.covers(scan.getColumns(), pk);
+					cost = CostModel.indexScan(matches, covering);
+				}
+				if (cost < best) {
+					best = cost;
+					index_name = index.getName();
+					seek = false;
+				}
+			}
+		}
+		scan.setSeek(seek);
+		scan.setIndex(index_name);
+		scan.setEstimate(matches, best);
+	}
+
+	/**
+	 * Busca, sin estadisticas, un indice secundario cuya primera
+	 * columna resuelva la condicion. Se prefiere uno que guarde todas
+	 * las columnas que se leen, porque entonces no se lee la tabla, y
+	 * si no uno hash para el =.
+	 */
+	private static String findIndex(String database, ScanNode scan, TableMetadata metadata) {
+		Condition filter = scan.getFilter();
+		String type = columnType(metadata, filter.getColumn());
+		if (type == null || !SecondaryIndex.supports(filter.getOperator(), type)) {
+			return null;
+		}
+
+		String found = null;
+		String hash = null;
+		for (IndexMetadata index : SystemCatalog.getInstance().getIndexes(database, scan.getTable())) {
+			if (!index.getLeadingColumn().equals(filter.getColumn())) {
+				continue;
+			}
+			if (index.isHash()) {
+				if (filter.getOperator().equals(ScanPredicate.EQUAL) && hash == null) {
+					hash = index.getName();
+				}
+				continue;
+			}
+			if (scan.getColumns() != null
+					&& index.covers(scan.getColumns(), metadata.getPrimaryKey().getName())) {
+				return index.getName();
+			}
+			if (found == null) {
+				found = index.getName();
+			}
+		}
+		return hash != null ? hash : found;
+	}
+
+	/**
+	 * Elige la forma de cada JOIN. Los JOIN de urSQL son por igualdad
+	 * de las llaves primarias, asi que cada paso devuelve a lo mas las
+	 * filas de la entrada menor. Con pocas filas los ciclos anidados
+	 * son mas baratos que crear la tabla hash; si no, la tabla hash se
+	 * crea con la entrada menor. Sin estadisticas siempre es hash.
+	 */
+	private static void chooseJoins(String database, ScanNode scan, TableStatistics statistics) {
+		scan.getJoinMethods().clear();
+		if (!scan.hasJoins()) {
+			return;
+		}
+		SystemCatalog sc = SystemCatalog.getInstance();
+		double left = statistics != null ? statistics.getRowCount() : -1;
+		double cost = CostModel.scan(left);
+		for (String join : scan.getJoins()) {
+			TableStatistics join_statistics = sc.tableExist(database, join) ? sc.getStatistics(database, join) : null;
+			double right = join_statistics != null ? join_statistics.getRowCount() : -1;
+			if (left < 0 || right < 0) {
+				scan.getJoinMethods().add(ComponentFrom.JOIN_HASH);
+				left = -1;
+				continue;
+			}
+			cost += CostModel.scan(right) + Math.min(CostModel.nestedLoopJoin(left, right),
+					CostModel.hashJoin(left, right));
+			if (CostModel.nestedLoopJoin(left, right) <= CostModel.hashJoin(left, right)) {
+				scan.getJoinMethods().add(ComponentFrom.JOIN_NESTED_LOOP);
+			} else if (left < right) {
+				scan.getJoinMethods().add(ComponentFrom.JOIN_HASH_BUILD_LEFT);
+			} else {
+				scan.getJoinMethods().add(ComponentFrom.JOIN_HASH);
+			}
+			left = Math.min(left, right);
+		}
+		if (left >= 0) {
+			scan.setEstimate(left, cost);
+		}
+	}
+
+	/**
+	 * Lleva la estimacion de filas de la lectura hacia arriba del plan,
+	 * para el EXPLAIN. Un nodo sin estimacion deja sin estimacion a los
+	 * de arriba.
+	 */
+	private static void estimateRows(LinkedList<LogicalNode> nodes, TableStatistics statistics) {
+		double rows = nodes.getLast().getEstimatedRows();
+		for (int i = nodes.size() - 2; i >= 0; i--) {
+			LogicalNode node = nodes.get(i);
+			if (node instanceof InsertNode) {
+				rows = 1;
+			} else if (rows < 0) {
+				continue;
+			} else if (node instanceof FilterNode && statistics != null) {
+				rows *= CostModel.selectivity(((FilterNode) node).getCondition(), statistics);
+			} else if (node instanceof GroupNode && statistics != null
+					&& !((GroupNode) node).getColumns().isEmpty()) {
+				ColumnStatistics column = statistics.getColumn(((GroupNode) node).getColumns().getFirst());
+				if (column != null) {
+					rows = Math.min(rows, column.getDistinctValues());
+				}
+			} else if (node instanceof SortNode && ((SortNode) node).getLimit() >= 0) {
+				SortNode sort = (SortNode) node;
+				rows = Math.min(Math.max(rows - sort.getOffset(), 0), sort.getLimit());
+			} else if (node instanceof LimitNode) {
+				LimitNode limit = (LimitNode) node;
+				rows = Math.min(Math.max(rows - limit.getOffset(), 0), limit.getLimit());
+			}
+			node.setEstimatedRows(rows);
+		}
+	}
+
+	private static String columnType(TableMetadata metadata, String column) {
+		int column_index = metadata.indexByName(column);
+		if (column_index >= metadata.getTableColumns().size()) {
+			return null;
+		}
+		return metadata.getTableColumns().get(column_index).getType();
+	}
+
+	private static boolean isInteger(String value) {
+		try {
+			Integer.parseInt(value);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+import urSQL.RuntimeDatabaseProcessor.Components.Component;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentFor;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentFrom;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentGroup;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentInsert;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentLimit;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentOrder;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentProjection;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentSet;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentTopN;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentWhere;
+import urSQL.RuntimeDatabaseProcessor.Rutine.Routine;
+import urSQL.RuntimeDatabaseProcessor.Rutine.RoutineDML;
+
+/**
+ * Convierte el plan logico en la rutina que se ejecuta, un componente
+ * por nodo empezando por la lectura de la tabla.
+ */
+public class PhysicalPlanner {
+	/**
+	 * Formato de una consulta sin FOR JSON ni FOR XML, ComponentFor no
+	 * la convierte
+	 */
+	private static final String NO_FORMAT = "-1";
+
+	public static Routine toRoutine(LogicalNode plan) {
+		return toRoutine(plan, null);
+	}
+
+	/**
+	 * @param operators se llena con el nodo de cada componente, en el
+	 * orden de la rutina; null si no se necesitan
+	 */
+	public static Routine toRoutine(LogicalNode plan, LinkedList<LogicalNode> operators) {
+		LinkedList<Component> components = new LinkedList<Component>();
+		String command = RoutineDML.CONSTANT_SELECT;
+		for (LogicalNode node = plan; node != null; node = node.getChild()) {
+			Component component = null;
+			if (node instanceof ScanNode) {
+				component = scan((ScanNode) node);
+			} else if (node instanceof FilterNode) {
+				component = where(((FilterNode) node).getCondition());
+			} else if (node instanceof GroupNode) {
+				component = new ComponentGroup(((GroupNode) node).getColumns());
+			} else if (node instanceof SortNode) {
+				SortNode sort = (SortNode) node;
+				if (sort.getLimit() >= 0) {
+					component = new ComponentTopN(sort.getColumn(), sort.isDescending(), sort.getLimit(),
+							sort.getOffset());
+				} else {
+					component = new ComponentOrder(sort.getColumn(), sort.isDescending());
+				}
+			} else if (node instanceof LimitNode) {
+				LimitNode limit = (LimitNode) node;
+				component = new ComponentLimit(limit.getLimit(), limit.getOffset());
+			} else if (node instanceof ProjectNode) {
+				component = new ComponentProjection(((ProjectNode) node).getColumns());
+			} else if (node instanceof FormatNode) {
+				String format = ((FormatNode) node).getFormat();
+				component = new ComponentFor(format != null ? format : NO_FORMAT);
+			} else if (node instanceof InsertNode) {
+				InsertNode insert = (InsertNode) node;
+				component = new ComponentInsert(insert.getColumns(), insert.getValues());
+				command = RoutineDML.CONSTANT_INSERT;
+			} else if (node instanceof UpdateNode) {
+				UpdateNode update = (UpdateNode) node;
+				component = new ComponentSet(update.getColumn(), update.getValue());
+				command = RoutineDML.CONSTANT_SET;
+			} else if (node instanceof DeleteNode) {
+				// El borrado lo hace la rutina con las filas que recibe
+				command = RoutineDML.CONSTANT_DELETE;
+			}
+			if (component != null) {
+				components.addFirst(component);
+				if (operators != null) {
+					operators.addFirst(node);
+				}
+			}
+		}
+		return new RoutineDML(command, components);
+	}
+
+	private static ComponentFrom scan(ScanNode scan) {
+		ComponentFrom from = new ComponentFrom(scan.getTable(), scan.getJoins());
+		if (scan.getFilter() != null) {
+			from.setScanFilter(where(scan.getFilter()));
+		}
+		from.setScanLimit(scan.getLimit());
+		from.setScanColumns(scan.getColumns());
+		from.setScanIndex(scan.getIndex());
+		from.setScanSeek(scan.isSeek());
+		from.setJoinMethods(new LinkedList<String>(scan.getJoinMethods()));
+		return from;
+	}
+
+	private static ComponentWhere where(Condition condition) {
+		return new ComponentWhere(condition.getColumn(), condition.getOperator(), condition.getValue());
+	}
+}
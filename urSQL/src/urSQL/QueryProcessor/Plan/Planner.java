@@ -0,0 +1,60 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+/**
+ * Convierte las sentencias en un plan logico sin optimizar, con las
+ * operaciones en el orden en que las escribe el SQL.
+ */
+public class Planner {
+
+	public static LogicalNode plan(SelectStatement statement) {
+		LinkedList<String> joins = new LinkedList<String>(statement.getTables());
+		String table = joins.removeFirst();
+		LogicalNode node = new ScanNode(table, joins);
+		if (statement.getWhere() != null) {
+			node = new FilterNode(statement.getWhere(), node);
+		}
+		if (!statement.getGroupBy().isEmpty()) {
+			node = new GroupNode(statement.getGroupBy(), node);
+		}
+		if (statement.getOrderBy() != null) {
+			node = new SortNode(statement.getOrderBy(), statement.isDescending(), node);
+		}
+		if (statement.getLimit() >= 0) {
+			node = new LimitNode(statement.getLimit(), statement.getOffset(), node);
+		}
+		// Las funciones de agregado todavia no se ejecutan, se muestran todas las columnas
+		LinkedList<String> display = new LinkedList<String>();
+		for (SelectItem item : statement.getItems()) {
+			if (item.isAggregate()) {
+				display = null;
+				break;
+			}
+			display.add(item.getColumn());
+		}
+		if (display != null && !display.isEmpty()) {
+			node = new ProjectNode(display, node);
+		}
+		return new FormatNode(statement.getFormat(), node);
+	}
+
+	public static LogicalNode plan(InsertStatement statement) {
+		return new InsertNode(statement.getColumns(), statement.getValues(),
+				new ScanNode(statement.getTable(), new LinkedList<String>()));
+	}
+
+	public static LogicalNode plan(UpdateStatement statement) {
+		return new UpdateNode(statement.getColumn(), statement.getValue(),
+				filter(new ScanNode(statement.getTable(), new LinkedList<String>()), statement.getWhere()));
+	}
+
+	public static LogicalNode plan(DeleteStatement statement) {
+		return new DeleteNode(filter(new ScanNode(statement.getTable(), new LinkedList<String>()),
+				statement.getWhere()));
+	}
+
+	private static LogicalNode filter(LogicalNode node, Condition where) {
+		return where != null ? new FilterNode(where, node) : node;
+	}
+}
@@ -0,0 +1,24 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+/**
+ * Deja solo las columnas que se muestran
+ */
+public class ProjectNode extends LogicalNode {
+	private final LinkedList<String> columns;
+
+	public ProjectNode(LinkedList<String> columns, LogicalNode child) {
+		super(child);
+		this.columns = columns;
+	}
+
+	public LinkedList<String> getColumns() {
+		return this.columns;
+	}
+
+	@Override
+	public String describe() {
+		return "Project " + SelectStatement.join(this.columns);
+	}
+}
@@ -0,0 +1,164 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+/**
+ * Lectura de una tabla y de las tablas de sus JOIN. El optimizador
+ * le pasa la condicion, el limite de filas, las columnas que se
+ * convierten, el indice o la llave primaria con que se lee y la
+ * forma de cada JOIN.
+ */
+public class ScanNode extends LogicalNode {
+	private final String table;
+	private final LinkedList<String> joins;
+	private Condition filter = null;
+	private LinkedList<String> columns = null;
+	private int limit = -1;
+	private String index = null;
+	private boolean seek = false;
+	private final LinkedList<String> join_methods = new LinkedList<String>();
+	private double estimated_cost = -1;
+
+	public ScanNode(String table, LinkedList<String> joins) {
+		super(null);
+		this.table = table;
+		this.joins = joins;
+	}
+
+	public String getTable() {
+		return this.table;
+	}
+
+	public LinkedList<String> getJoins() {
+		return this.joins;
+	}
+
+	public boolean hasJoins() {
+		return !this.joins.isEmpty();
+	}
+
+	/**
+	 * Condicion revisada al leer, null si no hay
+	 */
+	public Condition getFilter() {
+		return this.filter;
+	}
+
+	public void setFilter(Condition filter) {
+		this.filter = filter;
+	}
+
+	/**
+	 * Columnas que se convierten, null si son todas
+	 */
+	public LinkedList<String> getColumns() {
+		return this.columns;
+	}
+
+	public void setColumns(LinkedList<String> columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Filas despues de las que se deja de leer, -1 si no hay limite
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * La tabla no se lee, solo su metadata
+	 */
+	public boolean isEmpty() {
+		return this.limit == 0;
+	}
+
+	public void setEmpty() {
+		this.limit = 0;
+		this.filter = null;
+		this.index = null;
+		this.seek = false;
+	}
+
+	/**
+	 * Indice secundario con que se lee, null para recorrer la tabla
+	 */
+	public String getIndex() {
+		return this.index;
+	}
+
+	public void setIndex(String index) {
+		this.index = index;
+	}
+
+	/**
+	 * La condicion es un = sobre la llave primaria y la fila se busca
+	 * directamente en el arbol
+	 */
+	public boolean isSeek() {
+		return this.seek;
+	}
+
+	public void setSeek(boolean seek) {
+		this.seek = seek;
+	}
+
+	/**
+	 * Forma de cada JOIN, en el orden de las tablas; vacio si no se eligio
+	 */
+	public LinkedList<String> getJoinMethods() {
+		return this.join_methods;
+	}
+
+	/**
+	 * Costo de la lectura segun el modelo de costos, -1 si no hay
+	 */
+	public double getEstimatedCost() {
+		return this.estimated_cost;
+	}
+
+	public void setEstimate(double rows, double cost) {
+		this.setEstimatedRows(rows);
+		this.estimated_cost = cost;
+	}
+
+	@Override
+	public String describe() {
+		StringBuilder sb = new StringBuilder();
+		if (this.isEmpty()) {
+			sb.append("Empty ").append(this.table);
+		} else if (this.seek) {
+			sb.append("Primary key seek ").append(this.table);
+		} else if (this.index != null) {
+			sb.append("Index scan ").append(this.table).append(" using ").append(this.index);
+		} else {
+			sb.append("Scan ").append(this.table);
+		}
+		for (int i = 0; i < this.joins.size(); i++) {
+			sb.append(i < this.join_methods.size() ? " " + this.join_methods.get(i).toLowerCase() : "")
+					.append(" join ").append(this.joins.get(i));
+		}
+		if (this.filter != null) {
+			sb.append(" where ").append(this.filter);
+		}
+		if (this.columns != null) {
+			sb.append(" columns ").append(SelectStatement.join(this.columns));
+		}
+		if (this.limit > 0) {
+			sb.append(" stop after ").append(this.limit);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public String estimate() {
+		if (this.getEstimatedRows() < 0 || this.estimated_cost < 0) {
+			return super.estimate();
+		}
+		return String.format("(rows=%.0f cost=%.1f)", this.getEstimatedRows(), this.estimated_cost);
+	}
+}
@@ -0,0 +1,44 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * Columna de un SELECT, sola o dentro de una funcion de agregado
+ */
+public class SelectItem {
+	public static final String COLUMN = "COLUMN";
+	public static final String COUNT = "COUNT";
+	public static final String AVERAGE = "AVERAGE";
+	public static final String MIN = "MIN";
+	public static final String MAX = "MAX";
+
+	private final String function;
+	private final String column;
+
+	public SelectItem(String function, String column) {
+		this.function = function;
+		this.column = column;
+	}
+
+	public SelectItem(String column) {
+		this(COLUMN, column);
+	}
+
+	public String getFunction() {
+		return this.function;
+	}
+
+	public String getColumn() {
+		return this.column;
+	}
+
+	public boolean isAggregate() {
+		return !this.function.equals(COLUMN);
+	}
+
+	@Override
+	public String toString() {
+		if (this.isAggregate()) {
+			return this.function + "(" + this.column + ")";
+		}
+		return this.column;
+	}
+}
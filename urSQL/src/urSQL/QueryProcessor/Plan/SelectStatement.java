@@ -0,0 +1,121 @@
+package urSQL.QueryProcessor.Plan;
+
+import java.util.LinkedList;
+
+/**
+ * SELECT tal como lo reconoce el parser, antes de planearlo
+ */
+public class SelectStatement {
+	private final LinkedList<SelectItem> items = new LinkedList<SelectItem>();
+	private final LinkedList<String> tables = new LinkedList<String>();
+	private Condition where = null;
+	private final LinkedList<String> group_by = new LinkedList<String>();
+	private String order_by = null;
+	private boolean descending = false;
+	private int limit = -1;
+	private int offset = 0;
+	private String format = null;
+
+	/**
+	 * Columnas del SELECT, vacio para SELECT *
+	 */
+	public LinkedList<SelectItem> getItems() {
+		return this.items;
+	}
+
+	/**
+	 * Tabla del FROM seguida de las del JOIN
+	 */
+	public LinkedList<String> getTables() {
+		return this.tables;
+	}
+
+	public Condition getWhere() {
+		return this.where;
+	}
+
+	public void setWhere(Condition where) {
+		this.where = where;
+	}
+
+	public LinkedList<String> getGroupBy() {
+		return this.group_by;
+	}
+
+	/**
+	 * Columna del ORDER BY, null si no hay
+	 */
+	public String getOrderBy() {
+		return this.order_by;
+	}
+
+	public boolean isDescending() {
+		return this.descending;
+	}
+
+	public void setOrderBy(String column, boolean descending) {
+		this.order_by = column;
+		this.descending = descending;
+	}
+
+	/**
+	 * Filas del LIMIT, -1 si no hay
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	public int getOffset() {
+		return this.offset;
+	}
+
+	public void setLimit(int limit, int offset) {
+		this.limit = limit;
+		this.offset = offset;
+	}
+
+	/**
+	 * JSON, XML o null
+	 */
+	public String getFormat() {
+		return this.format;
+	}
+
+	public void setFormat(String format) {
+		this.format = format;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("SELECT ");
+		sb.append(this.items.isEmpty() ? "*" : join(this.items));
+		sb.append(" FROM ").append(join(this.tables));
+		if (this.where != null) {
+			sb.append(" WHERE ").append(this.where);
+		}
+		if (!this.group_by.isEmpty()) {
+			sb.append(" GROUP BY ").append(join(this.group_by));
+		}
+		if (this.order_by != null) {
+			sb.append(" ORDER BY ").append(this.order_by).append(this.descending ? " DESC" : " ASC");
+		}
+		if (this.limit >= 0) {
+			sb.append(" LIMIT ").append(this.limit).append(" OFFSET ").append(this.offset);
+		}
+		if (this.format != null) {
+			sb.append(" FOR ").append(this.format);
+		}
+		return sb.toString();
+	}
+
+	static String join(LinkedList<?> list) {
+		StringBuilder sb = new StringBuilder();
+		for (Object o : list) {
+			if (sb.length() > 0) {
+				sb.append(", ");
+			}
+			sb.append(o);
+		}
+		return sb.toString();
+	}
+}
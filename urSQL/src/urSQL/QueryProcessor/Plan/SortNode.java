@@ -0,0 +1,51 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * ORDER BY. Con limite solo se guardan las mejores filas (top N)
+ * en lugar de ordenar todas.
+ */
+public class SortNode extends LogicalNode {
+	private final String column;
+	private final boolean descending;
+	private int limit = -1;
+	private int offset = 0;
+
+	public SortNode(String column, boolean descending, LogicalNode child) {
+		super(child);
+		this.column = column;
+		this.descending = descending;
+	}
+
+	public String getColumn() {
+		return this.column;
+	}
+
+	public boolean isDescending() {
+		return this.descending;
+	}
+
+	/**
+	 * Filas que se devuelven, -1 si son todas
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	public int getOffset() {
+		return this.offset;
+	}
+
+	public void setLimit(int limit, int offset) {
+		this.limit = limit;
+		this.offset = offset;
+	}
+
+	@Override
+	public String describe() {
+		String order = this.column + (this.descending ? " DESC" : " ASC");
+		if (this.limit >= 0) {
+			return "Top " + this.limit + " offset " + this.offset + " by " + order;
+		}
+		return "Sort by " + order;
+	}
+}
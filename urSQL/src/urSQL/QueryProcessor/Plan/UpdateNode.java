@@ -0,0 +1,28 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * Cambia una columna de las filas que lee
+ */
+public class UpdateNode extends LogicalNode {
+	private final String column;
+	private final String value;
+
+	public UpdateNode(String column, String value, LogicalNode child) {
+		super(child);
+		this.column = column;
+		this.value = value;
+	}
+
+	public String getColumn() {
+		return this.column;
+	}
+
+	public String getValue() {
+		return this.value;
+	}
+
+	@Override
+	public String describe() {
+		return "Update set " + this.column + " = " + this.value;
+	}
+}
@@ -0,0 +1,43 @@
+package urSQL.QueryProcessor.Plan;
+
+/**
+ * UPDATE tabla SET columna = valor [WHERE condicion]
+ */
+public class UpdateStatement {
+	private final String table;
+	private final String column;
+	private final String value;
+	private final Condition where;
+
+	public UpdateStatement(String table, String column, String value, Condition where) {
+		this.table = table;
+		this.column = column;
+		this.value = value;
+		this.where = where;
+	}
+
+	public String getTable() {
+		return this.table;
+	}
+
+	public String getColumn() {
+		return this.column;
+	}
+
+	public String getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Condicion del WHERE, null si no hay
+	 */
+	public Condition getWhere() {
+		return this.where;
+	}
+
+	@Override
+	public String toString() {
+		return "UPDATE " + this.table + " SET " + this.column + " = " + this.value
+				+ (this.where != null ? " WHERE " + this.where : "");
+	}
+}
@@ -0,0 +1,60 @@
+package urSQL.QueryProcessor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Planes de las sentencias preparadas, por base de datos y texto de
+ * la sentencia. Guarda los usados mas recientemente.
+ */
+public class PlanCache {
+	private static final int CAPACITY = 256;
+
+	private static final LinkedHashMap<String, PreparedPlan> PLANS =
+			new LinkedHashMap<String, PreparedPlan>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, PreparedPlan> eldest) {
+			return size() > CAPACITY;
+		}
+	};
+
+	private PlanCache() {
+	}
+
+	private static String key(String database, String sql) {
+		return database + "\u0000" + sql;
+	}
+
+	/**
+	 * Plan guardado para la sentencia, null si no hay o ya no sirve
+	 */
+	public static synchronized PreparedPlan get(String database, String sql) {
+		String key = key(database, sql);
+		PreparedPlan plan = PLANS.get(key);
+		if (plan != null && !plan.isValid()) {
+			PLANS.remove(key);
+			return null;
+		}
+		return plan;
+	}
+
+	public static synchronized void put(String database, String sql, PreparedPlan plan) {
+		PLANS.put(key(database, sql), plan);
+	}
+
+	/**
+	 * Olvida los planes de una base de datos que se borro
+	 */
+	public static synchronized void clear(String database) {
+		String prefix = key(database, "");
+		Iterator<String> keys = PLANS.keySet().iterator();
+		while (keys.hasNext()) {
+			if (keys.next().startsWith(prefix)) {
+				keys.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package urSQL.QueryProcessor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import urSQL.RuntimeDatabaseProcessor.Components.Component;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentFrom;
+import urSQL.RuntimeDatabaseProcessor.Rutine.Routine;
+import urSQL.SystemCatalog.SystemCatalog;
+
+/**
+ * Plan de una sentencia ya analizada. La rutina guarda marcas en
+ * lugar de los parametros [?] y se copia con los valores en cada
+ * ejecucion, sin volver a pasar por el lexer ni el parser.
+ */
+public class PreparedPlan {
+	private final String database;
+	private final Routine routine;
+	private final int parameter_count;
+	private final HashMap<String, Integer> schema_versions;
+
+	/**
+	 * @param database base de datos en que se analizo la sentencia
+	 */
+	public PreparedPlan(String database, Routine routine, int parameter_count) {
+		this.database = database;
+		this.routine = routine;
+		this.parameter_count = parameter_count;
+		this.schema_versions = new HashMap<String, Integer>();
+		// Version del esquema de cada tabla que lee el plan
+		SystemCatalog sc = SystemCatalog.getInstance();
+		Iterator<Component> it = routine.getComponents().iterator();
+		while (it.hasNext()) {
+			Component c = it.next();
+			if (c instanceof ComponentFrom) {
+				for (String table : ((ComponentFrom) c).getTableNames()) {
+					this.schema_versions.put(table, sc.getSchemaVersion(database, table));
+				}
+			}
+		}
+	}
+
+	public int getParameterCount() {
+		return this.parameter_count;
+	}
+
+	/**
+	 * El plan deja de servir si alguna de sus tablas cambio
+	 */
+	public boolean isValid() {
+		SystemCatalog sc = SystemCatalog.getInstance();
+		for (Map.Entry<String, Integer> entry : this.schema_versions.entrySet()) {
+			if (sc.getSchemaVersion(this.database, entry.getKey()) != entry.getValue()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Rutina lista para ejecutar con los valores de los parametros
+	 */
+	public Routine bind(String[] parameters) {
+		if (parameters.length != this.parameter_count) {
+			throw new IllegalArgumentException("Expected " + this.parameter_count + " parameters, got "
+					+ parameters.length);
+		}
+		if (this.parameter_count == 0) {
+			return this.routine;
+		}
+		return this.routine.bind(parameters);
+	}
+}
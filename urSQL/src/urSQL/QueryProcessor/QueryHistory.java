@@ -0,0 +1,137 @@
+package urSQL.QueryProcessor;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import urSQL.StoredDataManager.StoreDataManager;
+
+/**
+ * Historial de las sentencias ejecutadas. El archivo esta en la
+ * carpeta de datos, se abre una sola vez para agregar al final y cada
+ * linea se vacia al sistema operativo al escribirla, de modo que lo
+ * escrito no se pierde si el proceso termina.
+ *
+ * Cada linea tiene, separados por tabuladores: inicio de la sentencia
+ * (ISO-8601 en UTC), sesion, duracion en microsegundos, filas del
+ * resultado, estado y la sentencia, con los tabuladores, cambios de
+ * linea y \ escritos como \t, \n y \\.
+ */
+public class QueryHistory {
+	public static final String HISTORY_FILE = "historico_consultas.txt";
+
+	public static final String EXECUTED = "Ejecutada";
+	public static final String NOT_EXECUTED = "No ejecutada";
+
+	private static Writer writer;
+
+	private QueryHistory() {
+	}
+
+	/**
+	 * Agrega una sentencia al historial. Un error al escribir se
+	 * informa sin detener la sentencia
+	 */
+	public static synchronized void record(Entry entry) {
+		try {
+			if (writer == null) {
+				File file = new File(StoreDataManager.homeDirectory(), HISTORY_FILE);
+				writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true),
+						StandardCharsets.UTF_8));
+			}
+			writer.write(entry.toString());
+			writer.write('\n');
+			writer.flush();
+		} catch (IOException e) {
+			System.err.println("No se pudo escribir el historial: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Una linea del historial
+	 */
+	public static class Entry {
+		private final Instant start;
+		private final int session;
+		private final long micros;
+		private final int rows;
+		private final boolean executed;
+		private final String sql;
+
+		public Entry(Instant start, int session, long micros, int rows, boolean executed, String sql) {
+			this.start = start;
+			this.session = session;
+			this.micros = micros;
+			this.rows = rows;
+			this.executed = executed;
+			this.sql = sql;
+		}
+
+		/**
+		 * Lee una linea escrita por record
+		 *
+		 * @throws IllegalArgumentException si la linea no tiene el formato
+		 */
+		public static Entry parse(String line) {
+			String[] fields = line.split("\t", 6);
+			if (fields.length != 6) {
+				throw new IllegalArgumentException("Linea del historial incompleta: " + line);
+			}
+			return new Entry(Instant.parse(fields[0]), Integer.parseInt(fields[1]), Long.parseLong(fields[2]),
+					Integer.parseInt(fields[3]), fields[4].equals(EXECUTED), unescape(fields[5]));
+		}
+
+		public Instant getStart() {
+			return this.start;
+		}
+
+		public int getSession() {
+			return this.session;
+		}
+
+		public long getMicros() {
+			return this.micros;
+		}
+
+		public int getRows() {
+			return this.rows;
+		}
+
+		public boolean isExecuted() {
+			return this.executed;
+		}
+
+		public String getSql() {
+			return this.sql;
+		}
+
+		@Override
+		public String toString() {
+			return this.start + "\t" + this.session + "\t" + this.micros + "\t" + this.rows + "\t"
+					+ (this.executed ? EXECUTED : NOT_EXECUTED) + "\t" + escape(this.sql);
+		}
+
+		private static String escape(String text) {
+			return text.replace("\\", "\\\\").replace("\t", "\\t").replace("\r", "").replace("\n", "\\n");
+		}
+
+		private static String unescape(String text) {
+			StringBuilder result = new StringBuilder(text.length());
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c == '\\' && i + 1 < text.length()) {
+					char next = text.charAt(++i);
+					result.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+				} else {
+					result.append(c);
+				}
+			}
+			return result.toString();
+		}
+	}
+}
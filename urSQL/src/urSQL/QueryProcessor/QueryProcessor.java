@@ -4,38 +4,47 @@ import java.util.*;
 
 import org.antlr.runtime.*;
 
+import urSQL.Metrics.Metrics;
+import urSQL.Metrics.ParseEvent;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.RuntimeDatabaseProcessor.LockException;
 import urSQL.RuntimeDatabaseProcessor.RuntimeDatabaseProcessor;
+import urSQL.RuntimeDatabaseProcessor.Components.Parameter;
 import urSQL.RuntimeDatabaseProcessor.Rutine.Routine;
 
 import java.io.*;
 import java.nio.charset.*;
+import java.time.Instant;
 
 public class QueryProcessor 
 {
 	private String query;
-	private PrintWriter writer;
 	private ResultSet rs;
+	private final Session session;
+	private boolean executed;
+	private boolean echo = true;
 	
 	public QueryProcessor() 
 	{
-		this.query = "";
-		try {
-			this.writer = new PrintWriter("historico_consultas.txt", "UTF-8");
-		} catch (FileNotFoundException | UnsupportedEncodingException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+		this("");
 	}
 	
 	public QueryProcessor(String sql) {
+		this(sql, new Session());
+	}
+
+	/**
+	 * @param session sesion del cliente, la comparten los procesadores
+	 * de una misma conexion
+	 */
+	public QueryProcessor(String sql, Session session) {
 		this.query = sql;
-		try {
-			this.writer = new PrintWriter("historico_consultas.txt", "UTF-8");
-		} catch (FileNotFoundException | UnsupportedEncodingException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+		this.session = session;
+	}
+
+	public Session getSession() {
+		return this.session;
 	}
 	
 	public void setQuery(String sql) {
@@ -45,7 +54,22 @@ public class QueryProcessor
 	public ResultSet getRS() {
 		return this.rs;
 	}
+
+	/**
+	 * @return false si la ultima sentencia no se pudo ejecutar
+	 */
+	public boolean getExecuted() {
+		return this.executed;
+	}
 	
+	/**
+	 * Indica si los resultados se imprimen en la consola; el servidor
+	 * los envia al cliente
+	 */
+	public void setEcho(boolean echo) {
+		this.echo = echo;
+	}
+
 	public void start_cli() throws IOException {
 		System.out.println("========= urSQL CLI =========\n");
 		boolean flag = true;
@@ -55,33 +79,265 @@ public class QueryProcessor
 			this.query = scanner.nextLine();
 			if (this.query.equals("exit")) {
 				flag = false;
-				this.writer.close();
 			} else {
 				this.execute();				
 			}
 		}
 	}
 	
-	public void execute() throws IOException {
-		InputStream stream = new ByteArrayInputStream(this.query.getBytes(StandardCharsets.UTF_8));
+	private static CommonTokenStream lex(String sql) throws IOException {
+		InputStream stream = new ByteArrayInputStream(sql.getBytes(StandardCharsets.UTF_8));
 		ANTLRInputStream input = new ANTLRInputStream(stream);
 		urSQLLexer lexer = new urSQLLexer(input);
-		CommonTokenStream tokens = new CommonTokenStream((TokenSource) lexer);
-		urSQLParser parser = new urSQLParser(tokens);
-		parser.programa();
-		if (parser.getStatus())
+		return new CommonTokenStream((TokenSource) lexer);
+	}
+
+	private static urSQLParser parse(String database, String sql) throws IOException {
+		return parse(database, sql, null);
+	}
+
+	/**
+	 * @param database base de la sesion, en la que se planea la sentencia
+	 *
+	 * @param peek valores de los parametros de la primera ejecucion, con
+	 * los que el optimizador estima las filas; null si no se conocen
+	 */
+	private static urSQLParser parse(String database, String sql, String[] peek) throws IOException {
+		long start = Metrics.QUERY_PARSE.start();
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		urSQLParser parser = new urSQLParser(lex(sql));
+		parser.setPeekValues(peek);
+		parser.setDatabase(database);
+		boolean parsed = false;
+		try {
+			parser.programa();
+			parsed = parser.getStatus();
+		} catch (RecognitionException e) {
+			parser.reportError(e);
+		} finally {
+			Metrics.QUERY_PARSE.stop(start);
+			event.end();
+			if (event.shouldCommit()) {
+				event.statement = sql;
+				event.parsed = parsed;
+				event.commit();
+			}
+		}
+		if (!parsed) {
+			Metrics.QUERY_ERRORS.increment();
+			return null;
+		}
+		return parser;
+	}
+
+	/**
+	 * Analiza una sentencia con parametros [?] una sola vez; las
+	 * siguientes veces el plan sale del cache de la sesion o, si otra
+	 * sesion ya la preparo en la misma base, del cache compartido
+	 *
+	 * @return el plan, null si la sentencia tiene errores
+	 */
+	public static PreparedPlan prepare(Session session, String sql) throws IOException {
+		PreparedPlan plan = session.getPlan(sql);
+		if (plan != null) {
+			return plan;
+		}
+		String database = session.getDatabase();
+		plan = PlanCache.get(database, sql);
+		if (plan == null) {
+			urSQLParser parser = parse(database, sql);
+			if (parser == null || parser.getRoutine() == null) {
+				return null;
+			}
+			plan = new PreparedPlan(database, parser.getRoutine(), parser.getParameterCount());
+			PlanCache.put(database, sql, plan);
+		}
+		session.putPlan(sql, plan);
+		return plan;
+	}
+
+	/**
+	 * Ejecuta un plan preparado con los valores de sus parametros
+	 */
+	public void execute(PreparedPlan plan, String[] parameters) {
+		Routine r = plan.bind(parameters);
+		RuntimeDatabaseProcessor rdp = new RuntimeDatabaseProcessor();
+		this.rs = rdp.playRoutine(r, this.session);
+	}
+
+	/**
+	 * Ejecuta un plan preparado y lo anota en el historial con los
+	 * valores en lugar de los parametros [?]
+	 */
+	public void execute(String sql, PreparedPlan plan, String[] parameters) {
+		Instant start = Instant.now();
+		long nanos = System.nanoTime();
+		this.rs = null;
+		this.executed = false;
+		try {
+			this.execute(plan, parameters);
+			this.executed = true;
+		} catch (LockException e) {
+			this.lockFailed(e);
+		} finally {
+			this.record(start, nanos, bindText(sql, parameters));
+		}
+	}
+
+	/**
+	 * Texto de una sentencia preparada con sus valores; los valores
+	 * no tienen comillas, por lo que basta cambiar cada ? en orden
+	 */
+	private static String bindText(String sql, String[] parameters) {
+		StringBuilder text = new StringBuilder(sql.length());
+		int next = 0;
+		for (int i = 0; i < sql.length(); i++) {
+			char c = sql.charAt(i);
+			if (c == '?' && next < parameters.length) {
+				text.append(parameters[next++]);
+			} else {
+				text.append(c);
+			}
+		}
+		return text.toString();
+	}
+
+	private void record(Instant start, long nanos, String sql) {
+		int rows = this.rs == null ? 0 : this.rs.getTableData().getData().size();
+		QueryHistory.record(new QueryHistory.Entry(start, this.session.getId(), (System.nanoTime() - nanos) / 1000,
+				rows, this.executed, sql));
+	}
+
+	/**
+	 * Cambia los valores literales de una sentencia DML por parametros
+	 * [?], para que las sentencias que solo cambian en sus valores usen
+	 * el mismo plan. Son valores los que siguen a un operador de
+	 * comparacion o al = del SET y los de la lista de VALUES
+	 *
+	 * @param values se llena con los literales, en orden
+	 *
+	 * @return forma de la sentencia, null si no es DML o ya tiene
+	 * parametros
+	 */
+	private static String normalize(CommonTokenStream stream, LinkedList<String> values) {
+		stream.fill();
+		LinkedList<Token> tokens = new LinkedList<Token>();
+		for (Object o : stream.getTokens()) {
+			Token t = (Token) o;
+			if (t.getChannel() == Token.DEFAULT_CHANNEL && t.getType() != Token.EOF) {
+				tokens.add(t);
+			}
+		}
+		if (tokens.isEmpty()) {
+			return null;
+		}
+		switch (tokens.getFirst().getType()) {
+		case urSQLParser.SELECT:
+		case urSQLParser.INSERT:
+		case urSQLParser.UPDATE:
+		case urSQLParser.DELETE:
+			break;
+		default:
+			return null;
+		}
+		StringBuilder shape = new StringBuilder();
+		int previous = -1;
+		boolean in_values = false;
+		for (Token t : tokens) {
+			int type = t.getType();
+			if (type == urSQLParser.PARAM) {
+				return null;
+			}
+			boolean literal = type == urSQLParser.INT || type == urSQLParser.FLOAT || type == urSQLParser.ID;
+			boolean value = in_values || previous == urSQLParser.EQUALS || previous == urSQLParser.LIKE
+					|| previous == urSQLParser.NOT || previous == urSQLParser.GREATER_THAN
+					|| previous == urSQLParser.GREATER_EQUALS || previous == urSQLParser.LESS_THAN
+					|| previous == urSQLParser.LESS_EQUALS;
+			if (literal && value) {
+				values.add(t.getText());
+				shape.append(Parameter.MARKER);
+			} else {
+				shape.append(t.getText());
+			}
+			shape.append(' ');
+			if (previous == urSQLParser.VALUES && type == urSQLParser.LEFT_PAR) {
+				in_values = true;
+			} else if (type == urSQLParser.RIGHT_PAR) {
+				in_values = false;
+			}
+			previous = type;
+		}
+		return shape.toString();
+	}
+
+	/**
+	 * Ejecuta una sentencia DML con el plan de su forma, que solo se
+	 * analiza la primera vez que llega
+	 */
+	private boolean executeShape(String shape, LinkedList<String> values) throws IOException {
+		String database = this.session.getDatabase();
+		PreparedPlan plan = PlanCache.get(database, shape);
+		if (plan == null) {
+			urSQLParser parser = parse(database, shape, values.toArray(new String[values.size()]));
+			if (parser == null || parser.getRoutine() == null || parser.getParameterCount() != values.size()) {
+				return false;
+			}
+			plan = new PreparedPlan(database, parser.getRoutine(), parser.getParameterCount());
+			PlanCache.put(database, shape, plan);
+		}
+		this.execute(plan, values.toArray(new String[values.size()]));
+		if (rs != null && echo) rs.print();
+		return true;
+	}
+
+	/**
+	 * Ejecuta la sentencia y la anota en el historial
+	 */
+	public void execute() throws IOException {
+		Instant start = Instant.now();
+		long nanos = System.nanoTime();
+		this.rs = null;
+		this.executed = false;
+		try {
+			this.executed = this.executeQuery();
+		} catch (LockException e) {
+			this.lockFailed(e);
+		} finally {
+			this.record(start, nanos, this.query);
+		}
+	}
+
+	/**
+	 * La sentencia no se ejecuto porque no obtuvo los bloqueos de sus
+	 * filas; no escribio nada y se puede volver a intentar
+	 */
+	private void lockFailed(LockException e) {
+		Metrics.QUERY_ERRORS.increment();
+		this.rs = null;
+		if (echo) System.out.println("Error: " + e.getMessage());
+	}
+
+	private boolean executeQuery() throws IOException {
+		LinkedList<String> values = new LinkedList<String>();
+		String shape = normalize(lex(this.query), values);
+		if (shape != null) {
+			return this.executeShape(shape, values);
+		}
+		urSQLParser parser = parse(this.session.getDatabase(), this.query);
+		if (parser != null && parser.getParameterCount() > 0) {
+			if (echo) System.out.println("Error: parameters [?] are only allowed in prepared statements");
+			parser = null;
+		}
+		if (parser != null)
 		{
 			Routine r = parser.getRoutine();
 			RuntimeDatabaseProcessor culo = new RuntimeDatabaseProcessor();
-			this.rs = culo.playRoutine(r);
-			if (rs != null) rs.print();
-			this.writer.println(this.query + "\t\t" + "Ejecutada");
-			this.writer.close();
-		} else
-		{
-			this.writer.println(this.query + "\t\t" + "No ejecutada");
-			this.writer.close();
+			this.rs = culo.playRoutine(r, this.session);
+			if (rs != null && echo) rs.print();
+			return true;
 		}
+		return false;
 	}
 
 	public static void main(String[] args) throws IOException {
@@ -3,19 +3,88 @@ grammar urSQL;
 options { language = Java; }
 
 @lexer::header {
-	package query_processor;
-	import java.io.*;
+package urSQL.QueryProcessor;
+import java.io.*;
 }
 
 @header {
-	package query_processor;
+	package urSQL.QueryProcessor;
 	import java.io.*;
 	import java.util.Vector;
 	import java.util.Collections;
+import java.util.LinkedList;
+
+import urSQL.API.ResultSet;
+import urSQL.Metrics.PlanEvent;
+import urSQL.Server.Server;
+import urSQL.QueryProcessor.Plan.*;
+import urSQL.RuntimeDatabaseProcessor.Rutine.*;
+import urSQL.SystemCatalog.SystemCatalog;
+import urSQL.RuntimeDatabaseProcessor.Components.*;
+import urSQL.StoredDataManager.ScanPredicate;
 }
 
 @members {
-	public void displayRecognitionError(String[] tokenNames, RecognitionException e) {
+	private ResultSet rs;
+	private boolean executed = true;
+	private Routine routine;
+	private int parameters = 0;
+	private String[] peek = null;
+	private String database = null;
+	private LinkedList<LogicalNode> operators = new LinkedList<LogicalNode>();
+
+	/**
+	 * Valores con que se va a ejecutar la primera vez una sentencia con
+	 * parametros; el optimizador los usa para estimar cuantas filas
+	 * cumplen las condiciones
+	 */
+	public void setPeekValues(String[] values)
+	{
+		this.peek = values;
+	}
+
+	/**
+	 * Base de datos de la sesion, en la que se planean las sentencias
+	 */
+	public void setDatabase(String database)
+	{
+		this.database = database;
+	}
+
+	/**
+	 * Cantidad de parametros [?] de la sentencia
+	 */
+	public int getParameterCount()
+	{
+		return this.parameters;
+	}
+
+	/**
+	 * Marca del siguiente parametro de la sentencia
+	 */
+	private String nextParameter()
+	{
+		return Parameter.marker(this.parameters++);
+	}
+
+	public Routine getRoutine()
+	{
+		return this.routine;
+	}
+
+	public ResultSet getResultSet()
+	{
+		return this.rs;
+	}
+
+	public boolean getStatus()
+	{
+		return this.executed;
+	}
+
+	public void displayRecognitionError(String[] tokenNames, RecognitionException e)
+	{
+		this.executed = false;
 		String hdr = getErrorHeader(e);
 		String[] splt = hdr.split("\\s");
 		String tmp = splt[1];
@@ -23,11 +92,147 @@ options { language = Java; }
 		String lineNumber = "";
 		lineNumber += Character.toString(c);
 		c = tmp.charAt(1);
-		if (!Character.toString(c).equals(":")) {
+		if (!Character.toString(c).equals(":"))
+		{
 			lineNumber += Character.toString(c);
 		}
 		System.out.println("Error 42000: Syntax error or access rule violation in line " + lineNumber);
 	}
+
+	/**
+	 * Optimiza el plan logico de una sentencia DML y crea su rutina
+	 *
+	 * @return el plan optimizado, para el plan de ejecucion
+	 */
+	private LogicalNode plan(LogicalNode logical)
+	{
+		PlanEvent event = new PlanEvent();
+		event.begin();
+		LogicalNode optimized = Optimizer.optimize(this.database, logical, this.peek);
+		this.operators.clear();
+		this.routine = PhysicalPlanner.toRoutine(optimized, this.operators);
+		event.end();
+		if (event.shouldCommit()) {
+			LogicalNode scan = optimized;
+			while (scan.getChild() != null) {
+				scan = scan.getChild();
+			}
+			event.table = ((ScanNode) scan).getTable();
+			event.components = this.operators.size();
+			event.estimatedRows = Math.round(optimized.getEstimatedRows());
+			event.commit();
+		}
+		return optimized;
+	}
+
+	/**
+	 * Cambia la rutina de la sentencia DML por la que la describe
+	 *
+	 * @param analyze true para ejecutarla y medir cada componente
+	 */
+	public void explain(boolean analyze)
+	{
+		if (this.routine == null) {
+			return;
+		}
+		LinkedList<String> descriptions = new LinkedList<String>();
+		LinkedList<Double> estimates = new LinkedList<Double>();
+		for (LogicalNode node : this.operators) {
+			descriptions.add(node.describe());
+			estimates.add(node.getEstimatedRows());
+		}
+		this.routine = new RoutineExplain(this.routine, descriptions, estimates, analyze);
+	}
+
+	public LogicalNode delete(DeleteStatement statement)
+	{
+		return this.plan(Planner.plan(statement));
+	}
+
+	public LogicalNode update(UpdateStatement statement)
+	{
+		return this.plan(Planner.plan(statement));
+	}
+
+	public LogicalNode insert(InsertStatement statement)
+	{
+		return this.plan(Planner.plan(statement));
+	}
+
+	public LogicalNode select(SelectStatement statement)
+	{
+		return this.plan(Planner.plan(statement));
+	}
+
+	public void analyze(String tableName) {
+		ComponentAnalyze an = new ComponentAnalyze(tableName);
+		this.routine = new RoutineDLL("ANALYZE");
+		this.routine.getComponents().add(an);
+	}
+
+	public void dropTable(String tableName) {
+		ComponentDropTable dt = new ComponentDropTable(tableName);
+		this.routine = new RoutineDLL("DROP_TABLE");
+		this.routine.getComponents().add(dt);
+	}
+
+	public void createTable(String table, Vector<Vector<String>> col, String pk) {
+		ComponentCreateTable ct = new ComponentCreateTable(table, new Vector<Vector<String>>(col), pk);
+		this.routine = new RoutineDLL("CREATE_TABLE");
+		this.routine.getComponents().add(ct);
+	}
+
+	public void createIndex(String index, String table, Vector<String> columns, Vector<String> include,
+			boolean hash) {
+		ComponentCreateIndex ci = new ComponentCreateIndex(index, table, 
+			new LinkedList<String>(columns), new LinkedList<String>(include), hash);
+		this.routine = new RoutineDLL("CREATE_INDEX");
+		this.routine.getComponents().add(ci);
+	}
+
+	public void dropDB(String name) {
+		ComponentDropDatabase dd = new ComponentDropDatabase(name);
+		this.routine = new RoutineDLL("DROP_DATABASE");
+		this.routine.getComponents().add(dd);
+	}
+
+	public void createDB(String name)
+	{
+		ComponentNewDatabase cd = new ComponentNewDatabase(name);
+		this.routine = new RoutineDLL("NEW_DATABASE");
+		this.routine.getComponents().add(cd);
+	}
+
+	public void setDB(String name) {
+		ComponentSetDatabase sd = new ComponentSetDatabase(name);
+		this.routine = new RoutineDLL("SET_DATABASE");
+		this.routine.getComponents().add(sd);
+	}
+
+	public void status() {
+		ComponentStatus st = new ComponentStatus();
+		this.routine = new RoutineDLL("GET_STATUS");
+		this.routine.getComponents().add(st);
+	}
+
+	public void server(String action, String port) {
+		int number = port == null ? Server.defaultPort() : Integer.parseInt(port);
+		ComponentServer cs = new ComponentServer(action, number);
+		this.routine = new RoutineDLL(action);
+		this.routine.getComponents().add(cs);
+	}
+
+	public void transaction(String action) {
+		ComponentTransaction tr = new ComponentTransaction(action);
+		this.routine = new RoutineDLL(action);
+		this.routine.getComponents().add(tr);
+	}
+
+	public void listDB() {
+		ComponentListDatabases ld = new ComponentListDatabases();
+		this.routine = new RoutineDLL("LIST_DATABASES");
+		this.routine.getComponents().add(ld);
+	}
 }
 
 /* Inicio del programa */
@@ -37,263 +242,353 @@ scope {
 	Vector<String> type_null;
 	Vector<String> column;
 	Vector<String> values;
-	Vector<String> condition;
-	Vector<String> select_columns;
-	Vector<String> select_tables;
-	Vector<String> select_group;
+	Condition condition;
+	String condition_value;
+	SelectStatement select;
 	Vector<Vector<String>> columns;
 	String tmp;
+	PrintWriter writer;
 }
 
 @init {
 	$programa::type_null = new Vector<String>();
 	$programa::column = new Vector<String>();
 	$programa::values = new Vector<String>();
-	$programa::condition = new Vector<String>();
-	$programa::select_columns = new Vector<String>();
-	$programa::select_tables = new Vector<String>();
-	$programa::select_group = new Vector<String>();
+	$programa::condition = null;
+	$programa::condition_value = "";
+	$programa::select = new SelectStatement();
 	$programa::columns = new Vector<Vector<String>>();
 	$programa::tmp = "";
+	try
+	{
+		$programa::writer = new PrintWriter("plan_ejecucion.txt", "UTF-8");
+	} catch (IOException e)
+	{
+	};
 }
 	: clp_commands
 	| ddl_commands
 	| dml_commands
 	;
-	
-/* Comandos DML */ 
+
+/* Comandos DML */
 dml_commands
 	: ( select
 	| update
 	| delete
-	| insert ) ( clp_commands
+	| insert
+	| explain ) ( clp_commands
 	| ddl_commands
 	| dml_commands )
 	|
 	;
-	
+
+/* Describe el plan de una sentencia; con ANALYZE la ejecuta y mide cada paso */
+explain
+@init {
+	boolean analyze = false;
+}
+	: EXPLAIN ( ANALYZE { analyze = true; } )? ( select
+	| update
+	| delete
+	| insert )
+	 {
+	 	this.explain(analyze);
+	 }
+	;
+
 select
-	: SELECT ( ALL { $programa::select_columns.add("69"); }
+	: SELECT ( ALL
 	| col_list ) NEWLINE? from NEWLINE*
 	{
-		if (!$programa::tmp.equals("0") && !$programa::tmp.equals("1")) {
-			$programa::tmp = "-1";
-		}
+		$programa::select.setWhere($programa::condition);
 		System.out.println("Select query...");
-		System.out.print("Columns: ");
-		System.out.println($programa::select_columns);
-		System.out.print("Tables: ");
-		System.out.println($programa::select_tables);
-		System.out.print("Condition: ");
-		System.out.println($programa::condition);
-		System.out.print("Grouping by: ");
-		System.out.println($programa::column);
-		System.out.print("XML/JSON: ");
-		System.out.println($programa::tmp);
+		System.out.println($programa::select);
+
+		LogicalNode plan = this.select($programa::select);
+
+		$programa::writer.print(plan);
+		$programa::writer.close();
+
+		$programa::select = new SelectStatement();
+		$programa::condition = null;
 	}
 	;
-	
+
 col_list
-	: ( ID 
-	 { 
-	 	$programa::select_columns.add("-1"); 
-	 	$programa::select_columns.add($ID.text);
-	 } 
+	: ( ID { $programa::select.getItems().add(new SelectItem($ID.text)); }
 	| agg_funct ) col_list
 	| /* ε */
 	;
-	
+
 from
-	: FROM ( ID { $programa::select_tables.add($ID.text); }
-	| join_st ) NEWLINE? where? NEWLINE? group? NEWLINE? for_JSON_XML?
+	: FROM ( ID { $programa::select.getTables().add($ID.text); }
+	| join_st ) NEWLINE? where? NEWLINE? group? NEWLINE? order? NEWLINE? limit? NEWLINE? for_JSON_XML?
 	;
-	
+
 join_st
 	: table1 = ID JOIN table2 = ID join_st_aux
 	 {
-	 	$programa::select_tables.add($table1.text);
-	 	$programa::select_tables.add($table2.text);
+	 	$programa::select.getTables().add($table1.text);
+	 	$programa::select.getTables().add($table2.text);
 	 }
 	;
-	
+
 join_st_aux
-	: JOIN ID join_st_aux { $programa::select_tables.add($ID.text); }
+	: JOIN ID join_st_aux { $programa::select.getTables().add($ID.text); }
 	| /* ε */
 	;
-	
+
 where
 	: WHERE where_st
 	;
-	
+
 where_st
-	: ID comp_op value["1"] { $programa::condition.add($ID.text); }
-	| ID null_op { $programa::condition.add($ID.text); }
-	;
-	
-comp_op
-	: GREATER_THAN { $programa::condition.add("2"); }
-	| GREATER_EQUALS { $programa::condition.add("3"); }
-	| LESS_THAN { $programa::condition.add("4"); }
-	| LESS_EQUALS { $programa::condition.add("5"); }
-	| EQUALS { $programa::condition.add("6"); }
-	| LIKE { $programa::condition.add("7"); }
-	| NOT { $programa::condition.add("8"); }
-	;
-	
-null_op
-	: IS ( NULL 
-	 { 
-	 	$programa::condition.add("1");
-	 	$programa::condition.add("-1");
-	 } 
-	| NOT NULL  
-	 { 
-	 	$programa::condition.add("0");
-	 	$programa::condition.add("-1");
-	 } )
-	;
-	
+	: ID comp_op value["1"] { $programa::condition = new Condition($ID.text, $comp_op.operator, $programa::condition_value); }
+	| ID null_op { $programa::condition = new Condition($ID.text, $null_op.operator); }
+	;
+
+comp_op returns [String operator]
+	: GREATER_THAN { $operator = ScanPredicate.MORE_THAN; }
+	| GREATER_EQUALS { $operator = ScanPredicate.MORE_THAN; }
+	| LESS_THAN { $operator = ScanPredicate.LESS_THAN; }
+	| LESS_EQUALS { $operator = ScanPredicate.LESS_THAN; }
+	| EQUALS { $operator = ScanPredicate.EQUAL; }
+	| LIKE { $operator = ScanPredicate.LIKE; }
+	| NOT { $operator = ScanPredicate.NOT; }
+	;
+
+null_op returns [String operator]
+	: IS ( NULL { $operator = ScanPredicate.IS_NULL; }
+	| NOT NULL { $operator = ScanPredicate.IS_NOT_NULL; } )
+	;
+
 group
 	: GROUP BY cols
+	 {
+	 	// cols agrega las columnas de la ultima a la primera
+	 	Collections.reverse($programa::column);
+	 	$programa::select.getGroupBy().addAll($programa::column);
+	 	$programa::column.clear();
+	 }
 	;
-	
+
 cols
 	: ID cols { $programa::column.add($ID.text); }
 	|
 	;
-	
+
+/* Ordena el resultado por una columna */
+order
+	: ORDER BY ID { $programa::select.setOrderBy($ID.text, false); }
+	( ASC
+	| DESC { $programa::select.setOrderBy($ID.text, true); } )?
+	;
+
+/* Cantidad de filas a devolver y filas a saltar */
+limit
+	: LIMIT rows = INT { $programa::select.setLimit(Integer.parseInt($rows.text), 0); }
+	( OFFSET skip = INT { $programa::select.setLimit(Integer.parseInt($rows.text), Integer.parseInt($skip.text)); } )?
+	;
+
 for_JSON_XML
-	: FOR ( JSON { $programa::tmp = "0"; }
-	| XML { $programa::tmp = "1"; } )
+	: FOR ( JSON { $programa::select.setFormat(ComponentFor.TYPE_JSON); }
+	| XML { $programa::select.setFormat(ComponentFor.TYPE_XML); } )
 	;
-	
+
 agg_funct
-	: ( COUNT { $programa::select_columns.add("0");  }
-	| AVERAGE { $programa::select_columns.add("1");  }
-	| MIN { $programa::select_columns.add("2");  }
-	| MAX { $programa::select_columns.add("3");  } ) 
-	LEFT_PAR ID { $programa::select_columns.add($ID.text);  } RIGHT_PAR
+@init {
+	String function = null;
+}
+	: ( COUNT { function = SelectItem.COUNT; }
+	| AVERAGE { function = SelectItem.AVERAGE; }
+	| MIN { function = SelectItem.MIN; }
+	| MAX { function = SelectItem.MAX; } )
+	LEFT_PAR ID { $programa::select.getItems().add(new SelectItem(function, $ID.text)); } RIGHT_PAR
 	;
-	
+
 update
-	: UPDATE table = ID NEWLINE? SET column = ID EQUALS value["2"] NEWLINE? where NEWLINE*
+	: UPDATE table = ID NEWLINE? SET column = ID EQUALS value["2"] NEWLINE? where? NEWLINE*
 	 {
-	 	System.out.println("Updating column " + $column.text + " from table " + $table.text + "...");
-	 	System.out.println("New value: " + $programa::tmp);
-	 	System.out.println("Condition:");
-	 	System.out.println($programa::condition);
-	 	$programa::condition.clear();
+	 	UpdateStatement statement = new UpdateStatement($table.text, $column.text, $programa::tmp,
+	 		$programa::condition);
+	 	System.out.println(statement);
+
+	 	LogicalNode plan = this.update(statement);
+
+	 	$programa::writer.print(plan);
+	 	$programa::writer.close();
+
+	 	$programa::condition = null;
 	 	$programa::values.clear();
 	 }
 	;
-	
+
 delete
-	: DELETE NEWLINE? FROM ID NEWLINE? where NEWLINE*
+	: DELETE NEWLINE? FROM ID NEWLINE? where? NEWLINE*
 	 {
-	 	System.out.println("Delete from table " + $ID.text);
-	 	System.out.print("Condition: ");
-	 	System.out.println($programa::condition);
-	 	$programa::condition.clear();
+	 	DeleteStatement statement = new DeleteStatement($ID.text, $programa::condition);
+	 	System.out.println(statement);
+
+	 	LogicalNode plan = this.delete(statement);
+
+	 	$programa::condition = null;
 	 	$programa::values.clear();
+
+	 	$programa::writer.print(plan);
+	 	$programa::writer.close();
 	 }
 	;
-	
+
 insert
 	: INSERT INTO ID LEFT_PAR cols RIGHT_PAR NEWLINE? VALUES LEFT_PAR values RIGHT_PAR NEWLINE*
 	 {
-	 	System.out.println("Insert into table " + $ID.text);
 	 	if ($programa::column.size() != $programa::values.size()) {
 	 		System.out.println("Error: Mismatch between columns and values");
 	 	} else {
-	 		System.out.print("Columns: ");
-	 		System.out.println($programa::column);
-	 		System.out.print("Values: ");
-	 		System.out.println($programa::values);
+	 		Collections.reverse($programa::column);
+	 		InsertStatement statement = new InsertStatement($ID.text,
+	 			new LinkedList<String>($programa::column), new LinkedList<String>($programa::values));
+	 		System.out.println(statement);
+
+	 		LogicalNode plan = this.insert(statement);
+
+	 		$programa::writer.print(plan);
 	 	}
+
 	 	$programa::column.clear();
 	 	$programa::values.clear();
+	 	$programa::writer.close();
 	 }
 	;
-	
+
 values
 	: value["0"] values
 	|
 	;
-	
+
 value [String sel]
-	: INT 
-	 { 
+	: INT
+	 {
 	 	if (sel.equals("0")) { $programa::values.add($INT.text); }
-	 	else if (sel.equals("1")) { $programa::condition.add($INT.text); }
+	 	else if (sel.equals("1")) { $programa::condition_value = $INT.text; }
 	 	else { $programa::tmp = $INT.text; }
 	 }
-	| FLOAT 
-	 { 
+	| FLOAT
+	 {
 	 	if (sel.equals("0")) { $programa::values.add($FLOAT.text); }
-	 	else if (sel.equals("1")) { $programa::condition.add($FLOAT.text); }
+	 	else if (sel.equals("1")) { $programa::condition_value = $FLOAT.text; }
 	 	else { $programa::tmp = $FLOAT.text; }
 	 }
-	| ID 
-	 { 
+	| ID
+	 {
 	 	if (sel.equals("0")) { $programa::values.add($ID.text); }
-	 	else if (sel.equals("1")) { $programa::condition.add($ID.text); }
+	 	else if (sel.equals("1")) { $programa::condition_value = $ID.text; }
 	 	else { $programa::tmp = $ID.text; }
 	 }
+	| PARAM
+	 {
+	 	String marker = this.nextParameter();
+	 	if (sel.equals("0")) { $programa::values.add(marker); }
+	 	else if (sel.equals("1")) { $programa::condition_value = marker; }
+	 	else { $programa::tmp = marker; }
+	 }
 	;
-	
-/* Comandos DDL */ 
+
+/* Comandos DDL */
 ddl_commands
 	: ( set_db
 	| create_index
 	| drop_table
 	| alter_table
+	| analyze
 	| create_table ) ( ddl_commands
 	| dml_commands
 	| clp_commands )
 	| /* ε */
 	;
-	
-/* Fija el esquema actual */	
+
+/* Fija el esquema actual */
 set_db
 	: SET DATABASE ID NEWLINE* {System.out.println("Setting " + $ID.text + " as current database...");}
 	 {
-	 	// Fijar el esquema actual
+	 	$programa::writer.println("Obtain database " + $ID.text);
+	 	$programa::writer.println("Set it to be the current schema");
+	 	$programa::writer.close();
+	 	this.setDB($ID.text);
 	 }
 	;
 
-/* Crea un índice sobre una columna distinta a la llave primaria */	
+/* Crea un índice sobre una columna distinta a la llave primaria */
 create_index
-	: CREATE INDEX index = ID ON NEWLINE? table = ID LEFT_PAR column = ID RIGHT_PAR NEWLINE* 
+@init {
+	Vector<String> keys = new Vector<String>();
+	Vector<String> includes = new Vector<String>();
+	boolean hash = false;
+}
+	: CREATE ( HASH { hash = true; } )? INDEX index = ID ON NEWLINE? table = ID LEFT_PAR ( column = ID { keys.add($column.text); } )+ RIGHT_PAR
+	( INCLUDE LEFT_PAR ( included = ID { includes.add($included.text); } )+ RIGHT_PAR )? NEWLINE*
 	 {
-	 	System.out.println("Creating index " + $index.text + " on column " + $column.text + " from table " + $table.text 
+	 	System.out.println("Creating index " + $index.text + " on columns " + keys + " from table " + $table.text
 	 	+ "...");
-	 	
-	 	// Crear índice
+
+	 	$programa::writer.println("Obtain table " + $table.text);
+	 	$programa::writer.println("Obtain columns " + keys);
+	 	if (!includes.isEmpty()) {
+	 		$programa::writer.println("Include columns " + includes);
+	 	}
+	 	$programa::writer.println("Create " + (hash ? "hash " : "") + "index " + $index.text);
+	 	$programa::writer.close();
+
+	 	this.createIndex($index.text, $table.text, keys, includes, hash);
 	 }
 	;
 
-/* Elimina una tabla */	
+/* Elimina una tabla */
 drop_table
 	: DROP TABLE ID NEWLINE* {System.out.println("Deleting table " + $ID.text + "...");}
 	 {
-	 	// Eliminar tabla
+	 	$programa::writer.println("Obtain table " + $ID.text);
+	 	$programa::writer.println("Delete the table");
+	 	$programa::writer.close();
+	 	this.dropTable($ID.text);
 	 }
 	;
-	
-/* Establece integridad referencial sobre una columna */	
+
+/* Calcula las estadisticas de una tabla, o de todas las de la base */
+analyze
+@init {
+	String table = null;
+}
+	: ANALYZE ( ID { table = $ID.text; } )? NEWLINE*
+	 {
+	 	System.out.println("Analyzing " + (table != null ? "table " + table : "every table") + "...");
+	 	$programa::writer.println("Sample " + (table != null ? "table " + table : "every table"));
+	 	$programa::writer.println("Store row count, distinct values and histograms of each column");
+	 	$programa::writer.close();
+	 	this.analyze(table);
+	 }
+	;
+
+/* Establece integridad referencial sobre una columna */
 alter_table
 	: ALTER TABLE ID NEWLINE? ADD CONSTRAINT const_def[$ID.text] NEWLINE*
 	;
-	
+
 const_def [String table]
 	: FOREIGN KEY LEFT_PAR column = ID RIGHT_PAR NEWLINE? REFERENCES r_table = ID LEFT_PAR r_column = ID RIGHT_PAR
 	 {
 	 	System.out.println("Column " + $column.text + " from table " + table + " references column " +
 	 	$r_column.text + " from table " + $r_table.text);
+
+	 	$programa::writer.println("Obtain both " + table + " and " + $r_table.text);
+	 	$programa::writer.println("Check that " + $r_column.text + " is a primary key");
+	 	$programa::writer.println("Add reference from " + $column.text + " to " + $r_column.text);
+	 	$programa::writer.close();
 	 }
 	;
-	
-/* Crea una tabla */	
+
+/* Crea una tabla */
 create_table
 	: CREATE TABLE ID AS LEFT_PAR NEWLINE? col_def p_key RIGHT_PAR NEWLINE*
 	 {
@@ -331,80 +626,79 @@ create_table
 	 			System.out.println($programa::columns.get(i));
 	 		}
 	 		System.out.println("Primary key: " + $programa::tmp);
+	 		this.createTable($ID.text, $programa::columns, $programa::tmp);
 	 	}
+
+	 	$programa::writer.println("Check that table " + $ID.text + " does not exists");
+	 	$programa::writer.print("Create new table with columns ");
+	 	for (int i = 0; i < $programa::columns.size(); i++) {
+	 		$programa::writer.print($programa::columns.get(i).get(0) + " ");
+	 	}
+	 	$programa::writer.print(" and primary key " + $programa::tmp);
+	 	$programa::writer.close();
+
 	 	$programa::column.clear();
 	 	$programa::type_null.clear();
 	 	$programa::columns.clear();
 	 }
 	;
-	
-/* Definición de columnas */	
+
+/* Definición de columnas */
 col_def
 	: ID type null_cons NEWLINE? col_def
 	 {
-	 	//$programa::columns.add($programa::column);
-	 	//$programa::column.clear();
-	 	//$programa::column.add($ID.text);
-	 	//System.out.println($ID.text);
 	 	$programa::column.add($ID.text);
 	 }
 	| /* ε */
 	;
-	
-/* Tipos de datos */	
+
+/* Tipos de datos */
 type
-	: INTEGER 
-	 { 
-	 	$programa::type_null.add("0");
+	: INTEGER
+	 {
+	 	$programa::type_null.add("INTEGER");
 	 	$programa::type_null.add("-1");
 	 	$programa::type_null.add("-1");
-	 	//System.out.println($INTEGER.text);
 	 }
-	| DECIMAL LEFT_PAR digits = INT COLON decimals = INT RIGHT_PAR 
-	 { 
-	 	$programa::type_null.add("1");
+	| DECIMAL LEFT_PAR digits = INT COLON decimals = INT RIGHT_PAR
+	 {
+	 	$programa::type_null.add("DECIMAL");
 	 	$programa::type_null.add($digits.text);
 	 	$programa::type_null.add($decimals.text);
-	 	//System.out.println($DECIMAL.text);
 	 }
-	| CHARACTER LEFT_PAR INT RIGHT_PAR 
-	 { 
-	 	$programa::type_null.add("2");
+	| CHARACTER LEFT_PAR INT RIGHT_PAR
+	 {
+	 	$programa::type_null.add("CHAR");
 	 	$programa::type_null.add($INT.text);
 	 	$programa::type_null.add("-1");
-	 	//System.out.println($CHARACTER.text);
 	 }
-	| VARCHAR 
-	 { 
-	 	$programa::type_null.add("3");
+	| VARCHAR
+	 {
+	 	$programa::type_null.add("VARCHAR");
 	 	$programa::type_null.add("-1");
 	 	$programa::type_null.add("-1");
-	 	//System.out.println($VARCHAR.text);
 	 }
-	| DATETIME 
-	 { 
-	 	$programa::type_null.add("4"); 
+	| DATETIME
+	 {
+	 	$programa::type_null.add("DATETIME");
 	 	$programa::type_null.add("-1");
 	 	$programa::type_null.add("-1");
-	 	//System.out.println($DATETIME.text);
 	 }
 	;
-	
-/* Restricción de NULL */	
+
+/* Restricción de NULL */
 null_cons
-	: NULL 
-	 { 
+	: NULL
+	 {
 	 	$programa::type_null.add("1");
-	 	//System.out.println("NULL");
 	 }
-	| NOT NULL 
-	 { 
+	| NOT NULL
+	 {
 	 	$programa::type_null.add("0");
-	 	//System.out.println("NOT NULL");
 	 }
 	;
-	
-/* Llave primaria */	
+
+/* Llave primaria */
 p_key
 	: PRIMARY KEY LEFT_PAR ID RIGHT_PAR NEWLINE?
 	 {
@@ -412,7 +706,7 @@ p_key
 	 }
 	;
 
-/* Comandos CLP */ 
+/* Comandos CLP */
 clp_commands
 	: ( create_db
 	| drop_db
@@ -420,187 +714,262 @@ clp_commands
 	| start
 	| get_status
 	| stop
+	| begin_tx
+	| commit_tx
+	| rollback_tx
 	| display_db ) ( clp_commands
 	| dml_commands
 	| ddl_commands )
 	| /* ε */
 	;
 
-/* Crear un nuevo esquema */	
+/* Crear un nuevo esquema */
 create_db
 	: CREATE DATABASE ID NEWLINE* {System.out.println("Creating database " + $ID.text + "...\n");}
 	 {
-	 	// Crear base de datos
+	 	$programa::writer.println("Check that database " + $ID.text + " does not exist");
+	 	$programa::writer.println("Create the database");
+	 	$programa::writer.close();
+	 	this.createDB($ID.text);
 	 }
 	;
 
-/* Eliminar un esquema */	
+/* Eliminar un esquema */
 drop_db
 	: DROP DATABASE ID NEWLINE* {System.out.println("Deleting database " + $ID.text + "...\n");}
 	 {
-	 	// Eliminar base de datos
+	 	$programa::writer.println("Obtain database " + $ID.text);
+	 	$programa::writer.println("Delete the database");
+	 	$programa::writer.close();
+	 	this.dropDB($ID.text);
 	 }
 	;
 
-/* Muestra los esquemas existentes */	
+/* Muestra los esquemas existentes */
 list_db
 	: LIST DATABASES NEWLINE* {System.out.println("Listing databases...\n");}
 	 {
-	 	// Mostrar las bases de datos que hay
+	 	$programa::writer.println("Iterate and show the schemas");
+	 	$programa::writer.close();
+	 	this.listDB();
 	 }
 	;
 
-/* Inicia los procesos */	
+/* Inicia los procesos */
 start
-	: START NEWLINE* {System.out.println("Starting processes...\n");}
+	: START (INT)? NEWLINE* {System.out.println("Starting processes...\n");}
 	 {
-	 	// Iniciar los procesos
+	 	$programa::writer.println("Start the processes");
+	 	$programa::writer.close();
+	 	this.server(ComponentServer.START, $INT.text);
 	 }
 	;
 
-/* Obtiene el estado del motor */	
+/* Obtiene el estado del motor */
 get_status
 	: GET STATUS NEWLINE* {System.out.println("Obtaining status...\n");}
 	 {
-	 	// Obtener el estado de los procesos
+	 	$programa::writer.println("Iterate the processes and return the status");
+	 	$programa::writer.close();
+	 	this.status();
 	 }
 	;
 
-/* Detiene los procesos */	
+/* Detiene los procesos */
 stop
 	: STOP NEWLINE* {System.out.println("Stoping processes...\n");}
 	 {
-	 	// Detener los procesos
+	 	$programa::writer.println("Stop the processes");
+	 	$programa::writer.close();
+	 	this.server(ComponentServer.STOP, null);
 	 }
 	;
 
-/* Muestra el esquema seleccionado */	
+/* Abre una transaccion */
+begin_tx
+	: BEGIN NEWLINE* {System.out.println("Beginning transaction...\n");}
+	 {
+	 	$programa::writer.println("Open a transaction in the session");
+	 	$programa::writer.close();
+	 	this.transaction(ComponentTransaction.BEGIN);
+	 }
+	;
+
+/* Confirma la transaccion */
+commit_tx
+	: COMMIT NEWLINE* {System.out.println("Committing transaction...\n");}
+	 {
+	 	$programa::writer.println("Write the commit record");
+	 	$programa::writer.println("Commit every tree of the transaction");
+	 	$programa::writer.close();
+	 	this.transaction(ComponentTransaction.COMMIT);
+	 }
+	;
+
+/* Descarta la transaccion */
+rollback_tx
+	: ROLLBACK NEWLINE* {System.out.println("Rolling back transaction...\n");}
+	 {
+	 	$programa::writer.println("Abort every tree of the transaction");
+	 	$programa::writer.close();
+	 	this.transaction(ComponentTransaction.ROLLBACK);
+	 }
+	;
+
+/* Muestra el esquema seleccionado */
 display_db
 	: DISPLAY DATABASE ID NEWLINE* {System.out.println("Displaying database " + $ID.text + "...\n");}
 	 {
-	 	// Mostrar la base de datos indicada
+	 	$programa::writer.println("Obtain database " + $ID.text);
+	 	$programa::writer.println("Display the database information");
+	 	$programa::writer.close();
 	 }
 	;
-	
+
 SELECT
 	: 'SELECT'
 	| 'select'
 	;
-	
+
 ALL
 	: '*'
 	;
-	
+
 FROM
 	: 'FROM'
 	| 'from'
 	;
-	
+
 JOIN
 	: 'JOIN'
 	| 'join'
 	;
-	
+
 WHERE
 	: 'WHERE'
 	| 'where'
 	;
-	
+
 GREATER_THAN
 	: '>'
 	;
-	
+
 GREATER_EQUALS
 	: '>='
 	;
-	
+
 LESS_THAN
 	: '<'
 	;
-	
+
 LESS_EQUALS
 	: '<='
 	;
-	
+
 EQUALS
 	: '='
 	;
-	
+
 LIKE
 	: 'LIKE'
 	| 'like'
 	;
-	
+
 IS
 	: 'IS'
 	| 'is'
 	;
-	
+
 GROUP
 	: 'GROUP'
 	| 'group'
 	;
-	
+
 BY
 	: 'BY'
 	| 'by'
 	;
-	
+
+ORDER
+	: 'ORDER'
+	| 'order'
+	;
+
+ASC
+	: 'ASC'
+	| 'asc'
+	;
+
+DESC
+	: 'DESC'
+	| 'desc'
+	;
+
+LIMIT
+	: 'LIMIT'
+	| 'limit'
+	;
+
+OFFSET
+	: 'OFFSET'
+	| 'offset'
+	;
+
 FOR
 	: 'FOR'
 	| 'for'
 	;
-	
+
 JSON
 	: 'JSON'
 	| 'json'
 	;
-	
+
 XML
 	: 'XML'
 	| 'xml'
 	;
-	
+
 COUNT
 	: 'COUNT'
 	| 'count'
 	;
-	
+
 AVERAGE
 	: 'AVERAGE'
 	| 'average'
 	;
-	
+
 MIN
 	: 'MIN'
 	| 'min'
 	;
-	
+
 MAX
 	: 'MAX'
 	| 'max'
 	;
-	
+
 UPDATE
 	: 'UPDATE'
 	| 'update'
 	;
-	
+
 DELETE
 	: 'DELETE'
 	| 'delete'
 	;
-	
+
 INSERT
 	: 'INSERT'
 	| 'insert'
 	;
-	
+
 INTO
 	: 'INTO'
 	| 'into'
 	;
-	
+
 VALUES
 	: 'VALUES'
 	| 'values'
@@ -610,158 +979,198 @@ CREATE
 	: 'CREATE'
 	| 'create'
 	;
-	
+
 DATABASE
 	: 'DATABASE'
 	| 'database'
 	;
-	
+
 DROP
 	: 'DROP'
 	| 'drop'
 	;
-	
+
 LIST
 	: 'LIST'
 	| 'list'
 	;
-	
+
 DATABASES
 	: 'DATABASES'
 	| 'databases'
 	;
-	
+
 START
 	: 'START'
 	| 'start'
 	;
-	
+
 GET
 	: 'GET'
 	| 'get'
 	;
-	
+
 STATUS
 	: 'STATUS'
 	| 'status'
 	;
-	
+
 STOP
 	: 'STOP'
 	| 'stop'
 	;
-	
+
+BEGIN
+	: 'BEGIN'
+	| 'begin'
+	;
+
+COMMIT
+	: 'COMMIT'
+	| 'commit'
+	;
+
+ROLLBACK
+	: 'ROLLBACK'
+	| 'rollback'
+	;
+
 DISPLAY
 	: 'DISPLAY'
 	| 'display'
 	;
-	
+
 NEWLINE
 	: '\n'
 	;
-	
+
 SET
 	: 'SET'
 	| 'set'
 	;
-	
+
 INDEX
 	: 'INDEX'
 	| 'index'
 	;
-	
+
+INCLUDE
+	: 'INCLUDE'
+	| 'include'
+	;
+
+HASH
+	: 'HASH'
+	| 'hash'
+	;
+
+ANALYZE
+	: 'ANALYZE'
+	| 'analyze'
+	;
+
+EXPLAIN
+	: 'EXPLAIN'
+	| 'explain'
+	;
+
+/* Parametro de una sentencia preparada */
+PARAM
+	: '?'
+	;
+
 ON
 	: 'ON'
 	| 'on'
 	;
-	
+
 TABLE
 	: 'TABLE'
 	| 'table'
 	;
-	
+
 ALTER
 	: 'ALTER'
 	| 'alter'
 	;
-	
+
 ADD
 	: 'ADD'
 	| 'add'
 	;
-	
+
 CONSTRAINT
 	: 'CONSTRAINT'
 	| 'constraint'
 	;
-	
+
 FOREIGN
 	: 'FOREIGN'
 	| 'foreign'
 	;
-	
+
 KEY
 	: 'KEY'
 	| 'key'
 	;
-	
+
 REFERENCES
 	: 'REFERENCES'
 	| 'references'
 	;
-	
+
 AS
 	: 'AS'
 	| 'as'
 	;
-	
+
 INTEGER
 	: 'INTEGER'
 	| 'integer'
 	;
-	
+
 DECIMAL
 	: 'DECIMAL'
 	| 'decimal'
 	;
-	
+
 LEFT_PAR
 	: '('
 	;
-	
+
 COLON
 	: ','
 	;
-	
+
 RIGHT_PAR
 	: ')'
 	;
-	
+
 CHARACTER
 	: 'CHAR'
 	| 'char'
 	;
-	
+
 VARCHAR
 	: 'VARCHAR'
 	| 'varchar'
 	;
-	
+
 DATETIME
 	: 'DATETIME'
 	| 'datetime'
 	;
-	
+
 NULL
 	: 'NULL'
 	| 'null'
 	;
-	
+
 NOT
 	: 'NOT'
 	| 'not'
 	;
-	
+
 PRIMARY
 	: 'PRIMARY'
 	| 'primary'
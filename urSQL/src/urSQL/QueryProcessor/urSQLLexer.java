@@ -1,7 +1,9 @@
-// $ANTLR 3.5 /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g 2015-09-28 09:48:22
+// $ANTLR 3.5 urSQL.g 2026-10-19 12:17:33
 
 package urSQL.QueryProcessor;
 import java.io.*;
+
+
 import org.antlr.runtime.*;
 import java.util.Stack;
 import java.util.List;
@@ -13,74 +15,87 @@ public class urSQLLexer extends Lexer {
 	public static final int ADD=4;
 	public static final int ALL=5;
 	public static final int ALTER=6;
-	public static final int AS=7;
-	public static final int AVERAGE=8;
-	public static final int BY=9;
-	public static final int CHAR=10;
-	public static final int CHARACTER=11;
-	public static final int COLON=12;
-	public static final int COMMENT=13;
-	public static final int CONSTRAINT=14;
-	public static final int COUNT=15;
-	public static final int CREATE=16;
-	public static final int DATABASE=17;
-	public static final int DATABASES=18;
-	public static final int DATETIME=19;
-	public static final int DECIMAL=20;
-	public static final int DELETE=21;
-	public static final int DISPLAY=22;
-	public static final int DROP=23;
-	public static final int EQUALS=24;
-	public static final int ESC_SEQ=25;
-	public static final int EXPONENT=26;
-	public static final int FLOAT=27;
-	public static final int FOR=28;
-	public static final int FOREIGN=29;
-	public static final int FROM=30;
-	public static final int GET=31;
-	public static final int GREATER_EQUALS=32;
-	public static final int GREATER_THAN=33;
-	public static final int GROUP=34;
-	public static final int HEX_DIGIT=35;
-	public static final int ID=36;
-	public static final int INDEX=37;
-	public static final int INSERT=38;
-	public static final int INT=39;
-	public static final int INTEGER=40;
-	public static final int INTO=41;
-	public static final int IS=42;
-	public static final int JOIN=43;
-	public static final int JSON=44;
-	public static final int KEY=45;
-	public static final int LEFT_PAR=46;
-	public static final int LESS_EQUALS=47;
-	public static final int LESS_THAN=48;
-	public static final int LIKE=49;
-	public static final int LIST=50;
-	public static final int MAX=51;
-	public static final int MIN=52;
-	public static final int NEWLINE=53;
-	public static final int NOT=54;
-	public static final int NULL=55;
-	public static final int OCTAL_ESC=56;
-	public static final int ON=57;
-	public static final int PRIMARY=58;
-	public static final int REFERENCES=59;
-	public static final int RIGHT_PAR=60;
-	public static final int SELECT=61;
-	public static final int SET=62;
-	public static final int START=63;
-	public static final int STATUS=64;
-	public static final int STOP=65;
-	public static final int STRING=66;
-	public static final int TABLE=67;
-	public static final int UNICODE_ESC=68;
-	public static final int UPDATE=69;
-	public static final int VALUES=70;
-	public static final int VARCHAR=71;
-	public static final int WHERE=72;
-	public static final int WS=73;
-	public static final int XML=74;
+	public static final int ANALYZE=7;
+	public static final int AS=8;
+	public static final int ASC=9;
+	public static final int AVERAGE=10;
+	public static final int BEGIN=11;
+	public static final int BY=12;
+	public static final int CHAR=13;
+	public static final int CHARACTER=14;
+	public static final int COLON=15;
+	public static final int COMMENT=16;
+	public static final int COMMIT=17;
+	public static final int CONSTRAINT=18;
+	public static final int COUNT=19;
+	public static final int CREATE=20;
+	public static final int DATABASE=21;
+	public static final int DATABASES=22;
+	public static final int DATETIME=23;
+	public static final int DECIMAL=24;
+	public static final int DELETE=25;
+	public static final int DESC=26;
+	public static final int DISPLAY=27;
+	public static final int DROP=28;
+	public static final int EQUALS=29;
+	public static final int ESC_SEQ=30;
+	public static final int EXPLAIN=31;
+	public static final int EXPONENT=32;
+	public static final int FLOAT=33;
+	public static final int FOR=34;
+	public static final int FOREIGN=35;
+	public static final int FROM=36;
+	public static final int GET=37;
+	public static final int GREATER_EQUALS=38;
+	public static final int GREATER_THAN=39;
+	public static final int GROUP=40;
+	public static final int HASH=41;
+	public static final int HEX_DIGIT=42;
+	public static final int ID=43;
+	public static final int INCLUDE=44;
+	public static final int INDEX=45;
+	public static final int INSERT=46;
+	public static final int INT=47;
+	public static final int INTEGER=48;
+	public static final int INTO=49;
+	public static final int IS=50;
+	public static final int JOIN=51;
+	public static final int JSON=52;
+	public static final int KEY=53;
+	public static final int LEFT_PAR=54;
+	public static final int LESS_EQUALS=55;
+	public static final int LESS_THAN=56;
+	public static final int LIKE=57;
+	public static final int LIMIT=58;
+	public static final int LIST=59;
+	public static final int MAX=60;
+	public static final int MIN=61;
+	public static final int NEWLINE=62;
+	public static final int NOT=63;
+	public static final int NULL=64;
+	public static final int OCTAL_ESC=65;
+	public static final int OFFSET=66;
+	public static final int ON=67;
+	public static final int ORDER=68;
+	public static final int PARAM=69;
+	public static final int PRIMARY=70;
+	public static final int REFERENCES=71;
+	public static final int RIGHT_PAR=72;
+	public static final int ROLLBACK=73;
+	public static final int SELECT=74;
+	public static final int SET=75;
+	public static final int START=76;
+	public static final int STATUS=77;
+	public static final int STOP=78;
+	public static final int STRING=79;
+	public static final int TABLE=80;
+	public static final int UNICODE_ESC=81;
+	public static final int UPDATE=82;
+	public static final int VALUES=83;
+	public static final int VARCHAR=84;
+	public static final int WHERE=85;
+	public static final int WS=86;
+	public static final int XML=87;
 
 	// delegates
 	// delegators
@@ -95,14 +110,14 @@ public class urSQLLexer extends Lexer {
 	public urSQLLexer(CharStream input, RecognizerSharedState state) {
 		super(input,state);
 	}
-	@Override public String getGrammarFileName() { return "/home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g"; }
+	@Override public String getGrammarFileName() { return "urSQL.g"; }
 
 	// $ANTLR start "SELECT"
 	public final void mSELECT() throws RecognitionException {
 		try {
 			int _type = SELECT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:777:2: ( 'SELECT' | 'select' )
+			// urSQL.g:830:2: ( 'SELECT' | 'select' )
 			int alt1=2;
 			int LA1_0 = input.LA(1);
 			if ( (LA1_0=='S') ) {
@@ -120,14 +135,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt1) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:777:4: 'SELECT'
+					// urSQL.g:830:4: 'SELECT'
 					{
 					match("SELECT"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:778:4: 'select'
+					// urSQL.g:831:4: 'select'
 					{
 					match("select"); 
 
@@ -149,8 +164,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = ALL;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:782:2: ( '*' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:782:4: '*'
+			// urSQL.g:835:2: ( '*' )
+			// urSQL.g:835:4: '*'
 			{
 			match('*'); 
 			}
@@ -169,7 +184,7 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = FROM;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:786:2: ( 'FROM' | 'from' )
+			// urSQL.g:839:2: ( 'FROM' | 'from' )
 			int alt2=2;
 			int LA2_0 = input.LA(1);
 			if ( (LA2_0=='F') ) {
@@ -187,14 +202,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt2) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:786:4: 'FROM'
+					// urSQL.g:839:4: 'FROM'
 					{
 					match("FROM"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:787:4: 'from'
+					// urSQL.g:840:4: 'from'
 					{
 					match("from"); 
 
@@ -216,7 +231,7 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = JOIN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:791:2: ( 'JOIN' | 'join' )
+			// urSQL.g:844:2: ( 'JOIN' | 'join' )
 			int alt3=2;
 			int LA3_0 = input.LA(1);
 			if ( (LA3_0=='J') ) {
@@ -234,14 +249,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt3) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:791:4: 'JOIN'
+					// urSQL.g:844:4: 'JOIN'
 					{
 					match("JOIN"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:792:4: 'join'
+					// urSQL.g:845:4: 'join'
 					{
 					match("join"); 
 
@@ -263,7 +278,7 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = WHERE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:796:2: ( 'WHERE' | 'where' )
+			// urSQL.g:849:2: ( 'WHERE' | 'where' )
 			int alt4=2;
 			int LA4_0 = input.LA(1);
 			if ( (LA4_0=='W') ) {
@@ -281,14 +296,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt4) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:796:4: 'WHERE'
+					// urSQL.g:849:4: 'WHERE'
 					{
 					match("WHERE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:797:4: 'where'
+					// urSQL.g:850:4: 'where'
 					{
 					match("where"); 
 
@@ -310,8 +325,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = GREATER_THAN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:801:2: ( '>' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:801:4: '>'
+			// urSQL.g:854:2: ( '>' )
+			// urSQL.g:854:4: '>'
 			{
 			match('>'); 
 			}
@@ -330,8 +345,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = GREATER_EQUALS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:805:2: ( '>=' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:805:4: '>='
+			// urSQL.g:858:2: ( '>=' )
+			// urSQL.g:858:4: '>='
 			{
 			match(">="); 
 
@@ -351,8 +366,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = LESS_THAN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:809:2: ( '<' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:809:4: '<'
+			// urSQL.g:862:2: ( '<' )
+			// urSQL.g:862:4: '<'
 			{
 			match('<'); 
 			}
@@ -371,8 +386,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = LESS_EQUALS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:813:2: ( '<=' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:813:4: '<='
+			// urSQL.g:866:2: ( '<=' )
+			// urSQL.g:866:4: '<='
 			{
 			match("<="); 
 
@@ -392,8 +407,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = EQUALS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:817:2: ( '=' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:817:4: '='
+			// urSQL.g:870:2: ( '=' )
+			// urSQL.g:870:4: '='
 			{
 			match('='); 
 			}
@@ -412,7 +427,7 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = LIKE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:821:2: ( 'LIKE' | 'like' )
+			// urSQL.g:874:2: ( 'LIKE' | 'like' )
 			int alt5=2;
 			int LA5_0 = input.LA(1);
 			if ( (LA5_0=='L') ) {
@@ -430,14 +445,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt5) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:821:4: 'LIKE'
+					// urSQL.g:874:4: 'LIKE'
 					{
 					match("LIKE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:822:4: 'like'
+					// urSQL.g:875:4: 'like'
 					{
 					match("like"); 
 
@@ -459,7 +474,7 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = IS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:826:2: ( 'IS' | 'is' )
+			// urSQL.g:879:2: ( 'IS' | 'is' )
 			int alt6=2;
 			int LA6_0 = input.LA(1);
 			if ( (LA6_0=='I') ) {
@@ -477,14 +492,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt6) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:826:4: 'IS'
+					// urSQL.g:879:4: 'IS'
 					{
 					match("IS"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:827:4: 'is'
+					// urSQL.g:880:4: 'is'
 					{
 					match("is"); 
 
@@ -506,7 +521,7 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = GROUP;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:831:2: ( 'GROUP' | 'group' )
+			// urSQL.g:884:2: ( 'GROUP' | 'group' )
 			int alt7=2;
 			int LA7_0 = input.LA(1);
 			if ( (LA7_0=='G') ) {
@@ -524,14 +539,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt7) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:831:4: 'GROUP'
+					// urSQL.g:884:4: 'GROUP'
 					{
 					match("GROUP"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:832:4: 'group'
+					// urSQL.g:885:4: 'group'
 					{
 					match("group"); 
 
@@ -553,7 +568,7 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = BY;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:836:2: ( 'BY' | 'by' )
+			// urSQL.g:889:2: ( 'BY' | 'by' )
 			int alt8=2;
 			int LA8_0 = input.LA(1);
 			if ( (LA8_0=='B') ) {
@@ -571,14 +586,14 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt8) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:836:4: 'BY'
+					// urSQL.g:889:4: 'BY'
 					{
 					match("BY"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:837:4: 'by'
+					// urSQL.g:890:4: 'by'
 					{
 					match("by"); 
 
@@ -595,18 +610,18 @@ public class urSQLLexer extends Lexer {
 	}
 	// $ANTLR end "BY"
 
-	// $ANTLR start "FOR"
-	public final void mFOR() throws RecognitionException {
+	// $ANTLR start "ORDER"
+	public final void mORDER() throws RecognitionException {
 		try {
-			int _type = FOR;
+			int _type = ORDER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:841:2: ( 'FOR' | 'for' )
+			// urSQL.g:894:2: ( 'ORDER' | 'order' )
 			int alt9=2;
 			int LA9_0 = input.LA(1);
-			if ( (LA9_0=='F') ) {
+			if ( (LA9_0=='O') ) {
 				alt9=1;
 			}
-			else if ( (LA9_0=='f') ) {
+			else if ( (LA9_0=='o') ) {
 				alt9=2;
 			}
 
@@ -618,16 +633,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt9) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:841:4: 'FOR'
+					// urSQL.g:894:4: 'ORDER'
 					{
-					match("FOR"); 
+					match("ORDER"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:842:4: 'for'
+					// urSQL.g:895:4: 'order'
 					{
-					match("for"); 
+					match("order"); 
 
 					}
 					break;
@@ -640,20 +655,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "FOR"
+	// $ANTLR end "ORDER"
 
-	// $ANTLR start "JSON"
-	public final void mJSON() throws RecognitionException {
+	// $ANTLR start "ASC"
+	public final void mASC() throws RecognitionException {
 		try {
-			int _type = JSON;
+			int _type = ASC;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:846:2: ( 'JSON' | 'json' )
+			// urSQL.g:899:2: ( 'ASC' | 'asc' )
 			int alt10=2;
 			int LA10_0 = input.LA(1);
-			if ( (LA10_0=='J') ) {
+			if ( (LA10_0=='A') ) {
 				alt10=1;
 			}
-			else if ( (LA10_0=='j') ) {
+			else if ( (LA10_0=='a') ) {
 				alt10=2;
 			}
 
@@ -665,16 +680,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt10) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:846:4: 'JSON'
+					// urSQL.g:899:4: 'ASC'
 					{
-					match("JSON"); 
+					match("ASC"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:847:4: 'json'
+					// urSQL.g:900:4: 'asc'
 					{
-					match("json"); 
+					match("asc"); 
 
 					}
 					break;
@@ -687,20 +702,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "JSON"
+	// $ANTLR end "ASC"
 
-	// $ANTLR start "XML"
-	public final void mXML() throws RecognitionException {
+	// $ANTLR start "DESC"
+	public final void mDESC() throws RecognitionException {
 		try {
-			int _type = XML;
+			int _type = DESC;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:851:2: ( 'XML' | 'xml' )
+			// urSQL.g:904:2: ( 'DESC' | 'desc' )
 			int alt11=2;
 			int LA11_0 = input.LA(1);
-			if ( (LA11_0=='X') ) {
+			if ( (LA11_0=='D') ) {
 				alt11=1;
 			}
-			else if ( (LA11_0=='x') ) {
+			else if ( (LA11_0=='d') ) {
 				alt11=2;
 			}
 
@@ -712,16 +727,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt11) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:851:4: 'XML'
+					// urSQL.g:904:4: 'DESC'
 					{
-					match("XML"); 
+					match("DESC"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:852:4: 'xml'
+					// urSQL.g:905:4: 'desc'
 					{
-					match("xml"); 
+					match("desc"); 
 
 					}
 					break;
@@ -734,20 +749,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "XML"
+	// $ANTLR end "DESC"
 
-	// $ANTLR start "COUNT"
-	public final void mCOUNT() throws RecognitionException {
+	// $ANTLR start "LIMIT"
+	public final void mLIMIT() throws RecognitionException {
 		try {
-			int _type = COUNT;
+			int _type = LIMIT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:856:2: ( 'COUNT' | 'count' )
+			// urSQL.g:909:2: ( 'LIMIT' | 'limit' )
 			int alt12=2;
 			int LA12_0 = input.LA(1);
-			if ( (LA12_0=='C') ) {
+			if ( (LA12_0=='L') ) {
 				alt12=1;
 			}
-			else if ( (LA12_0=='c') ) {
+			else if ( (LA12_0=='l') ) {
 				alt12=2;
 			}
 
@@ -759,16 +774,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt12) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:856:4: 'COUNT'
+					// urSQL.g:909:4: 'LIMIT'
 					{
-					match("COUNT"); 
+					match("LIMIT"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:857:4: 'count'
+					// urSQL.g:910:4: 'limit'
 					{
-					match("count"); 
+					match("limit"); 
 
 					}
 					break;
@@ -781,20 +796,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "COUNT"
+	// $ANTLR end "LIMIT"
 
-	// $ANTLR start "AVERAGE"
-	public final void mAVERAGE() throws RecognitionException {
+	// $ANTLR start "OFFSET"
+	public final void mOFFSET() throws RecognitionException {
 		try {
-			int _type = AVERAGE;
+			int _type = OFFSET;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:861:2: ( 'AVERAGE' | 'average' )
+			// urSQL.g:914:2: ( 'OFFSET' | 'offset' )
 			int alt13=2;
 			int LA13_0 = input.LA(1);
-			if ( (LA13_0=='A') ) {
+			if ( (LA13_0=='O') ) {
 				alt13=1;
 			}
-			else if ( (LA13_0=='a') ) {
+			else if ( (LA13_0=='o') ) {
 				alt13=2;
 			}
 
@@ -806,16 +821,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt13) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:861:4: 'AVERAGE'
+					// urSQL.g:914:4: 'OFFSET'
 					{
-					match("AVERAGE"); 
+					match("OFFSET"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:862:4: 'average'
+					// urSQL.g:915:4: 'offset'
 					{
-					match("average"); 
+					match("offset"); 
 
 					}
 					break;
@@ -828,20 +843,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "AVERAGE"
+	// $ANTLR end "OFFSET"
 
-	// $ANTLR start "MIN"
-	public final void mMIN() throws RecognitionException {
+	// $ANTLR start "FOR"
+	public final void mFOR() throws RecognitionException {
 		try {
-			int _type = MIN;
+			int _type = FOR;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:866:2: ( 'MIN' | 'min' )
+			// urSQL.g:919:2: ( 'FOR' | 'for' )
 			int alt14=2;
 			int LA14_0 = input.LA(1);
-			if ( (LA14_0=='M') ) {
+			if ( (LA14_0=='F') ) {
 				alt14=1;
 			}
-			else if ( (LA14_0=='m') ) {
+			else if ( (LA14_0=='f') ) {
 				alt14=2;
 			}
 
@@ -853,16 +868,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt14) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:866:4: 'MIN'
+					// urSQL.g:919:4: 'FOR'
 					{
-					match("MIN"); 
+					match("FOR"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:867:4: 'min'
+					// urSQL.g:920:4: 'for'
 					{
-					match("min"); 
+					match("for"); 
 
 					}
 					break;
@@ -875,20 +890,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "MIN"
+	// $ANTLR end "FOR"
 
-	// $ANTLR start "MAX"
-	public final void mMAX() throws RecognitionException {
+	// $ANTLR start "JSON"
+	public final void mJSON() throws RecognitionException {
 		try {
-			int _type = MAX;
+			int _type = JSON;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:871:2: ( 'MAX' | 'max' )
+			// urSQL.g:924:2: ( 'JSON' | 'json' )
 			int alt15=2;
 			int LA15_0 = input.LA(1);
-			if ( (LA15_0=='M') ) {
+			if ( (LA15_0=='J') ) {
 				alt15=1;
 			}
-			else if ( (LA15_0=='m') ) {
+			else if ( (LA15_0=='j') ) {
 				alt15=2;
 			}
 
@@ -900,16 +915,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt15) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:871:4: 'MAX'
+					// urSQL.g:924:4: 'JSON'
 					{
-					match("MAX"); 
+					match("JSON"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:872:4: 'max'
+					// urSQL.g:925:4: 'json'
 					{
-					match("max"); 
+					match("json"); 
 
 					}
 					break;
@@ -922,20 +937,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "MAX"
+	// $ANTLR end "JSON"
 
-	// $ANTLR start "UPDATE"
-	public final void mUPDATE() throws RecognitionException {
+	// $ANTLR start "XML"
+	public final void mXML() throws RecognitionException {
 		try {
-			int _type = UPDATE;
+			int _type = XML;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:876:2: ( 'UPDATE' | 'update' )
+			// urSQL.g:929:2: ( 'XML' | 'xml' )
 			int alt16=2;
 			int LA16_0 = input.LA(1);
-			if ( (LA16_0=='U') ) {
+			if ( (LA16_0=='X') ) {
 				alt16=1;
 			}
-			else if ( (LA16_0=='u') ) {
+			else if ( (LA16_0=='x') ) {
 				alt16=2;
 			}
 
@@ -947,16 +962,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt16) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:876:4: 'UPDATE'
+					// urSQL.g:929:4: 'XML'
 					{
-					match("UPDATE"); 
+					match("XML"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:877:4: 'update'
+					// urSQL.g:930:4: 'xml'
 					{
-					match("update"); 
+					match("xml"); 
 
 					}
 					break;
@@ -969,20 +984,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "UPDATE"
+	// $ANTLR end "XML"
 
-	// $ANTLR start "DELETE"
-	public final void mDELETE() throws RecognitionException {
+	// $ANTLR start "COUNT"
+	public final void mCOUNT() throws RecognitionException {
 		try {
-			int _type = DELETE;
+			int _type = COUNT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:881:2: ( 'DELETE' | 'delete' )
+			// urSQL.g:934:2: ( 'COUNT' | 'count' )
 			int alt17=2;
 			int LA17_0 = input.LA(1);
-			if ( (LA17_0=='D') ) {
+			if ( (LA17_0=='C') ) {
 				alt17=1;
 			}
-			else if ( (LA17_0=='d') ) {
+			else if ( (LA17_0=='c') ) {
 				alt17=2;
 			}
 
@@ -994,16 +1009,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt17) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:881:4: 'DELETE'
+					// urSQL.g:934:4: 'COUNT'
 					{
-					match("DELETE"); 
+					match("COUNT"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:882:4: 'delete'
+					// urSQL.g:935:4: 'count'
 					{
-					match("delete"); 
+					match("count"); 
 
 					}
 					break;
@@ -1016,20 +1031,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DELETE"
+	// $ANTLR end "COUNT"
 
-	// $ANTLR start "INSERT"
-	public final void mINSERT() throws RecognitionException {
+	// $ANTLR start "AVERAGE"
+	public final void mAVERAGE() throws RecognitionException {
 		try {
-			int _type = INSERT;
+			int _type = AVERAGE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:886:2: ( 'INSERT' | 'insert' )
+			// urSQL.g:939:2: ( 'AVERAGE' | 'average' )
 			int alt18=2;
 			int LA18_0 = input.LA(1);
-			if ( (LA18_0=='I') ) {
+			if ( (LA18_0=='A') ) {
 				alt18=1;
 			}
-			else if ( (LA18_0=='i') ) {
+			else if ( (LA18_0=='a') ) {
 				alt18=2;
 			}
 
@@ -1041,16 +1056,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt18) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:886:4: 'INSERT'
+					// urSQL.g:939:4: 'AVERAGE'
 					{
-					match("INSERT"); 
+					match("AVERAGE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:887:4: 'insert'
+					// urSQL.g:940:4: 'average'
 					{
-					match("insert"); 
+					match("average"); 
 
 					}
 					break;
@@ -1063,20 +1078,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "INSERT"
+	// $ANTLR end "AVERAGE"
 
-	// $ANTLR start "INTO"
-	public final void mINTO() throws RecognitionException {
+	// $ANTLR start "MIN"
+	public final void mMIN() throws RecognitionException {
 		try {
-			int _type = INTO;
+			int _type = MIN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:891:2: ( 'INTO' | 'into' )
+			// urSQL.g:944:2: ( 'MIN' | 'min' )
 			int alt19=2;
 			int LA19_0 = input.LA(1);
-			if ( (LA19_0=='I') ) {
+			if ( (LA19_0=='M') ) {
 				alt19=1;
 			}
-			else if ( (LA19_0=='i') ) {
+			else if ( (LA19_0=='m') ) {
 				alt19=2;
 			}
 
@@ -1088,16 +1103,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt19) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:891:4: 'INTO'
+					// urSQL.g:944:4: 'MIN'
 					{
-					match("INTO"); 
+					match("MIN"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:892:4: 'into'
+					// urSQL.g:945:4: 'min'
 					{
-					match("into"); 
+					match("min"); 
 
 					}
 					break;
@@ -1110,20 +1125,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "INTO"
+	// $ANTLR end "MIN"
 
-	// $ANTLR start "VALUES"
-	public final void mVALUES() throws RecognitionException {
+	// $ANTLR start "MAX"
+	public final void mMAX() throws RecognitionException {
 		try {
-			int _type = VALUES;
+			int _type = MAX;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:896:2: ( 'VALUES' | 'values' )
+			// urSQL.g:949:2: ( 'MAX' | 'max' )
 			int alt20=2;
 			int LA20_0 = input.LA(1);
-			if ( (LA20_0=='V') ) {
+			if ( (LA20_0=='M') ) {
 				alt20=1;
 			}
-			else if ( (LA20_0=='v') ) {
+			else if ( (LA20_0=='m') ) {
 				alt20=2;
 			}
 
@@ -1135,16 +1150,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt20) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:896:4: 'VALUES'
+					// urSQL.g:949:4: 'MAX'
 					{
-					match("VALUES"); 
+					match("MAX"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:897:4: 'values'
+					// urSQL.g:950:4: 'max'
 					{
-					match("values"); 
+					match("max"); 
 
 					}
 					break;
@@ -1157,20 +1172,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "VALUES"
+	// $ANTLR end "MAX"
 
-	// $ANTLR start "CREATE"
-	public final void mCREATE() throws RecognitionException {
+	// $ANTLR start "UPDATE"
+	public final void mUPDATE() throws RecognitionException {
 		try {
-			int _type = CREATE;
+			int _type = UPDATE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:901:2: ( 'CREATE' | 'create' )
+			// urSQL.g:954:2: ( 'UPDATE' | 'update' )
 			int alt21=2;
 			int LA21_0 = input.LA(1);
-			if ( (LA21_0=='C') ) {
+			if ( (LA21_0=='U') ) {
 				alt21=1;
 			}
-			else if ( (LA21_0=='c') ) {
+			else if ( (LA21_0=='u') ) {
 				alt21=2;
 			}
 
@@ -1182,16 +1197,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt21) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:901:4: 'CREATE'
+					// urSQL.g:954:4: 'UPDATE'
 					{
-					match("CREATE"); 
+					match("UPDATE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:902:4: 'create'
+					// urSQL.g:955:4: 'update'
 					{
-					match("create"); 
+					match("update"); 
 
 					}
 					break;
@@ -1204,14 +1219,14 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "CREATE"
+	// $ANTLR end "UPDATE"
 
-	// $ANTLR start "DATABASE"
-	public final void mDATABASE() throws RecognitionException {
+	// $ANTLR start "DELETE"
+	public final void mDELETE() throws RecognitionException {
 		try {
-			int _type = DATABASE;
+			int _type = DELETE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:906:2: ( 'DATABASE' | 'database' )
+			// urSQL.g:959:2: ( 'DELETE' | 'delete' )
 			int alt22=2;
 			int LA22_0 = input.LA(1);
 			if ( (LA22_0=='D') ) {
@@ -1229,16 +1244,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt22) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:906:4: 'DATABASE'
+					// urSQL.g:959:4: 'DELETE'
 					{
-					match("DATABASE"); 
+					match("DELETE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:907:4: 'database'
+					// urSQL.g:960:4: 'delete'
 					{
-					match("database"); 
+					match("delete"); 
 
 					}
 					break;
@@ -1251,20 +1266,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DATABASE"
+	// $ANTLR end "DELETE"
 
-	// $ANTLR start "DROP"
-	public final void mDROP() throws RecognitionException {
+	// $ANTLR start "INSERT"
+	public final void mINSERT() throws RecognitionException {
 		try {
-			int _type = DROP;
+			int _type = INSERT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:911:2: ( 'DROP' | 'drop' )
+			// urSQL.g:964:2: ( 'INSERT' | 'insert' )
 			int alt23=2;
 			int LA23_0 = input.LA(1);
-			if ( (LA23_0=='D') ) {
+			if ( (LA23_0=='I') ) {
 				alt23=1;
 			}
-			else if ( (LA23_0=='d') ) {
+			else if ( (LA23_0=='i') ) {
 				alt23=2;
 			}
 
@@ -1276,16 +1291,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt23) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:911:4: 'DROP'
+					// urSQL.g:964:4: 'INSERT'
 					{
-					match("DROP"); 
+					match("INSERT"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:912:4: 'drop'
+					// urSQL.g:965:4: 'insert'
 					{
-					match("drop"); 
+					match("insert"); 
 
 					}
 					break;
@@ -1298,20 +1313,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DROP"
+	// $ANTLR end "INSERT"
 
-	// $ANTLR start "LIST"
-	public final void mLIST() throws RecognitionException {
+	// $ANTLR start "INTO"
+	public final void mINTO() throws RecognitionException {
 		try {
-			int _type = LIST;
+			int _type = INTO;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:916:2: ( 'LIST' | 'list' )
+			// urSQL.g:969:2: ( 'INTO' | 'into' )
 			int alt24=2;
 			int LA24_0 = input.LA(1);
-			if ( (LA24_0=='L') ) {
+			if ( (LA24_0=='I') ) {
 				alt24=1;
 			}
-			else if ( (LA24_0=='l') ) {
+			else if ( (LA24_0=='i') ) {
 				alt24=2;
 			}
 
@@ -1323,16 +1338,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt24) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:916:4: 'LIST'
+					// urSQL.g:969:4: 'INTO'
 					{
-					match("LIST"); 
+					match("INTO"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:917:4: 'list'
+					// urSQL.g:970:4: 'into'
 					{
-					match("list"); 
+					match("into"); 
 
 					}
 					break;
@@ -1345,20 +1360,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "LIST"
+	// $ANTLR end "INTO"
 
-	// $ANTLR start "DATABASES"
-	public final void mDATABASES() throws RecognitionException {
+	// $ANTLR start "VALUES"
+	public final void mVALUES() throws RecognitionException {
 		try {
-			int _type = DATABASES;
+			int _type = VALUES;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:921:2: ( 'DATABASES' | 'databases' )
+			// urSQL.g:974:2: ( 'VALUES' | 'values' )
 			int alt25=2;
 			int LA25_0 = input.LA(1);
-			if ( (LA25_0=='D') ) {
+			if ( (LA25_0=='V') ) {
 				alt25=1;
 			}
-			else if ( (LA25_0=='d') ) {
+			else if ( (LA25_0=='v') ) {
 				alt25=2;
 			}
 
@@ -1370,16 +1385,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt25) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:921:4: 'DATABASES'
+					// urSQL.g:974:4: 'VALUES'
 					{
-					match("DATABASES"); 
+					match("VALUES"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:922:4: 'databases'
+					// urSQL.g:975:4: 'values'
 					{
-					match("databases"); 
+					match("values"); 
 
 					}
 					break;
@@ -1392,20 +1407,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DATABASES"
+	// $ANTLR end "VALUES"
 
-	// $ANTLR start "START"
-	public final void mSTART() throws RecognitionException {
+	// $ANTLR start "CREATE"
+	public final void mCREATE() throws RecognitionException {
 		try {
-			int _type = START;
+			int _type = CREATE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:926:2: ( 'START' | 'start' )
+			// urSQL.g:979:2: ( 'CREATE' | 'create' )
 			int alt26=2;
 			int LA26_0 = input.LA(1);
-			if ( (LA26_0=='S') ) {
+			if ( (LA26_0=='C') ) {
 				alt26=1;
 			}
-			else if ( (LA26_0=='s') ) {
+			else if ( (LA26_0=='c') ) {
 				alt26=2;
 			}
 
@@ -1417,16 +1432,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt26) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:926:4: 'START'
+					// urSQL.g:979:4: 'CREATE'
 					{
-					match("START"); 
+					match("CREATE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:927:4: 'start'
+					// urSQL.g:980:4: 'create'
 					{
-					match("start"); 
+					match("create"); 
 
 					}
 					break;
@@ -1439,20 +1454,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "START"
+	// $ANTLR end "CREATE"
 
-	// $ANTLR start "GET"
-	public final void mGET() throws RecognitionException {
+	// $ANTLR start "DATABASE"
+	public final void mDATABASE() throws RecognitionException {
 		try {
-			int _type = GET;
+			int _type = DATABASE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:931:2: ( 'GET' | 'get' )
+			// urSQL.g:984:2: ( 'DATABASE' | 'database' )
 			int alt27=2;
 			int LA27_0 = input.LA(1);
-			if ( (LA27_0=='G') ) {
+			if ( (LA27_0=='D') ) {
 				alt27=1;
 			}
-			else if ( (LA27_0=='g') ) {
+			else if ( (LA27_0=='d') ) {
 				alt27=2;
 			}
 
@@ -1464,16 +1479,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt27) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:931:4: 'GET'
+					// urSQL.g:984:4: 'DATABASE'
 					{
-					match("GET"); 
+					match("DATABASE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:932:4: 'get'
+					// urSQL.g:985:4: 'database'
 					{
-					match("get"); 
+					match("database"); 
 
 					}
 					break;
@@ -1486,20 +1501,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "GET"
+	// $ANTLR end "DATABASE"
 
-	// $ANTLR start "STATUS"
-	public final void mSTATUS() throws RecognitionException {
+	// $ANTLR start "DROP"
+	public final void mDROP() throws RecognitionException {
 		try {
-			int _type = STATUS;
+			int _type = DROP;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:936:2: ( 'STATUS' | 'status' )
+			// urSQL.g:989:2: ( 'DROP' | 'drop' )
 			int alt28=2;
 			int LA28_0 = input.LA(1);
-			if ( (LA28_0=='S') ) {
+			if ( (LA28_0=='D') ) {
 				alt28=1;
 			}
-			else if ( (LA28_0=='s') ) {
+			else if ( (LA28_0=='d') ) {
 				alt28=2;
 			}
 
@@ -1511,16 +1526,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt28) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:936:4: 'STATUS'
+					// urSQL.g:989:4: 'DROP'
 					{
-					match("STATUS"); 
+					match("DROP"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:937:4: 'status'
+					// urSQL.g:990:4: 'drop'
 					{
-					match("status"); 
+					match("drop"); 
 
 					}
 					break;
@@ -1533,20 +1548,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "STATUS"
+	// $ANTLR end "DROP"
 
-	// $ANTLR start "STOP"
-	public final void mSTOP() throws RecognitionException {
+	// $ANTLR start "LIST"
+	public final void mLIST() throws RecognitionException {
 		try {
-			int _type = STOP;
+			int _type = LIST;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:941:2: ( 'STOP' | 'stop' )
+			// urSQL.g:994:2: ( 'LIST' | 'list' )
 			int alt29=2;
 			int LA29_0 = input.LA(1);
-			if ( (LA29_0=='S') ) {
+			if ( (LA29_0=='L') ) {
 				alt29=1;
 			}
-			else if ( (LA29_0=='s') ) {
+			else if ( (LA29_0=='l') ) {
 				alt29=2;
 			}
 
@@ -1558,16 +1573,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt29) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:941:4: 'STOP'
+					// urSQL.g:994:4: 'LIST'
 					{
-					match("STOP"); 
+					match("LIST"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:942:4: 'stop'
+					// urSQL.g:995:4: 'list'
 					{
-					match("stop"); 
+					match("list"); 
 
 					}
 					break;
@@ -1580,14 +1595,14 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "STOP"
+	// $ANTLR end "LIST"
 
-	// $ANTLR start "DISPLAY"
-	public final void mDISPLAY() throws RecognitionException {
+	// $ANTLR start "DATABASES"
+	public final void mDATABASES() throws RecognitionException {
 		try {
-			int _type = DISPLAY;
+			int _type = DATABASES;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:946:2: ( 'DISPLAY' | 'display' )
+			// urSQL.g:999:2: ( 'DATABASES' | 'databases' )
 			int alt30=2;
 			int LA30_0 = input.LA(1);
 			if ( (LA30_0=='D') ) {
@@ -1605,16 +1620,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt30) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:946:4: 'DISPLAY'
+					// urSQL.g:999:4: 'DATABASES'
 					{
-					match("DISPLAY"); 
+					match("DATABASES"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:947:4: 'display'
+					// urSQL.g:1000:4: 'databases'
 					{
-					match("display"); 
+					match("databases"); 
 
 					}
 					break;
@@ -1627,41 +1642,21 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DISPLAY"
+	// $ANTLR end "DATABASES"
 
-	// $ANTLR start "NEWLINE"
-	public final void mNEWLINE() throws RecognitionException {
+	// $ANTLR start "START"
+	public final void mSTART() throws RecognitionException {
 		try {
-			int _type = NEWLINE;
+			int _type = START;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:951:2: ( '\\n' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:951:4: '\\n'
-			{
-			match('\n'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "NEWLINE"
-
-	// $ANTLR start "SET"
-	public final void mSET() throws RecognitionException {
-		try {
-			int _type = SET;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:955:2: ( 'SET' | 'set' )
-			int alt31=2;
-			int LA31_0 = input.LA(1);
-			if ( (LA31_0=='S') ) {
-				alt31=1;
-			}
-			else if ( (LA31_0=='s') ) {
-				alt31=2;
+			// urSQL.g:1004:2: ( 'START' | 'start' )
+			int alt31=2;
+			int LA31_0 = input.LA(1);
+			if ( (LA31_0=='S') ) {
+				alt31=1;
+			}
+			else if ( (LA31_0=='s') ) {
+				alt31=2;
 			}
 
 			else {
@@ -1672,16 +1667,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt31) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:955:4: 'SET'
+					// urSQL.g:1004:4: 'START'
 					{
-					match("SET"); 
+					match("START"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:956:4: 'set'
+					// urSQL.g:1005:4: 'start'
 					{
-					match("set"); 
+					match("start"); 
 
 					}
 					break;
@@ -1694,20 +1689,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "SET"
+	// $ANTLR end "START"
 
-	// $ANTLR start "INDEX"
-	public final void mINDEX() throws RecognitionException {
+	// $ANTLR start "GET"
+	public final void mGET() throws RecognitionException {
 		try {
-			int _type = INDEX;
+			int _type = GET;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:960:2: ( 'INDEX' | 'index' )
+			// urSQL.g:1009:2: ( 'GET' | 'get' )
 			int alt32=2;
 			int LA32_0 = input.LA(1);
-			if ( (LA32_0=='I') ) {
+			if ( (LA32_0=='G') ) {
 				alt32=1;
 			}
-			else if ( (LA32_0=='i') ) {
+			else if ( (LA32_0=='g') ) {
 				alt32=2;
 			}
 
@@ -1719,16 +1714,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt32) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:960:4: 'INDEX'
+					// urSQL.g:1009:4: 'GET'
 					{
-					match("INDEX"); 
+					match("GET"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:961:4: 'index'
+					// urSQL.g:1010:4: 'get'
 					{
-					match("index"); 
+					match("get"); 
 
 					}
 					break;
@@ -1741,20 +1736,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "INDEX"
+	// $ANTLR end "GET"
 
-	// $ANTLR start "ON"
-	public final void mON() throws RecognitionException {
+	// $ANTLR start "STATUS"
+	public final void mSTATUS() throws RecognitionException {
 		try {
-			int _type = ON;
+			int _type = STATUS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:965:2: ( 'ON' | 'on' )
+			// urSQL.g:1014:2: ( 'STATUS' | 'status' )
 			int alt33=2;
 			int LA33_0 = input.LA(1);
-			if ( (LA33_0=='O') ) {
+			if ( (LA33_0=='S') ) {
 				alt33=1;
 			}
-			else if ( (LA33_0=='o') ) {
+			else if ( (LA33_0=='s') ) {
 				alt33=2;
 			}
 
@@ -1766,16 +1761,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt33) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:965:4: 'ON'
+					// urSQL.g:1014:4: 'STATUS'
 					{
-					match("ON"); 
+					match("STATUS"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:966:4: 'on'
+					// urSQL.g:1015:4: 'status'
 					{
-					match("on"); 
+					match("status"); 
 
 					}
 					break;
@@ -1788,20 +1783,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "ON"
+	// $ANTLR end "STATUS"
 
-	// $ANTLR start "TABLE"
-	public final void mTABLE() throws RecognitionException {
+	// $ANTLR start "STOP"
+	public final void mSTOP() throws RecognitionException {
 		try {
-			int _type = TABLE;
+			int _type = STOP;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:970:2: ( 'TABLE' | 'table' )
+			// urSQL.g:1019:2: ( 'STOP' | 'stop' )
 			int alt34=2;
 			int LA34_0 = input.LA(1);
-			if ( (LA34_0=='T') ) {
+			if ( (LA34_0=='S') ) {
 				alt34=1;
 			}
-			else if ( (LA34_0=='t') ) {
+			else if ( (LA34_0=='s') ) {
 				alt34=2;
 			}
 
@@ -1813,16 +1808,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt34) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:970:4: 'TABLE'
+					// urSQL.g:1019:4: 'STOP'
 					{
-					match("TABLE"); 
+					match("STOP"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:971:4: 'table'
+					// urSQL.g:1020:4: 'stop'
 					{
-					match("table"); 
+					match("stop"); 
 
 					}
 					break;
@@ -1835,20 +1830,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "TABLE"
+	// $ANTLR end "STOP"
 
-	// $ANTLR start "ALTER"
-	public final void mALTER() throws RecognitionException {
+	// $ANTLR start "BEGIN"
+	public final void mBEGIN() throws RecognitionException {
 		try {
-			int _type = ALTER;
+			int _type = BEGIN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:975:2: ( 'ALTER' | 'alter' )
+			// urSQL.g:1024:2: ( 'BEGIN' | 'begin' )
 			int alt35=2;
 			int LA35_0 = input.LA(1);
-			if ( (LA35_0=='A') ) {
+			if ( (LA35_0=='B') ) {
 				alt35=1;
 			}
-			else if ( (LA35_0=='a') ) {
+			else if ( (LA35_0=='b') ) {
 				alt35=2;
 			}
 
@@ -1860,16 +1855,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt35) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:975:4: 'ALTER'
+					// urSQL.g:1024:4: 'BEGIN'
 					{
-					match("ALTER"); 
+					match("BEGIN"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:976:4: 'alter'
+					// urSQL.g:1025:4: 'begin'
 					{
-					match("alter"); 
+					match("begin"); 
 
 					}
 					break;
@@ -1882,20 +1877,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "ALTER"
+	// $ANTLR end "BEGIN"
 
-	// $ANTLR start "ADD"
-	public final void mADD() throws RecognitionException {
+	// $ANTLR start "COMMIT"
+	public final void mCOMMIT() throws RecognitionException {
 		try {
-			int _type = ADD;
+			int _type = COMMIT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:980:2: ( 'ADD' | 'add' )
+			// urSQL.g:1029:2: ( 'COMMIT' | 'commit' )
 			int alt36=2;
 			int LA36_0 = input.LA(1);
-			if ( (LA36_0=='A') ) {
+			if ( (LA36_0=='C') ) {
 				alt36=1;
 			}
-			else if ( (LA36_0=='a') ) {
+			else if ( (LA36_0=='c') ) {
 				alt36=2;
 			}
 
@@ -1907,16 +1902,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt36) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:980:4: 'ADD'
+					// urSQL.g:1029:4: 'COMMIT'
 					{
-					match("ADD"); 
+					match("COMMIT"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:981:4: 'add'
+					// urSQL.g:1030:4: 'commit'
 					{
-					match("add"); 
+					match("commit"); 
 
 					}
 					break;
@@ -1929,20 +1924,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "ADD"
+	// $ANTLR end "COMMIT"
 
-	// $ANTLR start "CONSTRAINT"
-	public final void mCONSTRAINT() throws RecognitionException {
+	// $ANTLR start "ROLLBACK"
+	public final void mROLLBACK() throws RecognitionException {
 		try {
-			int _type = CONSTRAINT;
+			int _type = ROLLBACK;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:985:2: ( 'CONSTRAINT' | 'constraint' )
+			// urSQL.g:1034:2: ( 'ROLLBACK' | 'rollback' )
 			int alt37=2;
 			int LA37_0 = input.LA(1);
-			if ( (LA37_0=='C') ) {
+			if ( (LA37_0=='R') ) {
 				alt37=1;
 			}
-			else if ( (LA37_0=='c') ) {
+			else if ( (LA37_0=='r') ) {
 				alt37=2;
 			}
 
@@ -1954,16 +1949,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt37) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:985:4: 'CONSTRAINT'
+					// urSQL.g:1034:4: 'ROLLBACK'
 					{
-					match("CONSTRAINT"); 
+					match("ROLLBACK"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:986:4: 'constraint'
+					// urSQL.g:1035:4: 'rollback'
 					{
-					match("constraint"); 
+					match("rollback"); 
 
 					}
 					break;
@@ -1976,20 +1971,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "CONSTRAINT"
+	// $ANTLR end "ROLLBACK"
 
-	// $ANTLR start "FOREIGN"
-	public final void mFOREIGN() throws RecognitionException {
+	// $ANTLR start "DISPLAY"
+	public final void mDISPLAY() throws RecognitionException {
 		try {
-			int _type = FOREIGN;
+			int _type = DISPLAY;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:990:2: ( 'FOREIGN' | 'foreign' )
+			// urSQL.g:1039:2: ( 'DISPLAY' | 'display' )
 			int alt38=2;
 			int LA38_0 = input.LA(1);
-			if ( (LA38_0=='F') ) {
+			if ( (LA38_0=='D') ) {
 				alt38=1;
 			}
-			else if ( (LA38_0=='f') ) {
+			else if ( (LA38_0=='d') ) {
 				alt38=2;
 			}
 
@@ -2001,16 +1996,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt38) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:990:4: 'FOREIGN'
+					// urSQL.g:1039:4: 'DISPLAY'
 					{
-					match("FOREIGN"); 
+					match("DISPLAY"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:991:4: 'foreign'
+					// urSQL.g:1040:4: 'display'
 					{
-					match("foreign"); 
+					match("display"); 
 
 					}
 					break;
@@ -2023,20 +2018,40 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "FOREIGN"
+	// $ANTLR end "DISPLAY"
 
-	// $ANTLR start "KEY"
-	public final void mKEY() throws RecognitionException {
+	// $ANTLR start "NEWLINE"
+	public final void mNEWLINE() throws RecognitionException {
 		try {
-			int _type = KEY;
+			int _type = NEWLINE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:995:2: ( 'KEY' | 'key' )
+			// urSQL.g:1044:2: ( '\\n' )
+			// urSQL.g:1044:4: '\\n'
+			{
+			match('\n'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "NEWLINE"
+
+	// $ANTLR start "SET"
+	public final void mSET() throws RecognitionException {
+		try {
+			int _type = SET;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1048:2: ( 'SET' | 'set' )
 			int alt39=2;
 			int LA39_0 = input.LA(1);
-			if ( (LA39_0=='K') ) {
+			if ( (LA39_0=='S') ) {
 				alt39=1;
 			}
-			else if ( (LA39_0=='k') ) {
+			else if ( (LA39_0=='s') ) {
 				alt39=2;
 			}
 
@@ -2048,16 +2063,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt39) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:995:4: 'KEY'
+					// urSQL.g:1048:4: 'SET'
 					{
-					match("KEY"); 
+					match("SET"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:996:4: 'key'
+					// urSQL.g:1049:4: 'set'
 					{
-					match("key"); 
+					match("set"); 
 
 					}
 					break;
@@ -2070,20 +2085,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "KEY"
+	// $ANTLR end "SET"
 
-	// $ANTLR start "REFERENCES"
-	public final void mREFERENCES() throws RecognitionException {
+	// $ANTLR start "INDEX"
+	public final void mINDEX() throws RecognitionException {
 		try {
-			int _type = REFERENCES;
+			int _type = INDEX;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1000:2: ( 'REFERENCES' | 'references' )
+			// urSQL.g:1053:2: ( 'INDEX' | 'index' )
 			int alt40=2;
 			int LA40_0 = input.LA(1);
-			if ( (LA40_0=='R') ) {
+			if ( (LA40_0=='I') ) {
 				alt40=1;
 			}
-			else if ( (LA40_0=='r') ) {
+			else if ( (LA40_0=='i') ) {
 				alt40=2;
 			}
 
@@ -2095,16 +2110,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt40) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1000:4: 'REFERENCES'
+					// urSQL.g:1053:4: 'INDEX'
 					{
-					match("REFERENCES"); 
+					match("INDEX"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1001:4: 'references'
+					// urSQL.g:1054:4: 'index'
 					{
-					match("references"); 
+					match("index"); 
 
 					}
 					break;
@@ -2117,20 +2132,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "REFERENCES"
+	// $ANTLR end "INDEX"
 
-	// $ANTLR start "AS"
-	public final void mAS() throws RecognitionException {
+	// $ANTLR start "INCLUDE"
+	public final void mINCLUDE() throws RecognitionException {
 		try {
-			int _type = AS;
+			int _type = INCLUDE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1005:2: ( 'AS' | 'as' )
+			// urSQL.g:1058:2: ( 'INCLUDE' | 'include' )
 			int alt41=2;
 			int LA41_0 = input.LA(1);
-			if ( (LA41_0=='A') ) {
+			if ( (LA41_0=='I') ) {
 				alt41=1;
 			}
-			else if ( (LA41_0=='a') ) {
+			else if ( (LA41_0=='i') ) {
 				alt41=2;
 			}
 
@@ -2142,16 +2157,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt41) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1005:4: 'AS'
+					// urSQL.g:1058:4: 'INCLUDE'
 					{
-					match("AS"); 
+					match("INCLUDE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1006:4: 'as'
+					// urSQL.g:1059:4: 'include'
 					{
-					match("as"); 
+					match("include"); 
 
 					}
 					break;
@@ -2164,20 +2179,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "AS"
+	// $ANTLR end "INCLUDE"
 
-	// $ANTLR start "INTEGER"
-	public final void mINTEGER() throws RecognitionException {
+	// $ANTLR start "HASH"
+	public final void mHASH() throws RecognitionException {
 		try {
-			int _type = INTEGER;
+			int _type = HASH;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1010:2: ( 'INTEGER' | 'integer' )
+			// urSQL.g:1063:2: ( 'HASH' | 'hash' )
 			int alt42=2;
 			int LA42_0 = input.LA(1);
-			if ( (LA42_0=='I') ) {
+			if ( (LA42_0=='H') ) {
 				alt42=1;
 			}
-			else if ( (LA42_0=='i') ) {
+			else if ( (LA42_0=='h') ) {
 				alt42=2;
 			}
 
@@ -2189,16 +2204,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt42) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1010:4: 'INTEGER'
+					// urSQL.g:1063:4: 'HASH'
 					{
-					match("INTEGER"); 
+					match("HASH"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1011:4: 'integer'
+					// urSQL.g:1064:4: 'hash'
 					{
-					match("integer"); 
+					match("hash"); 
 
 					}
 					break;
@@ -2211,20 +2226,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "INTEGER"
+	// $ANTLR end "HASH"
 
-	// $ANTLR start "DECIMAL"
-	public final void mDECIMAL() throws RecognitionException {
+	// $ANTLR start "ANALYZE"
+	public final void mANALYZE() throws RecognitionException {
 		try {
-			int _type = DECIMAL;
+			int _type = ANALYZE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1015:2: ( 'DECIMAL' | 'decimal' )
+			// urSQL.g:1068:2: ( 'ANALYZE' | 'analyze' )
 			int alt43=2;
 			int LA43_0 = input.LA(1);
-			if ( (LA43_0=='D') ) {
+			if ( (LA43_0=='A') ) {
 				alt43=1;
 			}
-			else if ( (LA43_0=='d') ) {
+			else if ( (LA43_0=='a') ) {
 				alt43=2;
 			}
 
@@ -2236,16 +2251,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt43) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1015:4: 'DECIMAL'
+					// urSQL.g:1068:4: 'ANALYZE'
 					{
-					match("DECIMAL"); 
+					match("ANALYZE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1016:4: 'decimal'
+					// urSQL.g:1069:4: 'analyze'
 					{
-					match("decimal"); 
+					match("analyze"); 
 
 					}
 					break;
@@ -2258,80 +2273,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DECIMAL"
-
-	// $ANTLR start "LEFT_PAR"
-	public final void mLEFT_PAR() throws RecognitionException {
-		try {
-			int _type = LEFT_PAR;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1020:2: ( '(' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1020:4: '('
-			{
-			match('('); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "LEFT_PAR"
-
-	// $ANTLR start "COLON"
-	public final void mCOLON() throws RecognitionException {
-		try {
-			int _type = COLON;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1024:2: ( ',' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1024:4: ','
-			{
-			match(','); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "COLON"
-
-	// $ANTLR start "RIGHT_PAR"
-	public final void mRIGHT_PAR() throws RecognitionException {
-		try {
-			int _type = RIGHT_PAR;
-			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1028:2: ( ')' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1028:4: ')'
-			{
-			match(')'); 
-			}
-
-			state.type = _type;
-			state.channel = _channel;
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "RIGHT_PAR"
+	// $ANTLR end "ANALYZE"
 
-	// $ANTLR start "CHARACTER"
-	public final void mCHARACTER() throws RecognitionException {
+	// $ANTLR start "EXPLAIN"
+	public final void mEXPLAIN() throws RecognitionException {
 		try {
-			int _type = CHARACTER;
+			int _type = EXPLAIN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1032:2: ( 'CHAR' | 'char' )
+			// urSQL.g:1073:2: ( 'EXPLAIN' | 'explain' )
 			int alt44=2;
 			int LA44_0 = input.LA(1);
-			if ( (LA44_0=='C') ) {
+			if ( (LA44_0=='E') ) {
 				alt44=1;
 			}
-			else if ( (LA44_0=='c') ) {
+			else if ( (LA44_0=='e') ) {
 				alt44=2;
 			}
 
@@ -2343,16 +2298,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt44) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1032:4: 'CHAR'
+					// urSQL.g:1073:4: 'EXPLAIN'
 					{
-					match("CHAR"); 
+					match("EXPLAIN"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1033:4: 'char'
+					// urSQL.g:1074:4: 'explain'
 					{
-					match("char"); 
+					match("explain"); 
 
 					}
 					break;
@@ -2365,20 +2320,40 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "CHARACTER"
+	// $ANTLR end "EXPLAIN"
 
-	// $ANTLR start "VARCHAR"
-	public final void mVARCHAR() throws RecognitionException {
+	// $ANTLR start "PARAM"
+	public final void mPARAM() throws RecognitionException {
 		try {
-			int _type = VARCHAR;
+			int _type = PARAM;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1079:2: ( '?' )
+			// urSQL.g:1079:4: '?'
+			{
+			match('?'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "PARAM"
+
+	// $ANTLR start "ON"
+	public final void mON() throws RecognitionException {
+		try {
+			int _type = ON;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1037:2: ( 'VARCHAR' | 'varchar' )
+			// urSQL.g:1083:2: ( 'ON' | 'on' )
 			int alt45=2;
 			int LA45_0 = input.LA(1);
-			if ( (LA45_0=='V') ) {
+			if ( (LA45_0=='O') ) {
 				alt45=1;
 			}
-			else if ( (LA45_0=='v') ) {
+			else if ( (LA45_0=='o') ) {
 				alt45=2;
 			}
 
@@ -2390,16 +2365,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt45) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1037:4: 'VARCHAR'
+					// urSQL.g:1083:4: 'ON'
 					{
-					match("VARCHAR"); 
+					match("ON"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1038:4: 'varchar'
+					// urSQL.g:1084:4: 'on'
 					{
-					match("varchar"); 
+					match("on"); 
 
 					}
 					break;
@@ -2412,20 +2387,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "VARCHAR"
+	// $ANTLR end "ON"
 
-	// $ANTLR start "DATETIME"
-	public final void mDATETIME() throws RecognitionException {
+	// $ANTLR start "TABLE"
+	public final void mTABLE() throws RecognitionException {
 		try {
-			int _type = DATETIME;
+			int _type = TABLE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1042:2: ( 'DATETIME' | 'datetime' )
+			// urSQL.g:1088:2: ( 'TABLE' | 'table' )
 			int alt46=2;
 			int LA46_0 = input.LA(1);
-			if ( (LA46_0=='D') ) {
+			if ( (LA46_0=='T') ) {
 				alt46=1;
 			}
-			else if ( (LA46_0=='d') ) {
+			else if ( (LA46_0=='t') ) {
 				alt46=2;
 			}
 
@@ -2437,16 +2412,16 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt46) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1042:4: 'DATETIME'
+					// urSQL.g:1088:4: 'TABLE'
 					{
-					match("DATETIME"); 
+					match("TABLE"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1043:4: 'datetime'
+					// urSQL.g:1089:4: 'table'
 					{
-					match("datetime"); 
+					match("table"); 
 
 					}
 					break;
@@ -2459,20 +2434,20 @@ public class urSQLLexer extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DATETIME"
+	// $ANTLR end "TABLE"
 
-	// $ANTLR start "NULL"
-	public final void mNULL() throws RecognitionException {
+	// $ANTLR start "ALTER"
+	public final void mALTER() throws RecognitionException {
 		try {
-			int _type = NULL;
+			int _type = ALTER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1047:2: ( 'NULL' | 'null' )
+			// urSQL.g:1093:2: ( 'ALTER' | 'alter' )
 			int alt47=2;
 			int LA47_0 = input.LA(1);
-			if ( (LA47_0=='N') ) {
+			if ( (LA47_0=='A') ) {
 				alt47=1;
 			}
-			else if ( (LA47_0=='n') ) {
+			else if ( (LA47_0=='a') ) {
 				alt47=2;
 			}
 
@@ -2484,16 +2459,640 @@ public class urSQLLexer extends Lexer {
 
 			switch (alt47) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1047:4: 'NULL'
+					// urSQL.g:1093:4: 'ALTER'
 					{
-					match("NULL"); 
+					match("ALTER"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1048:4: 'null'
+					// urSQL.g:1094:4: 'alter'
 					{
-					match("null"); 
+					match("alter"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ALTER"
+
+	// $ANTLR start "ADD"
+	public final void mADD() throws RecognitionException {
+		try {
+			int _type = ADD;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1098:2: ( 'ADD' | 'add' )
+			int alt48=2;
+			int LA48_0 = input.LA(1);
+			if ( (LA48_0=='A') ) {
+				alt48=1;
+			}
+			else if ( (LA48_0=='a') ) {
+				alt48=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 48, 0, input);
+				throw nvae;
+			}
+
+			switch (alt48) {
+				case 1 :
+					// urSQL.g:1098:4: 'ADD'
+					{
+					match("ADD"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1099:4: 'add'
+					{
+					match("add"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ADD"
+
+	// $ANTLR start "CONSTRAINT"
+	public final void mCONSTRAINT() throws RecognitionException {
+		try {
+			int _type = CONSTRAINT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1103:2: ( 'CONSTRAINT' | 'constraint' )
+			int alt49=2;
+			int LA49_0 = input.LA(1);
+			if ( (LA49_0=='C') ) {
+				alt49=1;
+			}
+			else if ( (LA49_0=='c') ) {
+				alt49=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 49, 0, input);
+				throw nvae;
+			}
+
+			switch (alt49) {
+				case 1 :
+					// urSQL.g:1103:4: 'CONSTRAINT'
+					{
+					match("CONSTRAINT"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1104:4: 'constraint'
+					{
+					match("constraint"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "CONSTRAINT"
+
+	// $ANTLR start "FOREIGN"
+	public final void mFOREIGN() throws RecognitionException {
+		try {
+			int _type = FOREIGN;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1108:2: ( 'FOREIGN' | 'foreign' )
+			int alt50=2;
+			int LA50_0 = input.LA(1);
+			if ( (LA50_0=='F') ) {
+				alt50=1;
+			}
+			else if ( (LA50_0=='f') ) {
+				alt50=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 50, 0, input);
+				throw nvae;
+			}
+
+			switch (alt50) {
+				case 1 :
+					// urSQL.g:1108:4: 'FOREIGN'
+					{
+					match("FOREIGN"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1109:4: 'foreign'
+					{
+					match("foreign"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "FOREIGN"
+
+	// $ANTLR start "KEY"
+	public final void mKEY() throws RecognitionException {
+		try {
+			int _type = KEY;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1113:2: ( 'KEY' | 'key' )
+			int alt51=2;
+			int LA51_0 = input.LA(1);
+			if ( (LA51_0=='K') ) {
+				alt51=1;
+			}
+			else if ( (LA51_0=='k') ) {
+				alt51=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 51, 0, input);
+				throw nvae;
+			}
+
+			switch (alt51) {
+				case 1 :
+					// urSQL.g:1113:4: 'KEY'
+					{
+					match("KEY"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1114:4: 'key'
+					{
+					match("key"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "KEY"
+
+	// $ANTLR start "REFERENCES"
+	public final void mREFERENCES() throws RecognitionException {
+		try {
+			int _type = REFERENCES;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1118:2: ( 'REFERENCES' | 'references' )
+			int alt52=2;
+			int LA52_0 = input.LA(1);
+			if ( (LA52_0=='R') ) {
+				alt52=1;
+			}
+			else if ( (LA52_0=='r') ) {
+				alt52=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 52, 0, input);
+				throw nvae;
+			}
+
+			switch (alt52) {
+				case 1 :
+					// urSQL.g:1118:4: 'REFERENCES'
+					{
+					match("REFERENCES"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1119:4: 'references'
+					{
+					match("references"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "REFERENCES"
+
+	// $ANTLR start "AS"
+	public final void mAS() throws RecognitionException {
+		try {
+			int _type = AS;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1123:2: ( 'AS' | 'as' )
+			int alt53=2;
+			int LA53_0 = input.LA(1);
+			if ( (LA53_0=='A') ) {
+				alt53=1;
+			}
+			else if ( (LA53_0=='a') ) {
+				alt53=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 53, 0, input);
+				throw nvae;
+			}
+
+			switch (alt53) {
+				case 1 :
+					// urSQL.g:1123:4: 'AS'
+					{
+					match("AS"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1124:4: 'as'
+					{
+					match("as"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "AS"
+
+	// $ANTLR start "INTEGER"
+	public final void mINTEGER() throws RecognitionException {
+		try {
+			int _type = INTEGER;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1128:2: ( 'INTEGER' | 'integer' )
+			int alt54=2;
+			int LA54_0 = input.LA(1);
+			if ( (LA54_0=='I') ) {
+				alt54=1;
+			}
+			else if ( (LA54_0=='i') ) {
+				alt54=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 54, 0, input);
+				throw nvae;
+			}
+
+			switch (alt54) {
+				case 1 :
+					// urSQL.g:1128:4: 'INTEGER'
+					{
+					match("INTEGER"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1129:4: 'integer'
+					{
+					match("integer"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "INTEGER"
+
+	// $ANTLR start "DECIMAL"
+	public final void mDECIMAL() throws RecognitionException {
+		try {
+			int _type = DECIMAL;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1133:2: ( 'DECIMAL' | 'decimal' )
+			int alt55=2;
+			int LA55_0 = input.LA(1);
+			if ( (LA55_0=='D') ) {
+				alt55=1;
+			}
+			else if ( (LA55_0=='d') ) {
+				alt55=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 55, 0, input);
+				throw nvae;
+			}
+
+			switch (alt55) {
+				case 1 :
+					// urSQL.g:1133:4: 'DECIMAL'
+					{
+					match("DECIMAL"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1134:4: 'decimal'
+					{
+					match("decimal"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "DECIMAL"
+
+	// $ANTLR start "LEFT_PAR"
+	public final void mLEFT_PAR() throws RecognitionException {
+		try {
+			int _type = LEFT_PAR;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1138:2: ( '(' )
+			// urSQL.g:1138:4: '('
+			{
+			match('('); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "LEFT_PAR"
+
+	// $ANTLR start "COLON"
+	public final void mCOLON() throws RecognitionException {
+		try {
+			int _type = COLON;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1142:2: ( ',' )
+			// urSQL.g:1142:4: ','
+			{
+			match(','); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "COLON"
+
+	// $ANTLR start "RIGHT_PAR"
+	public final void mRIGHT_PAR() throws RecognitionException {
+		try {
+			int _type = RIGHT_PAR;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1146:2: ( ')' )
+			// urSQL.g:1146:4: ')'
+			{
+			match(')'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "RIGHT_PAR"
+
+	// $ANTLR start "CHARACTER"
+	public final void mCHARACTER() throws RecognitionException {
+		try {
+			int _type = CHARACTER;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1150:2: ( 'CHAR' | 'char' )
+			int alt56=2;
+			int LA56_0 = input.LA(1);
+			if ( (LA56_0=='C') ) {
+				alt56=1;
+			}
+			else if ( (LA56_0=='c') ) {
+				alt56=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 56, 0, input);
+				throw nvae;
+			}
+
+			switch (alt56) {
+				case 1 :
+					// urSQL.g:1150:4: 'CHAR'
+					{
+					match("CHAR"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1151:4: 'char'
+					{
+					match("char"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "CHARACTER"
+
+	// $ANTLR start "VARCHAR"
+	public final void mVARCHAR() throws RecognitionException {
+		try {
+			int _type = VARCHAR;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1155:2: ( 'VARCHAR' | 'varchar' )
+			int alt57=2;
+			int LA57_0 = input.LA(1);
+			if ( (LA57_0=='V') ) {
+				alt57=1;
+			}
+			else if ( (LA57_0=='v') ) {
+				alt57=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 57, 0, input);
+				throw nvae;
+			}
+
+			switch (alt57) {
+				case 1 :
+					// urSQL.g:1155:4: 'VARCHAR'
+					{
+					match("VARCHAR"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1156:4: 'varchar'
+					{
+					match("varchar"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "VARCHAR"
+
+	// $ANTLR start "DATETIME"
+	public final void mDATETIME() throws RecognitionException {
+		try {
+			int _type = DATETIME;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1160:2: ( 'DATETIME' | 'datetime' )
+			int alt58=2;
+			int LA58_0 = input.LA(1);
+			if ( (LA58_0=='D') ) {
+				alt58=1;
+			}
+			else if ( (LA58_0=='d') ) {
+				alt58=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 58, 0, input);
+				throw nvae;
+			}
+
+			switch (alt58) {
+				case 1 :
+					// urSQL.g:1160:4: 'DATETIME'
+					{
+					match("DATETIME"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1161:4: 'datetime'
+					{
+					match("datetime"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "DATETIME"
+
+	// $ANTLR start "NULL"
+	public final void mNULL() throws RecognitionException {
+		try {
+			int _type = NULL;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// urSQL.g:1165:2: ( 'NULL' | 'null' )
+			int alt59=2;
+			int LA59_0 = input.LA(1);
+			if ( (LA59_0=='N') ) {
+				alt59=1;
+			}
+			else if ( (LA59_0=='n') ) {
+				alt59=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 59, 0, input);
+				throw nvae;
+			}
+
+			switch (alt59) {
+				case 1 :
+					// urSQL.g:1165:4: 'NULL'
+					{
+					match("NULL"); 
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:1166:4: 'null'
+					{
+					match("null"); 
 
 					}
 					break;
@@ -2513,32 +3112,32 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = NOT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1052:2: ( 'NOT' | 'not' )
-			int alt48=2;
-			int LA48_0 = input.LA(1);
-			if ( (LA48_0=='N') ) {
-				alt48=1;
+			// urSQL.g:1170:2: ( 'NOT' | 'not' )
+			int alt60=2;
+			int LA60_0 = input.LA(1);
+			if ( (LA60_0=='N') ) {
+				alt60=1;
 			}
-			else if ( (LA48_0=='n') ) {
-				alt48=2;
+			else if ( (LA60_0=='n') ) {
+				alt60=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 48, 0, input);
+					new NoViableAltException("", 60, 0, input);
 				throw nvae;
 			}
 
-			switch (alt48) {
+			switch (alt60) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1052:4: 'NOT'
+					// urSQL.g:1170:4: 'NOT'
 					{
 					match("NOT"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1053:4: 'not'
+					// urSQL.g:1171:4: 'not'
 					{
 					match("not"); 
 
@@ -2560,32 +3159,32 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = PRIMARY;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1057:2: ( 'PRIMARY' | 'primary' )
-			int alt49=2;
-			int LA49_0 = input.LA(1);
-			if ( (LA49_0=='P') ) {
-				alt49=1;
+			// urSQL.g:1175:2: ( 'PRIMARY' | 'primary' )
+			int alt61=2;
+			int LA61_0 = input.LA(1);
+			if ( (LA61_0=='P') ) {
+				alt61=1;
 			}
-			else if ( (LA49_0=='p') ) {
-				alt49=2;
+			else if ( (LA61_0=='p') ) {
+				alt61=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 49, 0, input);
+					new NoViableAltException("", 61, 0, input);
 				throw nvae;
 			}
 
-			switch (alt49) {
+			switch (alt61) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1057:4: 'PRIMARY'
+					// urSQL.g:1175:4: 'PRIMARY'
 					{
 					match("PRIMARY"); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1058:4: 'primary'
+					// urSQL.g:1176:4: 'primary'
 					{
 					match("primary"); 
 
@@ -2607,8 +3206,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = ID;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1061:5: ( ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1061:7: ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			// urSQL.g:1179:5: ( ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )* )
+			// urSQL.g:1179:7: ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
 			{
 			if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
 				input.consume();
@@ -2618,18 +3217,18 @@ public class urSQLLexer extends Lexer {
 				recover(mse);
 				throw mse;
 			}
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1061:31: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
-			loop50:
+			// urSQL.g:1179:31: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			loop62:
 			while (true) {
-				int alt50=2;
-				int LA50_0 = input.LA(1);
-				if ( ((LA50_0 >= '0' && LA50_0 <= '9')||(LA50_0 >= 'A' && LA50_0 <= 'Z')||LA50_0=='_'||(LA50_0 >= 'a' && LA50_0 <= 'z')) ) {
-					alt50=1;
+				int alt62=2;
+				int LA62_0 = input.LA(1);
+				if ( ((LA62_0 >= '0' && LA62_0 <= '9')||(LA62_0 >= 'A' && LA62_0 <= 'Z')||LA62_0=='_'||(LA62_0 >= 'a' && LA62_0 <= 'z')) ) {
+					alt62=1;
 				}
 
-				switch (alt50) {
+				switch (alt62) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+					// urSQL.g:
 					{
 					if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
 						input.consume();
@@ -2643,7 +3242,7 @@ public class urSQLLexer extends Lexer {
 					break;
 
 				default :
-					break loop50;
+					break loop62;
 				}
 			}
 
@@ -2663,22 +3262,22 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = INT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1064:5: ( ( '0' .. '9' )+ )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1064:7: ( '0' .. '9' )+
+			// urSQL.g:1182:5: ( ( '0' .. '9' )+ )
+			// urSQL.g:1182:7: ( '0' .. '9' )+
 			{
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1064:7: ( '0' .. '9' )+
-			int cnt51=0;
-			loop51:
+			// urSQL.g:1182:7: ( '0' .. '9' )+
+			int cnt63=0;
+			loop63:
 			while (true) {
-				int alt51=2;
-				int LA51_0 = input.LA(1);
-				if ( ((LA51_0 >= '0' && LA51_0 <= '9')) ) {
-					alt51=1;
+				int alt63=2;
+				int LA63_0 = input.LA(1);
+				if ( ((LA63_0 >= '0' && LA63_0 <= '9')) ) {
+					alt63=1;
 				}
 
-				switch (alt51) {
+				switch (alt63) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+					// urSQL.g:
 					{
 					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
 						input.consume();
@@ -2692,11 +3291,11 @@ public class urSQLLexer extends Lexer {
 					break;
 
 				default :
-					if ( cnt51 >= 1 ) break loop51;
-					EarlyExitException eee = new EarlyExitException(51, input);
+					if ( cnt63 >= 1 ) break loop63;
+					EarlyExitException eee = new EarlyExitException(63, input);
 					throw eee;
 				}
-				cnt51++;
+				cnt63++;
 			}
 
 			}
@@ -2715,26 +3314,26 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = FLOAT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1068:5: ( ( '0' .. '9' )+ '.' ( '0' .. '9' )* ( EXPONENT )? | '.' ( '0' .. '9' )+ ( EXPONENT )? | ( '0' .. '9' )+ EXPONENT )
-			int alt58=3;
-			alt58 = dfa58.predict(input);
-			switch (alt58) {
+			// urSQL.g:1186:5: ( ( '0' .. '9' )+ '.' ( '0' .. '9' )* ( EXPONENT )? | '.' ( '0' .. '9' )+ ( EXPONENT )? | ( '0' .. '9' )+ EXPONENT )
+			int alt70=3;
+			alt70 = dfa70.predict(input);
+			switch (alt70) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1068:9: ( '0' .. '9' )+ '.' ( '0' .. '9' )* ( EXPONENT )?
+					// urSQL.g:1186:9: ( '0' .. '9' )+ '.' ( '0' .. '9' )* ( EXPONENT )?
 					{
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1068:9: ( '0' .. '9' )+
-					int cnt52=0;
-					loop52:
+					// urSQL.g:1186:9: ( '0' .. '9' )+
+					int cnt64=0;
+					loop64:
 					while (true) {
-						int alt52=2;
-						int LA52_0 = input.LA(1);
-						if ( ((LA52_0 >= '0' && LA52_0 <= '9')) ) {
-							alt52=1;
+						int alt64=2;
+						int LA64_0 = input.LA(1);
+						if ( ((LA64_0 >= '0' && LA64_0 <= '9')) ) {
+							alt64=1;
 						}
 
-						switch (alt52) {
+						switch (alt64) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+							// urSQL.g:
 							{
 							if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
 								input.consume();
@@ -2748,26 +3347,26 @@ public class urSQLLexer extends Lexer {
 							break;
 
 						default :
-							if ( cnt52 >= 1 ) break loop52;
-							EarlyExitException eee = new EarlyExitException(52, input);
+							if ( cnt64 >= 1 ) break loop64;
+							EarlyExitException eee = new EarlyExitException(64, input);
 							throw eee;
 						}
-						cnt52++;
+						cnt64++;
 					}
 
 					match('.'); 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1068:25: ( '0' .. '9' )*
-					loop53:
+					// urSQL.g:1186:25: ( '0' .. '9' )*
+					loop65:
 					while (true) {
-						int alt53=2;
-						int LA53_0 = input.LA(1);
-						if ( ((LA53_0 >= '0' && LA53_0 <= '9')) ) {
-							alt53=1;
+						int alt65=2;
+						int LA65_0 = input.LA(1);
+						if ( ((LA65_0 >= '0' && LA65_0 <= '9')) ) {
+							alt65=1;
 						}
 
-						switch (alt53) {
+						switch (alt65) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+							// urSQL.g:
 							{
 							if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
 								input.consume();
@@ -2781,19 +3380,19 @@ public class urSQLLexer extends Lexer {
 							break;
 
 						default :
-							break loop53;
+							break loop65;
 						}
 					}
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1068:37: ( EXPONENT )?
-					int alt54=2;
-					int LA54_0 = input.LA(1);
-					if ( (LA54_0=='E'||LA54_0=='e') ) {
-						alt54=1;
+					// urSQL.g:1186:37: ( EXPONENT )?
+					int alt66=2;
+					int LA66_0 = input.LA(1);
+					if ( (LA66_0=='E'||LA66_0=='e') ) {
+						alt66=1;
 					}
-					switch (alt54) {
+					switch (alt66) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1068:37: EXPONENT
+							// urSQL.g:1186:37: EXPONENT
 							{
 							mEXPONENT(); 
 
@@ -2805,22 +3404,22 @@ public class urSQLLexer extends Lexer {
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1069:9: '.' ( '0' .. '9' )+ ( EXPONENT )?
+					// urSQL.g:1187:9: '.' ( '0' .. '9' )+ ( EXPONENT )?
 					{
 					match('.'); 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1069:13: ( '0' .. '9' )+
-					int cnt55=0;
-					loop55:
+					// urSQL.g:1187:13: ( '0' .. '9' )+
+					int cnt67=0;
+					loop67:
 					while (true) {
-						int alt55=2;
-						int LA55_0 = input.LA(1);
-						if ( ((LA55_0 >= '0' && LA55_0 <= '9')) ) {
-							alt55=1;
+						int alt67=2;
+						int LA67_0 = input.LA(1);
+						if ( ((LA67_0 >= '0' && LA67_0 <= '9')) ) {
+							alt67=1;
 						}
 
-						switch (alt55) {
+						switch (alt67) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+							// urSQL.g:
 							{
 							if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
 								input.consume();
@@ -2834,22 +3433,22 @@ public class urSQLLexer extends Lexer {
 							break;
 
 						default :
-							if ( cnt55 >= 1 ) break loop55;
-							EarlyExitException eee = new EarlyExitException(55, input);
+							if ( cnt67 >= 1 ) break loop67;
+							EarlyExitException eee = new EarlyExitException(67, input);
 							throw eee;
 						}
-						cnt55++;
+						cnt67++;
 					}
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1069:25: ( EXPONENT )?
-					int alt56=2;
-					int LA56_0 = input.LA(1);
-					if ( (LA56_0=='E'||LA56_0=='e') ) {
-						alt56=1;
+					// urSQL.g:1187:25: ( EXPONENT )?
+					int alt68=2;
+					int LA68_0 = input.LA(1);
+					if ( (LA68_0=='E'||LA68_0=='e') ) {
+						alt68=1;
 					}
-					switch (alt56) {
+					switch (alt68) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1069:25: EXPONENT
+							// urSQL.g:1187:25: EXPONENT
 							{
 							mEXPONENT(); 
 
@@ -2861,21 +3460,21 @@ public class urSQLLexer extends Lexer {
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1070:9: ( '0' .. '9' )+ EXPONENT
+					// urSQL.g:1188:9: ( '0' .. '9' )+ EXPONENT
 					{
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1070:9: ( '0' .. '9' )+
-					int cnt57=0;
-					loop57:
+					// urSQL.g:1188:9: ( '0' .. '9' )+
+					int cnt69=0;
+					loop69:
 					while (true) {
-						int alt57=2;
-						int LA57_0 = input.LA(1);
-						if ( ((LA57_0 >= '0' && LA57_0 <= '9')) ) {
-							alt57=1;
+						int alt69=2;
+						int LA69_0 = input.LA(1);
+						if ( ((LA69_0 >= '0' && LA69_0 <= '9')) ) {
+							alt69=1;
 						}
 
-						switch (alt57) {
+						switch (alt69) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+							// urSQL.g:
 							{
 							if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
 								input.consume();
@@ -2889,11 +3488,11 @@ public class urSQLLexer extends Lexer {
 							break;
 
 						default :
-							if ( cnt57 >= 1 ) break loop57;
-							EarlyExitException eee = new EarlyExitException(57, input);
+							if ( cnt69 >= 1 ) break loop69;
+							EarlyExitException eee = new EarlyExitException(69, input);
 							throw eee;
 						}
-						cnt57++;
+						cnt69++;
 					}
 
 					mEXPONENT(); 
@@ -2916,16 +3515,16 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = COMMENT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1074:5: ( '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n' | '/*' ( options {greedy=false; } : . )* '*/' )
-			int alt62=2;
-			int LA62_0 = input.LA(1);
-			if ( (LA62_0=='/') ) {
-				int LA62_1 = input.LA(2);
-				if ( (LA62_1=='/') ) {
-					alt62=1;
+			// urSQL.g:1192:5: ( '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n' | '/*' ( options {greedy=false; } : . )* '*/' )
+			int alt74=2;
+			int LA74_0 = input.LA(1);
+			if ( (LA74_0=='/') ) {
+				int LA74_1 = input.LA(2);
+				if ( (LA74_1=='/') ) {
+					alt74=1;
 				}
-				else if ( (LA62_1=='*') ) {
-					alt62=2;
+				else if ( (LA74_1=='*') ) {
+					alt74=2;
 				}
 
 				else {
@@ -2933,7 +3532,7 @@ public class urSQLLexer extends Lexer {
 					try {
 						input.consume();
 						NoViableAltException nvae =
-							new NoViableAltException("", 62, 1, input);
+							new NoViableAltException("", 74, 1, input);
 						throw nvae;
 					} finally {
 						input.rewind(nvaeMark);
@@ -2944,28 +3543,28 @@ public class urSQLLexer extends Lexer {
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 62, 0, input);
+					new NoViableAltException("", 74, 0, input);
 				throw nvae;
 			}
 
-			switch (alt62) {
+			switch (alt74) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1074:9: '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n'
+					// urSQL.g:1192:9: '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n'
 					{
 					match("//"); 
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1074:14: (~ ( '\\n' | '\\r' ) )*
-					loop59:
+					// urSQL.g:1192:14: (~ ( '\\n' | '\\r' ) )*
+					loop71:
 					while (true) {
-						int alt59=2;
-						int LA59_0 = input.LA(1);
-						if ( ((LA59_0 >= '\u0000' && LA59_0 <= '\t')||(LA59_0 >= '\u000B' && LA59_0 <= '\f')||(LA59_0 >= '\u000E' && LA59_0 <= '\uFFFF')) ) {
-							alt59=1;
+						int alt71=2;
+						int LA71_0 = input.LA(1);
+						if ( ((LA71_0 >= '\u0000' && LA71_0 <= '\t')||(LA71_0 >= '\u000B' && LA71_0 <= '\f')||(LA71_0 >= '\u000E' && LA71_0 <= '\uFFFF')) ) {
+							alt71=1;
 						}
 
-						switch (alt59) {
+						switch (alt71) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+							// urSQL.g:
 							{
 							if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
 								input.consume();
@@ -2979,19 +3578,19 @@ public class urSQLLexer extends Lexer {
 							break;
 
 						default :
-							break loop59;
+							break loop71;
 						}
 					}
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1074:28: ( '\\r' )?
-					int alt60=2;
-					int LA60_0 = input.LA(1);
-					if ( (LA60_0=='\r') ) {
-						alt60=1;
+					// urSQL.g:1192:28: ( '\\r' )?
+					int alt72=2;
+					int LA72_0 = input.LA(1);
+					if ( (LA72_0=='\r') ) {
+						alt72=1;
 					}
-					switch (alt60) {
+					switch (alt72) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1074:28: '\\r'
+							// urSQL.g:1192:28: '\\r'
 							{
 							match('\r'); 
 							}
@@ -3004,39 +3603,39 @@ public class urSQLLexer extends Lexer {
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1075:9: '/*' ( options {greedy=false; } : . )* '*/'
+					// urSQL.g:1193:9: '/*' ( options {greedy=false; } : . )* '*/'
 					{
 					match("/*"); 
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1075:14: ( options {greedy=false; } : . )*
-					loop61:
+					// urSQL.g:1193:14: ( options {greedy=false; } : . )*
+					loop73:
 					while (true) {
-						int alt61=2;
-						int LA61_0 = input.LA(1);
-						if ( (LA61_0=='*') ) {
-							int LA61_1 = input.LA(2);
-							if ( (LA61_1=='/') ) {
-								alt61=2;
+						int alt73=2;
+						int LA73_0 = input.LA(1);
+						if ( (LA73_0=='*') ) {
+							int LA73_1 = input.LA(2);
+							if ( (LA73_1=='/') ) {
+								alt73=2;
 							}
-							else if ( ((LA61_1 >= '\u0000' && LA61_1 <= '.')||(LA61_1 >= '0' && LA61_1 <= '\uFFFF')) ) {
-								alt61=1;
+							else if ( ((LA73_1 >= '\u0000' && LA73_1 <= '.')||(LA73_1 >= '0' && LA73_1 <= '\uFFFF')) ) {
+								alt73=1;
 							}
 
 						}
-						else if ( ((LA61_0 >= '\u0000' && LA61_0 <= ')')||(LA61_0 >= '+' && LA61_0 <= '\uFFFF')) ) {
-							alt61=1;
+						else if ( ((LA73_0 >= '\u0000' && LA73_0 <= ')')||(LA73_0 >= '+' && LA73_0 <= '\uFFFF')) ) {
+							alt73=1;
 						}
 
-						switch (alt61) {
+						switch (alt73) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1075:42: .
+							// urSQL.g:1193:42: .
 							{
 							matchAny(); 
 							}
 							break;
 
 						default :
-							break loop61;
+							break loop73;
 						}
 					}
 
@@ -3061,8 +3660,8 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = WS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1078:5: ( ( ' ' | '\\t' | '\\r' | '\\n' ) )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1078:9: ( ' ' | '\\t' | '\\r' | '\\n' )
+			// urSQL.g:1196:5: ( ( ' ' | '\\t' | '\\r' | '\\n' ) )
+			// urSQL.g:1196:9: ( ' ' | '\\t' | '\\r' | '\\n' )
 			{
 			if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
 				input.consume();
@@ -3089,32 +3688,32 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = STRING;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1086:5: ( '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1086:8: '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"'
+			// urSQL.g:1204:5: ( '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"' )
+			// urSQL.g:1204:8: '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"'
 			{
 			match('\"'); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1086:12: ( ESC_SEQ |~ ( '\\\\' | '\"' ) )*
-			loop63:
+			// urSQL.g:1204:12: ( ESC_SEQ |~ ( '\\\\' | '\"' ) )*
+			loop75:
 			while (true) {
-				int alt63=3;
-				int LA63_0 = input.LA(1);
-				if ( (LA63_0=='\\') ) {
-					alt63=1;
+				int alt75=3;
+				int LA75_0 = input.LA(1);
+				if ( (LA75_0=='\\') ) {
+					alt75=1;
 				}
-				else if ( ((LA63_0 >= '\u0000' && LA63_0 <= '!')||(LA63_0 >= '#' && LA63_0 <= '[')||(LA63_0 >= ']' && LA63_0 <= '\uFFFF')) ) {
-					alt63=2;
+				else if ( ((LA75_0 >= '\u0000' && LA75_0 <= '!')||(LA75_0 >= '#' && LA75_0 <= '[')||(LA75_0 >= ']' && LA75_0 <= '\uFFFF')) ) {
+					alt75=2;
 				}
 
-				switch (alt63) {
+				switch (alt75) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1086:14: ESC_SEQ
+					// urSQL.g:1204:14: ESC_SEQ
 					{
 					mESC_SEQ(); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1086:24: ~ ( '\\\\' | '\"' )
+					// urSQL.g:1204:24: ~ ( '\\\\' | '\"' )
 					{
 					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
 						input.consume();
@@ -3128,7 +3727,7 @@ public class urSQLLexer extends Lexer {
 					break;
 
 				default :
-					break loop63;
+					break loop75;
 				}
 			}
 
@@ -3149,36 +3748,36 @@ public class urSQLLexer extends Lexer {
 		try {
 			int _type = CHAR;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1089:5: ( '\\'' ( ESC_SEQ |~ ( '\\'' | '\\\\' ) ) '\\'' )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1089:8: '\\'' ( ESC_SEQ |~ ( '\\'' | '\\\\' ) ) '\\''
+			// urSQL.g:1207:5: ( '\\'' ( ESC_SEQ |~ ( '\\'' | '\\\\' ) ) '\\'' )
+			// urSQL.g:1207:8: '\\'' ( ESC_SEQ |~ ( '\\'' | '\\\\' ) ) '\\''
 			{
 			match('\''); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1089:13: ( ESC_SEQ |~ ( '\\'' | '\\\\' ) )
-			int alt64=2;
-			int LA64_0 = input.LA(1);
-			if ( (LA64_0=='\\') ) {
-				alt64=1;
+			// urSQL.g:1207:13: ( ESC_SEQ |~ ( '\\'' | '\\\\' ) )
+			int alt76=2;
+			int LA76_0 = input.LA(1);
+			if ( (LA76_0=='\\') ) {
+				alt76=1;
 			}
-			else if ( ((LA64_0 >= '\u0000' && LA64_0 <= '&')||(LA64_0 >= '(' && LA64_0 <= '[')||(LA64_0 >= ']' && LA64_0 <= '\uFFFF')) ) {
-				alt64=2;
+			else if ( ((LA76_0 >= '\u0000' && LA76_0 <= '&')||(LA76_0 >= '(' && LA76_0 <= '[')||(LA76_0 >= ']' && LA76_0 <= '\uFFFF')) ) {
+				alt76=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 64, 0, input);
+					new NoViableAltException("", 76, 0, input);
 				throw nvae;
 			}
 
-			switch (alt64) {
+			switch (alt76) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1089:15: ESC_SEQ
+					// urSQL.g:1207:15: ESC_SEQ
 					{
 					mESC_SEQ(); 
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1089:25: ~ ( '\\'' | '\\\\' )
+					// urSQL.g:1207:25: ~ ( '\\'' | '\\\\' )
 					{
 					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '&')||(input.LA(1) >= '(' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
 						input.consume();
@@ -3208,8 +3807,8 @@ public class urSQLLexer extends Lexer {
 	// $ANTLR start "EXPONENT"
 	public final void mEXPONENT() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1094:10: ( ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+ )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1094:12: ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+
+			// urSQL.g:1212:10: ( ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+ )
+			// urSQL.g:1212:12: ( 'e' | 'E' ) ( '+' | '-' )? ( '0' .. '9' )+
 			{
 			if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
 				input.consume();
@@ -3219,15 +3818,15 @@ public class urSQLLexer extends Lexer {
 				recover(mse);
 				throw mse;
 			}
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1094:22: ( '+' | '-' )?
-			int alt65=2;
-			int LA65_0 = input.LA(1);
-			if ( (LA65_0=='+'||LA65_0=='-') ) {
-				alt65=1;
+			// urSQL.g:1212:22: ( '+' | '-' )?
+			int alt77=2;
+			int LA77_0 = input.LA(1);
+			if ( (LA77_0=='+'||LA77_0=='-') ) {
+				alt77=1;
 			}
-			switch (alt65) {
+			switch (alt77) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+					// urSQL.g:
 					{
 					if ( input.LA(1)=='+'||input.LA(1)=='-' ) {
 						input.consume();
@@ -3242,19 +3841,19 @@ public class urSQLLexer extends Lexer {
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1094:33: ( '0' .. '9' )+
-			int cnt66=0;
-			loop66:
+			// urSQL.g:1212:33: ( '0' .. '9' )+
+			int cnt78=0;
+			loop78:
 			while (true) {
-				int alt66=2;
-				int LA66_0 = input.LA(1);
-				if ( ((LA66_0 >= '0' && LA66_0 <= '9')) ) {
-					alt66=1;
+				int alt78=2;
+				int LA78_0 = input.LA(1);
+				if ( ((LA78_0 >= '0' && LA78_0 <= '9')) ) {
+					alt78=1;
 				}
 
-				switch (alt66) {
+				switch (alt78) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+					// urSQL.g:
 					{
 					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
 						input.consume();
@@ -3268,11 +3867,11 @@ public class urSQLLexer extends Lexer {
 					break;
 
 				default :
-					if ( cnt66 >= 1 ) break loop66;
-					EarlyExitException eee = new EarlyExitException(66, input);
+					if ( cnt78 >= 1 ) break loop78;
+					EarlyExitException eee = new EarlyExitException(78, input);
 					throw eee;
 				}
-				cnt66++;
+				cnt78++;
 			}
 
 			}
@@ -3287,8 +3886,8 @@ public class urSQLLexer extends Lexer {
 	// $ANTLR start "HEX_DIGIT"
 	public final void mHEX_DIGIT() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1097:11: ( ( '0' .. '9' | 'a' .. 'f' | 'A' .. 'F' ) )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:
+			// urSQL.g:1215:11: ( ( '0' .. '9' | 'a' .. 'f' | 'A' .. 'F' ) )
+			// urSQL.g:
 			{
 			if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'F')||(input.LA(1) >= 'a' && input.LA(1) <= 'f') ) {
 				input.consume();
@@ -3310,10 +3909,10 @@ public class urSQLLexer extends Lexer {
 	// $ANTLR start "ESC_SEQ"
 	public final void mESC_SEQ() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1101:5: ( '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' ) | UNICODE_ESC | OCTAL_ESC )
-			int alt67=3;
-			int LA67_0 = input.LA(1);
-			if ( (LA67_0=='\\') ) {
+			// urSQL.g:1219:5: ( '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' ) | UNICODE_ESC | OCTAL_ESC )
+			int alt79=3;
+			int LA79_0 = input.LA(1);
+			if ( (LA79_0=='\\') ) {
 				switch ( input.LA(2) ) {
 				case '\"':
 				case '\'':
@@ -3324,12 +3923,12 @@ public class urSQLLexer extends Lexer {
 				case 'r':
 				case 't':
 					{
-					alt67=1;
+					alt79=1;
 					}
 					break;
 				case 'u':
 					{
-					alt67=2;
+					alt79=2;
 					}
 					break;
 				case '0':
@@ -3341,7 +3940,7 @@ public class urSQLLexer extends Lexer {
 				case '6':
 				case '7':
 					{
-					alt67=3;
+					alt79=3;
 					}
 					break;
 				default:
@@ -3349,7 +3948,7 @@ public class urSQLLexer extends Lexer {
 					try {
 						input.consume();
 						NoViableAltException nvae =
-							new NoViableAltException("", 67, 1, input);
+							new NoViableAltException("", 79, 1, input);
 						throw nvae;
 					} finally {
 						input.rewind(nvaeMark);
@@ -3359,13 +3958,13 @@ public class urSQLLexer extends Lexer {
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 67, 0, input);
+					new NoViableAltException("", 79, 0, input);
 				throw nvae;
 			}
 
-			switch (alt67) {
+			switch (alt79) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1101:9: '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' )
+					// urSQL.g:1219:9: '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' )
 					{
 					match('\\'); 
 					if ( input.LA(1)=='\"'||input.LA(1)=='\''||input.LA(1)=='\\'||input.LA(1)=='b'||input.LA(1)=='f'||input.LA(1)=='n'||input.LA(1)=='r'||input.LA(1)=='t' ) {
@@ -3379,14 +3978,14 @@ public class urSQLLexer extends Lexer {
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1102:9: UNICODE_ESC
+					// urSQL.g:1220:9: UNICODE_ESC
 					{
 					mUNICODE_ESC(); 
 
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1103:9: OCTAL_ESC
+					// urSQL.g:1221:9: OCTAL_ESC
 					{
 					mOCTAL_ESC(); 
 
@@ -3404,38 +4003,38 @@ public class urSQLLexer extends Lexer {
 	// $ANTLR start "OCTAL_ESC"
 	public final void mOCTAL_ESC() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1108:5: ( '\\\\' ( '0' .. '3' ) ( '0' .. '7' ) ( '0' .. '7' ) | '\\\\' ( '0' .. '7' ) ( '0' .. '7' ) | '\\\\' ( '0' .. '7' ) )
-			int alt68=3;
-			int LA68_0 = input.LA(1);
-			if ( (LA68_0=='\\') ) {
-				int LA68_1 = input.LA(2);
-				if ( ((LA68_1 >= '0' && LA68_1 <= '3')) ) {
-					int LA68_2 = input.LA(3);
-					if ( ((LA68_2 >= '0' && LA68_2 <= '7')) ) {
-						int LA68_4 = input.LA(4);
-						if ( ((LA68_4 >= '0' && LA68_4 <= '7')) ) {
-							alt68=1;
+			// urSQL.g:1226:5: ( '\\\\' ( '0' .. '3' ) ( '0' .. '7' ) ( '0' .. '7' ) | '\\\\' ( '0' .. '7' ) ( '0' .. '7' ) | '\\\\' ( '0' .. '7' ) )
+			int alt80=3;
+			int LA80_0 = input.LA(1);
+			if ( (LA80_0=='\\') ) {
+				int LA80_1 = input.LA(2);
+				if ( ((LA80_1 >= '0' && LA80_1 <= '3')) ) {
+					int LA80_2 = input.LA(3);
+					if ( ((LA80_2 >= '0' && LA80_2 <= '7')) ) {
+						int LA80_4 = input.LA(4);
+						if ( ((LA80_4 >= '0' && LA80_4 <= '7')) ) {
+							alt80=1;
 						}
 
 						else {
-							alt68=2;
+							alt80=2;
 						}
 
 					}
 
 					else {
-						alt68=3;
+						alt80=3;
 					}
 
 				}
-				else if ( ((LA68_1 >= '4' && LA68_1 <= '7')) ) {
-					int LA68_3 = input.LA(3);
-					if ( ((LA68_3 >= '0' && LA68_3 <= '7')) ) {
-						alt68=2;
+				else if ( ((LA80_1 >= '4' && LA80_1 <= '7')) ) {
+					int LA80_3 = input.LA(3);
+					if ( ((LA80_3 >= '0' && LA80_3 <= '7')) ) {
+						alt80=2;
 					}
 
 					else {
-						alt68=3;
+						alt80=3;
 					}
 
 				}
@@ -3445,7 +4044,7 @@ public class urSQLLexer extends Lexer {
 					try {
 						input.consume();
 						NoViableAltException nvae =
-							new NoViableAltException("", 68, 1, input);
+							new NoViableAltException("", 80, 1, input);
 						throw nvae;
 					} finally {
 						input.rewind(nvaeMark);
@@ -3456,13 +4055,13 @@ public class urSQLLexer extends Lexer {
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 68, 0, input);
+					new NoViableAltException("", 80, 0, input);
 				throw nvae;
 			}
 
-			switch (alt68) {
+			switch (alt80) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1108:9: '\\\\' ( '0' .. '3' ) ( '0' .. '7' ) ( '0' .. '7' )
+					// urSQL.g:1226:9: '\\\\' ( '0' .. '3' ) ( '0' .. '7' ) ( '0' .. '7' )
 					{
 					match('\\'); 
 					if ( (input.LA(1) >= '0' && input.LA(1) <= '3') ) {
@@ -3492,7 +4091,7 @@ public class urSQLLexer extends Lexer {
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1109:9: '\\\\' ( '0' .. '7' ) ( '0' .. '7' )
+					// urSQL.g:1227:9: '\\\\' ( '0' .. '7' ) ( '0' .. '7' )
 					{
 					match('\\'); 
 					if ( (input.LA(1) >= '0' && input.LA(1) <= '7') ) {
@@ -3514,7 +4113,7 @@ public class urSQLLexer extends Lexer {
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1110:9: '\\\\' ( '0' .. '7' )
+					// urSQL.g:1228:9: '\\\\' ( '0' .. '7' )
 					{
 					match('\\'); 
 					if ( (input.LA(1) >= '0' && input.LA(1) <= '7') ) {
@@ -3539,8 +4138,8 @@ public class urSQLLexer extends Lexer {
 	// $ANTLR start "UNICODE_ESC"
 	public final void mUNICODE_ESC() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1115:5: ( '\\\\' 'u' HEX_DIGIT HEX_DIGIT HEX_DIGIT HEX_DIGIT )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1115:9: '\\\\' 'u' HEX_DIGIT HEX_DIGIT HEX_DIGIT HEX_DIGIT
+			// urSQL.g:1233:5: ( '\\\\' 'u' HEX_DIGIT HEX_DIGIT HEX_DIGIT HEX_DIGIT )
+			// urSQL.g:1233:9: '\\\\' 'u' HEX_DIGIT HEX_DIGIT HEX_DIGIT HEX_DIGIT
 			{
 			match('\\'); 
 			match('u'); 
@@ -3563,467 +4162,558 @@ public class urSQLLexer extends Lexer {
 
 	@Override
 	public void mTokens() throws RecognitionException {
-		// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:8: ( SELECT | ALL | FROM | JOIN | WHERE | GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | IS | GROUP | BY | FOR | JSON | XML | COUNT | AVERAGE | MIN | MAX | UPDATE | DELETE | INSERT | INTO | VALUES | CREATE | DATABASE | DROP | LIST | DATABASES | START | GET | STATUS | STOP | DISPLAY | NEWLINE | SET | INDEX | ON | TABLE | ALTER | ADD | CONSTRAINT | FOREIGN | KEY | REFERENCES | AS | INTEGER | DECIMAL | LEFT_PAR | COLON | RIGHT_PAR | CHARACTER | VARCHAR | DATETIME | NULL | NOT | PRIMARY | ID | INT | FLOAT | COMMENT | WS | STRING | CHAR )
-		int alt69=66;
-		alt69 = dfa69.predict(input);
-		switch (alt69) {
+		// urSQL.g:1:8: ( SELECT | ALL | FROM | JOIN | WHERE | GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | IS | GROUP | BY | ORDER | ASC | DESC | LIMIT | OFFSET | FOR | JSON | XML | COUNT | AVERAGE | MIN | MAX | UPDATE | DELETE | INSERT | INTO | VALUES | CREATE | DATABASE | DROP | LIST | DATABASES | START | GET | STATUS | STOP | BEGIN | COMMIT | ROLLBACK | DISPLAY | NEWLINE | SET | INDEX | INCLUDE | HASH | ANALYZE | EXPLAIN | PARAM | ON | TABLE | ALTER | ADD | CONSTRAINT | FOREIGN | KEY | REFERENCES | AS | INTEGER | DECIMAL | LEFT_PAR | COLON | RIGHT_PAR | CHARACTER | VARCHAR | DATETIME | NULL | NOT | PRIMARY | ID | INT | FLOAT | COMMENT | WS | STRING | CHAR )
+		int alt81=79;
+		alt81 = dfa81.predict(input);
+		switch (alt81) {
 			case 1 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:10: SELECT
+				// urSQL.g:1:10: SELECT
 				{
 				mSELECT(); 
 
 				}
 				break;
 			case 2 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:17: ALL
+				// urSQL.g:1:17: ALL
 				{
 				mALL(); 
 
 				}
 				break;
 			case 3 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:21: FROM
+				// urSQL.g:1:21: FROM
 				{
 				mFROM(); 
 
 				}
 				break;
 			case 4 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:26: JOIN
+				// urSQL.g:1:26: JOIN
 				{
 				mJOIN(); 
 
 				}
 				break;
 			case 5 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:31: WHERE
+				// urSQL.g:1:31: WHERE
 				{
 				mWHERE(); 
 
 				}
 				break;
 			case 6 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:37: GREATER_THAN
+				// urSQL.g:1:37: GREATER_THAN
 				{
 				mGREATER_THAN(); 
 
 				}
 				break;
 			case 7 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:50: GREATER_EQUALS
+				// urSQL.g:1:50: GREATER_EQUALS
 				{
 				mGREATER_EQUALS(); 
 
 				}
 				break;
 			case 8 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:65: LESS_THAN
+				// urSQL.g:1:65: LESS_THAN
+				{
+				mLESS_THAN(); 
+
+				}
+				break;
+			case 9 :
+				// urSQL.g:1:75: LESS_EQUALS
+				{
+				mLESS_EQUALS(); 
+
+				}
+				break;
+			case 10 :
+				// urSQL.g:1:87: EQUALS
+				{
+				mEQUALS(); 
+
+				}
+				break;
+			case 11 :
+				// urSQL.g:1:94: LIKE
+				{
+				mLIKE(); 
+
+				}
+				break;
+			case 12 :
+				// urSQL.g:1:99: IS
+				{
+				mIS(); 
+
+				}
+				break;
+			case 13 :
+				// urSQL.g:1:102: GROUP
 				{
-				mLESS_THAN(); 
+				mGROUP(); 
 
 				}
 				break;
-			case 9 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:75: LESS_EQUALS
+			case 14 :
+				// urSQL.g:1:108: BY
 				{
-				mLESS_EQUALS(); 
+				mBY(); 
 
 				}
 				break;
-			case 10 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:87: EQUALS
+			case 15 :
+				// urSQL.g:1:111: ORDER
 				{
-				mEQUALS(); 
+				mORDER(); 
 
 				}
 				break;
-			case 11 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:94: LIKE
+			case 16 :
+				// urSQL.g:1:117: ASC
 				{
-				mLIKE(); 
+				mASC(); 
 
 				}
 				break;
-			case 12 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:99: IS
+			case 17 :
+				// urSQL.g:1:121: DESC
 				{
-				mIS(); 
+				mDESC(); 
 
 				}
 				break;
-			case 13 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:102: GROUP
+			case 18 :
+				// urSQL.g:1:126: LIMIT
 				{
-				mGROUP(); 
+				mLIMIT(); 
 
 				}
 				break;
-			case 14 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:108: BY
+			case 19 :
+				// urSQL.g:1:132: OFFSET
 				{
-				mBY(); 
+				mOFFSET(); 
 
 				}
 				break;
-			case 15 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:111: FOR
+			case 20 :
+				// urSQL.g:1:139: FOR
 				{
 				mFOR(); 
 
 				}
 				break;
-			case 16 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:115: JSON
+			case 21 :
+				// urSQL.g:1:143: JSON
 				{
 				mJSON(); 
 
 				}
 				break;
-			case 17 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:120: XML
+			case 22 :
+				// urSQL.g:1:148: XML
 				{
 				mXML(); 
 
 				}
 				break;
-			case 18 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:124: COUNT
+			case 23 :
+				// urSQL.g:1:152: COUNT
 				{
 				mCOUNT(); 
 
 				}
 				break;
-			case 19 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:130: AVERAGE
+			case 24 :
+				// urSQL.g:1:158: AVERAGE
 				{
 				mAVERAGE(); 
 
 				}
 				break;
-			case 20 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:138: MIN
+			case 25 :
+				// urSQL.g:1:166: MIN
 				{
 				mMIN(); 
 
 				}
 				break;
-			case 21 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:142: MAX
+			case 26 :
+				// urSQL.g:1:170: MAX
 				{
 				mMAX(); 
 
 				}
 				break;
-			case 22 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:146: UPDATE
+			case 27 :
+				// urSQL.g:1:174: UPDATE
 				{
 				mUPDATE(); 
 
 				}
 				break;
-			case 23 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:153: DELETE
+			case 28 :
+				// urSQL.g:1:181: DELETE
 				{
 				mDELETE(); 
 
 				}
 				break;
-			case 24 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:160: INSERT
+			case 29 :
+				// urSQL.g:1:188: INSERT
 				{
 				mINSERT(); 
 
 				}
 				break;
-			case 25 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:167: INTO
+			case 30 :
+				// urSQL.g:1:195: INTO
 				{
 				mINTO(); 
 
 				}
 				break;
-			case 26 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:172: VALUES
+			case 31 :
+				// urSQL.g:1:200: VALUES
 				{
 				mVALUES(); 
 
 				}
 				break;
-			case 27 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:179: CREATE
+			case 32 :
+				// urSQL.g:1:207: CREATE
 				{
 				mCREATE(); 
 
 				}
 				break;
-			case 28 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:186: DATABASE
+			case 33 :
+				// urSQL.g:1:214: DATABASE
 				{
 				mDATABASE(); 
 
 				}
 				break;
-			case 29 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:195: DROP
+			case 34 :
+				// urSQL.g:1:223: DROP
 				{
 				mDROP(); 
 
 				}
 				break;
-			case 30 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:200: LIST
+			case 35 :
+				// urSQL.g:1:228: LIST
 				{
 				mLIST(); 
 
 				}
 				break;
-			case 31 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:205: DATABASES
+			case 36 :
+				// urSQL.g:1:233: DATABASES
 				{
 				mDATABASES(); 
 
 				}
 				break;
-			case 32 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:215: START
+			case 37 :
+				// urSQL.g:1:243: START
 				{
 				mSTART(); 
 
 				}
 				break;
-			case 33 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:221: GET
+			case 38 :
+				// urSQL.g:1:249: GET
 				{
 				mGET(); 
 
 				}
 				break;
-			case 34 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:225: STATUS
+			case 39 :
+				// urSQL.g:1:253: STATUS
 				{
 				mSTATUS(); 
 
 				}
 				break;
-			case 35 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:232: STOP
+			case 40 :
+				// urSQL.g:1:260: STOP
 				{
 				mSTOP(); 
 
 				}
 				break;
-			case 36 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:237: DISPLAY
+			case 41 :
+				// urSQL.g:1:265: BEGIN
+				{
+				mBEGIN(); 
+
+				}
+				break;
+			case 42 :
+				// urSQL.g:1:271: COMMIT
+				{
+				mCOMMIT(); 
+
+				}
+				break;
+			case 43 :
+				// urSQL.g:1:278: ROLLBACK
+				{
+				mROLLBACK(); 
+
+				}
+				break;
+			case 44 :
+				// urSQL.g:1:287: DISPLAY
 				{
 				mDISPLAY(); 
 
 				}
 				break;
-			case 37 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:245: NEWLINE
+			case 45 :
+				// urSQL.g:1:295: NEWLINE
 				{
 				mNEWLINE(); 
 
 				}
 				break;
-			case 38 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:253: SET
+			case 46 :
+				// urSQL.g:1:303: SET
 				{
 				mSET(); 
 
 				}
 				break;
-			case 39 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:257: INDEX
+			case 47 :
+				// urSQL.g:1:307: INDEX
 				{
 				mINDEX(); 
 
 				}
 				break;
-			case 40 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:263: ON
+			case 48 :
+				// urSQL.g:1:313: INCLUDE
+				{
+				mINCLUDE(); 
+
+				}
+				break;
+			case 49 :
+				// urSQL.g:1:321: HASH
+				{
+				mHASH(); 
+
+				}
+				break;
+			case 50 :
+				// urSQL.g:1:326: ANALYZE
+				{
+				mANALYZE(); 
+
+				}
+				break;
+			case 51 :
+				// urSQL.g:1:334: EXPLAIN
+				{
+				mEXPLAIN(); 
+
+				}
+				break;
+			case 52 :
+				// urSQL.g:1:342: PARAM
+				{
+				mPARAM(); 
+
+				}
+				break;
+			case 53 :
+				// urSQL.g:1:348: ON
 				{
 				mON(); 
 
 				}
 				break;
-			case 41 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:266: TABLE
+			case 54 :
+				// urSQL.g:1:351: TABLE
 				{
 				mTABLE(); 
 
 				}
 				break;
-			case 42 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:272: ALTER
+			case 55 :
+				// urSQL.g:1:357: ALTER
 				{
 				mALTER(); 
 
 				}
 				break;
-			case 43 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:278: ADD
+			case 56 :
+				// urSQL.g:1:363: ADD
 				{
 				mADD(); 
 
 				}
 				break;
-			case 44 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:282: CONSTRAINT
+			case 57 :
+				// urSQL.g:1:367: CONSTRAINT
 				{
 				mCONSTRAINT(); 
 
 				}
 				break;
-			case 45 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:293: FOREIGN
+			case 58 :
+				// urSQL.g:1:378: FOREIGN
 				{
 				mFOREIGN(); 
 
 				}
 				break;
-			case 46 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:301: KEY
+			case 59 :
+				// urSQL.g:1:386: KEY
 				{
 				mKEY(); 
 
 				}
 				break;
-			case 47 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:305: REFERENCES
+			case 60 :
+				// urSQL.g:1:390: REFERENCES
 				{
 				mREFERENCES(); 
 
 				}
 				break;
-			case 48 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:316: AS
+			case 61 :
+				// urSQL.g:1:401: AS
 				{
 				mAS(); 
 
 				}
 				break;
-			case 49 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:319: INTEGER
+			case 62 :
+				// urSQL.g:1:404: INTEGER
 				{
 				mINTEGER(); 
 
 				}
 				break;
-			case 50 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:327: DECIMAL
+			case 63 :
+				// urSQL.g:1:412: DECIMAL
 				{
 				mDECIMAL(); 
 
 				}
 				break;
-			case 51 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:335: LEFT_PAR
+			case 64 :
+				// urSQL.g:1:420: LEFT_PAR
 				{
 				mLEFT_PAR(); 
 
 				}
 				break;
-			case 52 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:344: COLON
+			case 65 :
+				// urSQL.g:1:429: COLON
 				{
 				mCOLON(); 
 
 				}
 				break;
-			case 53 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:350: RIGHT_PAR
+			case 66 :
+				// urSQL.g:1:435: RIGHT_PAR
 				{
 				mRIGHT_PAR(); 
 
 				}
 				break;
-			case 54 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:360: CHARACTER
+			case 67 :
+				// urSQL.g:1:445: CHARACTER
 				{
 				mCHARACTER(); 
 
 				}
 				break;
-			case 55 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:370: VARCHAR
+			case 68 :
+				// urSQL.g:1:455: VARCHAR
 				{
 				mVARCHAR(); 
 
 				}
 				break;
-			case 56 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:378: DATETIME
+			case 69 :
+				// urSQL.g:1:463: DATETIME
 				{
 				mDATETIME(); 
 
 				}
 				break;
-			case 57 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:387: NULL
+			case 70 :
+				// urSQL.g:1:472: NULL
 				{
 				mNULL(); 
 
 				}
 				break;
-			case 58 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:392: NOT
+			case 71 :
+				// urSQL.g:1:477: NOT
 				{
 				mNOT(); 
 
 				}
 				break;
-			case 59 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:396: PRIMARY
+			case 72 :
+				// urSQL.g:1:481: PRIMARY
 				{
 				mPRIMARY(); 
 
 				}
 				break;
-			case 60 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:404: ID
+			case 73 :
+				// urSQL.g:1:489: ID
 				{
 				mID(); 
 
 				}
 				break;
-			case 61 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:407: INT
+			case 74 :
+				// urSQL.g:1:492: INT
 				{
 				mINT(); 
 
 				}
 				break;
-			case 62 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:411: FLOAT
+			case 75 :
+				// urSQL.g:1:496: FLOAT
 				{
 				mFLOAT(); 
 
 				}
 				break;
-			case 63 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:417: COMMENT
+			case 76 :
+				// urSQL.g:1:502: COMMENT
 				{
 				mCOMMENT(); 
 
 				}
 				break;
-			case 64 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:425: WS
+			case 77 :
+				// urSQL.g:1:510: WS
 				{
 				mWS(); 
 
 				}
 				break;
-			case 65 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:428: STRING
+			case 78 :
+				// urSQL.g:1:513: STRING
 				{
 				mSTRING(); 
 
 				}
 				break;
-			case 66 :
-				// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:1:435: CHAR
+			case 79 :
+				// urSQL.g:1:520: CHAR
 				{
 				mCHAR(); 
 
@@ -4034,21 +4724,21 @@ public class urSQLLexer extends Lexer {
 	}
 
 
-	protected DFA58 dfa58 = new DFA58(this);
-	protected DFA69 dfa69 = new DFA69(this);
-	static final String DFA58_eotS =
+	protected DFA70 dfa70 = new DFA70(this);
+	protected DFA81 dfa81 = new DFA81(this);
+	static final String DFA70_eotS =
 		"\5\uffff";
-	static final String DFA58_eofS =
+	static final String DFA70_eofS =
 		"\5\uffff";
-	static final String DFA58_minS =
+	static final String DFA70_minS =
 		"\2\56\3\uffff";
-	static final String DFA58_maxS =
+	static final String DFA70_maxS =
 		"\1\71\1\145\3\uffff";
-	static final String DFA58_acceptS =
+	static final String DFA70_acceptS =
 		"\2\uffff\1\2\1\1\1\3";
-	static final String DFA58_specialS =
+	static final String DFA70_specialS =
 		"\5\uffff}>";
-	static final String[] DFA58_transitionS = {
+	static final String[] DFA70_transitionS = {
 			"\1\2\1\uffff\12\1",
 			"\1\3\1\uffff\12\1\13\uffff\1\4\37\uffff\1\4",
 			"",
@@ -4056,304 +4746,308 @@ public class urSQLLexer extends Lexer {
 			""
 	};
 
-	static final short[] DFA58_eot = DFA.unpackEncodedString(DFA58_eotS);
-	static final short[] DFA58_eof = DFA.unpackEncodedString(DFA58_eofS);
-	static final char[] DFA58_min = DFA.unpackEncodedStringToUnsignedChars(DFA58_minS);
-	static final char[] DFA58_max = DFA.unpackEncodedStringToUnsignedChars(DFA58_maxS);
-	static final short[] DFA58_accept = DFA.unpackEncodedString(DFA58_acceptS);
-	static final short[] DFA58_special = DFA.unpackEncodedString(DFA58_specialS);
-	static final short[][] DFA58_transition;
+	static final short[] DFA70_eot = DFA.unpackEncodedString(DFA70_eotS);
+	static final short[] DFA70_eof = DFA.unpackEncodedString(DFA70_eofS);
+	static final char[] DFA70_min = DFA.unpackEncodedStringToUnsignedChars(DFA70_minS);
+	static final char[] DFA70_max = DFA.unpackEncodedStringToUnsignedChars(DFA70_maxS);
+	static final short[] DFA70_accept = DFA.unpackEncodedString(DFA70_acceptS);
+	static final short[] DFA70_special = DFA.unpackEncodedString(DFA70_specialS);
+	static final short[][] DFA70_transition;
 
 	static {
-		int numStates = DFA58_transitionS.length;
-		DFA58_transition = new short[numStates][];
+		int numStates = DFA70_transitionS.length;
+		DFA70_transition = new short[numStates][];
 		for (int i=0; i<numStates; i++) {
-			DFA58_transition[i] = DFA.unpackEncodedString(DFA58_transitionS[i]);
+			DFA70_transition[i] = DFA.unpackEncodedString(DFA70_transitionS[i]);
 		}
 	}
 
-	protected class DFA58 extends DFA {
+	protected class DFA70 extends DFA {
 
-		public DFA58(BaseRecognizer recognizer) {
+		public DFA70(BaseRecognizer recognizer) {
 			this.recognizer = recognizer;
-			this.decisionNumber = 58;
-			this.eot = DFA58_eot;
-			this.eof = DFA58_eof;
-			this.min = DFA58_min;
-			this.max = DFA58_max;
-			this.accept = DFA58_accept;
-			this.special = DFA58_special;
-			this.transition = DFA58_transition;
+			this.decisionNumber = 70;
+			this.eot = DFA70_eot;
+			this.eof = DFA70_eof;
+			this.min = DFA70_min;
+			this.max = DFA70_max;
+			this.accept = DFA70_accept;
+			this.special = DFA70_special;
+			this.transition = DFA70_transition;
 		}
 		@Override
 		public String getDescription() {
-			return "1067:1: FLOAT : ( ( '0' .. '9' )+ '.' ( '0' .. '9' )* ( EXPONENT )? | '.' ( '0' .. '9' )+ ( EXPONENT )? | ( '0' .. '9' )+ EXPONENT );";
+			return "1185:1: FLOAT : ( ( '0' .. '9' )+ '.' ( '0' .. '9' )* ( EXPONENT )? | '.' ( '0' .. '9' )+ ( EXPONENT )? | ( '0' .. '9' )+ EXPONENT );";
 		}
 	}
 
-	static final String DFA69_eotS =
-		"\1\uffff\2\63\1\uffff\6\63\1\111\1\113\1\uffff\26\63\1\uffff\10\63\3\uffff"+
-		"\4\63\1\uffff\1\u0087\5\uffff\16\63\4\uffff\2\63\1\u009e\1\63\1\u009e"+
-		"\5\63\2\u00a9\13\63\1\u00b7\3\63\1\u00b7\20\63\1\uffff\2\u00cf\14\63\1"+
-		"\uffff\1\63\1\u00dd\3\63\1\u00dd\3\63\1\u00e7\1\63\1\u00e7\12\63\1\uffff"+
-		"\7\63\1\u00fd\1\63\1\u00fd\1\uffff\2\u00ff\12\63\1\u010a\1\uffff\2\63"+
-		"\1\u010a\1\u010d\1\u010e\1\u010d\1\u010e\20\63\1\uffff\2\63\2\u0123\3"+
-		"\63\1\u0127\1\63\1\u0127\3\63\1\uffff\2\63\1\u012e\3\63\1\u012e\1\u0132"+
-		"\1\63\1\uffff\1\u0132\1\63\1\u0135\1\u0136\1\u0135\1\u0136\2\63\1\u0139"+
-		"\1\u013a\1\u0139\1\u013a\1\63\1\u013c\3\63\1\u013c\3\63\1\uffff\1\63\1"+
-		"\uffff\3\63\1\u0147\3\63\1\u0147\2\63\1\uffff\2\63\2\uffff\6\63\1\u0155"+
-		"\5\63\1\u0155\7\63\1\uffff\2\63\1\u0164\1\uffff\1\u0164\3\63\1\u0168\1"+
-		"\63\1\uffff\1\63\1\u0168\1\63\1\uffff\2\63\2\uffff\2\u016e\2\uffff\1\63"+
-		"\1\uffff\1\63\1\u0171\2\63\1\u0171\2\u0174\1\u0175\2\63\1\uffff\1\u0175"+
-		"\3\63\1\u017b\1\63\1\u017b\6\63\1\uffff\12\63\2\u018d\2\63\1\uffff\2\63"+
-		"\1\u0192\1\uffff\1\u0193\1\u0192\1\u0193\2\63\1\uffff\1\u0196\1\63\1\uffff"+
-		"\1\u0196\1\63\2\uffff\1\63\1\u019a\1\63\1\u019a\1\63\1\uffff\1\63\2\u019e"+
-		"\1\u019f\4\63\1\u019f\4\63\1\u01a8\1\63\1\u01a8\1\63\1\uffff\4\63\2\uffff"+
-		"\2\u01af\1\uffff\2\u01b0\1\63\1\uffff\1\63\2\u01b3\2\uffff\1\u01b4\2\63"+
-		"\1\u01b7\1\u01b4\2\63\1\u01b7\1\uffff\2\u01ba\2\63\2\u01bd\2\uffff\2\63"+
-		"\2\uffff\1\u01c1\1\u01c2\1\uffff\1\u01c1\1\u01c2\1\uffff\2\63\1\uffff"+
-		"\2\63\1\u01c8\2\uffff\1\u01c8\2\63\2\u01cb\1\uffff\2\u01cc\2\uffff";
-	static final String DFA69_eofS =
-		"\u01cd\uffff";
-	static final String DFA69_minS =
+	static final String DFA81_eotS =
+		"\1\uffff\2\70\1\uffff\6\70\1\116\1\120\1\uffff\32\70\1\uffff\4\70\1\uffff"+
+		"\4\70\3\uffff\4\70\1\uffff\1\u009a\5\uffff\16\70\4\uffff\2\70\1\u00b3"+
+		"\1\70\1\u00b3\5\70\1\u00c0\1\70\1\u00c0\3\70\1\u00c5\2\70\1\u00c5\1\u00c9"+
+		"\4\70\1\u00c9\40\70\1\uffff\16\70\1\uffff\1\70\1\u0108\3\70\1\u0108\3"+
+		"\70\1\u0112\1\70\1\u0112\14\70\1\uffff\11\70\1\u012c\1\70\1\u012c\1\uffff"+
+		"\4\70\1\uffff\2\70\1\u0134\1\uffff\3\70\1\u0138\1\u0134\3\70\1\u0138\14"+
+		"\70\2\u014a\12\70\1\u0155\1\u0156\1\u0155\1\u0156\20\70\2\u0167\1\70\1"+
+		"\u0169\1\70\1\u0169\3\70\1\uffff\2\70\1\u0170\3\70\1\u0170\1\u0174\1\70"+
+		"\1\uffff\1\u0174\1\70\1\u0177\1\u0178\1\u0177\1\u0178\2\70\1\u017b\1\70"+
+		"\1\u017d\1\u017b\1\70\1\u017d\1\70\1\u0180\4\70\1\u0180\4\70\1\uffff\7"+
+		"\70\1\uffff\3\70\1\uffff\3\70\1\u0196\4\70\1\u019b\1\70\1\u0196\4\70\1"+
+		"\u019b\1\70\1\uffff\4\70\1\u01a6\4\70\1\u01a6\2\uffff\12\70\2\u01b5\4"+
+		"\70\1\uffff\1\u01ba\1\uffff\1\u01ba\3\70\1\u01be\1\70\1\uffff\1\70\1\u01be"+
+		"\1\70\1\uffff\2\70\2\uffff\2\u01c4\1\uffff\1\u01c5\1\uffff\1\u01c5\1\70"+
+		"\1\uffff\1\70\1\u01c8\3\70\1\u01c8\1\70\2\u01cd\2\u01ce\1\u01cf\1\70\1"+
+		"\u01cf\3\70\1\u01d4\2\70\1\u01d4\1\uffff\4\70\1\uffff\6\70\1\u01e1\3\70"+
+		"\1\uffff\1\u01e1\15\70\1\uffff\2\70\2\u01f4\1\uffff\2\70\1\u01f7\1\uffff"+
+		"\1\u01f8\1\u01f7\1\u01f8\2\70\2\uffff\1\u01fb\1\70\1\uffff\1\70\1\u01fb"+
+		"\2\70\3\uffff\2\u0200\2\70\1\uffff\2\70\1\u0205\4\70\1\u0205\4\70\1\uffff"+
+		"\1\u020e\1\70\1\u0210\1\u020e\1\70\1\u0210\2\u0212\1\u0213\1\70\1\u0213"+
+		"\7\70\1\uffff\2\70\2\uffff\2\u021e\1\uffff\1\u021f\1\u0220\1\u021f\1\u0220"+
+		"\1\uffff\1\u0221\1\u0222\1\u0221\1\u0222\1\uffff\1\u0223\2\70\1\u0226"+
+		"\1\u0223\2\70\1\u0226\1\uffff\1\70\1\uffff\1\70\2\uffff\2\u022b\4\70\2"+
+		"\u0230\2\u0231\6\uffff\1\u0233\1\u0234\1\uffff\1\u0233\1\u0234\2\70\1"+
+		"\uffff\1\u0238\1\70\1\u0238\1\70\2\uffff\1\u023b\2\uffff\1\u023b\2\70"+
+		"\1\uffff\2\70\1\uffff\2\u0240\2\u0241\2\uffff";
+	static final String DFA81_eofS =
+		"\u0242\uffff";
+	static final String DFA81_minS =
 		"\1\11\1\105\1\145\1\uffff\1\117\1\157\1\117\1\157\1\110\1\150\2\75\1\uffff"+
-		"\1\111\1\151\1\116\1\156\1\105\1\145\1\131\1\171\1\115\1\155\1\110\1\150"+
-		"\1\104\1\144\1\101\1\141\1\120\1\160\1\101\1\141\1\101\1\141\1\uffff\1"+
-		"\116\1\156\1\101\1\141\1\105\1\145\1\105\1\145\3\uffff\1\117\1\157\1\122"+
-		"\1\162\1\uffff\1\56\5\uffff\1\114\1\101\1\154\1\141\1\117\1\122\1\157"+
-		"\1\162\1\111\1\117\1\151\1\157\1\105\1\145\4\uffff\1\113\1\153\1\60\1"+
-		"\104\1\60\1\144\1\117\1\124\1\157\1\164\2\60\1\114\1\154\1\116\1\105\1"+
-		"\101\1\156\1\145\1\141\1\105\1\124\1\104\1\60\1\145\1\164\1\144\1\60\1"+
-		"\116\1\130\1\156\1\170\1\104\1\144\1\103\1\124\1\117\1\123\1\143\1\164"+
-		"\1\157\1\163\1\114\1\154\1\uffff\2\60\1\102\1\142\1\131\1\171\1\106\1"+
-		"\146\1\114\1\124\1\154\1\164\1\111\1\151\1\uffff\1\105\1\60\1\122\1\120"+
-		"\1\145\1\60\1\162\1\160\1\115\1\60\1\155\1\60\2\116\2\156\1\122\1\162"+
-		"\1\105\1\124\1\145\1\164\1\uffff\3\105\3\145\1\125\1\60\1\165\1\60\1\uffff"+
-		"\2\60\1\116\1\123\1\101\1\122\1\156\1\163\1\141\1\162\1\122\1\105\1\60"+
-		"\1\uffff\1\162\1\145\5\60\1\101\1\141\1\105\1\111\1\101\2\120\1\145\1"+
-		"\151\1\141\2\160\1\125\1\103\1\165\1\143\1\uffff\1\114\1\154\2\60\1\105"+
-		"\1\145\1\114\1\60\1\154\1\60\1\115\1\155\1\103\1\uffff\1\124\1\125\1\60"+
-		"\1\143\1\164\1\165\2\60\1\111\1\uffff\1\60\1\151\4\60\1\105\1\145\4\60"+
-		"\1\122\1\60\1\107\1\130\1\162\1\60\1\147\1\170\1\120\1\uffff\1\160\1\uffff"+
-		"\3\124\1\60\3\164\1\60\1\101\1\122\1\uffff\1\141\1\162\2\uffff\1\124\1"+
-		"\164\1\124\1\115\1\102\1\124\1\60\1\114\1\164\1\155\1\142\1\164\1\60\1"+
-		"\154\1\105\1\110\1\145\1\150\1\105\1\145\1\uffff\1\122\1\162\1\60\1\uffff"+
-		"\1\60\1\101\1\141\1\124\1\60\1\123\1\uffff\1\164\1\60\1\163\1\uffff\1"+
-		"\107\1\147\2\uffff\2\60\2\uffff\1\124\1\uffff\1\105\1\60\1\164\1\145\4"+
-		"\60\1\122\1\105\1\uffff\1\60\1\162\1\145\1\107\1\60\1\147\1\60\1\105\1"+
-		"\145\1\105\2\101\1\111\1\uffff\1\101\1\145\2\141\1\151\1\141\1\123\1\101"+
-		"\1\163\1\141\2\60\1\105\1\145\1\uffff\1\122\1\162\1\60\1\uffff\3\60\1"+
-		"\116\1\156\1\uffff\1\60\1\122\1\uffff\1\60\1\162\2\uffff\1\101\1\60\1"+
-		"\141\1\60\1\105\1\uffff\1\145\3\60\1\114\1\123\1\115\1\131\1\60\1\154"+
-		"\1\163\1\155\1\171\1\60\1\122\1\60\1\162\1\uffff\1\116\1\156\1\131\1\171"+
-		"\2\uffff\2\60\1\uffff\2\60\1\111\1\uffff\1\151\2\60\2\uffff\1\60\2\105"+
-		"\2\60\2\145\1\60\1\uffff\2\60\1\103\1\143\2\60\2\uffff\1\116\1\156\2\uffff"+
-		"\2\60\1\uffff\2\60\1\uffff\1\105\1\145\1\uffff\1\124\1\164\1\60\2\uffff"+
-		"\1\60\1\123\1\163\2\60\1\uffff\2\60\2\uffff";
-	static final String DFA69_maxS =
+		"\1\111\1\151\1\116\1\156\1\105\1\145\1\105\1\145\1\106\1\146\1\104\1\144"+
+		"\1\101\1\141\1\115\1\155\1\110\1\150\1\101\1\141\1\120\1\160\1\101\1\141"+
+		"\1\105\1\145\1\uffff\1\101\1\141\1\130\1\170\1\uffff\1\101\1\141\1\105"+
+		"\1\145\3\uffff\1\117\1\157\1\122\1\162\1\uffff\1\56\5\uffff\1\114\1\101"+
+		"\1\154\1\141\1\117\1\122\1\157\1\162\1\111\1\117\1\151\1\157\1\105\1\145"+
+		"\4\uffff\1\113\1\153\1\60\1\103\1\60\1\143\1\117\1\124\1\157\1\164\1\60"+
+		"\1\107\1\60\1\147\1\104\1\106\1\60\1\144\1\146\2\60\1\105\1\101\1\124"+
+		"\1\104\1\60\1\145\1\141\1\164\1\144\1\103\1\124\1\117\1\123\1\143\1\164"+
+		"\1\157\1\163\1\114\1\154\1\115\1\105\1\101\1\155\1\145\1\141\1\116\1\130"+
+		"\1\156\1\170\1\104\1\144\1\114\1\154\1\114\1\106\1\154\1\146\1\uffff\1"+
+		"\123\1\163\1\120\1\160\1\102\1\142\1\131\1\171\1\114\1\124\1\154\1\164"+
+		"\1\111\1\151\1\uffff\1\105\1\60\1\122\1\120\1\145\1\60\1\162\1\160\1\115"+
+		"\1\60\1\155\1\60\2\116\2\156\1\122\1\162\1\105\1\111\1\124\1\145\1\151"+
+		"\1\164\1\uffff\3\105\1\114\3\145\1\154\1\125\1\60\1\165\1\60\1\uffff\1"+
+		"\111\1\151\1\105\1\123\1\uffff\1\145\1\163\1\60\1\uffff\1\122\1\114\1"+
+		"\105\2\60\1\162\1\154\1\145\1\60\1\103\1\105\1\111\1\101\2\120\1\143\1"+
+		"\145\1\151\1\141\2\160\2\60\1\116\1\115\1\123\1\101\1\122\1\156\1\155"+
+		"\1\163\1\141\1\162\4\60\1\101\1\141\1\125\1\103\1\165\1\143\1\114\1\105"+
+		"\1\154\1\145\1\110\1\150\1\114\1\154\1\114\1\154\2\60\1\114\1\60\1\154"+
+		"\1\60\1\115\1\155\1\103\1\uffff\1\124\1\125\1\60\1\143\1\164\1\165\2\60"+
+		"\1\111\1\uffff\1\60\1\151\4\60\1\105\1\145\1\60\1\124\2\60\1\164\1\60"+
+		"\1\122\1\60\1\107\1\130\1\125\1\162\1\60\1\147\1\170\1\165\1\120\1\uffff"+
+		"\1\160\1\116\1\156\1\122\1\105\1\162\1\145\1\uffff\1\101\1\131\1\122\1"+
+		"\uffff\1\141\1\171\1\162\1\60\1\124\1\115\1\102\1\124\1\60\1\114\1\60"+
+		"\1\164\1\155\1\142\1\164\1\60\1\154\1\uffff\1\124\1\111\2\124\1\60\1\164"+
+		"\1\151\2\164\1\60\2\uffff\1\124\1\164\1\105\1\110\1\145\1\150\1\102\1"+
+		"\122\1\142\1\162\2\60\1\101\1\141\1\105\1\145\1\uffff\1\60\1\uffff\1\60"+
+		"\1\101\1\141\1\124\1\60\1\123\1\uffff\1\164\1\60\1\163\1\uffff\1\107\1"+
+		"\147\2\uffff\2\60\1\uffff\1\60\1\uffff\1\60\1\124\1\uffff\1\105\1\60\1"+
+		"\104\1\164\1\145\1\60\1\144\5\60\1\124\1\60\1\164\1\107\1\132\1\60\1\147"+
+		"\1\172\1\60\1\uffff\1\105\2\101\1\111\1\uffff\1\101\1\145\2\141\1\151"+
+		"\1\141\1\60\1\124\1\122\1\105\1\uffff\1\60\1\164\1\162\1\145\1\105\1\145"+
+		"\1\123\1\101\1\163\1\141\1\101\1\105\1\141\1\145\1\uffff\1\111\1\151\2"+
+		"\60\1\uffff\1\122\1\162\1\60\1\uffff\3\60\1\116\1\156\2\uffff\1\60\1\122"+
+		"\1\uffff\1\105\1\60\1\162\1\145\3\uffff\2\60\2\105\1\uffff\2\145\1\60"+
+		"\1\114\1\123\1\115\1\131\1\60\1\154\1\163\1\155\1\171\1\uffff\1\60\1\101"+
+		"\2\60\1\141\4\60\1\122\1\60\1\162\1\103\1\116\1\143\1\156\1\116\1\156"+
+		"\1\uffff\1\131\1\171\2\uffff\2\60\1\uffff\4\60\1\uffff\4\60\1\uffff\1"+
+		"\60\2\105\2\60\2\145\1\60\1\uffff\1\111\1\uffff\1\151\2\uffff\2\60\1\113"+
+		"\1\103\1\153\1\143\4\60\6\uffff\2\60\1\uffff\2\60\1\116\1\156\1\uffff"+
+		"\1\60\1\105\1\60\1\145\2\uffff\1\60\2\uffff\1\60\1\124\1\164\1\uffff\1"+
+		"\123\1\163\1\uffff\4\60\2\uffff";
+	static final String DFA81_maxS =
 		"\1\172\1\124\1\164\1\uffff\1\122\1\162\1\123\1\163\1\110\1\150\2\75\1"+
-		"\uffff\1\111\1\151\1\123\1\163\1\122\1\162\1\131\1\171\1\115\1\155\1\122"+
-		"\1\162\1\126\1\166\1\111\1\151\1\120\1\160\1\122\1\162\1\101\1\141\1\uffff"+
-		"\1\116\1\156\1\101\1\141\1\105\1\145\1\105\1\145\3\uffff\1\125\1\165\1"+
-		"\122\1\162\1\uffff\1\145\5\uffff\1\124\1\117\1\164\1\157\1\117\1\122\1"+
-		"\157\1\162\1\111\1\117\1\151\1\157\1\105\1\145\4\uffff\1\123\1\163\1\172"+
-		"\1\124\1\172\1\164\1\117\1\124\1\157\1\164\2\172\1\114\1\154\1\125\1\105"+
-		"\1\101\1\165\1\145\1\141\1\105\1\124\1\104\1\172\1\145\1\164\1\144\1\172"+
-		"\1\116\1\130\1\156\1\170\1\104\1\144\1\114\1\124\1\117\1\123\1\154\1\164"+
-		"\1\157\1\163\1\122\1\162\1\uffff\2\172\1\102\1\142\1\131\1\171\1\106\1"+
-		"\146\1\114\1\124\1\154\1\164\1\111\1\151\1\uffff\1\105\1\172\1\124\1\120"+
-		"\1\145\1\172\1\164\1\160\1\115\1\172\1\155\1\172\2\116\2\156\1\122\1\162"+
-		"\1\105\1\124\1\145\1\164\1\uffff\1\105\1\117\1\105\1\145\1\157\1\145\1"+
-		"\125\1\172\1\165\1\172\1\uffff\2\172\1\116\1\123\1\101\1\122\1\156\1\163"+
-		"\1\141\1\162\1\122\1\105\1\172\1\uffff\1\162\1\145\5\172\1\101\1\141\1"+
-		"\105\1\111\1\105\2\120\1\145\1\151\1\145\2\160\1\125\1\103\1\165\1\143"+
-		"\1\uffff\1\114\1\154\2\172\1\105\1\145\1\114\1\172\1\154\1\172\1\115\1"+
-		"\155\1\103\1\uffff\1\124\1\125\1\172\1\143\1\164\1\165\2\172\1\111\1\uffff"+
-		"\1\172\1\151\4\172\1\105\1\145\4\172\1\122\1\172\1\107\1\130\1\162\1\172"+
-		"\1\147\1\170\1\120\1\uffff\1\160\1\uffff\3\124\1\172\3\164\1\172\1\101"+
-		"\1\122\1\uffff\1\141\1\162\2\uffff\1\124\1\164\1\124\1\115\1\102\1\124"+
-		"\1\172\1\114\1\164\1\155\1\142\1\164\1\172\1\154\1\105\1\110\1\145\1\150"+
-		"\1\105\1\145\1\uffff\1\122\1\162\1\172\1\uffff\1\172\1\101\1\141\1\124"+
+		"\uffff\1\111\1\151\1\123\1\163\1\122\1\162\1\131\1\171\1\122\1\162\1\126"+
+		"\1\166\1\122\1\162\1\115\1\155\1\122\1\162\1\111\1\151\1\120\1\160\1\101"+
+		"\1\141\1\117\1\157\1\uffff\1\101\1\141\1\130\1\170\1\uffff\1\101\1\141"+
+		"\1\105\1\145\3\uffff\1\125\1\165\1\122\1\162\1\uffff\1\145\5\uffff\1\124"+
+		"\1\117\1\164\1\157\1\117\1\122\1\157\1\162\1\111\1\117\1\151\1\157\1\105"+
+		"\1\145\4\uffff\1\123\1\163\1\172\1\124\1\172\1\164\1\117\1\124\1\157\1"+
+		"\164\1\172\1\107\1\172\1\147\1\104\1\106\1\172\1\144\1\146\2\172\1\105"+
+		"\1\101\1\124\1\104\1\172\1\145\1\141\1\164\1\144\1\123\1\124\1\117\1\123"+
+		"\1\163\1\164\1\157\1\163\1\114\1\154\1\125\1\105\1\101\1\165\1\145\1\141"+
+		"\1\116\1\130\1\156\1\170\1\104\1\144\1\122\1\162\1\114\1\106\1\154\1\146"+
+		"\1\uffff\1\123\1\163\1\120\1\160\1\102\1\142\1\131\1\171\1\114\1\124\1"+
+		"\154\1\164\1\111\1\151\1\uffff\1\105\1\172\1\124\1\120\1\145\1\172\1\164"+
+		"\1\160\1\115\1\172\1\155\1\172\2\116\2\156\1\122\1\162\1\105\1\111\1\124"+
+		"\1\145\1\151\1\164\1\uffff\1\105\1\117\1\105\1\114\1\145\1\157\1\145\1"+
+		"\154\1\125\1\172\1\165\1\172\1\uffff\1\111\1\151\1\105\1\123\1\uffff\1"+
+		"\145\1\163\1\172\1\uffff\1\122\1\114\1\105\2\172\1\162\1\154\1\145\1\172"+
+		"\1\103\1\105\1\111\1\105\2\120\1\143\1\145\1\151\1\145\2\160\2\172\1\116"+
+		"\1\115\1\123\1\101\1\122\1\156\1\155\1\163\1\141\1\162\4\172\1\101\1\141"+
+		"\1\125\1\103\1\165\1\143\1\114\1\105\1\154\1\145\1\110\1\150\1\114\1\154"+
+		"\1\114\1\154\2\172\1\114\1\172\1\154\1\172\1\115\1\155\1\103\1\uffff\1"+
+		"\124\1\125\1\172\1\143\1\164\1\165\2\172\1\111\1\uffff\1\172\1\151\4\172"+
+		"\1\105\1\145\1\172\1\124\2\172\1\164\1\172\1\122\1\172\1\107\1\130\1\125"+
+		"\1\162\1\172\1\147\1\170\1\165\1\120\1\uffff\1\160\1\116\1\156\1\122\1"+
+		"\105\1\162\1\145\1\uffff\1\101\1\131\1\122\1\uffff\1\141\1\171\1\162\1"+
+		"\172\1\124\1\115\1\102\1\124\1\172\1\114\1\172\1\164\1\155\1\142\1\164"+
+		"\1\172\1\154\1\uffff\1\124\1\111\2\124\1\172\1\164\1\151\2\164\1\172\2"+
+		"\uffff\1\124\1\164\1\105\1\110\1\145\1\150\1\102\1\122\1\142\1\162\2\172"+
+		"\1\101\1\141\1\105\1\145\1\uffff\1\172\1\uffff\1\172\1\101\1\141\1\124"+
 		"\1\172\1\123\1\uffff\1\164\1\172\1\163\1\uffff\1\107\1\147\2\uffff\2\172"+
-		"\2\uffff\1\124\1\uffff\1\105\1\172\1\164\1\145\4\172\1\122\1\105\1\uffff"+
-		"\1\172\1\162\1\145\1\107\1\172\1\147\1\172\1\105\1\145\1\105\2\101\1\111"+
-		"\1\uffff\1\101\1\145\2\141\1\151\1\141\1\123\1\101\1\163\1\141\2\172\1"+
-		"\105\1\145\1\uffff\1\122\1\162\1\172\1\uffff\3\172\1\116\1\156\1\uffff"+
-		"\1\172\1\122\1\uffff\1\172\1\162\2\uffff\1\101\1\172\1\141\1\172\1\105"+
-		"\1\uffff\1\145\3\172\1\114\1\123\1\115\1\131\1\172\1\154\1\163\1\155\1"+
-		"\171\1\172\1\122\1\172\1\162\1\uffff\1\116\1\156\1\131\1\171\2\uffff\2"+
-		"\172\1\uffff\2\172\1\111\1\uffff\1\151\2\172\2\uffff\1\172\2\105\2\172"+
-		"\2\145\1\172\1\uffff\2\172\1\103\1\143\2\172\2\uffff\1\116\1\156\2\uffff"+
-		"\2\172\1\uffff\2\172\1\uffff\1\105\1\145\1\uffff\1\124\1\164\1\172\2\uffff"+
-		"\1\172\1\123\1\163\2\172\1\uffff\2\172\2\uffff";
-	static final String DFA69_acceptS =
-		"\3\uffff\1\2\10\uffff\1\12\26\uffff\1\45\10\uffff\1\63\1\64\1\65\4\uffff"+
-		"\1\74\1\uffff\1\76\1\77\1\100\1\101\1\102\16\uffff\1\7\1\6\1\11\1\10\54"+
-		"\uffff\1\45\16\uffff\1\75\26\uffff\1\14\12\uffff\1\16\15\uffff\1\60\27"+
-		"\uffff\1\50\15\uffff\1\46\11\uffff\1\17\25\uffff\1\41\1\uffff\1\21\12"+
-		"\uffff\1\53\2\uffff\1\24\1\25\24\uffff\1\56\3\uffff\1\72\6\uffff\1\43"+
-		"\3\uffff\1\3\2\uffff\1\4\1\20\2\uffff\1\13\1\36\1\uffff\1\31\12\uffff"+
-		"\1\66\15\uffff\1\35\16\uffff\1\71\3\uffff\1\40\5\uffff\1\5\2\uffff\1\47"+
-		"\2\uffff\1\15\1\22\5\uffff\1\52\21\uffff\1\51\4\uffff\1\1\1\42\2\uffff"+
-		"\1\30\3\uffff\1\33\3\uffff\1\26\1\27\10\uffff\1\32\6\uffff\1\55\1\61\2"+
-		"\uffff\1\23\1\62\2\uffff\1\44\2\uffff\1\67\2\uffff\1\73\3\uffff\1\34\1"+
-		"\70\5\uffff\1\37\2\uffff\1\54\1\57";
-	static final String DFA69_specialS =
-		"\u01cd\uffff}>";
-	static final String[] DFA69_transitionS = {
-			"\1\67\1\43\2\uffff\1\67\22\uffff\1\67\1\uffff\1\70\4\uffff\1\71\1\54"+
-			"\1\56\1\3\1\uffff\1\55\1\uffff\1\65\1\66\12\64\2\uffff\1\13\1\14\1\12"+
-			"\2\uffff\1\31\1\23\1\27\1\37\1\63\1\4\1\21\1\63\1\17\1\6\1\50\1\15\1"+
-			"\33\1\57\1\44\1\61\1\63\1\52\1\1\1\46\1\35\1\41\1\10\1\25\2\63\4\uffff"+
-			"\1\63\1\uffff\1\32\1\24\1\30\1\40\1\63\1\5\1\22\1\63\1\20\1\7\1\51\1"+
-			"\16\1\34\1\60\1\45\1\62\1\63\1\53\1\2\1\47\1\36\1\42\1\11\1\26\2\63",
-			"\1\72\16\uffff\1\73",
-			"\1\74\16\uffff\1\75",
-			"",
-			"\1\77\2\uffff\1\76",
-			"\1\101\2\uffff\1\100",
-			"\1\102\3\uffff\1\103",
-			"\1\104\3\uffff\1\105",
-			"\1\106",
-			"\1\107",
-			"\1\110",
-			"\1\112",
+		"\1\uffff\1\172\1\uffff\1\172\1\124\1\uffff\1\105\1\172\1\104\1\164\1\145"+
+		"\1\172\1\144\5\172\1\124\1\172\1\164\1\107\1\132\1\172\1\147\2\172\1\uffff"+
+		"\1\105\2\101\1\111\1\uffff\1\101\1\145\2\141\1\151\1\141\1\172\1\124\1"+
+		"\122\1\105\1\uffff\1\172\1\164\1\162\1\145\1\105\1\145\1\123\1\101\1\163"+
+		"\1\141\1\101\1\105\1\141\1\145\1\uffff\1\111\1\151\2\172\1\uffff\1\122"+
+		"\1\162\1\172\1\uffff\3\172\1\116\1\156\2\uffff\1\172\1\122\1\uffff\1\105"+
+		"\1\172\1\162\1\145\3\uffff\2\172\2\105\1\uffff\2\145\1\172\1\114\1\123"+
+		"\1\115\1\131\1\172\1\154\1\163\1\155\1\171\1\uffff\1\172\1\101\2\172\1"+
+		"\141\4\172\1\122\1\172\1\162\1\103\1\116\1\143\1\156\1\116\1\156\1\uffff"+
+		"\1\131\1\171\2\uffff\2\172\1\uffff\4\172\1\uffff\4\172\1\uffff\1\172\2"+
+		"\105\2\172\2\145\1\172\1\uffff\1\111\1\uffff\1\151\2\uffff\2\172\1\113"+
+		"\1\103\1\153\1\143\4\172\6\uffff\2\172\1\uffff\2\172\1\116\1\156\1\uffff"+
+		"\1\172\1\105\1\172\1\145\2\uffff\1\172\2\uffff\1\172\1\124\1\164\1\uffff"+
+		"\1\123\1\163\1\uffff\4\172\2\uffff";
+	static final String DFA81_acceptS =
+		"\3\uffff\1\2\10\uffff\1\12\32\uffff\1\55\4\uffff\1\64\4\uffff\1\100\1"+
+		"\101\1\102\4\uffff\1\111\1\uffff\1\113\1\114\1\115\1\116\1\117\16\uffff"+
+		"\1\7\1\6\1\11\1\10\72\uffff\1\55\16\uffff\1\112\30\uffff\1\14\14\uffff"+
+		"\1\16\4\uffff\1\65\3\uffff\1\75\76\uffff\1\56\11\uffff\1\24\31\uffff\1"+
+		"\46\7\uffff\1\20\3\uffff\1\70\21\uffff\1\26\12\uffff\1\31\1\32\20\uffff"+
+		"\1\73\1\uffff\1\107\6\uffff\1\50\3\uffff\1\3\2\uffff\1\4\1\25\2\uffff"+
+		"\1\13\1\uffff\1\43\2\uffff\1\36\25\uffff\1\21\4\uffff\1\42\12\uffff\1"+
+		"\103\16\uffff\1\61\4\uffff\1\106\3\uffff\1\45\5\uffff\1\5\1\22\2\uffff"+
+		"\1\57\4\uffff\1\15\1\51\1\17\4\uffff\1\67\14\uffff\1\27\22\uffff\1\66"+
+		"\2\uffff\1\1\1\47\2\uffff\1\35\4\uffff\1\23\4\uffff\1\34\10\uffff\1\52"+
+		"\1\uffff\1\40\1\uffff\1\33\1\37\12\uffff\1\72\1\76\1\60\1\30\1\62\1\77"+
+		"\2\uffff\1\54\4\uffff\1\104\4\uffff\1\63\1\110\1\uffff\1\41\1\105\3\uffff"+
+		"\1\53\2\uffff\1\44\4\uffff\1\71\1\74";
+	static final String DFA81_specialS =
+		"\u0242\uffff}>";
+	static final String[] DFA81_transitionS = {
+			"\1\74\1\47\2\uffff\1\74\22\uffff\1\74\1\uffff\1\75\4\uffff\1\76\1\61"+
+			"\1\63\1\3\1\uffff\1\62\1\uffff\1\72\1\73\12\71\2\uffff\1\13\1\14\1\12"+
+			"\1\54\1\uffff\1\27\1\23\1\35\1\31\1\52\1\4\1\21\1\50\1\17\1\6\1\57\1"+
+			"\15\1\37\1\64\1\25\1\66\1\70\1\45\1\1\1\55\1\41\1\43\1\10\1\33\2\70\4"+
+			"\uffff\1\70\1\uffff\1\30\1\24\1\36\1\32\1\53\1\5\1\22\1\51\1\20\1\7\1"+
+			"\60\1\16\1\40\1\65\1\26\1\67\1\70\1\46\1\2\1\56\1\42\1\44\1\11\1\34\2"+
+			"\70",
+			"\1\77\16\uffff\1\100",
+			"\1\101\16\uffff\1\102",
 			"",
+			"\1\104\2\uffff\1\103",
+			"\1\106\2\uffff\1\105",
+			"\1\107\3\uffff\1\110",
+			"\1\111\3\uffff\1\112",
+			"\1\113",
 			"\1\114",
 			"\1\115",
-			"\1\117\4\uffff\1\116",
-			"\1\121\4\uffff\1\120",
-			"\1\123\14\uffff\1\122",
-			"\1\125\14\uffff\1\124",
-			"\1\126",
-			"\1\127",
-			"\1\130",
-			"\1\131",
-			"\1\134\6\uffff\1\132\2\uffff\1\133",
-			"\1\137\6\uffff\1\135\2\uffff\1\136",
-			"\1\142\7\uffff\1\141\6\uffff\1\143\2\uffff\1\140",
-			"\1\146\7\uffff\1\145\6\uffff\1\147\2\uffff\1\144",
-			"\1\151\7\uffff\1\150",
-			"\1\153\7\uffff\1\152",
-			"\1\154",
-			"\1\155",
-			"\1\157\3\uffff\1\156\3\uffff\1\161\10\uffff\1\160",
-			"\1\163\3\uffff\1\162\3\uffff\1\165\10\uffff\1\164",
-			"\1\166",
-			"\1\167",
-			"",
-			"\1\171",
-			"\1\172",
-			"\1\173",
-			"\1\174",
-			"\1\175",
-			"\1\176",
-			"\1\177",
-			"\1\u0080",
+			"\1\117",
 			"",
-			"",
-			"",
-			"\1\u0082\5\uffff\1\u0081",
-			"\1\u0084\5\uffff\1\u0083",
+			"\1\121",
+			"\1\122",
+			"\1\124\4\uffff\1\123",
+			"\1\126\4\uffff\1\125",
+			"\1\130\14\uffff\1\127",
+			"\1\132\14\uffff\1\131",
+			"\1\134\23\uffff\1\133",
+			"\1\136\23\uffff\1\135",
+			"\1\140\7\uffff\1\141\3\uffff\1\137",
+			"\1\143\7\uffff\1\144\3\uffff\1\142",
+			"\1\151\7\uffff\1\150\1\uffff\1\147\4\uffff\1\145\2\uffff\1\146",
+			"\1\156\7\uffff\1\155\1\uffff\1\154\4\uffff\1\152\2\uffff\1\153",
+			"\1\160\3\uffff\1\157\3\uffff\1\162\10\uffff\1\161",
+			"\1\164\3\uffff\1\163\3\uffff\1\166\10\uffff\1\165",
+			"\1\167",
+			"\1\170",
+			"\1\173\6\uffff\1\171\2\uffff\1\172",
+			"\1\176\6\uffff\1\174\2\uffff\1\175",
+			"\1\u0080\7\uffff\1\177",
+			"\1\u0082\7\uffff\1\u0081",
+			"\1\u0083",
+			"\1\u0084",
 			"\1\u0085",
 			"\1\u0086",
+			"\1\u0088\11\uffff\1\u0087",
+			"\1\u008a\11\uffff\1\u0089",
 			"",
-			"\1\65\1\uffff\12\64\13\uffff\1\65\37\uffff\1\65",
-			"",
+			"\1\u008c",
+			"\1\u008d",
+			"\1\u008e",
+			"\1\u008f",
 			"",
-			"",
-			"",
-			"",
-			"\1\u0088\7\uffff\1\u0089",
-			"\1\u008a\15\uffff\1\u008b",
-			"\1\u008c\7\uffff\1\u008d",
-			"\1\u008e\15\uffff\1\u008f",
 			"\1\u0090",
 			"\1\u0091",
 			"\1\u0092",
 			"\1\u0093",
-			"\1\u0094",
-			"\1\u0095",
-			"\1\u0096",
-			"\1\u0097",
+			"",
+			"",
+			"",
+			"\1\u0095\5\uffff\1\u0094",
+			"\1\u0097\5\uffff\1\u0096",
 			"\1\u0098",
 			"\1\u0099",
 			"",
+			"\1\72\1\uffff\12\71\13\uffff\1\72\37\uffff\1\72",
+			"",
+			"",
 			"",
 			"",
 			"",
-			"\1\u009a\7\uffff\1\u009b",
-			"\1\u009c\7\uffff\1\u009d",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00a1\16\uffff\1\u009f\1\u00a0",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00a4\16\uffff\1\u00a2\1\u00a3",
+			"\1\u009b\7\uffff\1\u009c",
+			"\1\u009d\15\uffff\1\u009e",
+			"\1\u009f\7\uffff\1\u00a0",
+			"\1\u00a1\15\uffff\1\u00a2",
+			"\1\u00a3",
+			"\1\u00a4",
 			"\1\u00a5",
 			"\1\u00a6",
 			"\1\u00a7",
 			"\1\u00a8",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00a9",
 			"\1\u00aa",
 			"\1\u00ab",
-			"\1\u00ad\6\uffff\1\u00ac",
-			"\1\u00ae",
-			"\1\u00af",
-			"\1\u00b1\6\uffff\1\u00b0",
-			"\1\u00b2",
-			"\1\u00b3",
-			"\1\u00b4",
-			"\1\u00b5",
-			"\1\u00b6",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00b8",
-			"\1\u00b9",
-			"\1\u00ba",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00bb",
+			"\1\u00ac",
+			"",
+			"",
+			"",
+			"",
+			"\1\u00ad\1\uffff\1\u00ae\5\uffff\1\u00af",
+			"\1\u00b0\1\uffff\1\u00b1\5\uffff\1\u00b2",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u00b7\1\u00b6\16\uffff\1\u00b4\1\u00b5",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u00bb\1\u00ba\16\uffff\1\u00b8\1\u00b9",
 			"\1\u00bc",
 			"\1\u00bd",
 			"\1\u00be",
 			"\1\u00bf",
-			"\1\u00c0",
-			"\1\u00c2\10\uffff\1\u00c1",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u00c1",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u00c2",
 			"\1\u00c3",
 			"\1\u00c4",
-			"\1\u00c5",
-			"\1\u00c7\10\uffff\1\u00c6",
-			"\1\u00c8",
-			"\1\u00c9",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u00c6",
+			"\1\u00c7",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\2\70\1\u00c8\27\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u00ca",
-			"\1\u00cb\5\uffff\1\u00cc",
-			"\1\u00cd\5\uffff\1\u00ce",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00cb",
+			"\1\u00cc",
+			"\1\u00cd",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\2\70\1\u00ce\27\70",
+			"\1\u00cf",
 			"\1\u00d0",
 			"\1\u00d1",
 			"\1\u00d2",
-			"\1\u00d3",
-			"\1\u00d4",
-			"\1\u00d5",
+			"\1\u00d5\10\uffff\1\u00d4\6\uffff\1\u00d3",
 			"\1\u00d6",
 			"\1\u00d7",
 			"\1\u00d8",
-			"\1\u00d9",
-			"\1\u00da",
-			"\1\u00db",
-			"",
+			"\1\u00db\10\uffff\1\u00da\6\uffff\1\u00d9",
 			"\1\u00dc",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00de\1\uffff\1\u00df",
+			"\1\u00dd",
+			"\1\u00de",
+			"\1\u00df",
 			"\1\u00e0",
-			"\1\u00e1",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00e2\1\uffff\1\u00e3",
+			"\1\u00e2\1\u00e3\6\uffff\1\u00e1",
 			"\1\u00e4",
 			"\1\u00e5",
-			"\12\63\7\uffff\4\63\1\u00e6\25\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00e8",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\4\63\1\u00e9\25\63",
+			"\1\u00e7\1\u00e8\6\uffff\1\u00e6",
+			"\1\u00e9",
 			"\1\u00ea",
 			"\1\u00eb",
 			"\1\u00ec",
@@ -4361,23 +5055,20 @@ public class urSQLLexer extends Lexer {
 			"\1\u00ee",
 			"\1\u00ef",
 			"\1\u00f0",
-			"\1\u00f1",
-			"\1\u00f2",
-			"\1\u00f3",
-			"",
-			"\1\u00f4",
-			"\1\u00f6\11\uffff\1\u00f5",
+			"\1\u00f1\5\uffff\1\u00f2",
+			"\1\u00f3\5\uffff\1\u00f4",
+			"\1\u00f5",
+			"\1\u00f6",
 			"\1\u00f7",
 			"\1\u00f8",
-			"\1\u00fa\11\uffff\1\u00f9",
+			"",
+			"\1\u00f9",
+			"\1\u00fa",
 			"\1\u00fb",
 			"\1\u00fc",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00fd",
 			"\1\u00fe",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00ff",
 			"\1\u0100",
 			"\1\u0101",
 			"\1\u0102",
@@ -4385,28 +5076,25 @@ public class urSQLLexer extends Lexer {
 			"\1\u0104",
 			"\1\u0105",
 			"\1\u0106",
-			"\1\u0107",
-			"\1\u0108",
-			"\1\u0109",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
+			"\1\u0107",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0109\1\uffff\1\u010a",
 			"\1\u010b",
 			"\1\u010c",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u010d\1\uffff\1\u010e",
 			"\1\u010f",
 			"\1\u0110",
-			"\1\u0111",
-			"\1\u0112",
-			"\1\u0113\3\uffff\1\u0114",
+			"\12\70\7\uffff\4\70\1\u0111\25\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0113",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\4\70\1\u0114\25\70",
 			"\1\u0115",
 			"\1\u0116",
 			"\1\u0117",
 			"\1\u0118",
-			"\1\u0119\3\uffff\1\u011a",
+			"\1\u0119",
+			"\1\u011a",
 			"\1\u011b",
 			"\1\u011c",
 			"\1\u011d",
@@ -4415,81 +5103,68 @@ public class urSQLLexer extends Lexer {
 			"\1\u0120",
 			"",
 			"\1\u0121",
-			"\1\u0122",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0123\11\uffff\1\u0122",
 			"\1\u0124",
 			"\1\u0125",
 			"\1\u0126",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0128",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0128\11\uffff\1\u0127",
 			"\1\u0129",
 			"\1\u012a",
 			"\1\u012b",
-			"",
-			"\1\u012c",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u012d",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\1\u012e",
 			"\1\u012f",
 			"\1\u0130",
 			"\1\u0131",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
+			"\1\u0132",
 			"\1\u0133",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0134",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0135",
+			"\1\u0136",
 			"\1\u0137",
-			"\1\u0138",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0139",
+			"\1\u013a",
 			"\1\u013b",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u013c",
 			"\1\u013d",
 			"\1\u013e",
-			"\1\u013f",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0140",
+			"\1\u013f\3\uffff\1\u0140",
 			"\1\u0141",
 			"\1\u0142",
-			"",
 			"\1\u0143",
-			"",
 			"\1\u0144",
 			"\1\u0145",
-			"\1\u0146",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0146\3\uffff\1\u0147",
 			"\1\u0148",
 			"\1\u0149",
-			"\1\u014a",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u014b",
 			"\1\u014c",
-			"",
 			"\1\u014d",
 			"\1\u014e",
-			"",
-			"",
 			"\1\u014f",
 			"\1\u0150",
 			"\1\u0151",
 			"\1\u0152",
 			"\1\u0153",
 			"\1\u0154",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0156",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u0157",
 			"\1\u0158",
 			"\1\u0159",
 			"\1\u015a",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u015b",
 			"\1\u015c",
 			"\1\u015d",
@@ -4497,210 +5172,368 @@ public class urSQLLexer extends Lexer {
 			"\1\u015f",
 			"\1\u0160",
 			"\1\u0161",
-			"",
 			"\1\u0162",
 			"\1\u0163",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0164",
 			"\1\u0165",
 			"\1\u0166",
-			"\1\u0167",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0169",
-			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0168",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u016a",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u016b",
-			"",
 			"\1\u016c",
 			"\1\u016d",
 			"",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"",
+			"\1\u016e",
 			"\1\u016f",
-			"",
-			"\1\u0170",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0171",
 			"\1\u0172",
 			"\1\u0173",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0176",
-			"\1\u0177",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0175",
 			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0178",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0176",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u0179",
 			"\1\u017a",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u017c",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u017d",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u017e",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u017f",
-			"\1\u0180",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u0181",
 			"\1\u0182",
-			"",
 			"\1\u0183",
 			"\1\u0184",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u0185",
 			"\1\u0186",
 			"\1\u0187",
 			"\1\u0188",
+			"",
 			"\1\u0189",
 			"\1\u018a",
 			"\1\u018b",
 			"\1\u018c",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u018d",
 			"\1\u018e",
 			"\1\u018f",
 			"",
 			"\1\u0190",
 			"\1\u0191",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0192",
 			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0193",
 			"\1\u0194",
 			"\1\u0195",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u0197",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u0198",
-			"",
-			"",
 			"\1\u0199",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u019b",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u019a",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u019c",
-			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u019d",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u019e",
+			"\1\u019f",
 			"\1\u01a0",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u01a1",
+			"",
 			"\1\u01a2",
 			"\1\u01a3",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u01a4",
 			"\1\u01a5",
-			"\1\u01a6",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u01a7",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u01a8",
 			"\1\u01a9",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u01aa",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
 			"",
 			"\1\u01ab",
 			"\1\u01ac",
 			"\1\u01ad",
 			"\1\u01ae",
-			"",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u01af",
+			"\1\u01b0",
 			"\1\u01b1",
-			"",
 			"\1\u01b2",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u01b5",
+			"\1\u01b3",
+			"\1\u01b4",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u01b6",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u01b7",
 			"\1\u01b8",
 			"\1\u01b9",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u01bb",
 			"\1\u01bc",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
-			"",
-			"\1\u01be",
+			"\1\u01bd",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u01bf",
 			"",
+			"\1\u01c0",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01c1",
 			"",
-			"\12\63\7\uffff\22\63\1\u01c0\7\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u01c2",
+			"\1\u01c3",
 			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\22\63\1\u01c3\7\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
-			"\1\u01c4",
-			"\1\u01c5",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"",
-			"\1\u01c6",
-			"\1\u01c7",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01c6",
 			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u01c7",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"\1\u01c9",
 			"\1\u01ca",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u01cb",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01cc",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01d0",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01d1",
+			"\1\u01d2",
+			"\1\u01d3",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01d5",
+			"\1\u01d6",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\1\u01d7",
+			"\1\u01d8",
+			"\1\u01d9",
+			"\1\u01da",
+			"",
+			"\1\u01db",
+			"\1\u01dc",
+			"\1\u01dd",
+			"\1\u01de",
+			"\1\u01df",
+			"\1\u01e0",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01e2",
+			"\1\u01e3",
+			"\1\u01e4",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01e5",
+			"\1\u01e6",
+			"\1\u01e7",
+			"\1\u01e8",
+			"\1\u01e9",
+			"\1\u01ea",
+			"\1\u01eb",
+			"\1\u01ec",
+			"\1\u01ed",
+			"\1\u01ee",
+			"\1\u01ef",
+			"\1\u01f0",
+			"\1\u01f1",
+			"",
+			"\1\u01f2",
+			"\1\u01f3",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\1\u01f5",
+			"\1\u01f6",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01f9",
+			"\1\u01fa",
+			"",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01fc",
+			"",
+			"\1\u01fd",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u01fe",
+			"\1\u01ff",
+			"",
+			"",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0201",
+			"\1\u0202",
+			"",
+			"\1\u0203",
+			"\1\u0204",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0206",
+			"\1\u0207",
+			"\1\u0208",
+			"\1\u0209",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u020a",
+			"\1\u020b",
+			"\1\u020c",
+			"\1\u020d",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u020f",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0211",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0214",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0215",
+			"\1\u0216",
+			"\1\u0217",
+			"\1\u0218",
+			"\1\u0219",
+			"\1\u021a",
+			"\1\u021b",
+			"",
+			"\1\u021c",
+			"\1\u021d",
+			"",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0224",
+			"\1\u0225",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0227",
+			"\1\u0228",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\1\u0229",
+			"",
+			"\1\u022a",
+			"",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u022c",
+			"\1\u022d",
+			"\1\u022e",
+			"\1\u022f",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\12\70\7\uffff\22\70\1\u0232\7\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\22\70\1\u0235\7\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0236",
+			"\1\u0237",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u0239",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u023a",
+			"",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"",
+			"",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\1\u023c",
+			"\1\u023d",
+			"",
+			"\1\u023e",
+			"\1\u023f",
 			"",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
+			"\12\70\7\uffff\32\70\4\uffff\1\70\1\uffff\32\70",
 			"",
 			""
 	};
 
-	static final short[] DFA69_eot = DFA.unpackEncodedString(DFA69_eotS);
-	static final short[] DFA69_eof = DFA.unpackEncodedString(DFA69_eofS);
-	static final char[] DFA69_min = DFA.unpackEncodedStringToUnsignedChars(DFA69_minS);
-	static final char[] DFA69_max = DFA.unpackEncodedStringToUnsignedChars(DFA69_maxS);
-	static final short[] DFA69_accept = DFA.unpackEncodedString(DFA69_acceptS);
-	static final short[] DFA69_special = DFA.unpackEncodedString(DFA69_specialS);
-	static final short[][] DFA69_transition;
+	static final short[] DFA81_eot = DFA.unpackEncodedString(DFA81_eotS);
+	static final short[] DFA81_eof = DFA.unpackEncodedString(DFA81_eofS);
+	static final char[] DFA81_min = DFA.unpackEncodedStringToUnsignedChars(DFA81_minS);
+	static final char[] DFA81_max = DFA.unpackEncodedStringToUnsignedChars(DFA81_maxS);
+	static final short[] DFA81_accept = DFA.unpackEncodedString(DFA81_acceptS);
+	static final short[] DFA81_special = DFA.unpackEncodedString(DFA81_specialS);
+	static final short[][] DFA81_transition;
 
 	static {
-		int numStates = DFA69_transitionS.length;
-		DFA69_transition = new short[numStates][];
+		int numStates = DFA81_transitionS.length;
+		DFA81_transition = new short[numStates][];
 		for (int i=0; i<numStates; i++) {
-			DFA69_transition[i] = DFA.unpackEncodedString(DFA69_transitionS[i]);
+			DFA81_transition[i] = DFA.unpackEncodedString(DFA81_transitionS[i]);
 		}
 	}
 
-	protected class DFA69 extends DFA {
+	protected class DFA81 extends DFA {
 
-		public DFA69(BaseRecognizer recognizer) {
+		public DFA81(BaseRecognizer recognizer) {
 			this.recognizer = recognizer;
-			this.decisionNumber = 69;
-			this.eot = DFA69_eot;
-			this.eof = DFA69_eof;
-			this.min = DFA69_min;
-			this.max = DFA69_max;
-			this.accept = DFA69_accept;
-			this.special = DFA69_special;
-			this.transition = DFA69_transition;
+			this.decisionNumber = 81;
+			this.eot = DFA81_eot;
+			this.eof = DFA81_eof;
+			this.min = DFA81_min;
+			this.max = DFA81_max;
+			this.accept = DFA81_accept;
+			this.special = DFA81_special;
+			this.transition = DFA81_transition;
 		}
 		@Override
 		public String getDescription() {
-			return "1:1: Tokens : ( SELECT | ALL | FROM | JOIN | WHERE | GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | IS | GROUP | BY | FOR | JSON | XML | COUNT | AVERAGE | MIN | MAX | UPDATE | DELETE | INSERT | INTO | VALUES | CREATE | DATABASE | DROP | LIST | DATABASES | START | GET | STATUS | STOP | DISPLAY | NEWLINE | SET | INDEX | ON | TABLE | ALTER | ADD | CONSTRAINT | FOREIGN | KEY | REFERENCES | AS | INTEGER | DECIMAL | LEFT_PAR | COLON | RIGHT_PAR | CHARACTER | VARCHAR | DATETIME | NULL | NOT | PRIMARY | ID | INT | FLOAT | COMMENT | WS | STRING | CHAR );";
+			return "1:1: Tokens : ( SELECT | ALL | FROM | JOIN | WHERE | GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | IS | GROUP | BY | ORDER | ASC | DESC | LIMIT | OFFSET | FOR | JSON | XML | COUNT | AVERAGE | MIN | MAX | UPDATE | DELETE | INSERT | INTO | VALUES | CREATE | DATABASE | DROP | LIST | DATABASES | START | GET | STATUS | STOP | BEGIN | COMMIT | ROLLBACK | DISPLAY | NEWLINE | SET | INDEX | INCLUDE | HASH | ANALYZE | EXPLAIN | PARAM | ON | TABLE | ALTER | ADD | CONSTRAINT | FOREIGN | KEY | REFERENCES | AS | INTEGER | DECIMAL | LEFT_PAR | COLON | RIGHT_PAR | CHARACTER | VARCHAR | DATETIME | NULL | NOT | PRIMARY | ID | INT | FLOAT | COMMENT | WS | STRING | CHAR );";
 		}
 	}
 
@@ -1,4 +1,4 @@
-// $ANTLR 3.5 /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g 2015-09-28 09:48:22
+// $ANTLR 3.5 urSQL.g 2026-10-19 12:17:32
 
 	package urSQL.QueryProcessor;
 	import java.io.*;
@@ -7,9 +7,14 @@
 import java.util.LinkedList;
 
 import urSQL.API.ResultSet;
+import urSQL.Metrics.PlanEvent;
+import urSQL.Server.Server;
+import urSQL.QueryProcessor.Plan.*;
 import urSQL.RuntimeDatabaseProcessor.Rutine.*;
 import urSQL.SystemCatalog.SystemCatalog;
 import urSQL.RuntimeDatabaseProcessor.Components.*;
+import urSQL.StoredDataManager.ScanPredicate;
+
 
 import org.antlr.runtime.*;
 import java.util.Stack;
@@ -19,89 +24,104 @@ import java.util.ArrayList;
 @SuppressWarnings("all")
 public class urSQLParser extends Parser {
 	public static final String[] tokenNames = new String[] {
-		"<invalid>", "<EOR>", "<DOWN>", "<UP>", "ADD", "ALL", "ALTER", "AS", "AVERAGE", 
-		"BY", "CHAR", "CHARACTER", "COLON", "COMMENT", "CONSTRAINT", "COUNT", 
-		"CREATE", "DATABASE", "DATABASES", "DATETIME", "DECIMAL", "DELETE", "DISPLAY", 
-		"DROP", "EQUALS", "ESC_SEQ", "EXPONENT", "FLOAT", "FOR", "FOREIGN", "FROM", 
-		"GET", "GREATER_EQUALS", "GREATER_THAN", "GROUP", "HEX_DIGIT", "ID", "INDEX", 
+		"<invalid>", "<EOR>", "<DOWN>", "<UP>", "ADD", "ALL", "ALTER", "ANALYZE", 
+		"AS", "ASC", "AVERAGE", "BEGIN", "BY", "CHAR", "CHARACTER", "COLON", "COMMENT", 
+		"COMMIT", "CONSTRAINT", "COUNT", "CREATE", "DATABASE", "DATABASES", "DATETIME", 
+		"DECIMAL", "DELETE", "DESC", "DISPLAY", "DROP", "EQUALS", "ESC_SEQ", "EXPLAIN", 
+		"EXPONENT", "FLOAT", "FOR", "FOREIGN", "FROM", "GET", "GREATER_EQUALS", 
+		"GREATER_THAN", "GROUP", "HASH", "HEX_DIGIT", "ID", "INCLUDE", "INDEX", 
 		"INSERT", "INT", "INTEGER", "INTO", "IS", "JOIN", "JSON", "KEY", "LEFT_PAR", 
-		"LESS_EQUALS", "LESS_THAN", "LIKE", "LIST", "MAX", "MIN", "NEWLINE", "NOT", 
-		"NULL", "OCTAL_ESC", "ON", "PRIMARY", "REFERENCES", "RIGHT_PAR", "SELECT", 
-		"SET", "START", "STATUS", "STOP", "STRING", "TABLE", "UNICODE_ESC", "UPDATE", 
-		"VALUES", "VARCHAR", "WHERE", "WS", "XML"
+		"LESS_EQUALS", "LESS_THAN", "LIKE", "LIMIT", "LIST", "MAX", "MIN", "NEWLINE", 
+		"NOT", "NULL", "OCTAL_ESC", "OFFSET", "ON", "ORDER", "PARAM", "PRIMARY", 
+		"REFERENCES", "RIGHT_PAR", "ROLLBACK", "SELECT", "SET", "START", "STATUS", 
+		"STOP", "STRING", "TABLE", "UNICODE_ESC", "UPDATE", "VALUES", "VARCHAR", 
+		"WHERE", "WS", "XML"
 	};
 	public static final int EOF=-1;
 	public static final int ADD=4;
 	public static final int ALL=5;
 	public static final int ALTER=6;
-	public static final int AS=7;
-	public static final int AVERAGE=8;
-	public static final int BY=9;
-	public static final int CHAR=10;
-	public static final int CHARACTER=11;
-	public static final int COLON=12;
-	public static final int COMMENT=13;
-	public static final int CONSTRAINT=14;
-	public static final int COUNT=15;
-	public static final int CREATE=16;
-	public static final int DATABASE=17;
-	public static final int DATABASES=18;
-	public static final int DATETIME=19;
-	public static final int DECIMAL=20;
-	public static final int DELETE=21;
-	public static final int DISPLAY=22;
-	public static final int DROP=23;
-	public static final int EQUALS=24;
-	public static final int ESC_SEQ=25;
-	public static final int EXPONENT=26;
-	public static final int FLOAT=27;
-	public static final int FOR=28;
-	public static final int FOREIGN=29;
-	public static final int FROM=30;
-	public static final int GET=31;
-	public static final int GREATER_EQUALS=32;
-	public static final int GREATER_THAN=33;
-	public static final int GROUP=34;
-	public static final int HEX_DIGIT=35;
-	public static final int ID=36;
-	public static final int INDEX=37;
-	public static final int INSERT=38;
-	public static final int INT=39;
-	public static final int INTEGER=40;
-	public static final int INTO=41;
-	public static final int IS=42;
-	public static final int JOIN=43;
-	public static final int JSON=44;
-	public static final int KEY=45;
-	public static final int LEFT_PAR=46;
-	public static final int LESS_EQUALS=47;
-	public static final int LESS_THAN=48;
-	public static final int LIKE=49;
-	public static final int LIST=50;
-	public static final int MAX=51;
-	public static final int MIN=52;
-	public static final int NEWLINE=53;
-	public static final int NOT=54;
-	public static final int NULL=55;
-	public static final int OCTAL_ESC=56;
-	public static final int ON=57;
-	public static final int PRIMARY=58;
-	public static final int REFERENCES=59;
-	public static final int RIGHT_PAR=60;
-	public static final int SELECT=61;
-	public static final int SET=62;
-	public static final int START=63;
-	public static final int STATUS=64;
-	public static final int STOP=65;
-	public static final int STRING=66;
-	public static final int TABLE=67;
-	public static final int UNICODE_ESC=68;
-	public static final int UPDATE=69;
-	public static final int VALUES=70;
-	public static final int VARCHAR=71;
-	public static final int WHERE=72;
-	public static final int WS=73;
-	public static final int XML=74;
+	public static final int ANALYZE=7;
+	public static final int AS=8;
+	public static final int ASC=9;
+	public static final int AVERAGE=10;
+	public static final int BEGIN=11;
+	public static final int BY=12;
+	public static final int CHAR=13;
+	public static final int CHARACTER=14;
+	public static final int COLON=15;
+	public static final int COMMENT=16;
+	public static final int COMMIT=17;
+	public static final int CONSTRAINT=18;
+	public static final int COUNT=19;
+	public static final int CREATE=20;
+	public static final int DATABASE=21;
+	public static final int DATABASES=22;
+	public static final int DATETIME=23;
+	public static final int DECIMAL=24;
+	public static final int DELETE=25;
+	public static final int DESC=26;
+	public static final int DISPLAY=27;
+	public static final int DROP=28;
+	public static final int EQUALS=29;
+	public static final int ESC_SEQ=30;
+	public static final int EXPLAIN=31;
+	public static final int EXPONENT=32;
+	public static final int FLOAT=33;
+	public static final int FOR=34;
+	public static final int FOREIGN=35;
+	public static final int FROM=36;
+	public static final int GET=37;
+	public static final int GREATER_EQUALS=38;
+	public static final int GREATER_THAN=39;
+	public static final int GROUP=40;
+	public static final int HASH=41;
+	public static final int HEX_DIGIT=42;
+	public static final int ID=43;
+	public static final int INCLUDE=44;
+	public static final int INDEX=45;
+	public static final int INSERT=46;
+	public static final int INT=47;
+	public static final int INTEGER=48;
+	public static final int INTO=49;
+	public static final int IS=50;
+	public static final int JOIN=51;
+	public static final int JSON=52;
+	public static final int KEY=53;
+	public static final int LEFT_PAR=54;
+	public static final int LESS_EQUALS=55;
+	public static final int LESS_THAN=56;
+	public static final int LIKE=57;
+	public static final int LIMIT=58;
+	public static final int LIST=59;
+	public static final int MAX=60;
+	public static final int MIN=61;
+	public static final int NEWLINE=62;
+	public static final int NOT=63;
+	public static final int NULL=64;
+	public static final int OCTAL_ESC=65;
+	public static final int OFFSET=66;
+	public static final int ON=67;
+	public static final int ORDER=68;
+	public static final int PARAM=69;
+	public static final int PRIMARY=70;
+	public static final int REFERENCES=71;
+	public static final int RIGHT_PAR=72;
+	public static final int ROLLBACK=73;
+	public static final int SELECT=74;
+	public static final int SET=75;
+	public static final int START=76;
+	public static final int STATUS=77;
+	public static final int STOP=78;
+	public static final int STRING=79;
+	public static final int TABLE=80;
+	public static final int UNICODE_ESC=81;
+	public static final int UPDATE=82;
+	public static final int VALUES=83;
+	public static final int VARCHAR=84;
+	public static final int WHERE=85;
+	public static final int WS=86;
+	public static final int XML=87;
 
 	// delegates
 	public Parser[] getDelegates() {
@@ -119,29 +139,67 @@ public class urSQLParser extends Parser {
 	}
 
 	@Override public String[] getTokenNames() { return urSQLParser.tokenNames; }
-	@Override public String getGrammarFileName() { return "/home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g"; }
+	@Override public String getGrammarFileName() { return "urSQL.g"; }
 
 
 		private ResultSet rs;
 		private boolean executed = true;
 		private Routine routine;
-		
-		public Routine getRoutine() 
+		private int parameters = 0;
+		private String[] peek = null;
+		private String database = null;
+		private LinkedList<LogicalNode> operators = new LinkedList<LogicalNode>();
+
+		/**
+		 * Valores con que se va a ejecutar la primera vez una sentencia con
+		 * parametros; el optimizador los usa para estimar cuantas filas
+		 * cumplen las condiciones
+		 */
+		public void setPeekValues(String[] values)
+		{
+			this.peek = values;
+		}
+
+		/**
+		 * Base de datos de la sesion, en la que se planean las sentencias
+		 */
+		public void setDatabase(String database)
+		{
+			this.database = database;
+		}
+
+		/**
+		 * Cantidad de parametros [?] de la sentencia
+		 */
+		public int getParameterCount()
+		{
+			return this.parameters;
+		}
+
+		/**
+		 * Marca del siguiente parametro de la sentencia
+		 */
+		private String nextParameter()
+		{
+			return Parameter.marker(this.parameters++);
+		}
+
+		public Routine getRoutine()
 		{
 			return this.routine;
 		}
-		
+
 		public ResultSet getResultSet()
 		{
 			return this.rs;
 		}
-		
+
 		public boolean getStatus()
 		{
 			return this.executed;
 		}
 
-		public void displayRecognitionError(String[] tokenNames, RecognitionException e) 
+		public void displayRecognitionError(String[] tokenNames, RecognitionException e)
 		{
 			this.executed = false;
 			String hdr = getErrorHeader(e);
@@ -151,133 +209,142 @@ public class urSQLParser extends Parser {
 			String lineNumber = "";
 			lineNumber += Character.toString(c);
 			c = tmp.charAt(1);
-			if (!Character.toString(c).equals(":")) 
+			if (!Character.toString(c).equals(":"))
 			{
 				lineNumber += Character.toString(c);
 			}
 			System.out.println("Error 42000: Syntax error or access rule violation in line " + lineNumber);
 		}
-		
-		public void delete(String tableName, Vector<String> condition) 
-		{
-			ComponentFrom from = new ComponentFrom(tableName, (new LinkedList<String>()));
-			ComponentWhere where = null;
-			if (!condition.isEmpty()) {
-				where = new ComponentWhere(condition.get(2), condition.get(0), condition.get(1));
-			} else {
-				where = new ComponentWhere("", "*", "");
-			}
-			this.routine = new RoutineDML("DELETE");
-			this.routine.getComponents().add(from); 
-			this.routine.getComponents().add(where);
-		}
-		
-		public void update(String tableName, String columna, String value, Vector<String> condition) 
-		{
-			ComponentFrom from = new ComponentFrom(tableName, (new LinkedList<String>()));
-			ComponentWhere where = null;
-			if (!condition.isEmpty()) {
-				where = new ComponentWhere(condition.get(2), condition.get(0), condition.get(1));
-			} else {
-				where = new ComponentWhere("", "*", "");
-			}
-			ComponentSet set = new ComponentSet(columna, value);
-			this.routine = new RoutineDML("SET");
-			this.routine.getComponents().add(from); 
-			this.routine.getComponents().add(where);
-			this.routine.getComponents().add(set);
-		}
-		
-		public void insert(String tableName, Vector<String> columnas, Vector<String> valores) 
+
+		/**
+		 * Optimiza el plan logico de una sentencia DML y crea su rutina
+		 *
+		 * @return el plan optimizado, para el plan de ejecucion
+		 */
+		private LogicalNode plan(LogicalNode logical)
 		{
-			ComponentFrom from = new ComponentFrom(tableName, (new LinkedList<String>()));
-			LinkedList<String> cols = new LinkedList<String>();
-			LinkedList<String> vals = new LinkedList<String>();
-			for (int i = 0; i < columnas.size(); i++) 
-			{
-				cols.add(columnas.get(i));
-				vals.add(valores.get(i));
+			PlanEvent event = new PlanEvent();
+			event.begin();
+			LogicalNode optimized = Optimizer.optimize(this.database, logical, this.peek);
+			this.operators.clear();
+			this.routine = PhysicalPlanner.toRoutine(optimized, this.operators);
+			event.end();
+			if (event.shouldCommit()) {
+				LogicalNode scan = optimized;
+				while (scan.getChild() != null) {
+					scan = scan.getChild();
+				}
+				event.table = ((ScanNode) scan).getTable();
+				event.components = this.operators.size();
+				event.estimatedRows = Math.round(optimized.getEstimatedRows());
+				event.commit();
 			}
-			ComponentInsert ins = new ComponentInsert(cols, vals);
-			this.routine = new RoutineDML("INSERT");
-			this.routine.getComponents().add(from); 
-			this.routine.getComponents().add(ins);
+			return optimized;
 		}
-		
-		public void select(Vector<String> columnas, Vector<String> tablas, Vector<String> cond, Vector<String> group, String xml) 
+
+		/**
+		 * Cambia la rutina de la sentencia DML por la que la describe
+		 *
+		 * @param analyze true para ejecutarla y medir cada componente
+		 */
+		public void explain(boolean analyze)
 		{
-			ComponentFrom from = null;
-			if (tablas.size() > 1) 
-			{
-				LinkedList<String> tabs = new LinkedList<String>();
-				for (int i = 1; i < tablas.size(); i++) 
-				{
-					tabs.add(tablas.get(i));
-				}
-				from = new ComponentFrom(tablas.get(0), tabs);
-			} 
-			else 
-			{
-				from = new ComponentFrom(tablas.get(0), (new LinkedList<String>()));
-			}
-			this.routine = new RoutineDML("SELECT");
-			this.routine.getComponents().add(from);
-			ComponentWhere where = null;
-			if (!cond.isEmpty()) {
-				where = new ComponentWhere(cond.get(2), cond.get(0), cond.get(1));
-			} else {
-				where = new ComponentWhere("", "*", "");
-			}
-			this.routine.getComponents().add(where);
-			if (!group.isEmpty()) {
-				LinkedList<String> cols = new LinkedList<String>();
-				for (int i = 0; i < group.size(); i++) 
-				{
-					cols.add(group.get(i));
-				}
-				ComponentGroup g = new ComponentGroup(cols);
-				this.routine.getComponents().add(g);
+			if (this.routine == null) {
+				return;
 			}
-			ComponentFor f = new ComponentFor(xml);
-			this.routine.getComponents().add(f);
-			for (int i = 0; i < columnas.size(); i+=2) 
-			{
-				//ComponentAggregateFunction ag = new ComponentAggregateFunction(columnas.get(i), columnas.get(i + 1));
-				//this.routine.getComponents().add(ag);
+			LinkedList<String> descriptions = new LinkedList<String>();
+			LinkedList<Double> estimates = new LinkedList<Double>();
+			for (LogicalNode node : this.operators) {
+				descriptions.add(node.describe());
+				estimates.add(node.getEstimatedRows());
 			}
+			this.routine = new RoutineExplain(this.routine, descriptions, estimates, analyze);
+		}
+
+		public LogicalNode delete(DeleteStatement statement)
+		{
+			return this.plan(Planner.plan(statement));
+		}
+
+		public LogicalNode update(UpdateStatement statement)
+		{
+			return this.plan(Planner.plan(statement));
+		}
+
+		public LogicalNode insert(InsertStatement statement)
+		{
+			return this.plan(Planner.plan(statement));
+		}
+
+		public LogicalNode select(SelectStatement statement)
+		{
+			return this.plan(Planner.plan(statement));
 		}
-		
+
+		public void analyze(String tableName) {
+			ComponentAnalyze an = new ComponentAnalyze(tableName);
+			this.routine = new RoutineDLL("ANALYZE");
+			this.routine.getComponents().add(an);
+		}
+
 		public void dropTable(String tableName) {
 			ComponentDropTable dt = new ComponentDropTable(tableName);
 			this.routine = new RoutineDLL("DROP_TABLE");
 			this.routine.getComponents().add(dt);
 		}
-		
+
 		public void createTable(String table, Vector<Vector<String>> col, String pk) {
-			ComponentCreateTable ct = new ComponentCreateTable(table, col, pk);
+			ComponentCreateTable ct = new ComponentCreateTable(table, new Vector<Vector<String>>(col), pk);
 			this.routine = new RoutineDLL("CREATE_TABLE");
 			this.routine.getComponents().add(ct);
 		}
-		
+
+		public void createIndex(String index, String table, Vector<String> columns, Vector<String> include,
+				boolean hash) {
+			ComponentCreateIndex ci = new ComponentCreateIndex(index, table, 
+				new LinkedList<String>(columns), new LinkedList<String>(include), hash);
+			this.routine = new RoutineDLL("CREATE_INDEX");
+			this.routine.getComponents().add(ci);
+		}
+
 		public void dropDB(String name) {
 			ComponentDropDatabase dd = new ComponentDropDatabase(name);
 			this.routine = new RoutineDLL("DROP_DATABASE");
 			this.routine.getComponents().add(dd);
 		}
 
-		public void createDB(String name) 
+		public void createDB(String name)
 		{
 			ComponentNewDatabase cd = new ComponentNewDatabase(name);
 			this.routine = new RoutineDLL("NEW_DATABASE");
 			this.routine.getComponents().add(cd);
 		}
-		
+
 		public void setDB(String name) {
 			ComponentSetDatabase sd = new ComponentSetDatabase(name);
 			this.routine = new RoutineDLL("SET_DATABASE");
 			this.routine.getComponents().add(sd);
 		}
-		
+
+		public void status() {
+			ComponentStatus st = new ComponentStatus();
+			this.routine = new RoutineDLL("GET_STATUS");
+			this.routine.getComponents().add(st);
+		}
+
+		public void server(String action, String port) {
+			int number = port == null ? Server.defaultPort() : Integer.parseInt(port);
+			ComponentServer cs = new ComponentServer(action, number);
+			this.routine = new RoutineDLL(action);
+			this.routine.getComponents().add(cs);
+		}
+
+		public void transaction(String action) {
+			ComponentTransaction tr = new ComponentTransaction(action);
+			this.routine = new RoutineDLL(action);
+			this.routine.getComponents().add(tr);
+		}
+
 		public void listDB() {
 			ComponentListDatabases ld = new ComponentListDatabases();
 			this.routine = new RoutineDLL("LIST_DATABASES");
@@ -289,10 +356,9 @@ public class urSQLParser extends Parser {
 		Vector<String> type_null;
 		Vector<String> column;
 		Vector<String> values;
-		Vector<String> condition;
-		Vector<String> select_columns;
-		Vector<String> select_tables;
-		Vector<String> select_group;
+		Condition condition;
+		String condition_value;
+		SelectStatement select;
 		Vector<Vector<String>> columns;
 		String tmp;
 		PrintWriter writer;
@@ -301,28 +367,27 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "programa"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:188:1: programa : ( clp_commands | ddl_commands | dml_commands );
-	public final void programa()   {
+	// urSQL.g:239:1: programa : ( clp_commands | ddl_commands | dml_commands );
+	public final void programa() throws RecognitionException {
 		programa_stack.push(new programa_scope());
 
 			programa_stack.peek().type_null = new Vector<String>();
 			programa_stack.peek().column = new Vector<String>();
 			programa_stack.peek().values = new Vector<String>();
-			programa_stack.peek().condition = new Vector<String>();
-			programa_stack.peek().select_columns = new Vector<String>();
-			programa_stack.peek().select_tables = new Vector<String>();
-			programa_stack.peek().select_group = new Vector<String>();
+			programa_stack.peek().condition = null;
+			programa_stack.peek().condition_value = "";
+			programa_stack.peek().select = new SelectStatement();
 			programa_stack.peek().columns = new Vector<Vector<String>>();
 			programa_stack.peek().tmp = "";
 			try
 			{
 				programa_stack.peek().writer = new PrintWriter("plan_ejecucion.txt", "UTF-8");
-			} catch (IOException e) 
+			} catch (IOException e)
 			{
 			};
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:223:2: ( clp_commands | ddl_commands | dml_commands )
+			// urSQL.g:269:2: ( clp_commands | ddl_commands | dml_commands )
 			int alt1=3;
 			switch ( input.LA(1) ) {
 			case CREATE:
@@ -331,7 +396,7 @@ public class urSQLParser extends Parser {
 				if ( (LA1_1==DATABASE) ) {
 					alt1=1;
 				}
-				else if ( (LA1_1==INDEX||LA1_1==TABLE) ) {
+				else if ( (LA1_1==HASH||LA1_1==INDEX||LA1_1==TABLE) ) {
 					alt1=2;
 				}
 
@@ -373,9 +438,12 @@ public class urSQLParser extends Parser {
 
 				}
 				break;
+			case BEGIN:
+			case COMMIT:
 			case DISPLAY:
 			case GET:
 			case LIST:
+			case ROLLBACK:
 			case START:
 			case STOP:
 				{
@@ -388,12 +456,14 @@ public class urSQLParser extends Parser {
 				}
 				break;
 			case ALTER:
+			case ANALYZE:
 			case SET:
 				{
 				alt1=2;
 				}
 				break;
 			case DELETE:
+			case EXPLAIN:
 			case INSERT:
 			case SELECT:
 			case UPDATE:
@@ -408,27 +478,27 @@ public class urSQLParser extends Parser {
 			}
 			switch (alt1) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:223:4: clp_commands
+					// urSQL.g:269:4: clp_commands
 					{
-					pushFollow(FOLLOW_clp_commands_in_programa66);
+					pushFollow(FOLLOW_clp_commands_in_programa57);
 					clp_commands();
 					state._fsp--;
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:224:4: ddl_commands
+					// urSQL.g:270:4: ddl_commands
 					{
-					pushFollow(FOLLOW_ddl_commands_in_programa71);
+					pushFollow(FOLLOW_ddl_commands_in_programa62);
 					ddl_commands();
 					state._fsp--;
 
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:225:4: dml_commands
+					// urSQL.g:271:4: dml_commands
 					{
-					pushFollow(FOLLOW_dml_commands_in_programa76);
+					pushFollow(FOLLOW_dml_commands_in_programa67);
 					dml_commands();
 					state._fsp--;
 
@@ -451,13 +521,13 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "dml_commands"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:229:1: dml_commands : ( ( select | update | delete | insert ) ( clp_commands | ddl_commands | dml_commands ) |);
-	public final void dml_commands()   {
+	// urSQL.g:275:1: dml_commands : ( ( select | update | delete | insert | explain ) ( clp_commands | ddl_commands | dml_commands ) |);
+	public final void dml_commands() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:230:2: ( ( select | update | delete | insert ) ( clp_commands | ddl_commands | dml_commands ) |)
+			// urSQL.g:276:2: ( ( select | update | delete | insert | explain ) ( clp_commands | ddl_commands | dml_commands ) |)
 			int alt4=2;
 			int LA4_0 = input.LA(1);
-			if ( (LA4_0==DELETE||LA4_0==INSERT||LA4_0==SELECT||LA4_0==UPDATE) ) {
+			if ( (LA4_0==DELETE||LA4_0==EXPLAIN||LA4_0==INSERT||LA4_0==SELECT||LA4_0==UPDATE) ) {
 				alt4=1;
 			}
 			else if ( (LA4_0==EOF) ) {
@@ -472,10 +542,10 @@ public class urSQLParser extends Parser {
 
 			switch (alt4) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:230:4: ( select | update | delete | insert ) ( clp_commands | ddl_commands | dml_commands )
+					// urSQL.g:276:4: ( select | update | delete | insert | explain ) ( clp_commands | ddl_commands | dml_commands )
 					{
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:230:4: ( select | update | delete | insert )
-					int alt2=4;
+					// urSQL.g:276:4: ( select | update | delete | insert | explain )
+					int alt2=5;
 					switch ( input.LA(1) ) {
 					case SELECT:
 						{
@@ -497,6 +567,11 @@ public class urSQLParser extends Parser {
 						alt2=4;
 						}
 						break;
+					case EXPLAIN:
+						{
+						alt2=5;
+						}
+						break;
 					default:
 						NoViableAltException nvae =
 							new NoViableAltException("", 2, 0, input);
@@ -504,45 +579,54 @@ public class urSQLParser extends Parser {
 					}
 					switch (alt2) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:230:6: select
+							// urSQL.g:276:6: select
 							{
-							pushFollow(FOLLOW_select_in_dml_commands93);
+							pushFollow(FOLLOW_select_in_dml_commands82);
 							select();
 							state._fsp--;
 
 							}
 							break;
 						case 2 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:231:4: update
+							// urSQL.g:277:4: update
 							{
-							pushFollow(FOLLOW_update_in_dml_commands98);
+							pushFollow(FOLLOW_update_in_dml_commands87);
 							update();
 							state._fsp--;
 
 							}
 							break;
 						case 3 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:232:4: delete
+							// urSQL.g:278:4: delete
 							{
-							pushFollow(FOLLOW_delete_in_dml_commands103);
+							pushFollow(FOLLOW_delete_in_dml_commands92);
 							delete();
 							state._fsp--;
 
 							}
 							break;
 						case 4 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:233:4: insert
+							// urSQL.g:279:4: insert
 							{
-							pushFollow(FOLLOW_insert_in_dml_commands108);
+							pushFollow(FOLLOW_insert_in_dml_commands97);
 							insert();
 							state._fsp--;
 
+							}
+							break;
+						case 5 :
+							// urSQL.g:280:4: explain
+							{
+							pushFollow(FOLLOW_explain_in_dml_commands102);
+							explain();
+							state._fsp--;
+
 							}
 							break;
 
 					}
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:233:13: ( clp_commands | ddl_commands | dml_commands )
+					// urSQL.g:280:14: ( clp_commands | ddl_commands | dml_commands )
 					int alt3=3;
 					switch ( input.LA(1) ) {
 					case CREATE:
@@ -551,7 +635,7 @@ public class urSQLParser extends Parser {
 						if ( (LA3_1==DATABASE) ) {
 							alt3=1;
 						}
-						else if ( (LA3_1==INDEX||LA3_1==TABLE) ) {
+						else if ( (LA3_1==HASH||LA3_1==INDEX||LA3_1==TABLE) ) {
 							alt3=2;
 						}
 
@@ -593,9 +677,12 @@ public class urSQLParser extends Parser {
 
 						}
 						break;
+					case BEGIN:
+					case COMMIT:
 					case DISPLAY:
 					case GET:
 					case LIST:
+					case ROLLBACK:
 					case START:
 					case STOP:
 						{
@@ -608,12 +695,14 @@ public class urSQLParser extends Parser {
 						}
 						break;
 					case ALTER:
+					case ANALYZE:
 					case SET:
 						{
 						alt3=2;
 						}
 						break;
 					case DELETE:
+					case EXPLAIN:
 					case INSERT:
 					case SELECT:
 					case UPDATE:
@@ -628,27 +717,27 @@ public class urSQLParser extends Parser {
 					}
 					switch (alt3) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:233:15: clp_commands
+							// urSQL.g:280:16: clp_commands
 							{
-							pushFollow(FOLLOW_clp_commands_in_dml_commands114);
+							pushFollow(FOLLOW_clp_commands_in_dml_commands108);
 							clp_commands();
 							state._fsp--;
 
 							}
 							break;
 						case 2 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:234:4: ddl_commands
+							// urSQL.g:281:4: ddl_commands
 							{
-							pushFollow(FOLLOW_ddl_commands_in_dml_commands119);
+							pushFollow(FOLLOW_ddl_commands_in_dml_commands113);
 							ddl_commands();
 							state._fsp--;
 
 							}
 							break;
 						case 3 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:235:4: dml_commands
+							// urSQL.g:282:4: dml_commands
 							{
-							pushFollow(FOLLOW_dml_commands_in_dml_commands124);
+							pushFollow(FOLLOW_dml_commands_in_dml_commands118);
 							dml_commands();
 							state._fsp--;
 
@@ -660,7 +749,7 @@ public class urSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:237:2: 
+					// urSQL.g:284:2: 
 					{
 					}
 					break;
@@ -679,42 +768,155 @@ public class urSQLParser extends Parser {
 
 
 
-	// $ANTLR start "select"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:239:1: select : SELECT ( ALL | col_list ) ( NEWLINE )? from ( NEWLINE )* ;
-	public final void select()   {
+	// $ANTLR start "explain"
+	// urSQL.g:287:1: explain : EXPLAIN ( ANALYZE )? ( select | update | delete | insert ) ;
+	public final void explain() throws RecognitionException {
+
+			boolean analyze = false;
+
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:240:2: ( SELECT ( ALL | col_list ) ( NEWLINE )? from ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:240:4: SELECT ( ALL | col_list ) ( NEWLINE )? from ( NEWLINE )*
+			// urSQL.g:291:2: ( EXPLAIN ( ANALYZE )? ( select | update | delete | insert ) )
+			// urSQL.g:291:4: EXPLAIN ( ANALYZE )? ( select | update | delete | insert )
 			{
-			match(input,SELECT,FOLLOW_SELECT_in_select141); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:240:11: ( ALL | col_list )
+			match(input,EXPLAIN,FOLLOW_EXPLAIN_in_explain141); 
+			// urSQL.g:291:12: ( ANALYZE )?
 			int alt5=2;
 			int LA5_0 = input.LA(1);
-			if ( (LA5_0==ALL) ) {
+			if ( (LA5_0==ANALYZE) ) {
 				alt5=1;
 			}
-			else if ( (LA5_0==AVERAGE||LA5_0==COUNT||LA5_0==FROM||LA5_0==ID||(LA5_0 >= MAX && LA5_0 <= NEWLINE)) ) {
-				alt5=2;
+			switch (alt5) {
+				case 1 :
+					// urSQL.g:291:14: ANALYZE
+					{
+					match(input,ANALYZE,FOLLOW_ANALYZE_in_explain145); 
+					 analyze = true; 
+					}
+					break;
+
+			}
+
+			// urSQL.g:291:45: ( select | update | delete | insert )
+			int alt6=4;
+			switch ( input.LA(1) ) {
+			case SELECT:
+				{
+				alt6=1;
+				}
+				break;
+			case UPDATE:
+				{
+				alt6=2;
+				}
+				break;
+			case DELETE:
+				{
+				alt6=3;
+				}
+				break;
+			case INSERT:
+				{
+				alt6=4;
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 6, 0, input);
+				throw nvae;
+			}
+			switch (alt6) {
+				case 1 :
+					// urSQL.g:291:47: select
+					{
+					pushFollow(FOLLOW_select_in_explain154);
+					select();
+					state._fsp--;
+
+					}
+					break;
+				case 2 :
+					// urSQL.g:292:4: update
+					{
+					pushFollow(FOLLOW_update_in_explain159);
+					update();
+					state._fsp--;
+
+					}
+					break;
+				case 3 :
+					// urSQL.g:293:4: delete
+					{
+					pushFollow(FOLLOW_delete_in_explain164);
+					delete();
+					state._fsp--;
+
+					}
+					break;
+				case 4 :
+					// urSQL.g:294:4: insert
+					{
+					pushFollow(FOLLOW_insert_in_explain169);
+					insert();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+
+				 	this.explain(analyze);
+				 
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "explain"
+
+
+
+	// $ANTLR start "select"
+	// urSQL.g:300:1: select : SELECT ( ALL | col_list ) ( NEWLINE )? from ( NEWLINE )* ;
+	public final void select() throws RecognitionException {
+		try {
+			// urSQL.g:301:2: ( SELECT ( ALL | col_list ) ( NEWLINE )? from ( NEWLINE )* )
+			// urSQL.g:301:4: SELECT ( ALL | col_list ) ( NEWLINE )? from ( NEWLINE )*
+			{
+			match(input,SELECT,FOLLOW_SELECT_in_select186); 
+			// urSQL.g:301:11: ( ALL | col_list )
+			int alt7=2;
+			int LA7_0 = input.LA(1);
+			if ( (LA7_0==ALL) ) {
+				alt7=1;
+			}
+			else if ( (LA7_0==AVERAGE||LA7_0==COUNT||LA7_0==FROM||LA7_0==ID||(LA7_0 >= MAX && LA7_0 <= NEWLINE)) ) {
+				alt7=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 5, 0, input);
+					new NoViableAltException("", 7, 0, input);
 				throw nvae;
 			}
 
-			switch (alt5) {
+			switch (alt7) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:240:13: ALL
+					// urSQL.g:301:13: ALL
 					{
-					match(input,ALL,FOLLOW_ALL_in_select145); 
-					 programa_stack.peek().select_columns.add("69"); 
+					match(input,ALL,FOLLOW_ALL_in_select190); 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:241:4: col_list
+					// urSQL.g:302:4: col_list
 					{
-					pushFollow(FOLLOW_col_list_in_select152);
+					pushFollow(FOLLOW_col_list_in_select195);
 					col_list();
 					state._fsp--;
 
@@ -723,119 +925,60 @@ public class urSQLParser extends Parser {
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:241:15: ( NEWLINE )?
-			int alt6=2;
-			int LA6_0 = input.LA(1);
-			if ( (LA6_0==NEWLINE) ) {
-				alt6=1;
+			// urSQL.g:302:15: ( NEWLINE )?
+			int alt8=2;
+			int LA8_0 = input.LA(1);
+			if ( (LA8_0==NEWLINE) ) {
+				alt8=1;
 			}
-			switch (alt6) {
+			switch (alt8) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:241:15: NEWLINE
+					// urSQL.g:302:15: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_select156); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_select199); 
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_from_in_select159);
+			pushFollow(FOLLOW_from_in_select202);
 			from();
 			state._fsp--;
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:241:29: ( NEWLINE )*
-			loop7:
+			// urSQL.g:302:29: ( NEWLINE )*
+			loop9:
 			while (true) {
-				int alt7=2;
-				int LA7_0 = input.LA(1);
-				if ( (LA7_0==NEWLINE) ) {
-					alt7=1;
+				int alt9=2;
+				int LA9_0 = input.LA(1);
+				if ( (LA9_0==NEWLINE) ) {
+					alt9=1;
 				}
 
-				switch (alt7) {
+				switch (alt9) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:241:29: NEWLINE
+					// urSQL.g:302:29: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_select161); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_select204); 
 					}
 					break;
 
 				default :
-					break loop7;
+					break loop9;
 				}
 			}
 
 
-					if (!programa_stack.peek().tmp.equals("JSON") && !programa_stack.peek().tmp.equals("XML")) {
-						programa_stack.peek().tmp = "-1";
-					}
+					programa_stack.peek().select.setWhere(programa_stack.peek().condition);
 					System.out.println("Select query...");
-					System.out.print("Columns: ");
-					System.out.println(programa_stack.peek().select_columns);
-					System.out.print("Tables: ");
-					System.out.println(programa_stack.peek().select_tables);
-					System.out.print("Condition: ");
-					System.out.println(programa_stack.peek().condition);
-					System.out.print("Grouping by: ");
-					System.out.println(programa_stack.peek().column);
-					System.out.print("XML/JSON: ");
-					System.out.println(programa_stack.peek().tmp);
-					
-			this.select(programa_stack.peek().select_columns, programa_stack.peek().select_tables, programa_stack.peek().condition, programa_stack.peek().column, programa_stack.peek().tmp);
-					
-					if (programa_stack.peek().select_tables.size() > 1) {
-						programa_stack.peek().writer.print("Obtain tables ");
-						for (int i = 0; i < programa_stack.peek().select_tables.size(); i++) {
-							if (i == programa_stack.peek().select_tables.size() - 1) {
-								programa_stack.peek().writer.print(programa_stack.peek().select_tables.get(i));
-							} else {
-								programa_stack.peek().writer.print(programa_stack.peek().select_tables.get(i) + ", ");
-							}
-							
-						}
-						programa_stack.peek().writer.println("\nCreate joins");
-					} else  {
-						programa_stack.peek().writer.println("Obtain table " + programa_stack.peek().select_tables.get(0));
-					}
-					
-					if (!programa_stack.peek().condition.isEmpty()) {
-						programa_stack.peek().writer.println("Apply where condition");
-					}
-					
-					if (!programa_stack.peek().column.isEmpty()) {
-						if (programa_stack.peek().column.size() > 1) {
-							programa_stack.peek().writer.print("Group by ");
-							for (int i = 0; i < programa_stack.peek().column.size(); i++) {
-								if (i == programa_stack.peek().column.size() - 1) {
-									programa_stack.peek().writer.print(programa_stack.peek().column.get(i));
-								} else {
-									programa_stack.peek().writer.print(programa_stack.peek().column.get(i) + ", ");
-								}
-							
-							}
-							programa_stack.peek().writer.println("");
-						} else  {
-							programa_stack.peek().writer.println("Group by " + programa_stack.peek().column.get(0));
-						}	
-					}
-					
-					if (programa_stack.peek().select_columns.size() > 1) {
-						programa_stack.peek().writer.print("Display columns ");
-						for (int i = 1; i < programa_stack.peek().select_columns.size(); i += 2) {
-							programa_stack.peek().writer.print(programa_stack.peek().select_columns.get(i));
-						}
-					} else {
-						programa_stack.peek().writer.println("Display all columns");
-					}
-					
-					if (programa_stack.peek().tmp.equals("0")) {
-						programa_stack.peek().writer.println("Return in JSON");
-					} else if (programa_stack.peek().tmp.equals("1")) {
-						programa_stack.peek().writer.println("Return in XML");
-					} else {
-						programa_stack.peek().writer.println("");
-					}
+					System.out.println(programa_stack.peek().select);
+
+					LogicalNode plan = this.select(programa_stack.peek().select);
+
+					programa_stack.peek().writer.print(plan);
 					programa_stack.peek().writer.close();
+
+					programa_stack.peek().select = new SelectStatement();
+					programa_stack.peek().condition = null;
 				
 			}
 
@@ -853,62 +996,59 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "col_list"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:316:1: col_list : ( ( ID | agg_funct ) col_list |);
-	public final void col_list()   {
+	// urSQL.g:318:1: col_list : ( ( ID | agg_funct ) col_list |);
+	public final void col_list() throws RecognitionException {
 		Token ID1=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:317:2: ( ( ID | agg_funct ) col_list |)
-			int alt9=2;
-			int LA9_0 = input.LA(1);
-			if ( (LA9_0==AVERAGE||LA9_0==COUNT||LA9_0==ID||(LA9_0 >= MAX && LA9_0 <= MIN)) ) {
-				alt9=1;
+			// urSQL.g:319:2: ( ( ID | agg_funct ) col_list |)
+			int alt11=2;
+			int LA11_0 = input.LA(1);
+			if ( (LA11_0==AVERAGE||LA11_0==COUNT||LA11_0==ID||(LA11_0 >= MAX && LA11_0 <= MIN)) ) {
+				alt11=1;
 			}
-			else if ( (LA9_0==FROM||LA9_0==NEWLINE) ) {
-				alt9=2;
+			else if ( (LA11_0==FROM||LA11_0==NEWLINE) ) {
+				alt11=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 9, 0, input);
+					new NoViableAltException("", 11, 0, input);
 				throw nvae;
 			}
 
-			switch (alt9) {
+			switch (alt11) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:317:4: ( ID | agg_funct ) col_list
+					// urSQL.g:319:4: ( ID | agg_funct ) col_list
 					{
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:317:4: ( ID | agg_funct )
-					int alt8=2;
-					int LA8_0 = input.LA(1);
-					if ( (LA8_0==ID) ) {
-						alt8=1;
+					// urSQL.g:319:4: ( ID | agg_funct )
+					int alt10=2;
+					int LA10_0 = input.LA(1);
+					if ( (LA10_0==ID) ) {
+						alt10=1;
 					}
-					else if ( (LA8_0==AVERAGE||LA8_0==COUNT||(LA8_0 >= MAX && LA8_0 <= MIN)) ) {
-						alt8=2;
+					else if ( (LA10_0==AVERAGE||LA10_0==COUNT||(LA10_0 >= MAX && LA10_0 <= MIN)) ) {
+						alt10=2;
 					}
 
 					else {
 						NoViableAltException nvae =
-							new NoViableAltException("", 8, 0, input);
+							new NoViableAltException("", 10, 0, input);
 						throw nvae;
 					}
 
-					switch (alt8) {
+					switch (alt10) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:317:6: ID
+							// urSQL.g:319:6: ID
 							{
-							ID1=(Token)match(input,ID,FOLLOW_ID_in_col_list179); 
-							 
-								 	programa_stack.peek().select_columns.add("-1"); 
-								 	programa_stack.peek().select_columns.add((ID1!=null?ID1.getText():null));
-								 
+							ID1=(Token)match(input,ID,FOLLOW_ID_in_col_list221); 
+							 programa_stack.peek().select.getItems().add(new SelectItem((ID1!=null?ID1.getText():null))); 
 							}
 							break;
 						case 2 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:322:4: agg_funct
+							// urSQL.g:320:4: agg_funct
 							{
-							pushFollow(FOLLOW_agg_funct_in_col_list190);
+							pushFollow(FOLLOW_agg_funct_in_col_list228);
 							agg_funct();
 							state._fsp--;
 
@@ -917,14 +1057,14 @@ public class urSQLParser extends Parser {
 
 					}
 
-					pushFollow(FOLLOW_col_list_in_col_list194);
+					pushFollow(FOLLOW_col_list_in_col_list232);
 					col_list();
 					state._fsp--;
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:324:2: 
+					// urSQL.g:322:2: 
 					{
 					}
 					break;
@@ -944,25 +1084,25 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "from"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:326:1: from : FROM ( ID | join_st ) ( NEWLINE )? ( where )? ( NEWLINE )? ( group )? ( NEWLINE )? ( for_JSON_XML )? ;
-	public final void from()   {
+	// urSQL.g:324:1: from : FROM ( ID | join_st ) ( NEWLINE )? ( where )? ( NEWLINE )? ( group )? ( NEWLINE )? ( order )? ( NEWLINE )? ( limit )? ( NEWLINE )? ( for_JSON_XML )? ;
+	public final void from() throws RecognitionException {
 		Token ID2=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:327:2: ( FROM ( ID | join_st ) ( NEWLINE )? ( where )? ( NEWLINE )? ( group )? ( NEWLINE )? ( for_JSON_XML )? )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:327:4: FROM ( ID | join_st ) ( NEWLINE )? ( where )? ( NEWLINE )? ( group )? ( NEWLINE )? ( for_JSON_XML )?
+			// urSQL.g:325:2: ( FROM ( ID | join_st ) ( NEWLINE )? ( where )? ( NEWLINE )? ( group )? ( NEWLINE )? ( order )? ( NEWLINE )? ( limit )? ( NEWLINE )? ( for_JSON_XML )? )
+			// urSQL.g:325:4: FROM ( ID | join_st ) ( NEWLINE )? ( where )? ( NEWLINE )? ( group )? ( NEWLINE )? ( order )? ( NEWLINE )? ( limit )? ( NEWLINE )? ( for_JSON_XML )?
 			{
-			match(input,FROM,FOLLOW_FROM_in_from211); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:327:9: ( ID | join_st )
-			int alt10=2;
-			int LA10_0 = input.LA(1);
-			if ( (LA10_0==ID) ) {
-				int LA10_1 = input.LA(2);
-				if ( (LA10_1==JOIN) ) {
-					alt10=2;
+			match(input,FROM,FOLLOW_FROM_in_from248); 
+			// urSQL.g:325:9: ( ID | join_st )
+			int alt12=2;
+			int LA12_0 = input.LA(1);
+			if ( (LA12_0==ID) ) {
+				int LA12_1 = input.LA(2);
+				if ( (LA12_1==JOIN) ) {
+					alt12=2;
 				}
-				else if ( (LA10_1==EOF||LA10_1==ALTER||LA10_1==CREATE||(LA10_1 >= DELETE && LA10_1 <= DROP)||LA10_1==FOR||LA10_1==GET||LA10_1==GROUP||LA10_1==INSERT||LA10_1==LIST||LA10_1==NEWLINE||(LA10_1 >= SELECT && LA10_1 <= START)||LA10_1==STOP||LA10_1==UPDATE||LA10_1==WHERE) ) {
-					alt10=1;
+				else if ( (LA12_1==EOF||(LA12_1 >= ALTER && LA12_1 <= ANALYZE)||LA12_1==BEGIN||LA12_1==COMMIT||LA12_1==CREATE||LA12_1==DELETE||(LA12_1 >= DISPLAY && LA12_1 <= DROP)||LA12_1==EXPLAIN||LA12_1==FOR||LA12_1==GET||LA12_1==GROUP||LA12_1==INSERT||(LA12_1 >= LIMIT && LA12_1 <= LIST)||LA12_1==NEWLINE||LA12_1==ORDER||(LA12_1 >= ROLLBACK && LA12_1 <= START)||LA12_1==STOP||LA12_1==UPDATE||LA12_1==WHERE) ) {
+					alt12=1;
 				}
 
 				else {
@@ -970,7 +1110,7 @@ public class urSQLParser extends Parser {
 					try {
 						input.consume();
 						NoViableAltException nvae =
-							new NoViableAltException("", 10, 1, input);
+							new NoViableAltException("", 12, 1, input);
 						throw nvae;
 					} finally {
 						input.rewind(nvaeMark);
@@ -981,22 +1121,22 @@ public class urSQLParser extends Parser {
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 10, 0, input);
+					new NoViableAltException("", 12, 0, input);
 				throw nvae;
 			}
 
-			switch (alt10) {
+			switch (alt12) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:327:11: ID
+					// urSQL.g:325:11: ID
 					{
-					ID2=(Token)match(input,ID,FOLLOW_ID_in_from215); 
-					 programa_stack.peek().select_tables.add((ID2!=null?ID2.getText():null)); 
+					ID2=(Token)match(input,ID,FOLLOW_ID_in_from252); 
+					 programa_stack.peek().select.getTables().add((ID2!=null?ID2.getText():null)); 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:4: join_st
+					// urSQL.g:326:4: join_st
 					{
-					pushFollow(FOLLOW_join_st_in_from222);
+					pushFollow(FOLLOW_join_st_in_from259);
 					join_st();
 					state._fsp--;
 
@@ -1005,42 +1145,7 @@ public class urSQLParser extends Parser {
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:14: ( NEWLINE )?
-			int alt11=2;
-			int LA11_0 = input.LA(1);
-			if ( (LA11_0==NEWLINE) ) {
-				alt11=1;
-			}
-			switch (alt11) {
-				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:14: NEWLINE
-					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_from226); 
-					}
-					break;
-
-			}
-
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:23: ( where )?
-			int alt12=2;
-			int LA12_0 = input.LA(1);
-			if ( (LA12_0==WHERE) ) {
-				alt12=1;
-			}
-			switch (alt12) {
-				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:23: where
-					{
-					pushFollow(FOLLOW_where_in_from229);
-					where();
-					state._fsp--;
-
-					}
-					break;
-
-			}
-
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:30: ( NEWLINE )?
+			// urSQL.g:326:14: ( NEWLINE )?
 			int alt13=2;
 			int LA13_0 = input.LA(1);
 			if ( (LA13_0==NEWLINE) ) {
@@ -1048,26 +1153,26 @@ public class urSQLParser extends Parser {
 			}
 			switch (alt13) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:30: NEWLINE
+					// urSQL.g:326:14: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_from232); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_from263); 
 					}
 					break;
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:39: ( group )?
+			// urSQL.g:326:23: ( where )?
 			int alt14=2;
 			int LA14_0 = input.LA(1);
-			if ( (LA14_0==GROUP) ) {
+			if ( (LA14_0==WHERE) ) {
 				alt14=1;
 			}
 			switch (alt14) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:39: group
+					// urSQL.g:326:23: where
 					{
-					pushFollow(FOLLOW_group_in_from235);
-					group();
+					pushFollow(FOLLOW_where_in_from266);
+					where();
 					state._fsp--;
 
 					}
@@ -1075,7 +1180,7 @@ public class urSQLParser extends Parser {
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:46: ( NEWLINE )?
+			// urSQL.g:326:30: ( NEWLINE )?
 			int alt15=2;
 			int LA15_0 = input.LA(1);
 			if ( (LA15_0==NEWLINE) ) {
@@ -1083,26 +1188,26 @@ public class urSQLParser extends Parser {
 			}
 			switch (alt15) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:46: NEWLINE
+					// urSQL.g:326:30: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_from238); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_from269); 
 					}
 					break;
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:55: ( for_JSON_XML )?
+			// urSQL.g:326:39: ( group )?
 			int alt16=2;
 			int LA16_0 = input.LA(1);
-			if ( (LA16_0==FOR) ) {
+			if ( (LA16_0==GROUP) ) {
 				alt16=1;
 			}
 			switch (alt16) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:328:55: for_JSON_XML
+					// urSQL.g:326:39: group
 					{
-					pushFollow(FOLLOW_for_JSON_XML_in_from241);
-					for_JSON_XML();
+					pushFollow(FOLLOW_group_in_from272);
+					group();
 					state._fsp--;
 
 					}
@@ -1110,94 +1215,199 @@ public class urSQLParser extends Parser {
 
 			}
 
-			}
-
-		}
-		catch (RecognitionException re) {
-			reportError(re);
-			recover(input,re);
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "from"
-
-
-
-	// $ANTLR start "join_st"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:331:1: join_st : table1= ID JOIN table2= ID join_st_aux ;
-	public final void join_st()   {
-		Token table1=null;
-		Token table2=null;
-
-		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:332:2: (table1= ID JOIN table2= ID join_st_aux )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:332:4: table1= ID JOIN table2= ID join_st_aux
-			{
-			table1=(Token)match(input,ID,FOLLOW_ID_in_join_st258); 
-			match(input,JOIN,FOLLOW_JOIN_in_join_st260); 
-			table2=(Token)match(input,ID,FOLLOW_ID_in_join_st266); 
-			pushFollow(FOLLOW_join_st_aux_in_join_st268);
-			join_st_aux();
-			state._fsp--;
-
-
-				 	programa_stack.peek().select_tables.add((table1!=null?table1.getText():null));
-				 	programa_stack.peek().select_tables.add((table2!=null?table2.getText():null));
-				 
-			}
-
-		}
-		catch (RecognitionException re) {
-			reportError(re);
-			recover(input,re);
-		}
-		finally {
-			// do for sure before leaving
-		}
-	}
-	// $ANTLR end "join_st"
-
-
-
-	// $ANTLR start "join_st_aux"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:339:1: join_st_aux : ( JOIN ID join_st_aux |);
-	public final void join_st_aux()   {
-		Token ID3=null;
-
-		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:340:2: ( JOIN ID join_st_aux |)
+			// urSQL.g:326:46: ( NEWLINE )?
 			int alt17=2;
 			int LA17_0 = input.LA(1);
-			if ( (LA17_0==JOIN) ) {
+			if ( (LA17_0==NEWLINE) ) {
 				alt17=1;
 			}
-			else if ( (LA17_0==EOF||LA17_0==ALTER||LA17_0==CREATE||(LA17_0 >= DELETE && LA17_0 <= DROP)||LA17_0==FOR||LA17_0==GET||LA17_0==GROUP||LA17_0==INSERT||LA17_0==LIST||LA17_0==NEWLINE||(LA17_0 >= SELECT && LA17_0 <= START)||LA17_0==STOP||LA17_0==UPDATE||LA17_0==WHERE) ) {
-				alt17=2;
-			}
-
-			else {
-				NoViableAltException nvae =
-					new NoViableAltException("", 17, 0, input);
-				throw nvae;
-			}
-
 			switch (alt17) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:340:4: JOIN ID join_st_aux
-					{
-					match(input,JOIN,FOLLOW_JOIN_in_join_st_aux284); 
-					ID3=(Token)match(input,ID,FOLLOW_ID_in_join_st_aux286); 
-					pushFollow(FOLLOW_join_st_aux_in_join_st_aux288);
-					join_st_aux();
-					state._fsp--;
-
-					 programa_stack.peek().select_tables.add((ID3!=null?ID3.getText():null)); 
-					}
-					break;
-				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:342:2: 
+					// urSQL.g:326:46: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_from275); 
+					}
+					break;
+
+			}
+
+			// urSQL.g:326:55: ( order )?
+			int alt18=2;
+			int LA18_0 = input.LA(1);
+			if ( (LA18_0==ORDER) ) {
+				alt18=1;
+			}
+			switch (alt18) {
+				case 1 :
+					// urSQL.g:326:55: order
+					{
+					pushFollow(FOLLOW_order_in_from278);
+					order();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+			// urSQL.g:326:62: ( NEWLINE )?
+			int alt19=2;
+			int LA19_0 = input.LA(1);
+			if ( (LA19_0==NEWLINE) ) {
+				alt19=1;
+			}
+			switch (alt19) {
+				case 1 :
+					// urSQL.g:326:62: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_from281); 
+					}
+					break;
+
+			}
+
+			// urSQL.g:326:71: ( limit )?
+			int alt20=2;
+			int LA20_0 = input.LA(1);
+			if ( (LA20_0==LIMIT) ) {
+				alt20=1;
+			}
+			switch (alt20) {
+				case 1 :
+					// urSQL.g:326:71: limit
+					{
+					pushFollow(FOLLOW_limit_in_from284);
+					limit();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+			// urSQL.g:326:78: ( NEWLINE )?
+			int alt21=2;
+			int LA21_0 = input.LA(1);
+			if ( (LA21_0==NEWLINE) ) {
+				alt21=1;
+			}
+			switch (alt21) {
+				case 1 :
+					// urSQL.g:326:78: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_from287); 
+					}
+					break;
+
+			}
+
+			// urSQL.g:326:87: ( for_JSON_XML )?
+			int alt22=2;
+			int LA22_0 = input.LA(1);
+			if ( (LA22_0==FOR) ) {
+				alt22=1;
+			}
+			switch (alt22) {
+				case 1 :
+					// urSQL.g:326:87: for_JSON_XML
+					{
+					pushFollow(FOLLOW_for_JSON_XML_in_from290);
+					for_JSON_XML();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "from"
+
+
+
+	// $ANTLR start "join_st"
+	// urSQL.g:329:1: join_st : table1= ID JOIN table2= ID join_st_aux ;
+	public final void join_st() throws RecognitionException {
+		Token table1=null;
+		Token table2=null;
+
+		try {
+			// urSQL.g:330:2: (table1= ID JOIN table2= ID join_st_aux )
+			// urSQL.g:330:4: table1= ID JOIN table2= ID join_st_aux
+			{
+			table1=(Token)match(input,ID,FOLLOW_ID_in_join_st306); 
+			match(input,JOIN,FOLLOW_JOIN_in_join_st308); 
+			table2=(Token)match(input,ID,FOLLOW_ID_in_join_st314); 
+			pushFollow(FOLLOW_join_st_aux_in_join_st316);
+			join_st_aux();
+			state._fsp--;
+
+
+				 	programa_stack.peek().select.getTables().add((table1!=null?table1.getText():null));
+				 	programa_stack.peek().select.getTables().add((table2!=null?table2.getText():null));
+				 
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "join_st"
+
+
+
+	// $ANTLR start "join_st_aux"
+	// urSQL.g:337:1: join_st_aux : ( JOIN ID join_st_aux |);
+	public final void join_st_aux() throws RecognitionException {
+		Token ID3=null;
+
+		try {
+			// urSQL.g:338:2: ( JOIN ID join_st_aux |)
+			int alt23=2;
+			int LA23_0 = input.LA(1);
+			if ( (LA23_0==JOIN) ) {
+				alt23=1;
+			}
+			else if ( (LA23_0==EOF||(LA23_0 >= ALTER && LA23_0 <= ANALYZE)||LA23_0==BEGIN||LA23_0==COMMIT||LA23_0==CREATE||LA23_0==DELETE||(LA23_0 >= DISPLAY && LA23_0 <= DROP)||LA23_0==EXPLAIN||LA23_0==FOR||LA23_0==GET||LA23_0==GROUP||LA23_0==INSERT||(LA23_0 >= LIMIT && LA23_0 <= LIST)||LA23_0==NEWLINE||LA23_0==ORDER||(LA23_0 >= ROLLBACK && LA23_0 <= START)||LA23_0==STOP||LA23_0==UPDATE||LA23_0==WHERE) ) {
+				alt23=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 23, 0, input);
+				throw nvae;
+			}
+
+			switch (alt23) {
+				case 1 :
+					// urSQL.g:338:4: JOIN ID join_st_aux
+					{
+					match(input,JOIN,FOLLOW_JOIN_in_join_st_aux331); 
+					ID3=(Token)match(input,ID,FOLLOW_ID_in_join_st_aux333); 
+					pushFollow(FOLLOW_join_st_aux_in_join_st_aux335);
+					join_st_aux();
+					state._fsp--;
+
+					 programa_stack.peek().select.getTables().add((ID3!=null?ID3.getText():null)); 
+					}
+					break;
+				case 2 :
+					// urSQL.g:340:2: 
 					{
 					}
 					break;
@@ -1217,14 +1427,14 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "where"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:344:1: where : WHERE where_st ;
-	public final void where()   {
+	// urSQL.g:342:1: where : WHERE where_st ;
+	public final void where() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:345:2: ( WHERE where_st )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:345:4: WHERE where_st
+			// urSQL.g:343:2: ( WHERE where_st )
+			// urSQL.g:343:4: WHERE where_st
 			{
-			match(input,WHERE,FOLLOW_WHERE_in_where307); 
-			pushFollow(FOLLOW_where_st_in_where309);
+			match(input,WHERE,FOLLOW_WHERE_in_where353); 
+			pushFollow(FOLLOW_where_st_in_where355);
 			where_st();
 			state._fsp--;
 
@@ -1244,22 +1454,24 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "where_st"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:348:1: where_st : ( ID comp_op value[\"1\"] | ID null_op );
-	public final void where_st()   {
+	// urSQL.g:346:1: where_st : ( ID comp_op value[\"1\"] | ID null_op );
+	public final void where_st() throws RecognitionException {
 		Token ID4=null;
-		Token ID5=null;
+		Token ID6=null;
+		String comp_op5 =null;
+		String null_op7 =null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:349:2: ( ID comp_op value[\"1\"] | ID null_op )
-			int alt18=2;
-			int LA18_0 = input.LA(1);
-			if ( (LA18_0==ID) ) {
-				int LA18_1 = input.LA(2);
-				if ( (LA18_1==EQUALS||(LA18_1 >= GREATER_EQUALS && LA18_1 <= GREATER_THAN)||(LA18_1 >= LESS_EQUALS && LA18_1 <= LIKE)||LA18_1==NOT) ) {
-					alt18=1;
+			// urSQL.g:347:2: ( ID comp_op value[\"1\"] | ID null_op )
+			int alt24=2;
+			int LA24_0 = input.LA(1);
+			if ( (LA24_0==ID) ) {
+				int LA24_1 = input.LA(2);
+				if ( (LA24_1==EQUALS||(LA24_1 >= GREATER_EQUALS && LA24_1 <= GREATER_THAN)||(LA24_1 >= LESS_EQUALS && LA24_1 <= LIKE)||LA24_1==NOT) ) {
+					alt24=1;
 				}
-				else if ( (LA18_1==IS) ) {
-					alt18=2;
+				else if ( (LA24_1==IS) ) {
+					alt24=2;
 				}
 
 				else {
@@ -1267,7 +1479,7 @@ public class urSQLParser extends Parser {
 					try {
 						input.consume();
 						NoViableAltException nvae =
-							new NoViableAltException("", 18, 1, input);
+							new NoViableAltException("", 24, 1, input);
 						throw nvae;
 					} finally {
 						input.rewind(nvaeMark);
@@ -1278,35 +1490,35 @@ public class urSQLParser extends Parser {
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 18, 0, input);
+					new NoViableAltException("", 24, 0, input);
 				throw nvae;
 			}
 
-			switch (alt18) {
+			switch (alt24) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:349:4: ID comp_op value[\"1\"]
+					// urSQL.g:347:4: ID comp_op value[\"1\"]
 					{
-					ID4=(Token)match(input,ID,FOLLOW_ID_in_where_st321); 
-					pushFollow(FOLLOW_comp_op_in_where_st323);
-					comp_op();
+					ID4=(Token)match(input,ID,FOLLOW_ID_in_where_st366); 
+					pushFollow(FOLLOW_comp_op_in_where_st368);
+					comp_op5=comp_op();
 					state._fsp--;
 
-					pushFollow(FOLLOW_value_in_where_st325);
+					pushFollow(FOLLOW_value_in_where_st370);
 					value("1");
 					state._fsp--;
 
-					 programa_stack.peek().condition.add((ID4!=null?ID4.getText():null)); 
+					 programa_stack.peek().condition = new Condition((ID4!=null?ID4.getText():null), comp_op5, programa_stack.peek().condition_value); 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:350:4: ID null_op
+					// urSQL.g:348:4: ID null_op
 					{
-					ID5=(Token)match(input,ID,FOLLOW_ID_in_where_st333); 
-					pushFollow(FOLLOW_null_op_in_where_st335);
-					null_op();
+					ID6=(Token)match(input,ID,FOLLOW_ID_in_where_st378); 
+					pushFollow(FOLLOW_null_op_in_where_st380);
+					null_op7=null_op();
 					state._fsp--;
 
-					 programa_stack.peek().condition.add((ID5!=null?ID5.getText():null)); 
+					 programa_stack.peek().condition = new Condition((ID6!=null?ID6.getText():null), null_op7); 
 					}
 					break;
 
@@ -1325,100 +1537,103 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "comp_op"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:353:1: comp_op : ( GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | NOT );
-	public final void comp_op()   {
+	// urSQL.g:351:1: comp_op returns [String operator] : ( GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | NOT );
+	public final String comp_op() throws RecognitionException {
+		String operator = null;
+
+
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:354:2: ( GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | NOT )
-			int alt19=7;
+			// urSQL.g:352:2: ( GREATER_THAN | GREATER_EQUALS | LESS_THAN | LESS_EQUALS | EQUALS | LIKE | NOT )
+			int alt25=7;
 			switch ( input.LA(1) ) {
 			case GREATER_THAN:
 				{
-				alt19=1;
+				alt25=1;
 				}
 				break;
 			case GREATER_EQUALS:
 				{
-				alt19=2;
+				alt25=2;
 				}
 				break;
 			case LESS_THAN:
 				{
-				alt19=3;
+				alt25=3;
 				}
 				break;
 			case LESS_EQUALS:
 				{
-				alt19=4;
+				alt25=4;
 				}
 				break;
 			case EQUALS:
 				{
-				alt19=5;
+				alt25=5;
 				}
 				break;
 			case LIKE:
 				{
-				alt19=6;
+				alt25=6;
 				}
 				break;
 			case NOT:
 				{
-				alt19=7;
+				alt25=7;
 				}
 				break;
 			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 19, 0, input);
+					new NoViableAltException("", 25, 0, input);
 				throw nvae;
 			}
-			switch (alt19) {
+			switch (alt25) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:354:4: GREATER_THAN
+					// urSQL.g:352:4: GREATER_THAN
 					{
-					match(input,GREATER_THAN,FOLLOW_GREATER_THAN_in_comp_op349); 
-					 programa_stack.peek().condition.add(">"); 
+					match(input,GREATER_THAN,FOLLOW_GREATER_THAN_in_comp_op397); 
+					 operator = ScanPredicate.MORE_THAN; 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:355:4: GREATER_EQUALS
+					// urSQL.g:353:4: GREATER_EQUALS
 					{
-					match(input,GREATER_EQUALS,FOLLOW_GREATER_EQUALS_in_comp_op356); 
-					 programa_stack.peek().condition.add(">"); 
+					match(input,GREATER_EQUALS,FOLLOW_GREATER_EQUALS_in_comp_op404); 
+					 operator = ScanPredicate.MORE_THAN; 
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:356:4: LESS_THAN
+					// urSQL.g:354:4: LESS_THAN
 					{
-					match(input,LESS_THAN,FOLLOW_LESS_THAN_in_comp_op363); 
-					 programa_stack.peek().condition.add("<"); 
+					match(input,LESS_THAN,FOLLOW_LESS_THAN_in_comp_op411); 
+					 operator = ScanPredicate.LESS_THAN; 
 					}
 					break;
 				case 4 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:357:4: LESS_EQUALS
+					// urSQL.g:355:4: LESS_EQUALS
 					{
-					match(input,LESS_EQUALS,FOLLOW_LESS_EQUALS_in_comp_op370); 
-					 programa_stack.peek().condition.add("<"); 
+					match(input,LESS_EQUALS,FOLLOW_LESS_EQUALS_in_comp_op418); 
+					 operator = ScanPredicate.LESS_THAN; 
 					}
 					break;
 				case 5 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:358:4: EQUALS
+					// urSQL.g:356:4: EQUALS
 					{
-					match(input,EQUALS,FOLLOW_EQUALS_in_comp_op377); 
-					 programa_stack.peek().condition.add("="); 
+					match(input,EQUALS,FOLLOW_EQUALS_in_comp_op425); 
+					 operator = ScanPredicate.EQUAL; 
 					}
 					break;
 				case 6 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:359:4: LIKE
+					// urSQL.g:357:4: LIKE
 					{
-					match(input,LIKE,FOLLOW_LIKE_in_comp_op384); 
-					 programa_stack.peek().condition.add("LIKE"); 
+					match(input,LIKE,FOLLOW_LIKE_in_comp_op432); 
+					 operator = ScanPredicate.LIKE; 
 					}
 					break;
 				case 7 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:360:4: NOT
+					// urSQL.g:358:4: NOT
 					{
-					match(input,NOT,FOLLOW_NOT_in_comp_op391); 
-					 programa_stack.peek().condition.add("NOT"); 
+					match(input,NOT,FOLLOW_NOT_in_comp_op439); 
+					 operator = ScanPredicate.NOT; 
 					}
 					break;
 
@@ -1431,55 +1646,53 @@ public class urSQLParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return operator;
 	}
 	// $ANTLR end "comp_op"
 
 
 
 	// $ANTLR start "null_op"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:363:1: null_op : IS ( NULL | NOT NULL ) ;
-	public final void null_op()   {
+	// urSQL.g:361:1: null_op returns [String operator] : IS ( NULL | NOT NULL ) ;
+	public final String null_op() throws RecognitionException {
+		String operator = null;
+
+
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:364:2: ( IS ( NULL | NOT NULL ) )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:364:4: IS ( NULL | NOT NULL )
+			// urSQL.g:362:2: ( IS ( NULL | NOT NULL ) )
+			// urSQL.g:362:4: IS ( NULL | NOT NULL )
 			{
-			match(input,IS,FOLLOW_IS_in_null_op405); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:364:7: ( NULL | NOT NULL )
-			int alt20=2;
-			int LA20_0 = input.LA(1);
-			if ( (LA20_0==NULL) ) {
-				alt20=1;
+			match(input,IS,FOLLOW_IS_in_null_op456); 
+			// urSQL.g:362:7: ( NULL | NOT NULL )
+			int alt26=2;
+			int LA26_0 = input.LA(1);
+			if ( (LA26_0==NULL) ) {
+				alt26=1;
 			}
-			else if ( (LA20_0==NOT) ) {
-				alt20=2;
+			else if ( (LA26_0==NOT) ) {
+				alt26=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 20, 0, input);
+					new NoViableAltException("", 26, 0, input);
 				throw nvae;
 			}
 
-			switch (alt20) {
+			switch (alt26) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:364:9: NULL
+					// urSQL.g:362:9: NULL
 					{
-					match(input,NULL,FOLLOW_NULL_in_null_op409); 
-					 
-						 	programa_stack.peek().condition.add("IS NULL");
-						 	programa_stack.peek().condition.add("-1");
-						 
+					match(input,NULL,FOLLOW_NULL_in_null_op460); 
+					 operator = ScanPredicate.IS_NULL; 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:369:4: NOT NULL
+					// urSQL.g:363:4: NOT NULL
 					{
-					match(input,NOT,FOLLOW_NOT_in_null_op420); 
-					match(input,NULL,FOLLOW_NULL_in_null_op422); 
-					 
-						 	programa_stack.peek().condition.add("IS NOT NULL");
-						 	programa_stack.peek().condition.add("-1");
-						 
+					match(input,NOT,FOLLOW_NOT_in_null_op467); 
+					match(input,NULL,FOLLOW_NULL_in_null_op469); 
+					 operator = ScanPredicate.IS_NOT_NULL; 
 					}
 					break;
 
@@ -1495,24 +1708,31 @@ public class urSQLParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return operator;
 	}
 	// $ANTLR end "null_op"
 
 
 
 	// $ANTLR start "group"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:376:1: group : GROUP BY cols ;
-	public final void group()   {
+	// urSQL.g:366:1: group : GROUP BY cols ;
+	public final void group() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:377:2: ( GROUP BY cols )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:377:4: GROUP BY cols
+			// urSQL.g:367:2: ( GROUP BY cols )
+			// urSQL.g:367:4: GROUP BY cols
 			{
-			match(input,GROUP,FOLLOW_GROUP_in_group442); 
-			match(input,BY,FOLLOW_BY_in_group444); 
-			pushFollow(FOLLOW_cols_in_group446);
+			match(input,GROUP,FOLLOW_GROUP_in_group484); 
+			match(input,BY,FOLLOW_BY_in_group486); 
+			pushFollow(FOLLOW_cols_in_group488);
 			cols();
 			state._fsp--;
 
+
+				 	// cols agrega las columnas de la ultima a la primera
+				 	Collections.reverse(programa_stack.peek().column);
+				 	programa_stack.peek().select.getGroupBy().addAll(programa_stack.peek().column);
+				 	programa_stack.peek().column.clear();
+				 
 			}
 
 		}
@@ -1529,41 +1749,41 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "cols"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:380:1: cols : ( ID cols |);
-	public final void cols()   {
-		Token ID6=null;
+	// urSQL.g:376:1: cols : ( ID cols |);
+	public final void cols() throws RecognitionException {
+		Token ID8=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:381:2: ( ID cols |)
-			int alt21=2;
-			int LA21_0 = input.LA(1);
-			if ( (LA21_0==ID) ) {
-				alt21=1;
+			// urSQL.g:377:2: ( ID cols |)
+			int alt27=2;
+			int LA27_0 = input.LA(1);
+			if ( (LA27_0==ID) ) {
+				alt27=1;
 			}
-			else if ( (LA21_0==EOF||LA21_0==ALTER||LA21_0==CREATE||(LA21_0 >= DELETE && LA21_0 <= DROP)||LA21_0==FOR||LA21_0==GET||LA21_0==INSERT||LA21_0==LIST||LA21_0==NEWLINE||(LA21_0 >= RIGHT_PAR && LA21_0 <= START)||LA21_0==STOP||LA21_0==UPDATE) ) {
-				alt21=2;
+			else if ( (LA27_0==EOF||(LA27_0 >= ALTER && LA27_0 <= ANALYZE)||LA27_0==BEGIN||LA27_0==COMMIT||LA27_0==CREATE||LA27_0==DELETE||(LA27_0 >= DISPLAY && LA27_0 <= DROP)||LA27_0==EXPLAIN||LA27_0==FOR||LA27_0==GET||LA27_0==INSERT||(LA27_0 >= LIMIT && LA27_0 <= LIST)||LA27_0==NEWLINE||LA27_0==ORDER||(LA27_0 >= RIGHT_PAR && LA27_0 <= START)||LA27_0==STOP||LA27_0==UPDATE) ) {
+				alt27=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 21, 0, input);
+					new NoViableAltException("", 27, 0, input);
 				throw nvae;
 			}
 
-			switch (alt21) {
+			switch (alt27) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:381:4: ID cols
+					// urSQL.g:377:4: ID cols
 					{
-					ID6=(Token)match(input,ID,FOLLOW_ID_in_cols458); 
-					pushFollow(FOLLOW_cols_in_cols460);
+					ID8=(Token)match(input,ID,FOLLOW_ID_in_cols503); 
+					pushFollow(FOLLOW_cols_in_cols505);
 					cols();
 					state._fsp--;
 
-					 programa_stack.peek().column.add((ID6!=null?ID6.getText():null)); 
+					 programa_stack.peek().column.add((ID8!=null?ID8.getText():null)); 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:383:2: 
+					// urSQL.g:379:2: 
 					{
 					}
 					break;
@@ -1582,43 +1802,143 @@ public class urSQLParser extends Parser {
 
 
 
+	// $ANTLR start "order"
+	// urSQL.g:382:1: order : ORDER BY ID ( ASC | DESC )? ;
+	public final void order() throws RecognitionException {
+		Token ID9=null;
+
+		try {
+			// urSQL.g:383:2: ( ORDER BY ID ( ASC | DESC )? )
+			// urSQL.g:383:4: ORDER BY ID ( ASC | DESC )?
+			{
+			match(input,ORDER,FOLLOW_ORDER_in_order523); 
+			match(input,BY,FOLLOW_BY_in_order525); 
+			ID9=(Token)match(input,ID,FOLLOW_ID_in_order527); 
+			 programa_stack.peek().select.setOrderBy((ID9!=null?ID9.getText():null), false); 
+			// urSQL.g:384:2: ( ASC | DESC )?
+			int alt28=3;
+			int LA28_0 = input.LA(1);
+			if ( (LA28_0==ASC) ) {
+				alt28=1;
+			}
+			else if ( (LA28_0==DESC) ) {
+				alt28=2;
+			}
+			switch (alt28) {
+				case 1 :
+					// urSQL.g:384:4: ASC
+					{
+					match(input,ASC,FOLLOW_ASC_in_order534); 
+					}
+					break;
+				case 2 :
+					// urSQL.g:385:4: DESC
+					{
+					match(input,DESC,FOLLOW_DESC_in_order539); 
+					 programa_stack.peek().select.setOrderBy((ID9!=null?ID9.getText():null), true); 
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "order"
+
+
+
+	// $ANTLR start "limit"
+	// urSQL.g:389:1: limit : LIMIT rows= INT ( OFFSET skip= INT )? ;
+	public final void limit() throws RecognitionException {
+		Token rows=null;
+		Token skip=null;
+
+		try {
+			// urSQL.g:390:2: ( LIMIT rows= INT ( OFFSET skip= INT )? )
+			// urSQL.g:390:4: LIMIT rows= INT ( OFFSET skip= INT )?
+			{
+			match(input,LIMIT,FOLLOW_LIMIT_in_limit557); 
+			rows=(Token)match(input,INT,FOLLOW_INT_in_limit563); 
+			 programa_stack.peek().select.setLimit(Integer.parseInt((rows!=null?rows.getText():null)), 0); 
+			// urSQL.g:391:2: ( OFFSET skip= INT )?
+			int alt29=2;
+			int LA29_0 = input.LA(1);
+			if ( (LA29_0==OFFSET) ) {
+				alt29=1;
+			}
+			switch (alt29) {
+				case 1 :
+					// urSQL.g:391:4: OFFSET skip= INT
+					{
+					match(input,OFFSET,FOLLOW_OFFSET_in_limit570); 
+					skip=(Token)match(input,INT,FOLLOW_INT_in_limit576); 
+					 programa_stack.peek().select.setLimit(Integer.parseInt((rows!=null?rows.getText():null)), Integer.parseInt((skip!=null?skip.getText():null))); 
+					}
+					break;
+
+			}
+
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "limit"
+
+
+
 	// $ANTLR start "for_JSON_XML"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:385:1: for_JSON_XML : FOR ( JSON | XML ) ;
-	public final void for_JSON_XML()   {
+	// urSQL.g:394:1: for_JSON_XML : FOR ( JSON | XML ) ;
+	public final void for_JSON_XML() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:386:2: ( FOR ( JSON | XML ) )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:386:4: FOR ( JSON | XML )
+			// urSQL.g:395:2: ( FOR ( JSON | XML ) )
+			// urSQL.g:395:4: FOR ( JSON | XML )
 			{
-			match(input,FOR,FOLLOW_FOR_in_for_JSON_XML477); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:386:8: ( JSON | XML )
-			int alt22=2;
-			int LA22_0 = input.LA(1);
-			if ( (LA22_0==JSON) ) {
-				alt22=1;
+			match(input,FOR,FOLLOW_FOR_in_for_JSON_XML592); 
+			// urSQL.g:395:8: ( JSON | XML )
+			int alt30=2;
+			int LA30_0 = input.LA(1);
+			if ( (LA30_0==JSON) ) {
+				alt30=1;
 			}
-			else if ( (LA22_0==XML) ) {
-				alt22=2;
+			else if ( (LA30_0==XML) ) {
+				alt30=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 22, 0, input);
+					new NoViableAltException("", 30, 0, input);
 				throw nvae;
 			}
 
-			switch (alt22) {
+			switch (alt30) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:386:10: JSON
+					// urSQL.g:395:10: JSON
 					{
-					match(input,JSON,FOLLOW_JSON_in_for_JSON_XML481); 
-					 programa_stack.peek().tmp = "JSON"; 
+					match(input,JSON,FOLLOW_JSON_in_for_JSON_XML596); 
+					 programa_stack.peek().select.setFormat(ComponentFor.TYPE_JSON); 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:387:4: XML
+					// urSQL.g:396:4: XML
 					{
-					match(input,XML,FOLLOW_XML_in_for_JSON_XML488); 
-					 programa_stack.peek().tmp = "XML"; 
+					match(input,XML,FOLLOW_XML_in_for_JSON_XML603); 
+					 programa_stack.peek().select.setFormat(ComponentFor.TYPE_XML); 
 					}
 					break;
 
@@ -1640,78 +1960,81 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "agg_funct"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:390:1: agg_funct : ( COUNT | AVERAGE | MIN | MAX ) LEFT_PAR ID RIGHT_PAR ;
-	public final void agg_funct()   {
-		Token ID7=null;
+	// urSQL.g:399:1: agg_funct : ( COUNT | AVERAGE | MIN | MAX ) LEFT_PAR ID RIGHT_PAR ;
+	public final void agg_funct() throws RecognitionException {
+		Token ID10=null;
+
+
+			String function = null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:391:2: ( ( COUNT | AVERAGE | MIN | MAX ) LEFT_PAR ID RIGHT_PAR )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:391:4: ( COUNT | AVERAGE | MIN | MAX ) LEFT_PAR ID RIGHT_PAR
+			// urSQL.g:403:2: ( ( COUNT | AVERAGE | MIN | MAX ) LEFT_PAR ID RIGHT_PAR )
+			// urSQL.g:403:4: ( COUNT | AVERAGE | MIN | MAX ) LEFT_PAR ID RIGHT_PAR
 			{
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:391:4: ( COUNT | AVERAGE | MIN | MAX )
-			int alt23=4;
+			// urSQL.g:403:4: ( COUNT | AVERAGE | MIN | MAX )
+			int alt31=4;
 			switch ( input.LA(1) ) {
 			case COUNT:
 				{
-				alt23=1;
+				alt31=1;
 				}
 				break;
 			case AVERAGE:
 				{
-				alt23=2;
+				alt31=2;
 				}
 				break;
 			case MIN:
 				{
-				alt23=3;
+				alt31=3;
 				}
 				break;
 			case MAX:
 				{
-				alt23=4;
+				alt31=4;
 				}
 				break;
 			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 23, 0, input);
+					new NoViableAltException("", 31, 0, input);
 				throw nvae;
 			}
-			switch (alt23) {
+			switch (alt31) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:391:6: COUNT
+					// urSQL.g:403:6: COUNT
 					{
-					match(input,COUNT,FOLLOW_COUNT_in_agg_funct506); 
-					 programa_stack.peek().select_columns.add("0");  
+					match(input,COUNT,FOLLOW_COUNT_in_agg_funct625); 
+					 function = SelectItem.COUNT; 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:392:4: AVERAGE
+					// urSQL.g:404:4: AVERAGE
 					{
-					match(input,AVERAGE,FOLLOW_AVERAGE_in_agg_funct513); 
-					 programa_stack.peek().select_columns.add("1");  
+					match(input,AVERAGE,FOLLOW_AVERAGE_in_agg_funct632); 
+					 function = SelectItem.AVERAGE; 
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:393:4: MIN
+					// urSQL.g:405:4: MIN
 					{
-					match(input,MIN,FOLLOW_MIN_in_agg_funct520); 
-					 programa_stack.peek().select_columns.add("2");  
+					match(input,MIN,FOLLOW_MIN_in_agg_funct639); 
+					 function = SelectItem.MIN; 
 					}
 					break;
 				case 4 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:394:4: MAX
+					// urSQL.g:406:4: MAX
 					{
-					match(input,MAX,FOLLOW_MAX_in_agg_funct527); 
-					 programa_stack.peek().select_columns.add("3");  
+					match(input,MAX,FOLLOW_MAX_in_agg_funct646); 
+					 function = SelectItem.MAX; 
 					}
 					break;
 
 			}
 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_agg_funct535); 
-			ID7=(Token)match(input,ID,FOLLOW_ID_in_agg_funct537); 
-			 programa_stack.peek().select_columns.add((ID7!=null?ID7.getText():null));  
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_agg_funct541); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_agg_funct653); 
+			ID10=(Token)match(input,ID,FOLLOW_ID_in_agg_funct655); 
+			 programa_stack.peek().select.getItems().add(new SelectItem(function, (ID10!=null?ID10.getText():null))); 
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_agg_funct659); 
 			}
 
 		}
@@ -1728,67 +2051,67 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "update"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:398:1: update : UPDATE table= ID ( NEWLINE )? SET column= ID EQUALS value[\"2\"] ( NEWLINE )? ( where )? ( NEWLINE )* ;
-	public final void update()   {
+	// urSQL.g:410:1: update : UPDATE table= ID ( NEWLINE )? SET column= ID EQUALS value[\"2\"] ( NEWLINE )? ( where )? ( NEWLINE )* ;
+	public final void update() throws RecognitionException {
 		Token table=null;
 		Token column=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:2: ( UPDATE table= ID ( NEWLINE )? SET column= ID EQUALS value[\"2\"] ( NEWLINE )? ( where )? ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:4: UPDATE table= ID ( NEWLINE )? SET column= ID EQUALS value[\"2\"] ( NEWLINE )? ( where )? ( NEWLINE )*
+			// urSQL.g:411:2: ( UPDATE table= ID ( NEWLINE )? SET column= ID EQUALS value[\"2\"] ( NEWLINE )? ( where )? ( NEWLINE )* )
+			// urSQL.g:411:4: UPDATE table= ID ( NEWLINE )? SET column= ID EQUALS value[\"2\"] ( NEWLINE )? ( where )? ( NEWLINE )*
 			{
-			match(input,UPDATE,FOLLOW_UPDATE_in_update553); 
-			table=(Token)match(input,ID,FOLLOW_ID_in_update559); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:22: ( NEWLINE )?
-			int alt24=2;
-			int LA24_0 = input.LA(1);
-			if ( (LA24_0==NEWLINE) ) {
-				alt24=1;
+			match(input,UPDATE,FOLLOW_UPDATE_in_update670); 
+			table=(Token)match(input,ID,FOLLOW_ID_in_update676); 
+			// urSQL.g:411:22: ( NEWLINE )?
+			int alt32=2;
+			int LA32_0 = input.LA(1);
+			if ( (LA32_0==NEWLINE) ) {
+				alt32=1;
 			}
-			switch (alt24) {
+			switch (alt32) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:22: NEWLINE
+					// urSQL.g:411:22: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_update561); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_update678); 
 					}
 					break;
 
 			}
 
-			match(input,SET,FOLLOW_SET_in_update564); 
-			column=(Token)match(input,ID,FOLLOW_ID_in_update570); 
-			match(input,EQUALS,FOLLOW_EQUALS_in_update572); 
-			pushFollow(FOLLOW_value_in_update574);
+			match(input,SET,FOLLOW_SET_in_update681); 
+			column=(Token)match(input,ID,FOLLOW_ID_in_update687); 
+			match(input,EQUALS,FOLLOW_EQUALS_in_update689); 
+			pushFollow(FOLLOW_value_in_update691);
 			value("2");
 			state._fsp--;
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:65: ( NEWLINE )?
-			int alt25=2;
-			int LA25_0 = input.LA(1);
-			if ( (LA25_0==NEWLINE) ) {
-				alt25=1;
+			// urSQL.g:411:65: ( NEWLINE )?
+			int alt33=2;
+			int LA33_0 = input.LA(1);
+			if ( (LA33_0==NEWLINE) ) {
+				alt33=1;
 			}
-			switch (alt25) {
+			switch (alt33) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:65: NEWLINE
+					// urSQL.g:411:65: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_update577); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_update694); 
 					}
 					break;
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:74: ( where )?
-			int alt26=2;
-			int LA26_0 = input.LA(1);
-			if ( (LA26_0==WHERE) ) {
-				alt26=1;
+			// urSQL.g:411:74: ( where )?
+			int alt34=2;
+			int LA34_0 = input.LA(1);
+			if ( (LA34_0==WHERE) ) {
+				alt34=1;
 			}
-			switch (alt26) {
+			switch (alt34) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:74: where
+					// urSQL.g:411:74: where
 					{
-					pushFollow(FOLLOW_where_in_update580);
+					pushFollow(FOLLOW_where_in_update697);
 					where();
 					state._fsp--;
 
@@ -1797,42 +2120,39 @@ public class urSQLParser extends Parser {
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:81: ( NEWLINE )*
-			loop27:
+			// urSQL.g:411:81: ( NEWLINE )*
+			loop35:
 			while (true) {
-				int alt27=2;
-				int LA27_0 = input.LA(1);
-				if ( (LA27_0==NEWLINE) ) {
-					alt27=1;
+				int alt35=2;
+				int LA35_0 = input.LA(1);
+				if ( (LA35_0==NEWLINE) ) {
+					alt35=1;
 				}
 
-				switch (alt27) {
+				switch (alt35) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:399:81: NEWLINE
+					// urSQL.g:411:81: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_update583); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_update700); 
 					}
 					break;
 
 				default :
-					break loop27;
+					break loop35;
 				}
 			}
 
 
-				 	System.out.println("Updating column " + (column!=null?column.getText():null) + " from table " + (table!=null?table.getText():null) + "...");
-				 	System.out.println("New value: " + programa_stack.peek().tmp);
-				 	System.out.println("Condition:");
-				 	System.out.println(programa_stack.peek().condition);
-				 	
-				 	this.update((table!=null?table.getText():null), (column!=null?column.getText():null), programa_stack.peek().tmp, programa_stack.peek().condition);
-				 	
-				 	programa_stack.peek().writer.println("Obtain table " + (table!=null?table.getText():null));
-				 	programa_stack.peek().writer.println("Iterate table on column " + (column!=null?column.getText():null));
-				 	programa_stack.peek().writer.print("If condition is true, update column value with " + programa_stack.peek().tmp);
+				 	UpdateStatement statement = new UpdateStatement((table!=null?table.getText():null), (column!=null?column.getText():null), programa_stack.peek().tmp,
+				 		programa_stack.peek().condition);
+				 	System.out.println(statement);
+
+				 	LogicalNode plan = this.update(statement);
+
+				 	programa_stack.peek().writer.print(plan);
 				 	programa_stack.peek().writer.close();
-				 	
-				 	programa_stack.peek().condition.clear();
+
+				 	programa_stack.peek().condition = null;
 				 	programa_stack.peek().values.clear();
 				 
 			}
@@ -1851,60 +2171,60 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "delete"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:418:1: delete : DELETE ( NEWLINE )? FROM ID ( NEWLINE )? ( where )? ( NEWLINE )* ;
-	public final void delete()   {
-		Token ID8=null;
+	// urSQL.g:427:1: delete : DELETE ( NEWLINE )? FROM ID ( NEWLINE )? ( where )? ( NEWLINE )* ;
+	public final void delete() throws RecognitionException {
+		Token ID11=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:2: ( DELETE ( NEWLINE )? FROM ID ( NEWLINE )? ( where )? ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:4: DELETE ( NEWLINE )? FROM ID ( NEWLINE )? ( where )? ( NEWLINE )*
+			// urSQL.g:428:2: ( DELETE ( NEWLINE )? FROM ID ( NEWLINE )? ( where )? ( NEWLINE )* )
+			// urSQL.g:428:4: DELETE ( NEWLINE )? FROM ID ( NEWLINE )? ( where )? ( NEWLINE )*
 			{
-			match(input,DELETE,FOLLOW_DELETE_in_delete600); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:11: ( NEWLINE )?
-			int alt28=2;
-			int LA28_0 = input.LA(1);
-			if ( (LA28_0==NEWLINE) ) {
-				alt28=1;
-			}
-			switch (alt28) {
+			match(input,DELETE,FOLLOW_DELETE_in_delete716); 
+			// urSQL.g:428:11: ( NEWLINE )?
+			int alt36=2;
+			int LA36_0 = input.LA(1);
+			if ( (LA36_0==NEWLINE) ) {
+				alt36=1;
+			}
+			switch (alt36) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:11: NEWLINE
+					// urSQL.g:428:11: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_delete602); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_delete718); 
 					}
 					break;
 
 			}
 
-			match(input,FROM,FOLLOW_FROM_in_delete605); 
-			ID8=(Token)match(input,ID,FOLLOW_ID_in_delete607); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:28: ( NEWLINE )?
-			int alt29=2;
-			int LA29_0 = input.LA(1);
-			if ( (LA29_0==NEWLINE) ) {
-				alt29=1;
+			match(input,FROM,FOLLOW_FROM_in_delete721); 
+			ID11=(Token)match(input,ID,FOLLOW_ID_in_delete723); 
+			// urSQL.g:428:28: ( NEWLINE )?
+			int alt37=2;
+			int LA37_0 = input.LA(1);
+			if ( (LA37_0==NEWLINE) ) {
+				alt37=1;
 			}
-			switch (alt29) {
+			switch (alt37) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:28: NEWLINE
+					// urSQL.g:428:28: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_delete609); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_delete725); 
 					}
 					break;
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:37: ( where )?
-			int alt30=2;
-			int LA30_0 = input.LA(1);
-			if ( (LA30_0==WHERE) ) {
-				alt30=1;
+			// urSQL.g:428:37: ( where )?
+			int alt38=2;
+			int LA38_0 = input.LA(1);
+			if ( (LA38_0==WHERE) ) {
+				alt38=1;
 			}
-			switch (alt30) {
+			switch (alt38) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:37: where
+					// urSQL.g:428:37: where
 					{
-					pushFollow(FOLLOW_where_in_delete612);
+					pushFollow(FOLLOW_where_in_delete728);
 					where();
 					state._fsp--;
 
@@ -1913,43 +2233,39 @@ public class urSQLParser extends Parser {
 
 			}
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:44: ( NEWLINE )*
-			loop31:
+			// urSQL.g:428:44: ( NEWLINE )*
+			loop39:
 			while (true) {
-				int alt31=2;
-				int LA31_0 = input.LA(1);
-				if ( (LA31_0==NEWLINE) ) {
-					alt31=1;
+				int alt39=2;
+				int LA39_0 = input.LA(1);
+				if ( (LA39_0==NEWLINE) ) {
+					alt39=1;
 				}
 
-				switch (alt31) {
+				switch (alt39) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:419:44: NEWLINE
+					// urSQL.g:428:44: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_delete615); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_delete731); 
 					}
 					break;
 
 				default :
-					break loop31;
+					break loop39;
 				}
 			}
 
 
-				 	System.out.println("Delete from table " + (ID8!=null?ID8.getText():null));
-				 	System.out.print("Condition: ");
-				 	System.out.println(programa_stack.peek().condition);
-				 	
-				 	this.delete((ID8!=null?ID8.getText():null), programa_stack.peek().condition);
-				 	
-				 	programa_stack.peek().condition.clear();
+				 	DeleteStatement statement = new DeleteStatement((ID11!=null?ID11.getText():null), programa_stack.peek().condition);
+				 	System.out.println(statement);
+
+				 	LogicalNode plan = this.delete(statement);
+
+				 	programa_stack.peek().condition = null;
 				 	programa_stack.peek().values.clear();
-				 	
-				 	programa_stack.peek().writer.println("Obtain table " + (ID8!=null?ID8.getText():null));
-				 	programa_stack.peek().writer.println("Iterate table");
-				 	programa_stack.peek().writer.println("If condition is true, delete row");
+
+				 	programa_stack.peek().writer.print(plan);
 				 	programa_stack.peek().writer.close();
-				 		 	
 				 
 			}
 
@@ -1967,91 +2283,82 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "insert"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:438:1: insert : INSERT INTO ID LEFT_PAR cols RIGHT_PAR ( NEWLINE )? VALUES LEFT_PAR values RIGHT_PAR ( NEWLINE )* ;
-	public final void insert()   {
-		Token ID9=null;
+	// urSQL.g:443:1: insert : INSERT INTO ID LEFT_PAR cols RIGHT_PAR ( NEWLINE )? VALUES LEFT_PAR values RIGHT_PAR ( NEWLINE )* ;
+	public final void insert() throws RecognitionException {
+		Token ID12=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:439:2: ( INSERT INTO ID LEFT_PAR cols RIGHT_PAR ( NEWLINE )? VALUES LEFT_PAR values RIGHT_PAR ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:439:4: INSERT INTO ID LEFT_PAR cols RIGHT_PAR ( NEWLINE )? VALUES LEFT_PAR values RIGHT_PAR ( NEWLINE )*
+			// urSQL.g:444:2: ( INSERT INTO ID LEFT_PAR cols RIGHT_PAR ( NEWLINE )? VALUES LEFT_PAR values RIGHT_PAR ( NEWLINE )* )
+			// urSQL.g:444:4: INSERT INTO ID LEFT_PAR cols RIGHT_PAR ( NEWLINE )? VALUES LEFT_PAR values RIGHT_PAR ( NEWLINE )*
 			{
-			match(input,INSERT,FOLLOW_INSERT_in_insert632); 
-			match(input,INTO,FOLLOW_INTO_in_insert634); 
-			ID9=(Token)match(input,ID,FOLLOW_ID_in_insert636); 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_insert638); 
-			pushFollow(FOLLOW_cols_in_insert640);
+			match(input,INSERT,FOLLOW_INSERT_in_insert747); 
+			match(input,INTO,FOLLOW_INTO_in_insert749); 
+			ID12=(Token)match(input,ID,FOLLOW_ID_in_insert751); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_insert753); 
+			pushFollow(FOLLOW_cols_in_insert755);
 			cols();
 			state._fsp--;
 
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_insert642); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:439:43: ( NEWLINE )?
-			int alt32=2;
-			int LA32_0 = input.LA(1);
-			if ( (LA32_0==NEWLINE) ) {
-				alt32=1;
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_insert757); 
+			// urSQL.g:444:43: ( NEWLINE )?
+			int alt40=2;
+			int LA40_0 = input.LA(1);
+			if ( (LA40_0==NEWLINE) ) {
+				alt40=1;
 			}
-			switch (alt32) {
+			switch (alt40) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:439:43: NEWLINE
+					// urSQL.g:444:43: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_insert644); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_insert759); 
 					}
 					break;
 
 			}
 
-			match(input,VALUES,FOLLOW_VALUES_in_insert647); 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_insert649); 
-			pushFollow(FOLLOW_values_in_insert651);
+			match(input,VALUES,FOLLOW_VALUES_in_insert762); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_insert764); 
+			pushFollow(FOLLOW_values_in_insert766);
 			values();
 			state._fsp--;
 
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_insert653); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:439:85: ( NEWLINE )*
-			loop33:
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_insert768); 
+			// urSQL.g:444:85: ( NEWLINE )*
+			loop41:
 			while (true) {
-				int alt33=2;
-				int LA33_0 = input.LA(1);
-				if ( (LA33_0==NEWLINE) ) {
-					alt33=1;
+				int alt41=2;
+				int LA41_0 = input.LA(1);
+				if ( (LA41_0==NEWLINE) ) {
+					alt41=1;
 				}
 
-				switch (alt33) {
+				switch (alt41) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:439:85: NEWLINE
+					// urSQL.g:444:85: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_insert655); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_insert770); 
 					}
 					break;
 
 				default :
-					break loop33;
+					break loop41;
 				}
 			}
 
 
-				 	System.out.println("Insert into table " + (ID9!=null?ID9.getText():null));
 				 	if (programa_stack.peek().column.size() != programa_stack.peek().values.size()) {
 				 		System.out.println("Error: Mismatch between columns and values");
 				 	} else {
-				 		System.out.print("Columns: ");
-				 		System.out.println(programa_stack.peek().column);
-				 		System.out.print("Values: ");
-				 		System.out.println(programa_stack.peek().values);
 				 		Collections.reverse(programa_stack.peek().column);
-				 		this.insert((ID9!=null?ID9.getText():null), programa_stack.peek().column, programa_stack.peek().values);
-				 	}
-				 	
-				 	programa_stack.peek().writer.println("Obtain table " + (ID9!=null?ID9.getText():null));
-				 	programa_stack.peek().writer.print("Insert into columns ");
-				 	for (int i = 0; i < programa_stack.peek().column.size(); i++) {
-				 		programa_stack.peek().writer.print(programa_stack.peek().column.get(i) + " ");
-				 	}
-				 	programa_stack.peek().writer.print("\nValues ");
-				 	for (int i = 0; i < programa_stack.peek().values.size(); i++) {
-				 		programa_stack.peek().writer.print(programa_stack.peek().values.get(i) + " ");
+				 		InsertStatement statement = new InsertStatement((ID12!=null?ID12.getText():null),
+				 			new LinkedList<String>(programa_stack.peek().column), new LinkedList<String>(programa_stack.peek().values));
+				 		System.out.println(statement);
+
+				 		LogicalNode plan = this.insert(statement);
+
+				 		programa_stack.peek().writer.print(plan);
 				 	}
-				 	
+
 				 	programa_stack.peek().column.clear();
 				 	programa_stack.peek().values.clear();
 				 	programa_stack.peek().writer.close();
@@ -2072,41 +2379,41 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "values"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:469:1: values : ( value[\"0\"] values |);
-	public final void values()   {
+	// urSQL.g:465:1: values : ( value[\"0\"] values |);
+	public final void values() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:470:2: ( value[\"0\"] values |)
-			int alt34=2;
-			int LA34_0 = input.LA(1);
-			if ( (LA34_0==FLOAT||LA34_0==ID||LA34_0==INT) ) {
-				alt34=1;
+			// urSQL.g:466:2: ( value[\"0\"] values |)
+			int alt42=2;
+			int LA42_0 = input.LA(1);
+			if ( (LA42_0==FLOAT||LA42_0==ID||LA42_0==INT||LA42_0==PARAM) ) {
+				alt42=1;
 			}
-			else if ( (LA34_0==RIGHT_PAR) ) {
-				alt34=2;
+			else if ( (LA42_0==RIGHT_PAR) ) {
+				alt42=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 34, 0, input);
+					new NoViableAltException("", 42, 0, input);
 				throw nvae;
 			}
 
-			switch (alt34) {
+			switch (alt42) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:470:4: value[\"0\"] values
+					// urSQL.g:466:4: value[\"0\"] values
 					{
-					pushFollow(FOLLOW_value_in_values672);
+					pushFollow(FOLLOW_value_in_values786);
 					value("0");
 					state._fsp--;
 
-					pushFollow(FOLLOW_values_in_values675);
+					pushFollow(FOLLOW_values_in_values789);
 					values();
 					state._fsp--;
 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:472:2: 
+					// urSQL.g:468:2: 
 					{
 					}
 					break;
@@ -2126,67 +2433,84 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "value"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:474:1: value[String sel] : ( INT | FLOAT | ID );
-	public final void value(String sel)   {
-		Token INT10=null;
-		Token FLOAT11=null;
-		Token ID12=null;
+	// urSQL.g:470:1: value[String sel] : ( INT | FLOAT | ID | PARAM );
+	public final void value(String sel) throws RecognitionException {
+		Token INT13=null;
+		Token FLOAT14=null;
+		Token ID15=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:475:2: ( INT | FLOAT | ID )
-			int alt35=3;
+			// urSQL.g:471:2: ( INT | FLOAT | ID | PARAM )
+			int alt43=4;
 			switch ( input.LA(1) ) {
 			case INT:
 				{
-				alt35=1;
+				alt43=1;
 				}
 				break;
 			case FLOAT:
 				{
-				alt35=2;
+				alt43=2;
 				}
 				break;
 			case ID:
 				{
-				alt35=3;
+				alt43=3;
+				}
+				break;
+			case PARAM:
+				{
+				alt43=4;
 				}
 				break;
 			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 35, 0, input);
+					new NoViableAltException("", 43, 0, input);
 				throw nvae;
 			}
-			switch (alt35) {
+			switch (alt43) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:475:4: INT
+					// urSQL.g:471:4: INT
 					{
-					INT10=(Token)match(input,INT,FOLLOW_INT_in_value692); 
-					 
-						 	if (sel.equals("0")) { programa_stack.peek().values.add((INT10!=null?INT10.getText():null)); }
-						 	else if (sel.equals("1")) { programa_stack.peek().condition.add((INT10!=null?INT10.getText():null)); }
-						 	else { programa_stack.peek().tmp = (INT10!=null?INT10.getText():null); }
+					INT13=(Token)match(input,INT,FOLLOW_INT_in_value805); 
+
+						 	if (sel.equals("0")) { programa_stack.peek().values.add((INT13!=null?INT13.getText():null)); }
+						 	else if (sel.equals("1")) { programa_stack.peek().condition_value = (INT13!=null?INT13.getText():null); }
+						 	else { programa_stack.peek().tmp = (INT13!=null?INT13.getText():null); }
 						 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:481:4: FLOAT
+					// urSQL.g:477:4: FLOAT
 					{
-					FLOAT11=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_value702); 
-					 
-						 	if (sel.equals("0")) { programa_stack.peek().values.add((FLOAT11!=null?FLOAT11.getText():null)); }
-						 	else if (sel.equals("1")) { programa_stack.peek().condition.add((FLOAT11!=null?FLOAT11.getText():null)); }
-						 	else { programa_stack.peek().tmp = (FLOAT11!=null?FLOAT11.getText():null); }
+					FLOAT14=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_value814); 
+
+						 	if (sel.equals("0")) { programa_stack.peek().values.add((FLOAT14!=null?FLOAT14.getText():null)); }
+						 	else if (sel.equals("1")) { programa_stack.peek().condition_value = (FLOAT14!=null?FLOAT14.getText():null); }
+						 	else { programa_stack.peek().tmp = (FLOAT14!=null?FLOAT14.getText():null); }
 						 
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:487:4: ID
+					// urSQL.g:483:4: ID
 					{
-					ID12=(Token)match(input,ID,FOLLOW_ID_in_value712); 
-					 
-						 	if (sel.equals("0")) { programa_stack.peek().values.add((ID12!=null?ID12.getText():null)); }
-						 	else if (sel.equals("1")) { programa_stack.peek().condition.add((ID12!=null?ID12.getText():null)); }
-						 	else { programa_stack.peek().tmp = (ID12!=null?ID12.getText():null); }
+					ID15=(Token)match(input,ID,FOLLOW_ID_in_value823); 
+
+						 	if (sel.equals("0")) { programa_stack.peek().values.add((ID15!=null?ID15.getText():null)); }
+						 	else if (sel.equals("1")) { programa_stack.peek().condition_value = (ID15!=null?ID15.getText():null); }
+						 	else { programa_stack.peek().tmp = (ID15!=null?ID15.getText():null); }
+						 
+					}
+					break;
+				case 4 :
+					// urSQL.g:489:4: PARAM
+					{
+					match(input,PARAM,FOLLOW_PARAM_in_value832); 
+
+						 	String marker = this.nextParameter();
+						 	if (sel.equals("0")) { programa_stack.peek().values.add(marker); }
+						 	else if (sel.equals("1")) { programa_stack.peek().condition_value = marker; }
+						 	else { programa_stack.peek().tmp = marker; }
 						 
 					}
 					break;
@@ -2206,45 +2530,45 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "ddl_commands"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:496:1: ddl_commands : ( ( set_db | create_index | drop_table | alter_table | create_table ) ( ddl_commands | dml_commands | clp_commands ) |);
-	public final void ddl_commands()   {
+	// urSQL.g:499:1: ddl_commands : ( ( set_db | create_index | drop_table | alter_table | analyze | create_table ) ( ddl_commands | dml_commands | clp_commands ) |);
+	public final void ddl_commands() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:497:2: ( ( set_db | create_index | drop_table | alter_table | create_table ) ( ddl_commands | dml_commands | clp_commands ) |)
-			int alt38=2;
-			int LA38_0 = input.LA(1);
-			if ( (LA38_0==ALTER||LA38_0==CREATE||LA38_0==DROP||LA38_0==SET) ) {
-				alt38=1;
+			// urSQL.g:500:2: ( ( set_db | create_index | drop_table | alter_table | analyze | create_table ) ( ddl_commands | dml_commands | clp_commands ) |)
+			int alt46=2;
+			int LA46_0 = input.LA(1);
+			if ( ((LA46_0 >= ALTER && LA46_0 <= ANALYZE)||LA46_0==CREATE||LA46_0==DROP||LA46_0==SET) ) {
+				alt46=1;
 			}
-			else if ( (LA38_0==EOF) ) {
-				alt38=2;
+			else if ( (LA46_0==EOF) ) {
+				alt46=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 38, 0, input);
+					new NoViableAltException("", 46, 0, input);
 				throw nvae;
 			}
 
-			switch (alt38) {
+			switch (alt46) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:497:4: ( set_db | create_index | drop_table | alter_table | create_table ) ( ddl_commands | dml_commands | clp_commands )
+					// urSQL.g:500:4: ( set_db | create_index | drop_table | alter_table | analyze | create_table ) ( ddl_commands | dml_commands | clp_commands )
 					{
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:497:4: ( set_db | create_index | drop_table | alter_table | create_table )
-					int alt36=5;
+					// urSQL.g:500:4: ( set_db | create_index | drop_table | alter_table | analyze | create_table )
+					int alt44=6;
 					switch ( input.LA(1) ) {
 					case SET:
 						{
-						alt36=1;
+						alt44=1;
 						}
 						break;
 					case CREATE:
 						{
-						int LA36_2 = input.LA(2);
-						if ( (LA36_2==INDEX) ) {
-							alt36=2;
+						int LA44_2 = input.LA(2);
+						if ( (LA44_2==TABLE) ) {
+							alt44=6;
 						}
-						else if ( (LA36_2==TABLE) ) {
-							alt36=5;
+						else if ( (LA44_2==HASH||LA44_2==INDEX) ) {
+							alt44=2;
 						}
 
 						else {
@@ -2252,7 +2576,7 @@ public class urSQLParser extends Parser {
 							try {
 								input.consume();
 								NoViableAltException nvae =
-									new NoViableAltException("", 36, 2, input);
+									new NoViableAltException("", 44, 2, input);
 								throw nvae;
 							} finally {
 								input.rewind(nvaeMark);
@@ -2263,60 +2587,74 @@ public class urSQLParser extends Parser {
 						break;
 					case DROP:
 						{
-						alt36=3;
+						alt44=3;
 						}
 						break;
 					case ALTER:
 						{
-						alt36=4;
+						alt44=4;
+						}
+						break;
+					case ANALYZE:
+						{
+						alt44=5;
 						}
 						break;
 					default:
 						NoViableAltException nvae =
-							new NoViableAltException("", 36, 0, input);
+							new NoViableAltException("", 44, 0, input);
 						throw nvae;
 					}
-					switch (alt36) {
+					switch (alt44) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:497:6: set_db
+							// urSQL.g:500:6: set_db
 							{
-							pushFollow(FOLLOW_set_db_in_ddl_commands734);
+							pushFollow(FOLLOW_set_db_in_ddl_commands851);
 							set_db();
 							state._fsp--;
 
 							}
 							break;
 						case 2 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:498:4: create_index
+							// urSQL.g:501:4: create_index
 							{
-							pushFollow(FOLLOW_create_index_in_ddl_commands739);
+							pushFollow(FOLLOW_create_index_in_ddl_commands856);
 							create_index();
 							state._fsp--;
 
 							}
 							break;
 						case 3 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:499:4: drop_table
+							// urSQL.g:502:4: drop_table
 							{
-							pushFollow(FOLLOW_drop_table_in_ddl_commands744);
+							pushFollow(FOLLOW_drop_table_in_ddl_commands861);
 							drop_table();
 							state._fsp--;
 
 							}
 							break;
 						case 4 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:500:4: alter_table
+							// urSQL.g:503:4: alter_table
 							{
-							pushFollow(FOLLOW_alter_table_in_ddl_commands749);
+							pushFollow(FOLLOW_alter_table_in_ddl_commands866);
 							alter_table();
 							state._fsp--;
 
 							}
 							break;
 						case 5 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:501:4: create_table
+							// urSQL.g:504:4: analyze
+							{
+							pushFollow(FOLLOW_analyze_in_ddl_commands871);
+							analyze();
+							state._fsp--;
+
+							}
+							break;
+						case 6 :
+							// urSQL.g:505:4: create_table
 							{
-							pushFollow(FOLLOW_create_table_in_ddl_commands754);
+							pushFollow(FOLLOW_create_table_in_ddl_commands876);
 							create_table();
 							state._fsp--;
 
@@ -2325,23 +2663,24 @@ public class urSQLParser extends Parser {
 
 					}
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:501:19: ( ddl_commands | dml_commands | clp_commands )
-					int alt37=3;
+					// urSQL.g:505:19: ( ddl_commands | dml_commands | clp_commands )
+					int alt45=3;
 					switch ( input.LA(1) ) {
 					case ALTER:
+					case ANALYZE:
 					case SET:
 						{
-						alt37=1;
+						alt45=1;
 						}
 						break;
 					case CREATE:
 						{
-						int LA37_2 = input.LA(2);
-						if ( (LA37_2==INDEX||LA37_2==TABLE) ) {
-							alt37=1;
+						int LA45_2 = input.LA(2);
+						if ( (LA45_2==HASH||LA45_2==INDEX||LA45_2==TABLE) ) {
+							alt45=1;
 						}
-						else if ( (LA37_2==DATABASE) ) {
-							alt37=3;
+						else if ( (LA45_2==DATABASE) ) {
+							alt45=3;
 						}
 
 						else {
@@ -2349,7 +2688,7 @@ public class urSQLParser extends Parser {
 							try {
 								input.consume();
 								NoViableAltException nvae =
-									new NoViableAltException("", 37, 2, input);
+									new NoViableAltException("", 45, 2, input);
 								throw nvae;
 							} finally {
 								input.rewind(nvaeMark);
@@ -2360,12 +2699,12 @@ public class urSQLParser extends Parser {
 						break;
 					case DROP:
 						{
-						int LA37_3 = input.LA(2);
-						if ( (LA37_3==TABLE) ) {
-							alt37=1;
+						int LA45_3 = input.LA(2);
+						if ( (LA45_3==TABLE) ) {
+							alt45=1;
 						}
-						else if ( (LA37_3==DATABASE) ) {
-							alt37=3;
+						else if ( (LA45_3==DATABASE) ) {
+							alt45=3;
 						}
 
 						else {
@@ -2373,7 +2712,7 @@ public class urSQLParser extends Parser {
 							try {
 								input.consume();
 								NoViableAltException nvae =
-									new NoViableAltException("", 37, 3, input);
+									new NoViableAltException("", 45, 3, input);
 								throw nvae;
 							} finally {
 								input.rewind(nvaeMark);
@@ -2384,54 +2723,58 @@ public class urSQLParser extends Parser {
 						break;
 					case EOF:
 						{
-						alt37=1;
+						alt45=1;
 						}
 						break;
 					case DELETE:
+					case EXPLAIN:
 					case INSERT:
 					case SELECT:
 					case UPDATE:
 						{
-						alt37=2;
+						alt45=2;
 						}
 						break;
+					case BEGIN:
+					case COMMIT:
 					case DISPLAY:
 					case GET:
 					case LIST:
+					case ROLLBACK:
 					case START:
 					case STOP:
 						{
-						alt37=3;
+						alt45=3;
 						}
 						break;
 					default:
 						NoViableAltException nvae =
-							new NoViableAltException("", 37, 0, input);
+							new NoViableAltException("", 45, 0, input);
 						throw nvae;
 					}
-					switch (alt37) {
+					switch (alt45) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:501:21: ddl_commands
+							// urSQL.g:505:21: ddl_commands
 							{
-							pushFollow(FOLLOW_ddl_commands_in_ddl_commands760);
+							pushFollow(FOLLOW_ddl_commands_in_ddl_commands882);
 							ddl_commands();
 							state._fsp--;
 
 							}
 							break;
 						case 2 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:502:4: dml_commands
+							// urSQL.g:506:4: dml_commands
 							{
-							pushFollow(FOLLOW_dml_commands_in_ddl_commands765);
+							pushFollow(FOLLOW_dml_commands_in_ddl_commands887);
 							dml_commands();
 							state._fsp--;
 
 							}
 							break;
 						case 3 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:503:4: clp_commands
+							// urSQL.g:507:4: clp_commands
 							{
-							pushFollow(FOLLOW_clp_commands_in_ddl_commands770);
+							pushFollow(FOLLOW_clp_commands_in_ddl_commands892);
 							clp_commands();
 							state._fsp--;
 
@@ -2443,7 +2786,7 @@ public class urSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:505:2: 
+					// urSQL.g:509:2: 
 					{
 					}
 					break;
@@ -2463,46 +2806,45 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "set_db"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:508:1: set_db : SET DATABASE ID ( NEWLINE )* ;
-	public final void set_db()   {
-		Token ID13=null;
+	// urSQL.g:512:1: set_db : SET DATABASE ID ( NEWLINE )* ;
+	public final void set_db() throws RecognitionException {
+		Token ID16=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:509:2: ( SET DATABASE ID ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:509:4: SET DATABASE ID ( NEWLINE )*
+			// urSQL.g:513:2: ( SET DATABASE ID ( NEWLINE )* )
+			// urSQL.g:513:4: SET DATABASE ID ( NEWLINE )*
 			{
-			match(input,SET,FOLLOW_SET_in_set_db792); 
-			match(input,DATABASE,FOLLOW_DATABASE_in_set_db794); 
-			ID13=(Token)match(input,ID,FOLLOW_ID_in_set_db796); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:509:20: ( NEWLINE )*
-			loop39:
+			match(input,SET,FOLLOW_SET_in_set_db912); 
+			match(input,DATABASE,FOLLOW_DATABASE_in_set_db914); 
+			ID16=(Token)match(input,ID,FOLLOW_ID_in_set_db916); 
+			// urSQL.g:513:20: ( NEWLINE )*
+			loop47:
 			while (true) {
-				int alt39=2;
-				int LA39_0 = input.LA(1);
-				if ( (LA39_0==NEWLINE) ) {
-					alt39=1;
+				int alt47=2;
+				int LA47_0 = input.LA(1);
+				if ( (LA47_0==NEWLINE) ) {
+					alt47=1;
 				}
 
-				switch (alt39) {
+				switch (alt47) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:509:20: NEWLINE
+					// urSQL.g:513:20: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_set_db798); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_set_db918); 
 					}
 					break;
 
 				default :
-					break loop39;
+					break loop47;
 				}
 			}
 
-			System.out.println("Setting " + (ID13!=null?ID13.getText():null) + " as current database...");
+			System.out.println("Setting " + (ID16!=null?ID16.getText():null) + " as current database...");
 
-				 	programa_stack.peek().writer.println("Obtain database " + (ID13!=null?ID13.getText():null));
+				 	programa_stack.peek().writer.println("Obtain database " + (ID16!=null?ID16.getText():null));
 				 	programa_stack.peek().writer.println("Set it to be the current schema");
 				 	programa_stack.peek().writer.close();
-				 	
-				 	this.setDB((ID13!=null?ID13.getText():null));
+				 	this.setDB((ID16!=null?ID16.getText():null));
 				 
 			}
 
@@ -2520,70 +2862,225 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "create_index"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:520:1: create_index : CREATE INDEX index= ID ON ( NEWLINE )? table= ID LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )* ;
-	public final void create_index()   {
+	// urSQL.g:523:1: create_index : CREATE ( HASH )? INDEX index= ID ON ( NEWLINE )? table= ID LEFT_PAR (column= ID )+ RIGHT_PAR ( INCLUDE LEFT_PAR (included= ID )+ RIGHT_PAR )? ( NEWLINE )* ;
+	public final void create_index() throws RecognitionException {
 		Token index=null;
 		Token table=null;
 		Token column=null;
+		Token included=null;
+
+
+			Vector<String> keys = new Vector<String>();
+			Vector<String> includes = new Vector<String>();
+			boolean hash = false;
+
+		try {
+			// urSQL.g:529:2: ( CREATE ( HASH )? INDEX index= ID ON ( NEWLINE )? table= ID LEFT_PAR (column= ID )+ RIGHT_PAR ( INCLUDE LEFT_PAR (included= ID )+ RIGHT_PAR )? ( NEWLINE )* )
+			// urSQL.g:529:4: CREATE ( HASH )? INDEX index= ID ON ( NEWLINE )? table= ID LEFT_PAR (column= ID )+ RIGHT_PAR ( INCLUDE LEFT_PAR (included= ID )+ RIGHT_PAR )? ( NEWLINE )*
+			{
+			match(input,CREATE,FOLLOW_CREATE_in_create_index943); 
+			// urSQL.g:529:11: ( HASH )?
+			int alt48=2;
+			int LA48_0 = input.LA(1);
+			if ( (LA48_0==HASH) ) {
+				alt48=1;
+			}
+			switch (alt48) {
+				case 1 :
+					// urSQL.g:529:13: HASH
+					{
+					match(input,HASH,FOLLOW_HASH_in_create_index947); 
+					 hash = true; 
+					}
+					break;
+
+			}
+
+			match(input,INDEX,FOLLOW_INDEX_in_create_index954); 
+			index=(Token)match(input,ID,FOLLOW_ID_in_create_index960); 
+			match(input,ON,FOLLOW_ON_in_create_index962); 
+			// urSQL.g:529:58: ( NEWLINE )?
+			int alt49=2;
+			int LA49_0 = input.LA(1);
+			if ( (LA49_0==NEWLINE) ) {
+				alt49=1;
+			}
+			switch (alt49) {
+				case 1 :
+					// urSQL.g:529:58: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_index964); 
+					}
+					break;
+
+			}
+
+			table=(Token)match(input,ID,FOLLOW_ID_in_create_index971); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_create_index973); 
+			// urSQL.g:529:87: (column= ID )+
+			int cnt50=0;
+			loop50:
+			while (true) {
+				int alt50=2;
+				int LA50_0 = input.LA(1);
+				if ( (LA50_0==ID) ) {
+					alt50=1;
+				}
+
+				switch (alt50) {
+				case 1 :
+					// urSQL.g:529:89: column= ID
+					{
+					column=(Token)match(input,ID,FOLLOW_ID_in_create_index981); 
+					 keys.add((column!=null?column.getText():null)); 
+					}
+					break;
+
+				default :
+					if ( cnt50 >= 1 ) break loop50;
+					EarlyExitException eee = new EarlyExitException(50, input);
+					throw eee;
+				}
+				cnt50++;
+			}
+
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_create_index988); 
+			// urSQL.g:530:2: ( INCLUDE LEFT_PAR (included= ID )+ RIGHT_PAR )?
+			int alt52=2;
+			int LA52_0 = input.LA(1);
+			if ( (LA52_0==INCLUDE) ) {
+				alt52=1;
+			}
+			switch (alt52) {
+				case 1 :
+					// urSQL.g:530:4: INCLUDE LEFT_PAR (included= ID )+ RIGHT_PAR
+					{
+					match(input,INCLUDE,FOLLOW_INCLUDE_in_create_index993); 
+					match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_create_index995); 
+					// urSQL.g:530:21: (included= ID )+
+					int cnt51=0;
+					loop51:
+					while (true) {
+						int alt51=2;
+						int LA51_0 = input.LA(1);
+						if ( (LA51_0==ID) ) {
+							alt51=1;
+						}
+
+						switch (alt51) {
+						case 1 :
+							// urSQL.g:530:23: included= ID
+							{
+							included=(Token)match(input,ID,FOLLOW_ID_in_create_index1003); 
+							 includes.add((included!=null?included.getText():null)); 
+							}
+							break;
+
+						default :
+							if ( cnt51 >= 1 ) break loop51;
+							EarlyExitException eee = new EarlyExitException(51, input);
+							throw eee;
+						}
+						cnt51++;
+					}
+
+					match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_create_index1010); 
+					}
+					break;
+
+			}
+
+			// urSQL.g:530:87: ( NEWLINE )*
+			loop53:
+			while (true) {
+				int alt53=2;
+				int LA53_0 = input.LA(1);
+				if ( (LA53_0==NEWLINE) ) {
+					alt53=1;
+				}
+
+				switch (alt53) {
+				case 1 :
+					// urSQL.g:530:87: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_index1015); 
+					}
+					break;
+
+				default :
+					break loop53;
+				}
+			}
+
+
+				 	System.out.println("Creating index " + (index!=null?index.getText():null) + " on columns " + keys + " from table " + (table!=null?table.getText():null)
+				 	+ "...");
+
+				 	programa_stack.peek().writer.println("Obtain table " + (table!=null?table.getText():null));
+				 	programa_stack.peek().writer.println("Obtain columns " + keys);
+				 	if (!includes.isEmpty()) {
+				 		programa_stack.peek().writer.println("Include columns " + includes);
+				 	}
+				 	programa_stack.peek().writer.println("Create " + (hash ? "hash " : "") + "index " + (index!=null?index.getText():null));
+				 	programa_stack.peek().writer.close();
+
+				 	this.createIndex((index!=null?index.getText():null), (table!=null?table.getText():null), keys, includes, hash);
+				 
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "create_index"
+
+
+
+	// $ANTLR start "drop_table"
+	// urSQL.g:548:1: drop_table : DROP TABLE ID ( NEWLINE )* ;
+	public final void drop_table() throws RecognitionException {
+		Token ID17=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:521:2: ( CREATE INDEX index= ID ON ( NEWLINE )? table= ID LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:521:4: CREATE INDEX index= ID ON ( NEWLINE )? table= ID LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )*
+			// urSQL.g:549:2: ( DROP TABLE ID ( NEWLINE )* )
+			// urSQL.g:549:4: DROP TABLE ID ( NEWLINE )*
 			{
-			match(input,CREATE,FOLLOW_CREATE_in_create_index819); 
-			match(input,INDEX,FOLLOW_INDEX_in_create_index821); 
-			index=(Token)match(input,ID,FOLLOW_ID_in_create_index827); 
-			match(input,ON,FOLLOW_ON_in_create_index829); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:521:31: ( NEWLINE )?
-			int alt40=2;
-			int LA40_0 = input.LA(1);
-			if ( (LA40_0==NEWLINE) ) {
-				alt40=1;
-			}
-			switch (alt40) {
-				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:521:31: NEWLINE
-					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_index831); 
-					}
-					break;
-
-			}
-
-			table=(Token)match(input,ID,FOLLOW_ID_in_create_index838); 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_create_index840); 
-			column=(Token)match(input,ID,FOLLOW_ID_in_create_index846); 
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_create_index848); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:521:82: ( NEWLINE )*
-			loop41:
+			match(input,DROP,FOLLOW_DROP_in_drop_table1033); 
+			match(input,TABLE,FOLLOW_TABLE_in_drop_table1035); 
+			ID17=(Token)match(input,ID,FOLLOW_ID_in_drop_table1037); 
+			// urSQL.g:549:18: ( NEWLINE )*
+			loop54:
 			while (true) {
-				int alt41=2;
-				int LA41_0 = input.LA(1);
-				if ( (LA41_0==NEWLINE) ) {
-					alt41=1;
+				int alt54=2;
+				int LA54_0 = input.LA(1);
+				if ( (LA54_0==NEWLINE) ) {
+					alt54=1;
 				}
 
-				switch (alt41) {
+				switch (alt54) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:521:82: NEWLINE
+					// urSQL.g:549:18: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_index850); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_drop_table1039); 
 					}
 					break;
 
 				default :
-					break loop41;
+					break loop54;
 				}
 			}
 
+			System.out.println("Deleting table " + (ID17!=null?ID17.getText():null) + "...");
 
-				 	System.out.println("Creating index " + (index!=null?index.getText():null) + " on column " + (column!=null?column.getText():null) + " from table " + (table!=null?table.getText():null) 
-				 	+ "...");
-				 	
-				 	programa_stack.peek().writer.println("Obtain table " + (table!=null?table.getText():null));
-				 	programa_stack.peek().writer.println("Obtain column " + (column!=null?column.getText():null));
-				 	programa_stack.peek().writer.println("Create index " + (index!=null?index.getText():null));
+				 	programa_stack.peek().writer.println("Obtain table " + (ID17!=null?ID17.getText():null));
+				 	programa_stack.peek().writer.println("Delete the table");
 				 	programa_stack.peek().writer.close();
+				 	this.dropTable((ID17!=null?ID17.getText():null));
 				 
 			}
 
@@ -2596,50 +3093,68 @@ public class urSQLParser extends Parser {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "create_index"
+	// $ANTLR end "drop_table"
 
 
 
-	// $ANTLR start "drop_table"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:534:1: drop_table : DROP TABLE ID ( NEWLINE )* ;
-	public final void drop_table()   {
-		Token ID14=null;
+	// $ANTLR start "analyze"
+	// urSQL.g:559:1: analyze : ANALYZE ( ID )? ( NEWLINE )* ;
+	public final void analyze() throws RecognitionException {
+		Token ID18=null;
+
+
+			String table = null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:535:2: ( DROP TABLE ID ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:535:4: DROP TABLE ID ( NEWLINE )*
+			// urSQL.g:563:2: ( ANALYZE ( ID )? ( NEWLINE )* )
+			// urSQL.g:563:4: ANALYZE ( ID )? ( NEWLINE )*
 			{
-			match(input,DROP,FOLLOW_DROP_in_drop_table870); 
-			match(input,TABLE,FOLLOW_TABLE_in_drop_table872); 
-			ID14=(Token)match(input,ID,FOLLOW_ID_in_drop_table874); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:535:18: ( NEWLINE )*
-			loop42:
+			match(input,ANALYZE,FOLLOW_ANALYZE_in_analyze1064); 
+			// urSQL.g:563:12: ( ID )?
+			int alt55=2;
+			int LA55_0 = input.LA(1);
+			if ( (LA55_0==ID) ) {
+				alt55=1;
+			}
+			switch (alt55) {
+				case 1 :
+					// urSQL.g:563:14: ID
+					{
+					ID18=(Token)match(input,ID,FOLLOW_ID_in_analyze1068); 
+					 table = (ID18!=null?ID18.getText():null); 
+					}
+					break;
+
+			}
+
+			// urSQL.g:563:42: ( NEWLINE )*
+			loop56:
 			while (true) {
-				int alt42=2;
-				int LA42_0 = input.LA(1);
-				if ( (LA42_0==NEWLINE) ) {
-					alt42=1;
+				int alt56=2;
+				int LA56_0 = input.LA(1);
+				if ( (LA56_0==NEWLINE) ) {
+					alt56=1;
 				}
 
-				switch (alt42) {
+				switch (alt56) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:535:18: NEWLINE
+					// urSQL.g:563:42: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_drop_table876); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_analyze1075); 
 					}
 					break;
 
 				default :
-					break loop42;
+					break loop56;
 				}
 			}
 
-			System.out.println("Deleting table " + (ID14!=null?ID14.getText():null) + "...");
 
-				 	programa_stack.peek().writer.println("Obtain table " + (ID14!=null?ID14.getText():null));
-				 	programa_stack.peek().writer.println("Delete the table");
+				 	System.out.println("Analyzing " + (table != null ? "table " + table : "every table") + "...");
+				 	programa_stack.peek().writer.println("Sample " + (table != null ? "table " + table : "every table"));
+				 	programa_stack.peek().writer.println("Store row count, distinct values and histograms of each column");
 				 	programa_stack.peek().writer.close();
-				 	this.dropTable((ID14!=null?ID14.getText():null));
+				 	this.analyze(table);
 				 
 			}
 
@@ -2652,63 +3167,63 @@ public class urSQLParser extends Parser {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "drop_table"
+	// $ANTLR end "analyze"
 
 
 
 	// $ANTLR start "alter_table"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:545:1: alter_table : ALTER TABLE ID ( NEWLINE )? ADD CONSTRAINT const_def[$ID.text] ( NEWLINE )* ;
-	public final void alter_table()   {
-		Token ID15=null;
+	// urSQL.g:574:1: alter_table : ALTER TABLE ID ( NEWLINE )? ADD CONSTRAINT const_def[$ID.text] ( NEWLINE )* ;
+	public final void alter_table() throws RecognitionException {
+		Token ID19=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:546:2: ( ALTER TABLE ID ( NEWLINE )? ADD CONSTRAINT const_def[$ID.text] ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:546:4: ALTER TABLE ID ( NEWLINE )? ADD CONSTRAINT const_def[$ID.text] ( NEWLINE )*
+			// urSQL.g:575:2: ( ALTER TABLE ID ( NEWLINE )? ADD CONSTRAINT const_def[$ID.text] ( NEWLINE )* )
+			// urSQL.g:575:4: ALTER TABLE ID ( NEWLINE )? ADD CONSTRAINT const_def[$ID.text] ( NEWLINE )*
 			{
-			match(input,ALTER,FOLLOW_ALTER_in_alter_table898); 
-			match(input,TABLE,FOLLOW_TABLE_in_alter_table900); 
-			ID15=(Token)match(input,ID,FOLLOW_ID_in_alter_table902); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:546:19: ( NEWLINE )?
-			int alt43=2;
-			int LA43_0 = input.LA(1);
-			if ( (LA43_0==NEWLINE) ) {
-				alt43=1;
-			}
-			switch (alt43) {
+			match(input,ALTER,FOLLOW_ALTER_in_alter_table1093); 
+			match(input,TABLE,FOLLOW_TABLE_in_alter_table1095); 
+			ID19=(Token)match(input,ID,FOLLOW_ID_in_alter_table1097); 
+			// urSQL.g:575:19: ( NEWLINE )?
+			int alt57=2;
+			int LA57_0 = input.LA(1);
+			if ( (LA57_0==NEWLINE) ) {
+				alt57=1;
+			}
+			switch (alt57) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:546:19: NEWLINE
+					// urSQL.g:575:19: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_alter_table904); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_alter_table1099); 
 					}
 					break;
 
 			}
 
-			match(input,ADD,FOLLOW_ADD_in_alter_table907); 
-			match(input,CONSTRAINT,FOLLOW_CONSTRAINT_in_alter_table909); 
-			pushFollow(FOLLOW_const_def_in_alter_table911);
-			const_def((ID15!=null?ID15.getText():null));
+			match(input,ADD,FOLLOW_ADD_in_alter_table1102); 
+			match(input,CONSTRAINT,FOLLOW_CONSTRAINT_in_alter_table1104); 
+			pushFollow(FOLLOW_const_def_in_alter_table1106);
+			const_def((ID19!=null?ID19.getText():null));
 			state._fsp--;
 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:546:63: ( NEWLINE )*
-			loop44:
+			// urSQL.g:575:63: ( NEWLINE )*
+			loop58:
 			while (true) {
-				int alt44=2;
-				int LA44_0 = input.LA(1);
-				if ( (LA44_0==NEWLINE) ) {
-					alt44=1;
+				int alt58=2;
+				int LA58_0 = input.LA(1);
+				if ( (LA58_0==NEWLINE) ) {
+					alt58=1;
 				}
 
-				switch (alt44) {
+				switch (alt58) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:546:63: NEWLINE
+					// urSQL.g:575:63: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_alter_table914); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_alter_table1109); 
 					}
 					break;
 
 				default :
-					break loop44;
+					break loop58;
 				}
 			}
 
@@ -2728,46 +3243,46 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "const_def"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:549:1: const_def[String table] : FOREIGN KEY LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )? REFERENCES r_table= ID LEFT_PAR r_column= ID RIGHT_PAR ;
-	public final void const_def(String table)   {
+	// urSQL.g:578:1: const_def[String table] : FOREIGN KEY LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )? REFERENCES r_table= ID LEFT_PAR r_column= ID RIGHT_PAR ;
+	public final void const_def(String table) throws RecognitionException {
 		Token column=null;
 		Token r_table=null;
 		Token r_column=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:550:2: ( FOREIGN KEY LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )? REFERENCES r_table= ID LEFT_PAR r_column= ID RIGHT_PAR )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:550:4: FOREIGN KEY LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )? REFERENCES r_table= ID LEFT_PAR r_column= ID RIGHT_PAR
+			// urSQL.g:579:2: ( FOREIGN KEY LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )? REFERENCES r_table= ID LEFT_PAR r_column= ID RIGHT_PAR )
+			// urSQL.g:579:4: FOREIGN KEY LEFT_PAR column= ID RIGHT_PAR ( NEWLINE )? REFERENCES r_table= ID LEFT_PAR r_column= ID RIGHT_PAR
 			{
-			match(input,FOREIGN,FOLLOW_FOREIGN_in_const_def929); 
-			match(input,KEY,FOLLOW_KEY_in_const_def931); 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_const_def933); 
-			column=(Token)match(input,ID,FOLLOW_ID_in_const_def939); 
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_const_def941); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:550:47: ( NEWLINE )?
-			int alt45=2;
-			int LA45_0 = input.LA(1);
-			if ( (LA45_0==NEWLINE) ) {
-				alt45=1;
-			}
-			switch (alt45) {
+			match(input,FOREIGN,FOLLOW_FOREIGN_in_const_def1123); 
+			match(input,KEY,FOLLOW_KEY_in_const_def1125); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_const_def1127); 
+			column=(Token)match(input,ID,FOLLOW_ID_in_const_def1133); 
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_const_def1135); 
+			// urSQL.g:579:47: ( NEWLINE )?
+			int alt59=2;
+			int LA59_0 = input.LA(1);
+			if ( (LA59_0==NEWLINE) ) {
+				alt59=1;
+			}
+			switch (alt59) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:550:47: NEWLINE
+					// urSQL.g:579:47: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_const_def943); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_const_def1137); 
 					}
 					break;
 
 			}
 
-			match(input,REFERENCES,FOLLOW_REFERENCES_in_const_def946); 
-			r_table=(Token)match(input,ID,FOLLOW_ID_in_const_def952); 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_const_def954); 
-			r_column=(Token)match(input,ID,FOLLOW_ID_in_const_def960); 
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_const_def962); 
+			match(input,REFERENCES,FOLLOW_REFERENCES_in_const_def1140); 
+			r_table=(Token)match(input,ID,FOLLOW_ID_in_const_def1146); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_const_def1148); 
+			r_column=(Token)match(input,ID,FOLLOW_ID_in_const_def1154); 
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_const_def1156); 
 
 				 	System.out.println("Column " + (column!=null?column.getText():null) + " from table " + table + " references column " +
 				 	(r_column!=null?r_column.getText():null) + " from table " + (r_table!=null?r_table.getText():null));
-				 	
+
 				 	programa_stack.peek().writer.println("Obtain both " + table + " and " + (r_table!=null?r_table.getText():null));
 				 	programa_stack.peek().writer.println("Check that " + (r_column!=null?r_column.getText():null) + " is a primary key");
 				 	programa_stack.peek().writer.println("Add reference from " + (column!=null?column.getText():null) + " to " + (r_column!=null?r_column.getText():null));
@@ -2789,63 +3304,63 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "create_table"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:563:1: create_table : CREATE TABLE ID AS LEFT_PAR ( NEWLINE )? col_def p_key RIGHT_PAR ( NEWLINE )* ;
-	public final void create_table()   {
-		Token ID16=null;
+	// urSQL.g:592:1: create_table : CREATE TABLE ID AS LEFT_PAR ( NEWLINE )? col_def p_key RIGHT_PAR ( NEWLINE )* ;
+	public final void create_table() throws RecognitionException {
+		Token ID20=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:564:2: ( CREATE TABLE ID AS LEFT_PAR ( NEWLINE )? col_def p_key RIGHT_PAR ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:564:4: CREATE TABLE ID AS LEFT_PAR ( NEWLINE )? col_def p_key RIGHT_PAR ( NEWLINE )*
+			// urSQL.g:593:2: ( CREATE TABLE ID AS LEFT_PAR ( NEWLINE )? col_def p_key RIGHT_PAR ( NEWLINE )* )
+			// urSQL.g:593:4: CREATE TABLE ID AS LEFT_PAR ( NEWLINE )? col_def p_key RIGHT_PAR ( NEWLINE )*
 			{
-			match(input,CREATE,FOLLOW_CREATE_in_create_table981); 
-			match(input,TABLE,FOLLOW_TABLE_in_create_table983); 
-			ID16=(Token)match(input,ID,FOLLOW_ID_in_create_table985); 
-			match(input,AS,FOLLOW_AS_in_create_table987); 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_create_table989); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:564:32: ( NEWLINE )?
-			int alt46=2;
-			int LA46_0 = input.LA(1);
-			if ( (LA46_0==NEWLINE) ) {
-				alt46=1;
-			}
-			switch (alt46) {
+			match(input,CREATE,FOLLOW_CREATE_in_create_table1173); 
+			match(input,TABLE,FOLLOW_TABLE_in_create_table1175); 
+			ID20=(Token)match(input,ID,FOLLOW_ID_in_create_table1177); 
+			match(input,AS,FOLLOW_AS_in_create_table1179); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_create_table1181); 
+			// urSQL.g:593:32: ( NEWLINE )?
+			int alt60=2;
+			int LA60_0 = input.LA(1);
+			if ( (LA60_0==NEWLINE) ) {
+				alt60=1;
+			}
+			switch (alt60) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:564:32: NEWLINE
+					// urSQL.g:593:32: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_table991); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_table1183); 
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_col_def_in_create_table994);
+			pushFollow(FOLLOW_col_def_in_create_table1186);
 			col_def();
 			state._fsp--;
 
-			pushFollow(FOLLOW_p_key_in_create_table996);
+			pushFollow(FOLLOW_p_key_in_create_table1188);
 			p_key();
 			state._fsp--;
 
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_create_table998); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:564:65: ( NEWLINE )*
-			loop47:
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_create_table1190); 
+			// urSQL.g:593:65: ( NEWLINE )*
+			loop61:
 			while (true) {
-				int alt47=2;
-				int LA47_0 = input.LA(1);
-				if ( (LA47_0==NEWLINE) ) {
-					alt47=1;
+				int alt61=2;
+				int LA61_0 = input.LA(1);
+				if ( (LA61_0==NEWLINE) ) {
+					alt61=1;
 				}
 
-				switch (alt47) {
+				switch (alt61) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:564:65: NEWLINE
+					// urSQL.g:593:65: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_table1000); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_table1192); 
 					}
 					break;
 
 				default :
-					break loop47;
+					break loop61;
 				}
 			}
 
@@ -2878,23 +3393,23 @@ public class urSQLParser extends Parser {
 					} else if (pk) {
 						System.out.println("Error: Primary key can't be null");
 					} else {
-				 		System.out.println("Table: " + (ID16!=null?ID16.getText():null));
+				 		System.out.println("Table: " + (ID20!=null?ID20.getText():null));
 				 		System.out.println("Columns:");
 				 		for(int i = 0; i < programa_stack.peek().columns.size(); i++) {
 				 			System.out.println(programa_stack.peek().columns.get(i));
 				 		}
 				 		System.out.println("Primary key: " + programa_stack.peek().tmp);
-				 		this.createTable((ID16!=null?ID16.getText():null), programa_stack.peek().columns, programa_stack.peek().tmp);
+				 		this.createTable((ID20!=null?ID20.getText():null), programa_stack.peek().columns, programa_stack.peek().tmp);
 				 	}
-				 	
-				 	programa_stack.peek().writer.println("Check that table " + (ID16!=null?ID16.getText():null) + " does not exists");
+
+				 	programa_stack.peek().writer.println("Check that table " + (ID20!=null?ID20.getText():null) + " does not exists");
 				 	programa_stack.peek().writer.print("Create new table with columns ");
 				 	for (int i = 0; i < programa_stack.peek().columns.size(); i++) {
 				 		programa_stack.peek().writer.print(programa_stack.peek().columns.get(i).get(0) + " ");
 				 	}
 				 	programa_stack.peek().writer.print(" and primary key " + programa_stack.peek().tmp);
 				 	programa_stack.peek().writer.close();
-				 	
+
 				 	programa_stack.peek().column.clear();
 				 	programa_stack.peek().type_null.clear();
 				 	programa_stack.peek().columns.clear();
@@ -2915,71 +3430,67 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "col_def"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:618:1: col_def : ( ID type null_cons ( NEWLINE )? col_def |);
-	public final void col_def()   {
-		Token ID17=null;
+	// urSQL.g:647:1: col_def : ( ID type null_cons ( NEWLINE )? col_def |);
+	public final void col_def() throws RecognitionException {
+		Token ID21=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:619:2: ( ID type null_cons ( NEWLINE )? col_def |)
-			int alt49=2;
-			int LA49_0 = input.LA(1);
-			if ( (LA49_0==ID) ) {
-				alt49=1;
+			// urSQL.g:648:2: ( ID type null_cons ( NEWLINE )? col_def |)
+			int alt63=2;
+			int LA63_0 = input.LA(1);
+			if ( (LA63_0==ID) ) {
+				alt63=1;
 			}
-			else if ( (LA49_0==PRIMARY) ) {
-				alt49=2;
+			else if ( (LA63_0==PRIMARY) ) {
+				alt63=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 49, 0, input);
+					new NoViableAltException("", 63, 0, input);
 				throw nvae;
 			}
 
-			switch (alt49) {
+			switch (alt63) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:619:4: ID type null_cons ( NEWLINE )? col_def
+					// urSQL.g:648:4: ID type null_cons ( NEWLINE )? col_def
 					{
-					ID17=(Token)match(input,ID,FOLLOW_ID_in_col_def1020); 
-					pushFollow(FOLLOW_type_in_col_def1022);
+					ID21=(Token)match(input,ID,FOLLOW_ID_in_col_def1210); 
+					pushFollow(FOLLOW_type_in_col_def1212);
 					type();
 					state._fsp--;
 
-					pushFollow(FOLLOW_null_cons_in_col_def1024);
+					pushFollow(FOLLOW_null_cons_in_col_def1214);
 					null_cons();
 					state._fsp--;
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:619:22: ( NEWLINE )?
-					int alt48=2;
-					int LA48_0 = input.LA(1);
-					if ( (LA48_0==NEWLINE) ) {
-						alt48=1;
+					// urSQL.g:648:22: ( NEWLINE )?
+					int alt62=2;
+					int LA62_0 = input.LA(1);
+					if ( (LA62_0==NEWLINE) ) {
+						alt62=1;
 					}
-					switch (alt48) {
+					switch (alt62) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:619:22: NEWLINE
+							// urSQL.g:648:22: NEWLINE
 							{
-							match(input,NEWLINE,FOLLOW_NEWLINE_in_col_def1026); 
+							match(input,NEWLINE,FOLLOW_NEWLINE_in_col_def1216); 
 							}
 							break;
 
 					}
 
-					pushFollow(FOLLOW_col_def_in_col_def1029);
+					pushFollow(FOLLOW_col_def_in_col_def1219);
 					col_def();
 					state._fsp--;
 
 
-						 	//programa_stack.peek().columns.add(programa_stack.peek().column);
-						 	//programa_stack.peek().column.clear();
-						 	//programa_stack.peek().column.add((ID17!=null?ID17.getText():null));
-						 	//System.out.println((ID17!=null?ID17.getText():null));
-						 	programa_stack.peek().column.add((ID17!=null?ID17.getText():null));
+						 	programa_stack.peek().column.add((ID21!=null?ID21.getText():null));
 						 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:628:2: 
+					// urSQL.g:653:2: 
 					{
 					}
 					break;
@@ -2999,117 +3510,107 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "type"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:631:1: type : ( INTEGER | DECIMAL LEFT_PAR digits= INT COLON decimals= INT RIGHT_PAR | CHARACTER LEFT_PAR INT RIGHT_PAR | VARCHAR | DATETIME );
-	public final void type()   {
+	// urSQL.g:656:1: type : ( INTEGER | DECIMAL LEFT_PAR digits= INT COLON decimals= INT RIGHT_PAR | CHARACTER LEFT_PAR INT RIGHT_PAR | VARCHAR | DATETIME );
+	public final void type() throws RecognitionException {
 		Token digits=null;
 		Token decimals=null;
-		Token INTEGER18=null;
-		Token DECIMAL19=null;
-		Token INT20=null;
-		Token CHARACTER21=null;
-		Token VARCHAR22=null;
-		Token DATETIME23=null;
+		Token INT22=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:632:2: ( INTEGER | DECIMAL LEFT_PAR digits= INT COLON decimals= INT RIGHT_PAR | CHARACTER LEFT_PAR INT RIGHT_PAR | VARCHAR | DATETIME )
-			int alt50=5;
+			// urSQL.g:657:2: ( INTEGER | DECIMAL LEFT_PAR digits= INT COLON decimals= INT RIGHT_PAR | CHARACTER LEFT_PAR INT RIGHT_PAR | VARCHAR | DATETIME )
+			int alt64=5;
 			switch ( input.LA(1) ) {
 			case INTEGER:
 				{
-				alt50=1;
+				alt64=1;
 				}
 				break;
 			case DECIMAL:
 				{
-				alt50=2;
+				alt64=2;
 				}
 				break;
 			case CHARACTER:
 				{
-				alt50=3;
+				alt64=3;
 				}
 				break;
 			case VARCHAR:
 				{
-				alt50=4;
+				alt64=4;
 				}
 				break;
 			case DATETIME:
 				{
-				alt50=5;
+				alt64=5;
 				}
 				break;
 			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 50, 0, input);
+					new NoViableAltException("", 64, 0, input);
 				throw nvae;
 			}
-			switch (alt50) {
+			switch (alt64) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:632:4: INTEGER
+					// urSQL.g:657:4: INTEGER
 					{
-					INTEGER18=(Token)match(input,INTEGER,FOLLOW_INTEGER_in_type1053); 
-					 
+					match(input,INTEGER,FOLLOW_INTEGER_in_type1241); 
+
 						 	programa_stack.peek().type_null.add("INTEGER");
 						 	programa_stack.peek().type_null.add("-1");
 						 	programa_stack.peek().type_null.add("-1");
-						 	//System.out.println((INTEGER18!=null?INTEGER18.getText():null));
 						 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:639:4: DECIMAL LEFT_PAR digits= INT COLON decimals= INT RIGHT_PAR
+					// urSQL.g:663:4: DECIMAL LEFT_PAR digits= INT COLON decimals= INT RIGHT_PAR
 					{
-					DECIMAL19=(Token)match(input,DECIMAL,FOLLOW_DECIMAL_in_type1063); 
-					match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_type1065); 
-					digits=(Token)match(input,INT,FOLLOW_INT_in_type1071); 
-					match(input,COLON,FOLLOW_COLON_in_type1073); 
-					decimals=(Token)match(input,INT,FOLLOW_INT_in_type1079); 
-					match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_type1081); 
-					 
+					match(input,DECIMAL,FOLLOW_DECIMAL_in_type1250); 
+					match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_type1252); 
+					digits=(Token)match(input,INT,FOLLOW_INT_in_type1258); 
+					match(input,COLON,FOLLOW_COLON_in_type1260); 
+					decimals=(Token)match(input,INT,FOLLOW_INT_in_type1266); 
+					match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_type1268); 
+
 						 	programa_stack.peek().type_null.add("DECIMAL");
 						 	programa_stack.peek().type_null.add((digits!=null?digits.getText():null));
 						 	programa_stack.peek().type_null.add((decimals!=null?decimals.getText():null));
-						 	//System.out.println((DECIMAL19!=null?DECIMAL19.getText():null));
 						 
 					}
 					break;
 				case 3 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:646:4: CHARACTER LEFT_PAR INT RIGHT_PAR
+					// urSQL.g:669:4: CHARACTER LEFT_PAR INT RIGHT_PAR
 					{
-					CHARACTER21=(Token)match(input,CHARACTER,FOLLOW_CHARACTER_in_type1091); 
-					match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_type1093); 
-					INT20=(Token)match(input,INT,FOLLOW_INT_in_type1095); 
-					match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_type1097); 
-					 
+					match(input,CHARACTER,FOLLOW_CHARACTER_in_type1277); 
+					match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_type1279); 
+					INT22=(Token)match(input,INT,FOLLOW_INT_in_type1281); 
+					match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_type1283); 
+
 						 	programa_stack.peek().type_null.add("CHAR");
-						 	programa_stack.peek().type_null.add((INT20!=null?INT20.getText():null));
+						 	programa_stack.peek().type_null.add((INT22!=null?INT22.getText():null));
 						 	programa_stack.peek().type_null.add("-1");
-						 	//System.out.println((CHARACTER21!=null?CHARACTER21.getText():null));
 						 
 					}
 					break;
 				case 4 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:653:4: VARCHAR
+					// urSQL.g:675:4: VARCHAR
 					{
-					VARCHAR22=(Token)match(input,VARCHAR,FOLLOW_VARCHAR_in_type1107); 
-					 
+					match(input,VARCHAR,FOLLOW_VARCHAR_in_type1292); 
+
 						 	programa_stack.peek().type_null.add("VARCHAR");
 						 	programa_stack.peek().type_null.add("-1");
 						 	programa_stack.peek().type_null.add("-1");
-						 	//System.out.println((VARCHAR22!=null?VARCHAR22.getText():null));
 						 
 					}
 					break;
 				case 5 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:660:4: DATETIME
+					// urSQL.g:681:4: DATETIME
 					{
-					DATETIME23=(Token)match(input,DATETIME,FOLLOW_DATETIME_in_type1117); 
-					 
-						 	programa_stack.peek().type_null.add("DATETIME"); 
+					match(input,DATETIME,FOLLOW_DATETIME_in_type1301); 
+
+						 	programa_stack.peek().type_null.add("DATETIME");
 						 	programa_stack.peek().type_null.add("-1");
 						 	programa_stack.peek().type_null.add("-1");
-						 	//System.out.println((DATETIME23!=null?DATETIME23.getText():null));
 						 
 					}
 					break;
@@ -3129,44 +3630,42 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "null_cons"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:670:1: null_cons : ( NULL | NOT NULL );
-	public final void null_cons()   {
+	// urSQL.g:690:1: null_cons : ( NULL | NOT NULL );
+	public final void null_cons() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:671:2: ( NULL | NOT NULL )
-			int alt51=2;
-			int LA51_0 = input.LA(1);
-			if ( (LA51_0==NULL) ) {
-				alt51=1;
+			// urSQL.g:691:2: ( NULL | NOT NULL )
+			int alt65=2;
+			int LA65_0 = input.LA(1);
+			if ( (LA65_0==NULL) ) {
+				alt65=1;
 			}
-			else if ( (LA51_0==NOT) ) {
-				alt51=2;
+			else if ( (LA65_0==NOT) ) {
+				alt65=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 51, 0, input);
+					new NoViableAltException("", 65, 0, input);
 				throw nvae;
 			}
 
-			switch (alt51) {
+			switch (alt65) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:671:4: NULL
+					// urSQL.g:691:4: NULL
 					{
-					match(input,NULL,FOLLOW_NULL_in_null_cons1137); 
-					 
+					match(input,NULL,FOLLOW_NULL_in_null_cons1318); 
+
 						 	programa_stack.peek().type_null.add("1");
-						 	//System.out.println("NULL");
 						 
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:676:4: NOT NULL
+					// urSQL.g:695:4: NOT NULL
 					{
-					match(input,NOT,FOLLOW_NOT_in_null_cons1147); 
-					match(input,NULL,FOLLOW_NULL_in_null_cons1149); 
-					 
+					match(input,NOT,FOLLOW_NOT_in_null_cons1327); 
+					match(input,NULL,FOLLOW_NULL_in_null_cons1329); 
+
 						 	programa_stack.peek().type_null.add("0");
-						 	//System.out.println("NOT NULL");
 						 
 					}
 					break;
@@ -3186,37 +3685,37 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "p_key"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:684:1: p_key : PRIMARY KEY LEFT_PAR ID RIGHT_PAR ( NEWLINE )? ;
-	public final void p_key()   {
-		Token ID24=null;
+	// urSQL.g:702:1: p_key : PRIMARY KEY LEFT_PAR ID RIGHT_PAR ( NEWLINE )? ;
+	public final void p_key() throws RecognitionException {
+		Token ID23=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:685:2: ( PRIMARY KEY LEFT_PAR ID RIGHT_PAR ( NEWLINE )? )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:685:4: PRIMARY KEY LEFT_PAR ID RIGHT_PAR ( NEWLINE )?
+			// urSQL.g:703:2: ( PRIMARY KEY LEFT_PAR ID RIGHT_PAR ( NEWLINE )? )
+			// urSQL.g:703:4: PRIMARY KEY LEFT_PAR ID RIGHT_PAR ( NEWLINE )?
 			{
-			match(input,PRIMARY,FOLLOW_PRIMARY_in_p_key1169); 
-			match(input,KEY,FOLLOW_KEY_in_p_key1171); 
-			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_p_key1173); 
-			ID24=(Token)match(input,ID,FOLLOW_ID_in_p_key1175); 
-			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_p_key1177); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:685:38: ( NEWLINE )?
-			int alt52=2;
-			int LA52_0 = input.LA(1);
-			if ( (LA52_0==NEWLINE) ) {
-				alt52=1;
-			}
-			switch (alt52) {
+			match(input,PRIMARY,FOLLOW_PRIMARY_in_p_key1346); 
+			match(input,KEY,FOLLOW_KEY_in_p_key1348); 
+			match(input,LEFT_PAR,FOLLOW_LEFT_PAR_in_p_key1350); 
+			ID23=(Token)match(input,ID,FOLLOW_ID_in_p_key1352); 
+			match(input,RIGHT_PAR,FOLLOW_RIGHT_PAR_in_p_key1354); 
+			// urSQL.g:703:38: ( NEWLINE )?
+			int alt66=2;
+			int LA66_0 = input.LA(1);
+			if ( (LA66_0==NEWLINE) ) {
+				alt66=1;
+			}
+			switch (alt66) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:685:38: NEWLINE
+					// urSQL.g:703:38: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_p_key1179); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_p_key1356); 
 					}
 					break;
 
 			}
 
 
-				 	programa_stack.peek().tmp = (ID24!=null?ID24.getText():null);
+				 	programa_stack.peek().tmp = (ID23!=null?ID23.getText():null);
 				 
 			}
 
@@ -3234,131 +3733,173 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "clp_commands"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:692:1: clp_commands : ( ( create_db | drop_db | list_db | start | get_status | stop | display_db ) ( clp_commands | dml_commands | ddl_commands ) |);
-	public final void clp_commands()   {
+	// urSQL.g:710:1: clp_commands : ( ( create_db | drop_db | list_db | start | get_status | stop | begin_tx | commit_tx | rollback_tx | display_db ) ( clp_commands | dml_commands | ddl_commands ) |);
+	public final void clp_commands() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:693:2: ( ( create_db | drop_db | list_db | start | get_status | stop | display_db ) ( clp_commands | dml_commands | ddl_commands ) |)
-			int alt55=2;
-			int LA55_0 = input.LA(1);
-			if ( (LA55_0==CREATE||(LA55_0 >= DISPLAY && LA55_0 <= DROP)||LA55_0==GET||LA55_0==LIST||LA55_0==START||LA55_0==STOP) ) {
-				alt55=1;
+			// urSQL.g:711:2: ( ( create_db | drop_db | list_db | start | get_status | stop | begin_tx | commit_tx | rollback_tx | display_db ) ( clp_commands | dml_commands | ddl_commands ) |)
+			int alt69=2;
+			int LA69_0 = input.LA(1);
+			if ( (LA69_0==BEGIN||LA69_0==COMMIT||LA69_0==CREATE||(LA69_0 >= DISPLAY && LA69_0 <= DROP)||LA69_0==GET||LA69_0==LIST||LA69_0==ROLLBACK||LA69_0==START||LA69_0==STOP) ) {
+				alt69=1;
 			}
-			else if ( (LA55_0==EOF) ) {
-				alt55=2;
+			else if ( (LA69_0==EOF) ) {
+				alt69=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 55, 0, input);
+					new NoViableAltException("", 69, 0, input);
 				throw nvae;
 			}
 
-			switch (alt55) {
+			switch (alt69) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:693:4: ( create_db | drop_db | list_db | start | get_status | stop | display_db ) ( clp_commands | dml_commands | ddl_commands )
+					// urSQL.g:711:4: ( create_db | drop_db | list_db | start | get_status | stop | begin_tx | commit_tx | rollback_tx | display_db ) ( clp_commands | dml_commands | ddl_commands )
 					{
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:693:4: ( create_db | drop_db | list_db | start | get_status | stop | display_db )
-					int alt53=7;
+					// urSQL.g:711:4: ( create_db | drop_db | list_db | start | get_status | stop | begin_tx | commit_tx | rollback_tx | display_db )
+					int alt67=10;
 					switch ( input.LA(1) ) {
 					case CREATE:
 						{
-						alt53=1;
+						alt67=1;
 						}
 						break;
 					case DROP:
 						{
-						alt53=2;
+						alt67=2;
 						}
 						break;
 					case LIST:
 						{
-						alt53=3;
+						alt67=3;
 						}
 						break;
 					case START:
 						{
-						alt53=4;
+						alt67=4;
 						}
 						break;
 					case GET:
 						{
-						alt53=5;
+						alt67=5;
 						}
 						break;
 					case STOP:
 						{
-						alt53=6;
+						alt67=6;
+						}
+						break;
+					case BEGIN:
+						{
+						alt67=7;
+						}
+						break;
+					case COMMIT:
+						{
+						alt67=8;
+						}
+						break;
+					case ROLLBACK:
+						{
+						alt67=9;
 						}
 						break;
 					case DISPLAY:
 						{
-						alt53=7;
+						alt67=10;
 						}
 						break;
 					default:
 						NoViableAltException nvae =
-							new NoViableAltException("", 53, 0, input);
+							new NoViableAltException("", 67, 0, input);
 						throw nvae;
 					}
-					switch (alt53) {
+					switch (alt67) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:693:6: create_db
+							// urSQL.g:711:6: create_db
 							{
-							pushFollow(FOLLOW_create_db_in_clp_commands1200);
+							pushFollow(FOLLOW_create_db_in_clp_commands1376);
 							create_db();
 							state._fsp--;
 
 							}
 							break;
 						case 2 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:694:4: drop_db
+							// urSQL.g:712:4: drop_db
 							{
-							pushFollow(FOLLOW_drop_db_in_clp_commands1205);
+							pushFollow(FOLLOW_drop_db_in_clp_commands1381);
 							drop_db();
 							state._fsp--;
 
 							}
 							break;
 						case 3 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:695:4: list_db
+							// urSQL.g:713:4: list_db
 							{
-							pushFollow(FOLLOW_list_db_in_clp_commands1210);
+							pushFollow(FOLLOW_list_db_in_clp_commands1386);
 							list_db();
 							state._fsp--;
 
 							}
 							break;
 						case 4 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:696:4: start
+							// urSQL.g:714:4: start
 							{
-							pushFollow(FOLLOW_start_in_clp_commands1215);
+							pushFollow(FOLLOW_start_in_clp_commands1391);
 							start();
 							state._fsp--;
 
 							}
 							break;
 						case 5 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:697:4: get_status
+							// urSQL.g:715:4: get_status
 							{
-							pushFollow(FOLLOW_get_status_in_clp_commands1220);
+							pushFollow(FOLLOW_get_status_in_clp_commands1396);
 							get_status();
 							state._fsp--;
 
 							}
 							break;
 						case 6 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:698:4: stop
+							// urSQL.g:716:4: stop
 							{
-							pushFollow(FOLLOW_stop_in_clp_commands1225);
+							pushFollow(FOLLOW_stop_in_clp_commands1401);
 							stop();
 							state._fsp--;
 
 							}
 							break;
 						case 7 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:699:4: display_db
+							// urSQL.g:717:4: begin_tx
+							{
+							pushFollow(FOLLOW_begin_tx_in_clp_commands1406);
+							begin_tx();
+							state._fsp--;
+
+							}
+							break;
+						case 8 :
+							// urSQL.g:718:4: commit_tx
+							{
+							pushFollow(FOLLOW_commit_tx_in_clp_commands1411);
+							commit_tx();
+							state._fsp--;
+
+							}
+							break;
+						case 9 :
+							// urSQL.g:719:4: rollback_tx
+							{
+							pushFollow(FOLLOW_rollback_tx_in_clp_commands1416);
+							rollback_tx();
+							state._fsp--;
+
+							}
+							break;
+						case 10 :
+							// urSQL.g:720:4: display_db
 							{
-							pushFollow(FOLLOW_display_db_in_clp_commands1230);
+							pushFollow(FOLLOW_display_db_in_clp_commands1421);
 							display_db();
 							state._fsp--;
 
@@ -3367,17 +3908,17 @@ public class urSQLParser extends Parser {
 
 					}
 
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:699:17: ( clp_commands | dml_commands | ddl_commands )
-					int alt54=3;
+					// urSQL.g:720:17: ( clp_commands | dml_commands | ddl_commands )
+					int alt68=3;
 					switch ( input.LA(1) ) {
 					case CREATE:
 						{
-						int LA54_1 = input.LA(2);
-						if ( (LA54_1==DATABASE) ) {
-							alt54=1;
+						int LA68_1 = input.LA(2);
+						if ( (LA68_1==DATABASE) ) {
+							alt68=1;
 						}
-						else if ( (LA54_1==INDEX||LA54_1==TABLE) ) {
-							alt54=3;
+						else if ( (LA68_1==HASH||LA68_1==INDEX||LA68_1==TABLE) ) {
+							alt68=3;
 						}
 
 						else {
@@ -3385,7 +3926,7 @@ public class urSQLParser extends Parser {
 							try {
 								input.consume();
 								NoViableAltException nvae =
-									new NoViableAltException("", 54, 1, input);
+									new NoViableAltException("", 68, 1, input);
 								throw nvae;
 							} finally {
 								input.rewind(nvaeMark);
@@ -3396,12 +3937,12 @@ public class urSQLParser extends Parser {
 						break;
 					case DROP:
 						{
-						int LA54_2 = input.LA(2);
-						if ( (LA54_2==DATABASE) ) {
-							alt54=1;
+						int LA68_2 = input.LA(2);
+						if ( (LA68_2==DATABASE) ) {
+							alt68=1;
 						}
-						else if ( (LA54_2==TABLE) ) {
-							alt54=3;
+						else if ( (LA68_2==TABLE) ) {
+							alt68=3;
 						}
 
 						else {
@@ -3409,7 +3950,7 @@ public class urSQLParser extends Parser {
 							try {
 								input.consume();
 								NoViableAltException nvae =
-									new NoViableAltException("", 54, 2, input);
+									new NoViableAltException("", 68, 2, input);
 								throw nvae;
 							} finally {
 								input.rewind(nvaeMark);
@@ -3418,62 +3959,67 @@ public class urSQLParser extends Parser {
 
 						}
 						break;
+					case BEGIN:
+					case COMMIT:
 					case DISPLAY:
 					case GET:
 					case LIST:
+					case ROLLBACK:
 					case START:
 					case STOP:
 						{
-						alt54=1;
+						alt68=1;
 						}
 						break;
 					case EOF:
 						{
-						alt54=1;
+						alt68=1;
 						}
 						break;
 					case DELETE:
+					case EXPLAIN:
 					case INSERT:
 					case SELECT:
 					case UPDATE:
 						{
-						alt54=2;
+						alt68=2;
 						}
 						break;
 					case ALTER:
+					case ANALYZE:
 					case SET:
 						{
-						alt54=3;
+						alt68=3;
 						}
 						break;
 					default:
 						NoViableAltException nvae =
-							new NoViableAltException("", 54, 0, input);
+							new NoViableAltException("", 68, 0, input);
 						throw nvae;
 					}
-					switch (alt54) {
+					switch (alt68) {
 						case 1 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:699:19: clp_commands
+							// urSQL.g:720:19: clp_commands
 							{
-							pushFollow(FOLLOW_clp_commands_in_clp_commands1236);
+							pushFollow(FOLLOW_clp_commands_in_clp_commands1427);
 							clp_commands();
 							state._fsp--;
 
 							}
 							break;
 						case 2 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:700:4: dml_commands
+							// urSQL.g:721:4: dml_commands
 							{
-							pushFollow(FOLLOW_dml_commands_in_clp_commands1241);
+							pushFollow(FOLLOW_dml_commands_in_clp_commands1432);
 							dml_commands();
 							state._fsp--;
 
 							}
 							break;
 						case 3 :
-							// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:701:4: ddl_commands
+							// urSQL.g:722:4: ddl_commands
 							{
-							pushFollow(FOLLOW_ddl_commands_in_clp_commands1246);
+							pushFollow(FOLLOW_ddl_commands_in_clp_commands1437);
 							ddl_commands();
 							state._fsp--;
 
@@ -3485,7 +4031,7 @@ public class urSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:703:2: 
+					// urSQL.g:724:2: 
 					{
 					}
 					break;
@@ -3505,46 +4051,45 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "create_db"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:706:1: create_db : CREATE DATABASE ID ( NEWLINE )* ;
-	public final void create_db()   {
-		Token ID25=null;
+	// urSQL.g:727:1: create_db : CREATE DATABASE ID ( NEWLINE )* ;
+	public final void create_db() throws RecognitionException {
+		Token ID24=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:707:2: ( CREATE DATABASE ID ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:707:4: CREATE DATABASE ID ( NEWLINE )*
+			// urSQL.g:728:2: ( CREATE DATABASE ID ( NEWLINE )* )
+			// urSQL.g:728:4: CREATE DATABASE ID ( NEWLINE )*
 			{
-			match(input,CREATE,FOLLOW_CREATE_in_create_db1267); 
-			match(input,DATABASE,FOLLOW_DATABASE_in_create_db1269); 
-			ID25=(Token)match(input,ID,FOLLOW_ID_in_create_db1271); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:707:23: ( NEWLINE )*
-			loop56:
+			match(input,CREATE,FOLLOW_CREATE_in_create_db1457); 
+			match(input,DATABASE,FOLLOW_DATABASE_in_create_db1459); 
+			ID24=(Token)match(input,ID,FOLLOW_ID_in_create_db1461); 
+			// urSQL.g:728:23: ( NEWLINE )*
+			loop70:
 			while (true) {
-				int alt56=2;
-				int LA56_0 = input.LA(1);
-				if ( (LA56_0==NEWLINE) ) {
-					alt56=1;
+				int alt70=2;
+				int LA70_0 = input.LA(1);
+				if ( (LA70_0==NEWLINE) ) {
+					alt70=1;
 				}
 
-				switch (alt56) {
+				switch (alt70) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:707:23: NEWLINE
+					// urSQL.g:728:23: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_db1273); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_create_db1463); 
 					}
 					break;
 
 				default :
-					break loop56;
+					break loop70;
 				}
 			}
 
-			System.out.println("Creating database " + (ID25!=null?ID25.getText():null) + "...\n");
+			System.out.println("Creating database " + (ID24!=null?ID24.getText():null) + "...\n");
 
-				 	programa_stack.peek().writer.println("Check that database " + (ID25!=null?ID25.getText():null) + " does not exist");
+				 	programa_stack.peek().writer.println("Check that database " + (ID24!=null?ID24.getText():null) + " does not exist");
 				 	programa_stack.peek().writer.println("Create the database");
 				 	programa_stack.peek().writer.close();
-				 	
-				 	this.createDB((ID25!=null?ID25.getText():null));
+				 	this.createDB((ID24!=null?ID24.getText():null));
 				 
 			}
 
@@ -3562,46 +4107,45 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "drop_db"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:718:1: drop_db : DROP DATABASE ID ( NEWLINE )* ;
-	public final void drop_db()   {
-		Token ID26=null;
+	// urSQL.g:738:1: drop_db : DROP DATABASE ID ( NEWLINE )* ;
+	public final void drop_db() throws RecognitionException {
+		Token ID25=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:719:2: ( DROP DATABASE ID ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:719:4: DROP DATABASE ID ( NEWLINE )*
+			// urSQL.g:739:2: ( DROP DATABASE ID ( NEWLINE )* )
+			// urSQL.g:739:4: DROP DATABASE ID ( NEWLINE )*
 			{
-			match(input,DROP,FOLLOW_DROP_in_drop_db1294); 
-			match(input,DATABASE,FOLLOW_DATABASE_in_drop_db1296); 
-			ID26=(Token)match(input,ID,FOLLOW_ID_in_drop_db1298); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:719:21: ( NEWLINE )*
-			loop57:
+			match(input,DROP,FOLLOW_DROP_in_drop_db1483); 
+			match(input,DATABASE,FOLLOW_DATABASE_in_drop_db1485); 
+			ID25=(Token)match(input,ID,FOLLOW_ID_in_drop_db1487); 
+			// urSQL.g:739:21: ( NEWLINE )*
+			loop71:
 			while (true) {
-				int alt57=2;
-				int LA57_0 = input.LA(1);
-				if ( (LA57_0==NEWLINE) ) {
-					alt57=1;
+				int alt71=2;
+				int LA71_0 = input.LA(1);
+				if ( (LA71_0==NEWLINE) ) {
+					alt71=1;
 				}
 
-				switch (alt57) {
+				switch (alt71) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:719:21: NEWLINE
+					// urSQL.g:739:21: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_drop_db1300); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_drop_db1489); 
 					}
 					break;
 
 				default :
-					break loop57;
+					break loop71;
 				}
 			}
 
-			System.out.println("Deleting database " + (ID26!=null?ID26.getText():null) + "...\n");
+			System.out.println("Deleting database " + (ID25!=null?ID25.getText():null) + "...\n");
 
-				 	programa_stack.peek().writer.println("Obtain database " + (ID26!=null?ID26.getText():null));
+				 	programa_stack.peek().writer.println("Obtain database " + (ID25!=null?ID25.getText():null));
 				 	programa_stack.peek().writer.println("Delete the database");
 				 	programa_stack.peek().writer.close();
-				 	
-				 	this.dropDB((ID26!=null?ID26.getText():null));
+				 	this.dropDB((ID25!=null?ID25.getText():null));
 				 
 			}
 
@@ -3619,33 +4163,33 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "list_db"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:730:1: list_db : LIST DATABASES ( NEWLINE )* ;
-	public final void list_db()   {
+	// urSQL.g:749:1: list_db : LIST DATABASES ( NEWLINE )* ;
+	public final void list_db() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:731:2: ( LIST DATABASES ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:731:4: LIST DATABASES ( NEWLINE )*
+			// urSQL.g:750:2: ( LIST DATABASES ( NEWLINE )* )
+			// urSQL.g:750:4: LIST DATABASES ( NEWLINE )*
 			{
-			match(input,LIST,FOLLOW_LIST_in_list_db1321); 
-			match(input,DATABASES,FOLLOW_DATABASES_in_list_db1323); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:731:19: ( NEWLINE )*
-			loop58:
+			match(input,LIST,FOLLOW_LIST_in_list_db1509); 
+			match(input,DATABASES,FOLLOW_DATABASES_in_list_db1511); 
+			// urSQL.g:750:19: ( NEWLINE )*
+			loop72:
 			while (true) {
-				int alt58=2;
-				int LA58_0 = input.LA(1);
-				if ( (LA58_0==NEWLINE) ) {
-					alt58=1;
+				int alt72=2;
+				int LA72_0 = input.LA(1);
+				if ( (LA72_0==NEWLINE) ) {
+					alt72=1;
 				}
 
-				switch (alt58) {
+				switch (alt72) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:731:19: NEWLINE
+					// urSQL.g:750:19: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_list_db1325); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_list_db1513); 
 					}
 					break;
 
 				default :
-					break loop58;
+					break loop72;
 				}
 			}
 
@@ -3671,32 +4215,50 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "start"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:740:1: start : START ( NEWLINE )* ;
-	public final void start()   {
+	// urSQL.g:759:1: start : START ( INT )? ( NEWLINE )* ;
+	public final void start() throws RecognitionException {
+		Token INT26=null;
+
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:741:2: ( START ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:741:4: START ( NEWLINE )*
+			// urSQL.g:760:2: ( START ( INT )? ( NEWLINE )* )
+			// urSQL.g:760:4: START ( INT )? ( NEWLINE )*
 			{
-			match(input,START,FOLLOW_START_in_start1346); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:741:10: ( NEWLINE )*
-			loop59:
+			match(input,START,FOLLOW_START_in_start1533); 
+			// urSQL.g:760:10: ( INT )?
+			int alt73=2;
+			int LA73_0 = input.LA(1);
+			if ( (LA73_0==INT) ) {
+				alt73=1;
+			}
+			switch (alt73) {
+				case 1 :
+					// urSQL.g:760:11: INT
+					{
+					INT26=(Token)match(input,INT,FOLLOW_INT_in_start1536); 
+					}
+					break;
+
+			}
+
+			// urSQL.g:760:17: ( NEWLINE )*
+			loop74:
 			while (true) {
-				int alt59=2;
-				int LA59_0 = input.LA(1);
-				if ( (LA59_0==NEWLINE) ) {
-					alt59=1;
+				int alt74=2;
+				int LA74_0 = input.LA(1);
+				if ( (LA74_0==NEWLINE) ) {
+					alt74=1;
 				}
 
-				switch (alt59) {
+				switch (alt74) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:741:10: NEWLINE
+					// urSQL.g:760:17: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_start1348); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_start1540); 
 					}
 					break;
 
 				default :
-					break loop59;
+					break loop74;
 				}
 			}
 
@@ -3704,6 +4266,7 @@ public class urSQLParser extends Parser {
 
 				 	programa_stack.peek().writer.println("Start the processes");
 				 	programa_stack.peek().writer.close();
+				 	this.server(ComponentServer.START, (INT26!=null?INT26.getText():null));
 				 
 			}
 
@@ -3721,33 +4284,33 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "get_status"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:749:1: get_status : GET STATUS ( NEWLINE )* ;
-	public final void get_status()   {
+	// urSQL.g:769:1: get_status : GET STATUS ( NEWLINE )* ;
+	public final void get_status() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:750:2: ( GET STATUS ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:750:4: GET STATUS ( NEWLINE )*
+			// urSQL.g:770:2: ( GET STATUS ( NEWLINE )* )
+			// urSQL.g:770:4: GET STATUS ( NEWLINE )*
 			{
-			match(input,GET,FOLLOW_GET_in_get_status1369); 
-			match(input,STATUS,FOLLOW_STATUS_in_get_status1371); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:750:15: ( NEWLINE )*
-			loop60:
+			match(input,GET,FOLLOW_GET_in_get_status1560); 
+			match(input,STATUS,FOLLOW_STATUS_in_get_status1562); 
+			// urSQL.g:770:15: ( NEWLINE )*
+			loop75:
 			while (true) {
-				int alt60=2;
-				int LA60_0 = input.LA(1);
-				if ( (LA60_0==NEWLINE) ) {
-					alt60=1;
+				int alt75=2;
+				int LA75_0 = input.LA(1);
+				if ( (LA75_0==NEWLINE) ) {
+					alt75=1;
 				}
 
-				switch (alt60) {
+				switch (alt75) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:750:15: NEWLINE
+					// urSQL.g:770:15: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_get_status1373); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_get_status1564); 
 					}
 					break;
 
 				default :
-					break loop60;
+					break loop75;
 				}
 			}
 
@@ -3755,6 +4318,7 @@ public class urSQLParser extends Parser {
 
 				 	programa_stack.peek().writer.println("Iterate the processes and return the status");
 				 	programa_stack.peek().writer.close();
+				 	this.status();
 				 
 			}
 
@@ -3772,32 +4336,32 @@ public class urSQLParser extends Parser {
 
 
 	// $ANTLR start "stop"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:758:1: stop : STOP ( NEWLINE )* ;
-	public final void stop()   {
+	// urSQL.g:779:1: stop : STOP ( NEWLINE )* ;
+	public final void stop() throws RecognitionException {
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:759:2: ( STOP ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:759:4: STOP ( NEWLINE )*
+			// urSQL.g:780:2: ( STOP ( NEWLINE )* )
+			// urSQL.g:780:4: STOP ( NEWLINE )*
 			{
-			match(input,STOP,FOLLOW_STOP_in_stop1394); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:759:9: ( NEWLINE )*
-			loop61:
+			match(input,STOP,FOLLOW_STOP_in_stop1584); 
+			// urSQL.g:780:9: ( NEWLINE )*
+			loop76:
 			while (true) {
-				int alt61=2;
-				int LA61_0 = input.LA(1);
-				if ( (LA61_0==NEWLINE) ) {
-					alt61=1;
+				int alt76=2;
+				int LA76_0 = input.LA(1);
+				if ( (LA76_0==NEWLINE) ) {
+					alt76=1;
 				}
 
-				switch (alt61) {
+				switch (alt76) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:759:9: NEWLINE
+					// urSQL.g:780:9: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_stop1396); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_stop1586); 
 					}
 					break;
 
 				default :
-					break loop61;
+					break loop76;
 				}
 			}
 
@@ -3805,6 +4369,7 @@ public class urSQLParser extends Parser {
 
 				 	programa_stack.peek().writer.println("Stop the processes");
 				 	programa_stack.peek().writer.close();
+				 	this.server(ComponentServer.STOP, null);
 				 
 			}
 
@@ -3821,37 +4386,191 @@ public class urSQLParser extends Parser {
 
 
 
+	// $ANTLR start "begin_tx"
+	// urSQL.g:789:1: begin_tx : BEGIN ( NEWLINE )* ;
+	public final void begin_tx() throws RecognitionException {
+		try {
+			// urSQL.g:790:2: ( BEGIN ( NEWLINE )* )
+			// urSQL.g:790:4: BEGIN ( NEWLINE )*
+			{
+			match(input,BEGIN,FOLLOW_BEGIN_in_begin_tx1606); 
+			// urSQL.g:790:10: ( NEWLINE )*
+			loop77:
+			while (true) {
+				int alt77=2;
+				int LA77_0 = input.LA(1);
+				if ( (LA77_0==NEWLINE) ) {
+					alt77=1;
+				}
+
+				switch (alt77) {
+				case 1 :
+					// urSQL.g:790:10: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_begin_tx1608); 
+					}
+					break;
+
+				default :
+					break loop77;
+				}
+			}
+
+			System.out.println("Beginning transaction...\n");
+
+				 	programa_stack.peek().writer.println("Open a transaction in the session");
+				 	programa_stack.peek().writer.close();
+				 	this.transaction(ComponentTransaction.BEGIN);
+				 
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "begin_tx"
+
+
+
+	// $ANTLR start "commit_tx"
+	// urSQL.g:799:1: commit_tx : COMMIT ( NEWLINE )* ;
+	public final void commit_tx() throws RecognitionException {
+		try {
+			// urSQL.g:800:2: ( COMMIT ( NEWLINE )* )
+			// urSQL.g:800:4: COMMIT ( NEWLINE )*
+			{
+			match(input,COMMIT,FOLLOW_COMMIT_in_commit_tx1628); 
+			// urSQL.g:800:11: ( NEWLINE )*
+			loop78:
+			while (true) {
+				int alt78=2;
+				int LA78_0 = input.LA(1);
+				if ( (LA78_0==NEWLINE) ) {
+					alt78=1;
+				}
+
+				switch (alt78) {
+				case 1 :
+					// urSQL.g:800:11: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_commit_tx1630); 
+					}
+					break;
+
+				default :
+					break loop78;
+				}
+			}
+
+			System.out.println("Committing transaction...\n");
+
+				 	programa_stack.peek().writer.println("Write the commit record");
+				 	programa_stack.peek().writer.println("Commit every tree of the transaction");
+				 	programa_stack.peek().writer.close();
+				 	this.transaction(ComponentTransaction.COMMIT);
+				 
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "commit_tx"
+
+
+
+	// $ANTLR start "rollback_tx"
+	// urSQL.g:810:1: rollback_tx : ROLLBACK ( NEWLINE )* ;
+	public final void rollback_tx() throws RecognitionException {
+		try {
+			// urSQL.g:811:2: ( ROLLBACK ( NEWLINE )* )
+			// urSQL.g:811:4: ROLLBACK ( NEWLINE )*
+			{
+			match(input,ROLLBACK,FOLLOW_ROLLBACK_in_rollback_tx1650); 
+			// urSQL.g:811:13: ( NEWLINE )*
+			loop79:
+			while (true) {
+				int alt79=2;
+				int LA79_0 = input.LA(1);
+				if ( (LA79_0==NEWLINE) ) {
+					alt79=1;
+				}
+
+				switch (alt79) {
+				case 1 :
+					// urSQL.g:811:13: NEWLINE
+					{
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_rollback_tx1652); 
+					}
+					break;
+
+				default :
+					break loop79;
+				}
+			}
+
+			System.out.println("Rolling back transaction...\n");
+
+				 	programa_stack.peek().writer.println("Abort every tree of the transaction");
+				 	programa_stack.peek().writer.close();
+				 	this.transaction(ComponentTransaction.ROLLBACK);
+				 
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "rollback_tx"
+
+
+
 	// $ANTLR start "display_db"
-	// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:767:1: display_db : DISPLAY DATABASE ID ( NEWLINE )* ;
-	public final void display_db()   {
+	// urSQL.g:820:1: display_db : DISPLAY DATABASE ID ( NEWLINE )* ;
+	public final void display_db() throws RecognitionException {
 		Token ID27=null;
 
 		try {
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:768:2: ( DISPLAY DATABASE ID ( NEWLINE )* )
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:768:4: DISPLAY DATABASE ID ( NEWLINE )*
+			// urSQL.g:821:2: ( DISPLAY DATABASE ID ( NEWLINE )* )
+			// urSQL.g:821:4: DISPLAY DATABASE ID ( NEWLINE )*
 			{
-			match(input,DISPLAY,FOLLOW_DISPLAY_in_display_db1417); 
-			match(input,DATABASE,FOLLOW_DATABASE_in_display_db1419); 
-			ID27=(Token)match(input,ID,FOLLOW_ID_in_display_db1421); 
-			// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:768:24: ( NEWLINE )*
-			loop62:
+			match(input,DISPLAY,FOLLOW_DISPLAY_in_display_db1672); 
+			match(input,DATABASE,FOLLOW_DATABASE_in_display_db1674); 
+			ID27=(Token)match(input,ID,FOLLOW_ID_in_display_db1676); 
+			// urSQL.g:821:24: ( NEWLINE )*
+			loop80:
 			while (true) {
-				int alt62=2;
-				int LA62_0 = input.LA(1);
-				if ( (LA62_0==NEWLINE) ) {
-					alt62=1;
+				int alt80=2;
+				int LA80_0 = input.LA(1);
+				if ( (LA80_0==NEWLINE) ) {
+					alt80=1;
 				}
 
-				switch (alt62) {
+				switch (alt80) {
 				case 1 :
-					// /home/hector/Dropbox/TEC/Bases de Datos/Proyecto 1/urSQL.g:768:24: NEWLINE
+					// urSQL.g:821:24: NEWLINE
 					{
-					match(input,NEWLINE,FOLLOW_NEWLINE_in_display_db1423); 
+					match(input,NEWLINE,FOLLOW_NEWLINE_in_display_db1678); 
 					}
 					break;
 
 				default :
-					break loop62;
+					break loop80;
 				}
 			}
 
@@ -3878,220 +4597,260 @@ public class urSQLParser extends Parser {
 
 
 
-	public static final BitSet FOLLOW_clp_commands_in_programa66 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ddl_commands_in_programa71 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_dml_commands_in_programa76 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_select_in_dml_commands93 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_update_in_dml_commands98 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_delete_in_dml_commands103 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_insert_in_dml_commands108 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_clp_commands_in_dml_commands114 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ddl_commands_in_dml_commands119 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_dml_commands_in_dml_commands124 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_SELECT_in_select141 = new BitSet(new long[]{0x0038001040008120L});
-	public static final BitSet FOLLOW_ALL_in_select145 = new BitSet(new long[]{0x0020000040000000L});
-	public static final BitSet FOLLOW_col_list_in_select152 = new BitSet(new long[]{0x0020000040000000L});
-	public static final BitSet FOLLOW_NEWLINE_in_select156 = new BitSet(new long[]{0x0000000040000000L});
-	public static final BitSet FOLLOW_from_in_select159 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_select161 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_ID_in_col_list179 = new BitSet(new long[]{0x0018001000008100L});
-	public static final BitSet FOLLOW_agg_funct_in_col_list190 = new BitSet(new long[]{0x0018001000008100L});
-	public static final BitSet FOLLOW_col_list_in_col_list194 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_FROM_in_from211 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_from215 = new BitSet(new long[]{0x0020000410000002L,0x0000000000000100L});
-	public static final BitSet FOLLOW_join_st_in_from222 = new BitSet(new long[]{0x0020000410000002L,0x0000000000000100L});
-	public static final BitSet FOLLOW_NEWLINE_in_from226 = new BitSet(new long[]{0x0020000410000002L,0x0000000000000100L});
-	public static final BitSet FOLLOW_where_in_from229 = new BitSet(new long[]{0x0020000410000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_from232 = new BitSet(new long[]{0x0020000410000002L});
-	public static final BitSet FOLLOW_group_in_from235 = new BitSet(new long[]{0x0020000010000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_from238 = new BitSet(new long[]{0x0000000010000002L});
-	public static final BitSet FOLLOW_for_JSON_XML_in_from241 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_join_st258 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_JOIN_in_join_st260 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_join_st266 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_join_st_aux_in_join_st268 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_JOIN_in_join_st_aux284 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_join_st_aux286 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_join_st_aux_in_join_st_aux288 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_WHERE_in_where307 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_where_st_in_where309 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_where_st321 = new BitSet(new long[]{0x0043800301000000L});
-	public static final BitSet FOLLOW_comp_op_in_where_st323 = new BitSet(new long[]{0x0000009008000000L});
-	public static final BitSet FOLLOW_value_in_where_st325 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_where_st333 = new BitSet(new long[]{0x0000040000000000L});
-	public static final BitSet FOLLOW_null_op_in_where_st335 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_GREATER_THAN_in_comp_op349 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_GREATER_EQUALS_in_comp_op356 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LESS_THAN_in_comp_op363 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LESS_EQUALS_in_comp_op370 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_EQUALS_in_comp_op377 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LIKE_in_comp_op384 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_NOT_in_comp_op391 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_IS_in_null_op405 = new BitSet(new long[]{0x00C0000000000000L});
-	public static final BitSet FOLLOW_NULL_in_null_op409 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_NOT_in_null_op420 = new BitSet(new long[]{0x0080000000000000L});
-	public static final BitSet FOLLOW_NULL_in_null_op422 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_GROUP_in_group442 = new BitSet(new long[]{0x0000000000000200L});
-	public static final BitSet FOLLOW_BY_in_group444 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_cols_in_group446 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_cols458 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_cols_in_cols460 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_FOR_in_for_JSON_XML477 = new BitSet(new long[]{0x0000100000000000L,0x0000000000000400L});
-	public static final BitSet FOLLOW_JSON_in_for_JSON_XML481 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_XML_in_for_JSON_XML488 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_COUNT_in_agg_funct506 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_AVERAGE_in_agg_funct513 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_MIN_in_agg_funct520 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_MAX_in_agg_funct527 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_agg_funct535 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_agg_funct537 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_agg_funct541 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_UPDATE_in_update553 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_update559 = new BitSet(new long[]{0x4020000000000000L});
-	public static final BitSet FOLLOW_NEWLINE_in_update561 = new BitSet(new long[]{0x4000000000000000L});
-	public static final BitSet FOLLOW_SET_in_update564 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_update570 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_EQUALS_in_update572 = new BitSet(new long[]{0x0000009008000000L});
-	public static final BitSet FOLLOW_value_in_update574 = new BitSet(new long[]{0x0020000000000002L,0x0000000000000100L});
-	public static final BitSet FOLLOW_NEWLINE_in_update577 = new BitSet(new long[]{0x0020000000000002L,0x0000000000000100L});
-	public static final BitSet FOLLOW_where_in_update580 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_update583 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_DELETE_in_delete600 = new BitSet(new long[]{0x0020000040000000L});
-	public static final BitSet FOLLOW_NEWLINE_in_delete602 = new BitSet(new long[]{0x0000000040000000L});
-	public static final BitSet FOLLOW_FROM_in_delete605 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_delete607 = new BitSet(new long[]{0x0020000000000002L,0x0000000000000100L});
-	public static final BitSet FOLLOW_NEWLINE_in_delete609 = new BitSet(new long[]{0x0020000000000002L,0x0000000000000100L});
-	public static final BitSet FOLLOW_where_in_delete612 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_delete615 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_INSERT_in_insert632 = new BitSet(new long[]{0x0000020000000000L});
-	public static final BitSet FOLLOW_INTO_in_insert634 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_insert636 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_insert638 = new BitSet(new long[]{0x1000001000000000L});
-	public static final BitSet FOLLOW_cols_in_insert640 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_insert642 = new BitSet(new long[]{0x0020000000000000L,0x0000000000000040L});
-	public static final BitSet FOLLOW_NEWLINE_in_insert644 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000040L});
-	public static final BitSet FOLLOW_VALUES_in_insert647 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_insert649 = new BitSet(new long[]{0x1000009008000000L});
-	public static final BitSet FOLLOW_values_in_insert651 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_insert653 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_insert655 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_value_in_values672 = new BitSet(new long[]{0x0000009008000000L});
-	public static final BitSet FOLLOW_values_in_values675 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_INT_in_value692 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_FLOAT_in_value702 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_value712 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_db_in_ddl_commands734 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_create_index_in_ddl_commands739 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_drop_table_in_ddl_commands744 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_alter_table_in_ddl_commands749 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_create_table_in_ddl_commands754 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_ddl_commands_in_ddl_commands760 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_dml_commands_in_ddl_commands765 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_clp_commands_in_ddl_commands770 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_SET_in_set_db792 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_DATABASE_in_set_db794 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_set_db796 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_set_db798 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_CREATE_in_create_index819 = new BitSet(new long[]{0x0000002000000000L});
-	public static final BitSet FOLLOW_INDEX_in_create_index821 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_create_index827 = new BitSet(new long[]{0x0200000000000000L});
-	public static final BitSet FOLLOW_ON_in_create_index829 = new BitSet(new long[]{0x0020001000000000L});
-	public static final BitSet FOLLOW_NEWLINE_in_create_index831 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_create_index838 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_create_index840 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_create_index846 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_create_index848 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_create_index850 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_DROP_in_drop_table870 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000008L});
-	public static final BitSet FOLLOW_TABLE_in_drop_table872 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_drop_table874 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_drop_table876 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_ALTER_in_alter_table898 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000008L});
-	public static final BitSet FOLLOW_TABLE_in_alter_table900 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_alter_table902 = new BitSet(new long[]{0x0020000000000010L});
-	public static final BitSet FOLLOW_NEWLINE_in_alter_table904 = new BitSet(new long[]{0x0000000000000010L});
-	public static final BitSet FOLLOW_ADD_in_alter_table907 = new BitSet(new long[]{0x0000000000004000L});
-	public static final BitSet FOLLOW_CONSTRAINT_in_alter_table909 = new BitSet(new long[]{0x0000000020000000L});
-	public static final BitSet FOLLOW_const_def_in_alter_table911 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_alter_table914 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_FOREIGN_in_const_def929 = new BitSet(new long[]{0x0000200000000000L});
-	public static final BitSet FOLLOW_KEY_in_const_def931 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_const_def933 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_const_def939 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_const_def941 = new BitSet(new long[]{0x0820000000000000L});
-	public static final BitSet FOLLOW_NEWLINE_in_const_def943 = new BitSet(new long[]{0x0800000000000000L});
-	public static final BitSet FOLLOW_REFERENCES_in_const_def946 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_const_def952 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_const_def954 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_const_def960 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_const_def962 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_CREATE_in_create_table981 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000008L});
-	public static final BitSet FOLLOW_TABLE_in_create_table983 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_create_table985 = new BitSet(new long[]{0x0000000000000080L});
-	public static final BitSet FOLLOW_AS_in_create_table987 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_create_table989 = new BitSet(new long[]{0x0420001000000000L});
-	public static final BitSet FOLLOW_NEWLINE_in_create_table991 = new BitSet(new long[]{0x0400001000000000L});
-	public static final BitSet FOLLOW_col_def_in_create_table994 = new BitSet(new long[]{0x0400000000000000L});
-	public static final BitSet FOLLOW_p_key_in_create_table996 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_create_table998 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_create_table1000 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_ID_in_col_def1020 = new BitSet(new long[]{0x0000010000180800L,0x0000000000000080L});
-	public static final BitSet FOLLOW_type_in_col_def1022 = new BitSet(new long[]{0x00C0000000000000L});
-	public static final BitSet FOLLOW_null_cons_in_col_def1024 = new BitSet(new long[]{0x0020001000000000L});
-	public static final BitSet FOLLOW_NEWLINE_in_col_def1026 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_col_def_in_col_def1029 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_INTEGER_in_type1053 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_DECIMAL_in_type1063 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_type1065 = new BitSet(new long[]{0x0000008000000000L});
-	public static final BitSet FOLLOW_INT_in_type1071 = new BitSet(new long[]{0x0000000000001000L});
-	public static final BitSet FOLLOW_COLON_in_type1073 = new BitSet(new long[]{0x0000008000000000L});
-	public static final BitSet FOLLOW_INT_in_type1079 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_type1081 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_CHARACTER_in_type1091 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_type1093 = new BitSet(new long[]{0x0000008000000000L});
-	public static final BitSet FOLLOW_INT_in_type1095 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_type1097 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_VARCHAR_in_type1107 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_DATETIME_in_type1117 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_NULL_in_null_cons1137 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_NOT_in_null_cons1147 = new BitSet(new long[]{0x0080000000000000L});
-	public static final BitSet FOLLOW_NULL_in_null_cons1149 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_PRIMARY_in_p_key1169 = new BitSet(new long[]{0x0000200000000000L});
-	public static final BitSet FOLLOW_KEY_in_p_key1171 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_LEFT_PAR_in_p_key1173 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_p_key1175 = new BitSet(new long[]{0x1000000000000000L});
-	public static final BitSet FOLLOW_RIGHT_PAR_in_p_key1177 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_p_key1179 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_create_db_in_clp_commands1200 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_drop_db_in_clp_commands1205 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_list_db_in_clp_commands1210 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_start_in_clp_commands1215 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_get_status_in_clp_commands1220 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_stop_in_clp_commands1225 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_display_db_in_clp_commands1230 = new BitSet(new long[]{0xE004004080E10040L,0x0000000000000022L});
-	public static final BitSet FOLLOW_clp_commands_in_clp_commands1236 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_dml_commands_in_clp_commands1241 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ddl_commands_in_clp_commands1246 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_CREATE_in_create_db1267 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_DATABASE_in_create_db1269 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_create_db1271 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_create_db1273 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_DROP_in_drop_db1294 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_DATABASE_in_drop_db1296 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_drop_db1298 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_drop_db1300 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_LIST_in_list_db1321 = new BitSet(new long[]{0x0000000000040000L});
-	public static final BitSet FOLLOW_DATABASES_in_list_db1323 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_list_db1325 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_START_in_start1346 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_start1348 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_GET_in_get_status1369 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
-	public static final BitSet FOLLOW_STATUS_in_get_status1371 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_get_status1373 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_STOP_in_stop1394 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_stop1396 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_DISPLAY_in_display_db1417 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_DATABASE_in_display_db1419 = new BitSet(new long[]{0x0000001000000000L});
-	public static final BitSet FOLLOW_ID_in_display_db1421 = new BitSet(new long[]{0x0020000000000002L});
-	public static final BitSet FOLLOW_NEWLINE_in_display_db1423 = new BitSet(new long[]{0x0020000000000002L});
+	public static final BitSet FOLLOW_clp_commands_in_programa57 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ddl_commands_in_programa62 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dml_commands_in_programa67 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_select_in_dml_commands82 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_update_in_dml_commands87 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_delete_in_dml_commands92 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_insert_in_dml_commands97 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_explain_in_dml_commands102 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_clp_commands_in_dml_commands108 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ddl_commands_in_dml_commands113 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dml_commands_in_dml_commands118 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_EXPLAIN_in_explain141 = new BitSet(new long[]{0x0000400002000080L,0x0000000000040400L});
+	public static final BitSet FOLLOW_ANALYZE_in_explain145 = new BitSet(new long[]{0x0000400002000000L,0x0000000000040400L});
+	public static final BitSet FOLLOW_select_in_explain154 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_update_in_explain159 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_delete_in_explain164 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_insert_in_explain169 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_SELECT_in_select186 = new BitSet(new long[]{0x7000081000080420L});
+	public static final BitSet FOLLOW_ALL_in_select190 = new BitSet(new long[]{0x4000001000000000L});
+	public static final BitSet FOLLOW_col_list_in_select195 = new BitSet(new long[]{0x4000001000000000L});
+	public static final BitSet FOLLOW_NEWLINE_in_select199 = new BitSet(new long[]{0x0000001000000000L});
+	public static final BitSet FOLLOW_from_in_select202 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_select204 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_ID_in_col_list221 = new BitSet(new long[]{0x3000080000080400L});
+	public static final BitSet FOLLOW_agg_funct_in_col_list228 = new BitSet(new long[]{0x3000080000080400L});
+	public static final BitSet FOLLOW_col_list_in_col_list232 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_FROM_in_from248 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_from252 = new BitSet(new long[]{0x4400010400000002L,0x0000000000200010L});
+	public static final BitSet FOLLOW_join_st_in_from259 = new BitSet(new long[]{0x4400010400000002L,0x0000000000200010L});
+	public static final BitSet FOLLOW_NEWLINE_in_from263 = new BitSet(new long[]{0x4400010400000002L,0x0000000000200010L});
+	public static final BitSet FOLLOW_where_in_from266 = new BitSet(new long[]{0x4400010400000002L,0x0000000000000010L});
+	public static final BitSet FOLLOW_NEWLINE_in_from269 = new BitSet(new long[]{0x4400010400000002L,0x0000000000000010L});
+	public static final BitSet FOLLOW_group_in_from272 = new BitSet(new long[]{0x4400000400000002L,0x0000000000000010L});
+	public static final BitSet FOLLOW_NEWLINE_in_from275 = new BitSet(new long[]{0x4400000400000002L,0x0000000000000010L});
+	public static final BitSet FOLLOW_order_in_from278 = new BitSet(new long[]{0x4400000400000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_from281 = new BitSet(new long[]{0x4400000400000002L});
+	public static final BitSet FOLLOW_limit_in_from284 = new BitSet(new long[]{0x4000000400000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_from287 = new BitSet(new long[]{0x0000000400000002L});
+	public static final BitSet FOLLOW_for_JSON_XML_in_from290 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_join_st306 = new BitSet(new long[]{0x0008000000000000L});
+	public static final BitSet FOLLOW_JOIN_in_join_st308 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_join_st314 = new BitSet(new long[]{0x0008000000000000L});
+	public static final BitSet FOLLOW_join_st_aux_in_join_st316 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_JOIN_in_join_st_aux331 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_join_st_aux333 = new BitSet(new long[]{0x0008000000000000L});
+	public static final BitSet FOLLOW_join_st_aux_in_join_st_aux335 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_WHERE_in_where353 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_where_st_in_where355 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_where_st366 = new BitSet(new long[]{0x838000C020000000L});
+	public static final BitSet FOLLOW_comp_op_in_where_st368 = new BitSet(new long[]{0x0000880200000000L,0x0000000000000020L});
+	public static final BitSet FOLLOW_value_in_where_st370 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_where_st378 = new BitSet(new long[]{0x0004000000000000L});
+	public static final BitSet FOLLOW_null_op_in_where_st380 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_GREATER_THAN_in_comp_op397 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_GREATER_EQUALS_in_comp_op404 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LESS_THAN_in_comp_op411 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LESS_EQUALS_in_comp_op418 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_EQUALS_in_comp_op425 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LIKE_in_comp_op432 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_NOT_in_comp_op439 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IS_in_null_op456 = new BitSet(new long[]{0x8000000000000000L,0x0000000000000001L});
+	public static final BitSet FOLLOW_NULL_in_null_op460 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_NOT_in_null_op467 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+	public static final BitSet FOLLOW_NULL_in_null_op469 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_GROUP_in_group484 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_BY_in_group486 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_cols_in_group488 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_cols503 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_cols_in_cols505 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ORDER_in_order523 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_BY_in_order525 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_order527 = new BitSet(new long[]{0x0000000004000202L});
+	public static final BitSet FOLLOW_ASC_in_order534 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_DESC_in_order539 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LIMIT_in_limit557 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_INT_in_limit563 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000004L});
+	public static final BitSet FOLLOW_OFFSET_in_limit570 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_INT_in_limit576 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_FOR_in_for_JSON_XML592 = new BitSet(new long[]{0x0010000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_JSON_in_for_JSON_XML596 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_XML_in_for_JSON_XML603 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_COUNT_in_agg_funct625 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_AVERAGE_in_agg_funct632 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_MIN_in_agg_funct639 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_MAX_in_agg_funct646 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_agg_funct653 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_agg_funct655 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_agg_funct659 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_UPDATE_in_update670 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_update676 = new BitSet(new long[]{0x4000000000000000L,0x0000000000000800L});
+	public static final BitSet FOLLOW_NEWLINE_in_update678 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+	public static final BitSet FOLLOW_SET_in_update681 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_update687 = new BitSet(new long[]{0x0000000020000000L});
+	public static final BitSet FOLLOW_EQUALS_in_update689 = new BitSet(new long[]{0x0000880200000000L,0x0000000000000020L});
+	public static final BitSet FOLLOW_value_in_update691 = new BitSet(new long[]{0x4000000000000002L,0x0000000000200000L});
+	public static final BitSet FOLLOW_NEWLINE_in_update694 = new BitSet(new long[]{0x4000000000000002L,0x0000000000200000L});
+	public static final BitSet FOLLOW_where_in_update697 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_update700 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_DELETE_in_delete716 = new BitSet(new long[]{0x4000001000000000L});
+	public static final BitSet FOLLOW_NEWLINE_in_delete718 = new BitSet(new long[]{0x0000001000000000L});
+	public static final BitSet FOLLOW_FROM_in_delete721 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_delete723 = new BitSet(new long[]{0x4000000000000002L,0x0000000000200000L});
+	public static final BitSet FOLLOW_NEWLINE_in_delete725 = new BitSet(new long[]{0x4000000000000002L,0x0000000000200000L});
+	public static final BitSet FOLLOW_where_in_delete728 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_delete731 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_INSERT_in_insert747 = new BitSet(new long[]{0x0002000000000000L});
+	public static final BitSet FOLLOW_INTO_in_insert749 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_insert751 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_insert753 = new BitSet(new long[]{0x0000080000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_cols_in_insert755 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_insert757 = new BitSet(new long[]{0x4000000000000000L,0x0000000000080000L});
+	public static final BitSet FOLLOW_NEWLINE_in_insert759 = new BitSet(new long[]{0x0000000000000000L,0x0000000000080000L});
+	public static final BitSet FOLLOW_VALUES_in_insert762 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_insert764 = new BitSet(new long[]{0x0000880200000000L,0x0000000000000120L});
+	public static final BitSet FOLLOW_values_in_insert766 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_insert768 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_insert770 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_value_in_values786 = new BitSet(new long[]{0x0000880200000000L,0x0000000000000020L});
+	public static final BitSet FOLLOW_values_in_values789 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INT_in_value805 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_FLOAT_in_value814 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_value823 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_PARAM_in_value832 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_db_in_ddl_commands851 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_create_index_in_ddl_commands856 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_drop_table_in_ddl_commands861 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_alter_table_in_ddl_commands866 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_analyze_in_ddl_commands871 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_create_table_in_ddl_commands876 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_ddl_commands_in_ddl_commands882 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dml_commands_in_ddl_commands887 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_clp_commands_in_ddl_commands892 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_SET_in_set_db912 = new BitSet(new long[]{0x0000000000200000L});
+	public static final BitSet FOLLOW_DATABASE_in_set_db914 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_set_db916 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_set_db918 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_CREATE_in_create_index943 = new BitSet(new long[]{0x0000220000000000L});
+	public static final BitSet FOLLOW_HASH_in_create_index947 = new BitSet(new long[]{0x0000200000000000L});
+	public static final BitSet FOLLOW_INDEX_in_create_index954 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_create_index960 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000008L});
+	public static final BitSet FOLLOW_ON_in_create_index962 = new BitSet(new long[]{0x4000080000000000L});
+	public static final BitSet FOLLOW_NEWLINE_in_create_index964 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_create_index971 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_create_index973 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_create_index981 = new BitSet(new long[]{0x0000080000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_create_index988 = new BitSet(new long[]{0x4000100000000002L});
+	public static final BitSet FOLLOW_INCLUDE_in_create_index993 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_create_index995 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_create_index1003 = new BitSet(new long[]{0x0000080000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_create_index1010 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_create_index1015 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_DROP_in_drop_table1033 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_TABLE_in_drop_table1035 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_drop_table1037 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_drop_table1039 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_ANALYZE_in_analyze1064 = new BitSet(new long[]{0x4000080000000002L});
+	public static final BitSet FOLLOW_ID_in_analyze1068 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_analyze1075 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_ALTER_in_alter_table1093 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_TABLE_in_alter_table1095 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_alter_table1097 = new BitSet(new long[]{0x4000000000000010L});
+	public static final BitSet FOLLOW_NEWLINE_in_alter_table1099 = new BitSet(new long[]{0x0000000000000010L});
+	public static final BitSet FOLLOW_ADD_in_alter_table1102 = new BitSet(new long[]{0x0000000000040000L});
+	public static final BitSet FOLLOW_CONSTRAINT_in_alter_table1104 = new BitSet(new long[]{0x0000000800000000L});
+	public static final BitSet FOLLOW_const_def_in_alter_table1106 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_alter_table1109 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_FOREIGN_in_const_def1123 = new BitSet(new long[]{0x0020000000000000L});
+	public static final BitSet FOLLOW_KEY_in_const_def1125 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_const_def1127 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_const_def1133 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_const_def1135 = new BitSet(new long[]{0x4000000000000000L,0x0000000000000080L});
+	public static final BitSet FOLLOW_NEWLINE_in_const_def1137 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
+	public static final BitSet FOLLOW_REFERENCES_in_const_def1140 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_const_def1146 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_const_def1148 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_const_def1154 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_const_def1156 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_CREATE_in_create_table1173 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+	public static final BitSet FOLLOW_TABLE_in_create_table1175 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_create_table1177 = new BitSet(new long[]{0x0000000000000100L});
+	public static final BitSet FOLLOW_AS_in_create_table1179 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_create_table1181 = new BitSet(new long[]{0x4000080000000000L,0x0000000000000040L});
+	public static final BitSet FOLLOW_NEWLINE_in_create_table1183 = new BitSet(new long[]{0x0000080000000000L,0x0000000000000040L});
+	public static final BitSet FOLLOW_col_def_in_create_table1186 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000040L});
+	public static final BitSet FOLLOW_p_key_in_create_table1188 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_create_table1190 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_create_table1192 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_ID_in_col_def1210 = new BitSet(new long[]{0x0001000001804000L,0x0000000000100000L});
+	public static final BitSet FOLLOW_type_in_col_def1212 = new BitSet(new long[]{0x8000000000000000L,0x0000000000000001L});
+	public static final BitSet FOLLOW_null_cons_in_col_def1214 = new BitSet(new long[]{0x4000080000000000L});
+	public static final BitSet FOLLOW_NEWLINE_in_col_def1216 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_col_def_in_col_def1219 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INTEGER_in_type1241 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_DECIMAL_in_type1250 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_type1252 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_INT_in_type1258 = new BitSet(new long[]{0x0000000000008000L});
+	public static final BitSet FOLLOW_COLON_in_type1260 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_INT_in_type1266 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_type1268 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_CHARACTER_in_type1277 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_type1279 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_INT_in_type1281 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_type1283 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_VARCHAR_in_type1292 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_DATETIME_in_type1301 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_NULL_in_null_cons1318 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_NOT_in_null_cons1327 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+	public static final BitSet FOLLOW_NULL_in_null_cons1329 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_PRIMARY_in_p_key1346 = new BitSet(new long[]{0x0020000000000000L});
+	public static final BitSet FOLLOW_KEY_in_p_key1348 = new BitSet(new long[]{0x0040000000000000L});
+	public static final BitSet FOLLOW_LEFT_PAR_in_p_key1350 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_p_key1352 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_RIGHT_PAR_in_p_key1354 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_p_key1356 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_create_db_in_clp_commands1376 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_drop_db_in_clp_commands1381 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_list_db_in_clp_commands1386 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_start_in_clp_commands1391 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_get_status_in_clp_commands1396 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_stop_in_clp_commands1401 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_begin_tx_in_clp_commands1406 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_commit_tx_in_clp_commands1411 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_rollback_tx_in_clp_commands1416 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_display_db_in_clp_commands1421 = new BitSet(new long[]{0x080040209A1208C0L,0x0000000000045E00L});
+	public static final BitSet FOLLOW_clp_commands_in_clp_commands1427 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_dml_commands_in_clp_commands1432 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ddl_commands_in_clp_commands1437 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_CREATE_in_create_db1457 = new BitSet(new long[]{0x0000000000200000L});
+	public static final BitSet FOLLOW_DATABASE_in_create_db1459 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_create_db1461 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_create_db1463 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_DROP_in_drop_db1483 = new BitSet(new long[]{0x0000000000200000L});
+	public static final BitSet FOLLOW_DATABASE_in_drop_db1485 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_drop_db1487 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_drop_db1489 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_LIST_in_list_db1509 = new BitSet(new long[]{0x0000000000400000L});
+	public static final BitSet FOLLOW_DATABASES_in_list_db1511 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_list_db1513 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_START_in_start1533 = new BitSet(new long[]{0x4000800000000002L});
+	public static final BitSet FOLLOW_INT_in_start1536 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_start1540 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_GET_in_get_status1560 = new BitSet(new long[]{0x0000000000000000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_STATUS_in_get_status1562 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_get_status1564 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_STOP_in_stop1584 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_stop1586 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_BEGIN_in_begin_tx1606 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_begin_tx1608 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_COMMIT_in_commit_tx1628 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_commit_tx1630 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_ROLLBACK_in_rollback_tx1650 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_rollback_tx1652 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_DISPLAY_in_display_db1672 = new BitSet(new long[]{0x0000000000200000L});
+	public static final BitSet FOLLOW_DATABASE_in_display_db1674 = new BitSet(new long[]{0x0000080000000000L});
+	public static final BitSet FOLLOW_ID_in_display_db1676 = new BitSet(new long[]{0x4000000000000002L});
+	public static final BitSet FOLLOW_NEWLINE_in_display_db1678 = new BitSet(new long[]{0x4000000000000002L});
 }
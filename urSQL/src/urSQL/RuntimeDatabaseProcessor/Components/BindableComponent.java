@@ -0,0 +1,19 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+/**
+ * A component that carries values written in the statement. When the
+ * statement is prepared those values may be parameters [?], which are
+ * replaced each time the statement is executed.
+ * @author ArturoMora™
+ *
+ */
+public interface BindableComponent extends Component
+{
+	/**
+	 * Creates a copy of the component with the parameters replaced.
+	 * The component itself is not changed, so the same prepared plan
+	 * can be bound many times.
+	 * @param pParameters Values of the parameters, in order.
+	 */
+	public Component bind(String[] pParameters);
+}
@@ -1,6 +1,7 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 
 /**
  * 
@@ -9,5 +10,9 @@ import urSQL.System.ResultSet;
  */
 public interface Component 
 {
-	public ResultSet apply(ResultSet pResultSet);
+	/**
+	 * @param pSession Session that runs the statement.
+	 * @param pResultSet Result of the previous component, null for the first.
+	 */
+	public ResultSet apply(Session pSession, ResultSet pResultSet);
 }
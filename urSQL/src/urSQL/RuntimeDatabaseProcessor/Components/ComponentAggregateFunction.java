@@ -3,6 +3,7 @@ package urSQL.RuntimeDatabaseProcessor.Components;
 import java.util.Iterator;
 
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.TableData;
 import urSQL.System.TableMetadata;
 import urSQL.System.TableRegister;
@@ -42,7 +43,7 @@ public class ComponentAggregateFunction implements Component
 	/**
 	 * 
 	 */
-	public ResultSet apply(ResultSet pResultSet) 
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{	
 		// TableData.
 		switch(pFunction){
@@ -0,0 +1,75 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.LinkedList;
+
+import urSQL.StoredDataManager.Pair;
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
+import urSQL.StoredDataManager.StoreDataManager;
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableStatistics;
+import urSQL.SystemCatalog.SystemCatalog;
+
+public class ComponentAnalyze implements LockingComponent {
+
+	/**
+	 * Filas que se leen de cada tabla para las estadisticas
+	 */
+	private static final int SAMPLE_SIZE = 10000;
+	
+	private String table_name;
+	
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet) {
+		
+		SystemCatalog sc = SystemCatalog.getInstance();
+		
+		LinkedList<String> tables = new LinkedList<String>();
+		if(table_name != null){
+			if(!sc.tableExist(pSession.getDatabase(), table_name)){
+				System.err.format("La tabla %s no existe\n", table_name);
+				return null;
+			}
+			tables.add(table_name);
+		}else{
+			tables = sc.getTables(pSession.getDatabase());
+		}
+		
+		StoreDataManager sdm = new StoreDataManager(pSession.getDatabase());
+		for(String table : tables){
+			TableMetadata metadata = sc.getMetadata(pSession.getDatabase(), table);
+			Pair<Integer, LinkedList<LinkedList<String>>> sample = 
+					sdm.sampleTable(pSession.getDatabase(), table, SAMPLE_SIZE);
+			if(metadata == null || sample == null){
+				continue;
+			}
+			sc.setStatistics(pSession.getDatabase(), TableStatistics.build(metadata, sample.getFirst(), sample.getSecond()));
+			System.out.format("Tabla %s analizada: %d filas, %d en la muestra\n", 
+					table, sample.getFirst(), sample.getSecond().size());
+		}
+		
+		return null;
+	}
+	
+	@Override
+	public void lockTables(TableLocks pLocks) {
+		if(table_name != null){
+			pLocks.shared(table_name);
+		}else if(pLocks.getDatabase() != null){
+			for(String table : SystemCatalog.getInstance().getTables(pLocks.getDatabase())){
+				pLocks.shared(table);
+			}
+		}
+	}
+	
+	/**
+	 * Calcula las estadisticas de una tabla o de todas las de la base
+	 * 
+	 * @param table_name nombre de la tabla, null para todas
+	 */
+	public ComponentAnalyze(String table_name){
+		this.table_name = table_name;
+	}
+
+}
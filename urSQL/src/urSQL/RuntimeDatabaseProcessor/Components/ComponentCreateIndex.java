@@ -0,0 +1,95 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.LinkedList;
+
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
+import urSQL.StoredDataManager.StoreDataManager;
+import urSQL.System.IndexMetadata;
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableMetadata;
+import urSQL.SystemCatalog.SystemCatalog;
+
+public class ComponentCreateIndex implements LockingComponent {
+
+	private String index_name;
+	private String table_name;
+	private LinkedList<String> key_columns;
+	private LinkedList<String> include_columns;
+	private boolean hash;
+	
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet) {
+		
+		SystemCatalog sc = SystemCatalog.getInstance();
+		
+		if(hash && (key_columns.size() != 1 || !include_columns.isEmpty())){
+			System.err.format("El indice hash %s debe ser sobre una sola columna\n", index_name);
+			return null;
+		}
+		
+		LinkedList<String> columns = new LinkedList<String>(key_columns);
+		columns.addAll(include_columns);
+		for(String column : columns){
+			if(!sc.columnExist(pSession.getDatabase(), table_name, column)){
+				System.err.format("La columna %s no existe en la tabla %s\n", column, table_name);
+				return null;
+			}
+		}
+		
+		TableMetadata metadata = sc.getMetadata(pSession.getDatabase(), table_name);
+		sc.addIndex(pSession.getDatabase(), table_name, new IndexMetadata(index_name, key_columns, include_columns, hash));
+		
+		StoreDataManager sdm = new StoreDataManager(pSession.getDatabase());
+		if(hash){
+			sdm.createHashIndex(pSession.getDatabase(), table_name, index_name, 
+					metadata.indexByName(key_columns.getFirst()));
+			return null;
+		}
+		sdm.createIndex(pSession.getDatabase(), table_name, index_name, 
+				positions(metadata, key_columns), positions(metadata, include_columns));
+		
+		return null;
+	}
+	
+	/**
+	 * Posiciones de las columnas dentro de la fila
+	 */
+	@Override
+	public void lockTables(TableLocks pLocks) {
+		pLocks.exclusive(table_name);
+	}
+	
+	private int[] positions(TableMetadata metadata, LinkedList<String> columns){
+		int[] result = new int[columns.size()];
+		for(int i = 0; i < result.length; i++){
+			result[i] = metadata.indexByName(columns.get(i));
+		}
+		return result;
+	}
+	
+	/**
+	 * Crea un indice secundario
+	 * 
+	 * @param index_name nombre del indice
+	 * 
+	 * @param table_name nombre de la tabla
+	 * 
+	 * @param key_columns columnas de la llave del indice
+	 * 
+	 * @param include_columns columnas que solo se guardan en el
+	 * indice, para responder consultas sin leer la tabla
+	 * 
+	 * @param hash true para un indice hash, que solo resuelve el =
+	 * sobre una columna
+	 */
+	public ComponentCreateIndex(String index_name, String table_name, 
+			LinkedList<String> key_columns, LinkedList<String> include_columns, boolean hash){
+		this.index_name = index_name;
+		this.table_name = table_name;
+		this.key_columns = key_columns;
+		this.include_columns = include_columns;
+		this.hash = hash;
+	}
+
+}
@@ -2,29 +2,36 @@ package urSQL.RuntimeDatabaseProcessor.Components;
 
 import java.util.Vector;
 
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.SystemCatalog.SystemCatalog;
 
-public class ComponentCreateTable implements Component {
+public class ComponentCreateTable implements LockingComponent {
 
 	private String table_name;
 	private Vector<Vector<String>> vec;
 	private String pk;
 	
 	@Override
-	public ResultSet apply(ResultSet pResultSet) {
+	public ResultSet apply(Session pSession, ResultSet pResultSet) {
 		// TODO Auto-generated method stub
 		
 		SystemCatalog sc = SystemCatalog.getInstance();
-		sc.addTable(table_name, pk, vec);
+		sc.addTable(pSession.getDatabase(), table_name, pk, vec);
 		
-		StoreDataManager sdm = new StoreDataManager();
-		sdm.createTable(sc.getMetadata(table_name));
+		StoreDataManager sdm = new StoreDataManager(pSession.getDatabase());
+		sdm.createTable(sc.getMetadata(pSession.getDatabase(), table_name));
 		
 		return null;
 	}
 	
+	@Override
+	public void lockTables(TableLocks pLocks) {
+		pLocks.exclusive(table_name);
+	}
+	
 	/**
 	 * Crea una tabla 
 	 * 
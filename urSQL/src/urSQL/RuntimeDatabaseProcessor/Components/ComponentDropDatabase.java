@@ -1,15 +1,18 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
+import urSQL.QueryProcessor.PlanCache;
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.SystemCatalog.SystemCatalog;
 
-public class ComponentDropDatabase implements Component {
+public class ComponentDropDatabase implements LockingComponent {
 
 	String database_name;
 	
 	@Override
-	public ResultSet apply(ResultSet pResultSet) 
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{
 		// TODO Auto-generated method stub
 		
@@ -18,10 +21,17 @@ public class ComponentDropDatabase implements Component {
 		
 		SystemCatalog sc = SystemCatalog.getInstance();
 		sc.dropDatabase(database_name);
+		PlanCache.clear(database_name);
 		
 		return null;
 	}
 	
+	@Override
+	public void lockTables(TableLocks pLocks)
+	{
+		pLocks.exclusiveDatabase(database_name);
+	}
+	
 	public ComponentDropDatabase(String pDatabase_name)
 	{
 		database_name = pDatabase_name;
@@ -1,26 +1,33 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.SystemCatalog.SystemCatalog;
 
-public class ComponentDropTable implements Component {
+public class ComponentDropTable implements LockingComponent {
 
 	private String table_name;
 	
 	@Override
-	public ResultSet apply(ResultSet pResultSet) {
+	public ResultSet apply(Session pSession, ResultSet pResultSet) {
 		// TODO Auto-generated method stub
 		
 		SystemCatalog sc = SystemCatalog.getInstance();
-		sc.dropTable(table_name);
+		sc.dropTable(pSession.getDatabase(), table_name);
 		
-		StoreDataManager sdm = new StoreDataManager();
+		StoreDataManager sdm = new StoreDataManager(pSession.getDatabase());
 		sdm.dropTable(table_name);
 		
 		return null;
 	}
 	
+	@Override
+	public void lockTables(TableLocks pLocks) {
+		pLocks.exclusive(table_name);
+	}
+	
 	public ComponentDropTable(String table_name){
 		this.table_name = table_name;
 	}
@@ -1,6 +1,7 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.Serializer;
 import urSQL.System.TableAttribute;
 import urSQL.System.TableData;
@@ -35,8 +36,14 @@ public class ComponentFor implements Component
 	}
 
 	@Override
-	public ResultSet apply(ResultSet pResultSet) 
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{
+		// Without FOR the rows are returned as they are
+		if (!this._FormatType.equals(ComponentFor.TYPE_XML) && !this._FormatType.equals(ComponentFor.TYPE_JSON))
+		{
+			return pResultSet;
+		}
+
 		// Converts the Result Set to a Standard Communicator File
 		String dataInFormat = "";
 		
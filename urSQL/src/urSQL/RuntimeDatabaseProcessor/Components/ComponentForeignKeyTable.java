@@ -1,9 +1,11 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.SystemCatalog.SystemCatalog;
 
-public class ComponentForeignKeyTable implements Component {
+public class ComponentForeignKeyTable implements LockingComponent {
 
 	
 	String table1;
@@ -13,18 +15,25 @@ public class ComponentForeignKeyTable implements Component {
 	String column2;
 	
 	@Override
-	public ResultSet apply(ResultSet pResultSet) 
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{
 		
 		SystemCatalog sc = SystemCatalog.getInstance();
 		
-		sc.addReference(table1, column1, table2, column2);
+		sc.addReference(pSession.getDatabase(), table1, column1, table2, column2);
 		
 		return null;
 		
 	}
 	
 	
+	@Override
+	public void lockTables(TableLocks pLocks)
+	{
+		pLocks.exclusive(table1);
+		pLocks.shared(table2);
+	}
+	
 	public ComponentForeignKeyTable(String pTable1, String pColumn1, String pColumn2, String pTable2){
 		table1 = pTable1;
 		table2 = pTable2;
@@ -1,9 +1,13 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
+import urSQL.StoredDataManager.ScanPredicate;
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.TableAttribute;
 import urSQL.System.TableData;
 import urSQL.System.TableMetadata;
@@ -15,8 +19,24 @@ import urSQL.SystemCatalog.SystemCatalog;
  * @author ArturoMora™
  *
  */
-public class ComponentFrom implements Component
+public class ComponentFrom implements BindableComponent, LockingComponent
 {
+	/**
+	 * Join that compares every pair of registers.
+	 */
+	public static final String JOIN_NESTED_LOOP = "NESTED LOOP";
+	
+	/**
+	 * Join that keeps the joined table in a hash table by primary key.
+	 */
+	public static final String JOIN_HASH = "HASH";
+	
+	/**
+	 * Join that keeps the registers read so far in a hash table by
+	 * primary key, used when they are fewer than the joined table.
+	 */
+	public static final String JOIN_HASH_BUILD_LEFT = "HASH BUILD LEFT";
+	
 	/**
 	 * 
 	 */
@@ -38,16 +58,224 @@ public class ComponentFrom implements Component
 		this._JoinTables = pJoinTables;
 	}
 	
-	private ResultSet getTableData(String pName)
+	/**
+	 * Condition evaluated while the table is read, null if none.
+	 */
+	protected ComponentWhere _ScanFilter = null;
+	
+	/**
+	 * Registers after which the read of the table stops, -1 for all.
+	 */
+	protected int _ScanLimit = -1;
+	
+	/**
+	 * Evaluates the condition while the table is read, so the registers
+	 * that do not accomplish it are never decoded. Only used without joins.
+	 * @param pFilter
+	 */
+	public void setScanFilter(ComponentWhere pFilter)
+	{
+		this._ScanFilter = pFilter;
+	}
+	
+	/**
+	 * Get for _ScanFilter.
+	 */
+	public ComponentWhere getScanFilter()
+	{
+		return this._ScanFilter;
+	}
+	
+	/**
+	 * Stops the read of the table as soon as pLimit registers
+	 * accomplish the scan filter.
+	 * @param pLimit
+	 */
+	public void setScanLimit(int pLimit)
+	{
+		this._ScanLimit = pLimit;
+	}
+	
+	/**
+	 * Columns decoded while the table is read, null for all.
+	 */
+	protected LinkedList<String> _ScanColumns = null;
+	
+	/**
+	 * Decodes only the given columns of each register, the others are
+	 * skipped over without building their String. The condition of the
+	 * scan filter does not need its column here, because it is checked
+	 * over the encoded register. Only used without joins.
+	 * @param pColumns
+	 */
+	public void setScanColumns(LinkedList<String> pColumns)
+	{
+		this._ScanColumns = pColumns;
+	}
+	
+	/**
+	 * Secondary index used to read the table, null for a scan.
+	 */
+	protected String _ScanIndex = null;
+	
+	/**
+	 * Reads the table through a secondary index whose leading column
+	 * solves the scan filter, chosen by the optimizer.
+	 * @param pIndex
+	 */
+	public void setScanIndex(String pIndex)
+	{
+		this._ScanIndex = pIndex;
+	}
+	
+	/**
+	 * True when the scan filter is an equality over the primary key.
+	 */
+	protected boolean _ScanSeek = false;
+	
+	/**
+	 * Reads the register of the primary key of the scan filter straight
+	 * from the tree, chosen by the optimizer. A value that is not an
+	 * integer is still solved by a scan.
+	 * @param pSeek
+	 */
+	public void setScanSeek(boolean pSeek)
+	{
+		this._ScanSeek = pSeek;
+	}
+	
+	/**
+	 * Method of each join, in the order of the joined tables.
+	 */
+	protected LinkedList<String> _JoinMethods = new LinkedList<String>();
+	
+	/**
+	 * Sets the method of each join, a missing one is a hash join.
+	 * @param pMethods
+	 */
+	public void setJoinMethods(LinkedList<String> pMethods)
+	{
+		this._JoinMethods = pMethods;
+	}
+	
+	/**
+	 * Names of the read tables, the first one and the joined ones.
+	 */
+	public LinkedList<String> getTableNames()
+	{
+		LinkedList<String> names = new LinkedList<String>(this._JoinTables);
+		names.addFirst(this._TableName);
+		return names;
+	}
+	
+	/**
+	 * Reads every table; a routine that writes makes its own exclusive.
+	 */
+	@Override
+	public void lockTables(TableLocks pLocks)
+	{
+		for (String table : this.getTableNames())
+		{
+			pLocks.shared(table);
+		}
+	}
+	
+	/**
+	 * Copies the component, binding the condition of the scan filter.
+	 */
+	@Override
+	public Component bind(String[] pParameters)
+	{
+		ComponentFrom from = new ComponentFrom(this._TableName, this._JoinTables);
+		if (this._ScanFilter != null)
+		{
+			from.setScanFilter((ComponentWhere) this._ScanFilter.bind(pParameters));
+		}
+		from.setScanLimit(this._ScanLimit);
+		from.setScanColumns(this._ScanColumns);
+		from.setScanIndex(this._ScanIndex);
+		from.setScanSeek(this._ScanSeek);
+		from.setJoinMethods(this._JoinMethods);
+		return from;
+	}
+	
+	private ResultSet getTableData(Session pSession, String pName)
 	{
-		StoreDataManager storedDataManager = new StoreDataManager();
+		return this.getTableData(pSession, pName, null, null, -1, null, false);
+	}
+	
+	private ResultSet getTableData(Session pSession, String pName, ComponentWhere pFilter, 
+			LinkedList<String> pColumns, int pLimit, String pIndex, boolean pSeek)
+	{
+		StoreDataManager storedDataManager = new StoreDataManager(pSession.getDatabase(), pSession.getTransaction());
 		
 		// Table Crude Data To Insert One-To-One The Registers.
 		TableData tableData = new TableData();
 		
+		TableMetadata newTableMetadat = SystemCatalog.getInstance().getMetadata(pSession.getDatabase(), pName);
+		
+		// Condition Checked By The Storage Over The Encoded Registers.
+		ScanPredicate predicate = null;
+		if (pFilter != null)
+		{
+			predicate = pFilter.toScanPredicate(newTableMetadat);
+		}
+		
+		// Type Of The Column Of The Index, Needed To Encode The Value.
+		String indexName = null;
+		String indexType = null;
+		if (predicate != null && pIndex != null)
+		{
+			int indexOfColumn = newTableMetadat.indexByName(pFilter.getColumnName());
+			indexName = pIndex;
+			indexType = newTableMetadat.getTableColumns().get(indexOfColumn).getType();
+		}
+		
+		// Columns Decoded By The Storage, Kept In The Order Of The Table.
+		boolean[] decoded = null;
+		if (pColumns != null)
+		{
+			LinkedList< TableAttribute > attributes = newTableMetadat.getTableColumns();
+			LinkedList< TableAttribute > projected = new LinkedList< TableAttribute >();
+			decoded = new boolean[attributes.size()];
+			for (int i = 0; i < attributes.size(); i++)
+			{
+				if (pColumns.contains(attributes.get(i).getName()))
+				{
+					decoded[i] = true;
+					projected.add(attributes.get(i));
+				}
+			}
+			newTableMetadat = new TableMetadata(newTableMetadat.getTableName(),
+					projected, newTableMetadat.getPrimaryKey());
+		}
+		
+		// Primary Keys Searched Straight In The Tree, If Any.
+		LinkedList< String > keys = null;
+		if (predicate != null && pSeek)
+		{
+			keys = this.seekKeys(pFilter.getValue());
+		}
+		
 		// Charge The Crude Data From The Hard Disk
-		LinkedList< LinkedList <String> > crudeData = storedDataManager.getTable(
-				SystemCatalog.getInstance().getCurrentDatabase(), pName);
+		LinkedList< LinkedList <String> > crudeData = null;
+		if (keys != null)
+		{
+			crudeData = storedDataManager.getTableByKeys(
+					pSession.getDatabase(), pName, keys, predicate, decoded);
+		}
+		else if (indexName != null)
+		{
+			crudeData = storedDataManager.getTableByIndex(
+					pSession.getDatabase(), pName, indexName, indexType,
+					predicate, decoded, pLimit);
+		}
+		else
+		{
+			crudeData = storedDataManager.getTable(
+					pSession.getDatabase(), pName, predicate, 
+					decoded, pLimit);
+		}
 		
 		// Iterator For The Charged Crude Data.
 		Iterator< LinkedList <String> > it = crudeData.iterator();
@@ -57,30 +285,103 @@ public class ComponentFrom implements Component
 			tableData.getData().add(new TableRegister(it.next()));
 		}
 		
-		TableMetadata newTableMetadat = SystemCatalog.getInstance().getMetadata(pName);
 		return (new ResultSet(tableData, newTableMetadat));
 	}
 	
 	/**
 	 *
 	 */
-	public ResultSet apply(ResultSet pResultSet)
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
 	{
 		
-		ResultSet resultSetFinal = this.getTableData(this._TableName);
+		ResultSet resultSetFinal = this.getTableData(pSession, this._TableName, 
+				this._ScanFilter, this._ScanColumns, this._ScanLimit, this._ScanIndex, this._ScanSeek);
 		ResultSet resultSetTemp = null;
 		
-		Iterator< String > joinTableNames = this._JoinTables.iterator();
-		
-		while(joinTableNames.hasNext())
+		for (int i = 0; i < this._JoinTables.size(); i++)
 		{
-			resultSetTemp = this.getTableData(joinTableNames.next());
-			resultSetFinal = crossTable(resultSetFinal, resultSetTemp);
+			resultSetTemp = this.getTableData(pSession, this._JoinTables.get(i));
+			String method = i < this._JoinMethods.size() ? this._JoinMethods.get(i) : JOIN_HASH;
+			if (method.equals(JOIN_NESTED_LOOP))
+			{
+				resultSetFinal = crossTable(resultSetFinal, resultSetTemp);
+			}
+			else
+			{
+				resultSetFinal = hashJoin(resultSetFinal, resultSetTemp, 
+						method.equals(JOIN_HASH_BUILD_LEFT));
+			}
 		}
 		
 		return resultSetFinal;
 	}
 	
+	/**
+	 * Primary keys that may hold the value of the scan filter: the value
+	 * as written and as the integer the tree keeps.
+	 * @return The keys, null when the value is not an integer.
+	 */
+	private LinkedList<String> seekKeys(String pValue)
+	{
+		LinkedList<String> keys = new LinkedList<String>();
+		try
+		{
+			String canonical = String.valueOf(Integer.parseInt(pValue.trim()));
+			keys.add(pValue);
+			if (!canonical.equals(pValue))
+			{
+				keys.add(canonical);
+			}
+			return keys;
+		}
+		catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+	
+	/**
+	 * Joins two tables by the equality of their primary keys, keeping
+	 * one of them in a hash table instead of comparing every pair.
+	 * @param pBuildLeft True to keep the first table in the hash table.
+	 */
+	public ResultSet hashJoin(ResultSet pTable, ResultSet pAnotherTable, boolean pBuildLeft)
+	{
+		int indexOfPrimaryKey1 = pTable.getTableMetadata().indexByName(
+				pTable.getTableMetadata().getPrimaryKey().getName());
+		int indexOfPrimaryKey2 = pAnotherTable.getTableMetadata().indexByName(
+				pAnotherTable.getTableMetadata().getPrimaryKey().getName());
+		
+		ResultSet build = pBuildLeft ? pTable : pAnotherTable;
+		ResultSet probe = pBuildLeft ? pAnotherTable : pTable;
+		int buildKey = pBuildLeft ? indexOfPrimaryKey1 : indexOfPrimaryKey2;
+		int probeKey = pBuildLeft ? indexOfPrimaryKey2 : indexOfPrimaryKey1;
+		
+		// Primary Keys Compared Without Case, Like The Nested Loop.
+		HashMap< String, TableRegister > hashTable = new HashMap< String, TableRegister >();
+		for (TableRegister register : build.getTableData().getData())
+		{
+			hashTable.put(register.getRegister().get(buildKey).toLowerCase(), register);
+		}
+		
+		TableData newData = new TableData();
+		for (TableRegister register : probe.getTableData().getData())
+		{
+			TableRegister match = hashTable.get(register.getRegister().get(probeKey).toLowerCase());
+			if (match == null)
+			{
+				continue;
+			}
+			TableRegister left = pBuildLeft ? match : register;
+			TableRegister right = pBuildLeft ? register : match;
+			LinkedList< String > joined = new LinkedList< String >(left.getRegister());
+			joined.addAll(right.getRegister());
+			newData.getData().add(new TableRegister(joined));
+		}
+		return (new ResultSet(newData, this.crossMetadata(pTable.getTableMetadata(), 
+				pAnotherTable.getTableMetadata())));
+	}
+	
 	/**
 	 *
 	 */
@@ -109,6 +410,8 @@ public class ComponentFrom implements Component
 		while(iteratorFromTable.hasNext())
 		{
 			tmpRegisterFrom = iteratorFromTable.next();
+			// Every Register Of The Joined Table For Each Register.
+			iteratorToTable = pAnotherTable.getTableData().getData().iterator();
 			while(iteratorToTable.hasNext())
 			{
 				tmpRegisterTo = iteratorToTable.next();
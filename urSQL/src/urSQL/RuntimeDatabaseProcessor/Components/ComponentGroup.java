@@ -5,6 +5,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.TableData;
 import urSQL.System.TableMetadata;
 import urSQL.System.TableRegister;
@@ -24,7 +25,7 @@ public class ComponentGroup implements Component
 	}
 
 	@Override
-	public ResultSet apply(ResultSet pResultSet) 
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{
 		// TableMetadata.
 		TableMetadata tableMetadata = pResultSet.getTableMetadata();
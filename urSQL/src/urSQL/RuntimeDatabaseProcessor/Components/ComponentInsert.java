@@ -4,6 +4,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.TableAttribute;
 import urSQL.System.TableData;
 import urSQL.System.TableMetadata;
@@ -14,7 +15,7 @@ import urSQL.System.TableRegister;
  * @author ArturoMora
  *
  */
-public class ComponentInsert implements Component 
+public class ComponentInsert implements BindableComponent 
 {
 	LinkedList< String > _Columns;
 	LinkedList< String > _Values;
@@ -26,7 +27,18 @@ public class ComponentInsert implements Component
 	}
 
 	@Override
-	public ResultSet apply(ResultSet pResultSet) 
+	public Component bind(String[] pParameters)
+	{
+		LinkedList< String > values = new LinkedList< String >();
+		for (String value : this._Values)
+		{
+			values.add(Parameter.resolve(value, pParameters));
+		}
+		return new ComponentInsert(this._Columns, values);
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{
 		TableMetadata tableMetadata = pResultSet.getTableMetadata();
 		
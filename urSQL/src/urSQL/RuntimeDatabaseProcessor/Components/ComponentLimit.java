@@ -0,0 +1,58 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.Iterator;
+
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableData;
+import urSQL.System.TableRegister;
+
+/**
+ * This class represents the Limit component. [LIMIT N OFFSET M]
+ * @author ArturoMora™
+ */
+public class ComponentLimit implements Component
+{
+	/**
+	 *  Amount of registers to return.
+	 */
+	protected int _Limit;
+
+	/**
+	 *  Amount of registers to skip.
+	 */
+	protected int _Offset;
+
+	/**
+	 *
+	 * @param pLimit Registers to return.
+	 * @param pOffset Registers to skip.
+	 */
+	public ComponentLimit(int pLimit, int pOffset)
+	{
+		this._Limit = pLimit;
+		this._Offset = pOffset;
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
+	{
+		// TableData.
+		TableData tableData = new TableData();
+
+		// Iterator for the the all registers.
+		Iterator< TableRegister > regIterator =
+				pResultSet.getTableData().getData().iterator();
+
+		for (int i = 0; regIterator.hasNext() && tableData.getData().size() < this._Limit; i++)
+		{
+			TableRegister tmp = regIterator.next();
+			if (i >= this._Offset)
+			{
+				tableData.getData().add(tmp);
+			}
+		}
+
+		return (new ResultSet(tableData, pResultSet.getTableMetadata()));
+	}
+}
@@ -4,11 +4,12 @@ import java.util.LinkedList;
 
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 
 public class ComponentListDatabases implements Component {
 
 	@Override
-	public ResultSet apply(ResultSet pResultSet) {
+	public ResultSet apply(Session pSession, ResultSet pResultSet) {
 		// TODO Auto-generated method stub
 		
 		StoreDataManager sdm = new StoreDataManager();
@@ -2,6 +2,7 @@ package urSQL.RuntimeDatabaseProcessor.Components;
 
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.SystemCatalog.SystemCatalog;
 
 public class ComponentNewDatabase implements Component {
@@ -10,7 +11,7 @@ public class ComponentNewDatabase implements Component {
 	String _database_name;
 	
 	@Override
-	public ResultSet apply(ResultSet pResultSet) 
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{
 		// TODO Auto-generated method stub
 		
@@ -0,0 +1,57 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.Collections;
+import java.util.LinkedList;
+
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableData;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableRegister;
+
+/**
+ * This class represents the Order component. [ORDER BY ColumnName ASC|DESC]
+ * @author ArturoMora™
+ */
+public class ComponentOrder implements Component
+{
+	/**
+	 *  The column used to sort.
+	 */
+	protected String _ColumnName;
+
+	/**
+	 *  True for a descending order.
+	 */
+	protected boolean _Descending;
+
+	/**
+	 *
+	 * @param pColumnName Name of the column.
+	 * @param pDescending True for DESC.
+	 */
+	public ComponentOrder(String pColumnName, boolean pDescending)
+	{
+		this._ColumnName = pColumnName;
+		this._Descending = pDescending;
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
+	{
+		// TableMetadata.
+		TableMetadata tableMetadata = pResultSet.getTableMetadata();
+
+		// Search Index Of Column.
+		int indexOfColumn = tableMetadata.indexByName(this._ColumnName);
+
+		// Sorted copy of the registers.
+		LinkedList< TableRegister > registers =
+				new LinkedList< TableRegister >(pResultSet.getTableData().getData());
+
+		Collections.sort(registers, new RegisterComparator(indexOfColumn,
+				tableMetadata.getTableColumns().get(indexOfColumn).getType(), this._Descending));
+
+		return (new ResultSet(new TableData(registers), tableMetadata));
+	}
+}
@@ -0,0 +1,74 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableAttribute;
+import urSQL.System.TableData;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableRegister;
+
+/**
+ * This class represents the column list of a SELECT. [SELECT Column1 Column2]
+ * Keeps only the requested columns, in the requested order.
+ * @author ArturoMora™
+ */
+public class ComponentProjection implements Component
+{
+	/**
+	 *  The names of the displayed columns.
+	 */
+	protected LinkedList<String> _Columns;
+
+	/**
+	 *
+	 * @param pColumns Names of the columns.
+	 */
+	public ComponentProjection(LinkedList<String> pColumns)
+	{
+		this._Columns = pColumns;
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
+	{
+		// TableMetadata.
+		TableMetadata tableMetadata = pResultSet.getTableMetadata();
+
+		// Position of each displayed column, unknown columns are ignored.
+		LinkedList< Integer > indexes = new LinkedList< Integer >();
+		LinkedList< TableAttribute > attributes = new LinkedList< TableAttribute >();
+		for (String column : this._Columns)
+		{
+			int indexOfColumn = tableMetadata.indexByName(column);
+			if (indexOfColumn < tableMetadata.getTableColumns().size())
+			{
+				indexes.add(indexOfColumn);
+				attributes.add(tableMetadata.getTableColumns().get(indexOfColumn));
+			}
+		}
+
+		// TableData.
+		TableData tableData = new TableData();
+
+		// Iterator for the the all registers.
+		Iterator< TableRegister > regIterator =
+				pResultSet.getTableData().getData().iterator();
+
+		while (regIterator.hasNext())
+		{
+			LinkedList< String > register = regIterator.next().getRegister();
+			LinkedList< String > projected = new LinkedList< String >();
+			for (Integer index : indexes)
+			{
+				projected.add(register.get(index));
+			}
+			tableData.getData().add(new TableRegister(projected));
+		}
+
+		return (new ResultSet(tableData, new TableMetadata(tableMetadata.getTableName(),
+				attributes, tableMetadata.getPrimaryKey())));
+	}
+}
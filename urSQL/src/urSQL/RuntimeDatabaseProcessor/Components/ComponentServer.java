@@ -0,0 +1,51 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.io.IOException;
+
+import urSQL.Server.Server;
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+
+/**
+ * ComponentServer starts or stops the TCP server of the process, for
+ * START and STOP.
+ * @author ArturoMora™
+ *
+ */
+public class ComponentServer implements Component
+{
+	public static final String START = "START";
+	public static final String STOP = "STOP";
+
+	private final String _Action;
+
+	/**
+	 * Port to listen on, used by START.
+	 */
+	private final int _Port;
+
+	public ComponentServer(String pAction, int pPort)
+	{
+		this._Action = pAction;
+		this._Port = pPort;
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
+	{
+		if (this._Action.equals(STOP))
+		{
+			System.out.println(Server.stop() ? "Server stopped" : "The server is not running");
+			return null;
+		}
+		try
+		{
+			System.out.println("Server listening on port " + Server.start(this._Port));
+		}
+		catch (IOException | IllegalStateException e)
+		{
+			System.out.println("Could not start the server: " + e.getMessage());
+		}
+		return null;
+	}
+}
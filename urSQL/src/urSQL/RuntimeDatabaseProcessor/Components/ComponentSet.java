@@ -3,6 +3,7 @@ package urSQL.RuntimeDatabaseProcessor.Components;
 import java.util.Iterator;
 
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.TableData;
 import urSQL.System.TableMetadata;
 import urSQL.System.TableRegister;
@@ -11,7 +12,7 @@ import urSQL.System.TableRegister;
  * This class represents the Set component. [SET ColumnName = NewValue]
  * @author ArturoMora™
  */
-public class ComponentSet implements Component
+public class ComponentSet implements BindableComponent
 {
 	/**
 	 * The column that contains values for replace.
@@ -34,12 +35,25 @@ public class ComponentSet implements Component
 		this._ColumnName = pColumn;
 	}
 
+	/**
+	 * @return Name of the column that is replaced.
+	 */
+	public String getColumnName()
+	{
+		return this._ColumnName;
+	}
+
+	@Override
+	public Component bind(String[] pParameters)
+	{
+		return new ComponentSet(this._ColumnName, Parameter.resolve(this._NewValue, pParameters));
+	}
 	
 	@Override
 	/**
 	 * 
 	 */
-	public ResultSet apply(ResultSet pResultSet) 
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
 	{
 		// TableData is the new table of the updates registers.
 		TableData tableData = new TableData();
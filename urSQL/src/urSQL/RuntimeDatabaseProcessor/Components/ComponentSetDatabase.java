@@ -1,7 +1,7 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
-import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.SystemCatalog.SystemCatalog;
 
 public class ComponentSetDatabase implements Component {
@@ -10,14 +10,15 @@ public class ComponentSetDatabase implements Component {
 	String database_name;
 	
 	@Override
-	public ResultSet apply(ResultSet pResultSet) {
-		// TODO Auto-generated method stub
-		
+	public ResultSet apply(Session pSession, ResultSet pResultSet) {
+		// La base queda elegida solo para la sesion que la pidio
 		SystemCatalog sc = SystemCatalog.getInstance();
-		sc.setDatabase(database_name);
-		
-		StoreDataManager sdm = new StoreDataManager();
-		sdm.setDatabase(database_name);
+		if(sc.databaseExist(database_name)){
+			pSession.setDatabase(database_name);
+		}
+		else{
+			System.err.format("La base de datos %s no existe\n", database_name);
+		}
 		
 		return null;
 	}
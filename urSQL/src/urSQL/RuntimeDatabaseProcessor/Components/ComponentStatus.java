@@ -0,0 +1,89 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.LinkedList;
+import java.util.TreeMap;
+
+import urSQL.Metrics.Metrics;
+import urSQL.Metrics.OperationTimer;
+import urSQL.Metrics.StripedCounter;
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableAttribute;
+import urSQL.System.TableData;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableRegister;
+
+/**
+ * ComponentStatus returns the metrics of the engine, one row per
+ * operation with its count and latencies in microseconds, followed by
+ * the counters and the requests per second of the server. Rows are
+ * sorted by name.
+ * @author ArturoMora™
+ *
+ */
+public class ComponentStatus implements Component
+{
+	/**
+	 * Name of the returned table.
+	 */
+	public static final String TABLE_NAME = "STATUS";
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
+	{
+		TreeMap< String, LinkedList< String > > timers = new TreeMap< String, LinkedList< String > >();
+		for (OperationTimer timer : Metrics.getTimers())
+		{
+			LinkedList< String > register = new LinkedList< String >();
+			register.add(timer.getName());
+			register.add(String.valueOf(timer.getCount()));
+			register.add(String.format("%.1f", timer.getMeanMicros()));
+			register.add(String.format("%.1f", timer.getP50Micros()));
+			register.add(String.format("%.1f", timer.getP99Micros()));
+			register.add(String.format("%.1f", timer.getP999Micros()));
+			register.add(String.format("%.1f", timer.getMaxMicros()));
+			timers.put(timer.getName(), register);
+		}
+		TreeMap< String, LinkedList< String > > counters = new TreeMap< String, LinkedList< String > >();
+		for (StripedCounter counter : Metrics.getCounters())
+		{
+			LinkedList< String > register = new LinkedList< String >();
+			register.add(counter.getName());
+			register.add(String.valueOf(counter.getValue()));
+			for (int i = 0; i < 5; i++)
+			{
+				register.add("");
+			}
+			counters.put(counter.getName(), register);
+		}
+
+		LinkedList< String > rate = new LinkedList< String >();
+		rate.add(Metrics.SERVER_REQUEST_RATE.getName());
+		rate.add(String.valueOf(Math.round(Metrics.SERVER_REQUEST_RATE.getRate())));
+		for (int i = 0; i < 5; i++)
+		{
+			rate.add("");
+		}
+		counters.put(rate.get(0), rate);
+
+		TableData data = new TableData();
+		for (LinkedList< String > register : timers.values())
+		{
+			data.getData().add(new TableRegister(register));
+		}
+		for (LinkedList< String > register : counters.values())
+		{
+			data.getData().add(new TableRegister(register));
+		}
+
+		LinkedList< TableAttribute > columns = new LinkedList< TableAttribute >();
+		columns.add(new TableAttribute("metric", TableAttribute.TYPE_VARCHAR));
+		columns.add(new TableAttribute("count", TableAttribute.TYPE_INT));
+		columns.add(new TableAttribute("mean_us", TableAttribute.TYPE_DECIMAL));
+		columns.add(new TableAttribute("p50_us", TableAttribute.TYPE_DECIMAL));
+		columns.add(new TableAttribute("p99_us", TableAttribute.TYPE_DECIMAL));
+		columns.add(new TableAttribute("p999_us", TableAttribute.TYPE_DECIMAL));
+		columns.add(new TableAttribute("max_us", TableAttribute.TYPE_DECIMAL));
+		return new ResultSet(data, new TableMetadata(TABLE_NAME, columns, null));
+	}
+}
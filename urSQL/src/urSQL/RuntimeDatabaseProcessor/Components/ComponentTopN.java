@@ -0,0 +1,113 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableData;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableRegister;
+
+/**
+ * This class represents ORDER BY ColumnName LIMIT N [OFFSET M].
+ * Only the best N + M registers are kept in a bounded heap, so the
+ * whole table is never sorted.
+ * @author ArturoMora™
+ */
+public class ComponentTopN implements Component
+{
+	/**
+	 *  The column used to sort.
+	 */
+	protected String _ColumnName;
+
+	/**
+	 *  True for a descending order.
+	 */
+	protected boolean _Descending;
+
+	/**
+	 *  Amount of registers to return.
+	 */
+	protected int _Limit;
+
+	/**
+	 *  Amount of registers to skip.
+	 */
+	protected int _Offset;
+
+	/**
+	 *
+	 * @param pColumnName Name of the column.
+	 * @param pDescending True for DESC.
+	 * @param pLimit Registers to return.
+	 * @param pOffset Registers to skip.
+	 */
+	public ComponentTopN(String pColumnName, boolean pDescending, int pLimit, int pOffset)
+	{
+		this._ColumnName = pColumnName;
+		this._Descending = pDescending;
+		this._Limit = pLimit;
+		this._Offset = pOffset;
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
+	{
+		// TableMetadata.
+		TableMetadata tableMetadata = pResultSet.getTableMetadata();
+
+		// Search Index Of Column.
+		int indexOfColumn = tableMetadata.indexByName(this._ColumnName);
+
+		RegisterComparator comparator = new RegisterComparator(indexOfColumn,
+				tableMetadata.getTableColumns().get(indexOfColumn).getType(), this._Descending);
+
+		// Registers that must be kept before skipping the offset.
+		int capacity = this._Limit + this._Offset;
+
+		LinkedList< TableRegister > registers = new LinkedList< TableRegister >();
+
+		if (capacity > 0)
+		{
+			// The worst kept register stays on the head of the heap.
+			PriorityQueue< TableRegister > heap = new PriorityQueue< TableRegister >(
+					capacity, Collections.reverseOrder(comparator));
+
+			Iterator< TableRegister > regIterator =
+					pResultSet.getTableData().getData().iterator();
+
+			TableRegister tmp = null;
+
+			while (regIterator.hasNext())
+			{
+				tmp = regIterator.next();
+				if (heap.size() < capacity)
+				{
+					heap.add(tmp);
+				}
+				else if (comparator.compare(tmp, heap.peek()) < 0)
+				{
+					heap.poll();
+					heap.add(tmp);
+				}
+			}
+
+			// Drain from the worst to the best.
+			while (!heap.isEmpty())
+			{
+				registers.addFirst(heap.poll());
+			}
+
+			for (int i = 0; i < this._Offset && !registers.isEmpty(); i++)
+			{
+				registers.removeFirst();
+			}
+		}
+
+		return (new ResultSet(new TableData(registers), tableMetadata));
+	}
+}
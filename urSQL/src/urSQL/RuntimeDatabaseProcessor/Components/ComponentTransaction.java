@@ -0,0 +1,53 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import urSQL.RuntimeDatabaseProcessor.RuntimeDatabaseProcessor;
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+
+/**
+ * ComponentTransaction opens and ends the transaction of the session,
+ * for BEGIN, COMMIT and ROLLBACK. The statements in between write
+ * through the Transaction of the session, which commits all the tables
+ * they changed at once or none of them.
+ * @author ArturoMora™
+ *
+ */
+public class ComponentTransaction implements Component
+{
+	public static final String BEGIN = "BEGIN";
+	public static final String COMMIT = "COMMIT";
+	public static final String ROLLBACK = "ROLLBACK";
+
+	private final String _Action;
+
+	public ComponentTransaction(String pAction)
+	{
+		this._Action = pAction;
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet)
+	{
+		if (this._Action.equals(BEGIN))
+		{
+			System.out.println(RuntimeDatabaseProcessor.beginTransaction(pSession) ?
+					"Transaction started" : "A transaction is already open");
+			return null;
+		}
+		if (pSession.getTransaction() == null)
+		{
+			System.out.println("There is no open transaction");
+			return null;
+		}
+		boolean commit = this._Action.equals(COMMIT);
+		if (RuntimeDatabaseProcessor.endTransaction(pSession, commit))
+		{
+			System.out.println(commit ? "Transaction committed" : "Transaction rolled back");
+		}
+		else
+		{
+			System.out.println("The transaction could not be committed");
+		}
+		return null;
+	}
+}
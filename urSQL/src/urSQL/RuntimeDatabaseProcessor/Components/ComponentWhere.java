@@ -1,14 +1,17 @@
 package urSQL.RuntimeDatabaseProcessor.Components;
 
 import java.util.Iterator;	
+import java.util.LinkedList;
 
+import urSQL.StoredDataManager.ScanPredicate;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.TableAttribute;
 import urSQL.System.TableData;
 import urSQL.System.TableMetadata;
 import urSQL.System.TableRegister;
 
-public class ComponentWhere implements Component
+public class ComponentWhere implements BindableComponent
 {
 	/**
 	 *  The name of the evaluated column.
@@ -33,9 +36,81 @@ public class ComponentWhere implements Component
 		this._Value = pValue;
 	}
 
+	/**
+	 *  Operator used when the query has no WHERE.
+	 */
+	public static final String CONSTANT_ALL = "*";
+
+	/**
+	 *  True when the query has no WHERE, every register is accepted.
+	 */
+	public boolean acceptsAll()
+	{
+		return this._ComparisonOperator.equals(CONSTANT_ALL);
+	}
+
+	/**
+	 *  Get for _ColumnName.
+	 */
+	public String getColumnName()
+	{
+		return this._ColumnName;
+	}
+
+	/**
+	 *  Get for _Value.
+	 */
+	public String getValue()
+	{
+		return this._Value;
+	}
+
 	@Override
-	public ResultSet apply(ResultSet pResultSet) 
+	public Component bind(String[] pParameters)
 	{
+		return new ComponentWhere(this._ColumnName, this._ComparisonOperator,
+				Parameter.resolve(this._Value, pParameters));
+	}
+
+	/**
+	 *  Compiles the condition so the storage evaluates it over the
+	 *  encoded register, before the register is decoded.
+	 *  @return The predicate, null when every register is accepted.
+	 */
+	public ScanPredicate toScanPredicate(TableMetadata pTableMetadata)
+	{
+		if (this.acceptsAll())
+		{
+			return null;
+		}
+		return new ScanPredicate(pTableMetadata.indexByName(this._ColumnName),
+				this._ComparisonOperator, this._Value);
+	}
+
+	/**
+	 *  Checks the condition over one decoded register.
+	 *  @return True if the register accomplishes it.
+	 */
+	public boolean accepts(TableMetadata pTableMetadata, LinkedList< String > pRegister)
+	{
+		if (this.acceptsAll())
+		{
+			return true;
+		}
+		int indexOfColumn = pTableMetadata.indexByName(this._ColumnName);
+		return TableRegister.comparate(pRegister.get(indexOfColumn), this._ComparisonOperator,
+				this._Value, pTableMetadata.getTableColumns().get(indexOfColumn).getType());
+	}
+
+	@Override
+	public ResultSet apply(Session pSession, ResultSet pResultSet) 
+	{
+		// Without condition the registers pass untouched.
+		if (this.acceptsAll())
+		{
+			return pResultSet;
+		}
+
 		// TableData.
 		TableData tableData = new TableData();
 		
@@ -0,0 +1,18 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
+
+/**
+ * A component that reads or changes tables. Before a routine runs it
+ * asks each of these for the tables it uses, and holds the locks until
+ * the routine ends.
+ * @author ArturoMora™
+ *
+ */
+public interface LockingComponent extends Component
+{
+	/**
+	 * Adds the tables of the component to the locks of the routine.
+	 */
+	public void lockTables(TableLocks pLocks);
+}
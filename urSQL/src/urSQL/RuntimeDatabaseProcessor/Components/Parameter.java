@@ -0,0 +1,44 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+/**
+ * Placeholders for the parameters [?] of a prepared statement. The
+ * parser writes a marker with the position of the parameter where a
+ * value goes, and the marker is replaced when the statement is bound.
+ * No other value can start with '?', so markers are never ambiguous.
+ * @author ArturoMora™
+ *
+ */
+public final class Parameter
+{
+	/**
+	 * Symbol of a parameter in the statement.
+	 */
+	public static final String MARKER = "?";
+
+	private Parameter()
+	{
+	}
+
+	/**
+	 * Marker of the parameter in position pIndex, starting at 0.
+	 */
+	public static String marker(int pIndex)
+	{
+		return MARKER + pIndex;
+	}
+
+	/**
+	 * Replaces a marker by the value of its parameter.
+	 * @param pValue Value written in the statement, maybe a marker.
+	 * @param pParameters Values of the parameters, in order.
+	 * @return The value of the parameter, or pValue if it is not a marker.
+	 */
+	public static String resolve(String pValue, String[] pParameters)
+	{
+		if (pValue == null || !pValue.startsWith(MARKER))
+		{
+			return pValue;
+		}
+		return pParameters[Integer.parseInt(pValue.substring(MARKER.length()))];
+	}
+}
@@ -0,0 +1,51 @@
+package urSQL.RuntimeDatabaseProcessor.Components;
+
+import java.util.Comparator;
+
+import urSQL.System.TableRegister;
+
+/**
+ * Compares two registers by the value of one of their columns.
+ * @author ArturoMora™
+ *
+ */
+public class RegisterComparator implements Comparator< TableRegister >
+{
+	/**
+	 *  Position of the column inside the register.
+	 */
+	protected int _ColumnIndex;
+
+	/**
+	 *  Type of the column, used for numeric comparisons.
+	 */
+	protected String _Type;
+
+	/**
+	 *  True for a descending order.
+	 */
+	protected boolean _Descending;
+
+	/**
+	 *
+	 * @param pColumnIndex Position of the column.
+	 * @param pType Type of the column.
+	 * @param pDescending Reverses the order.
+	 */
+	public RegisterComparator(int pColumnIndex, String pType, boolean pDescending)
+	{
+		this._ColumnIndex = pColumnIndex;
+		this._Type = pType;
+		this._Descending = pDescending;
+	}
+
+	@Override
+	public int compare(TableRegister pRegister, TableRegister pAnotherRegister)
+	{
+		int result = TableRegister.compare(
+				pRegister.getRegister().get(this._ColumnIndex),
+				pAnotherRegister.getRegister().get(this._ColumnIndex),
+				this._Type);
+		return (this._Descending ? -result : result);
+	}
+}
@@ -7,6 +7,7 @@ import java.util.Queue;
 import urSQL.StoredDataManager.Pair;
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 import urSQL.System.TableAttribute;
 import urSQL.System.TableMetadata;
 import urSQL.System.TableRegister;
@@ -20,12 +21,12 @@ public class DataIntegrityManager
 		
 	}
 	
-	public boolean examineRS(ResultSet rs){
+	public boolean examineRS(Session session, ResultSet rs){
 		boolean result = false;
 	
 		//manejo de archivos
 		SystemCatalog sc = SystemCatalog.getInstance();
-		StoreDataManager sdm = new StoreDataManager();
+		StoreDataManager sdm = new StoreDataManager(session.getDatabase(), session.getTransaction());
 		//metadata
 		TableMetadata  metadata = rs.getTableMetadata();
 		//nombre de la tabla
@@ -36,7 +37,7 @@ public class DataIntegrityManager
 		LinkedList<TableAttribute> list = metadata.getTableColumns();
 		for(int i =0; i < list.size(); i++){
 			String tmp = list.get(i).getName();
-			if(sc.isHaveReferences(table_name, tmp)){
+			if(sc.isHaveReferences(session.getDatabase(), table_name, tmp)){
 				queue_columns.add(tmp);
 			}
 		}
@@ -46,7 +47,7 @@ public class DataIntegrityManager
 		
 		while(!queue_columns.isEmpty()){
 			String column = queue_columns.poll();
-			Pair<Pair<String,String>,String> tmp = sc.getReference(table_name, column);
+			Pair<Pair<String,String>,String> tmp = sc.getReference(session.getDatabase(), table_name, column);
 			list_2.add(tmp);
 		}
 		
@@ -0,0 +1,20 @@
+package urSQL.RuntimeDatabaseProcessor;
+
+/**
+ * Thrown when a row lock cannot be granted, because it would close a
+ * cycle of sessions waiting for each other or because it was not free
+ * before the timeout. The statement is abandoned before it writes; in a
+ * transaction, which also times out on table locks, the whole
+ * transaction is rolled back.
+ * @author ArturoMora™
+ *
+ */
+public class LockException extends RuntimeException
+{
+	private static final long serialVersionUID = 1L;
+
+	public LockException(String pMessage)
+	{
+		super(pMessage);
+	}
+}
@@ -0,0 +1,269 @@
+package urSQL.RuntimeDatabaseProcessor;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import urSQL.Metrics.Metrics;
+
+/**
+ * LockManager gives locks on names: a database, or a table of a
+ * database. Many holders may share a lock, an exclusive holder has it
+ * alone, and once an exclusive request waits the others wait behind it,
+ * so a steady flow of scans cannot starve a DROP. Intention exclusive
+ * is taken by routines that change single rows under RowLockManager:
+ * they share the table among themselves but not with readers.
+ *
+ * The lock table is split in stripes by the hash of the name, each with
+ * its own monitor, so routines on different tables seldom wait for the
+ * same monitor just to look up their locks. A lock leaves its stripe
+ * when nobody holds it or waits for it.
+ *
+ * Locks are not reentrant and have no owner; TableLocks asks for each
+ * name once and always in the same order, which keeps routines from
+ * waiting for each other in a circle. A transaction keeps its locks
+ * from one statement to the next, so it cannot follow that order: its
+ * requests use tryLock and tryUpgrade, which give up after a timeout.
+ * @author ArturoMora™
+ *
+ */
+public class LockManager
+{
+	public static final int SHARED = 0;
+	public static final int INTENTION_EXCLUSIVE = 1;
+	public static final int EXCLUSIVE = 2;
+
+	/**
+	 * Number of stripes, a power of two.
+	 */
+	private static final int STRIPES = 64;
+
+	private static final LockManager INSTANCE = new LockManager();
+
+	private final Stripe[] _Stripes;
+
+	private LockManager()
+	{
+		this._Stripes = new Stripe[STRIPES];
+		for (int i = 0; i < STRIPES; i++)
+		{
+			this._Stripes[i] = new Stripe();
+		}
+	}
+
+	public static LockManager getInstance()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Waits until the lock on pName is granted in pMode. The wait is not
+	 * interrupted; an interrupt is kept for the caller to see.
+	 */
+	public void lock(String pName, int pMode)
+	{
+		this.acquire(pName, -1, pMode, -1);
+	}
+
+	/**
+	 * Waits until the lock on pName is granted in pMode, at most
+	 * pTimeoutNanos.
+	 * @return False if the timeout ended first; nothing is held then.
+	 */
+	public boolean tryLock(String pName, int pMode, long pTimeoutNanos)
+	{
+		return this.acquire(pName, -1, pMode, pTimeoutNanos);
+	}
+
+	/**
+	 * Changes a lock held in pHeld to pMode, waiting at most
+	 * pTimeoutNanos for the other holders to leave. The lock is held in
+	 * pHeld while waiting.
+	 * @return False if the timeout ended first; pHeld is still held then.
+	 */
+	public boolean tryUpgrade(String pName, int pHeld, int pMode, long pTimeoutNanos)
+	{
+		return this.acquire(pName, pHeld, pMode, pTimeoutNanos);
+	}
+
+	/**
+	 * @param pHeld Mode already held by the caller, -1 for none.
+	 * @param pTimeoutNanos Longest wait, negative to wait until granted.
+	 */
+	private boolean acquire(String pName, int pHeld, int pMode, long pTimeoutNanos)
+	{
+		Stripe stripe = this.stripe(pName);
+		synchronized (stripe)
+		{
+			Lock lock = stripe._Locks.get(pName);
+			if (lock == null)
+			{
+				lock = new Lock();
+				stripe._Locks.put(pName, lock);
+			}
+			if (!lock.isGrantable(pHeld, pMode))
+			{
+				long start = Metrics.LOCK_WAIT.start();
+				long deadline = System.nanoTime() + pTimeoutNanos;
+				boolean interrupted = false;
+				boolean granted = false;
+				lock.addWaiter(pMode, 1);
+				try
+				{
+					while (!lock.isGrantable(pHeld, pMode))
+					{
+						long nanos = deadline - System.nanoTime();
+						if (pTimeoutNanos >= 0 && nanos <= 0)
+						{
+							return false;
+						}
+						try
+						{
+							if (pTimeoutNanos < 0)
+							{
+								stripe.wait();
+							}
+							else
+							{
+								TimeUnit.NANOSECONDS.timedWait(stripe, nanos);
+							}
+						}
+						catch (InterruptedException e)
+						{
+							interrupted = true;
+						}
+					}
+					granted = true;
+				}
+				finally
+				{
+					lock.addWaiter(pMode, -1);
+					Metrics.LOCK_WAIT.stop(start);
+					if (interrupted)
+					{
+						Thread.currentThread().interrupt();
+					}
+					if (!granted)
+					{
+						if (lock.isUnused())
+						{
+							stripe._Locks.remove(pName);
+						}
+						// a request that gave up no longer holds back the others
+						stripe.notifyAll();
+					}
+				}
+			}
+			if (pHeld >= 0)
+			{
+				lock.release(pHeld);
+			}
+			lock.grant(pMode);
+			return true;
+		}
+	}
+
+	/**
+	 * Gives back a lock taken with lock in the same mode.
+	 */
+	public void unlock(String pName, int pMode)
+	{
+		Stripe stripe = this.stripe(pName);
+		synchronized (stripe)
+		{
+			Lock lock = stripe._Locks.get(pName);
+			lock.release(pMode);
+			if (lock.isUnused())
+			{
+				stripe._Locks.remove(pName);
+			}
+			// waiters of other names of the stripe check again and go back to wait
+			stripe.notifyAll();
+		}
+	}
+
+	private Stripe stripe(String pName)
+	{
+		int hash = pName.hashCode();
+		return this._Stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+	}
+
+	/**
+	 * Part of the lock table, guarded by its own monitor.
+	 */
+	private static class Stripe
+	{
+		private final HashMap< String, Lock > _Locks = new HashMap< String, Lock >();
+	}
+
+	/**
+	 * State of the lock of one name.
+	 */
+	private static class Lock
+	{
+		/**
+		 * Holders and waiters of each mode.
+		 */
+		private final int[] _Holders = new int[3];
+		private final int[] _Waiters = new int[3];
+
+		/**
+		 * True if pMode can be granted to a caller that already holds
+		 * pHeld, or -1 for none.
+		 */
+		boolean isGrantable(int pHeld, int pMode)
+		{
+			if (pHeld < 0)
+			{
+				return this.isGrantable(pMode);
+			}
+			this._Holders[pHeld]--;
+			boolean grantable = this.isGrantable(pMode);
+			this._Holders[pHeld]++;
+			return grantable;
+		}
+
+		boolean isGrantable(int pMode)
+		{
+			if (this._Holders[EXCLUSIVE] > 0)
+			{
+				return false;
+			}
+			switch (pMode)
+			{
+			case SHARED:
+				return this._Holders[INTENTION_EXCLUSIVE] == 0 && this._Waiters[EXCLUSIVE] == 0;
+			case INTENTION_EXCLUSIVE:
+				return this._Holders[SHARED] == 0 && this._Waiters[EXCLUSIVE] == 0;
+			default:
+				return this._Holders[SHARED] == 0 && this._Holders[INTENTION_EXCLUSIVE] == 0;
+			}
+		}
+
+		void addWaiter(int pMode, int pDelta)
+		{
+			this._Waiters[pMode] += pDelta;
+		}
+
+		void grant(int pMode)
+		{
+			this._Holders[pMode]++;
+		}
+
+		void release(int pMode)
+		{
+			this._Holders[pMode]--;
+		}
+
+		boolean isUnused()
+		{
+			for (int i = 0; i < this._Holders.length; i++)
+			{
+				if (this._Holders[i] > 0 || this._Waiters[i] > 0)
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,381 @@
+package urSQL.RuntimeDatabaseProcessor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import urSQL.Metrics.Metrics;
+import urSQL.System.Session;
+
+/**
+ * RowLockManager locks single rows, named by their database, table and
+ * primary key, so routines that change different rows of one table run
+ * at the same time; the table itself is only held intention exclusive.
+ *
+ * Each row has the sessions that hold it, shared or exclusive, and a
+ * queue of requests served in order. A session asking again for a row
+ * it holds gets it at once, and a shared holder asking for exclusive
+ * goes first in the queue. Before waiting, the manager follows the
+ * wait-for graph from the session: when it leads back to the session
+ * the request fails at once with a LockException, and so does a request
+ * still waiting when the timeout ends. A session keeps its rows until
+ * releaseAll.
+ *
+ * The wait-for graph needs every lock at once, so the table of locks is
+ * guarded by a single mutex; it is held only to look up and grant, never
+ * while reading or writing the rows.
+ * @author ArturoMora™
+ *
+ */
+public class RowLockManager
+{
+	public static final int SHARED = LockManager.SHARED;
+	public static final int EXCLUSIVE = LockManager.EXCLUSIVE;
+
+	/**
+	 * System property with the milliseconds a request waits,
+	 * DEFAULT_TIMEOUT when it is not set.
+	 */
+	public static final String TIMEOUT_PROPERTY = "urSQL.lockTimeout";
+	public static final long DEFAULT_TIMEOUT = 5000;
+
+	private static final RowLockManager INSTANCE = new RowLockManager();
+
+	private final long _TimeoutNanos;
+
+	private final ReentrantLock _Mutex;
+
+	/**
+	 * Lock of every row held or waited for.
+	 */
+	private final HashMap< RowKey, RowLock > _Locks;
+
+	/**
+	 * Rows held by each session.
+	 */
+	private final HashMap< Session, HashSet< RowKey > > _Held;
+
+	/**
+	 * Request each waiting session waits on.
+	 */
+	private final HashMap< Session, Request > _Waiting;
+
+	private RowLockManager()
+	{
+		this._TimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT));
+		this._Mutex = new ReentrantLock();
+		this._Locks = new HashMap< RowKey, RowLock >();
+		this._Held = new HashMap< Session, HashSet< RowKey > >();
+		this._Waiting = new HashMap< Session, Request >();
+	}
+
+	public static RowLockManager getInstance()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Waits until pSession holds the row in pMode.
+	 * @throws LockException On a deadlock or when the timeout ends.
+	 */
+	public void lock(Session pSession, String pDatabase, String pTable, String pKey, int pMode)
+	{
+		RowKey key = new RowKey(pDatabase, pTable, pKey);
+		this._Mutex.lock();
+		try
+		{
+			RowLock lock = this._Locks.get(key);
+			if (lock == null)
+			{
+				lock = new RowLock(key);
+				this._Locks.put(key, lock);
+			}
+			Integer held = lock._Holders.get(pSession);
+			if (held != null && held >= pMode)
+			{
+				return;
+			}
+			if (lock._Queue.isEmpty() && lock.isCompatible(pSession, pMode))
+			{
+				this.grant(lock, pSession, pMode);
+				return;
+			}
+
+			Request request = new Request(lock, pSession, pMode, this._Mutex.newCondition());
+			if (held != null)
+			{
+				lock._Queue.addFirst(request);
+			}
+			else
+			{
+				lock._Queue.addLast(request);
+			}
+			this._Waiting.put(pSession, request);
+			this.grantWaiters(lock);
+			if (request._Granted)
+			{
+				return;
+			}
+			if (this.waitsFor(pSession, pSession, new HashSet< Session >()))
+			{
+				this.abandon(request);
+				Metrics.LOCK_DEADLOCKS.increment();
+				throw new LockException("Deadlock on row " + pKey + " of " + pTable);
+			}
+
+			long start = Metrics.ROW_LOCK_WAIT.start();
+			long nanos = this._TimeoutNanos;
+			boolean interrupted = false;
+			try
+			{
+				while (!request._Granted)
+				{
+					if (nanos <= 0)
+					{
+						this.abandon(request);
+						Metrics.LOCK_TIMEOUTS.increment();
+						throw new LockException("Timeout waiting for row " + pKey + " of " + pTable);
+					}
+					try
+					{
+						nanos = request._Condition.awaitNanos(nanos);
+					}
+					catch (InterruptedException e)
+					{
+						interrupted = true;
+					}
+				}
+			}
+			finally
+			{
+				Metrics.ROW_LOCK_WAIT.stop(start);
+				if (interrupted)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		finally
+		{
+			this._Mutex.unlock();
+		}
+	}
+
+	/**
+	 * Gives back every row held by pSession and wakes the requests that
+	 * can go on.
+	 */
+	public void releaseAll(Session pSession)
+	{
+		this._Mutex.lock();
+		try
+		{
+			HashSet< RowKey > keys = this._Held.remove(pSession);
+			if (keys == null)
+			{
+				return;
+			}
+			for (RowKey key : keys)
+			{
+				RowLock lock = this._Locks.get(key);
+				lock._Holders.remove(pSession);
+				this.grantWaiters(lock);
+			}
+		}
+		finally
+		{
+			this._Mutex.unlock();
+		}
+	}
+
+	private void grant(RowLock pLock, Session pSession, int pMode)
+	{
+		pLock._Holders.put(pSession, pMode);
+		HashSet< RowKey > keys = this._Held.get(pSession);
+		if (keys == null)
+		{
+			keys = new HashSet< RowKey >();
+			this._Held.put(pSession, keys);
+		}
+		keys.add(pLock._Key);
+	}
+
+	/**
+	 * Grants the requests at the head of the queue while they fit, and
+	 * forgets the lock when nobody holds it or waits for it.
+	 */
+	private void grantWaiters(RowLock pLock)
+	{
+		while (!pLock._Queue.isEmpty())
+		{
+			Request request = pLock._Queue.getFirst();
+			if (!pLock.isCompatible(request._Session, request._Mode))
+			{
+				break;
+			}
+			pLock._Queue.removeFirst();
+			this._Waiting.remove(request._Session);
+			this.grant(pLock, request._Session, request._Mode);
+			request._Granted = true;
+			request._Condition.signal();
+		}
+		if (pLock._Holders.isEmpty() && pLock._Queue.isEmpty())
+		{
+			this._Locks.remove(pLock._Key);
+		}
+	}
+
+	/**
+	 * Takes a request that will not wait any more out of its queue; the
+	 * ones behind it may fit now.
+	 */
+	private void abandon(Request pRequest)
+	{
+		pRequest._Lock._Queue.remove(pRequest);
+		this._Waiting.remove(pRequest._Session);
+		this.grantWaiters(pRequest._Lock);
+	}
+
+	/**
+	 * Follows the wait-for graph from pFrom.
+	 * @return True if pFrom waits, directly or not, for pTarget.
+	 */
+	private boolean waitsFor(Session pFrom, Session pTarget, HashSet< Session > pVisited)
+	{
+		Request request = this._Waiting.get(pFrom);
+		if (request == null || !pVisited.add(pFrom))
+		{
+			return false;
+		}
+		for (Session blocker : request.getBlockers())
+		{
+			if (blocker == pTarget || this.waitsFor(blocker, pTarget, pVisited))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Name of a row.
+	 */
+	private static class RowKey
+	{
+		private final String _Database;
+		private final String _Table;
+		private final String _Key;
+		private final int _Hash;
+
+		RowKey(String pDatabase, String pTable, String pKey)
+		{
+			this._Database = pDatabase;
+			this._Table = pTable;
+			this._Key = pKey;
+			this._Hash = (String.valueOf(pDatabase).hashCode() * 31 + pTable.hashCode()) * 31 + pKey.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object pOther)
+		{
+			if (!(pOther instanceof RowKey))
+			{
+				return false;
+			}
+			RowKey other = (RowKey) pOther;
+			return this._Key.equals(other._Key) && this._Table.equals(other._Table)
+					&& String.valueOf(this._Database).equals(String.valueOf(other._Database));
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return this._Hash;
+		}
+	}
+
+	/**
+	 * Holders and queue of one row.
+	 */
+	private static class RowLock
+	{
+		private final RowKey _Key;
+		private final HashMap< Session, Integer > _Holders = new HashMap< Session, Integer >();
+		private final LinkedList< Request > _Queue = new LinkedList< Request >();
+
+		RowLock(RowKey pKey)
+		{
+			this._Key = pKey;
+		}
+
+		/**
+		 * True if the other holders allow pSession to hold the row in pMode.
+		 */
+		boolean isCompatible(Session pSession, int pMode)
+		{
+			for (Map.Entry< Session, Integer > holder : this._Holders.entrySet())
+			{
+				if (holder.getKey() != pSession && (pMode == EXCLUSIVE || holder.getValue() == EXCLUSIVE))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * A session waiting for a row.
+	 */
+	private static class Request
+	{
+		private final RowLock _Lock;
+		private final Session _Session;
+		private final int _Mode;
+		private final Condition _Condition;
+		private boolean _Granted;
+
+		Request(RowLock pLock, Session pSession, int pMode, Condition pCondition)
+		{
+			this._Lock = pLock;
+			this._Session = pSession;
+			this._Mode = pMode;
+			this._Condition = pCondition;
+		}
+
+		/**
+		 * Sessions this request waits for: the holders it conflicts with
+		 * and the requests ahead of it in the queue that conflict with it.
+		 */
+		LinkedList< Session > getBlockers()
+		{
+			LinkedList< Session > blockers = new LinkedList< Session >();
+			for (Map.Entry< Session, Integer > holder : this._Lock._Holders.entrySet())
+			{
+				if (holder.getKey() != this._Session && (this._Mode == EXCLUSIVE || holder.getValue() == EXCLUSIVE))
+				{
+					blockers.add(holder.getKey());
+				}
+			}
+			Iterator< Request > ahead = this._Lock._Queue.iterator();
+			while (ahead.hasNext())
+			{
+				Request request = ahead.next();
+				if (request == this)
+				{
+					break;
+				}
+				if (request._Session != this._Session && (this._Mode == EXCLUSIVE || request._Mode == EXCLUSIVE))
+				{
+					blockers.add(request._Session);
+				}
+			}
+			return blockers;
+		}
+	}
+}
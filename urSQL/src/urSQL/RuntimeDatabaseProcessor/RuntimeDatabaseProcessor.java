@@ -1,7 +1,11 @@
 package urSQL.RuntimeDatabaseProcessor;
 
+import urSQL.Metrics.Metrics;
+import urSQL.Metrics.OperationTimer;
 import urSQL.RuntimeDatabaseProcessor.Rutine.Routine;
+import urSQL.StoredDataManager.Transaction;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 
 public class RuntimeDatabaseProcessor 
 {
@@ -12,9 +16,104 @@ public class RuntimeDatabaseProcessor
 		this._LastRutine = null;
 	}
 	
-	public ResultSet playRoutine(Routine pRoutine)
+	public ResultSet playRoutine(Routine pRoutine, Session pSession)
 	{
 		this._LastRutine = pRoutine;
-		return pRoutine.execute();
+		OperationTimer timer = Metrics.timer(Metrics.ROUTINE_PREFIX + pRoutine.getCommand());
+		long start = timer.start();
+		TableLocks locks = new TableLocks(pSession.getDatabase());
+		pRoutine.lockTables(locks);
+		if (pSession.getTransaction() != null)
+		{
+			try
+			{
+				return this.playInTransaction(pRoutine, pSession, locks);
+			}
+			finally
+			{
+				timer.stop(start);
+			}
+		}
+		locks.acquire();
+		try
+		{
+			return pRoutine.execute(pSession);
+		}
+		finally
+		{
+			RowLockManager.getInstance().releaseAll(pSession);
+			locks.release();
+			timer.stop(start);
+		}
+	}
+
+	/**
+	 * Runs a routine inside the transaction of the session. Its locks
+	 * join the ones of the transaction, which keeps them until it ends,
+	 * and a lock not granted in time rolls the transaction back. Routines
+	 * that change tables whole do not write through the transaction and
+	 * are refused.
+	 */
+	private ResultSet playInTransaction(Routine pRoutine, Session pSession, TableLocks pLocks)
+	{
+		if (pLocks.hasExclusive())
+		{
+			System.out.println("Error: " + pRoutine.getCommand() + " is not allowed inside a transaction");
+			return null;
+		}
+		pLocks.escalate();
+		try
+		{
+			pLocks.acquire(pSession.getTransactionLocks());
+			return pRoutine.execute(pSession);
+		}
+		catch (LockException e)
+		{
+			endTransaction(pSession, false);
+			throw new LockException(e.getMessage() + "; the transaction was rolled back");
+		}
+	}
+
+	/**
+	 * Opens a transaction for the session.
+	 * @return False if the session already has one.
+	 */
+	public static boolean beginTransaction(Session pSession)
+	{
+		if (pSession.getTransaction() != null)
+		{
+			return false;
+		}
+		pSession.setTransaction(new Transaction(), new TableLocks(pSession.getDatabase()));
+		return true;
+	}
+
+	/**
+	 * Commits or rolls back the transaction of the session, if it has
+	 * one, and releases its locks.
+	 * @return False if the commit failed.
+	 */
+	public static boolean endTransaction(Session pSession, boolean pCommit)
+	{
+		Transaction transaction = pSession.getTransaction();
+		if (transaction == null)
+		{
+			return true;
+		}
+		try
+		{
+			if (pCommit)
+			{
+				return transaction.commit();
+			}
+			transaction.rollback();
+			return true;
+		}
+		finally
+		{
+			RowLockManager.getInstance().releaseAll(pSession);
+			pSession.getTransactionLocks().release();
+			pSession.setTransaction(null, null);
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package urSQL.RuntimeDatabaseProcessor.Rutine;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import urSQL.StoredDataManager.ReadCounters;
+import urSQL.System.ResultSet;
+
+/**
+ * OperatorProfile measures one step of a routine for EXPLAIN ANALYZE:
+ * the rows it received and returned, its wall time, the bytes read
+ * from the tree files, the tree nodes found in memory or read from
+ * disk and the bytes allocated by the thread while it ran.
+ * @author ArturoMora™
+ *
+ */
+public class OperatorProfile
+{
+	/**
+	 * Rows received and returned by the step.
+	 */
+	protected int _RowsIn;
+	protected int _RowsOut;
+
+	/**
+	 * Counters when the step started, replaced by the differences
+	 * when it finished.
+	 */
+	protected long _Nanos;
+	protected long _BytesRead;
+	protected long _CacheHits;
+	protected long _CacheMisses;
+	protected long _AllocatedBytes;
+
+	/**
+	 * Starts measuring a step.
+	 * @param pInput Rows the step receives, may be null.
+	 */
+	public OperatorProfile(ResultSet pInput)
+	{
+		this._RowsIn = rows(pInput);
+		this._AllocatedBytes = allocatedBytes();
+		this._BytesRead = ReadCounters.getBytesRead();
+		this._CacheHits = ReadCounters.getCacheHits();
+		this._CacheMisses = ReadCounters.getCacheMisses();
+		this._Nanos = System.nanoTime();
+	}
+
+	/**
+	 * Stops measuring the step.
+	 * @param pOutput Rows the step returned, may be null.
+	 */
+	public void stop(ResultSet pOutput)
+	{
+		this._Nanos = System.nanoTime() - this._Nanos;
+		this._CacheMisses = ReadCounters.getCacheMisses() - this._CacheMisses;
+		this._CacheHits = ReadCounters.getCacheHits() - this._CacheHits;
+		this._BytesRead = ReadCounters.getBytesRead() - this._BytesRead;
+		long allocated = allocatedBytes();
+		this._AllocatedBytes = allocated < 0 ? -1 : allocated - this._AllocatedBytes;
+		this._RowsOut = rows(pOutput);
+	}
+
+	public int getRowsIn()
+	{
+		return this._RowsIn;
+	}
+
+	public int getRowsOut()
+	{
+		return this._RowsOut;
+	}
+
+	/**
+	 * Wall time in milliseconds.
+	 */
+	public double getMillis()
+	{
+		return this._Nanos / 1e6;
+	}
+
+	public long getBytesRead()
+	{
+		return this._BytesRead;
+	}
+
+	public long getCacheHits()
+	{
+		return this._CacheHits;
+	}
+
+	public long getCacheMisses()
+	{
+		return this._CacheMisses;
+	}
+
+	/**
+	 * Bytes allocated by the thread, -1 when the JVM cannot tell.
+	 */
+	public long getAllocatedBytes()
+	{
+		return this._AllocatedBytes;
+	}
+
+	/**
+	 * Rows of a result, 0 for none.
+	 */
+	static int rows(ResultSet pResultSet)
+	{
+		if (pResultSet == null || pResultSet.getTableData() == null)
+		{
+			return 0;
+		}
+		return pResultSet.getTableData().getData().size();
+	}
+
+	/**
+	 * Bytes allocated so far by the current thread, only known in
+	 * JVMs that expose com.sun.management.ThreadMXBean.
+	 */
+	private static long allocatedBytes()
+	{
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean)
+		{
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled())
+			{
+				return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+}
@@ -2,8 +2,14 @@ package urSQL.RuntimeDatabaseProcessor.Rutine;
 
 import java.util.Iterator;
 import java.util.LinkedList;
+
+import urSQL.Metrics.ComponentEvent;
+import urSQL.RuntimeDatabaseProcessor.Components.BindableComponent;
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
 import urSQL.RuntimeDatabaseProcessor.Components.Component;
+import urSQL.RuntimeDatabaseProcessor.Components.LockingComponent;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 
 public abstract class Routine 
 {
@@ -17,6 +23,12 @@ public abstract class Routine
 	 */
 	public String _Command;
 	
+	/**
+	 * Measures of each component for EXPLAIN ANALYZE, null when the
+	 * routine is not being profiled.
+	 */
+	protected LinkedList< OperatorProfile > _Profiles = null;
+	
 	/**
 	 * 
 	 * @param pComponents
@@ -39,23 +51,99 @@ public abstract class Routine
 	 * 
 	 * @return
 	 */
-	public abstract ResultSet execute();
+	public abstract ResultSet execute(Session pSession);
+	
+	/**
+	 * Creates a routine of the same kind with other components.
+	 * @param pComponents
+	 */
+	protected abstract Routine newRoutine(LinkedList< Component > pComponents);
+	
+	/**
+	 * Creates a copy of the routine with the parameters of a prepared
+	 * statement replaced. Components without values are shared, since
+	 * they keep nothing between executions.
+	 * @param pParameters Values of the parameters, in order.
+	 */
+	public Routine bind(String[] pParameters)
+	{
+		LinkedList< Component > components = new LinkedList< Component >();
+		Iterator< Component > componentIterator = this._Components.iterator();
+		while ( componentIterator.hasNext() )
+		{
+			Component component = componentIterator.next();
+			if (component instanceof BindableComponent)
+			{
+				component = ((BindableComponent) component).bind(pParameters);
+			}
+			components.add(component);
+		}
+		return this.newRoutine(components);
+	}
 	
 	/**
 	 * 
 	 * @return
 	 */
-	public ResultSet runPlan()
+	public ResultSet runPlan(Session pSession)
 	{
 		ResultSet resultTable = null;
 		Iterator< Component > componentIterator = this._Components.iterator();
 		while ( componentIterator.hasNext() )
 		{
-			resultTable = componentIterator.next().apply(resultTable);
+			Component component = componentIterator.next();
+			OperatorProfile profile = null;
+			if (this._Profiles != null)
+			{
+				profile = new OperatorProfile(resultTable);
+			}
+			ComponentEvent event = new ComponentEvent();
+			event.begin();
+			ResultSet input = resultTable;
+			resultTable = component.apply(pSession, resultTable);
+			event.end();
+			if (event.shouldCommit())
+			{
+				event.component = component.getClass().getSimpleName();
+				event.table = resultTable != null && resultTable.getTableMetadata() != null ?
+						resultTable.getTableMetadata().getTableName() : null;
+				event.rowsIn = OperatorProfile.rows(input);
+				event.rowsOut = OperatorProfile.rows(resultTable);
+				event.commit();
+			}
+			if (profile != null)
+			{
+				profile.stop(resultTable);
+				this._Profiles.add(profile);
+			}
 		}
 		return (resultTable);
 	}
 	
+	/**
+	 * Adds the tables the routine reads and changes, which are locked
+	 * while it runs.
+	 */
+	public void lockTables(TableLocks pLocks)
+	{
+		for (Component component : this._Components)
+		{
+			if (component instanceof LockingComponent)
+			{
+				((LockingComponent) component).lockTables(pLocks);
+			}
+		}
+	}
+	
+	/**
+	 * Makes runPlan measure each component, in order.
+	 * @param pProfiles Receives the measures, null to stop measuring.
+	 */
+	public void setProfiles(LinkedList< OperatorProfile > pProfiles)
+	{
+		this._Profiles = pProfiles;
+	}
+	
 	/**
 	 * 
 	 * @param pComponents
@@ -1,5 +1,9 @@
 package urSQL.RuntimeDatabaseProcessor.Rutine;
+import java.util.LinkedList;
+
+import urSQL.RuntimeDatabaseProcessor.Components.Component;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
 
 public class RoutineDLL extends Routine
 {
@@ -51,9 +55,17 @@ public class RoutineDLL extends Routine
 	}
 
 	@Override
-	public ResultSet execute() 
+	protected Routine newRoutine(LinkedList< Component > pComponents)
+	{
+		Routine routine = new RoutineDLL(this._Command);
+		routine.setComponents(pComponents);
+		return routine;
+	}
+
+	@Override
+	public ResultSet execute(Session pSession) 
 	{
-		return runPlan();
+		return runPlan(pSession);
 	}
 
 }
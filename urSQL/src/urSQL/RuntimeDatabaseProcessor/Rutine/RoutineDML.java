@@ -1,13 +1,21 @@
 package urSQL.RuntimeDatabaseProcessor.Rutine;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 
 import urSQL.RuntimeDatabaseProcessor.DataIntegrityManager;
+import urSQL.RuntimeDatabaseProcessor.RowLockManager;
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
 import urSQL.RuntimeDatabaseProcessor.Components.Component;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentFrom;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentSet;
+import urSQL.RuntimeDatabaseProcessor.Components.ComponentWhere;
+import urSQL.RuntimeDatabaseProcessor.Components.LockingComponent;
 import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableMetadata;
 import urSQL.System.TableRegister;
-import urSQL.SystemCatalog.SystemCatalog;
 
 public class RoutineDML extends Routine
 {
@@ -53,10 +61,42 @@ public class RoutineDML extends Routine
 	}
 	
 	@Override
-	public ResultSet execute() 
+	protected Routine newRoutine(LinkedList< Component > pComponents)
+	{
+		return new RoutineDML(this._Command, pComponents);
+	}
+	
+	/**
+	 * INSERT, DELETE and SET change rows of the table of their FROM,
+	 * which they hold intention exclusive; each row they write is locked
+	 * by RowLockManager, so writers of different rows do not wait.
+	 */
+	@Override
+	public void lockTables(TableLocks pLocks)
+	{
+		if (this._Command.equalsIgnoreCase(CONSTANT_SELECT))
+		{
+			super.lockTables(pLocks);
+			return;
+		}
+		for (Component component : this._Components)
+		{
+			if (component instanceof ComponentFrom)
+			{
+				pLocks.intentionExclusive(((ComponentFrom) component).getTableNames().getFirst());
+			}
+			else if (component instanceof LockingComponent)
+			{
+				((LockingComponent) component).lockTables(pLocks);
+			}
+		}
+	}
+	
+	@Override
+	public ResultSet execute(Session pSession) 
 	{
 		// Plan Execution - Relational Algebra
-		ResultSet resultPartial = this.runPlan();
+		ResultSet resultPartial = this.runPlan(pSession);
 	
 		// Final response to the queried
 		// ResultSet resultFinalExtreme = null;
@@ -69,7 +109,7 @@ public class RoutineDML extends Routine
 			DataIntegrityManager referencialIM = new DataIntegrityManager();
 						
 			// Data Execution
-			this.deleteRows(resultPartial);
+			this.deleteRows(pSession, resultPartial);
 			//referencialIM.makeReview(resultPartial);
 			
 		}
@@ -83,7 +123,7 @@ public class RoutineDML extends Routine
 			//referencialIM.makeReview(resultPartial);
 
 			// Data Execution
-			this.insertRows(resultPartial);			
+			this.insertRows(pSession, resultPartial);			
 		}
 		
 		// Instruction for a Delete Routine
@@ -95,7 +135,7 @@ public class RoutineDML extends Routine
 			//referencialIM.makeReview(resultPartial);
 
 			// Data Execution
-			this.updateRows(resultPartial);			
+			this.updateRows(pSession, resultPartial);			
 		}
 		
 		// Instruction for a Delete Routine
@@ -108,10 +148,91 @@ public class RoutineDML extends Routine
 		return (resultPartial);
 	}
 	
-	private ResultSet insertRows(ResultSet pResultSet)
+	/**
+	 * Locks the rows exclusive by primary key, all of them before any
+	 * is written, so a failed lock leaves the table as it was.
+	 * @return Keys of the rows, in order.
+	 */
+	private LinkedList< String > lockRows(Session pSession, ResultSet pResultSet)
+	{
+		TableMetadata metadata = pResultSet.getTableMetadata();
+		int pkIndex = metadata.indexByName(metadata.getPrimaryKey().getName());
+		RowLockManager rowLocks = RowLockManager.getInstance();
+		LinkedList< String > keys = new LinkedList< String >();
+		for (TableRegister register : pResultSet.getTableData().getData())
+		{
+			String key = register.getRegister().get(pkIndex);
+			rowLocks.lock(pSession, pSession.getDatabase(), metadata.getTableName(), key, RowLockManager.EXCLUSIVE);
+			keys.add(key);
+		}
+		return keys;
+	}
+	
+	/**
+	 * Reads the locked rows again: another routine may have changed or
+	 * deleted them between the scan and the lock, so the WHERE is
+	 * checked once more over what is there now.
+	 * @return The rows that still exist and still accomplish the WHERE,
+	 * by primary key.
+	 */
+	private HashMap< String, LinkedList< String > > currentRows(Session pSession, StoreDataManager pSdm,
+			TableMetadata pMetadata, LinkedList< String > pKeys)
+	{
+		int pkIndex = pMetadata.indexByName(pMetadata.getPrimaryKey().getName());
+		LinkedList< ComponentWhere > conditions = this.getConditions();
+		HashMap< String, LinkedList< String > > rows = new HashMap< String, LinkedList< String > >();
+		for (LinkedList< String > row : pSdm.getTableByKeys(pSession.getDatabase(), pMetadata.getTableName(),
+				pKeys, null, null))
+		{
+			if (accepts(conditions, pMetadata, row))
+			{
+				rows.put(row.get(pkIndex), row);
+			}
+		}
+		return rows;
+	}
+	
+	/**
+	 * @return Conditions of the WHERE of the routine, the one evaluated
+	 * by the scan of the FROM and any applied after it.
+	 */
+	private LinkedList< ComponentWhere > getConditions()
+	{
+		LinkedList< ComponentWhere > conditions = new LinkedList< ComponentWhere >();
+		for (Component component : this._Components)
+		{
+			if (component instanceof ComponentWhere)
+			{
+				conditions.add((ComponentWhere) component);
+			}
+			else if (component instanceof ComponentFrom && ((ComponentFrom) component).getScanFilter() != null)
+			{
+				conditions.add(((ComponentFrom) component).getScanFilter());
+			}
+		}
+		return conditions;
+	}
+	
+	private static boolean accepts(LinkedList< ComponentWhere > pConditions, TableMetadata pMetadata,
+			LinkedList< String > pRow)
+	{
+		for (ComponentWhere condition : pConditions)
+		{
+			if (!condition.accepts(pMetadata, pRow))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private ResultSet insertRows(Session pSession, ResultSet pResultSet)
 	{
 		// Disk Data Manager
-		StoreDataManager sDm = new StoreDataManager();
+		StoreDataManager sDm = new StoreDataManager(pSession.getDatabase(), pSession.getTransaction());
+		
+		// Two inserts of the same key wait for each other
+		this.lockRows(pSession, pResultSet);
 		
 		
 		// Iterator for the Registers
@@ -126,30 +247,31 @@ public class RoutineDML extends Routine
 		return null;
 	}
 	
-	private ResultSet deleteRows(ResultSet pResultSet)
+	private ResultSet deleteRows(Session pSession, ResultSet pResultSet)
 	{
 		// Table Name
 		String tableName = pResultSet.getTableMetadata().getTableName();
 		
-		// Primary Key Index
-		int pkIndex = pResultSet.getTableMetadata().indexByName(pResultSet.getTableMetadata().getPrimaryKey().getName());
-		
 		// Disk Data Manager
-		StoreDataManager sDm = new StoreDataManager();
-		
-		// Iterator for the Registers
-		Iterator< TableRegister > it = pResultSet.getTableData().getData().iterator();
+		StoreDataManager sDm = new StoreDataManager(pSession.getDatabase(), pSession.getTransaction());
 		
+		// Locks every row, then skips the ones already deleted or that
+		// no longer accomplish the WHERE
+		LinkedList< String > keys = this.lockRows(pSession, pResultSet);
+		HashMap< String, LinkedList< String > > current = 
+				this.currentRows(pSession, sDm, pResultSet.getTableMetadata(), keys);
 		
-		while(it.hasNext())
+		for (String key : keys)
 		{
-			sDm.deleteRow(SystemCatalog.getInstance().getCurrentDatabase(), 
-				          tableName, it.next().getRegister().get(pkIndex));
+			if (current.containsKey(key))
+			{
+				sDm.deleteRow(pSession.getDatabase(), tableName, key);
+			}
 		}
 		return null;
 	}
 	
-	private ResultSet updateRows(ResultSet pResultSet)
+	private ResultSet updateRows(Session pSession, ResultSet pResultSet)
 	{
 		// Table Name
 		String tableName = pResultSet.getTableMetadata().getTableName();
@@ -159,7 +281,14 @@ public class RoutineDML extends Routine
 				                .getTableMetadata().getPrimaryKey().getName());
 		
 		// Disk Data Manager
-		StoreDataManager sDm = new StoreDataManager();
+		StoreDataManager sDm = new StoreDataManager(pSession.getDatabase(), pSession.getTransaction());
+		
+		// Locks every row and reads it again, so only the column of the
+		// SET is written over what other routines left
+		LinkedList< String > keys = this.lockRows(pSession, pResultSet);
+		HashMap< String, LinkedList< String > > current = 
+				this.currentRows(pSession, sDm, pResultSet.getTableMetadata(), keys);
+		int setIndex = pResultSet.getTableMetadata().indexByName(this.getSetColumn());
 		
 		// Iterator for the Registers
 		Iterator< TableRegister > it = pResultSet.getTableData().getData().iterator();
@@ -170,7 +299,28 @@ public class RoutineDML extends Routine
 			
 			String pk = register.get(pkIndex);
 			
-			sDm.updateRegister(tableName, pk, register);
+			LinkedList<String> row = current.get(pk);
+			if (row == null)
+			{
+				continue; // Deleted or changed out of the WHERE after the scan
+			}
+			row.set(setIndex, register.get(setIndex));
+			sDm.updateRegister(tableName, pk, row);
+		}
+		return null;
+	}
+	
+	/**
+	 * @return Column replaced by the SET of the routine.
+	 */
+	private String getSetColumn()
+	{
+		for (Component component : this._Components)
+		{
+			if (component instanceof ComponentSet)
+			{
+				return ((ComponentSet) component).getColumnName();
+			}
 		}
 		return null;
 	}
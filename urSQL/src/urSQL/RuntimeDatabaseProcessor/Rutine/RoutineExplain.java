@@ -0,0 +1,160 @@
+package urSQL.RuntimeDatabaseProcessor.Rutine;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
+import urSQL.RuntimeDatabaseProcessor.Components.Component;
+import urSQL.System.ResultSet;
+import urSQL.System.Session;
+import urSQL.System.TableAttribute;
+import urSQL.System.TableData;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableRegister;
+
+/**
+ * RoutineExplain describes the components of another routine, one row
+ * per component with the step of the plan it comes from and the rows
+ * the optimizer expects. With ANALYZE the routine is executed, writes
+ * included, and each row also shows what the component really did.
+ * @author ArturoMora™
+ *
+ */
+public class RoutineExplain extends Routine
+{
+	/**
+	 * Constant for the SQL Word EXPLAIN
+	 */
+	public static final String CONSTANT_EXPLAIN = "EXPLAIN";
+
+	/**
+	 * Routine that is described.
+	 */
+	protected Routine _Routine;
+
+	/**
+	 * Step of the plan of each component, in order.
+	 */
+	protected LinkedList< String > _Descriptions;
+
+	/**
+	 * Rows expected from each component, -1 when unknown.
+	 */
+	protected LinkedList< Double > _Estimates;
+
+	/**
+	 * True to execute the routine and measure it.
+	 */
+	protected boolean _Analyze;
+
+	public RoutineExplain(Routine pRoutine, LinkedList< String > pDescriptions,
+			LinkedList< Double > pEstimates, boolean pAnalyze)
+	{
+		super(CONSTANT_EXPLAIN, pRoutine.getComponents());
+		this._Routine = pRoutine;
+		this._Descriptions = pDescriptions;
+		this._Estimates = pEstimates;
+		this._Analyze = pAnalyze;
+	}
+
+	@Override
+	protected Routine newRoutine(LinkedList< Component > pComponents)
+	{
+		return new RoutineExplain(this._Routine.newRoutine(pComponents), this._Descriptions,
+				this._Estimates, this._Analyze);
+	}
+
+	/**
+	 * Only ANALYZE runs the routine and touches its tables.
+	 */
+	@Override
+	public void lockTables(TableLocks pLocks)
+	{
+		if (this._Analyze)
+		{
+			this._Routine.lockTables(pLocks);
+		}
+	}
+
+	@Override
+	public ResultSet execute(Session pSession)
+	{
+		LinkedList< OperatorProfile > profiles = null;
+		OperatorProfile total = null;
+		if (this._Analyze)
+		{
+			profiles = new LinkedList< OperatorProfile >();
+			this._Routine.setProfiles(profiles);
+			total = new OperatorProfile(null);
+			try
+			{
+				total.stop(this._Routine.execute(pSession));
+			}
+			finally
+			{
+				this._Routine.setProfiles(null);
+			}
+		}
+
+		TableData data = new TableData();
+		Iterator< Component > componentIterator = this._Components.iterator();
+		Iterator< OperatorProfile > profileIterator = profiles != null ? profiles.iterator() : null;
+		for (int i = 0; componentIterator.hasNext(); i++)
+		{
+			LinkedList< String > register = new LinkedList< String >();
+			register.add(String.valueOf(i + 1));
+			register.add(componentIterator.next().getClass().getSimpleName());
+			register.add(i < this._Descriptions.size() ? this._Descriptions.get(i) : "");
+			double estimate = i < this._Estimates.size() ? this._Estimates.get(i) : -1;
+			register.add(estimate < 0 ? "?" : String.format("%.0f", estimate));
+			if (profileIterator != null && profileIterator.hasNext())
+			{
+				addMeasures(register, profileIterator.next());
+			}
+			data.getData().add(new TableRegister(register));
+		}
+		if (total != null)
+		{
+			// The writes of INSERT, UPDATE and DELETE are done after the components
+			LinkedList< String > register = new LinkedList< String >();
+			register.add("");
+			register.add("Total");
+			register.add(this._Routine.getCommand());
+			register.add("");
+			addMeasures(register, total);
+			data.getData().add(new TableRegister(register));
+		}
+		return new ResultSet(data, this.columns());
+	}
+
+	private void addMeasures(LinkedList< String > pRegister, OperatorProfile pProfile)
+	{
+		pRegister.add(String.valueOf(pProfile.getRowsIn()));
+		pRegister.add(String.valueOf(pProfile.getRowsOut()));
+		pRegister.add(String.format("%.3f", pProfile.getMillis()));
+		pRegister.add(String.valueOf(pProfile.getBytesRead()));
+		pRegister.add(String.valueOf(pProfile.getCacheHits()));
+		pRegister.add(String.valueOf(pProfile.getCacheMisses()));
+		pRegister.add(pProfile.getAllocatedBytes() < 0 ? "?" : String.valueOf(pProfile.getAllocatedBytes()));
+	}
+
+	private TableMetadata columns()
+	{
+		LinkedList< TableAttribute > columns = new LinkedList< TableAttribute >();
+		columns.add(new TableAttribute("step", TableAttribute.TYPE_INT));
+		columns.add(new TableAttribute("component", TableAttribute.TYPE_VARCHAR));
+		columns.add(new TableAttribute("plan", TableAttribute.TYPE_VARCHAR));
+		columns.add(new TableAttribute("estimated_rows", TableAttribute.TYPE_VARCHAR));
+		if (this._Analyze)
+		{
+			columns.add(new TableAttribute("rows_in", TableAttribute.TYPE_INT));
+			columns.add(new TableAttribute("rows_out", TableAttribute.TYPE_INT));
+			columns.add(new TableAttribute("time_ms", TableAttribute.TYPE_DECIMAL));
+			columns.add(new TableAttribute("bytes_read", TableAttribute.TYPE_INT));
+			columns.add(new TableAttribute("cache_hits", TableAttribute.TYPE_INT));
+			columns.add(new TableAttribute("cache_misses", TableAttribute.TYPE_INT));
+			columns.add(new TableAttribute("allocated_bytes", TableAttribute.TYPE_VARCHAR));
+		}
+		return new TableMetadata(CONSTANT_EXPLAIN, columns, null);
+	}
+}
@@ -0,0 +1,206 @@
+package urSQL.RuntimeDatabaseProcessor;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import urSQL.Metrics.Metrics;
+
+/**
+ * TableLocks is the set of locks a routine holds while it runs: shared
+ * on the tables it reads, exclusive on the ones it changes whole and
+ * intention exclusive on the ones it changes row by row. Every table
+ * also takes its database in shared mode, so DROP DATABASE, which takes
+ * it exclusive, waits for the routines inside. The locks are taken in
+ * the order of their names, the same for every routine, so two routines
+ * never wait for each other.
+ *
+ * Inside a transaction the locks of each routine are added to the ones
+ * the transaction already holds, which keep them until it ends; those
+ * requests wait at most the lock timeout of RowLockManager.
+ * @author ArturoMora™
+ *
+ */
+public class TableLocks
+{
+	private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(
+			Long.getLong(RowLockManager.TIMEOUT_PROPERTY, RowLockManager.DEFAULT_TIMEOUT));
+
+	/**
+	 * Database of the tables, null when the session has none.
+	 */
+	private final String _Database;
+
+	/**
+	 * Mode of each name, sorted.
+	 */
+	private final TreeMap< String, Integer > _Names;
+
+	private boolean _Held;
+
+	public TableLocks(String pDatabase)
+	{
+		this._Database = pDatabase;
+		this._Names = new TreeMap< String, Integer >();
+	}
+
+	/**
+	 * Adds a table that is read.
+	 */
+	public void shared(String pTable)
+	{
+		if (this._Database != null)
+		{
+			this.add(this._Database, LockManager.SHARED);
+			this.add(name(this._Database, pTable), LockManager.SHARED);
+		}
+	}
+
+	/**
+	 * Adds a table that is changed.
+	 */
+	public void exclusive(String pTable)
+	{
+		if (this._Database != null)
+		{
+			this.add(this._Database, LockManager.SHARED);
+			this.add(name(this._Database, pTable), LockManager.EXCLUSIVE);
+		}
+	}
+
+	/**
+	 * Adds a table whose rows are changed, each under a row lock.
+	 */
+	public void intentionExclusive(String pTable)
+	{
+		if (this._Database != null)
+		{
+			this.add(this._Database, LockManager.SHARED);
+			this.add(name(this._Database, pTable), LockManager.INTENTION_EXCLUSIVE);
+		}
+	}
+
+	/**
+	 * Adds a whole database, which may not be the one of the session.
+	 */
+	public void exclusiveDatabase(String pDatabase)
+	{
+		this.add(pDatabase, LockManager.EXCLUSIVE);
+	}
+
+	public String getDatabase()
+	{
+		return this._Database;
+	}
+
+	/**
+	 * True if some table or database of the set is taken exclusive.
+	 */
+	public boolean hasExclusive()
+	{
+		return this._Names.containsValue(LockManager.EXCLUSIVE);
+	}
+
+	/**
+	 * Turns intention exclusive into exclusive. A transaction keeps the
+	 * trees it writes open until it ends, so no other routine may write
+	 * those tables, even other rows.
+	 */
+	public void escalate()
+	{
+		for (Map.Entry< String, Integer > entry : this._Names.entrySet())
+		{
+			if (entry.getValue() == LockManager.INTENTION_EXCLUSIVE)
+			{
+				entry.setValue(LockManager.EXCLUSIVE);
+			}
+		}
+	}
+
+	/**
+	 * Waits for every lock of the set.
+	 */
+	public void acquire()
+	{
+		LockManager manager = LockManager.getInstance();
+		for (Map.Entry< String, Integer > entry : this._Names.entrySet())
+		{
+			manager.lock(entry.getKey(), entry.getValue());
+		}
+		this._Held = true;
+	}
+
+	/**
+	 * Takes the locks of the set that pHeld, the locks of a transaction,
+	 * does not cover yet, and adds them to pHeld. A shared lock held by
+	 * the transaction is upgraded when the set needs it exclusive.
+	 * @throws LockException When a lock is not granted before the
+	 * timeout; the locks taken until then are in pHeld.
+	 */
+	public void acquire(TableLocks pHeld)
+	{
+		LockManager manager = LockManager.getInstance();
+		for (Map.Entry< String, Integer > entry : this._Names.entrySet())
+		{
+			String name = entry.getKey();
+			Integer held = pHeld._Names.get(name);
+			int mode = entry.getValue();
+			if (held != null && (held == mode || held == LockManager.EXCLUSIVE))
+			{
+				continue;
+			}
+			boolean granted;
+			if (held == null)
+			{
+				granted = manager.tryLock(name, mode, TIMEOUT_NANOS);
+			}
+			else
+			{
+				// shared and intention exclusive together are exclusive
+				mode = LockManager.EXCLUSIVE;
+				granted = manager.tryUpgrade(name, held, mode, TIMEOUT_NANOS);
+			}
+			if (!granted)
+			{
+				Metrics.LOCK_TIMEOUTS.increment();
+				throw new LockException("Timeout waiting for the lock of " + name);
+			}
+			pHeld._Names.put(name, mode);
+			pHeld._Held = true;
+		}
+	}
+
+	/**
+	 * Gives back the locks, in the opposite order.
+	 */
+	public void release()
+	{
+		if (!this._Held)
+		{
+			return;
+		}
+		LockManager manager = LockManager.getInstance();
+		for (Map.Entry< String, Integer > entry : this._Names.descendingMap().entrySet())
+		{
+			manager.unlock(entry.getKey(), entry.getValue());
+		}
+		this._Held = false;
+	}
+
+	/**
+	 * Two different modes on one name become exclusive, which covers both.
+	 */
+	private void add(String pName, int pMode)
+	{
+		Integer mode = this._Names.get(pName);
+		this._Names.put(pName, mode == null || mode == pMode ? pMode : LockManager.EXCLUSIVE);
+	}
+
+	/**
+	 * Name of the lock of a table; it sorts right after its database.
+	 */
+	private static String name(String pDatabase, String pTable)
+	{
+		return pDatabase + "/" + pTable;
+	}
+}
@@ -0,0 +1,199 @@
+package urSQL.Server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.LinkedList;
+
+import urSQL.System.ResultSet;
+import urSQL.System.TableAttribute;
+import urSQL.System.TableData;
+import urSQL.System.TableMetadata;
+import urSQL.System.TableRegister;
+
+/**
+ * Client is a connection to a Server. execute sends a statement and
+ * waits for its result; to pipeline, send several statements, flush
+ * and receive their results in the same order. A Client is not meant
+ * to be shared by threads.
+ * @author ArturoMora™
+ *
+ */
+public class Client implements Closeable
+{
+	/**
+	 * Name of the tables of the results, the protocol does not send it.
+	 */
+	public static final String TABLE_NAME = "RESULT";
+
+	private final Socket _Socket;
+	private final DataInputStream _In;
+	private final OutputStream _Out;
+	private final Protocol.Output _Frame;
+
+	public Client(String pHost, int pPort) throws IOException
+	{
+		this._Socket = new Socket(pHost, pPort);
+		this._Socket.setTcpNoDelay(true);
+		this._In = new DataInputStream(new BufferedInputStream(this._Socket.getInputStream(), 64 * 1024));
+		this._Out = new BufferedOutputStream(this._Socket.getOutputStream(), 64 * 1024);
+		this._Frame = new Protocol.Output();
+	}
+
+	/**
+	 * Sends a statement and returns its result.
+	 */
+	public Result execute(String pSql) throws IOException
+	{
+		this.send(pSql);
+		this.flush();
+		return this.receive();
+	}
+
+	/**
+	 * Queues a statement without waiting for its result.
+	 */
+	public void send(String pSql) throws IOException
+	{
+		this._Frame.start(Protocol.QUERY).writeString(pSql).send(this._Out);
+	}
+
+	public void flush() throws IOException
+	{
+		this._Out.flush();
+	}
+
+	/**
+	 * Reads the result of the oldest statement sent.
+	 */
+	public Result receive() throws IOException
+	{
+		Result result = new Result();
+		while (true)
+		{
+			Protocol.Input frame = Protocol.Input.read(this._In);
+			if (frame == null)
+			{
+				throw new IOException("The server closed the connection");
+			}
+			switch (frame.getType())
+			{
+			case Protocol.COLUMNS:
+				LinkedList< TableAttribute > columns = new LinkedList< TableAttribute >();
+				for (int i = frame.readShort(); i > 0; i--)
+				{
+					columns.add(new TableAttribute(frame.readString(), frame.readString()));
+				}
+				result._ResultSet = new ResultSet(new TableData(), new TableMetadata(TABLE_NAME, columns, null));
+				break;
+			case Protocol.ROWS:
+				for (int i = frame.readShort(); i > 0; i--)
+				{
+					LinkedList< String > values = new LinkedList< String >();
+					for (int j = frame.readShort(); j > 0; j--)
+					{
+						values.add(frame.readString());
+					}
+					result._ResultSet.getTableData().getData().add(new TableRegister(values));
+				}
+				break;
+			case Protocol.DONE:
+				result._Executed = frame.readByte() != 0;
+				frame.readInt();
+				return result;
+			case Protocol.ERROR:
+				result._Error = frame.readString();
+				return result;
+			default:
+				throw new IOException("Unexpected frame type " + frame.getType());
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		this._Socket.close();
+	}
+
+	/**
+	 * Result of a statement.
+	 */
+	public static class Result
+	{
+		private boolean _Executed;
+		private String _Error;
+		private ResultSet _ResultSet;
+
+		/**
+		 * @return false if the statement could not run.
+		 */
+		public boolean isExecuted()
+		{
+			return this._Executed;
+		}
+
+		/**
+		 * @return The exception that stopped the statement, null if none.
+		 */
+		public String getError()
+		{
+			return this._Error;
+		}
+
+		/**
+		 * @return The table returned, null if the statement returns none.
+		 */
+		public ResultSet getResultSet()
+		{
+			return this._ResultSet;
+		}
+	}
+
+	/**
+	 * Console that sends each line to a server:
+	 *
+	 *   java urSQL.Server.Client [host [port]]
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		String host = args.length > 0 ? args[0] : "localhost";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : Server.defaultPort();
+		Client client = new Client(host, port);
+		try
+		{
+			BufferedReader console = new BufferedReader(new InputStreamReader(System.in));
+			String line;
+			while ((line = console.readLine()) != null && !line.equals("exit"))
+			{
+				if (line.trim().isEmpty())
+				{
+					continue;
+				}
+				Result result = client.execute(line);
+				if (result.getError() != null)
+				{
+					System.out.println("Error: " + result.getError());
+				}
+				else if (result.getResultSet() != null)
+				{
+					result.getResultSet().print();
+				}
+				else
+				{
+					System.out.println(result.isExecuted() ? "OK" : "Not executed");
+				}
+			}
+		}
+		finally
+		{
+			client.close();
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package urSQL.Server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Protocol defines the frames exchanged by the Server and its clients.
+ * Every frame is the length of the rest of the frame as a 4 byte int,
+ * the type of the frame as a byte and the payload of the type:
+ *
+ *   QUERY    client, statement
+ *   COLUMNS  server, column count as a short, then name and type of each column
+ *   ROWS     server, row count as a short, then value count as a short and the values of each row
+ *   DONE     server, executed as a byte and the total row count as an int
+ *   ERROR    server, message
+ *
+ * Strings are their length in bytes as an int followed by their UTF-8
+ * bytes, a length of -1 is null. Numbers are big endian.
+ *
+ * The answer to a QUERY is COLUMNS, ROWS frames of at most ROW_BATCH
+ * rows and DONE when the statement returns a table, only DONE when it
+ * does not, or ERROR. A client may send several queries before reading
+ * the answers, which come in the same order.
+ * @author ArturoMora™
+ *
+ */
+public class Protocol
+{
+	public static final byte QUERY = 1;
+	public static final byte COLUMNS = 2;
+	public static final byte ROWS = 3;
+	public static final byte DONE = 4;
+	public static final byte ERROR = 5;
+
+	/**
+	 * Rows sent in each ROWS frame.
+	 */
+	public static final int ROW_BATCH = 256;
+
+	/**
+	 * Largest frame accepted, a longer length means the stream is broken.
+	 */
+	public static final int MAX_FRAME = 16 * 1024 * 1024;
+
+	private Protocol()
+	{
+	}
+
+	/**
+	 * Frame being written, kept in memory until it is sent so its
+	 * length can go first. It is reused for every frame of a connection.
+	 */
+	public static class Output
+	{
+		private final ByteArrayOutputStream _Buffer = new ByteArrayOutputStream(8192);
+		private final DataOutputStream _Data = new DataOutputStream(this._Buffer);
+
+		/**
+		 * Discards the previous frame and starts one of a type.
+		 */
+		public Output start(byte pType) throws IOException
+		{
+			this._Buffer.reset();
+			this._Data.writeInt(0);
+			this._Data.writeByte(pType);
+			return this;
+		}
+
+		public Output writeByte(int pValue) throws IOException
+		{
+			this._Data.writeByte(pValue);
+			return this;
+		}
+
+		public Output writeShort(int pValue) throws IOException
+		{
+			this._Data.writeShort(pValue);
+			return this;
+		}
+
+		public Output writeInt(int pValue) throws IOException
+		{
+			this._Data.writeInt(pValue);
+			return this;
+		}
+
+		public Output writeString(String pValue) throws IOException
+		{
+			if (pValue == null)
+			{
+				this._Data.writeInt(-1);
+				return this;
+			}
+			byte[] bytes = pValue.getBytes(StandardCharsets.UTF_8);
+			this._Data.writeInt(bytes.length);
+			this._Data.write(bytes);
+			return this;
+		}
+
+		/**
+		 * Bytes of the frame written so far.
+		 */
+		public int size()
+		{
+			return this._Buffer.size();
+		}
+
+		/**
+		 * Writes the frame with its length. The stream is not flushed.
+		 * @return Bytes written.
+		 */
+		public int send(OutputStream pOut) throws IOException
+		{
+			byte[] frame = this._Buffer.toByteArray();
+			int length = frame.length - 4;
+			frame[0] = (byte) (length >>> 24);
+			frame[1] = (byte) (length >>> 16);
+			frame[2] = (byte) (length >>> 8);
+			frame[3] = (byte) length;
+			pOut.write(frame);
+			return frame.length;
+		}
+	}
+
+	/**
+	 * Frame read from a stream.
+	 */
+	public static class Input
+	{
+		private final byte _Type;
+		private final int _Size;
+		private final DataInputStream _Data;
+
+		private Input(byte[] pPayload)
+		{
+			this._Type = pPayload[0];
+			this._Size = pPayload.length + 4;
+			this._Data = new DataInputStream(new ByteArrayInputStream(pPayload, 1, pPayload.length - 1));
+		}
+
+		/**
+		 * Reads the next frame.
+		 * @return The frame, null if the stream ended between frames.
+		 */
+		public static Input read(DataInputStream pIn) throws IOException
+		{
+			int first = pIn.read();
+			if (first < 0)
+			{
+				return null;
+			}
+			int length = (first << 24) | (pIn.readUnsignedByte() << 16) | (pIn.readUnsignedByte() << 8)
+					| pIn.readUnsignedByte();
+			if (length < 1 || length > MAX_FRAME)
+			{
+				throw new IOException("Invalid frame length " + length);
+			}
+			byte[] payload = new byte[length];
+			pIn.readFully(payload);
+			return new Input(payload);
+		}
+
+		public byte getType()
+		{
+			return this._Type;
+		}
+
+		/**
+		 * Bytes of the frame with its length.
+		 */
+		public int getSize()
+		{
+			return this._Size;
+		}
+
+		public int readByte() throws IOException
+		{
+			return this._Data.readByte();
+		}
+
+		public int readShort() throws IOException
+		{
+			return this._Data.readUnsignedShort();
+		}
+
+		public int readInt() throws IOException
+		{
+			return this._Data.readInt();
+		}
+
+		public String readString() throws IOException
+		{
+			int length = this._Data.readInt();
+			if (length < 0)
+			{
+				return null;
+			}
+			if (length > this._Data.available())
+			{
+				throw new EOFException("String of " + length + " bytes past the end of the frame");
+			}
+			byte[] bytes = new byte[length];
+			this._Data.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+}
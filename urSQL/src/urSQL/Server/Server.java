@@ -0,0 +1,184 @@
+package urSQL.Server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import urSQL.Metrics.Metrics;
+
+/**
+ * Server accepts connections over TCP and runs the statements they
+ * send, following the Protocol. Each connection is served by its own
+ * thread and has its own QueryProcessor. START and STOP start and stop
+ * the server of the process; it can also run alone:
+ *
+ *   java urSQL.Server.Server [port]
+ *
+ * Statements of different connections run at the same time; the
+ * routines lock the tables they read and change (see TableLocks).
+ * @author ArturoMora™
+ *
+ */
+public class Server
+{
+	/**
+	 * System property with the port, DEFAULT_PORT when it is not set.
+	 */
+	public static final String PORT_PROPERTY = "urSQL.port";
+	public static final int DEFAULT_PORT = 4730;
+
+	/**
+	 * Server of the process, null when it is not running.
+	 */
+	private static Server _Running;
+
+	private final ServerSocket _Socket;
+	private final ExecutorService _Workers;
+	private final Set< ServerConnection > _Connections;
+	private final Thread _Acceptor;
+
+	private Server(ServerSocket pSocket)
+	{
+		this._Socket = pSocket;
+		this._Connections = ConcurrentHashMap.newKeySet();
+		this._Workers = Executors.newCachedThreadPool(new ThreadFactory()
+		{
+			private final AtomicInteger _Next = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable pRunnable)
+			{
+				Thread thread = new Thread(pRunnable, "urSQL-connection-" + this._Next.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this._Acceptor = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				accept();
+			}
+		}, "urSQL-server");
+	}
+
+	/**
+	 * Port of PORT_PROPERTY or DEFAULT_PORT.
+	 */
+	public static int defaultPort()
+	{
+		return Integer.getInteger(PORT_PROPERTY, DEFAULT_PORT);
+	}
+
+	/**
+	 * Starts the server of the process.
+	 * @param pPort Port to listen on, 0 for any free port.
+	 * @return The port it listens on.
+	 * @throws IllegalStateException If it is already running.
+	 */
+	public static synchronized int start(int pPort) throws IOException
+	{
+		if (_Running != null)
+		{
+			throw new IllegalStateException("The server is already running on port " + _Running.getPort());
+		}
+		ServerSocket socket = new ServerSocket();
+		socket.setReuseAddress(true);
+		socket.bind(new InetSocketAddress(pPort));
+		_Running = new Server(socket);
+		_Running._Acceptor.start();
+		return socket.getLocalPort();
+	}
+
+	/**
+	 * Stops the server of the process and closes its connections; a
+	 * statement that is running ends first.
+	 * @return false if it was not running.
+	 */
+	public static synchronized boolean stop()
+	{
+		if (_Running == null)
+		{
+			return false;
+		}
+		Server server = _Running;
+		_Running = null;
+		try
+		{
+			server._Socket.close();
+		}
+		catch (IOException e)
+		{
+			// the acceptor ends anyway
+		}
+		for (ServerConnection connection : server._Connections)
+		{
+			connection.close();
+		}
+		server._Workers.shutdown();
+		return true;
+	}
+
+	public static synchronized boolean isRunning()
+	{
+		return _Running != null;
+	}
+
+	public int getPort()
+	{
+		return this._Socket.getLocalPort();
+	}
+
+	/**
+	 * Accepts connections until the socket is closed.
+	 */
+	private void accept()
+	{
+		while (!this._Socket.isClosed())
+		{
+			try
+			{
+				Socket socket = this._Socket.accept();
+				socket.setTcpNoDelay(true);
+				ServerConnection connection = new ServerConnection(this, socket);
+				this._Connections.add(connection);
+				Metrics.SERVER_CONNECTIONS.increment();
+				Metrics.SERVER_OPEN_CONNECTIONS.increment();
+				this._Workers.execute(connection);
+			}
+			catch (IOException e)
+			{
+				if (!this._Socket.isClosed())
+				{
+					System.err.println("Could not accept a connection: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called by a connection when it ends.
+	 */
+	void closed(ServerConnection pConnection)
+	{
+		if (this._Connections.remove(pConnection))
+		{
+			Metrics.SERVER_OPEN_CONNECTIONS.add(-1);
+		}
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		int port = start(args.length > 0 ? Integer.parseInt(args[0]) : defaultPort());
+		System.out.println("urSQL listening on port " + port);
+		_Running._Acceptor.join();
+	}
+}
@@ -0,0 +1,157 @@
+package urSQL.Server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import urSQL.Metrics.Metrics;
+import urSQL.QueryProcessor.QueryProcessor;
+import urSQL.RuntimeDatabaseProcessor.RuntimeDatabaseProcessor;
+import urSQL.System.ResultSet;
+import urSQL.System.TableAttribute;
+import urSQL.System.TableRegister;
+
+/**
+ * ServerConnection serves the requests of one client in order. The
+ * answers are buffered and only flushed when no other request is
+ * already waiting, so a client that sends many requests at once gets
+ * their answers in a few packets.
+ * @author ArturoMora™
+ *
+ */
+class ServerConnection implements Runnable
+{
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Server _Server;
+	private final Socket _Socket;
+	private final Protocol.Output _Frame;
+
+	ServerConnection(Server pServer, Socket pSocket)
+	{
+		this._Server = pServer;
+		this._Socket = pSocket;
+		this._Frame = new Protocol.Output();
+	}
+
+	@Override
+	public void run()
+	{
+		QueryProcessor processor = new QueryProcessor();
+		processor.setEcho(false);
+		try
+		{
+			DataInputStream in = new DataInputStream(new BufferedInputStream(this._Socket.getInputStream(),
+					BUFFER_SIZE));
+			OutputStream out = new BufferedOutputStream(this._Socket.getOutputStream(), BUFFER_SIZE);
+			Protocol.Input request;
+			while ((request = Protocol.Input.read(in)) != null)
+			{
+				Metrics.SERVER_BYTES_IN.add(request.getSize());
+				if (request.getType() != Protocol.QUERY)
+				{
+					this.send(out, this._Frame.start(Protocol.ERROR).writeString(
+							"Unexpected frame type " + request.getType()));
+					out.flush();
+					break;
+				}
+				long start = Metrics.SERVER_REQUEST.start();
+				this.answer(processor, request.readString(), out);
+				Metrics.SERVER_REQUEST.stop(start);
+				Metrics.SERVER_REQUEST_RATE.mark();
+				if (in.available() == 0)
+				{
+					out.flush();
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			// the client went away or the server stopped
+		}
+		finally
+		{
+			// a transaction left open by the client is rolled back
+			RuntimeDatabaseProcessor.endTransaction(processor.getSession(), false);
+			this.close();
+			this._Server.closed(this);
+		}
+	}
+
+	/**
+	 * Runs a statement and sends its result.
+	 */
+	private void answer(QueryProcessor pProcessor, String pSql, OutputStream pOut) throws IOException
+	{
+		ResultSet rs;
+		boolean executed;
+		try
+		{
+			pProcessor.setQuery(pSql);
+			pProcessor.execute();
+		}
+		catch (Exception e)
+		{
+			this.send(pOut, this._Frame.start(Protocol.ERROR).writeString(e.toString()));
+			return;
+		}
+		rs = pProcessor.getRS();
+		executed = pProcessor.getExecuted();
+
+		int rows = 0;
+		if (rs != null && rs.getTableMetadata() != null)
+		{
+			this._Frame.start(Protocol.COLUMNS).writeShort(rs.getTableMetadata().getTableColumns().size());
+			for (TableAttribute column : rs.getTableMetadata().getTableColumns())
+			{
+				this._Frame.writeString(column.getName()).writeString(column.getType());
+			}
+			this.send(pOut, this._Frame);
+
+			ArrayList< TableRegister > batch = new ArrayList< TableRegister >(Protocol.ROW_BATCH);
+			Iterator< TableRegister > registers = rs.getTableData().getData().iterator();
+			while (registers.hasNext())
+			{
+				batch.clear();
+				while (batch.size() < Protocol.ROW_BATCH && registers.hasNext())
+				{
+					batch.add(registers.next());
+				}
+				this._Frame.start(Protocol.ROWS).writeShort(batch.size());
+				for (TableRegister register : batch)
+				{
+					this._Frame.writeShort(register.getRegister().size());
+					for (String value : register.getRegister())
+					{
+						this._Frame.writeString(value);
+					}
+				}
+				this.send(pOut, this._Frame);
+				rows += batch.size();
+			}
+		}
+		this.send(pOut, this._Frame.start(Protocol.DONE).writeByte(executed ? 1 : 0).writeInt(rows));
+	}
+
+	private void send(OutputStream pOut, Protocol.Output pFrame) throws IOException
+	{
+		Metrics.SERVER_BYTES_OUT.add(pFrame.send(pOut));
+	}
+
+	void close()
+	{
+		try
+		{
+			this._Socket.close();
+		}
+		catch (IOException e)
+		{
+			// already closed
+		}
+	}
+}
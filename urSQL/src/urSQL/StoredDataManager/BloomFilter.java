@@ -0,0 +1,260 @@
+package urSQL.StoredDataManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * Filtro de Bloom sobre las llaves de una tabla o los valores de
+ * un indice. Si el filtro dice que una llave no esta, no esta, y
+ * no hace falta cargar los bloques del arbol para buscarla. Si
+ * dice que esta, puede ser un falso positivo y se busca en el arbol.
+ *
+ * Las filas borradas no se quitan del filtro, solo aumentan los
+ * falsos positivos hasta que el filtro se vuelve a crear. Las
+ * llaves agregadas quedan en memoria y el checkpoint de la bitacora
+ * escribe el filtro completo de los arboles que cambiaron; la
+ * recuperacion borra los filtros de los arboles que aplica.
+ *
+ * @author Andres Brais
+ *
+ */
+public class BloomFilter {
+
+	/**
+	 * Sufijo del archivo del filtro
+	 */
+	static final String BLOOM_SUFFIX = "_BLOOM";
+
+	/**
+	 * Bits por llave y cantidad de hashes, cerca de un 1% de
+	 * falsos positivos cuando el filtro esta lleno
+	 */
+	private static final int BITS_PER_KEY = 10;
+	private static final int HASH_QUANTITY = 7;
+
+	/**
+	 * Tamano minimo del filtro en palabras de 64 bits
+	 */
+	private static final int MIN_WORDS = 16;
+
+	/**
+	 * Filtros abiertos, por direccion del archivo
+	 */
+	private static final HashMap<String, BloomFilter> OPEN = new HashMap<String, BloomFilter>();
+
+	/**
+	 * Archivo del filtro
+	 */
+	private final File file;
+
+	/**
+	 * Bits del filtro, la cantidad de bits es potencia de dos
+	 */
+	private final long[] words;
+
+	/**
+	 * Llaves agregadas desde que se creo el filtro
+	 */
+	private int count;
+
+	/**
+	 * Si hay llaves agregadas que no estan en disco
+	 */
+	private boolean changed = false;
+
+	private BloomFilter(File file, int word_quantity, int count){
+		this.file = file;
+		this.words = new long[word_quantity];
+		this.count = count;
+	}
+
+	/**
+	 * Archivo del filtro de una tabla o indice
+	 *
+	 * @param file_table carpeta de la tabla
+	 *
+	 * @param name nombre de los archivos de la tabla o el indice
+	 */
+	static File filterFile(File file_table, String name){
+		return new File(file_table, name + BLOOM_SUFFIX);
+	}
+
+	/**
+	 * Crea un filtro vacio con espacio para una cantidad de llaves
+	 * y lo deja abierto. No se escribe hasta llamar save
+	 *
+	 * @param file archivo del filtro
+	 *
+	 * @param expected cantidad de llaves esperadas
+	 */
+	static synchronized BloomFilter create(File file, int expected){
+		long bits = (long)Math.max(expected, 1) * BITS_PER_KEY;
+		int word_quantity = MIN_WORDS;
+		while((long)word_quantity * 64 < bits){
+			word_quantity <<= 1;
+		}
+		BloomFilter filter = new BloomFilter(file, word_quantity, 0);
+		OPEN.put(file.getAbsolutePath(), filter);
+		return filter;
+	}
+
+	/**
+	 * Retorna un filtro, cargandolo de disco si no esta abierto
+	 *
+	 * @param file archivo del filtro
+	 *
+	 * @return el filtro, null si no existe
+	 */
+	static synchronized BloomFilter open(File file) throws IOException{
+		String path = file.getAbsolutePath();
+		if(!file.exists()){
+			//la tabla se borro o nunca tuvo filtro
+			OPEN.remove(path);
+			return null;
+		}
+		BloomFilter filter = OPEN.get(path);
+		if(filter == null){
+			DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			try {
+				filter = new BloomFilter(file, input.readInt(), input.readInt());
+				for (int i = 0; i < filter.words.length; i++) {
+					filter.words[i] = input.readLong();
+				}
+			} finally {
+				input.close();
+			}
+			OPEN.put(path, filter);
+		}
+		return filter;
+	}
+
+	/**
+	 * Borra el filtro de un arbol cuyas llaves pueden no estar en el,
+	 * para que se cree de nuevo desde el arbol la proxima vez que se
+	 * use; mientras tanto las lecturas buscan en el arbol
+	 *
+	 * @param file archivo del filtro
+	 */
+	static synchronized void discard(File file){
+		OPEN.remove(file.getAbsolutePath());
+		file.delete();
+	}
+
+	/**
+	 * Escribe un filtro abierto si tiene llaves que no estan en disco
+	 *
+	 * @param file archivo del filtro
+	 */
+	static synchronized void flush(File file) throws IOException{
+		BloomFilter filter = OPEN.get(file.getAbsolutePath());
+		if(filter != null && file.exists()){
+			filter.saveChanged();
+		}
+	}
+
+	/**
+	 * Indica si la llave puede estar
+	 *
+	 * @param key llave buscada
+	 *
+	 * @return false si la llave no esta con seguridad
+	 */
+	synchronized boolean mightContain(String key){
+		long hash = HashIndex.hash(key);
+		int mask = words.length * 64 - 1;
+		for (int i = 0; i < HASH_QUANTITY; i++) {
+			int bit = bit(hash, i, mask);
+			if((words[bit >>> 6] & (1L << bit)) == 0){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Agrega una llave solo en memoria, para llenar un filtro nuevo
+	 */
+	synchronized void put(String key){
+		long hash = HashIndex.hash(key);
+		int mask = words.length * 64 - 1;
+		for (int i = 0; i < HASH_QUANTITY; i++) {
+			int bit = bit(hash, i, mask);
+			words[bit >>> 6] |= 1L << bit;
+		}
+		count++;
+	}
+
+	/**
+	 * Agrega una llave a un filtro que ya esta en disco. Queda en
+	 * memoria hasta el siguiente checkpoint; sin bitacora no hay
+	 * checkpoint y el filtro se escribe en el momento
+	 */
+	synchronized void add(String key) throws IOException{
+		put(key);
+		changed = true;
+		if(WriteAheadLog.getInstance() == null){
+			save();
+		}
+	}
+
+	/**
+	 * Indica si el filtro ya tiene mas llaves que para las que fue
+	 * creado y se debe crear de nuevo con mas espacio
+	 */
+	synchronized boolean isFull(){
+		return (long)count * BITS_PER_KEY > (long)words.length * 64;
+	}
+
+	/**
+	 * Escribe el filtro completo en un archivo temporal que reemplaza
+	 * al anterior cuando ya esta en disco, para que una caida no deje
+	 * un filtro a medias
+	 */
+	synchronized void save() throws IOException{
+		File tmp = new File(file.getPath() + ".tmp");
+		FileOutputStream stream = new FileOutputStream(tmp);
+		try {
+			DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+			output.writeInt(words.length);
+			output.writeInt(count);
+			for (int i = 0; i < words.length; i++) {
+				output.writeLong(words[i]);
+			}
+			output.flush();
+			stream.getFD().sync();
+		} finally {
+			stream.close();
+		}
+		file.delete();
+		if(!tmp.renameTo(file)){
+			throw new IOException("No se pudo escribir el filtro " + file.getName());
+		}
+		changed = false;
+	}
+
+	/**
+	 * Escribe el filtro si tiene llaves que no estan en disco
+	 */
+	private synchronized void saveChanged() throws IOException{
+		if(changed){
+			save();
+		}
+	}
+
+	/**
+	 * Bit del hash numero i, por doble hashing con las dos
+	 * mitades del hash de 64 bits
+	 */
+	private static int bit(long hash, int i, int mask){
+		int low = (int)hash;
+		int high = (int)(hash >>> 32);
+		return (low + i * high) & mask;
+	}
+}
@@ -2,6 +2,8 @@ package urSQL.StoredDataManager.BplusJ;
 
 import java.util.*;
 
+import urSQL.Metrics.CommitEvent;
+
 	/// <summary>
 	/// Summary description for BplusTreeBytes.
 	/// </summary>
@@ -11,6 +13,8 @@ import java.util.*;
 		LinkedFile archive;
 		Hashtable FreeChunksOnCommit = new Hashtable();
 		Hashtable FreeChunksOnAbort = new Hashtable();
+		// when set, chunks and buffers freed on commit wait for a checkpoint
+		DeferredFrees Deferred = null;
 		static int DEFAULTBLOCKSIZE = 1024;
 		static int DEFAULTNODESIZE = 32;
 		public BplusTreeBytes(BplusTreeLong tree, LinkedFile archive)
@@ -243,8 +247,35 @@ import java.util.*;
 			return this.archive.GetChunk(map);
 		}
 
+		/// <summary>
+		/// Keep freed space off the free lists until a checkpoint says no durable
+		/// root uses it, for files that are not forced to disk on every commit.
+		/// </summary>
+		public void DeferFrees(DeferredFrees frees) 
+		{
+			this.Deferred = frees;
+			this.tree.Deferred = frees;
+		}
+
 		public void Commit() throws Exception
 		{
+			if (this.Deferred==null) 
+			{
+				this.CommitAndFree();
+				return;
+			}
+			// a checkpoint reads the root and seals the frees together
+			synchronized (this.Deferred) 
+			{
+				this.CommitAndFree();
+			}
+		}
+
+		void CommitAndFree() throws Exception
+		{
+			CommitEvent event = new CommitEvent();
+			event.begin();
+			int freed = this.FreeChunksOnCommit.size();
 			// store all new bufferrs
 			this.archive.Flush();
 			// commit the tree
@@ -257,10 +288,32 @@ import java.util.*;
 			for (Enumeration e=this.FreeChunksOnCommit.keys(); e.hasMoreElements(); )
 			{
 				long chunknumber = ((Long) e.nextElement()).longValue();
-				this.archive.ReleaseBuffers(chunknumber);
+				if (this.Deferred!=null) 
+				{
+					// the tree on disk may still point to it
+					this.Deferred.DeferChunk(chunknumber);
+				} 
+				else 
+				{
+					this.archive.ReleaseBuffers(chunknumber);
+				}
+			}
+			if (this.Deferred!=null) 
+			{
+				long[] released = this.Deferred.TakeChunks();
+				for (int i=0; i<released.length; i++) 
+				{
+					this.archive.ReleaseBuffers(released[i]);
+				}
 			}
 			this.archive.Flush();
 			this.ClearBookKeeping();
+			event.end();
+			if (event.shouldCommit()) 
+			{
+				event.freedChunks = freed;
+				event.commit();
+			}
 		}
 
 		public void Abort() throws Exception
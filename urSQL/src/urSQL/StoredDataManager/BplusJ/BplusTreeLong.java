@@ -2,6 +2,9 @@ package urSQL.StoredDataManager.BplusJ;
 
 import java.util.*;
 
+import urSQL.Metrics.NodeLoadEvent;
+import urSQL.StoredDataManager.ReadCounters;
+
 	/// <summary>
 	/// Bplustree mapping fixed length Strings (byte sequences) to longs (seek positions in file indexed).
 	/// "Next leaf pointer" is not used since it increases the chance of file corruption on failure.
@@ -38,6 +41,8 @@ public class BplusTreeLong implements ITreeIndex
 	public long LastValueFound;
 	public Hashtable FreeBuffersOnCommit = new Hashtable();
 	public Hashtable FreeBuffersOnAbort = new Hashtable();
+	// when set, buffers freed on commit wait for a checkpoint
+	public DeferredFrees Deferred = null;
 	Hashtable IdToTerminalNode = new Hashtable();
 	Hashtable TerminalNodeToId = new Hashtable();
 	int TerminalNodeCount = 0;
@@ -344,6 +349,29 @@ public class BplusTreeLong implements ITreeIndex
 		}
 		return result;
 	}
+	/// <summary>
+	/// Buffer number of the committed root, without loading it
+	/// </summary>
+	public static long ReadRootSeek(java.io.RandomAccessFile fromfile) 
+		throws Exception
+	{
+		BplusTreeLong result = new BplusTreeLong(fromfile, 7, 100, (long)0, INVARIANTCULTUREID); // dummy values for nodesize, keysize
+		result.readHeader();
+		return result.rootSeek;
+	}
+	/// <summary>
+	/// Go back to a root whose buffers were kept with DeferredFrees.  The free list
+	/// is dropped since its buffers may be in use by that root; that space is lost.
+	/// </summary>
+	public static void RestoreRoot(java.io.RandomAccessFile fromfile, long rootSeek) 
+		throws Exception
+	{
+		BplusTreeLong result = new BplusTreeLong(fromfile, 7, 100, (long)0, INVARIANTCULTUREID); // dummy values for nodesize, keysize
+		result.readHeader();
+		result.rootSeek = rootSeek;
+		result.freeHeadSeek = NULLBUFFERNUMBER;
+		result.setHeader();
+	}
 	public static BplusTreeLong InitializeInStream(java.io.RandomAccessFile fromfile, int KeyLength, int NodeSize) 
 		throws Exception
 	{
@@ -557,7 +585,24 @@ public class BplusTreeLong implements ITreeIndex
 		{
 			Long thing = (Long) e.nextElement();
 			long buffernumber = thing.longValue();
-			this.deallocateBuffer(buffernumber);
+			if (this.Deferred!=null) 
+			{
+				// the root on disk may still use it
+				this.Deferred.DeferBuffer(buffernumber);
+			} 
+			else 
+			{
+				this.deallocateBuffer(buffernumber);
+			}
+		}
+		if (this.Deferred!=null) 
+		{
+			// free the ones no durable root uses any more
+			long[] released = this.Deferred.TakeBuffers();
+			for (int i=0; i<released.length; i++) 
+			{
+				this.deallocateBuffer(released[i]);
+			}
 		}
 		// store the free list head
 		this.setHeader();
@@ -1288,11 +1333,22 @@ public class BplusTreeLong implements ITreeIndex
 			BplusNode result = this.MaterializedChildNodes[myposition];
 			if (result!=null) 
 			{
+				ReadCounters.cacheHit();
 				return result;
 			}
 			// otherwise read it in...
+			ReadCounters.cacheMiss();
+			NodeLoadEvent event = new NodeLoadEvent();
+			event.begin();
 			result = new BplusNode(this.owner, this, myposition, true); // dummy isLeaf value
 			result.LoadFromBuffer(childBufferNumber);
+			event.end();
+			if (event.shouldCommit()) 
+			{
+				event.bufferNumber = childBufferNumber;
+				event.bytes = this.owner.buffersize;
+				event.commit();
+			}
 			this.MaterializedChildNodes[myposition] = result;
 			// no longer terminal
 			this.owner.ForgetTerminalNode(this);
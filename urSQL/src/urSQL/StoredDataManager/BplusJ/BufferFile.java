@@ -1,5 +1,8 @@
 package urSQL.StoredDataManager.BplusJ;
 
+import urSQL.Metrics.Metrics;
+import urSQL.StoredDataManager.ReadCounters;
+
 	/// <summary>
 	/// Provides an indexed object which maps to buffers in an underlying file object
 	/// </summary>
@@ -80,9 +83,13 @@ package urSQL.StoredDataManager.BplusJ;
 			}
 			long seekPosition = this.bufferSeek(buffernumber);
 			/*this.fromfile.Seek(seekPosition, System.IO.SeekOrigin.Begin);*/
+			long start = Metrics.FILE_READ.start();
 			this.fromfile.seek(seekPosition);
 			//this.fromfile.Read(toArray, startingAt, length);
 			this.fromfile.read(toArray, startingAt, length);
+			Metrics.FILE_READ.stop(start);
+			Metrics.FILE_BYTES_READ.add(length);
+			ReadCounters.bytesRead(length);
 		} 
 		public void setBuffer(long buffernumber, byte[] fromArray, int startingAt, int length)
 			throws Exception
@@ -99,9 +106,12 @@ package urSQL.StoredDataManager.BplusJ;
 			long seekPosition = this.bufferSeek(buffernumber);
 			// need to fill with junk if beyond eof?
 			//this.fromfile.Seek(seekPosition, System.IO.SeekOrigin.Begin);
+			long start = Metrics.FILE_WRITE.start();
 			this.fromfile.seek(seekPosition);
 			//this.fromfile.Write(fromArray, startingAt, length);
 			this.fromfile.write(fromArray, startingAt, length);
+			Metrics.FILE_WRITE.stop(start);
+			Metrics.FILE_BYTES_WRITTEN.add(length);
 		}
 		void setHeader() 
 			throws Exception
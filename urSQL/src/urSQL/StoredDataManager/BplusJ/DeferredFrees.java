@@ -0,0 +1,71 @@
+package urSQL.StoredDataManager.BplusJ;
+
+import java.util.*;
+
+	/// <summary>
+	/// Buffers and chunks freed by commits of a tree whose files are not forced
+	/// to disk on every commit.  The root on disk may still point to them, so they
+	/// can not go back to the free lists until a newer root is durable.
+	/// A checkpoint calls Seal when it reads the root it is going to force and
+	/// Release once that root is durable; the next commit frees the released ones.
+	/// Commits and Seal synchronize on this object.
+	/// </summary>
+	public class DeferredFrees
+	{
+		// freed since the last Seal
+		Vector<Long> PendingBuffers = new Vector<Long>();
+		Vector<Long> PendingChunks = new Vector<Long>();
+		// freed before the root the checkpoint is forcing
+		Vector<Long> SealedBuffers = new Vector<Long>();
+		Vector<Long> SealedChunks = new Vector<Long>();
+		// no durable root points to them any more
+		Vector<Long> ReleasedBuffers = new Vector<Long>();
+		Vector<Long> ReleasedChunks = new Vector<Long>();
+
+		public synchronized void DeferBuffer(long buffernumber)
+		{
+			this.PendingBuffers.addElement(Long.valueOf(buffernumber));
+		}
+		public synchronized void DeferChunk(long chunknumber)
+		{
+			this.PendingChunks.addElement(Long.valueOf(chunknumber));
+		}
+		/// <summary>
+		/// Everything freed until now is unreachable from the current root
+		/// </summary>
+		public synchronized void Seal()
+		{
+			this.SealedBuffers.addAll(this.PendingBuffers);
+			this.SealedChunks.addAll(this.PendingChunks);
+			this.PendingBuffers.clear();
+			this.PendingChunks.clear();
+		}
+		/// <summary>
+		/// The root read at the last Seal is durable
+		/// </summary>
+		public synchronized void Release()
+		{
+			this.ReleasedBuffers.addAll(this.SealedBuffers);
+			this.ReleasedChunks.addAll(this.SealedChunks);
+			this.SealedBuffers.clear();
+			this.SealedChunks.clear();
+		}
+		public synchronized long[] TakeBuffers()
+		{
+			return Take(this.ReleasedBuffers);
+		}
+		public synchronized long[] TakeChunks()
+		{
+			return Take(this.ReleasedChunks);
+		}
+		static long[] Take(Vector<Long> released)
+		{
+			long[] result = new long[released.size()];
+			for (int i=0; i<result.length; i++)
+			{
+				result[i] = released.elementAt(i).longValue();
+			}
+			released.clear();
+			return result;
+		}
+	}
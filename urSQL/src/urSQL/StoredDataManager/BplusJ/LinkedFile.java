@@ -2,6 +2,8 @@ package urSQL.StoredDataManager.BplusJ;
 
 import java.util.*;
 
+import urSQL.Metrics.ChunkReadEvent;
+
 
 	/// <summary>
 	/// Chunked singly linked file with garbage collection.
@@ -50,6 +52,19 @@ import java.util.*;
 			result.buffers = BufferFile.SetupFromExistingStream(fromfile, StartSeek+result.headersize);
 			return result;
 		}
+		/// <summary>
+		/// Drop the free list, whose buffers may be in use by a root restored with
+		/// BplusTreeLong.RestoreRoot; that space is lost.
+		/// </summary>
+		public static void ForgetFreeList(java.io.RandomAccessFile fromfile) 
+			throws Exception
+		{
+			LinkedFile result = new LinkedFile(100, (long)0); // dummy buffer size for now
+			result.fromfile = fromfile;
+			result.readHeader();
+			result.FreeListHead = NULLBUFFERPOINTER;
+			result.setHeader();
+		}
 		void readHeader() 
 			throws Exception
 		{
@@ -381,6 +396,9 @@ import java.util.*;
 		public byte[] GetChunk(long HeadBufferNumber) 
 			throws Exception
 		{
+			ChunkReadEvent event = new ChunkReadEvent();
+			event.begin();
+			int buffers = 1;
 			// get the head, interpret the length
 			//byte buffertype;
 			//long NextBufferNumber;
@@ -420,6 +438,7 @@ import java.util.*;
 				buffer = P.payload;
 				buffertype = P.type;
 				NextBufferNumber = P.NextBufferNumber;
+				buffers++;
 				int nextLength = this.buffersize;
 				if (length-stored<nextLength) 
 				{
@@ -432,6 +451,14 @@ import java.util.*;
 				}
 				stored += nextLength;
 			}
+			event.end();
+			if (event.shouldCommit()) 
+			{
+				event.headBuffer = HeadBufferNumber;
+				event.buffers = buffers;
+				event.bytes = length;
+				event.commit();
+			}
 			return result;
 		}
 		public long StoreNewChunk(byte[] fromArray, int startingAt, int length) 
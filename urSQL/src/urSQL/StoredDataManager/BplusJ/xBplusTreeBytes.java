@@ -2,6 +2,8 @@ package urSQL.StoredDataManager.BplusJ;
 
 import java.util.*;
 
+import urSQL.Metrics.Metrics;
+
 	/// <summary>
 	/// Bplustree with unlimited length Strings (but only a fixed prefix is indexed in the tree directly).
 	/// </summary>
@@ -204,6 +206,19 @@ public class xBplusTreeBytes implements IByteTree
 	}
 
 	public String NextKey(String AfterThisKey) throws Exception
+	{
+		long start = Metrics.TREE_NEXT_KEY.start();
+		try 
+		{
+			return this.NextKeyUntimed(AfterThisKey);
+		} 
+		finally 
+		{
+			Metrics.TREE_NEXT_KEY.stop(start);
+		}
+	}
+
+	private String NextKeyUntimed(String AfterThisKey) throws Exception
 	{
 		xBucket bucket;
 		//String prefix;
@@ -249,6 +264,19 @@ public class xBplusTreeBytes implements IByteTree
 	}
 
 	public Object Get(String key, Object defaultValue) throws Exception
+	{
+		long start = Metrics.TREE_GET.start();
+		try 
+		{
+			return this.GetUntimed(key, defaultValue);
+		} 
+		finally 
+		{
+			Metrics.TREE_GET.stop(start);
+		}
+	}
+
+	private Object GetUntimed(String key, Object defaultValue) throws Exception
 	{
 		xBucket bucket;
 		String prefix;
@@ -267,6 +295,19 @@ public class xBplusTreeBytes implements IByteTree
 	}
 
 	public void Set(String key, Object map) throws Exception
+	{
+		long start = Metrics.TREE_SET.start();
+		try 
+		{
+			this.SetUntimed(key, map);
+		} 
+		finally 
+		{
+			Metrics.TREE_SET.stop(start);
+		}
+	}
+
+	private void SetUntimed(String key, Object map) throws Exception
 	{
 			
 		xBucket bucket;
@@ -310,6 +351,11 @@ public class xBplusTreeBytes implements IByteTree
 		this.tree.Commit();
 	}
 
+	public void DeferFrees(DeferredFrees frees)
+	{
+		this.tree.DeferFrees(frees);
+	}
+
 	public void Abort() throws Exception
 	{
 		this.tree.Abort();
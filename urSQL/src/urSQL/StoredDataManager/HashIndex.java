@@ -0,0 +1,425 @@
+package urSQL.StoredDataManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedList;
+
+/**
+ * Indice hash en memoria para busquedas por igualdad sobre una
+ * columna. Es una tabla de direccionamiento abierto con llaves
+ * long, el hash del valor de la columna, y como valor la llave
+ * primaria de la fila.
+ *
+ * En disco se guarda una copia compacta de la tabla y una
+ * bitacora con los cambios hechos despues de esa copia. La
+ * primera vez que se usa el indice se carga la copia, se aplican
+ * los cambios de la bitacora y se escribe una copia nueva. Aplicar
+ * la bitacora sobre una copia que ya tiene sus cambios da lo mismo.
+ *
+ * Los cambios se escriben antes del Commit de la tabla y no estan en
+ * WriteAheadLog, por lo que la recuperacion de la bitacora descarta
+ * los indices de las tablas que aplica; StoreDataManager los llena de
+ * nuevo desde la tabla la primera vez que los usa.
+ *
+ * @author Andres Brais
+ *
+ */
+public class HashIndex {
+
+	/**
+	 * Sufijo del archivo con la copia de la tabla
+	 */
+	static final String HASH_SUFFIX = "_HASH";
+
+	/**
+	 * Sufijo de la bitacora de cambios
+	 */
+	private static final String LOG_SUFFIX = "_LOG";
+
+	/**
+	 * Operaciones de la bitacora
+	 */
+	private static final byte LOG_PUT = (byte)0x01;
+	private static final byte LOG_REMOVE = (byte)0x02;
+
+	/**
+	 * Cantidad de llaves de una copia descartada
+	 */
+	private static final int DISCARDED = -1;
+
+	/**
+	 * Marca de una casilla borrada, la busqueda sigue de largo
+	 */
+	private static final String TOMBSTONE = new String("");
+
+	/**
+	 * Capacidad inicial, siempre potencia de dos
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Indices abiertos, por direccion del archivo
+	 */
+	private static final HashMap<String, HashIndex> OPEN = new HashMap<String, HashIndex>();
+
+	/**
+	 * Archivo con la copia de la tabla
+	 */
+	private final File snapshot;
+
+	/**
+	 * Posicion de la columna indexada
+	 */
+	private final int column_index;
+
+	/**
+	 * Hash de los valores de cada casilla
+	 */
+	private long[] hashes;
+
+	/**
+	 * Llave primaria de cada casilla, null si esta vacia
+	 */
+	private String[] keys;
+
+	/**
+	 * Casillas con una llave
+	 */
+	private int size = 0;
+
+	/**
+	 * Casillas con una llave o borradas
+	 */
+	private int used = 0;
+
+	/**
+	 * Si la copia se descarto y el indice esta vacio hasta que se
+	 * llene de nuevo
+	 */
+	private boolean discarded = false;
+
+	private HashIndex(File snapshot, int column_index, int capacity){
+		this.snapshot = snapshot;
+		this.column_index = column_index;
+		this.hashes = new long[capacity];
+		this.keys = new String[capacity];
+	}
+
+	/**
+	 * Archivo de la copia de un indice
+	 *
+	 * @param file_table carpeta de la tabla
+	 *
+	 * @param index_name nombre del indice
+	 */
+	static File snapshotFile(File file_table, String index_name){
+		return new File(file_table, index_name + HASH_SUFFIX);
+	}
+
+	/**
+	 * Crea un indice vacio y lo deja abierto
+	 *
+	 * @param snapshot archivo de la copia
+	 *
+	 * @param column_index posicion de la columna indexada
+	 */
+	static synchronized HashIndex create(File snapshot, int column_index){
+		HashIndex index = new HashIndex(snapshot, column_index, INITIAL_CAPACITY);
+		OPEN.put(snapshot.getAbsolutePath(), index);
+		return index;
+	}
+
+	/**
+	 * Retorna un indice, cargandolo de disco si no esta abierto
+	 *
+	 * @param snapshot archivo de la copia
+	 *
+	 * @return el indice, null si no existe
+	 */
+	static synchronized HashIndex open(File snapshot) throws IOException{
+		String path = snapshot.getAbsolutePath();
+		if(!snapshot.exists()){
+			//la tabla o el indice se borraron
+			OPEN.remove(path);
+			return null;
+		}
+		HashIndex index = OPEN.get(path);
+		if(index == null){
+			index = load(snapshot);
+			OPEN.put(path, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Carga la copia, aplica la bitacora y escribe una copia nueva
+	 */
+	private static HashIndex load(File snapshot) throws IOException{
+		DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshot)));
+		HashIndex index;
+		try {
+			int column_index = input.readInt();
+			int count = input.readInt();
+			if(count == DISCARDED){
+				index = new HashIndex(snapshot, column_index, INITIAL_CAPACITY);
+				index.discarded = true;
+				return index;
+			}
+			index = new HashIndex(snapshot, column_index, capacityFor(count));
+			for (int i = 0; i < count; i++) {
+				long hash = input.readLong();
+				index.insert(hash, input.readUTF());
+			}
+		} finally {
+			input.close();
+		}
+
+		File log = index.logFile();
+		if(log.exists()){
+			input = new DataInputStream(new BufferedInputStream(new FileInputStream(log)));
+			try {
+				while(true){
+					byte operation = input.readByte();
+					long hash = input.readLong();
+					String key = input.readUTF();
+					if(operation == LOG_PUT){
+						index.insert(hash, key);
+					}else{
+						index.delete(hash, key);
+					}
+				}
+			} catch (EOFException e) {
+				//fin de la bitacora, una ultima entrada incompleta se ignora
+			} finally {
+				input.close();
+			}
+			index.save();
+		}
+		return index;
+	}
+
+	/**
+	 * Descarta los indices hash de una tabla: cada copia queda solo con
+	 * su columna y se borra su bitacora
+	 *
+	 * @param file_table carpeta de la tabla
+	 */
+	static synchronized void discardAll(File file_table) throws IOException{
+		File[] files = file_table.listFiles();
+		for (int i = 0; files != null && i < files.length; i++) {
+			if(!files[i].getName().endsWith(HASH_SUFFIX)){
+				continue;
+			}
+			OPEN.remove(files[i].getAbsolutePath());
+			DataInputStream input = new DataInputStream(new FileInputStream(files[i]));
+			int column_index;
+			try {
+				column_index = input.readInt();
+			} finally {
+				input.close();
+			}
+			new HashIndex(files[i], column_index, INITIAL_CAPACITY).write(DISCARDED);
+		}
+	}
+
+	/**
+	 * @return posicion de la columna indexada
+	 */
+	int getColumnIndex(){
+		return column_index;
+	}
+
+	/**
+	 * @return true si el indice se descarto y hay que llenarlo de nuevo
+	 * antes de usarlo
+	 */
+	boolean isDiscarded(){
+		return discarded;
+	}
+
+	/**
+	 * Agrega una fila al indice y a la bitacora
+	 */
+	synchronized void put(long hash, String key) throws IOException{
+		insert(hash, key);
+		log(LOG_PUT, hash, key);
+	}
+
+	/**
+	 * Quita una fila del indice y la anota en la bitacora
+	 */
+	synchronized void remove(long hash, String key) throws IOException{
+		if(delete(hash, key)){
+			log(LOG_REMOVE, hash, key);
+		}
+	}
+
+	/**
+	 * Busca las llaves primarias de las filas con un hash. Valores
+	 * distintos pueden tener el mismo hash, por lo que la fila se
+	 * debe revisar despues
+	 *
+	 * @param hash hash del valor buscado
+	 *
+	 * @return llaves primarias encontradas
+	 */
+	synchronized LinkedList<String> get(long hash){
+		LinkedList<String> result = new LinkedList<String>();
+		int mask = keys.length - 1;
+		for (int i = slot(hash, mask); keys[i] != null; i = (i + 1) & mask) {
+			if(keys[i] != TOMBSTONE && hashes[i] == hash){
+				result.add(keys[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Escribe la copia completa y borra la bitacora
+	 */
+	synchronized void save() throws IOException{
+		write(size);
+		discarded = false;
+	}
+
+	/**
+	 * Hash de 64 bits (FNV-1a) de un valor codificado como en
+	 * SecondaryIndex, para que el = no tome en cuenta mayusculas
+	 */
+	static long hash(String value){
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private File logFile(){
+		return new File(snapshot.getPath() + LOG_SUFFIX);
+	}
+
+	/**
+	 * Escribe la copia con una cantidad de llaves, la del indice o
+	 * DISCARDED, y borra la bitacora
+	 */
+	private void write(int count) throws IOException{
+		File tmp = new File(snapshot.getPath() + ".tmp");
+		FileOutputStream file = new FileOutputStream(tmp);
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file));
+		try {
+			output.writeInt(column_index);
+			output.writeInt(count);
+			for (int i = 0; count != DISCARDED && i < keys.length; i++) {
+				if(keys[i] != null && keys[i] != TOMBSTONE){
+					output.writeLong(hashes[i]);
+					output.writeUTF(keys[i]);
+				}
+			}
+			output.flush();
+			file.getFD().sync();
+		} finally {
+			output.close();
+		}
+		//se reemplaza la copia anterior de una sola vez
+		if(!tmp.renameTo(snapshot)){
+			snapshot.delete();
+			if(!tmp.renameTo(snapshot)){
+				throw new IOException("No se pudo escribir el indice " + snapshot.getName());
+			}
+		}
+		logFile().delete();
+	}
+
+	private void log(byte operation, long hash, String key) throws IOException{
+		//antes de la primera copia, o mientras se llena de nuevo, no hay
+		//cambios que anotar
+		if(discarded || !snapshot.exists()){
+			return;
+		}
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile(), true)));
+		try {
+			output.writeByte(operation);
+			output.writeLong(hash);
+			output.writeUTF(key);
+		} finally {
+			output.close();
+		}
+	}
+
+	private void insert(long hash, String key){
+		//se crece cuando la tabla esta a tres cuartos
+		if((used + 1) * 4 > keys.length * 3){
+			resize(capacityFor(size + 1));
+		}
+		int mask = keys.length - 1;
+		int free = -1;
+		int i = slot(hash, mask);
+		for (; keys[i] != null; i = (i + 1) & mask) {
+			if(keys[i] == TOMBSTONE){
+				if(free < 0){
+					free = i;
+				}
+			}else if(hashes[i] == hash && keys[i].equals(key)){
+				//ya esta, la bitacora se aplico sobre una copia que la tenia
+				return;
+			}
+		}
+		if(free < 0){
+			free = i;
+			used++;
+		}
+		hashes[free] = hash;
+		keys[free] = key;
+		size++;
+	}
+
+	private boolean delete(long hash, String key){
+		int mask = keys.length - 1;
+		for (int i = slot(hash, mask); keys[i] != null; i = (i + 1) & mask) {
+			if(keys[i] != TOMBSTONE && hashes[i] == hash && keys[i].equals(key)){
+				keys[i] = TOMBSTONE;
+				size--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void resize(int capacity){
+		long[] old_hashes = hashes;
+		String[] old_keys = keys;
+		hashes = new long[capacity];
+		keys = new String[capacity];
+		size = 0;
+		used = 0;
+		for (int i = 0; i < old_keys.length; i++) {
+			if(old_keys[i] != null && old_keys[i] != TOMBSTONE){
+				insert(old_hashes[i], old_keys[i]);
+			}
+		}
+	}
+
+	private static int slot(long hash, int mask){
+		return (int)(hash ^ (hash >>> 32)) & mask;
+	}
+
+	/**
+	 * Capacidad potencia de dos para count llaves a la mitad de carga
+	 */
+	private static int capacityFor(int count){
+		int capacity = INITIAL_CAPACITY;
+		while(capacity < count * 2){
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+}
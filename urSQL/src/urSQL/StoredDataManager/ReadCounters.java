@@ -0,0 +1,70 @@
+package urSQL.StoredDataManager;
+
+/**
+ * Contadores de lectura del hilo actual: bytes leidos de los
+ * archivos de los arboles (BufferFile, y LinkedFile que lee por
+ * medio de el) y nodos del arbol que ya estaban en memoria o que
+ * hubo que leer. Son por hilo para que cada consulta mida solo
+ * lo que ella leyo; se toma el valor antes y despues y se restan.
+ *
+ * @author Andres Brais
+ *
+ */
+public class ReadCounters {
+
+	/**
+	 * Posiciones de cada contador
+	 */
+	private static final int BYTES_READ = 0;
+	private static final int CACHE_HITS = 1;
+	private static final int CACHE_MISSES = 2;
+
+	private static final ThreadLocal<long[]> COUNTERS = new ThreadLocal<long[]>(){
+		@Override
+		protected long[] initialValue(){
+			return new long[3];
+		}
+	};
+
+	/**
+	 * Anota bytes leidos de un archivo
+	 */
+	public static void bytesRead(int length){
+		COUNTERS.get()[BYTES_READ] += length;
+	}
+
+	/**
+	 * Anota un nodo del arbol que ya estaba en memoria
+	 */
+	public static void cacheHit(){
+		COUNTERS.get()[CACHE_HITS]++;
+	}
+
+	/**
+	 * Anota un nodo del arbol que se tuvo que leer del archivo
+	 */
+	public static void cacheMiss(){
+		COUNTERS.get()[CACHE_MISSES]++;
+	}
+
+	/**
+	 * @return bytes leidos por el hilo desde que empezo
+	 */
+	public static long getBytesRead(){
+		return COUNTERS.get()[BYTES_READ];
+	}
+
+	/**
+	 * @return nodos encontrados en memoria por el hilo
+	 */
+	public static long getCacheHits(){
+		return COUNTERS.get()[CACHE_HITS];
+	}
+
+	/**
+	 * @return nodos leidos del archivo por el hilo
+	 */
+	public static long getCacheMisses(){
+		return COUNTERS.get()[CACHE_MISSES];
+	}
+}
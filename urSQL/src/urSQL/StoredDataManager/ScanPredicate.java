@@ -0,0 +1,297 @@
+package urSQL.StoredDataManager;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Condicion de un WHERE compilada para evaluarse directamente
+ * sobre el registro en bytes que guarda el arbol, sin crear
+ * la fila en String.
+ *
+ * Cada columna del registro tiene la forma
+ * [tipo 1 byte][largo 2 bytes][datos], por lo que para llegar a
+ * la columna se saltan las anteriores usando su largo.
+ *
+ * @author Andres Brais
+ *
+ */
+public class ScanPredicate {
+
+	/**
+	 * Operadores que entiende el predicado, los mismos que
+	 * usa TableRegister.comparate
+	 */
+	public static final String LESS_THAN = "<";
+	public static final String MORE_THAN = ">";
+	public static final String EQUAL = "=";
+	public static final String LIKE = "LIKE";
+	public static final String NOT = "NOT";
+	public static final String IS_NULL = "IS NULL";
+	public static final String IS_NOT_NULL = "IS NOT NULL";
+
+	/**
+	 * Valor con el que se representa un nulo en String
+	 */
+	private static final String NULL_STRING = "null";
+
+	/**
+	 * Posicion de la columna dentro del registro
+	 */
+	private final int column_index;
+
+	/**
+	 * Operador de comparacion
+	 */
+	private final String operator;
+
+	/**
+	 * Valor contra el que se compara
+	 */
+	private final String value;
+
+	/**
+	 * Valor en bytes, para comparar columnas de texto
+	 */
+	private final byte[] value_bytes;
+
+	/**
+	 * Valor como numero, para comparar columnas numericas
+	 */
+	private final boolean value_is_number;
+	private final double value_number;
+
+	/**
+	 * Indica si el valor solo tiene caracteres ASCII, en cuyo caso
+	 * la igualdad sin mayusculas se resuelve byte a byte
+	 */
+	private final boolean value_is_ascii;
+
+	/**
+	 * Compila la condicion
+	 *
+	 * @param column_index posicion de la columna en el registro
+	 *
+	 * @param operator operador de la condicion
+	 *
+	 * @param value valor con el que se compara
+	 */
+	public ScanPredicate(int column_index, String operator, String value){
+		this.column_index = column_index;
+		this.operator = operator.toUpperCase();
+		this.value = value;
+		this.value_bytes = value.getBytes();
+
+		boolean is_number = true;
+		double number = 0;
+		try {
+			number = Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			is_number = false;
+		}
+		this.value_is_number = is_number;
+		this.value_number = number;
+
+		boolean ascii = true;
+		for (int i = 0; i < value_bytes.length; i++) {
+			if(value_bytes[i] < 0){
+				ascii = false;
+				break;
+			}
+		}
+		this.value_is_ascii = ascii;
+	}
+
+	/**
+	 * @return posicion de la columna que revisa el predicado
+	 */
+	public int getColumnIndex(){
+		return column_index;
+	}
+
+	/**
+	 * @return operador de la condicion
+	 */
+	public String getOperator(){
+		return operator;
+	}
+
+	/**
+	 * @return valor con el que se compara
+	 */
+	public String getValue(){
+		return value;
+	}
+
+	/**
+	 * Busca donde empieza una columna dentro del registro
+	 *
+	 * @param register registro en bytes
+	 *
+	 * @param index posicion de la columna
+	 *
+	 * @return indice del byte de tipo de la columna, o -1 si
+	 * el registro no tiene tantas columnas
+	 */
+	public static int fieldOffset(byte[] register, int index){
+		int current_index = 0;
+		for (int i = 0; i < index; i++) {
+			if(current_index + 3 > register.length){
+				return -1;
+			}
+			int length = ((register[current_index+1] & 0xFF) << 8) | (register[current_index+2] & 0xFF);
+			current_index = current_index + length + 3;
+		}
+		if(current_index + 3 > register.length){
+			return -1;
+		}
+		return current_index;
+	}
+
+	/**
+	 * Evalua la condicion sobre el registro
+	 *
+	 * @param register registro en bytes tal como esta en el arbol
+	 *
+	 * @return true si el registro cumple con la condicion
+	 */
+	public boolean matches(byte[] register){
+		int header = fieldOffset(register, column_index);
+		if(header < 0){
+			return false;
+		}
+		byte type = register[header];
+		int length = ((register[header+1] & 0xFF) << 8) | (register[header+2] & 0xFF);
+		int offset = header + 3;
+
+		if(type == StoreDataManager.NULL_VALUE){
+			return matchesNull();
+		}
+		if(operator.equals(IS_NULL)){
+			return false;
+		}
+		if(operator.equals(IS_NOT_NULL)){
+			return true;
+		}
+
+		switch(type){
+			case StoreDataManager.BY_TYPE_INTEGER:
+				return matchesNumber(ByteBuffer.wrap(register).getInt(offset), register, offset, length, type);
+			case StoreDataManager.BY_TYPE_DECIMAL:
+				return matchesNumber(ByteBuffer.wrap(register).getFloat(offset), register, offset, length, type);
+			default:
+				return matchesText(register, offset, length);
+		}
+	}
+
+	/**
+	 * Condicion sobre una columna nula
+	 */
+	private boolean matchesNull(){
+		if(operator.equals(IS_NULL)){
+			return true;
+		}
+		if(operator.equals(EQUAL)){
+			return value.equalsIgnoreCase(NULL_STRING);
+		}
+		if(operator.equals(NOT)){
+			return !value.equalsIgnoreCase(NULL_STRING);
+		}
+		return false;
+	}
+
+	/**
+	 * Condicion sobre una columna entera o decimal
+	 */
+	private boolean matchesNumber(double number, byte[] register, int offset, int length, byte type){
+		if(operator.equals(LIKE)){
+			return decode(register, offset, length, type).endsWith(value);
+		}
+		if(!value_is_number){
+			//un numero nunca es igual a un texto
+			return operator.equals(NOT);
+		}
+		//los decimales se guardan como float
+		double other = type == StoreDataManager.BY_TYPE_DECIMAL ? (float)value_number : value_number;
+		switch(operator){
+			case EQUAL:
+				return number == other;
+			case NOT:
+				return number != other;
+			case LESS_THAN:
+				return number < other;
+			case MORE_THAN:
+				return number > other;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Condicion sobre una columna de texto, char, varchar o fecha
+	 */
+	private boolean matchesText(byte[] register, int offset, int length){
+		switch(operator){
+			case EQUAL:
+				return equalsIgnoreCase(register, offset, length);
+			case NOT:
+				return !equalsIgnoreCase(register, offset, length);
+			case LIKE:
+				//en UTF-8 el sufijo en bytes es el sufijo del texto
+				if(length < value_bytes.length){
+					return false;
+				}
+				for (int i = 0; i < value_bytes.length; i++) {
+					if(register[offset + length - value_bytes.length + i] != value_bytes[i]){
+						return false;
+					}
+				}
+				return true;
+			case LESS_THAN:
+				return new String(register, offset, length).compareTo(value) < 0;
+			case MORE_THAN:
+				return new String(register, offset, length).compareTo(value) > 0;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Igualdad sin tomar en cuenta mayusculas, byte a byte cuando
+	 * ambos textos son ASCII
+	 */
+	private boolean equalsIgnoreCase(byte[] register, int offset, int length){
+		if(!value_is_ascii){
+			return new String(register, offset, length).equalsIgnoreCase(value);
+		}
+		if(length != value_bytes.length){
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			byte b = register[offset+i];
+			if(b < 0){
+				return new String(register, offset, length).equalsIgnoreCase(value);
+			}
+			if(b != value_bytes[i] && lower(b) != lower(value_bytes[i])){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Minuscula de un caracter ASCII
+	 */
+	private static byte lower(byte b){
+		return (b >= 'A' && b <= 'Z') ? (byte)(b + 32) : b;
+	}
+
+	/**
+	 * Convierte una columna numerica a String, igual que
+	 * StoreDataManager al leer la fila
+	 */
+	private static String decode(byte[] register, int offset, int length, byte type){
+		if(type == StoreDataManager.BY_TYPE_INTEGER){
+			return String.valueOf(ByteBuffer.wrap(register).getInt(offset));
+		}
+		return String.valueOf(ByteBuffer.wrap(register).getFloat(offset));
+	}
+}
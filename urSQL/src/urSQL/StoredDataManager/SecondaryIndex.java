@@ -0,0 +1,323 @@
+package urSQL.StoredDataManager;
+
+import java.nio.ByteBuffer;
+
+import urSQL.System.TableAttribute;
+
+/**
+ * Llaves de los indices secundarios. Cada indice es un arbol
+ * aparte dentro de la carpeta de la tabla, donde la llave son
+ * los valores de las columnas del indice seguidos de la llave
+ * primaria. El valor guardado es un registro con las columnas
+ * de la llave, las columnas incluidas y la llave primaria, con
+ * el mismo formato de las filas, de modo que una consulta que
+ * solo usa esas columnas se responde sin leer la tabla.
+ *
+ * El arbol ordena las llaves como String, por lo que los numeros
+ * se escriben en hexadecimal de largo fijo de forma que el orden
+ * del texto sea el mismo que el de los numeros. Los textos se
+ * guardan en minuscula porque el = de urSQL no toma en cuenta
+ * mayusculas.
+ *
+ * @author Andres Brais
+ *
+ */
+public class SecondaryIndex {
+
+	/**
+	 * Sufijo del nombre de los archivos de un indice
+	 */
+	static final String INDEX_SUFFIX = "_INDEX";
+
+	/**
+	 * Ubica las posiciones de las columnas del indice
+	 */
+	static final String COLUMNS_KEY = " COLUMNS";
+
+	/**
+	 * Prefijo de las llaves de los valores, queda despues
+	 * de las llaves de control que empiezan con espacio
+	 */
+	static final String ENTRY_PREFIX = "I";
+
+	/**
+	 * Separa el valor de la llave primaria, es menor que
+	 * cualquier caracter del valor
+	 */
+	static final char SEPARATOR = '\u0001';
+
+	/**
+	 * Caracter siguiente al separador, sirve para saltarse
+	 * todas las llaves de un mismo valor
+	 */
+	private static final char AFTER_SEPARATOR = '\u0002';
+
+	/**
+	 * Posiciones en la fila de las columnas de la llave
+	 */
+	private final int[] key_columns;
+
+	/**
+	 * Posiciones en la fila de las columnas que se guardan en el
+	 * valor: las de la llave, las incluidas y la llave primaria
+	 */
+	private final int[] payload_columns;
+
+	/**
+	 * Lee las columnas del indice guardadas en COLUMNS_KEY
+	 *
+	 * @param layout arreglo creado con layout
+	 */
+	SecondaryIndex(byte[] layout){
+		ByteBuffer buffer = ByteBuffer.wrap(layout);
+		key_columns = new int[buffer.getShort()];
+		payload_columns = new int[key_columns.length + buffer.getShort() + 1];
+		for (int i = 0; i < payload_columns.length; i++) {
+			payload_columns[i] = buffer.getShort();
+			if(i < key_columns.length){
+				key_columns[i] = payload_columns[i];
+			}
+		}
+	}
+
+	/**
+	 * Crea el arreglo que describe las columnas de un indice
+	 *
+	 * @param key_columns posiciones de las columnas de la llave
+	 *
+	 * @param include_columns posiciones de las columnas incluidas
+	 *
+	 * @param pk_index posicion de la llave primaria
+	 *
+	 * @return arreglo que se guarda en COLUMNS_KEY
+	 */
+	static byte[] layout(int[] key_columns, int[] include_columns, int pk_index){
+		ByteBuffer buffer = ByteBuffer.allocate(2 * (key_columns.length + include_columns.length + 3));
+		buffer.putShort((short)key_columns.length);
+		buffer.putShort((short)include_columns.length);
+		for (int i = 0; i < key_columns.length; i++) {
+			buffer.putShort((short)key_columns[i]);
+		}
+		for (int i = 0; i < include_columns.length; i++) {
+			buffer.putShort((short)include_columns[i]);
+		}
+		buffer.putShort((short)pk_index);
+		return buffer.array();
+	}
+
+	/**
+	 * Crea la llave del indice para un registro
+	 *
+	 * @param register registro en bytes de la fila
+	 *
+	 * @param pk llave primaria de la fila
+	 *
+	 * @return llave del indice, null si la primera columna es nula
+	 */
+	String entryKey(byte[] register, String pk){
+		StringBuilder key = new StringBuilder(ENTRY_PREFIX);
+		for (int i = 0; i < key_columns.length; i++) {
+			String value = encodeField(register, key_columns[i]);
+			if(value == null){
+				//sin la primera columna la fila nunca se busca por el indice
+				if(i == 0){
+					return null;
+				}
+				value = "";
+			}
+			key.append(value).append(SEPARATOR);
+		}
+		return key.append(pk).toString();
+	}
+
+	/**
+	 * Valor de la primera columna dentro de una llave del indice
+	 *
+	 * @param entry llave del indice
+	 *
+	 * @return valor codificado de la primera columna
+	 */
+	static String leadingValue(String entry){
+		return entry.substring(ENTRY_PREFIX.length(), entry.indexOf(SEPARATOR));
+	}
+
+	/**
+	 * Crea el valor que se guarda para un registro, copiando
+	 * sus columnas sin convertirlas
+	 *
+	 * @param register registro en bytes de la fila
+	 *
+	 * @return registro con las columnas del indice
+	 */
+	byte[] payload(byte[] register){
+		int size = 0;
+		int[] offsets = new int[payload_columns.length];
+		int[] lengths = new int[payload_columns.length];
+		for (int i = 0; i < payload_columns.length; i++) {
+			offsets[i] = ScanPredicate.fieldOffset(register, payload_columns[i]);
+			lengths[i] = 3 + (((register[offsets[i]+1] & 0xFF) << 8) | (register[offsets[i]+2] & 0xFF));
+			size += lengths[i];
+		}
+		byte[] result = new byte[size];
+		int position = 0;
+		for (int i = 0; i < payload_columns.length; i++) {
+			System.arraycopy(register, offsets[i], result, position, lengths[i]);
+			position += lengths[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Posicion de una columna de la fila dentro del valor guardado
+	 *
+	 * @param column_index posicion de la columna en la fila
+	 *
+	 * @return posicion en el valor, -1 si el indice no la guarda
+	 */
+	int payloadPosition(int column_index){
+		for (int i = 0; i < payload_columns.length; i++) {
+			if(payload_columns[i] == column_index){
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Posicion de la llave primaria dentro del valor guardado
+	 */
+	int primaryKeyPosition(){
+		return payload_columns.length - 1;
+	}
+
+	/**
+	 * Convierte una columna a la forma en que se ordena en el indice
+	 *
+	 * @return valor codificado, null si la columna es nula
+	 */
+	static String encodeField(byte[] register, int column_index){
+		int header = ScanPredicate.fieldOffset(register, column_index);
+		if(header < 0 || register[header] == StoreDataManager.NULL_VALUE){
+			return null;
+		}
+		int length = ((register[header+1] & 0xFF) << 8) | (register[header+2] & 0xFF);
+		int offset = header + 3;
+		switch(register[header]){
+			case StoreDataManager.BY_TYPE_INTEGER:
+				return encodeInt(ByteBuffer.wrap(register).getInt(offset));
+			case StoreDataManager.BY_TYPE_DECIMAL:
+				return encodeFloat(ByteBuffer.wrap(register).getFloat(offset));
+			default:
+				return new String(register, offset, length).toLowerCase();
+		}
+	}
+
+	/**
+	 * Indica si el indice puede resolver la condicion sobre su
+	 * primera columna
+	 *
+	 * @param operator operador de la condicion
+	 *
+	 * @param type tipo de la columna
+	 *
+	 * @return true para = en cualquier tipo, y para < y > en
+	 * columnas numericas
+	 */
+	public static boolean supports(String operator, String type){
+		if(operator.equals(ScanPredicate.EQUAL)){
+			return true;
+		}
+		if(operator.equals(ScanPredicate.LESS_THAN) || operator.equals(ScanPredicate.MORE_THAN)){
+			return isNumeric(type);
+		}
+		return false;
+	}
+
+	/**
+	 * Convierte el valor de una condicion a la forma en
+	 * que esta en el indice
+	 *
+	 * @param value valor de la condicion
+	 *
+	 * @param type tipo de la columna
+	 *
+	 * @return valor codificado, null si no es del tipo de la columna
+	 */
+	static String encodeValue(String value, String type){
+		try {
+			if(type.equals(TableAttribute.TYPE_INT)){
+				return encodeInt(Integer.parseInt(value));
+			}
+			if(type.equals(TableAttribute.TYPE_DECIMAL)){
+				return encodeFloat(Float.parseFloat(value));
+			}
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		return value.toLowerCase();
+	}
+
+	/**
+	 * Llave despues de la cual empieza el recorrido del indice
+	 *
+	 * @param operator operador de la condicion
+	 *
+	 * @param value valor codificado
+	 */
+	static String startKey(String operator, String value){
+		if(operator.equals(ScanPredicate.EQUAL)){
+			return ENTRY_PREFIX + value + SEPARATOR;
+		}
+		if(operator.equals(ScanPredicate.MORE_THAN)){
+			return ENTRY_PREFIX + value + AFTER_SEPARATOR;
+		}
+		return ENTRY_PREFIX;
+	}
+
+	/**
+	 * Indica si una llave del indice todavia cumple con la
+	 * condicion, al recorrerlo en orden
+	 *
+	 * @param key llave del indice
+	 *
+	 * @param operator operador de la condicion
+	 *
+	 * @param value valor codificado
+	 */
+	static boolean inRange(String key, String operator, String value){
+		if(!key.startsWith(ENTRY_PREFIX)){
+			return false;
+		}
+		if(operator.equals(ScanPredicate.EQUAL)){
+			return key.startsWith(ENTRY_PREFIX + value + SEPARATOR);
+		}
+		if(operator.equals(ScanPredicate.LESS_THAN)){
+			return key.compareTo(ENTRY_PREFIX + value) < 0;
+		}
+		return true;
+	}
+
+	private static boolean isNumeric(String type){
+		return type.equals(TableAttribute.TYPE_INT) ||
+				type.equals(TableAttribute.TYPE_DECIMAL);
+	}
+
+	/**
+	 * Entero en hexadecimal con el bit de signo invertido,
+	 * asi los negativos quedan antes que los positivos
+	 */
+	private static String encodeInt(int value){
+		return String.format("%08x", value ^ 0x80000000);
+	}
+
+	/**
+	 * Decimal en hexadecimal ordenado como el numero: a los
+	 * positivos se les invierte el signo y a los negativos
+	 * todos los bits
+	 */
+	private static String encodeFloat(float value){
+		int bits = Float.floatToIntBits(value);
+		bits = bits < 0 ? ~bits : bits ^ 0x80000000;
+		return String.format("%08x", bits);
+	}
+}
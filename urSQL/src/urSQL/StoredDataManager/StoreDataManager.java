@@ -2,12 +2,18 @@ package urSQL.StoredDataManager;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import urSQL.Metrics.Metrics;
+import urSQL.Metrics.StorageEvent;
 import urSQL.StoredDataManager.BplusJ.*;
 import urSQL.System.TableAttribute;
 import urSQL.System.TableMetadata;
@@ -26,10 +32,15 @@ public class StoreDataManager {
 	 * Separador de en las direcciones de archivos
 	 */
 	private static final String FILE_SEPARATOR = File.separator;
+	/**
+	 * Propiedad del sistema con la carpeta donde se guardan los datos,
+	 * si no esta se usa la carpeta de trabajo
+	 */
+	public static final String HOME_PROPERTY = "urSQL.home";
 	/**
 	 * Este es la direcci�n donde se van a almacenar las bases de datos.
 	 */
-	private static final String DATABASES_PATH = System.getProperty("user.dir") + FILE_SEPARATOR +"DATABASES";
+	private static final String DATABASES_PATH = homeDirectory() + FILE_SEPARATOR +"DATABASES";
 	/**
 	 * Sufijo del nombre de los archivos de arbol
 	 */
@@ -44,27 +55,27 @@ public class StoreDataManager {
 	/**
 	 * Byte, se escribe cuando una columna es nula
 	 */
-	private static final byte NULL_VALUE = (byte)0xAA;
+	static final byte NULL_VALUE = (byte)0xAA;
 	/**
 	 * Byte de tipo entero
 	 */
-	private static final byte BY_TYPE_INTEGER = (byte)0x00;
+	static final byte BY_TYPE_INTEGER = (byte)0x00;
 	/**
 	 * Byte de tipo char
 	 */
-	private static final byte BY_TYPE_CHAR = (byte)0x02;
+	static final byte BY_TYPE_CHAR = (byte)0x02;
 	/**
 	 * Byte de tipo varchar
 	 */
-	private static final byte BY_TYPE_VARCHAR = (byte)0x03;
+	static final byte BY_TYPE_VARCHAR = (byte)0x03;
 	/**
 	 * Byte de tipo decimal, como el float
 	 */
-	private static final byte BY_TYPE_DECIMAL = (byte)0x01;
+	static final byte BY_TYPE_DECIMAL = (byte)0x01;
 	/**
 	 * Byte de tipo fecha
 	 */
-	private static final byte BY_TYPE_DATETIME = (byte)0x04;
+	static final byte BY_TYPE_DATETIME = (byte)0x04;
 	
 	/**************************KEYS DE CONTROL****************************/
 	
@@ -84,10 +95,43 @@ public class StoreDataManager {
 	private static final String METADATA_KEY = " METADATA";
 	
 	/**
-	 * 
+	 * Latch de los archivos de cada tabla, por base y tabla. Los
+	 * arboles no se pueden leer mientras otro hilo los escribe, y con
+	 * los bloqueos por fila varias rutinas escriben en la misma tabla;
+	 * el latch solo se tiene durante una operacion
 	 */
-	private String database_name="Basesita";
+	private static final ConcurrentHashMap<String, ReentrantReadWriteLock> LATCHES = 
+			new ConcurrentHashMap<String, ReentrantReadWriteLock>();
+	
+	/**
+	 * Base de datos de las tablas, la de la sesion o la elegida
+	 * con setDatabase
+	 */
+	private String database_name;
+	
+	/**
+	 * Transaccion de la sesion, null si cada operacion se confirma
+	 * sola
+	 */
+	private Transaction transaction;
+	
+	/**
+	 * Se aplica la bitacora que dejo el proceso anterior y se abre
+	 * una nueva, antes de la primera lectura de las tablas
+	 */
+	static {
+		WriteAheadLog.open();
+	}
 	
+	/**
+	 * Carpeta donde se guardan las bases de datos y el catalogo
+	 *
+	 * @return valor de HOME_PROPERTY o la carpeta de trabajo
+	 */
+	public static String homeDirectory(){
+		return System.getProperty(HOME_PROPERTY, System.getProperty("user.dir"));
+	}
+
 	/**
 	 * Crea la carpeta de las bases de datos si estas no existen.
 	 */
@@ -109,6 +153,30 @@ public class StoreDataManager {
 	}
 	
 	
+	/**
+	 * Crea un manejador para las tablas de una base de datos, la de
+	 * la sesion que ejecuta la sentencia
+	 *
+	 * @param database_name nombre de la base de datos
+	 */
+	public StoreDataManager(String database_name){
+		this();
+		this.database_name = database_name;
+	}
+	
+	/**
+	 * Crea un manejador que escribe dentro de la transaccion de la
+	 * sesion, que ve sus propios cambios antes del COMMIT
+	 *
+	 * @param database_name nombre de la base de datos
+	 *
+	 * @param transaction transaccion de la sesion, null si no hay
+	 */
+	public StoreDataManager(String database_name, Transaction transaction){
+		this(database_name);
+		this.transaction = transaction;
+	}
+	
 	/**
 	 * Crea la nueva base de datos 
 	 * 
@@ -260,12 +328,15 @@ public class StoreDataManager {
 			}
 			//si no existe
 			else{
-				table.mkdirs();
 				//Crea los archivos de los arboles 
 				File tree_file = new File(table, table_name + TREE_SUFIX);
 				File block_file = new File(table, table_name + BLOCKS_SUFFIX);
 				
 				try {
+					//la bitacora ya no aplica cambios de una tabla
+					//anterior con el mismo nombre
+					resetLog(table.getAbsolutePath() + FILE_SEPARATOR);
+					table.mkdirs();
 					//crea el arbol
 					xBplusTreeBytes tree = xBplusTreeBytes.Initialize(new RandomAccessFile(tree_file, "rw"),
 							new RandomAccessFile(block_file, "rw"), 10);
@@ -288,6 +359,8 @@ public class StoreDataManager {
 					
 					//se envia todo al arbol
 					tree.Commit();
+					//el checkpoint fuerza los archivos y guarda la raiz
+					logCreated(tree_file, block_file);
 					
 					if(tree.ContainsKey(COLUMN_QUANTITY_KEY) && tree.ContainsKey(PK_INDEX) &&
 							tree.ContainsKey(METADATA_KEY)){
@@ -388,6 +461,204 @@ public class StoreDataManager {
 	 * insertar en la tabla.
 	 */
 	public void insertRow(TableMetadata metadata,LinkedList<String> data){
+		long start = Metrics.STORE_INSERT.start();
+		StorageEvent event = beginEvent();
+		ReentrantReadWriteLock.WriteLock latch = latch(database_name, metadata.getTableName()).writeLock();
+		latch.lock();
+		boolean operation = beginOperation();
+		try {
+			insertRowUntimed(metadata, data);
+		} finally {
+			endOperation(operation);
+			latch.unlock();
+			Metrics.STORE_INSERT.stop(start);
+			commitEvent(event, "insertRow", metadata.getTableName(), 1);
+		}
+	}
+
+	/**
+	 * Latch de los archivos de una tabla
+	 * 
+	 * @param database_name nombre de la base de datos
+	 * 
+	 * @param table_name nombre de la tabla
+	 */
+	private static ReentrantReadWriteLock latch(String database_name, String table_name){
+		String key = database_name + "/" + table_name;
+		ReentrantReadWriteLock latch = LATCHES.get(key);
+		if(latch == null){
+			ReentrantReadWriteLock created = new ReentrantReadWriteLock();
+			latch = LATCHES.putIfAbsent(key, created);
+			if(latch == null){
+				latch = created;
+			}
+		}
+		return latch;
+	}
+
+	/**
+	 * Fuera de una transaccion, abre una para la operacion, asi la
+	 * fila y sus indices se confirman juntos por la bitacora
+	 * 
+	 * @return true si la operacion tiene su propia transaccion
+	 */
+	private boolean beginOperation(){
+		if(transaction != null || WriteAheadLog.getInstance() == null){
+			return false;
+		}
+		transaction = new Transaction();
+		return true;
+	}
+	
+	/**
+	 * Confirma la transaccion propia de una operacion
+	 * 
+	 * @param operation resultado de beginOperation
+	 */
+	private void endOperation(boolean operation){
+		if(operation){
+			Transaction done = transaction;
+			transaction = null;
+			done.commit();
+		}
+	}
+	
+	/**
+	 * Anota en la bitacora que los archivos de una tabla o indice se
+	 * crean de nuevo
+	 * 
+	 * @param prefix carpeta de la tabla o arbol del indice
+	 */
+	private static void resetLog(String prefix) throws IOException{
+		WriteAheadLog log = WriteAheadLog.getInstance();
+		if(log != null){
+			log.reset(prefix);
+		}
+	}
+	
+	/**
+	 * Anota en la bitacora un arbol recien creado, que queda en disco
+	 * con su raiz en el checkpoint antes de que se le agreguen cambios
+	 * 
+	 * @param file_tree archivo del arbol
+	 * 
+	 * @param file_blocks archivo de bloques del arbol
+	 */
+	private static void logCreated(File file_tree, File file_blocks) throws IOException{
+		WriteAheadLog log = WriteAheadLog.getInstance();
+		if(log != null){
+			log.created(file_tree.getAbsolutePath(), file_blocks.getAbsolutePath());
+		}else{
+			WriteAheadLog.sync(file_tree);
+			WriteAheadLog.sync(file_blocks);
+		}
+	}
+	
+	/**
+	 * Abre el arbol de una tabla o indice para leerlo; si la
+	 * transaccion ya lo escribio se usa el suyo, que tiene sus cambios
+	 * 
+	 * @param file_tree archivo del arbol
+	 * 
+	 * @param file_blocks archivo de bloques del arbol
+	 */
+	private xBplusTreeBytes openTree(File file_tree, File file_blocks) throws Exception{
+		if(transaction != null){
+			xBplusTreeBytes tree = transaction.getTree(file_tree);
+			if(tree != null){
+				return tree;
+			}
+		}
+		return xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
+				new RandomAccessFile(file_blocks, "rw"));
+	}
+	
+	/**
+	 * Abre el arbol de una tabla o indice para escribirlo; dentro de
+	 * una transaccion queda abierto hasta el COMMIT o el ROLLBACK
+	 * 
+	 * @param file_tree archivo del arbol
+	 * 
+	 * @param file_blocks archivo de bloques del arbol
+	 */
+	private xBplusTreeBytes openTreeForWrite(File file_tree, File file_blocks) throws Exception{
+		if(transaction != null){
+			return transaction.openTree(file_tree, file_blocks);
+		}
+		return xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
+				new RandomAccessFile(file_blocks, "rw"));
+	}
+	
+	/**
+	 * Confirma los cambios de un arbol, salvo si es de la transaccion,
+	 * que los confirma todos juntos en el COMMIT
+	 */
+	private void commitTree(xBplusTreeBytes tree) throws Exception{
+		if(transaction == null || !transaction.holds(tree)){
+			tree.Commit();
+		}
+	}
+	
+	/**
+	 * Cierra un arbol, salvo si es de la transaccion
+	 */
+	private void closeTree(xBplusTreeBytes tree) throws Exception{
+		if(transaction == null || !transaction.holds(tree)){
+			tree.Shutdown();
+		}
+	}
+	
+	/**
+	 * Escribe una llave en un arbol, anotandola en la transaccion si
+	 * el arbol es suyo
+	 */
+	private void setKey(xBplusTreeBytes tree, String key, byte[] value) throws Exception{
+		if(transaction != null && transaction.holds(tree)){
+			transaction.set(tree, key, value);
+		}else{
+			tree.set(key, value);
+		}
+	}
+	
+	/**
+	 * Borra una llave de un arbol, anotandola en la transaccion si el
+	 * arbol es suyo
+	 */
+	private void removeKey(xBplusTreeBytes tree, String key) throws Exception{
+		if(transaction != null && transaction.holds(tree)){
+			transaction.remove(tree, key);
+		}else{
+			tree.RemoveKey(key);
+		}
+	}
+
+	/**
+	 * Empieza el evento de JFR de una operacion, guardando los bytes
+	 * leidos hasta ahora por el hilo
+	 */
+	private StorageEvent beginEvent(){
+		StorageEvent event = new StorageEvent();
+		event.bytesRead = ReadCounters.getBytesRead();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Termina el evento de JFR de una operacion y lo registra si la
+	 * grabacion lo pide
+	 */
+	private void commitEvent(StorageEvent event, String operation, String table_name, int rows){
+		event.end();
+		if(event.shouldCommit()){
+			event.operation = operation;
+			event.table = table_name;
+			event.rows = rows;
+			event.bytesRead = ReadCounters.getBytesRead() - event.bytesRead;
+			event.commit();
+		}
+	}
+
+	private void insertRowUntimed(TableMetadata metadata,LinkedList<String> data){
 		//se verifica que exista la carpeta de bases de datos
 		File file_database = new File(DATABASES_PATH + FILE_SEPARATOR + database_name);
 		//nombre de la tabla
@@ -414,13 +685,14 @@ public class StoreDataManager {
 				else{
 					//si existen se crea el arbol
 					try {
-						xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
-								new RandomAccessFile(file_blocks, "rw"));
+						xBplusTreeBytes tree = openTreeForWrite(file_tree, file_blocks);
 						//se obtiene el indice de la llave primaria
 						byte[] b_pk_index = tree.get(PK_INDEX);
 						int pk_index = (int)ByteBuffer.wrap(b_pk_index).getShort();
 						
 						String key = data.get(pk_index);
+						//filtro de las llaves de la tabla
+						BloomFilter filter = openTableFilter(file_table, table_name, tree);
 						
 						if(metadata.getTableColumns().size() != data.size()){
 							System.err.format("La fila debe tener %d columnas \n", metadata.getTableColumns().size());
@@ -430,12 +702,12 @@ public class StoreDataManager {
 							//Si la llave primaria es nula
 							if(key.compareTo("null") == 0){
 								System.err.format("La llave primaria de la fila es nula\n");
-								tree.Shutdown();
+								closeTree(tree);
 							}
-							//si la llave ya esta
-							else if(tree.ContainsKey(key)){
+							//si la llave ya esta, el filtro evita buscar las llaves nuevas
+							else if(filter.mightContain(key) && tree.ContainsKey(key)){
 								System.err.format("La llave primaria ya se encuentra en el arbol\n");
-								tree.Shutdown();
+								closeTree(tree);
 							}
 							//inserta si no hay problema con la llave
 							else{
@@ -445,15 +717,18 @@ public class StoreDataManager {
 								//crea el registro de bytes
 								byte[] register = toBytes(vec);
 								//se escribe en el arbol la fila
-								tree.set(key, register);
+								setKey(tree, key, register);
 								//se verifica que se haya insertado
 								if(!tree.ContainsKey(key)){
 									System.err.format("La fila de llave %s de la tabla %s no se pudo insertar correctamente\n",
 											key, table_name);
 								}
 								else{
-									tree.Commit();
-									tree.Shutdown();
+									commitTree(tree);
+									closeTree(tree);
+									filter.add(key);
+									//se agrega la fila a los indices de la tabla
+									updateIndexes(file_table, key, null, register);
 								}
 								
 							}
@@ -653,6 +928,22 @@ public class StoreDataManager {
 	 * @return String con la fila.
 	 */
 	public String getRow(String pk, String table_name){
+		long start = Metrics.STORE_GET_ROW.start();
+		StorageEvent event = beginEvent();
+		String result = null;
+		ReentrantReadWriteLock.ReadLock latch = latch(database_name, table_name).readLock();
+		latch.lock();
+		try {
+			result = getRowUntimed(pk, table_name);
+			return result;
+		} finally {
+			latch.unlock();
+			Metrics.STORE_GET_ROW.stop(start);
+			commitEvent(event, "getRow", table_name, result != null ? 1 : 0);
+		}
+	}
+
+	private String getRowUntimed(String pk, String table_name){
 		String result = "";
 		//se verifica que exista la carpeta de bases de datos
 		File file_database = new File(DATABASES_PATH + FILE_SEPARATOR + database_name);
@@ -680,8 +971,14 @@ public class StoreDataManager {
 				else{
 					//si existen los archivos se crea el arbol
 					try {
-						xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
-								new RandomAccessFile(file_blocks, "rw"));
+						//si el filtro dice que la llave no esta no se abre el arbol
+						BloomFilter filter = BloomFilter.open(BloomFilter.filterFile(file_table, table_name));
+						if(filter != null && !filter.mightContain(pk)){
+							System.err.format("En la tabla %s de la base de datos %s no se\n"
+									+ "encuentra la llave primaria %s\n", table_name, database_name, pk);
+							return result;
+						}
+						xBplusTreeBytes tree = openTree(file_tree, file_blocks);
 						//comprueba que la llave se encuentre en el arbol
 						if(!tree.ContainsKey(pk)){
 							System.err.format("En la tabla %s de la base de datos %s no se\n"
@@ -691,7 +988,7 @@ public class StoreDataManager {
 						else{
 							byte[] register = tree.get(pk);
 							//apaga el arbol
-							tree.Shutdown();
+							closeTree(tree);
 							//se convierte a string
 							result = parseByteArray2String(register);
 						}
@@ -786,6 +1083,47 @@ public class StoreDataManager {
 	 * @return LinkedList de LinkedList que representa la tabla
 	 */
 	public LinkedList<LinkedList<String>> getTable(String database_name, String table_name){
+		return getTable(database_name, table_name, null, null, -1);
+	}
+
+	/**
+	 * Retorna las filas de la tabla que cumplen con el predicado, deteniendo
+	 * el recorrido del arbol en cuanto se reunen limit filas. El predicado
+	 * se evalua sobre el registro en bytes, de modo que solo se crean
+	 * las filas que lo cumplen
+	 *
+	 * @param database_name nombre de la base de datos
+	 *
+	 * @param table_name nombre de la tabla
+	 *
+	 * @param predicate condicion de las filas, null si se aceptan todas
+	 *
+	 * @param columns columnas que se convierten a String, las demas se
+	 * saltan usando el largo de cada una; null si se quieren todas
+	 *
+	 * @param limit cantidad maxima de filas, -1 si no hay limite
+	 *
+	 * @return LinkedList de LinkedList que representa la tabla
+	 */
+	public LinkedList<LinkedList<String>> getTable(String database_name, String table_name,
+			ScanPredicate predicate, boolean[] columns, int limit){
+		long start = Metrics.STORE_SCAN.start();
+		StorageEvent event = beginEvent();
+		LinkedList<LinkedList<String>> result = null;
+		ReentrantReadWriteLock.ReadLock latch = latch(database_name, table_name).readLock();
+		latch.lock();
+		try {
+			result = getTableUntimed(database_name, table_name, predicate, columns, limit);
+			return result;
+		} finally {
+			latch.unlock();
+			Metrics.STORE_SCAN.stop(start);
+			commitEvent(event, "getTable", table_name, result != null ? result.size() : 0);
+		}
+	}
+
+	private LinkedList<LinkedList<String>> getTableUntimed(String database_name, String table_name,
+			ScanPredicate predicate, boolean[] columns, int limit){
 		//tabla resultante
 		LinkedList<LinkedList<String>> table = new LinkedList<LinkedList<String>>();
 		//archivo de la base de datos o esquema
@@ -816,21 +1154,25 @@ public class StoreDataManager {
 				else{
 					try {
 						//arbol de la tabla
-						xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
-								new RandomAccessFile(file_blocks, "rw"));
-						//llave temporal 
-						String tmp_key = tree.NextKey(PK_INDEX);
-						
+						xBplusTreeBytes tree = openTree(file_tree, file_blocks);
+						//llave temporal, sin limite de filas no se recorre el arbol
+						String tmp_key = limit == 0 ? null : tree.NextKey(PK_INDEX);
+
 						while(tmp_key != null){
 							//registro en bytes
 							byte[] tmp_register = tree.get(tmp_key);
-							//se crea la fila
-							LinkedList<String> tmp_row = byteArray2List(tmp_register);
-							//se agrega la fila
-							table.add(tmp_row);
+							//se crea la fila solo si cumple con el predicado
+							if(predicate == null || predicate.matches(tmp_register)){
+								table.add(byteArray2List(tmp_register, columns));
+							}
+							//si ya se tienen las filas pedidas se deja de leer
+							if(limit > 0 && table.size() >= limit){
+								break;
+							}
 							//se cambia a la proxima llave
 							tmp_key = tree.NextKey(tmp_key);
 						}
+						closeTree(tree);
 						//se retorna la tabla
 						return table;
 						
@@ -848,6 +1190,144 @@ public class StoreDataManager {
 		return table;
 	}
 	
+	/**
+	 * Busca filas por su llave primaria sin recorrer la tabla. Cada
+	 * llave se revisa primero en el filtro de Bloom
+	 * 
+	 * @param database_name nombre de la base de datos
+	 * 
+	 * @param table_name nombre de la tabla
+	 * 
+	 * @param keys llaves primarias buscadas, una fila por llave
+	 * 
+	 * @param predicate condicion que ademas debe cumplir la fila, null
+	 * si no hay
+	 * 
+	 * @param columns columnas que se convierten a String, null si se
+	 * quieren todas
+	 * 
+	 * @return filas encontradas
+	 */
+	public LinkedList<LinkedList<String>> getTableByKeys(String database_name, String table_name,
+			LinkedList<String> keys, ScanPredicate predicate, boolean[] columns){
+		long start = Metrics.STORE_GET_BY_KEYS.start();
+		StorageEvent event = beginEvent();
+		LinkedList<LinkedList<String>> result = null;
+		ReentrantReadWriteLock.ReadLock latch = latch(database_name, table_name).readLock();
+		latch.lock();
+		try {
+			result = getTableByKeysUntimed(database_name, table_name, keys, predicate, columns);
+			return result;
+		} finally {
+			latch.unlock();
+			Metrics.STORE_GET_BY_KEYS.stop(start);
+			commitEvent(event, "getTableByKeys", table_name, result != null ? result.size() : 0);
+		}
+	}
+
+	private LinkedList<LinkedList<String>> getTableByKeysUntimed(String database_name, String table_name,
+			LinkedList<String> keys, ScanPredicate predicate, boolean[] columns){
+		LinkedList<LinkedList<String>> table = new LinkedList<LinkedList<String>>();
+		File file_table = new File(DATABASES_PATH + FILE_SEPARATOR + database_name, table_name);
+		File file_blocks = new File(file_table, table_name + BLOCKS_SUFFIX);
+		File file_tree = new File(file_table, table_name + TREE_SUFIX);
+		if(!file_blocks.exists() || !file_tree.exists()){
+			System.err.format("La tabla %s no existe en la base %s\n", table_name, database_name);
+			return table;
+		}
+		try {
+			BloomFilter filter = BloomFilter.open(BloomFilter.filterFile(file_table, table_name));
+			xBplusTreeBytes tree = null;
+			for(String key : keys){
+				//el filtro evita abrir el arbol por llaves que no estan
+				if(filter != null && !filter.mightContain(key)){
+					continue;
+				}
+				if(tree == null){
+					tree = openTree(file_tree, file_blocks);
+				}
+				if(!tree.ContainsKey(key)){
+					continue;
+				}
+				byte[] register = tree.get(key);
+				if(predicate == null || predicate.matches(register)){
+					table.add(byteArray2List(register, columns));
+				}
+			}
+			if(tree != null){
+				closeTree(tree);
+			}
+		} catch (FileNotFoundException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+		return table;
+	}
+	
+	/**
+	 * Toma una muestra de las filas de una tabla para calcular sus
+	 * estadisticas. Primero se cuentan las llaves recorriendo el arbol
+	 * sin leer los registros y despues se lee una de cada tantas
+	 * llaves, de modo que la muestra cubre toda la tabla
+	 * 
+	 * @param database_name nombre de la base de datos
+	 * 
+	 * @param table_name nombre de la tabla
+	 * 
+	 * @param sample_size cantidad maxima de filas de la muestra
+	 * 
+	 * @return cantidad de filas de la tabla y las filas de la muestra,
+	 * null si la tabla no existe
+	 */
+	public Pair<Integer, LinkedList<LinkedList<String>>> sampleTable(String database_name, 
+			String table_name, int sample_size){
+		File file_table = new File(DATABASES_PATH + FILE_SEPARATOR + database_name, table_name);
+		File file_blocks = new File(file_table, table_name + BLOCKS_SUFFIX);
+		File file_tree = new File(file_table, table_name + TREE_SUFIX);
+		if(!file_blocks.exists() || !file_tree.exists()){
+			System.err.format("La tabla %s no existe en la base %s\n", table_name, database_name);
+			return null;
+		}
+		ReentrantReadWriteLock.ReadLock latch = latch(database_name, table_name).readLock();
+		latch.lock();
+		try {
+			xBplusTreeBytes tree = openTree(file_tree, file_blocks);
+			//se cuentan las filas
+			int rows = 0;
+			String key = tree.NextKey(PK_INDEX);
+			while(key != null){
+				rows++;
+				key = tree.NextKey(key);
+			}
+			//se lee una de cada step filas
+			int step = Math.max(1, (rows + sample_size - 1) / Math.max(sample_size, 1));
+			LinkedList<LinkedList<String>> sample = new LinkedList<LinkedList<String>>();
+			int position = 0;
+			key = tree.NextKey(PK_INDEX);
+			while(key != null && sample.size() < sample_size){
+				if(position % step == 0){
+					sample.add(byteArray2List(tree.get(key), null));
+				}
+				position++;
+				key = tree.NextKey(key);
+			}
+			closeTree(tree);
+			return new Pair<Integer, LinkedList<LinkedList<String>>>(rows, sample);
+		} catch (FileNotFoundException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		} finally {
+			latch.unlock();
+		}
+		return null;
+	}
+	
 	/**
 	 * Crea una lista de String con los valores de 
 	 * de los registros en string
@@ -855,9 +1335,11 @@ public class StoreDataManager {
 	 * @param array arreglo de bytes que corresponde al registro de 
 	 * de la fila 
 	 * 
+	 * @param columns columnas que se leen, null si se leen todas
+	 * 
 	 * @return LinkedList de String que contiene los datos
 	 */
-	private LinkedList<String> byteArray2List(byte[] array){
+	private LinkedList<String> byteArray2List(byte[] array, boolean[] columns){
 		//lista con los string 
 		LinkedList<String> result_list = new LinkedList<String>();
 		//indice por el cual va 
@@ -868,16 +1350,22 @@ public class StoreDataManager {
 		int length = 0;
 		//tipo de valor del que se va a leer
 		byte type = (byte)0x00;
+		//numero de columna que se esta leyendo
+		int column = 0;
 		
 		while(current_index < array.length){
 			//se toma el tipo
 			type = array[current_index];
 			//se toma cuantos bytes ocupa
 			length = (int)ByteBuffer.wrap(array, current_index+1, 2).getShort();
-			//se obtiene el valor en string
-			String tmp = byteSwitch(array, offset, length, type);
-			//se hace apend de lo que se lee
-			result_list.add(tmp);
+			//solo se convierten las columnas pedidas
+			if(columns == null || (column < columns.length && columns[column])){
+				//se obtiene el valor en string
+				String tmp = byteSwitch(array, offset, length, type);
+				//se hace apend de lo que se lee
+				result_list.add(tmp);
+			}
+			column++;
 			//se establecen los valores para el proximo subregistro
 			current_index = current_index + length + 3;
 			offset = offset + length + 3;
@@ -887,6 +1375,649 @@ public class StoreDataManager {
 		
 	}
 	
+	/**
+	 * Crea un indice secundario sobre una o varias columnas de la
+	 * tabla y lo llena con las filas que ya existen
+	 * 
+	 * @param database_name nombre de la base de datos
+	 * 
+	 * @param table_name nombre de la tabla
+	 * 
+	 * @param index_name nombre del indice
+	 * 
+	 * @param key_columns posiciones de las columnas de la llave
+	 * 
+	 * @param include_columns posiciones de las columnas que solo
+	 * se guardan en el indice
+	 */
+	public void createIndex(String database_name, String table_name, String index_name, 
+			int[] key_columns, int[] include_columns){
+		File file_table = new File(DATABASES_PATH + FILE_SEPARATOR + database_name, table_name);
+		File file_blocks = new File(file_table, table_name + BLOCKS_SUFFIX);
+		File file_tree = new File(file_table, table_name + TREE_SUFIX);
+		//si no existe la tabla
+		if(!file_blocks.exists() || !file_tree.exists()){
+			System.err.format("La tabla %s no existe en la base %s\n", table_name, database_name);
+			return;
+		}
+		File index_tree = new File(file_table, index_name + SecondaryIndex.INDEX_SUFFIX + TREE_SUFIX);
+		File index_blocks = new File(file_table, index_name + SecondaryIndex.INDEX_SUFFIX + BLOCKS_SUFFIX);
+		//si el indice ya existe
+		if(index_tree.exists()){
+			System.err.format("El indice %s ya habia sido creado\n", index_name);
+			return;
+		}
+		try {
+			resetLog(index_tree.getAbsolutePath());
+			xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
+					new RandomAccessFile(file_blocks, "rw"));
+			int pk_index = (int)ByteBuffer.wrap(tree.get(PK_INDEX)).getShort();
+			
+			xBplusTreeBytes index = xBplusTreeBytes.Initialize(new RandomAccessFile(index_tree, "rw"),
+					new RandomAccessFile(index_blocks, "rw"), 10);
+			//se guardan las columnas del indice
+			byte[] layout = SecondaryIndex.layout(key_columns, include_columns, pk_index);
+			index.set(SecondaryIndex.COLUMNS_KEY, layout);
+			SecondaryIndex secondary = new SecondaryIndex(layout);
+			
+			//se agregan las filas que ya estan en la tabla
+			String tmp_key = tree.NextKey(PK_INDEX);
+			while(tmp_key != null){
+				byte[] tmp_register = tree.get(tmp_key);
+				String entry = secondary.entryKey(tmp_register, tmp_key);
+				if(entry != null){
+					index.set(entry, secondary.payload(tmp_register));
+				}
+				tmp_key = tree.NextKey(tmp_key);
+			}
+			tree.Shutdown();
+			
+			index.Commit();
+			logCreated(index_tree, index_blocks);
+			//filtro de los valores de la primera columna
+			createIndexFilter(file_table, index_name, index);
+			index.Shutdown();
+			System.out.format("El indice %s fue creado correctamente\n", index_name);
+			
+		} catch (FileNotFoundException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Crea un indice hash sobre una columna de la tabla, lo llena
+	 * con las filas que ya existen y guarda su copia en disco
+	 * 
+	 * @param database_name nombre de la base de datos
+	 * 
+	 * @param table_name nombre de la tabla
+	 * 
+	 * @param index_name nombre del indice
+	 * 
+	 * @param column_index posicion de la columna en el registro
+	 */
+	public void createHashIndex(String database_name, String table_name, String index_name, int column_index){
+		File file_table = new File(DATABASES_PATH + FILE_SEPARATOR + database_name, table_name);
+		File file_blocks = new File(file_table, table_name + BLOCKS_SUFFIX);
+		File file_tree = new File(file_table, table_name + TREE_SUFIX);
+		//si no existe la tabla
+		if(!file_blocks.exists() || !file_tree.exists()){
+			System.err.format("La tabla %s no existe en la base %s\n", table_name, database_name);
+			return;
+		}
+		File hash_file = HashIndex.snapshotFile(file_table, index_name);
+		//si el indice ya existe
+		if(hash_file.exists()){
+			System.err.format("El indice %s ya habia sido creado\n", index_name);
+			return;
+		}
+		try {
+			HashIndex index = HashIndex.create(hash_file, column_index);
+			//se agregan las filas que ya estan en la tabla
+			fillHashIndex(index, file_tree, file_blocks);
+			index.save();
+			System.out.format("El indice %s fue creado correctamente\n", index_name);
+			
+		} catch (FileNotFoundException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Agrega a un indice hash las filas confirmadas de la tabla
+	 * 
+	 * @param index indice abierto
+	 * 
+	 * @param file_tree archivo del arbol de la tabla
+	 * 
+	 * @param file_blocks archivo de bloques de la tabla
+	 */
+	private static void fillHashIndex(HashIndex index, File file_tree, File file_blocks) throws Exception{
+		xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
+				new RandomAccessFile(file_blocks, "rw"));
+		try {
+			String tmp_key = tree.NextKey(PK_INDEX);
+			while(tmp_key != null){
+				String value = SecondaryIndex.encodeField(tree.get(tmp_key), index.getColumnIndex());
+				if(value != null){
+					index.put(HashIndex.hash(value), tmp_key);
+				}
+				tmp_key = tree.NextKey(tmp_key);
+			}
+		} finally {
+			tree.Shutdown();
+		}
+	}
+	
+	/**
+	 * Abre un indice hash; si la recuperacion de la bitacora lo
+	 * descarto, antes se llena de nuevo desde la tabla
+	 * 
+	 * @param hash_file archivo de la copia del indice
+	 * 
+	 * @return el indice, null si no existe
+	 */
+	private static HashIndex openHashIndex(File hash_file) throws Exception{
+		HashIndex index = HashIndex.open(hash_file);
+		if(index == null){
+			return null;
+		}
+		synchronized (index) {
+			if(index.isDiscarded()){
+				File file_table = hash_file.getParentFile();
+				String table_name = file_table.getName();
+				fillHashIndex(index, new File(file_table, table_name + TREE_SUFIX), 
+						new File(file_table, table_name + BLOCKS_SUFFIX));
+				index.save();
+			}
+		}
+		return index;
+	}
+	
+	/**
+	 * Retorna las filas que cumplen con el predicado buscandolas en un
+	 * indice secundario, en lugar de recorrer toda la tabla. Si el indice
+	 * guarda todas las columnas pedidas y la del predicado, las filas se
+	 * crean con lo guardado en el indice sin abrir los archivos de la tabla
+	 * 
+	 * @param database_name nombre de la base de datos
+	 * 
+	 * @param table_name nombre de la tabla
+	 * 
+	 * @param index_name nombre del indice de la columna del predicado
+	 * 
+	 * @param type tipo de la columna indexada
+	 * 
+	 * @param predicate condicion =, < o > sobre la primera columna del indice
+	 * 
+	 * @param columns columnas que se convierten a String, null si se quieren todas
+	 * 
+	 * @param limit cantidad maxima de filas, -1 si no hay limite
+	 * 
+	 * @return LinkedList de LinkedList con las filas, en el orden del indice
+	 */
+	public LinkedList<LinkedList<String>> getTableByIndex(String database_name, String table_name,
+			String index_name, String type, ScanPredicate predicate, boolean[] columns, int limit){
+		long start = Metrics.STORE_GET_BY_INDEX.start();
+		StorageEvent event = beginEvent();
+		LinkedList<LinkedList<String>> result = null;
+		ReentrantReadWriteLock.ReadLock latch = latch(database_name, table_name).readLock();
+		latch.lock();
+		try {
+			result = getTableByIndexUntimed(database_name, table_name, index_name, type, predicate, columns, limit);
+			return result;
+		} finally {
+			latch.unlock();
+			Metrics.STORE_GET_BY_INDEX.stop(start);
+			commitEvent(event, "getTableByIndex", table_name, result != null ? result.size() : 0);
+		}
+	}
+
+	private LinkedList<LinkedList<String>> getTableByIndexUntimed(String database_name, String table_name,
+			String index_name, String type, ScanPredicate predicate, boolean[] columns, int limit){
+		LinkedList<LinkedList<String>> table = new LinkedList<LinkedList<String>>();
+		
+		File file_table = new File(DATABASES_PATH + FILE_SEPARATOR + database_name, table_name);
+		File file_blocks = new File(file_table, table_name + BLOCKS_SUFFIX);
+		File file_tree = new File(file_table, table_name + TREE_SUFIX);
+		File index_tree = new File(file_table, index_name + SecondaryIndex.INDEX_SUFFIX + TREE_SUFIX);
+		File index_blocks = new File(file_table, index_name + SecondaryIndex.INDEX_SUFFIX + BLOCKS_SUFFIX);
+		
+		String value = SecondaryIndex.encodeValue(predicate.getValue(), type);
+		//los indices hash solo resuelven igualdades
+		File hash_file = HashIndex.snapshotFile(file_table, index_name);
+		if(hash_file.exists()){
+			if(value == null || !predicate.getOperator().equals(ScanPredicate.EQUAL)){
+				return getTable(database_name, table_name, predicate, columns, limit);
+			}
+			return getTableByHash(file_tree, file_blocks, hash_file, value, predicate, columns, limit);
+		}
+		//si el indice no sirve se recorre la tabla
+		if(value == null || !SecondaryIndex.supports(predicate.getOperator(), type) ||
+				!index_tree.exists() || !index_blocks.exists()){
+			return getTable(database_name, table_name, predicate, columns, limit);
+		}
+		if(!file_blocks.exists() || !file_tree.exists()){
+			System.err.format("La tabla %s no existe en la base %s\n", table_name, database_name);
+			return table;
+		}
+		try {
+			//si el filtro dice que el valor no esta no se abre el indice
+			if(predicate.getOperator().equals(ScanPredicate.EQUAL)){
+				BloomFilter filter = BloomFilter.open(BloomFilter.filterFile(file_table, 
+						index_name + SecondaryIndex.INDEX_SUFFIX));
+				if(filter != null && !filter.mightContain(value)){
+					return table;
+				}
+			}
+			xBplusTreeBytes index = openTree(index_tree, index_blocks);
+			SecondaryIndex secondary = new SecondaryIndex(index.get(SecondaryIndex.COLUMNS_KEY));
+			
+			//posiciones dentro del valor del indice de las columnas pedidas
+			int[] positions = coveredPositions(secondary, predicate, columns);
+			//la tabla solo se abre si el indice no tiene todas las columnas
+			xBplusTreeBytes tree = null;
+			ScanPredicate payload_predicate = null;
+			if(positions == null){
+				tree = openTree(file_tree, file_blocks);
+			}else{
+				payload_predicate = new ScanPredicate(secondary.payloadPosition(predicate.getColumnIndex()),
+						predicate.getOperator(), predicate.getValue());
+			}
+			
+			String operator = predicate.getOperator();
+			String tmp_key = limit == 0 ? null : index.NextKey(SecondaryIndex.startKey(operator, value));
+			
+			while(tmp_key != null && SecondaryIndex.inRange(tmp_key, operator, value)){
+				if(positions != null){
+					//la fila sale del valor guardado en el indice
+					byte[] tmp_payload = index.get(tmp_key);
+					if(payload_predicate.matches(tmp_payload)){
+						table.add(payload2List(tmp_payload, positions));
+					}
+				}else{
+					//se busca la fila por la llave primaria, que va al final de la llave del indice
+					String pk = tmp_key.substring(tmp_key.lastIndexOf(SecondaryIndex.SEPARATOR) + 1);
+					byte[] tmp_register = tree.get(pk);
+					//se revisa el predicado completo, el indice no distingue mayusculas
+					if(tmp_register != null && predicate.matches(tmp_register)){
+						table.add(byteArray2List(tmp_register, columns));
+					}
+				}
+				if(limit > 0 && table.size() >= limit){
+					break;
+				}
+				tmp_key = index.NextKey(tmp_key);
+			}
+			closeTree(index);
+			if(tree != null){
+				closeTree(tree);
+			}
+			
+		} catch (FileNotFoundException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+		return table;
+	}
+	
+	/**
+	 * Retorna las filas cuyo valor es igual al buscado usando un
+	 * indice hash
+	 * 
+	 * @param file_tree archivo del arbol de la tabla
+	 * 
+	 * @param file_blocks archivo de bloques de la tabla
+	 * 
+	 * @param hash_file copia del indice hash
+	 * 
+	 * @param value valor buscado, codificado como en el indice
+	 * 
+	 * @param predicate condicion de igualdad de la consulta
+	 * 
+	 * @param columns columnas que se convierten a String, null si se quieren todas
+	 * 
+	 * @param limit cantidad maxima de filas, -1 si no hay limite
+	 * 
+	 * @return LinkedList de LinkedList con las filas
+	 */
+	private LinkedList<LinkedList<String>> getTableByHash(File file_tree, File file_blocks, File hash_file,
+			String value, ScanPredicate predicate, boolean[] columns, int limit){
+		LinkedList<LinkedList<String>> table = new LinkedList<LinkedList<String>>();
+		if(!file_blocks.exists() || !file_tree.exists()){
+			System.err.format("La tabla %s no existe\n", file_tree.getParentFile().getName());
+			return table;
+		}
+		try {
+			HashIndex index = openHashIndex(hash_file);
+			LinkedList<String> keys = index.get(HashIndex.hash(value));
+			if(keys.isEmpty() || limit == 0){
+				return table;
+			}
+			xBplusTreeBytes tree = openTree(file_tree, file_blocks);
+			Iterator<String> iterator = keys.iterator();
+			while(iterator.hasNext()){
+				byte[] tmp_register = tree.get(iterator.next());
+				//valores distintos pueden tener el mismo hash
+				if(tmp_register != null && predicate.matches(tmp_register)){
+					table.add(byteArray2List(tmp_register, columns));
+				}
+				if(limit > 0 && table.size() >= limit){
+					break;
+				}
+			}
+			closeTree(tree);
+			
+		} catch (FileNotFoundException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+		return table;
+	}
+	
+	/**
+	 * Revisa si el indice guarda todas las columnas que se piden y
+	 * la columna del predicado
+	 * 
+	 * @param secondary columnas del indice
+	 * 
+	 * @param predicate condicion de la consulta
+	 * 
+	 * @param columns columnas pedidas, null si se quieren todas
+	 * 
+	 * @return posiciones dentro del valor del indice de las columnas
+	 * pedidas en el orden de la tabla, null si hay que leer la tabla
+	 */
+	private int[] coveredPositions(SecondaryIndex secondary, ScanPredicate predicate, boolean[] columns){
+		if(columns == null || secondary.payloadPosition(predicate.getColumnIndex()) < 0){
+			return null;
+		}
+		int count = 0;
+		for (int i = 0; i < columns.length; i++) {
+			if(columns[i]){
+				count++;
+			}
+		}
+		int[] positions = new int[count];
+		int current = 0;
+		for (int i = 0; i < columns.length; i++) {
+			if(columns[i]){
+				positions[current] = secondary.payloadPosition(i);
+				if(positions[current] < 0){
+					return null;
+				}
+				current++;
+			}
+		}
+		return positions;
+	}
+	
+	/**
+	 * Crea la fila a partir del valor guardado en un indice
+	 * 
+	 * @param payload registro con las columnas del indice
+	 * 
+	 * @param positions posiciones de las columnas que se leen
+	 * 
+	 * @return LinkedList de String con los datos
+	 */
+	private LinkedList<String> payload2List(byte[] payload, int[] positions){
+		LinkedList<String> result_list = new LinkedList<String>();
+		for (int i = 0; i < positions.length; i++) {
+			int header = ScanPredicate.fieldOffset(payload, positions[i]);
+			int length = (int)ByteBuffer.wrap(payload, header+1, 2).getShort();
+			result_list.add(byteSwitch(payload, header + 3, length, payload[header]));
+		}
+		return result_list;
+	}
+	
+	/**
+	 * Cambia una fila en todos los indices secundarios de la tabla
+	 * 
+	 * @param file_table carpeta de la tabla
+	 * 
+	 * @param key llave primaria de la fila
+	 * 
+	 * @param old_register registro anterior, null si la fila es nueva
+	 * 
+	 * @param new_register registro nuevo, null si la fila se borro
+	 */
+	private void updateIndexes(File file_table, String key, byte[] old_register, byte[] new_register){
+		File[] files = file_table.listFiles();
+		if(files == null){
+			return;
+		}
+		String tree_suffix = SecondaryIndex.INDEX_SUFFIX + TREE_SUFIX;
+		for (int i = 0; i < files.length; i++) {
+			String name = files[i].getName();
+			if(name.endsWith(HashIndex.HASH_SUFFIX)){
+				updateHashIndex(files[i], key, old_register, new_register);
+				continue;
+			}
+			if(!name.endsWith(tree_suffix)){
+				continue;
+			}
+			String index_name = name.substring(0, name.length() - tree_suffix.length());
+			File index_blocks = new File(file_table, index_name + SecondaryIndex.INDEX_SUFFIX + BLOCKS_SUFFIX);
+			try {
+				xBplusTreeBytes index = openTreeForWrite(files[i], index_blocks);
+				SecondaryIndex secondary = new SecondaryIndex(index.get(SecondaryIndex.COLUMNS_KEY));
+				
+				String old_entry = old_register == null ? null : secondary.entryKey(old_register, key);
+				String new_entry = new_register == null ? null : secondary.entryKey(new_register, key);
+				byte[] new_payload = new_entry == null ? null : secondary.payload(new_register);
+				//si las columnas del indice no cambiaron no se toca el indice
+				boolean same_entry = old_entry == null ? new_entry == null : old_entry.equals(new_entry);
+				if(!same_entry || (new_entry != null && 
+						!Arrays.equals(secondary.payload(old_register), new_payload))){
+					if(old_entry != null && index.ContainsKey(old_entry)){
+						removeKey(index, old_entry);
+					}
+					if(new_entry != null){
+						setKey(index, new_entry, new_payload);
+					}
+					commitTree(index);
+					if(new_entry != null && !same_entry){
+						addIndexFilter(file_table, index_name, index, SecondaryIndex.leadingValue(new_entry));
+					}
+				}
+				closeTree(index);
+				
+			} catch (FileNotFoundException e) {
+				// TODO Auto-generated catch block
+				e.printStackTrace();
+			} catch (Exception e) {
+				// TODO Auto-generated catch block
+				e.printStackTrace();
+			}
+		}
+	}
+	
+	/**
+	 * Abre el filtro de las llaves de una tabla. Si no existe, como
+	 * en las tablas creadas antes de los filtros, o si ya tiene mas
+	 * llaves de las que soporta, se crea de nuevo con las llaves
+	 * del arbol
+	 * 
+	 * @param file_table carpeta de la tabla
+	 * 
+	 * @param table_name nombre de la tabla
+	 * 
+	 * @param tree arbol abierto de la tabla
+	 * 
+	 * @return filtro de la tabla
+	 */
+	private BloomFilter openTableFilter(File file_table, String table_name, xBplusTreeBytes tree) throws Exception{
+		File file = BloomFilter.filterFile(file_table, table_name);
+		BloomFilter filter = BloomFilter.open(file);
+		if(filter != null && !filter.isFull()){
+			return filter;
+		}
+		LinkedList<String> keys = new LinkedList<String>();
+		String tmp_key = tree.NextKey(PK_INDEX);
+		while(tmp_key != null){
+			keys.add(tmp_key);
+			tmp_key = tree.NextKey(tmp_key);
+		}
+		//se deja espacio para el doble de las llaves actuales
+		filter = BloomFilter.create(file, 2 * keys.size());
+		Iterator<String> iterator = keys.iterator();
+		while(iterator.hasNext()){
+			filter.put(iterator.next());
+		}
+		filter.save();
+		return filter;
+	}
+	
+	/**
+	 * Archivo del filtro de un arbol, de una tabla o de un indice
+	 * secundario
+	 * 
+	 * @param file_tree archivo del arbol
+	 * 
+	 * @return el archivo del filtro, null si no es el archivo de un arbol
+	 */
+	static File treeFilter(File file_tree){
+		String name = file_tree.getName();
+		if(!name.endsWith(TREE_SUFIX)){
+			return null;
+		}
+		return BloomFilter.filterFile(file_tree.getParentFile(), 
+				name.substring(0, name.length() - TREE_SUFIX.length()));
+	}
+	
+	/**
+	 * Archivo de bloques de un arbol, de una tabla o de un indice
+	 * secundario
+	 * 
+	 * @param file_tree archivo del arbol
+	 * 
+	 * @return el archivo de bloques, null si no es el archivo de un arbol
+	 */
+	static File treeBlocks(File file_tree){
+		String name = file_tree.getName();
+		if(!name.endsWith(TREE_SUFIX)){
+			return null;
+		}
+		return new File(file_tree.getParentFile(), 
+				name.substring(0, name.length() - TREE_SUFIX.length()) + BLOCKS_SUFFIX);
+	}
+	
+	/**
+	 * Crea el filtro de los valores de la primera columna de un
+	 * indice secundario a partir de sus llaves
+	 * 
+	 * @param file_table carpeta de la tabla
+	 * 
+	 * @param index_name nombre del indice
+	 * 
+	 * @param index arbol abierto del indice
+	 */
+	private void createIndexFilter(File file_table, String index_name, xBplusTreeBytes index) throws Exception{
+		LinkedList<String> values = new LinkedList<String>();
+		String tmp_key = index.NextKey(SecondaryIndex.ENTRY_PREFIX);
+		while(tmp_key != null){
+			values.add(SecondaryIndex.leadingValue(tmp_key));
+			tmp_key = index.NextKey(tmp_key);
+		}
+		BloomFilter filter = BloomFilter.create(BloomFilter.filterFile(file_table, 
+				index_name + SecondaryIndex.INDEX_SUFFIX), 2 * values.size());
+		Iterator<String> iterator = values.iterator();
+		while(iterator.hasNext()){
+			filter.put(iterator.next());
+		}
+		filter.save();
+	}
+	
+	/**
+	 * Agrega un valor al filtro de un indice secundario, creandolo
+	 * de nuevo si no existe o ya esta lleno
+	 * 
+	 * @param file_table carpeta de la tabla
+	 * 
+	 * @param index_name nombre del indice
+	 * 
+	 * @param index arbol abierto del indice, ya con el valor
+	 * 
+	 * @param value valor codificado de la primera columna
+	 */
+	private void addIndexFilter(File file_table, String index_name, xBplusTreeBytes index, 
+			String value) throws Exception{
+		BloomFilter filter = BloomFilter.open(BloomFilter.filterFile(file_table, 
+				index_name + SecondaryIndex.INDEX_SUFFIX));
+		if(filter == null || filter.isFull()){
+			createIndexFilter(file_table, index_name, index);
+		}else{
+			filter.add(value);
+		}
+	}
+	
+	/**
+	 * Cambia una fila en un indice hash
+	 * 
+	 * @param hash_file copia del indice
+	 * 
+	 * @param key llave primaria de la fila
+	 * 
+	 * @param old_register registro anterior, null si la fila es nueva
+	 * 
+	 * @param new_register registro nuevo, null si la fila se borro
+	 */
+	private void updateHashIndex(final File hash_file, final String key, final byte[] old_register, 
+			final byte[] new_register){
+		if(transaction != null){
+			//el ROLLBACK lo deshace con los registros al reves
+			transaction.addUndo(new Runnable(){
+				@Override
+				public void run(){
+					applyHashIndex(hash_file, key, new_register, old_register);
+				}
+			});
+		}
+		applyHashIndex(hash_file, key, old_register, new_register);
+	}
+	
+	private void applyHashIndex(File hash_file, String key, byte[] old_register, byte[] new_register){
+		try {
+			HashIndex index = openHashIndex(hash_file);
+			if(index == null){
+				return;
+			}
+			String old_value = old_register == null ? null : 
+				SecondaryIndex.encodeField(old_register, index.getColumnIndex());
+			String new_value = new_register == null ? null : 
+				SecondaryIndex.encodeField(new_register, index.getColumnIndex());
+			//si el valor de la columna no cambio no se toca el indice
+			if(old_value == null ? new_value == null : old_value.equals(new_value)){
+				return;
+			}
+			if(old_value != null){
+				index.remove(HashIndex.hash(old_value), key);
+			}
+			if(new_value != null){
+				index.put(HashIndex.hash(new_value), key);
+			}
+			
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+	}
+	
 	/**
 	 * Elimina una fila por la llave de la fila.
 	 * 
@@ -898,6 +2029,22 @@ public class StoreDataManager {
 	 * @param key llave que se va a borrar
 	 */
 	public void deleteRow(String database_name, String table_name, String key){
+		long start = Metrics.STORE_DELETE.start();
+		StorageEvent event = beginEvent();
+		ReentrantReadWriteLock.WriteLock latch = latch(database_name, table_name).writeLock();
+		latch.lock();
+		boolean operation = beginOperation();
+		try {
+			deleteRowUntimed(database_name, table_name, key);
+		} finally {
+			endOperation(operation);
+			latch.unlock();
+			Metrics.STORE_DELETE.stop(start);
+			commitEvent(event, "deleteRow", table_name, 1);
+		}
+	}
+
+	private void deleteRowUntimed(String database_name, String table_name, String key){
 		//se verifica que exista la carpeta de bases de datos
 		File file_database = new File(DATABASES_PATH + FILE_SEPARATOR + database_name);
 		//si el no existe la base de datos
@@ -926,18 +2073,20 @@ public class StoreDataManager {
 				else{
 					try {
 						//se crea el arbol
-						xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
-								new RandomAccessFile(file_blocks, "rw"));
+						xBplusTreeBytes tree = openTreeForWrite(file_tree, file_blocks);
 						//si no esta la llave
 						if(!tree.ContainsKey(key)){
 							System.err.format("La llave %s no se encuentra en la tabla %s de la base de datos %s\n", key, 
 									table_name, database_name);
-							tree.Shutdown();
+							closeTree(tree);
 						}
 						else{
-							tree.RemoveKey(key);
-							tree.Commit();
-							tree.Shutdown();
+							//registro que se va a borrar, para quitarlo de los indices
+							byte[] old_register = tree.get(key);
+							removeKey(tree, key);
+							commitTree(tree);
+							closeTree(tree);
+							updateIndexes(file_table, key, old_register, null);
 							System.out.format("La llave %s fue borrada correctamente de la tabla %s\n", key, table_name);
 						}
 					} catch (FileNotFoundException e) {
@@ -966,6 +2115,22 @@ public class StoreDataManager {
 	 * @param data nueva informaci�n de que se va a escribir
 	 */
 	public void updateRegister(String table_name, String key, LinkedList<String> data){
+		long start = Metrics.STORE_UPDATE.start();
+		StorageEvent event = beginEvent();
+		ReentrantReadWriteLock.WriteLock latch = latch(database_name, table_name).writeLock();
+		latch.lock();
+		boolean operation = beginOperation();
+		try {
+			updateRegisterUntimed(table_name, key, data);
+		} finally {
+			endOperation(operation);
+			latch.unlock();
+			Metrics.STORE_UPDATE.stop(start);
+			commitEvent(event, "updateRegister", table_name, 1);
+		}
+	}
+
+	private void updateRegisterUntimed(String table_name, String key, LinkedList<String> data){
 		//se verifica que exista la carpeta de bases de datos
 				File file_database = new File(DATABASES_PATH + FILE_SEPARATOR + database_name);
 				//si el no existe la base de datos
@@ -991,13 +2156,12 @@ public class StoreDataManager {
 						else{
 							try {
 								//se crea el arbol
-								xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
-										new RandomAccessFile(file_blocks, "rw"));
+								xBplusTreeBytes tree = openTreeForWrite(file_tree, file_blocks);
 								//si no esta la llave
 								if(!tree.ContainsKey(key)){
 									System.err.format("La llave %s no se encuentra en la tabla %s de la base de datos %s\n", key, 
 											table_name, database_name);
-									tree.Shutdown();
+									closeTree(tree);
 								}
 								else{
 									//se obtiene la informaci�n de las columnas
@@ -1008,7 +2172,7 @@ public class StoreDataManager {
 									if(key.compareTo(tmp_key)!=0){
 										System.err.format("Se quiere actualizar un registro con llave %s\n"
 												+ "diferente a la llave del registro anterior %s\n", key, tmp_key);
-										tree.Shutdown();
+										closeTree(tree);
 									}
 									else{
 										//metada de la tabla
@@ -1017,11 +2181,14 @@ public class StoreDataManager {
 										Vector<Pair<String,String>> vec = readMetadata(metadata, data);
 										//se convierte el arreglo a bytes
 										byte[] register = toBytes(vec);
+										//registro anterior, para cambiarlo en los indices
+										byte[] old_register = tree.get(key);
 										//se escribe el nuevo registro
-										tree.set(key, register);
+										setKey(tree, key, register);
 										//se actualiza y se cierra el arbol
-										tree.Commit();
-										tree.Shutdown();
+										commitTree(tree);
+										closeTree(tree);
+										updateIndexes(file_table, key, old_register, register);
 									}
 								}
 							} catch (FileNotFoundException e) {
@@ -1233,10 +2400,10 @@ public class StoreDataManager {
 				
 				else{
 					try {
-						xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"), 
-								new RandomAccessFile(file_blocks, "rw"));
+						xBplusTreeBytes tree = openTree(file_tree, file_blocks);
 						
 						result = tree.ContainsKey(key);
+						closeTree(tree);
 						
 					} catch (FileNotFoundException e) {
 						// TODO Auto-generated catch block
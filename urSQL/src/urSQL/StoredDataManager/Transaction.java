@@ -0,0 +1,265 @@
+package urSQL.StoredDataManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+
+import urSQL.Metrics.Metrics;
+import urSQL.StoredDataManager.BplusJ.xBplusTreeBytes;
+
+/**
+ * Transaccion de una sesion, de BEGIN a COMMIT o ROLLBACK. Los
+ * arboles que escribe quedan abiertos hasta el final sin hacer
+ * Commit, asi las lecturas de la transaccion ven sus cambios y
+ * las de otras sesiones, que abren los archivos de nuevo, ven la
+ * raiz del ultimo Commit. Un solo Commit por arbol al final, en
+ * vez de uno por fila, es lo que hace rapidas las escrituras en
+ * lote.
+ *
+ * El COMMIT de varios arboles es atomico por la bitacora: primero
+ * se agrega a WriteAheadLog el ultimo valor de cada llave cambiada de
+ * cada arbol y se espera a que llegue a disco, segun su modo de
+ * durabilidad, y despues se hace Commit de cada arbol sin forzarlo a
+ * disco, que lo hace despues el checkpoint de la bitacora. Si el
+ * proceso se cae en medio, la bitacora vuelve a aplicar los cambios
+ * al arrancar. Las paginas que libera el Commit esperan al checkpoint
+ * para volver a usarse.
+ *
+ * El ROLLBACK hace Abort de cada arbol y deshace los cambios de los
+ * indices hash, que se escriben en el momento. Como Abort tambien
+ * escribe en los arboles, antes se agrega a la bitacora un registro
+ * sin cambios de esos arboles, para que la recuperacion los vuelva a
+ * la raiz del checkpoint.
+ *
+ * @author Andres Brais
+ *
+ */
+public class Transaction {
+
+	/**
+	 * Arboles escritos, por direccion del archivo del arbol
+	 */
+	private final LinkedHashMap<String, OpenTree> trees = new LinkedHashMap<String, OpenTree>();
+
+	/**
+	 * Los mismos arboles, por el objeto abierto
+	 */
+	private final IdentityHashMap<xBplusTreeBytes, OpenTree> by_tree =
+			new IdentityHashMap<xBplusTreeBytes, OpenTree>();
+
+	/**
+	 * Acciones que deshacen los cambios de los indices hash, en el
+	 * orden en que se hicieron
+	 */
+	private final LinkedList<Runnable> undo = new LinkedList<Runnable>();
+
+	/**
+	 * Arbol abierto por la transaccion y sus cambios
+	 */
+	private static class OpenTree {
+		private final File file_tree;
+		private final File file_blocks;
+		private final RandomAccessFile tree_access;
+		private final RandomAccessFile blocks_access;
+		private final xBplusTreeBytes tree;
+		/**
+		 * Ultimo valor de cada llave cambiada, null si se borro
+		 */
+		private final LinkedHashMap<String, byte[]> changes = new LinkedHashMap<String, byte[]>();
+
+		OpenTree(File file_tree, File file_blocks) throws Exception{
+			this.file_tree = file_tree;
+			this.file_blocks = file_blocks;
+			this.tree_access = new RandomAccessFile(file_tree, "rw");
+			this.blocks_access = new RandomAccessFile(file_blocks, "rw");
+			this.tree = xBplusTreeBytes.ReOpen(this.tree_access, this.blocks_access);
+			this.tree.DeferFrees(WriteAheadLog.frees(file_tree.getAbsolutePath()));
+		}
+
+	}
+
+	/**
+	 * Arbol que la transaccion tiene abierto
+	 *
+	 * @param file_tree archivo del arbol
+	 *
+	 * @return el arbol, null si la transaccion no lo ha escrito
+	 */
+	xBplusTreeBytes getTree(File file_tree){
+		OpenTree open = trees.get(file_tree.getAbsolutePath());
+		return open == null ? null : open.tree;
+	}
+
+	/**
+	 * Arbol para escribir, que queda abierto hasta el final de la
+	 * transaccion
+	 *
+	 * @param file_tree archivo del arbol
+	 *
+	 * @param file_blocks archivo de bloques del arbol
+	 */
+	xBplusTreeBytes openTree(File file_tree, File file_blocks) throws Exception{
+		String path = file_tree.getAbsolutePath();
+		OpenTree open = trees.get(path);
+		if(open == null){
+			open = new OpenTree(file_tree, file_blocks);
+			trees.put(path, open);
+			by_tree.put(open.tree, open);
+		}
+		return open.tree;
+	}
+
+	/**
+	 * Indica si un arbol es de la transaccion, en cuyo caso no se le
+	 * hace Commit ni Shutdown hasta el final
+	 */
+	boolean holds(xBplusTreeBytes tree){
+		return by_tree.containsKey(tree);
+	}
+
+	/**
+	 * Escribe una llave en un arbol de la transaccion
+	 */
+	void set(xBplusTreeBytes tree, String key, byte[] value) throws Exception{
+		tree.set(key, value);
+		by_tree.get(tree).changes.put(key, value);
+	}
+
+	/**
+	 * Borra una llave de un arbol de la transaccion
+	 */
+	void remove(xBplusTreeBytes tree, String key) throws Exception{
+		tree.RemoveKey(key);
+		by_tree.get(tree).changes.put(key, null);
+	}
+
+	/**
+	 * Agrega la accion que deshace un cambio hecho fuera de los arboles
+	 */
+	void addUndo(Runnable action){
+		undo.add(action);
+	}
+
+	/**
+	 * Confirma los cambios de todos los arboles y los cierra
+	 *
+	 * @return false si no se confirmo; una vez que el registro esta en
+	 * disco la transaccion queda confirmada aunque falle el Commit de
+	 * algun arbol, que se aplica de nuevo desde el registro
+	 */
+	public boolean commit(){
+		if(trees.isEmpty()){
+			return true;
+		}
+		long start = Metrics.TRANSACTION_COMMIT.start();
+		LinkedList<WriteAheadLog.TreeChanges> changes = new LinkedList<WriteAheadLog.TreeChanges>();
+		for (OpenTree open : trees.values()) {
+			//tambien los arboles sin cambios, cuyo Commit escribe la cabecera
+			changes.add(new WriteAheadLog.TreeChanges(open.file_tree.getAbsolutePath(),
+					open.file_blocks.getAbsolutePath(), open.changes));
+		}
+		WriteAheadLog log = WriteAheadLog.getInstance();
+		long lsn = -1;
+		boolean durable = false;
+		try {
+			if(!changes.isEmpty()){
+				lsn = log.appendChanges(changes);
+				log.awaitDurable(lsn);
+			}
+			durable = true;
+			for (OpenTree open : trees.values()) {
+				open.tree.Commit();
+			}
+			shutdown();
+			log.applied(lsn);
+			return true;
+		} catch (Exception e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+			if(!durable){
+				//el registro no se agrego o no llego a disco, y ningun
+				//arbol tiene Commit todavia: no se confirmo
+				rollback();
+				if(lsn >= 0){
+					log.applied(lsn);
+				}
+				return false;
+			}
+			//algunos arboles ya se confirmaron, se aplica el registro
+			//de nuevo a todos; si falla el checkpoint no pasa de el y
+			//queda para la recuperacion
+			shutdown();
+			try {
+				for (WriteAheadLog.TreeChanges tree : changes) {
+					WriteAheadLog.apply(tree);
+				}
+				log.applied(lsn);
+			} catch (Exception again) {
+				again.printStackTrace();
+				System.err.format("Los cambios del COMMIT estan en la bitacora pero no se pudieron "
+						+ "aplicar a los arboles; se aplican al arrancar de nuevo\n");
+			}
+			return true;
+		} finally {
+			Metrics.TRANSACTION_COMMIT.stop(start);
+		}
+	}
+
+	/**
+	 * Descarta los cambios de todos los arboles y los cierra
+	 */
+	public void rollback(){
+		Metrics.TRANSACTION_ROLLBACKS.increment();
+		WriteAheadLog log = WriteAheadLog.getInstance();
+		long lsn = -1;
+		if(log != null && !trees.isEmpty()){
+			LinkedList<WriteAheadLog.TreeChanges> touched = new LinkedList<WriteAheadLog.TreeChanges>();
+			for (OpenTree open : trees.values()) {
+				touched.add(new WriteAheadLog.TreeChanges(open.file_tree.getAbsolutePath(),
+						open.file_blocks.getAbsolutePath(), new LinkedHashMap<String, byte[]>()));
+			}
+			try {
+				lsn = log.appendChanges(touched);
+				log.awaitDurable(lsn);
+			} catch (IOException e) {
+				// TODO Auto-generated catch block
+				e.printStackTrace();
+			}
+		}
+		for (OpenTree open : trees.values()) {
+			try {
+				open.tree.Abort();
+			} catch (Exception e) {
+				// TODO Auto-generated catch block
+				e.printStackTrace();
+			}
+		}
+		while(!undo.isEmpty()){
+			undo.removeLast().run();
+		}
+		shutdown();
+		if(lsn >= 0){
+			log.applied(lsn);
+		}
+	}
+
+	/**
+	 * Cierra los arboles y olvida la transaccion
+	 */
+	private void shutdown(){
+		for (OpenTree open : trees.values()) {
+			try {
+				open.tree.Shutdown();
+			} catch (Exception e) {
+				// TODO Auto-generated catch block
+				e.printStackTrace();
+			}
+		}
+		trees.clear();
+		by_tree.clear();
+		undo.clear();
+	}
+}
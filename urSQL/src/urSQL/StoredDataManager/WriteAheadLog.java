@@ -0,0 +1,1117 @@
+package urSQL.StoredDataManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import urSQL.Metrics.Metrics;
+import urSQL.StoredDataManager.BplusJ.BplusTreeLong;
+import urSQL.StoredDataManager.BplusJ.DeferredFrees;
+import urSQL.StoredDataManager.BplusJ.LinkedFile;
+import urSQL.StoredDataManager.BplusJ.xBplusTreeBytes;
+
+/**
+ * Bitacora de escritura adelantada de todos los cambios de los
+ * arboles. Cada COMMIT, de una transaccion o de una sola fila con
+ * sus indices, agrega un registro con el ultimo valor de cada llave
+ * que cambio y espera a que la bitacora llegue a disco antes de
+ * hacer Commit de los arboles; asi los archivos de los arboles no se
+ * fuerzan a disco en cada cambio, solo la bitacora, que se escribe
+ * seguido.
+ *
+ * La bitacora son segmentos de tamano fijo que se llenan con ceros al
+ * crearlos, para que escribir en ellos no cambie el tamano del
+ * archivo. Cada registro lleva su largo y un CRC32; un largo en cero
+ * o un CRC que no coincide es el final de la bitacora. La posicion
+ * de un registro en la bitacora (LSN) es el inicio de su segmento,
+ * que es el nombre del archivo, mas su posicion en el.
+ *
+ * Hay tres modos de durabilidad, por la propiedad DURABILITY_PROPERTY:
+ * SYNC espera a que el registro llegue a disco, y los COMMIT que
+ * llegan mientras otro fuerza la bitacora se forzan juntos despues;
+ * GROUP fuerza la bitacora cada GROUP_MILLIS_PROPERTY milisegundos en
+ * un hilo aparte y los COMMIT esperan a ese force; OS no espera, el
+ * registro queda en el sistema operativo y sobrevive a una caida del
+ * proceso pero no del equipo.
+ *
+ * Los arboles se confirman sin forzarlos a disco; un hilo aparte hace
+ * un checkpoint cada CHECKPOINT_MILLIS_PROPERTY milisegundos: fuerza
+ * los archivos de los arboles que cambiaron desde el anterior, guarda
+ * en CHECKPOINT_FILE el LSN desde donde hay que aplicar la bitacora y
+ * la raiz de cada arbol que quedo en disco, y borra los segmentos que
+ * quedaron antes. Al arrancar solo se aplica lo que sigue a ese LSN,
+ * asi que el tiempo de recuperacion depende de cada cuanto se hace el
+ * checkpoint y no del tamano de las tablas; los cambios de cada tabla
+ * se aplican en paralelo.
+ *
+ * Como los archivos no se fuerzan en cada Commit, una caida del equipo
+ * puede dejar a medias las paginas escritas despues del checkpoint. Por
+ * eso las paginas y bloques que libera un Commit no vuelven a usarse
+ * hasta que un checkpoint deja en disco una raiz que ya no los usa
+ * (DeferredFrees), y la recuperacion vuelve a la raiz del checkpoint de
+ * cada arbol antes de aplicarle la bitacora. Las listas de libres de
+ * esos arboles se pierden y ese espacio no se vuelve a usar.
+ *
+ * El checkpoint tambien escribe los filtros de Bloom de esos arboles,
+ * que tienen en memoria las llaves de los registros anteriores, ya que
+ * se agregan antes del Commit. Los de los arboles que la
+ * recuperacion aplica se borran, ya que pueden no tener las llaves
+ * que la bitacora agrega, y se crean de nuevo desde el arbol.
+ *
+ * Los registros son logicos, de llaves y no de paginas, por lo que
+ * aplicarlos de nuevo da lo mismo. Un registro de reinicio marca los
+ * archivos que una tabla o indice nuevo crea desde cero, para no
+ * aplicarles cambios de la tabla borrada que tenia el mismo nombre.
+ *
+ * @author Andres Brais
+ *
+ */
+public class WriteAheadLog {
+
+	/**
+	 * Propiedad del sistema con el modo de durabilidad, SYNC si no esta
+	 */
+	public static final String DURABILITY_PROPERTY = "urSQL.durability";
+	public static final String SYNC = "sync";
+	public static final String GROUP = "group";
+	public static final String OS = "os";
+
+	/**
+	 * Propiedad con los milisegundos entre cada force del modo GROUP
+	 */
+	public static final String GROUP_MILLIS_PROPERTY = "urSQL.groupCommitMillis";
+	public static final long DEFAULT_GROUP_MILLIS = 5;
+
+	/**
+	 * Propiedad con el tamano en bytes de cada segmento
+	 */
+	public static final String SEGMENT_SIZE_PROPERTY = "urSQL.walSegmentSize";
+	public static final long DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Propiedad con los milisegundos entre cada checkpoint
+	 */
+	public static final String CHECKPOINT_MILLIS_PROPERTY = "urSQL.checkpointMillis";
+	public static final long DEFAULT_CHECKPOINT_MILLIS = 30 * 1000;
+
+	/**
+	 * Carpeta de la bitacora, dentro de la carpeta de datos
+	 */
+	static final String LOG_FOLDER = "WAL";
+
+	/**
+	 * Sufijo de los segmentos
+	 */
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	/**
+	 * Archivo con el LSN del ultimo checkpoint y las raices de los
+	 * arboles, dentro de la carpeta de la bitacora
+	 */
+	static final String CHECKPOINT_FILE = "checkpoint";
+
+	/**
+	 * Tipos de registro
+	 */
+	static final byte RECORD_CHANGES = (byte)0x01;
+	static final byte RECORD_RESET = (byte)0x02;
+
+	/**
+	 * Cambios de un registro
+	 */
+	private static final byte CHANGE_SET = (byte)0x01;
+	private static final byte CHANGE_REMOVE = (byte)0x02;
+
+	/**
+	 * Largo y CRC de cada registro
+	 */
+	private static final int HEADER_SIZE = 8;
+
+	/**
+	 * Bloque de ceros con que se llenan los segmentos
+	 */
+	private static final int FILL_SIZE = 1024 * 1024;
+
+	private static WriteAheadLog instance;
+
+	/**
+	 * Paginas liberadas de cada arbol que esperan un checkpoint, por
+	 * direccion del archivo del arbol
+	 */
+	private static final HashMap<String, DeferredFrees> FREES = new HashMap<String, DeferredFrees>();
+
+	private final File folder;
+	private final String durability;
+	private final long segment_size;
+
+	/**
+	 * Segmento donde se agregan los registros, su inicio y su tamano
+	 */
+	private FileChannel channel;
+	private long segment_start;
+	private long segment_capacity;
+
+	/**
+	 * LSN despues del ultimo registro escrito
+	 */
+	private long written;
+
+	/**
+	 * LSN hasta donde la bitacora esta en disco, y si algun hilo la
+	 * esta forzando; se protegen con durable_monitor
+	 */
+	private long durable;
+	private boolean forcing = false;
+	private final Object durable_monitor = new Object();
+
+	/**
+	 * Registros agregados cuyos arboles aun no tienen Commit, del LSN
+	 * final al inicial; el checkpoint no puede pasar del primero
+	 */
+	private final TreeMap<Long, Long> in_flight = new TreeMap<Long, Long>();
+
+	/**
+	 * Arboles cambiados desde el ultimo checkpoint, con el LSN final
+	 * del ultimo registro que los cambio
+	 */
+	private final HashMap<String, Long> dirty = new HashMap<String, Long>();
+
+	/**
+	 * Archivo de bloques de cada arbol que la bitacora cambio
+	 */
+	private final HashMap<String, String> blocks = new HashMap<String, String>();
+
+	/**
+	 * Solo un checkpoint a la vez
+	 */
+	private final Object checkpoint_monitor = new Object();
+
+	/**
+	 * LSN y raices del ultimo checkpoint; se protegen con
+	 * checkpoint_monitor
+	 */
+	private long checkpointed;
+	private final HashMap<String, Long> roots;
+
+	/**
+	 * Cambios de un arbol, como se escriben en la bitacora
+	 */
+	static class TreeChanges {
+		final String file_tree;
+		final String file_blocks;
+		/**
+		 * Ultimo valor de cada llave, null si se borro
+		 */
+		final LinkedHashMap<String, byte[]> changes;
+
+		TreeChanges(String file_tree, String file_blocks, LinkedHashMap<String, byte[]> changes){
+			this.file_tree = file_tree;
+			this.file_blocks = file_blocks;
+			this.changes = changes;
+		}
+	}
+
+	/**
+	 * Contenido del archivo del checkpoint
+	 */
+	static class Checkpoint {
+		final long lsn;
+		/**
+		 * Raiz en disco de cada arbol, por direccion del archivo
+		 */
+		final HashMap<String, Long> roots;
+
+		Checkpoint(long lsn, HashMap<String, Long> roots){
+			this.lsn = lsn;
+			this.roots = roots;
+		}
+	}
+
+	/**
+	 * Hilos del modo GROUP y del checkpoint
+	 */
+	private Thread flusher;
+	private Thread checkpointer;
+
+	/**
+	 * Abre una bitacora que sigue donde termino la recuperacion; fuera
+	 * de las pruebas se usa la de open
+	 */
+	WriteAheadLog(File folder, Checkpoint start) throws IOException{
+		this.folder = folder;
+		this.durability = System.getProperty(DURABILITY_PROPERTY, SYNC);
+		this.segment_size = Long.getLong(SEGMENT_SIZE_PROPERTY, DEFAULT_SEGMENT_SIZE);
+		this.checkpointed = start.lsn;
+		this.roots = start.roots;
+		folder.mkdirs();
+		openSegment(start.lsn, segment_size);
+		this.durable = start.lsn;
+		if(durability.equals(GROUP)){
+			startGroupCommit(Long.getLong(GROUP_MILLIS_PROPERTY, DEFAULT_GROUP_MILLIS));
+		}
+		startCheckpointer(Long.getLong(CHECKPOINT_MILLIS_PROPERTY, DEFAULT_CHECKPOINT_MILLIS));
+	}
+
+	/**
+	 * Aplica la bitacora que dejo el proceso anterior y abre una nueva
+	 * que sigue en el LSN donde termino. Se llama una sola vez, antes
+	 * de la primera lectura de las tablas
+	 */
+	static synchronized void open(){
+		if(instance != null){
+			return;
+		}
+		File folder = new File(StoreDataManager.homeDirectory(), LOG_FOLDER);
+		try {
+			Checkpoint start = recover(folder);
+			instance = new WriteAheadLog(folder, start);
+		} catch (IOException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * @return la bitacora, null si no se pudo abrir
+	 */
+	static WriteAheadLog getInstance(){
+		return instance;
+	}
+
+	/**
+	 * Paginas liberadas de un arbol que esperan un checkpoint; todo
+	 * arbol que se confirma por la bitacora las usa
+	 *
+	 * @param file_tree direccion del archivo del arbol
+	 */
+	static DeferredFrees frees(String file_tree){
+		synchronized (FREES) {
+			DeferredFrees frees = FREES.get(file_tree);
+			if(frees == null){
+				frees = new DeferredFrees();
+				FREES.put(file_tree, frees);
+			}
+			return frees;
+		}
+	}
+
+	/**
+	 * Agrega un registro con los cambios de una transaccion
+	 *
+	 * @return LSN despues del registro, para esperar con awaitDurable
+	 */
+	long appendChanges(Collection<TreeChanges> trees) throws IOException{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeByte(RECORD_CHANGES);
+		output.writeInt(trees.size());
+		for (TreeChanges tree : trees) {
+			output.writeUTF(tree.file_tree);
+			output.writeUTF(tree.file_blocks);
+			output.writeInt(tree.changes.size());
+			for (Map.Entry<String, byte[]> change : tree.changes.entrySet()) {
+				if(change.getValue() == null){
+					output.writeByte(CHANGE_REMOVE);
+					output.writeUTF(change.getKey());
+				}
+				else{
+					output.writeByte(CHANGE_SET);
+					output.writeUTF(change.getKey());
+					output.writeInt(change.getValue().length);
+					output.write(change.getValue());
+				}
+			}
+		}
+		output.flush();
+		return append(bytes.toByteArray(), trees);
+	}
+
+	/**
+	 * Indica que los arboles de un registro ya tienen Commit, y el
+	 * checkpoint puede pasar de el
+	 *
+	 * @param lsn valor que devolvio appendChanges
+	 */
+	synchronized void applied(long lsn){
+		in_flight.remove(lsn);
+	}
+
+	/**
+	 * Agrega un registro de reinicio de los archivos que empiezan con
+	 * una direccion, la carpeta de una tabla o el arbol de un indice,
+	 * y espera a que llegue a disco antes de que se creen
+	 */
+	void reset(String prefix) throws IOException{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeByte(RECORD_RESET);
+		output.writeUTF(prefix);
+		output.flush();
+		awaitDurable(append(bytes.toByteArray(), null));
+		//las paginas de los archivos anteriores no son de los nuevos
+		synchronized (FREES) {
+			removePrefix(FREES, prefix);
+		}
+		synchronized (checkpoint_monitor) {
+			removePrefix(roots, prefix);
+		}
+	}
+
+	/**
+	 * Anota los archivos de un arbol que se acaba de crear y hace un
+	 * checkpoint, que los fuerza a disco y guarda su raiz, antes de que
+	 * la bitacora les agregue cambios
+	 */
+	void created(String file_tree, String file_blocks) throws IOException{
+		synchronized (this) {
+			dirty.put(file_tree, written);
+			blocks.put(file_tree, file_blocks);
+		}
+		checkpoint();
+	}
+
+	/**
+	 * Quita de un mapa las direcciones que empiezan con un prefijo
+	 */
+	private static void removePrefix(Map<String, ?> map, String prefix){
+		Iterator<String> iterator = map.keySet().iterator();
+		while(iterator.hasNext()){
+			if(iterator.next().startsWith(prefix)){
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Escribe un registro al final del segmento, pasando a uno nuevo
+	 * si no cabe, y anota los arboles que cambia
+	 */
+	private synchronized long append(byte[] payload, Collection<TreeChanges> trees) throws IOException{
+		int size = HEADER_SIZE + payload.length;
+		//siempre quedan cuatro ceros despues del ultimo registro
+		if(written - segment_start + size + 4 > segment_capacity){
+			FileChannel full = channel;
+			openSegment(written, Math.max(segment_size, size + 4));
+			//los registros del segmento lleno quedan en disco antes
+			//que cualquiera del nuevo
+			full.force(false);
+			full.close();
+		}
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, payload.length);
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(payload.length);
+		buffer.putInt((int)crc.getValue());
+		buffer.put(payload);
+		buffer.flip();
+		long begin = written;
+		long position = written - segment_start;
+		while(buffer.hasRemaining()){
+			position += channel.write(buffer, position);
+		}
+		written += size;
+		Metrics.WAL_BYTES.add(size);
+		if(trees != null){
+			in_flight.put(written, begin);
+			for (TreeChanges tree : trees) {
+				dirty.put(tree.file_tree, written);
+				blocks.put(tree.file_tree, tree.file_blocks);
+			}
+		}
+		return written;
+	}
+
+	/**
+	 * Crea un segmento lleno de ceros que empieza en un LSN
+	 */
+	private void openSegment(long start, long capacity) throws IOException{
+		File file = new File(folder, segmentName(start));
+		RandomAccessFile access = new RandomAccessFile(file, "rw");
+		FileChannel created = access.getChannel();
+		ByteBuffer zeros = ByteBuffer.allocate(FILL_SIZE);
+		long position = 0;
+		while(position < capacity){
+			zeros.clear();
+			zeros.limit((int)Math.min(FILL_SIZE, capacity - position));
+			position += created.write(zeros, position);
+		}
+		created.force(true);
+		channel = created;
+		segment_start = start;
+		segment_capacity = capacity;
+		written = start;
+	}
+
+	/**
+	 * Espera a que la bitacora este en disco hasta un LSN, segun el
+	 * modo de durabilidad
+	 */
+	void awaitDurable(long lsn) throws IOException{
+		if(durability.equals(OS)){
+			return;
+		}
+		long start = Metrics.WAL_COMMIT_WAIT.start();
+		boolean interrupted = false;
+		try {
+			while(true){
+				synchronized (durable_monitor) {
+					while(durable < lsn && (forcing || !durability.equals(SYNC))){
+						try {
+							durable_monitor.wait();
+						} catch (InterruptedException e) {
+							interrupted = true;
+						}
+					}
+					if(durable >= lsn){
+						return;
+					}
+					//este hilo fuerza la bitacora por todos los que esperan
+					forcing = true;
+				}
+				forceWritten();
+			}
+		} finally {
+			Metrics.WAL_COMMIT_WAIT.stop(start);
+			if(interrupted){
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Fuerza lo escrito hasta ahora, fuera de los monitores para que
+	 * otros COMMIT se agreguen mientras tanto y se fuercen en el
+	 * siguiente
+	 */
+	private void forceWritten() throws IOException{
+		long target;
+		FileChannel current;
+		synchronized (this) {
+			target = written;
+			current = channel;
+		}
+		boolean forced = false;
+		try {
+			force(current);
+			forced = true;
+		} finally {
+			synchronized (durable_monitor) {
+				forcing = false;
+				if(forced && target > durable){
+					durable = target;
+				}
+				durable_monitor.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Indica si hay registros escritos que no estan en disco
+	 */
+	private boolean pending(){
+		long target;
+		synchronized (this) {
+			target = written;
+		}
+		synchronized (durable_monitor) {
+			return target > durable;
+		}
+	}
+
+	/**
+	 * Fuerza un segmento; si ya se cerro fue porque se lleno, y al
+	 * cerrarlo se forzo
+	 */
+	private void force(FileChannel current) throws IOException{
+		long start = Metrics.WAL_FORCE.start();
+		try {
+			current.force(false);
+		} catch (ClosedChannelException e) {
+			//el segmento se forzo al pasar al siguiente
+		} finally {
+			Metrics.WAL_FORCE.stop(start);
+		}
+	}
+
+	/**
+	 * Hilo del modo GROUP que fuerza la bitacora cada tanto si hay
+	 * algo nuevo
+	 */
+	private void startGroupCommit(final long millis){
+		flusher = new Thread("urSQL-group-commit"){
+			@Override
+			public void run(){
+				while(true){
+					try {
+						Thread.sleep(millis);
+						if(pending()){
+							forceWritten();
+						}
+					} catch (InterruptedException e) {
+						return;
+					} catch (IOException e) {
+						// TODO Auto-generated catch block
+						e.printStackTrace();
+					}
+				}
+			}
+		};
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	/**
+	 * Hilo que hace un checkpoint cada tanto
+	 */
+	private void startCheckpointer(final long millis){
+		checkpointer = new Thread("urSQL-checkpoint"){
+			@Override
+			public void run(){
+				while(true){
+					try {
+						Thread.sleep(millis);
+						checkpoint();
+					} catch (InterruptedException e) {
+						return;
+					} catch (IOException e) {
+						// TODO Auto-generated catch block
+						e.printStackTrace();
+					}
+				}
+			}
+		};
+		checkpointer.setDaemon(true);
+		checkpointer.start();
+	}
+
+	/**
+	 * Detiene los hilos y cierra el segmento, sin checkpoint; la
+	 * siguiente apertura recupera lo que quedo en la bitacora. Las
+	 * pruebas la usan para abrir varias bitacoras en el mismo proceso
+	 */
+	void close() throws IOException{
+		Thread[] threads = {flusher, checkpointer};
+		for (int i = 0; i < threads.length; i++) {
+			if(threads[i] != null){
+				threads[i].interrupt();
+				try {
+					threads[i].join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		synchronized (this) {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Fuerza a disco los arboles que cambiaron, guarda el LSN desde
+	 * donde la recuperacion tiene que aplicar la bitacora con la raiz
+	 * de cada arbol, libera las paginas que ya ninguna raiz en disco usa
+	 * y borra los segmentos anteriores
+	 */
+	void checkpoint() throws IOException{
+		synchronized (checkpoint_monitor) {
+			long redo;
+			long current_start;
+			HashMap<String, Long> files;
+			HashMap<String, String> files_blocks;
+			synchronized (this) {
+				//los registros antes de redo ya tienen Commit
+				redo = in_flight.isEmpty() ? written : in_flight.firstEntry().getValue();
+				current_start = segment_start;
+				files = new HashMap<String, Long>(dirty);
+				files_blocks = new HashMap<String, String>(blocks);
+			}
+			if(files.isEmpty() && checkpointed == redo){
+				return;
+			}
+			long start = Metrics.WAL_CHECKPOINT.start();
+			try {
+				LinkedList<DeferredFrees> sealed = new LinkedList<DeferredFrees>();
+				for (String file : files.keySet()) {
+					try {
+						DeferredFrees frees = frees(file);
+						roots.put(file, sealRoot(new File(file), frees));
+						sealed.add(frees);
+						sync(new File(files_blocks.get(file)));
+						sync(new File(file));
+						//las llaves de los registros anteriores ya estan en el
+						//filtro en memoria, que se escribe si cambio
+						File filter = StoreDataManager.treeFilter(new File(file));
+						if(filter != null){
+							BloomFilter.flush(filter);
+						}
+					} catch (FileNotFoundException e) {
+						//la tabla se borro
+						roots.remove(file);
+					}
+				}
+				writeCheckpoint(folder, redo, roots);
+				checkpointed = redo;
+				//las raices anteriores ya no estan en disco
+				for (DeferredFrees frees : sealed) {
+					frees.Release();
+				}
+				synchronized (this) {
+					//los que cambiaron despues de redo siguen pendientes
+					for (String file : files.keySet()) {
+						Long last = dirty.get(file);
+						if(last != null && last <= redo){
+							dirty.remove(file);
+						}
+					}
+				}
+				File[] segments = segments(folder);
+				for (int i = 0; i + 1 < segments.length; i++) {
+					//un segmento sobra si el siguiente empieza antes del checkpoint
+					if(segmentStart(segments[i + 1]) <= redo && segmentStart(segments[i]) < current_start){
+						segments[i].delete();
+					}
+				}
+			} finally {
+				Metrics.WAL_CHECKPOINT.stop(start);
+			}
+		}
+	}
+
+	/**
+	 * Lee la raiz de un arbol y, sin que se confirme otro cambio en
+	 * medio, deja las paginas liberadas hasta ahora para cuando esa raiz
+	 * este en disco
+	 *
+	 * @return la raiz que el checkpoint va a forzar
+	 */
+	private static long sealRoot(File file_tree, DeferredFrees frees) throws IOException{
+		RandomAccessFile access = new RandomAccessFile(file_tree, "r");
+		try {
+			synchronized (frees) {
+				long root = BplusTreeLong.ReadRootSeek(access);
+				frees.Seal();
+				return root;
+			}
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IOException("No se pudo leer la raiz de " + file_tree.getName(), e);
+		} finally {
+			access.close();
+		}
+	}
+
+	/**
+	 * LSN y raices del ultimo checkpoint, LSN 0 si no hay
+	 */
+	private static Checkpoint readCheckpoint(File folder) throws IOException{
+		HashMap<String, Long> roots = new HashMap<String, Long>();
+		File file = new File(folder, CHECKPOINT_FILE);
+		if(!file.exists()){
+			return new Checkpoint(0, roots);
+		}
+		DataInputStream input = new DataInputStream(new FileInputStream(file));
+		try {
+			long lsn = input.readLong();
+			int count;
+			try {
+				count = input.readInt();
+			} catch (EOFException e) {
+				//checkpoint sin raices
+				return new Checkpoint(lsn, roots);
+			}
+			for (int i = 0; i < count; i++) {
+				String file_tree = input.readUTF();
+				roots.put(file_tree, input.readLong());
+			}
+			return new Checkpoint(lsn, roots);
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Guarda el LSN de un checkpoint y las raices de los arboles que
+	 * aun existen en un archivo temporal que reemplaza al anterior cuando
+	 * ya esta en disco
+	 */
+	private static void writeCheckpoint(File folder, long lsn, HashMap<String, Long> roots) throws IOException{
+		Iterator<String> iterator = roots.keySet().iterator();
+		while(iterator.hasNext()){
+			if(!new File(iterator.next()).exists()){
+				//la tabla o el indice se borro
+				iterator.remove();
+			}
+		}
+		File tmp = new File(folder, CHECKPOINT_FILE + ".tmp");
+		FileOutputStream file = new FileOutputStream(tmp);
+		try {
+			DataOutputStream output = new DataOutputStream(file);
+			output.writeLong(lsn);
+			output.writeInt(roots.size());
+			for (Map.Entry<String, Long> root : roots.entrySet()) {
+				output.writeUTF(root.getKey());
+				output.writeLong(root.getValue());
+			}
+			output.flush();
+			file.getFD().sync();
+		} finally {
+			file.close();
+		}
+		File checkpoint = new File(folder, CHECKPOINT_FILE);
+		//sin el checkpoint anterior la recuperacion empezaria en 0, con
+		//segmentos ya borrados; solo se borra antes si el sistema no
+		//reemplaza el archivo al renombrar
+		if(!tmp.renameTo(checkpoint)){
+			checkpoint.delete();
+			if(!tmp.renameTo(checkpoint)){
+				throw new IOException("No se pudo escribir el checkpoint de la bitacora");
+			}
+		}
+	}
+
+	/**
+	 * Segmentos de la bitacora, ordenados por su LSN inicial
+	 */
+	private static File[] segments(File folder){
+		File[] files = folder.listFiles();
+		if(files == null){
+			return new File[0];
+		}
+		LinkedList<File> segments = new LinkedList<File>();
+		for (int i = 0; i < files.length; i++) {
+			if(files[i].getName().endsWith(SEGMENT_SUFFIX)){
+				segments.add(files[i]);
+			}
+		}
+		File[] result = segments.toArray(new File[segments.size()]);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * LSN inicial de un segmento, que es su nombre
+	 */
+	private static long segmentStart(File segment){
+		String name = segment.getName();
+		return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	/**
+	 * Nombre del segmento que empieza en un LSN, ordenable
+	 */
+	private static String segmentName(long start){
+		return String.format("%019d%s", start, SEGMENT_SUFFIX);
+	}
+
+	/**
+	 * Lee los segmentos desde el ultimo checkpoint, junta el ultimo
+	 * valor de cada llave de cada arbol y los aplica, una tabla por
+	 * hilo, sobre la raiz del checkpoint, y borra sus filtros; despues
+	 * guarda un checkpoint al final y borra los segmentos. Los arboles
+	 * del checkpoint sin registros despues tambien vuelven a su raiz sin
+	 * listas de libres: si el proceso se cayo en medio de una transaccion
+	 * suya, que no llego a la bitacora, la lista en disco puede apuntar a
+	 * paginas que la transaccion ya escribio
+	 *
+	 * @return LSN donde termino la bitacora y raices de los arboles
+	 */
+	static Checkpoint recover(File folder) throws IOException{
+		long start = Metrics.WAL_RECOVERY.start();
+		try {
+			Checkpoint last = readCheckpoint(folder);
+			HashMap<String, Long> roots = last.roots;
+			long checkpoint = last.lsn;
+			File[] segments = segments(folder);
+			LinkedHashMap<String, TreeChanges> trees = new LinkedHashMap<String, TreeChanges>();
+			long end = checkpoint;
+			for (int i = 0; i < segments.length; i++) {
+				long segment_start = segmentStart(segments[i]);
+				if(i + 1 < segments.length && segmentStart(segments[i + 1]) <= checkpoint){
+					//todo el segmento esta antes del checkpoint
+					continue;
+				}
+				long offset = Math.max(0, checkpoint - segment_start);
+				long length = readSegment(segments[i], offset, trees, roots);
+				if(length < 0){
+					//registro incompleto, la bitacora termina aqui
+					end = Math.max(end, segment_start - length - 1);
+					break;
+				}
+				end = Math.max(end, segment_start + length);
+			}
+			for (String file_tree : roots.keySet()) {
+				File file_blocks = StoreDataManager.treeBlocks(new File(file_tree));
+				if(!trees.containsKey(file_tree) && file_blocks != null){
+					trees.put(file_tree, new TreeChanges(file_tree, file_blocks.getAbsolutePath(),
+							new LinkedHashMap<String, byte[]>()));
+				}
+			}
+			applyAll(trees.values(), roots);
+			HashSet<File> tables = new HashSet<File>();
+			for (TreeChanges tree : trees.values()) {
+				//el filtro puede no tener las llaves que se aplicaron
+				File filter = StoreDataManager.treeFilter(new File(tree.file_tree));
+				if(filter != null && !tree.changes.isEmpty()){
+					BloomFilter.discard(filter);
+				}
+				//los indices hash pueden tener cambios sin Commit o no
+				//tener los que se aplicaron
+				File table = new File(tree.file_tree).getParentFile();
+				if(tables.add(table)){
+					HashIndex.discardAll(table);
+				}
+			}
+			if(!folder.exists()){
+				return new Checkpoint(end, roots);
+			}
+			//apply ya forzo los arboles, sus raices nuevas estan en disco
+			LinkedList<DeferredFrees> sealed = new LinkedList<DeferredFrees>();
+			for (TreeChanges tree : trees.values()) {
+				try {
+					DeferredFrees frees = frees(tree.file_tree);
+					roots.put(tree.file_tree, sealRoot(new File(tree.file_tree), frees));
+					sealed.add(frees);
+				} catch (FileNotFoundException e) {
+					//la tabla se borro
+					roots.remove(tree.file_tree);
+				}
+			}
+			writeCheckpoint(folder, end, roots);
+			for (DeferredFrees frees : sealed) {
+				frees.Release();
+			}
+			for (int i = 0; i < segments.length; i++) {
+				segments[i].delete();
+			}
+			return new Checkpoint(end, roots);
+		} finally {
+			Metrics.WAL_RECOVERY.stop(start);
+		}
+	}
+
+	/**
+	 * Aplica los cambios de los arboles, los de cada tabla en un hilo,
+	 * ya que cada tabla tiene su carpeta y sus archivos
+	 *
+	 * @param roots raiz del checkpoint de cada arbol
+	 */
+	private static void applyAll(Collection<TreeChanges> trees, final Map<String, Long> roots) throws IOException{
+		final LinkedHashMap<String, LinkedList<TreeChanges>> tables =
+				new LinkedHashMap<String, LinkedList<TreeChanges>>();
+		for (TreeChanges tree : trees) {
+			String table = new File(tree.file_tree).getParent();
+			LinkedList<TreeChanges> list = tables.get(table);
+			if(list == null){
+				list = new LinkedList<TreeChanges>();
+				tables.put(table, list);
+			}
+			list.add(tree);
+		}
+		if(tables.isEmpty()){
+			return;
+		}
+		ExecutorService workers = Executors.newFixedThreadPool(
+				Math.min(tables.size(), Runtime.getRuntime().availableProcessors()));
+		try {
+			LinkedList<Future<Void>> results = new LinkedList<Future<Void>>();
+			for (final LinkedList<TreeChanges> list : tables.values()) {
+				results.add(workers.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws IOException{
+						for (TreeChanges tree : list) {
+							apply(tree, roots.get(tree.file_tree), true);
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<Void> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if(e.getCause() instanceof IOException){
+						throw (IOException)e.getCause();
+					}
+					throw new IOException(e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Se interrumpio la recuperacion de la bitacora");
+				}
+			}
+		} finally {
+			workers.shutdown();
+		}
+	}
+
+	/**
+	 * Lee los registros de un segmento desde una posicion y junta sus
+	 * cambios
+	 *
+	 * @return posicion despues del ultimo registro; si termina en un
+	 * registro roto, donde la bitacora no sigue, -1 menos su posicion
+	 */
+	private static long readSegment(File segment, long offset, LinkedHashMap<String, TreeChanges> trees,
+			Map<String, Long> roots) throws IOException{
+		RandomAccessFile access = new RandomAccessFile(segment, "r");
+		try {
+			long position = offset;
+			long length = access.length();
+			while(position + HEADER_SIZE <= length){
+				access.seek(position);
+				int size = access.readInt();
+				if(size == 0){
+					//fin de los registros del segmento
+					return position;
+				}
+				int checksum = access.readInt();
+				if(size < 0 || position + HEADER_SIZE + size > length){
+					return -position - 1;
+				}
+				byte[] payload = new byte[size];
+				access.readFully(payload);
+				CRC32 crc = new CRC32();
+				crc.update(payload, 0, size);
+				if((int)crc.getValue() != checksum){
+					return -position - 1;
+				}
+				readRecord(payload, trees, roots);
+				position += HEADER_SIZE + size;
+			}
+			return position;
+		} finally {
+			access.close();
+		}
+	}
+
+	/**
+	 * Junta los cambios de un registro con los anteriores; un reinicio
+	 * tambien olvida las raices del checkpoint de los archivos anteriores
+	 */
+	private static void readRecord(byte[] payload, LinkedHashMap<String, TreeChanges> trees,
+			Map<String, Long> roots) throws IOException{
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+		byte type = input.readByte();
+		if(type == RECORD_RESET){
+			String prefix = input.readUTF();
+			removePrefix(trees, prefix);
+			removePrefix(roots, prefix);
+			return;
+		}
+		int tree_count = input.readInt();
+		for (int i = 0; i < tree_count; i++) {
+			String file_tree = input.readUTF();
+			String file_blocks = input.readUTF();
+			TreeChanges tree = trees.get(file_tree);
+			if(tree == null){
+				tree = new TreeChanges(file_tree, file_blocks, new LinkedHashMap<String, byte[]>());
+				trees.put(file_tree, tree);
+			}
+			int change_count = input.readInt();
+			for (int j = 0; j < change_count; j++) {
+				byte operation = input.readByte();
+				String key = input.readUTF();
+				byte[] value = null;
+				if(operation == CHANGE_SET){
+					value = new byte[input.readInt()];
+					input.readFully(value);
+				}
+				tree.changes.put(key, value);
+			}
+		}
+		if(input.available() > 0){
+			throw new EOFException("Registro de la bitacora con bytes de mas");
+		}
+	}
+
+	/**
+	 * Aplica los cambios a un arbol, lo confirma y lo fuerza a disco.
+	 * Aplicar dos veces los mismos cambios da lo mismo
+	 */
+	static void apply(TreeChanges tree) throws IOException{
+		apply(tree, null, false);
+	}
+
+	/**
+	 * Aplica los cambios a un arbol desde la raiz de un checkpoint, ya
+	 * que las paginas escritas despues pueden estar a medias
+	 *
+	 * @param root raiz del checkpoint, null para aplicarlos sobre la
+	 * ultima raiz confirmada
+	 *
+	 * @param recovering si es la recuperacion, que olvida las listas de
+	 * libres, escritas o no por las transacciones que no terminaron
+	 */
+	private static void apply(TreeChanges tree, Long root, boolean recovering) throws IOException{
+		File file_tree = new File(tree.file_tree);
+		if(!file_tree.exists()){
+			//la tabla se borro
+			return;
+		}
+		RandomAccessFile tree_access = new RandomAccessFile(file_tree, "rw");
+		RandomAccessFile blocks_access = new RandomAccessFile(tree.file_blocks, "rw");
+		try {
+			if(recovering){
+				BplusTreeLong.RestoreRoot(tree_access,
+						root != null ? root : BplusTreeLong.ReadRootSeek(tree_access));
+				LinkedFile.ForgetFreeList(blocks_access);
+			}
+			xBplusTreeBytes open = xBplusTreeBytes.ReOpen(tree_access, blocks_access);
+			open.DeferFrees(frees(tree.file_tree));
+			for (Map.Entry<String, byte[]> change : tree.changes.entrySet()) {
+				if(change.getValue() != null){
+					open.set(change.getKey(), change.getValue());
+				}
+				else if(open.ContainsKey(change.getKey())){
+					open.RemoveKey(change.getKey());
+				}
+			}
+			open.Commit();
+			blocks_access.getFD().sync();
+			tree_access.getFD().sync();
+			open.Shutdown();
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IOException("No se pudo aplicar la bitacora a " + file_tree.getName(), e);
+		}
+	}
+
+	/**
+	 * Fuerza a disco un archivo que se acaba de crear
+	 */
+	static void sync(File file) throws IOException{
+		RandomAccessFile access = new RandomAccessFile(file, "rw");
+		try {
+			access.getFD().sync();
+		} finally {
+			access.close();
+		}
+	}
+}
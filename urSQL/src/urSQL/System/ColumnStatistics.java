@@ -0,0 +1,247 @@
+package urSQL.System;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+
+/**
+ * ColumnStatistics describes the values of a column, taken by
+ * ANALYZE from a sample of the table: distinct values, nulls,
+ * minimum, maximum and an equi-depth histogram, where every
+ * bucket holds the same amount of values.
+ * @author ArturoMora™
+ *
+ */
+public class ColumnStatistics
+{
+	/**
+	 * Buckets of the histogram.
+	 */
+	public static final int HISTOGRAM_BUCKETS = 16;
+
+	/**
+	 * Value stored for a null column.
+	 */
+	private static final String NULL_VALUE = "null";
+
+	/**
+	 * Name of the column.
+	 */
+	protected String _Name;
+
+	/**
+	 * Estimated amount of distinct values in the table.
+	 */
+	protected long _DistinctValues;
+
+	/**
+	 * Fraction of the rows where the column is null.
+	 */
+	protected double _NullFraction;
+
+	/**
+	 * True when every value is a number and is compared as one.
+	 */
+	protected boolean _Numeric;
+
+	/**
+	 * Upper bound of every bucket of the histogram, sorted. The first
+	 * bound is the minimum and the last one the maximum. Empty when
+	 * every value is null.
+	 */
+	protected LinkedList< String > _Bounds;
+
+	public ColumnStatistics(String pName, long pDistinctValues, double pNullFraction,
+			boolean pNumeric, LinkedList< String > pBounds)
+	{
+		this._Name = pName;
+		this._DistinctValues = pDistinctValues;
+		this._NullFraction = pNullFraction;
+		this._Numeric = pNumeric;
+		this._Bounds = pBounds;
+	}
+
+	/**
+	 * Builds the statistics of a column from the values of a sample.
+	 * @param pName Name of the column.
+	 * @param pValues Values of the column in the sample, nulls included.
+	 * @param pRows Rows of the whole table.
+	 */
+	public static ColumnStatistics build(String pName, LinkedList< String > pValues, long pRows)
+	{
+		LinkedList< String > values = new LinkedList< String >();
+		HyperLogLog distinct = new HyperLogLog();
+		boolean numeric = true;
+		for (String value : pValues)
+		{
+			if (value.equalsIgnoreCase(NULL_VALUE))
+			{
+				continue;
+			}
+			values.add(value);
+			distinct.add(value);
+			numeric = numeric && isNumber(value);
+		}
+		double nullFraction = pValues.isEmpty() ? 0 : 
+			(double) (pValues.size() - values.size()) / pValues.size();
+
+		// A column that looks unique in the sample is taken as unique
+		// in the table, otherwise the sample already saw every value.
+		long estimate = Math.min(distinct.estimate(), values.size());
+		if (pValues.size() < pRows && estimate >= 0.95 * values.size())
+		{
+			estimate = Math.round((double) estimate * pRows / pValues.size());
+		}
+		estimate = Math.min(Math.max(estimate, values.isEmpty() ? 0 : 1), pRows);
+
+		final boolean isNumeric = numeric;
+		Collections.sort(values, new Comparator< String >()
+		{
+			@Override
+			public int compare(String pFirst, String pSecond)
+			{
+				return ColumnStatistics.compare(pFirst, pSecond, isNumeric);
+			}
+		});
+		LinkedList< String > bounds = new LinkedList< String >();
+		if (!values.isEmpty())
+		{
+			bounds.add(values.getFirst());
+			int buckets = Math.min(HISTOGRAM_BUCKETS, values.size());
+			for (int i = 1; i <= buckets; i++)
+			{
+				bounds.add(values.get(i * values.size() / buckets - 1));
+			}
+		}
+		return new ColumnStatistics(pName, estimate, nullFraction, numeric, bounds);
+	}
+
+	/**
+	 * Get for _Name.
+	 */
+	public String getName()
+	{
+		return this._Name;
+	}
+
+	/**
+	 * Get for _DistinctValues.
+	 */
+	public long getDistinctValues()
+	{
+		return this._DistinctValues;
+	}
+
+	/**
+	 * Get for _NullFraction.
+	 */
+	public double getNullFraction()
+	{
+		return this._NullFraction;
+	}
+
+	/**
+	 * Get for _Numeric.
+	 */
+	public boolean isNumeric()
+	{
+		return this._Numeric;
+	}
+
+	/**
+	 * Get for _Bounds.
+	 */
+	public LinkedList< String > getBounds()
+	{
+		return this._Bounds;
+	}
+
+	/**
+	 * Smallest value, null when every value is null.
+	 */
+	public String getMin()
+	{
+		return this._Bounds.isEmpty() ? null : this._Bounds.getFirst();
+	}
+
+	/**
+	 * Biggest value, null when every value is null.
+	 */
+	public String getMax()
+	{
+		return this._Bounds.isEmpty() ? null : this._Bounds.getLast();
+	}
+
+	/**
+	 * True when the value is outside of the range of the column, so
+	 * no row is equal to it.
+	 */
+	public boolean isOutOfRange(String pValue)
+	{
+		if (this._Bounds.isEmpty())
+		{
+			return true;
+		}
+		if (this._Numeric && !isNumber(pValue))
+		{
+			return false;
+		}
+		return compare(pValue, this.getMin(), this._Numeric) < 0 ||
+			   compare(pValue, this.getMax(), this._Numeric) > 0;
+	}
+
+	/**
+	 * Fraction of the values that are smaller than the given one, read
+	 * from the histogram. Inside a bucket the values of a numeric column
+	 * are taken as evenly spread.
+	 */
+	public double fractionBelow(String pValue)
+	{
+		int buckets = this._Bounds.size() - 1;
+		if (buckets <= 0 || (this._Numeric && !isNumber(pValue)))
+		{
+			return 0.5;
+		}
+		for (int i = 1; i <= buckets; i++)
+		{
+			String upper = this._Bounds.get(i);
+			if (compare(pValue, upper, this._Numeric) > 0)
+			{
+				continue;
+			}
+			String lower = this._Bounds.get(i - 1);
+			double inside = 0.5;
+			if (this._Numeric)
+			{
+				double low = Double.parseDouble(lower);
+				double high = Double.parseDouble(upper);
+				double value = Double.parseDouble(pValue);
+				inside = high > low ? Math.max(0, Math.min(1, (value - low) / (high - low))) : 0;
+			}
+			return (i - 1 + inside) / buckets;
+		}
+		return 1;
+	}
+
+	private static int compare(String pFirst, String pSecond, boolean pNumeric)
+	{
+		if (pNumeric)
+		{
+			return Double.compare(Double.parseDouble(pFirst), Double.parseDouble(pSecond));
+		}
+		return pFirst.compareTo(pSecond);
+	}
+
+	private static boolean isNumber(String pValue)
+	{
+		try
+		{
+			Double.parseDouble(pValue);
+			return true;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package urSQL.System;
+
+/**
+ * HyperLogLog estimates the amount of distinct values of a column
+ * with a fixed amount of memory. Each value is hashed and the hash
+ * chooses one register and the position of its first one bit; the
+ * registers keep the highest position seen.
+ * @author ArturoMora™
+ *
+ */
+public class HyperLogLog
+{
+	/**
+	 * Bits of the hash that choose the register.
+	 */
+	private static final int PRECISION = 10;
+
+	/**
+	 * Amount of registers, the error is about 1.04 / sqrt(registers).
+	 */
+	private static final int REGISTERS = 1 << PRECISION;
+
+	/**
+	 * Highest position of the first one bit, per register.
+	 */
+	protected byte[] _Registers = new byte[REGISTERS];
+
+	/**
+	 * Adds a value, case insensitive like the = of urSQL.
+	 */
+	public void add(String pValue)
+	{
+		long hash = hash(pValue.toLowerCase());
+		int register = (int) (hash >>> (64 - PRECISION));
+		// The remaining bits, with a guard bit so the rank is bounded.
+		long rest = (hash << PRECISION) | (1L << (PRECISION - 1));
+		byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+		if (rank > this._Registers[register])
+		{
+			this._Registers[register] = rank;
+		}
+	}
+
+	/**
+	 * Estimated amount of distinct values added.
+	 */
+	public long estimate()
+	{
+		double sum = 0;
+		int zeros = 0;
+		for (int i = 0; i < REGISTERS; i++)
+		{
+			sum += 1.0 / (1L << this._Registers[i]);
+			if (this._Registers[i] == 0)
+			{
+				zeros++;
+			}
+		}
+		double alpha = 0.7213 / (1 + 1.079 / REGISTERS);
+		double estimate = alpha * REGISTERS * REGISTERS / sum;
+		// Few values: linear counting over the empty registers is closer.
+		if (estimate <= 2.5 * REGISTERS && zeros > 0)
+		{
+			estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+		}
+		return Math.round(estimate);
+	}
+
+	/**
+	 * 64 bit FNV-1a followed by the finalizer of MurmurHash3, so
+	 * every bit of the hash depends on every character.
+	 */
+	private static long hash(String pValue)
+	{
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < pValue.length(); i++)
+		{
+			hash ^= pValue.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,112 @@
+package urSQL.System;
+
+import java.util.LinkedList;
+
+/**
+ * IndexMetadata describes a secondary index of a table: the columns
+ * that form its key and the columns carried as payload (INCLUDE).
+ * @author ArturoMora™
+ *
+ */
+public class IndexMetadata
+{
+	/**
+	 * Name of the index.
+	 */
+	protected String _Name;
+
+	/**
+	 * Columns of the key, the first one is the leading column.
+	 */
+	protected LinkedList< String > _KeyColumns;
+
+	/**
+	 * Columns stored in the index without being part of the key.
+	 */
+	protected LinkedList< String > _IncludeColumns;
+
+	/**
+	 * True for a hash index, which only answers equality.
+	 */
+	protected boolean _Hash;
+
+	public IndexMetadata(String pName, LinkedList< String > pKeyColumns,
+			LinkedList< String > pIncludeColumns)
+	{
+		this(pName, pKeyColumns, pIncludeColumns, false);
+	}
+
+	public IndexMetadata(String pName, LinkedList< String > pKeyColumns,
+			LinkedList< String > pIncludeColumns, boolean pHash)
+	{
+		this._Name = pName;
+		this._KeyColumns = pKeyColumns;
+		this._IncludeColumns = pIncludeColumns;
+		this._Hash = pHash;
+	}
+
+	/**
+	 * Get for _Name.
+	 */
+	public String getName()
+	{
+		return this._Name;
+	}
+
+	/**
+	 * Get for _KeyColumns.
+	 */
+	public LinkedList< String > getKeyColumns()
+	{
+		return this._KeyColumns;
+	}
+
+	/**
+	 * Get for _IncludeColumns.
+	 */
+	public LinkedList< String > getIncludeColumns()
+	{
+		return this._IncludeColumns;
+	}
+
+	/**
+	 * Get for _Hash.
+	 */
+	public boolean isHash()
+	{
+		return this._Hash;
+	}
+
+	/**
+	 * Name of the first column of the key.
+	 */
+	public String getLeadingColumn()
+	{
+		return this._KeyColumns.getFirst();
+	}
+
+	/**
+	 * True when every column is stored in the index, so a query
+	 * that only reads them never needs the table.
+	 * @param pColumns Names of the columns.
+	 * @param pPrimaryKey Name of the primary key, always stored.
+	 */
+	public boolean covers(LinkedList< String > pColumns, String pPrimaryKey)
+	{
+		// A hash index only stores the primary key of each row.
+		if (this._Hash)
+		{
+			return false;
+		}
+		for (String column : pColumns)
+		{
+			if (!this._KeyColumns.contains(column) &&
+				!this._IncludeColumns.contains(column) &&
+				!column.equals(pPrimaryKey))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,139 @@
+package urSQL.System;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import urSQL.QueryProcessor.PreparedPlan;
+import urSQL.RuntimeDatabaseProcessor.TableLocks;
+import urSQL.StoredDataManager.Transaction;
+
+/**
+ * Session is the state of one client of the engine: the database set
+ * with SET DATABASE, the plans of the statements it prepared and the
+ * transaction opened with BEGIN, with the locks it holds. The
+ * QueryProcessor passes it to the routine and every component, so two
+ * clients working on different databases never see each other's. A
+ * session is used by one thread at a time.
+ * @author ArturoMora™
+ *
+ */
+public class Session
+{
+	/**
+	 * Plans kept by each session, the least recently used go first.
+	 */
+	private static final int PLAN_CAPACITY = 64;
+
+	private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+	private final int _Id;
+
+	/**
+	 * Current database, null until one is set.
+	 */
+	private String _Database;
+
+	/**
+	 * Prepared plans by statement text, of the current database.
+	 */
+	private final LinkedHashMap< String, PreparedPlan > _Plans;
+
+	/**
+	 * Open transaction, null while each statement commits by itself.
+	 */
+	private Transaction _Transaction;
+
+	/**
+	 * Locks kept by the transaction until it ends.
+	 */
+	private TableLocks _TransactionLocks;
+
+	public Session()
+	{
+		this(null);
+	}
+
+	/**
+	 * @param pDatabase Database to start on, null or empty for none.
+	 */
+	public Session(String pDatabase)
+	{
+		this._Id = NEXT_ID.incrementAndGet();
+		this._Database = pDatabase == null || pDatabase.isEmpty() ? null : pDatabase;
+		this._Plans = new LinkedHashMap< String, PreparedPlan >(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry< String, PreparedPlan > pEldest)
+			{
+				return size() > PLAN_CAPACITY;
+			}
+		};
+	}
+
+	/**
+	 * Number of the session, unique in the process.
+	 */
+	public int getId()
+	{
+		return this._Id;
+	}
+
+	public String getDatabase()
+	{
+		return this._Database;
+	}
+
+	/**
+	 * Changes the current database and forgets the plans of the other.
+	 */
+	public void setDatabase(String pDatabase)
+	{
+		if (pDatabase == null ? this._Database != null : !pDatabase.equals(this._Database))
+		{
+			this._Plans.clear();
+		}
+		this._Database = pDatabase;
+	}
+
+	/**
+	 * Plan prepared by this session for a statement.
+	 * @return The plan, null if there is none or it is no longer valid.
+	 */
+	public PreparedPlan getPlan(String pSql)
+	{
+		PreparedPlan plan = this._Plans.get(pSql);
+		if (plan != null && !plan.isValid())
+		{
+			this._Plans.remove(pSql);
+			return null;
+		}
+		return plan;
+	}
+
+	public void putPlan(String pSql, PreparedPlan pPlan)
+	{
+		this._Plans.put(pSql, pPlan);
+	}
+
+	public Transaction getTransaction()
+	{
+		return this._Transaction;
+	}
+
+	public TableLocks getTransactionLocks()
+	{
+		return this._TransactionLocks;
+	}
+
+	/**
+	 * Opens or, with nulls, closes the transaction of the session.
+	 */
+	public void setTransaction(Transaction pTransaction, TableLocks pLocks)
+	{
+		this._Transaction = pTransaction;
+		this._TransactionLocks = pLocks;
+	}
+}
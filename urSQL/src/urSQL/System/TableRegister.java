@@ -148,6 +148,34 @@ public class TableRegister
 		return value;
 	}
 	
+	/**
+	 * Orders two values of a column according to its type.
+	 * NULL values go before any other value.
+	 * @return negative, zero or positive like Comparator.compare
+	 */
+	public static int compare(String pValue, String pAnotherValue, String pType)
+	{
+		boolean valueIsNull = pValue == null || pValue.equalsIgnoreCase(CONSTANT_NULL);
+		boolean anotherIsNull = pAnotherValue == null || pAnotherValue.equalsIgnoreCase(CONSTANT_NULL);
+		if (valueIsNull || anotherIsNull)
+		{
+			return (valueIsNull ? 0 : 1) - (anotherIsNull ? 0 : 1);
+		}
+		if (pType.equalsIgnoreCase(TYPE_INTEGER) || pType.equalsIgnoreCase(TableAttribute.TYPE_INT) ||
+			pType.equalsIgnoreCase(TYPE_DECIMAL))
+		{
+			try
+			{
+				return Double.compare(Double.parseDouble(pValue), Double.parseDouble(pAnotherValue));
+			}
+			catch (NumberFormatException e)
+			{
+				// Not a number, falls back to text comparison.
+			}
+		}
+		return pValue.compareTo(pAnotherValue);
+	}
+
 	public static boolean valorate(String pValue, String pComparator, 
 			                       String pAnotherValue, String pType)
 	{
@@ -0,0 +1,98 @@
+package urSQL.System;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+
+/**
+ * TableStatistics holds the amount of rows of a table and the
+ * statistics of each of its columns, as of the last ANALYZE.
+ * @author ArturoMora™
+ *
+ */
+public class TableStatistics
+{
+	/**
+	 * Name of the table.
+	 */
+	protected String _TableName;
+
+	/**
+	 * Amount of rows of the table.
+	 */
+	protected long _RowCount;
+
+	/**
+	 * Statistics of the columns, by name.
+	 */
+	protected HashMap< String, ColumnStatistics > _Columns;
+
+	public TableStatistics(String pTableName, long pRowCount)
+	{
+		this._TableName = pTableName;
+		this._RowCount = pRowCount;
+		this._Columns = new HashMap< String, ColumnStatistics >();
+	}
+
+	/**
+	 * Builds the statistics of a table from a sample of its rows.
+	 * @param pMetadata METADATA of the table, gives the order of the columns.
+	 * @param pRowCount Rows of the whole table.
+	 * @param pSample Rows of the sample, with every column.
+	 */
+	public static TableStatistics build(TableMetadata pMetadata, long pRowCount, 
+			LinkedList< LinkedList< String > > pSample)
+	{
+		TableStatistics statistics = new TableStatistics(pMetadata.getTableName(), pRowCount);
+		LinkedList< TableAttribute > columns = pMetadata.getTableColumns();
+		for (int i = 0; i < columns.size(); i++)
+		{
+			LinkedList< String > values = new LinkedList< String >();
+			for (LinkedList< String > row : pSample)
+			{
+				if (i < row.size())
+				{
+					values.add(row.get(i));
+				}
+			}
+			statistics.addColumn(ColumnStatistics.build(columns.get(i).getName(), values, pRowCount));
+		}
+		return statistics;
+	}
+
+	/**
+	 * Get for _TableName.
+	 */
+	public String getTableName()
+	{
+		return this._TableName;
+	}
+
+	/**
+	 * Get for _RowCount.
+	 */
+	public long getRowCount()
+	{
+		return this._RowCount;
+	}
+
+	/**
+	 * Get for _Columns.
+	 */
+	public HashMap< String, ColumnStatistics > getColumns()
+	{
+		return this._Columns;
+	}
+
+	/**
+	 * Statistics of a column, null if it was not analyzed.
+	 */
+	public ColumnStatistics getColumn(String pName)
+	{
+		return this._Columns.get(pName);
+	}
+
+	public void addColumn(ColumnStatistics pColumn)
+	{
+		this._Columns.put(pColumn.getName(), pColumn);
+	}
+}
@@ -4,13 +4,19 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Vector;
 
 import urSQL.StoredDataManager.Pair;
+import urSQL.StoredDataManager.StoreDataManager;
 import urSQL.StoredDataManager.BplusJ.xBplusTreeBytes;
+import urSQL.System.ColumnStatistics;
+import urSQL.System.IndexMetadata;
 import urSQL.System.TableAttribute;
 import urSQL.System.TableMetadata;
+import urSQL.System.TableStatistics;
 
 public class SystemCatalog 
 {
@@ -58,7 +64,7 @@ public class SystemCatalog
 	/**
 	 * Este es la direcci�n donde se van a almacenar las bases de datos.
 	 */
-	private static final String SYSTEM_CATALOG_PATH = System.getProperty("user.dir") + FILE_SEPARATOR +"SYSTEM_CATALOG";
+	private static final String SYSTEM_CATALOG_PATH = StoreDataManager.homeDirectory() + FILE_SEPARATOR +"SYSTEM_CATALOG";
 	/**
 	 * Sufijo del nombre de los archivos de arbol
 	 */
@@ -75,6 +81,15 @@ public class SystemCatalog
 	 * Sufijo que identifica los archivos de referencias
 	 */
 	private static final String REFERENCES = "_REFERENCES";
+	/**
+	 * Sufijo que identifica los archivos de indices
+	 */
+	private static final String INDEXES = "_INDEXES";
+	/**
+	 * Tipos de indice guardados en el catalogo
+	 */
+	private static final byte INDEX_BTREE = (byte)0x00;
+	private static final byte INDEX_HASH = (byte)0x01;
 	/**
 	 * Key para determinar el tipo de arbol
 	 */
@@ -94,6 +109,12 @@ public class SystemCatalog
 +	 * cantidad de columnas 
 	 */
 	private static final String QUANT_COL = " QU_CL";
+	/**
+	 * cantidad de filas segun el ultimo ANALYZE, las estadisticas de
+	 * cada columna van en esta llave seguida del nombre de la columna.
+	 * Quedan antes de TREE_TYPE, donde empiezan las columnas
+	 */
+	private static final String STATISTICS = " STATISTICS";
 	
 	
 	/*-*-*-*-*-*-*-*-*-*-*-*-*Keys imporantes para la tabla de referencias*-*-*-*-*-*-*-*-*-*-*-*-*-*-*/
@@ -124,7 +145,29 @@ public class SystemCatalog
 	
 	/*-*-*-*-*-*-*-*-*-*-*-*-*-*-*Variables de clase*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*/
 	
-	private String database_name;
+	/**
+	 * Metadata ya leida de los arboles, por base y tabla
+	 */
+	private final HashMap<String, TableMetadata> metadata_cache = new HashMap<String, TableMetadata>();
+	
+	/**
+	 * Indices ya leidos de los arboles, por base y tabla
+	 */
+	private final HashMap<String, LinkedList<IndexMetadata>> index_cache = 
+			new HashMap<String, LinkedList<IndexMetadata>>();
+	
+	/**
+	 * Version del esquema de cada tabla, aumenta cada vez que
+	 * cambia su definicion
+	 */
+	private final HashMap<String, Integer> schema_versions = new HashMap<String, Integer>();
+	
+	/**
+	 * Estadisticas ya leidas de los arboles, por base y tabla. Una
+	 * tabla sin ANALYZE queda con null
+	 */
+	private final HashMap<String, TableStatistics> statistics_cache = 
+			new HashMap<String, TableStatistics>();
 	
 	/**
 	 * Crea la estructura de archivos y carpetas del
@@ -172,25 +215,6 @@ public class SystemCatalog
 		}
 	}
 	
-	/**
-	 * Se elige una base de datos para trabajar
-	 * 
-	 * @param database_name nombre de la base de 
-	 * datos
-	 */
-
-	public void setDatabase(String database_name){
-		File database = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR +database_name);
-		
-		if(database.exists()){
-			this.database_name = database_name;
-		}
-		else{
-			System.err.format("La base de datos %s no existe\n", database_name);
-		}
-	}
-	
-	
 	/**
 	 * Agrega una tabla a la carpeta de la base de 
 	 * datos 
@@ -199,7 +223,7 @@ public class SystemCatalog
 	 * 
 	 * @param table_name nombre de la tabla
 	 */
-	public void addTable(String table_name, String pk, Vector<Vector<String>> vec){
+	public void addTable(String database_name, String table_name, String pk, Vector<Vector<String>> vec){
 		//verifica que exista
 		File database = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name);
 		
@@ -266,6 +290,7 @@ public class SystemCatalog
 						
 						tree_inf.Shutdown();
 						tree_ref.Shutdown();
+						invalidate(database_name, table_name);
 						
 					} catch (FileNotFoundException e) {
 						// TODO Auto-generated catch block
@@ -370,7 +395,7 @@ public class SystemCatalog
 	 * 
 	 * @param column2 columna de la tabla 2
 	 */
-	public void addReference(String table1, String column1, String table2, String column2){
+	public void addReference(String database_name, String table1, String column1, String table2, String column2){
 		//verifica que exista
 		File database = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name);
 				
@@ -402,6 +427,7 @@ public class SystemCatalog
 					
 					tree_ref.Commit();
 					tree_ref.Shutdown();
+					invalidate(database_name, table1);
 					
 				} catch (FileNotFoundException e) {
 					// TODO Auto-generated catch block
@@ -533,16 +559,6 @@ public class SystemCatalog
 		}
 	}
 
-	/**
-	 * Get the Name Of the Actual Database
-	 * @return
-	 */
-	public String getCurrentDatabase()
-	{
-		return this.database_name;
-	}
-	
-
     private static SystemCatalog INSTANCE = new SystemCatalog();
     
     public static SystemCatalog getInstance() 
@@ -563,15 +579,18 @@ public class SystemCatalog
     	}
     	else{
     		recursiveFileDelete(database);
+    		invalidateDatabase(database_name);
     	}
     }
 
     /**
      * Se elimina la tabla de la base de datos
      * 
+     * @param database_name nombre de la base de datos
+     * 
      * @param table_name nombre de la tabla
      */
-    public void dropTable(String table_name){
+    public void dropTable(String database_name, String table_name){
     	File database = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name);
     	if(!database.exists()){
     		System.err.format("La base de datos %s no existe\n", database_name);
@@ -583,6 +602,7 @@ public class SystemCatalog
     		}
     		else{
     			recursiveFileDelete(table);
+    			invalidate(database_name, table_name);
     		}
     	}
     }
@@ -590,11 +610,18 @@ public class SystemCatalog
     /**
      * Retorna la metadata de una tabla
      * 
+     * @param database_name nombre de la base de datos
+     * 
      * @param table_name nombre de la tabla 
      * 
      * @return metadata de una tabla
      */
-    public TableMetadata getMetadata(String table_name){
+    public TableMetadata getMetadata(String database_name, String table_name){
+    	//si ya se leyo no se abre el arbol
+    	TableMetadata cached = cachedMetadata(database_name, table_name);
+    	if(cached != null){
+    		return copyMetadata(cached);
+    	}
     	
     	LinkedList<TableAttribute> list = new LinkedList<TableAttribute>();
     	
@@ -646,8 +673,10 @@ public class SystemCatalog
 						}
 						
 						TableMetadata tm = new TableMetadata(table_name, list, list.get(pk_index));
+						tree_inf.Shutdown();
+						cacheMetadata(database_name, table_name, tm);
 						
-						return tm;
+						return copyMetadata(tm);
 						
 					} catch (FileNotFoundException e) {
 						// TODO Auto-generated catch block
@@ -705,6 +734,8 @@ public class SystemCatalog
     /**
      * Verifica si una columna tiene referencias
      * 
+     * @param database_name nombre de la base de datos
+     * 
      * @param table_name nombre de la tabla
      * 
      * @param column_name nombre de la columna
@@ -712,7 +743,7 @@ public class SystemCatalog
      * @return true si esta dentro del �rbol y false
      * en cualquier otro caso
      */
-    public boolean isHaveReferences(String table_name, String column_name){
+    public boolean isHaveReferences(String database_name, String table_name, String column_name){
     	boolean result = false;
     	
     	File database = new File(database_name);
@@ -757,6 +788,8 @@ public class SystemCatalog
     /**
      * Retorna la referencia de otra tabla
      * 
+     * @param database_name nombre de la base de datos
+     * 
      * @param table_name nombre de la tabla
      * 
      * @param column_name nombre de la columna
@@ -764,7 +797,7 @@ public class SystemCatalog
      * @return par con el nombre de la columna y 
      * la tabla a la cual se le hace la referencia
      */
-    public Pair<Pair<String,String>,String> getReference(String table_name, String column_name){
+    public Pair<Pair<String,String>,String> getReference(String database_name, String table_name, String column_name){
     	File database = new File(database_name);
     	//si el archivo no existe
     	if(!database.exists()){
@@ -837,17 +870,350 @@ public class SystemCatalog
     	return ref;
     }
     
+    /**
+     * Registra un indice secundario de una tabla
+     * 
+     * @param database_name nombre de la base de datos
+     * 
+     * @param table_name nombre de la tabla
+     * 
+     * @param index indice con sus columnas de llave y las
+     * columnas que incluye
+     */
+    public void addIndex(String database_name, String table_name, IndexMetadata index){
+    	String index_name = index.getName();
+    	File table = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name, table_name);
+    	
+    	if(!table.exists()){
+    		System.err.format("La tabla %s no se encuentra en la base %s\n", table_name, database_name);
+    	}
+    	else{
+    		String idx_file = table_name + INDEXES;
+    		
+    		File idx_file_tree = new File(table, idx_file + TREE_SUFIX);
+    		File idx_file_blocks = new File(table, idx_file + BLOCKS_SUFFIX);
+    		
+    		try {
+    			xBplusTreeBytes tree_idx = null;
+    			//el arbol de indices se crea con el primer indice de la tabla
+    			if(!idx_file_tree.exists()){
+    				tree_idx = xBplusTreeBytes.Initialize(new RandomAccessFile(idx_file_tree, "rw"), 
+    						new RandomAccessFile(idx_file_blocks, "rw"), 10);
+    				tree_idx.set(TREE_TYPE, INDEXES.getBytes());
+    			}
+    			else{
+    				tree_idx = xBplusTreeBytes.ReOpen(new RandomAccessFile(idx_file_tree, "rw"), 
+    						new RandomAccessFile(idx_file_blocks, "rw"));
+    			}
+    			
+    			if(tree_idx.ContainsKey(index_name)){
+    				System.err.format("El indice %s ya existe en la tabla %s\n", index_name, table_name);
+    			}
+    			else{
+    				tree_idx.set(index_name, index2bytes(index));
+    				tree_idx.Commit();
+    			}
+    			tree_idx.Shutdown();
+    			invalidate(database_name, table_name);
+    			
+    		} catch (FileNotFoundException e) {
+    			// TODO Auto-generated catch block
+    			e.printStackTrace();
+    		} catch (Exception e) {
+    			// TODO Auto-generated catch block
+    			e.printStackTrace();
+    		}
+    	}
+    }
+    
+    /**
+     * Retorna los indices secundarios de una tabla
+     * 
+     * @param database_name nombre de la base de datos
+     * 
+     * @param table_name nombre de la tabla
+     * 
+     * @return lista con los indices de la tabla
+     */
+    public LinkedList<IndexMetadata> getIndexes(String database_name, String table_name){
+    	LinkedList<IndexMetadata> cached = cachedIndexes(database_name, table_name);
+    	if(cached != null){
+    		return cached;
+    	}
+    	LinkedList<IndexMetadata> list = new LinkedList<IndexMetadata>();
+    	
+    	File table = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name, table_name);
+    	
+    	String idx_file = table_name + INDEXES;
+    	File idx_file_tree = new File(table, idx_file + TREE_SUFIX);
+    	File idx_file_blocks = new File(table, idx_file + BLOCKS_SUFFIX);
+    	//si la tabla no tiene indices
+    	if(!idx_file_tree.exists() || !idx_file_blocks.exists()){
+    		if(table.exists()){
+    			cacheIndexes(database_name, table_name, list);
+    		}
+    		return list;
+    	}
+    	try {
+    		xBplusTreeBytes tree_idx = xBplusTreeBytes.ReOpen(new RandomAccessFile(idx_file_tree, "rw"), 
+    				new RandomAccessFile(idx_file_blocks, "rw"));
+    		
+    		String key = tree_idx.NextKey(TREE_TYPE);
+    		while(key != null){
+    			list.add(bytes2index(key, tree_idx.get(key)));
+    			key = tree_idx.NextKey(key);
+    		}
+    		tree_idx.Shutdown();
+    		cacheIndexes(database_name, table_name, list);
+    		
+    	} catch (FileNotFoundException e) {
+    		// TODO Auto-generated catch block
+    		e.printStackTrace();
+    	} catch (Exception e) {
+    		// TODO Auto-generated catch block
+    		e.printStackTrace();
+    	}
+    	return list;
+    }
+    
+    /**
+     * Convierte las columnas de un indice a bytes: la cantidad de
+     * columnas de llave, la cantidad de incluidas, luego cada
+     * nombre con su largo y al final un byte con el tipo de indice
+     * 
+     * @param index indice a convertir
+     * 
+     * @return arreglo de bytes con las columnas
+     */
+    private byte[] index2bytes(IndexMetadata index){
+    	byte[] result = byteArrayConcatenate(short2bytes((short)index.getKeyColumns().size()), 
+    			short2bytes((short)index.getIncludeColumns().size()));
+    	
+    	LinkedList<String> columns = new LinkedList<String>(index.getKeyColumns());
+    	columns.addAll(index.getIncludeColumns());
+    	
+    	for(String column : columns){
+    		byte[] b_column = column.getBytes();
+    		b_column = byteArrayConcatenate(short2bytes((short)b_column.length), b_column);
+    		result = byteArrayConcatenate(result, b_column);
+    	}
+    	byte[] b_type = {index.isHash() ? INDEX_HASH : INDEX_BTREE};
+    	return byteArrayConcatenate(result, b_type);
+    }
+    
+    /**
+     * Crea el indice a partir de su registro en bytes
+     * 
+     * @param index_name nombre del indice
+     * 
+     * @param register registro con las columnas
+     * 
+     * @return metadata del indice
+     */
+    private IndexMetadata bytes2index(String index_name, byte[] register){
+    	ByteBuffer buffer = ByteBuffer.wrap(register);
+    	int key_quant = buffer.getShort();
+    	int include_quant = buffer.getShort();
+    	
+    	LinkedList<String> keys = new LinkedList<String>();
+    	LinkedList<String> includes = new LinkedList<String>();
+    	
+    	for(int i = 0; i < key_quant + include_quant; i++){
+    		int size = buffer.getShort();
+    		String column = new String(register, buffer.position(), size);
+    		buffer.position(buffer.position() + size);
+    		
+    		if(i < key_quant){
+    			keys.add(column);
+    		}else{
+    			includes.add(column);
+    		}
+    	}
+    	//los indices creados antes de los hash no tienen el byte del tipo
+    	boolean hash = buffer.hasRemaining() && buffer.get() == INDEX_HASH;
+    	return new IndexMetadata(index_name, keys, includes, hash);
+    }
+    
+    /**
+     * Guarda las estadisticas de una tabla en su arbol de informacion,
+     * reemplazando las del ANALYZE anterior
+     * 
+     * @param database_name nombre de la base de datos
+     * 
+     * @param statistics estadisticas de la tabla y sus columnas
+     */
+    public void setStatistics(String database_name, TableStatistics statistics){
+    	String table_name = statistics.getTableName();
+    	File table = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name, table_name);
+    	String inf_file = table_name + INFORMATION;
+    	File inf_file_tree = new File(table, inf_file + TREE_SUFIX);
+    	File inf_file_blocks = new File(table, inf_file + BLOCKS_SUFFIX);
+    	
+    	if(!inf_file_tree.exists() || !inf_file_blocks.exists()){
+    		System.err.format("La tabla %s no se encuentra en la base %s\n", table_name, database_name);
+    		return;
+    	}
+    	try {
+    		xBplusTreeBytes tree_inf = xBplusTreeBytes.ReOpen(new RandomAccessFile(inf_file_tree, "rw"), 
+    				new RandomAccessFile(inf_file_blocks, "rw"));
+    		
+    		tree_inf.set(STATISTICS, ByteBuffer.allocate(8).putLong(statistics.getRowCount()).array());
+    		for(ColumnStatistics column : statistics.getColumns().values()){
+    			tree_inf.set(STATISTICS + " " + column.getName(), statistics2bytes(column));
+    		}
+    		tree_inf.Commit();
+    		tree_inf.Shutdown();
+    		//los planes guardados se vuelven a elegir con los datos nuevos
+    		invalidate(database_name, table_name);
+    		
+    	} catch (FileNotFoundException e) {
+    		// TODO Auto-generated catch block
+    		e.printStackTrace();
+    	} catch (Exception e) {
+    		// TODO Auto-generated catch block
+    		e.printStackTrace();
+    	}
+    }
+    
+    /**
+     * Retorna las estadisticas de una tabla
+     * 
+     * @param database_name nombre de la base de datos
+     * 
+     * @param table_name nombre de la tabla
+     * 
+     * @return estadisticas del ultimo ANALYZE, null si la tabla
+     * nunca se ha analizado
+     */
+    public TableStatistics getStatistics(String database_name, String table_name){
+    	synchronized(this){
+    		if(statistics_cache.containsKey(cacheKey(database_name, table_name))){
+    			return statistics_cache.get(cacheKey(database_name, table_name));
+    		}
+    	}
+    	TableMetadata metadata = getMetadata(database_name, table_name);
+    	if(metadata == null){
+    		return null;
+    	}
+    	File table = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name, table_name);
+    	String inf_file = table_name + INFORMATION;
+    	File inf_file_tree = new File(table, inf_file + TREE_SUFIX);
+    	File inf_file_blocks = new File(table, inf_file + BLOCKS_SUFFIX);
+    	
+    	TableStatistics statistics = null;
+    	try {
+    		xBplusTreeBytes tree_inf = xBplusTreeBytes.ReOpen(new RandomAccessFile(inf_file_tree, "rw"), 
+    				new RandomAccessFile(inf_file_blocks, "rw"));
+    		
+    		if(tree_inf.ContainsKey(STATISTICS)){
+    			statistics = new TableStatistics(table_name, ByteBuffer.wrap(tree_inf.get(STATISTICS)).getLong());
+    			for(TableAttribute attribute : metadata.getTableColumns()){
+    				String key = STATISTICS + " " + attribute.getName();
+    				if(tree_inf.ContainsKey(key)){
+    					statistics.addColumn(bytes2statistics(attribute.getName(), tree_inf.get(key)));
+    				}
+    			}
+    		}
+    		tree_inf.Shutdown();
+    		synchronized(this){
+    			statistics_cache.put(cacheKey(database_name, table_name), statistics);
+    		}
+    		
+    	} catch (FileNotFoundException e) {
+    		// TODO Auto-generated catch block
+    		e.printStackTrace();
+    	} catch (Exception e) {
+    		// TODO Auto-generated catch block
+    		e.printStackTrace();
+    	}
+    	return statistics;
+    }
+    
+    /**
+     * Convierte las estadisticas de una columna en bytes: valores
+     * distintos, fraccion de nulos, si es numerica y los limites del
+     * histograma, cada uno con su largo
+     * 
+     * @param column estadisticas de la columna
+     * 
+     * @return arreglo de bytes
+     */
+    private byte[] statistics2bytes(ColumnStatistics column){
+    	byte[] result = ByteBuffer.allocate(19).putLong(column.getDistinctValues())
+    			.putDouble(column.getNullFraction())
+    			.put(column.isNumeric() ? BYTE_TRUE : BYTE_FALSE)
+    			.putShort((short)column.getBounds().size()).array();
+    	
+    	for(String bound : column.getBounds()){
+    		byte[] b_bound = bound.getBytes();
+    		b_bound = byteArrayConcatenate(short2bytes((short)b_bound.length), b_bound);
+    		result = byteArrayConcatenate(result, b_bound);
+    	}
+    	return result;
+    }
+    
+    /**
+     * Crea las estadisticas de una columna a partir de sus bytes
+     * 
+     * @param column_name nombre de la columna
+     * 
+     * @param register registro creado con statistics2bytes
+     * 
+     * @return estadisticas de la columna
+     */
+    private ColumnStatistics bytes2statistics(String column_name, byte[] register){
+    	ByteBuffer buffer = ByteBuffer.wrap(register);
+    	long distinct = buffer.getLong();
+    	double null_fraction = buffer.getDouble();
+    	boolean numeric = buffer.get() == BYTE_TRUE;
+    	int bound_quant = buffer.getShort();
+    	
+    	LinkedList<String> bounds = new LinkedList<String>();
+    	for(int i = 0; i < bound_quant; i++){
+    		int size = buffer.getShort();
+    		bounds.add(new String(register, buffer.position(), size));
+    		buffer.position(buffer.position() + size);
+    	}
+    	return new ColumnStatistics(column_name, distinct, null_fraction, numeric, bounds);
+    }
+    
+    /**
+     * Retorna los nombres de las tablas de una base
+     * 
+     * @param database_name nombre de la base de datos
+     * 
+     * @return lista con las tablas
+     */
+    public LinkedList<String> getTables(String database_name){
+    	LinkedList<String> tables = new LinkedList<String>();
+    	File database = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name);
+    	File[] files = database.listFiles();
+    	if(files != null){
+    		for(File file : files){
+    			if(file.isDirectory()){
+    				tables.add(file.getName());
+    			}
+    		}
+    	}
+    	return tables;
+    }
+    
     /**
      * Verifica que exista una tabla
      * 
+     * @param database_name nombre de la base de datos
+     * 
      * @param pTableName nombre de la tabla a 
      * verificar 
      * 
      * @return true si existe la tabla, false 
      * en otro caso
      */
-    public boolean tableExist (String pTableName)
+    public boolean tableExist (String database_name, String pTableName)
     {
+    	if(cachedMetadata(database_name, pTableName) != null){
+    		return true;
+    	}
     	boolean result = false;
     	
     	File database = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name);
@@ -868,6 +1234,8 @@ public class SystemCatalog
     /**
      * Verifica que exista una columna
      * 
+     * @param database_name nombre de la base de datos
+     * 
      * @param pTableName nombre de la tabla en 
      * la que se va a verificar la columna
      * 
@@ -876,8 +1244,12 @@ public class SystemCatalog
      * 
      * @return boolean que es true si existe la columna
      */
-    public boolean columnExist(String pTableName, String pColumnName)
+    public boolean columnExist(String database_name, String pTableName, String pColumnName)
     {
+    	TableMetadata cached = cachedMetadata(database_name, pTableName);
+    	if(cached != null){
+    		return cached.indexByName(pColumnName) < cached.getTableColumns().size();
+    	}
     	boolean result = false;
     	
     	File database = new File(SYSTEM_CATALOG_PATH + FILE_SEPARATOR + database_name);
@@ -921,6 +1293,103 @@ public class SystemCatalog
     	return result;
     }
 
+    /**
+     * Retorna la version del esquema de una tabla de una base.
+     * Cambia cada vez que se crea, borra o modifica la
+     * tabla, de modo que algo guardado con una version vieja se
+     * sabe que ya no sirve
+     * 
+     * @param database_name nombre de la base de datos
+     * 
+     * @param table_name nombre de la tabla
+     * 
+     * @return version del esquema
+     */
+    public synchronized int getSchemaVersion(String database_name, String table_name){
+    	Integer version = schema_versions.get(cacheKey(database_name, table_name));
+    	return version == null ? 0 : version;
+    }
+    
+    /**
+     * Llave de una tabla de una base en los caches
+     */
+    private String cacheKey(String database_name, String table_name){
+    	return database_name + FILE_SEPARATOR + table_name;
+    }
+    
+    private synchronized TableMetadata cachedMetadata(String database_name, String table_name){
+    	return metadata_cache.get(cacheKey(database_name, table_name));
+    }
+    
+    private synchronized void cacheMetadata(String database_name, String table_name, TableMetadata metadata){
+    	metadata_cache.put(cacheKey(database_name, table_name), metadata);
+    }
+    
+    private synchronized LinkedList<IndexMetadata> cachedIndexes(String database_name, String table_name){
+    	LinkedList<IndexMetadata> cached = index_cache.get(cacheKey(database_name, table_name));
+    	return cached == null ? null : new LinkedList<IndexMetadata>(cached);
+    }
+    
+    private synchronized void cacheIndexes(String database_name, String table_name, LinkedList<IndexMetadata> indexes){
+    	index_cache.put(cacheKey(database_name, table_name), new LinkedList<IndexMetadata>(indexes));
+    }
+    
+    /**
+     * Copia de la metadata guardada, para que quien la use
+     * pueda cambiar la lista de columnas sin tocar el cache
+     */
+    private TableMetadata copyMetadata(TableMetadata metadata){
+    	return new TableMetadata(metadata.getTableName(), 
+    			new LinkedList<TableAttribute>(metadata.getTableColumns()), metadata.getPrimaryKey());
+    }
+    
+    /**
+     * Saca una tabla de los caches y aumenta la version de su esquema
+     * 
+     * @param table_name nombre de la tabla
+     */
+    private synchronized void invalidate(String database_name, String table_name){
+    	String key = cacheKey(database_name, table_name);
+    	metadata_cache.remove(key);
+    	index_cache.remove(key);
+    	statistics_cache.remove(key);
+    	schema_versions.put(key, getSchemaVersion(database_name, table_name) + 1);
+    }
+    
+    /**
+     * Saca todas las tablas de una base de los caches
+     * 
+     * @param database_name nombre de la base de datos
+     */
+    private synchronized void invalidateDatabase(String database_name){
+    	String prefix = database_name + FILE_SEPARATOR;
+    	Iterator<String> keys = metadata_cache.keySet().iterator();
+    	while(keys.hasNext()){
+    		if(keys.next().startsWith(prefix)){
+    			keys.remove();
+    		}
+    	}
+    	keys = index_cache.keySet().iterator();
+    	while(keys.hasNext()){
+    		if(keys.next().startsWith(prefix)){
+    			keys.remove();
+    		}
+    	}
+    	keys = statistics_cache.keySet().iterator();
+    	while(keys.hasNext()){
+    		if(keys.next().startsWith(prefix)){
+    			keys.remove();
+    		}
+    	}
+    	keys = schema_versions.keySet().iterator();
+    	while(keys.hasNext()){
+    		String key = keys.next();
+    		if(key.startsWith(prefix)){
+    			schema_versions.put(key, schema_versions.get(key) + 1);
+    		}
+    	}
+    }
+    
     /**
      * Verifica si existe la base de datos
      * 
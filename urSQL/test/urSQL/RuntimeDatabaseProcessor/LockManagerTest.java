@@ -0,0 +1,191 @@
+package urSQL.RuntimeDatabaseProcessor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests of the table locks: which modes share a name, and the place of
+ * a waiting exclusive request.
+ * @author ArturoMora™
+ *
+ */
+public class LockManagerTest
+{
+	/**
+	 * How long a request that is not granted is given before the test
+	 * takes it as waiting.
+	 */
+	private static final long WAIT_MILLIS = 100;
+
+	private static final int[] MODES = { LockManager.SHARED, LockManager.INTENTION_EXCLUSIVE,
+			LockManager.EXCLUSIVE };
+
+	/**
+	 * COMPATIBLE[held][requested]: shared goes with shared, intention
+	 * exclusive with intention exclusive, and exclusive with nothing.
+	 */
+	private static final boolean[][] COMPATIBLE = {
+			{ true, false, false },
+			{ false, true, false },
+			{ false, false, false } };
+
+	private final LockManager _Manager = LockManager.getInstance();
+
+	@Test
+	public void compatibilityMatrix() throws Exception
+	{
+		for (int held : MODES)
+		{
+			for (int requested : MODES)
+			{
+				String name = "matrix/" + held + "/" + requested;
+				this._Manager.lock(name, held);
+				Locker locker = new Locker(name, requested);
+				assertEquals("held " + held + ", requested " + requested, COMPATIBLE[held][requested],
+						locker.grantedWithin(WAIT_MILLIS));
+				this._Manager.unlock(name, held);
+				// once released, any mode is granted
+				locker.join();
+				assertTrue(locker._Granted);
+			}
+		}
+	}
+
+	/**
+	 * An exclusive request that waits keeps new shared and intention
+	 * exclusive requests out, and is granted when the holder leaves.
+	 */
+	@Test
+	public void waitingExclusiveGoesFirst() throws Exception
+	{
+		String name = "writer";
+		this._Manager.lock(name, LockManager.SHARED);
+		Locker writer = new Locker(name, LockManager.EXCLUSIVE);
+		assertFalse(writer.grantedWithin(WAIT_MILLIS));
+		Locker reader = new Locker(name, LockManager.SHARED);
+		assertFalse(reader.grantedWithin(WAIT_MILLIS));
+		Locker rows = new Locker(name, LockManager.INTENTION_EXCLUSIVE);
+		assertFalse(rows.grantedWithin(WAIT_MILLIS));
+		this._Manager.unlock(name, LockManager.SHARED);
+		writer.join();
+		reader.join();
+		rows.join();
+		assertTrue(writer._Granted);
+		assertTrue(reader._Granted);
+		assertTrue(rows._Granted);
+	}
+
+	/**
+	 * A routine holds the tables it reads shared and the ones it changes
+	 * exclusive, and its database shared, so DROP DATABASE waits for it.
+	 */
+	@Test
+	public void tableLocksOfRoutines() throws Exception
+	{
+		TableLocks routine = new TableLocks("routines");
+		routine.exclusive("a");
+		routine.shared("b");
+		routine.acquire();
+		assertFalse(new Locker("routines/a", LockManager.SHARED).grantedWithin(WAIT_MILLIS));
+		assertTrue(new Locker("routines/b", LockManager.SHARED).grantedWithin(WAIT_MILLIS));
+		assertTrue(new Locker("routines", LockManager.SHARED).grantedWithin(WAIT_MILLIS));
+		Locker drop = new Locker("routines", LockManager.EXCLUSIVE);
+		assertFalse(drop.grantedWithin(WAIT_MILLIS));
+		routine.release();
+		drop.join();
+		assertTrue(drop._Granted);
+	}
+
+	/**
+	 * Routines that change rows of a table share it with each other but
+	 * not with readers; a routine that also reads it holds it exclusive.
+	 */
+	@Test
+	public void intentionExclusiveOfRoutines() throws Exception
+	{
+		TableLocks writer = new TableLocks("rows");
+		writer.intentionExclusive("a");
+		writer.shared("b");
+		TableLocks other = new TableLocks("rows");
+		other.intentionExclusive("a");
+		assertFalse(writer.hasExclusive());
+		writer.acquire();
+		other.acquire();
+		assertFalse(new Locker("rows/a", LockManager.SHARED).grantedWithin(WAIT_MILLIS));
+		assertTrue(new Locker("rows/b", LockManager.SHARED).grantedWithin(WAIT_MILLIS));
+		other.release();
+		writer.release();
+
+		TableLocks both = new TableLocks("rows");
+		both.shared("a");
+		both.intentionExclusive("a");
+		assertTrue(both.hasExclusive());
+		both.acquire();
+		Locker rows = new Locker("rows/a", LockManager.INTENTION_EXCLUSIVE);
+		assertFalse(rows.grantedWithin(WAIT_MILLIS));
+		both.release();
+		rows.join();
+		assertTrue(rows._Granted);
+	}
+
+	/**
+	 * A shared holder becomes exclusive once the other holders leave,
+	 * and stays shared when the upgrade gives up.
+	 */
+	@Test
+	public void upgradeWaitsForOtherHolders() throws Exception
+	{
+		String name = "upgrade";
+		long nanos = TimeUnit.MILLISECONDS.toNanos(WAIT_MILLIS);
+		this._Manager.lock(name, LockManager.SHARED);
+		this._Manager.lock(name, LockManager.SHARED);
+		assertFalse(this._Manager.tryUpgrade(name, LockManager.SHARED, LockManager.EXCLUSIVE, nanos));
+		this._Manager.unlock(name, LockManager.SHARED);
+		assertTrue(this._Manager.tryUpgrade(name, LockManager.SHARED, LockManager.EXCLUSIVE, nanos));
+		assertFalse(this._Manager.tryLock(name, LockManager.SHARED, nanos));
+		this._Manager.unlock(name, LockManager.EXCLUSIVE);
+		assertTrue(this._Manager.tryLock(name, LockManager.SHARED, 0));
+		this._Manager.unlock(name, LockManager.SHARED);
+	}
+
+	/**
+	 * Thread that takes a lock and gives it back at once.
+	 */
+	private static class Locker extends Thread
+	{
+		private final String _Name;
+		private final int _Mode;
+		private volatile boolean _Granted;
+
+		Locker(String pName, int pMode)
+		{
+			this._Name = pName;
+			this._Mode = pMode;
+		}
+
+		@Override
+		public void run()
+		{
+			LockManager.getInstance().lock(this._Name, this._Mode);
+			this._Granted = true;
+			LockManager.getInstance().unlock(this._Name, this._Mode);
+		}
+
+		/**
+		 * Starts the thread.
+		 * @return True if the lock was granted within pMillis; otherwise
+		 * the thread still waits for it.
+		 */
+		boolean grantedWithin(long pMillis) throws InterruptedException
+		{
+			this.start();
+			this.join(pMillis);
+			return this._Granted;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package urSQL.RuntimeDatabaseProcessor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import urSQL.System.Session;
+
+/**
+ * Tests of the row locks: a cycle of two sessions loses exactly one of
+ * them, and a request that is never granted ends with the timeout.
+ * @author ArturoMora™
+ *
+ */
+public class RowLockManagerTest
+{
+	/**
+	 * Read once, when RowLockManager is loaded.
+	 */
+	private static final long TIMEOUT_MILLIS = 500;
+
+	static
+	{
+		System.setProperty(RowLockManager.TIMEOUT_PROPERTY, String.valueOf(TIMEOUT_MILLIS));
+	}
+
+	private final RowLockManager _Manager = RowLockManager.getInstance();
+
+	/**
+	 * Each session holds one row and asks for the other's: one of them
+	 * fails at once, and once it releases its row the other goes on.
+	 */
+	@Test
+	public void deadlockHasOneVictim() throws Exception
+	{
+		final Session first = new Session();
+		final Session second = new Session();
+		this._Manager.lock(first, "db", "deadlock", "1", RowLockManager.EXCLUSIVE);
+		this._Manager.lock(second, "db", "deadlock", "2", RowLockManager.EXCLUSIVE);
+
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicInteger victims = new AtomicInteger();
+		final AtomicInteger granted = new AtomicInteger();
+		Thread[] threads = new Thread[2];
+		final Session[] sessions = { first, second };
+		final String[] wanted = { "2", "1" };
+		for (int i = 0; i < threads.length; i++)
+		{
+			final int index = i;
+			threads[i] = new Thread()
+			{
+				@Override
+				public void run()
+				{
+					try
+					{
+						start.await();
+						RowLockManager.getInstance().lock(sessions[index], "db", "deadlock", wanted[index],
+								RowLockManager.EXCLUSIVE);
+						granted.incrementAndGet();
+					}
+					catch (LockException e)
+					{
+						victims.incrementAndGet();
+					}
+					catch (InterruptedException e)
+					{
+						return;
+					}
+					finally
+					{
+						RowLockManager.getInstance().releaseAll(sessions[index]);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		long millis = (System.nanoTime() - begin) / 1000000;
+
+		assertEquals(1, victims.get());
+		assertEquals(1, granted.get());
+		// the cycle is found before waiting, not by the timeout
+		assertTrue("took " + millis + " ms", millis < TIMEOUT_MILLIS);
+	}
+
+	/**
+	 * A request behind an exclusive holder that never leaves fails when
+	 * the timeout ends, and does not stay in the queue of the row.
+	 */
+	@Test
+	public void waiterTimesOut()
+	{
+		Session holder = new Session();
+		Session waiter = new Session();
+		this._Manager.lock(holder, "db", "timeout", "1", RowLockManager.EXCLUSIVE);
+		long begin = System.nanoTime();
+		try
+		{
+			this._Manager.lock(waiter, "db", "timeout", "1", RowLockManager.SHARED);
+			fail("granted while held exclusive");
+		}
+		catch (LockException e)
+		{
+			long millis = (System.nanoTime() - begin) / 1000000;
+			assertTrue("gave up after " + millis + " ms", millis >= TIMEOUT_MILLIS - 10);
+		}
+
+		// nothing of the abandoned request is left once the holder leaves
+		this._Manager.releaseAll(holder);
+		Session reader = new Session();
+		this._Manager.lock(reader, "db", "timeout", "1", RowLockManager.SHARED);
+		this._Manager.lock(waiter, "db", "timeout", "1", RowLockManager.SHARED);
+		this._Manager.releaseAll(reader);
+		this._Manager.releaseAll(waiter);
+	}
+
+	/**
+	 * Shared holders share the row; a holder alone may take it exclusive.
+	 */
+	@Test
+	public void sharedHoldersShare()
+	{
+		Session first = new Session();
+		Session second = new Session();
+		this._Manager.lock(first, "db", "shared", "1", RowLockManager.SHARED);
+		this._Manager.lock(second, "db", "shared", "1", RowLockManager.SHARED);
+		this._Manager.releaseAll(second);
+		this._Manager.lock(first, "db", "shared", "1", RowLockManager.EXCLUSIVE);
+		this._Manager.releaseAll(first);
+	}
+}
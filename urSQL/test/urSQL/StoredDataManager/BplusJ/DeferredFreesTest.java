@@ -0,0 +1,206 @@
+package urSQL.StoredDataManager.BplusJ;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Pruebas de las paginas liberadas que esperan un checkpoint
+ *
+ * @author Andres Brais
+ *
+ */
+public class DeferredFreesTest {
+
+	private File folder;
+	private File file_tree;
+	private File file_blocks;
+
+	@Before
+	public void setUp() throws Exception{
+		folder = File.createTempFile("deferred", "");
+		folder.delete();
+		folder.mkdirs();
+		file_tree = new File(folder, "t_TREE");
+		file_blocks = new File(folder, "t_BLOCKS");
+	}
+
+	@After
+	public void tearDown(){
+		File[] files = folder.listFiles();
+		for (int i = 0; files != null && i < files.length; i++) {
+			files[i].delete();
+		}
+		folder.delete();
+	}
+
+	/**
+	 * Solo se entregan las paginas de antes del ultimo Seal, y despues
+	 * del Release
+	 */
+	@Test
+	public void releasesOnlyWhatWasSealed(){
+		DeferredFrees frees = new DeferredFrees();
+		frees.DeferBuffer(1);
+		frees.DeferChunk(10);
+		assertEquals(0, frees.TakeBuffers().length);
+		frees.Seal();
+		frees.DeferBuffer(2);
+		assertEquals(0, frees.TakeBuffers().length);
+		frees.Release();
+		assertArrayEquals(new long[]{1}, frees.TakeBuffers());
+		assertArrayEquals(new long[]{10}, frees.TakeChunks());
+		assertEquals(0, frees.TakeBuffers().length);
+		frees.Seal();
+		frees.Release();
+		assertArrayEquals(new long[]{2}, frees.TakeBuffers());
+	}
+
+	/**
+	 * Despues de muchos Commit sobre un checkpoint, volver a su raiz
+	 * lee lo mismo que habia en el checkpoint: ninguna pagina ni bloque
+	 * de esa raiz se volvio a usar
+	 */
+	@Test
+	public void checkpointRootSurvivesLaterCommits() throws Exception{
+		DeferredFrees frees = new DeferredFrees();
+		xBplusTreeBytes tree = open(frees);
+		for (int i = 0; i < 300; i++) {
+			tree.set(key(i), value(i, 0));
+		}
+		tree.Commit();
+		//checkpoint: raiz en disco y paginas liberadas antes de ella
+		long root = checkpoint(frees);
+		TreeMap<String, String> expected = read(tree);
+		tree.Shutdown();
+
+		for (int round = 1; round <= 5; round++) {
+			tree = open(frees);
+			for (int i = 0; i < 300; i++) {
+				if(i % 3 == round % 3){
+					tree.RemoveKey(key(i));
+				}else{
+					tree.set(key(i), value(i, round));
+				}
+			}
+			for (int i = 300; i < 300 + 40 * round; i++) {
+				tree.set(key(i), value(i, round));
+			}
+			tree.Commit();
+			tree.Shutdown();
+			if(round == 3){
+				//un checkpoint que no llego a guardar su raiz
+				synchronized (frees) {
+					frees.Seal();
+				}
+			}
+			tree = open(frees);
+			for (int i = 0; i < 300; i++) {
+				if(i % 3 == round % 3){
+					tree.set(key(i), value(i, round));
+				}
+			}
+			tree.Commit();
+			tree.Shutdown();
+		}
+
+		//caida: solo queda lo que el checkpoint forzo
+		RandomAccessFile tree_access = new RandomAccessFile(file_tree, "rw");
+		RandomAccessFile blocks_access = new RandomAccessFile(file_blocks, "rw");
+		BplusTreeLong.RestoreRoot(tree_access, root);
+		LinkedFile.ForgetFreeList(blocks_access);
+		tree = xBplusTreeBytes.ReOpen(tree_access, blocks_access);
+		assertEquals(expected, read(tree));
+		tree.Shutdown();
+	}
+
+	/**
+	 * Las paginas liberadas vuelven a usarse despues de cada checkpoint,
+	 * asi el archivo deja de crecer cuando se reescriben las mismas filas
+	 */
+	@Test
+	public void releasedSpaceIsReused() throws Exception{
+		DeferredFrees frees = new DeferredFrees();
+		xBplusTreeBytes tree = open(frees);
+		for (int i = 0; i < 200; i++) {
+			tree.set(key(i), value(i, 0));
+		}
+		tree.Commit();
+		tree.Shutdown();
+		long[] lengths = new long[8];
+		for (int round = 0; round < lengths.length; round++) {
+			checkpoint(frees);
+			tree = open(frees);
+			for (int i = 0; i < 200; i++) {
+				tree.set(key(i), value(i, round));
+			}
+			tree.Commit();
+			tree.Shutdown();
+			lengths[round] = file_tree.length() + file_blocks.length();
+		}
+		assertEquals(lengths[3], lengths[lengths.length - 1]);
+	}
+
+	private xBplusTreeBytes open(DeferredFrees frees) throws Exception{
+		xBplusTreeBytes tree;
+		if(file_tree.exists()){
+			tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"),
+					new RandomAccessFile(file_blocks, "rw"));
+		}else{
+			tree = xBplusTreeBytes.Initialize(new RandomAccessFile(file_tree, "rw"),
+					new RandomAccessFile(file_blocks, "rw"), 10);
+		}
+		tree.DeferFrees(frees);
+		return tree;
+	}
+
+	/**
+	 * Lo que hace el checkpoint de la bitacora con un arbol
+	 */
+	private long checkpoint(DeferredFrees frees) throws Exception{
+		RandomAccessFile access = new RandomAccessFile(file_tree, "r");
+		try {
+			long root;
+			synchronized (frees) {
+				root = BplusTreeLong.ReadRootSeek(access);
+				frees.Seal();
+			}
+			frees.Release();
+			return root;
+		} finally {
+			access.close();
+		}
+	}
+
+	private static TreeMap<String, String> read(xBplusTreeBytes tree) throws Exception{
+		TreeMap<String, String> result = new TreeMap<String, String>();
+		String key = tree.FirstKey();
+		while(key != null){
+			result.put(key, new String(tree.get(key), "UTF-8"));
+			key = tree.NextKey(key);
+		}
+		return result;
+	}
+
+	private static String key(int i){
+		return String.format("key%05d", i);
+	}
+
+	/**
+	 * Valores de varios bloques, para que se liberen cadenas enteras
+	 */
+	private static byte[] value(int i, int round) throws Exception{
+		StringBuilder value = new StringBuilder();
+		for (int j = 0; j < 1 + (i + round) % 4; j++) {
+			value.append(String.format("%d-%d-%0600d;", i, round, j));
+		}
+		return value.toString().getBytes("UTF-8");
+	}
+}
@@ -0,0 +1,97 @@
+package urSQL.StoredDataManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Pruebas de la copia y la bitacora del indice hash: la bitacora que
+ * queda despues de una copia nueva y el descarte de la recuperacion
+ *
+ * @author Andres Brais
+ *
+ */
+public class HashIndexTest {
+
+	private File folder;
+
+	@Before
+	public void setUp() throws Exception{
+		folder = File.createTempFile("hash", "");
+		folder.delete();
+		folder.mkdirs();
+	}
+
+	@After
+	public void tearDown(){
+		File[] files = folder.listFiles();
+		for (int i = 0; files != null && i < files.length; i++) {
+			files[i].delete();
+		}
+		folder.delete();
+	}
+
+	/**
+	 * Si el proceso se cae despues de cambiar la copia y antes de borrar
+	 * la bitacora, la bitacora se aplica sobre una copia que ya tiene sus
+	 * cambios y no quedan llaves repetidas
+	 */
+	@Test
+	public void logOverNewerSnapshotAddsNothing() throws Exception{
+		File snapshot = new File(folder, "i" + HashIndex.HASH_SUFFIX);
+		File log = new File(snapshot.getPath() + "_LOG");
+		HashIndex index = HashIndex.create(snapshot, 0);
+		index.put(1, "a");
+		index.save();
+		index.put(2, "b");
+		index.remove(1, "a");
+		index.put(1, "c");
+		byte[] changes = Files.readAllBytes(log.toPath());
+		index.save();
+		assertFalse(log.exists());
+
+		//otro archivo, ya que el indice queda abierto con su nombre
+		File copy = new File(folder, "j" + HashIndex.HASH_SUFFIX);
+		Files.copy(snapshot.toPath(), copy.toPath());
+		Files.write(new File(copy.getPath() + "_LOG").toPath(), changes);
+		HashIndex loaded = HashIndex.open(copy);
+		assertEquals(Arrays.asList("b"), loaded.get(2));
+		assertEquals(Arrays.asList("c"), loaded.get(1));
+	}
+
+	/**
+	 * Un indice descartado conserva su columna, no anota cambios en la
+	 * bitacora hasta que se llena de nuevo y deja de estar descartado
+	 * al guardarse
+	 */
+	@Test
+	public void discardedIndexKeepsItsColumn() throws Exception{
+		File snapshot = new File(folder, "k" + HashIndex.HASH_SUFFIX);
+		File log = new File(snapshot.getPath() + "_LOG");
+		HashIndex index = HashIndex.create(snapshot, 3);
+		index.put(1, "a");
+		index.save();
+		index.put(2, "b");
+		assertTrue(log.exists());
+
+		HashIndex.discardAll(folder);
+		assertFalse(log.exists());
+		HashIndex discarded = HashIndex.open(snapshot);
+		assertTrue(discarded.isDiscarded());
+		assertEquals(3, discarded.getColumnIndex());
+		assertTrue(discarded.get(1).isEmpty());
+		discarded.put(1, "a");
+		assertFalse(log.exists());
+		discarded.save();
+		assertFalse(discarded.isDiscarded());
+		assertEquals(Arrays.asList("a"), discarded.get(1));
+	}
+}
@@ -0,0 +1,240 @@
+package urSQL.StoredDataManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import urSQL.QueryProcessor.QueryProcessor;
+import urSQL.System.Session;
+import urSQL.System.TableRegister;
+
+/**
+ * Mata el proceso en medio de escrituras, varias veces, y comprueba
+ * que al abrir los datos de nuevo estan todas las filas confirmadas
+ * con su ultimo valor. Cada vez el proceso nuevo recupera la bitacora
+ * sobre las raices del checkpoint.
+ *
+ * @author Andres Brais
+ *
+ */
+public class WriteAheadLogCrashTest {
+
+	/**
+	 * Prefijo de las lineas que el proceso de prueba escribe para la
+	 * prueba; lo demas es lo que imprimen las consultas
+	 */
+	private static final String PREFIX = "WAL-TEST ";
+
+	private static final int ROUNDS = 4;
+
+	private static final int OPERATIONS_PER_ROUND = 120;
+
+	private File folder;
+
+	@Before
+	public void setUp() throws Exception{
+		folder = File.createTempFile("crash", "");
+		folder.delete();
+		folder.mkdirs();
+	}
+
+	@After
+	public void tearDown(){
+		delete(folder);
+	}
+
+	@Test
+	public void committedRowsSurviveKill() throws Exception{
+		TreeMap<Integer, Integer> expected = new TreeMap<Integer, Integer>();
+		//operacion que el proceso estaba haciendo cuando se mato
+		String[] pending = null;
+		//vuelta del ciclo donde se mato el proceso; el siguiente la hace
+		//de nuevo, y como las operaciones dan lo mismo dos veces, la que
+		//quedo sin confirmar se confirma en el siguiente
+		int next = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			File log = new File(folder, "round" + round + ".log");
+			Process process = start("write", String.valueOf(next), log);
+			while(count(lines(log), PREFIX + "ok") < OPERATIONS_PER_ROUND){
+				assertTrue("el proceso termino antes de matarlo", process.isAlive());
+				Thread.sleep(10);
+			}
+			process.destroyForcibly();
+			process.waitFor();
+			//tambien lo que alcanzo a hacer mientras se mataba
+			for (String line : lines(log)) {
+				if(!line.startsWith(PREFIX)){
+					continue;
+				}
+				String[] parts = line.substring(PREFIX.length()).split(" ");
+				if(parts[0].equals("begin")){
+					pending = parts;
+					next = Integer.parseInt(parts[4]);
+				}else if(parts[0].equals("ok")){
+					apply(expected, pending);
+					pending = null;
+				}
+			}
+		}
+
+		HashMap<Integer, Integer> found = new HashMap<Integer, Integer>();
+		File log = new File(folder, "read.log");
+		Process process = start("read", "0", log);
+		assertEquals(0, process.waitFor());
+		for (String line : lines(log)) {
+			if(line.startsWith(PREFIX)){
+				String[] parts = line.substring(PREFIX.length()).split(" ");
+				found.put(Integer.valueOf(parts[0]), Integer.valueOf(parts[1]));
+			}
+		}
+
+		//la operacion sin confirmar pudo quedar o no
+		if(pending != null){
+			Integer key = Integer.valueOf(pending[2]);
+			TreeMap<Integer, Integer> with = new TreeMap<Integer, Integer>(expected);
+			apply(with, pending);
+			if(found.get(key) == null ? with.get(key) == null : found.get(key).equals(with.get(key))){
+				expected = with;
+			}
+		}
+		assertEquals(expected, new TreeMap<Integer, Integer>(found));
+		assertTrue(expected.size() > OPERATIONS_PER_ROUND);
+	}
+
+	/**
+	 * Aplica una operacion confirmada al estado esperado
+	 */
+	private static void apply(TreeMap<Integer, Integer> state, String[] operation){
+		Integer key = Integer.valueOf(operation[2]);
+		if(operation[1].equals("delete")){
+			state.remove(key);
+		}else{
+			state.put(key, Integer.valueOf(operation[3]));
+		}
+	}
+
+	/**
+	 * Lineas completas de la salida de un proceso; la ultima puede estar
+	 * a medias si se mato al escribirla
+	 */
+	private static List<String> lines(File log) throws IOException{
+		String text = new String(Files.readAllBytes(log.toPath()), "UTF-8");
+		List<String> lines = new ArrayList<String>(Arrays.asList(text.split("\n", -1)));
+		lines.remove(lines.size() - 1);
+		return lines;
+	}
+
+	private static int count(List<String> lines, String line){
+		int count = 0;
+		for (String each : lines) {
+			if(each.equals(line)){
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Inicia el proceso de prueba con la carpeta de datos de la prueba
+	 * y checkpoints seguidos
+	 *
+	 * @param log archivo donde queda su salida
+	 */
+	private Process start(String mode, String first, File log) throws IOException{
+		List<String> command = new ArrayList<String>();
+		command.add(new File(System.getProperty("java.home"), "bin" + File.separator + "java").getPath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("-D" + StoreDataManager.HOME_PROPERTY + "=" + folder.getAbsolutePath());
+		command.add("-D" + WriteAheadLog.CHECKPOINT_MILLIS_PROPERTY + "=20");
+		command.add("-D" + WriteAheadLog.SEGMENT_SIZE_PROPERTY + "=65536");
+		command.add(Workload.class.getName());
+		command.add(mode);
+		command.add(first);
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.directory(folder);
+		builder.redirectOutput(log);
+		builder.redirectError(ProcessBuilder.Redirect.appendTo(new File(folder, "errors.log")));
+		return builder.start();
+	}
+
+	private static void delete(File file){
+		File[] files = file.listFiles();
+		for (int i = 0; files != null && i < files.length; i++) {
+			delete(files[i]);
+		}
+		file.delete();
+	}
+
+	/**
+	 * Proceso de prueba: escribe filas hasta que lo matan, anunciando
+	 * cada operacion antes de empezarla y cuando se confirmo, o imprime
+	 * las filas de la tabla
+	 */
+	public static class Workload {
+
+		public static void main(String[] args) throws Exception{
+			Session session = new Session();
+			if(args[0].equals("read")){
+				execute(session, "SET DATABASE crash");
+				QueryProcessor query = execute(session, "SELECT * FROM t");
+				LinkedList<TableRegister> rows = query.getRS().getTableData().getData();
+				for (TableRegister row : rows) {
+					System.out.println(PREFIX + row.getRegister().get(0) + " " + row.getRegister().get(1));
+				}
+				System.out.flush();
+				return;
+			}
+			int first = Integer.parseInt(args[1]);
+			if(first == 0){
+				execute(session, "CREATE DATABASE crash");
+				execute(session, "SET DATABASE crash");
+				execute(session, "CREATE TABLE t AS (a INTEGER NOT NULL b INTEGER NULL PRIMARY KEY (a))");
+				execute(session, "CREATE INDEX tb ON t (b)");
+			}else{
+				execute(session, "SET DATABASE crash");
+			}
+			//inserta una fila, cambia la anterior y borra una mas vieja,
+			//asi los Commit liberan paginas y bloques
+			for (int i = first; ; i++) {
+				run(session, i, "insert", i, i, "INSERT INTO t (a b) VALUES (" + i + " " + i + ")");
+				if(i > 0){
+					int value = i * 7;
+					run(session, i, "update", i - 1, value, "UPDATE t SET b = " + value + " WHERE a = " + (i - 1));
+				}
+				if(i % 4 == 3){
+					run(session, i, "delete", i - 3, 0, "DELETE FROM t WHERE a = " + (i - 3));
+				}
+			}
+		}
+
+		private static void run(Session session, int iteration, String operation, int key, int value,
+				String sql) throws Exception{
+			System.out.println(PREFIX + "begin " + operation + " " + key + " " + value + " " + iteration);
+			System.out.flush();
+			execute(session, sql);
+			System.out.println(PREFIX + "ok");
+			System.out.flush();
+		}
+
+		private static QueryProcessor execute(Session session, String sql) throws Exception{
+			QueryProcessor query = new QueryProcessor(sql, session);
+			query.setEcho(false);
+			query.execute();
+			return query;
+		}
+	}
+}
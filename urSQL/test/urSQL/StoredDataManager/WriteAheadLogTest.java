@@ -0,0 +1,295 @@
+package urSQL.StoredDataManager;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import urSQL.StoredDataManager.BplusJ.xBplusTreeBytes;
+
+/**
+ * Pruebas de la recuperacion de la bitacora: donde termina, desde
+ * donde se aplica y que olvida un registro de reinicio
+ *
+ * @author Andres Brais
+ *
+ */
+public class WriteAheadLogTest {
+
+	private File folder;
+	private File log_folder;
+	private File file_tree;
+	private File file_blocks;
+	private WriteAheadLog log;
+
+	/**
+	 * El checkpoint usa StoreDataManager, que al cargarse abre la
+	 * bitacora de la carpeta de datos; se manda a una carpeta aparte
+	 */
+	@BeforeClass
+	public static void setHome() throws Exception{
+		File home = File.createTempFile("home", "");
+		home.delete();
+		home.mkdirs();
+		home.deleteOnExit();
+		System.setProperty(StoreDataManager.HOME_PROPERTY, home.getAbsolutePath());
+	}
+
+	@Before
+	public void setUp() throws Exception{
+		folder = File.createTempFile("wal", "");
+		folder.delete();
+		File table = new File(folder, "t");
+		table.mkdirs();
+		log_folder = new File(folder, WriteAheadLog.LOG_FOLDER);
+		file_tree = new File(table, "t_TREE");
+		file_blocks = new File(table, "t_BLOCKS");
+		xBplusTreeBytes tree = xBplusTreeBytes.Initialize(new RandomAccessFile(file_tree, "rw"),
+				new RandomAccessFile(file_blocks, "rw"), 10);
+		tree.set("base", bytes("0"));
+		tree.Commit();
+		tree.Shutdown();
+		log = new WriteAheadLog(log_folder, WriteAheadLog.recover(log_folder));
+		log.created(file_tree.getAbsolutePath(), file_blocks.getAbsolutePath());
+	}
+
+	@After
+	public void tearDown() throws Exception{
+		if(log != null){
+			log.close();
+		}
+		delete(folder);
+	}
+
+	/**
+	 * Un registro con el CRC mal es el final de la bitacora: no se
+	 * aplica ni el ni los que siguen, y la bitacora nueva sigue en el
+	 */
+	@Test
+	public void corruptRecordEndsTheLog() throws Exception{
+		long first = append("a", "1");
+		long second = append("b", "2");
+		append("c", "3");
+		log.close();
+		log = null;
+		//un byte cambiado dentro del segundo registro
+		RandomAccessFile segment = new RandomAccessFile(segment(), "rw");
+		segment.seek(first + 8 + 4);
+		int value = segment.read();
+		segment.seek(first + 8 + 4);
+		segment.write(value ^ 0xFF);
+		segment.close();
+
+		WriteAheadLog.Checkpoint recovered = WriteAheadLog.recover(log_folder);
+		assertEquals(first, recovered.lsn);
+		assertArrayEquals(bytes("1"), read("a"));
+		assertFalse(contains("b"));
+		assertFalse(contains("c"));
+		assertTrue(second > first);
+	}
+
+	/**
+	 * Un registro que el proceso no termino de escribir, con su largo
+	 * pero sin todos sus bytes, tambien es el final
+	 */
+	@Test
+	public void tornTailIsIgnored() throws Exception{
+		long first = append("a", "1");
+		long second = append("b", "2");
+		log.close();
+		log = null;
+		//se corta el final del segundo registro, como si no hubiera llegado
+		RandomAccessFile segment = new RandomAccessFile(segment(), "rw");
+		segment.setLength(second - 3);
+		segment.close();
+
+		WriteAheadLog.Checkpoint recovered = WriteAheadLog.recover(log_folder);
+		assertEquals(first, recovered.lsn);
+		assertArrayEquals(bytes("1"), read("a"));
+		assertFalse(contains("b"));
+
+		//la bitacora nueva escribe sobre el registro roto
+		log = new WriteAheadLog(log_folder, recovered);
+		assertEquals(second, append("b", "2"));
+		log.close();
+		log = null;
+		WriteAheadLog.recover(log_folder);
+		assertArrayEquals(bytes("2"), read("b"));
+	}
+
+	/**
+	 * Solo se aplica lo que sigue al LSN del checkpoint: un registro
+	 * anterior no se vuelve a aplicar aunque el arbol no lo tenga
+	 */
+	@Test
+	public void replaysFromCheckpointLsn() throws Exception{
+		long before = append("old", "1");
+		//el Commit de los arboles de este registro ya se hizo
+		log.applied(before);
+		log.checkpoint();
+		append("new", "2");
+		log.close();
+		log = null;
+
+		WriteAheadLog.Checkpoint recovered = WriteAheadLog.recover(log_folder);
+		assertFalse(contains("old"));
+		assertArrayEquals(bytes("2"), read("new"));
+		assertArrayEquals(bytes("0"), read("base"));
+		assertTrue(recovered.lsn > before);
+		//la recuperacion deja un checkpoint al final y borra los segmentos
+		assertEquals(recovered.lsn, WriteAheadLog.recover(log_folder).lsn);
+	}
+
+	/**
+	 * Un registro que no tiene Commit todavia no deja que el checkpoint
+	 * pase de el
+	 */
+	@Test
+	public void checkpointStopsAtRecordsInFlight() throws Exception{
+		append("pending", "1");
+		log.checkpoint();
+		log.close();
+		log = null;
+
+		WriteAheadLog.recover(log_folder);
+		assertArrayEquals(bytes("1"), read("pending"));
+	}
+
+	/**
+	 * Un reinicio olvida los cambios anteriores de los archivos que
+	 * empiezan con su prefijo, pero no los que vienen despues
+	 */
+	@Test
+	public void resetDropsPendingChanges() throws Exception{
+		append("dropped", "1");
+		log.reset(file_tree.getParentFile().getAbsolutePath() + File.separator);
+		append("kept", "2");
+		log.close();
+		log = null;
+
+		WriteAheadLog.recover(log_folder);
+		assertFalse(contains("dropped"));
+		assertArrayEquals(bytes("2"), read("kept"));
+	}
+
+	/**
+	 * Un Commit libera el bloque del valor anterior, el checkpoint lo
+	 * sella y el proceso se cae antes de que se vuelva a usar. Despues de
+	 * otro Commit, que lo pasa a la lista de libres, y otro checkpoint,
+	 * una transaccion sin registro toma ese bloque y el proceso se cae en
+	 * medio: el arbol no tiene registros despues del checkpoint, pero la
+	 * recuperacion igual vuelve a su raiz sin la lista de libres del disco
+	 */
+	@Test
+	public void killAfterCheckpointForgetsFreeLists() throws Exception{
+		commit("a", "1");
+		//libera el bloque de "1", que espera al checkpoint
+		commit("a", "2");
+		log.checkpoint();
+		//el bloque de "1" pasa a la lista de libres en disco
+		commit("a", "3");
+		log.checkpoint();
+		//transaccion que escribe en el bloque libre y no termina
+		RandomAccessFile tree_access = new RandomAccessFile(file_tree, "rw");
+		RandomAccessFile blocks_access = new RandomAccessFile(file_blocks, "rw");
+		xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(tree_access, blocks_access);
+		tree.DeferFrees(WriteAheadLog.frees(file_tree.getAbsolutePath()));
+		tree.set("lost", bytes("4"));
+		tree_access.close();
+		blocks_access.close();
+		log.close();
+		log = null;
+
+		WriteAheadLog.recover(log_folder);
+		assertArrayEquals(bytes("3"), read("a"));
+		assertFalse(contains("lost"));
+		//la lista de libres ya no apunta al bloque que tomo la transaccion
+		log = new WriteAheadLog(log_folder, WriteAheadLog.recover(log_folder));
+		commit("b", "5");
+		assertArrayEquals(bytes("5"), read("b"));
+		assertArrayEquals(bytes("3"), read("a"));
+	}
+
+	/**
+	 * Agrega un registro que cambia una llave del arbol, sin hacerle
+	 * Commit, como si el proceso se cayera despues
+	 *
+	 * @return LSN despues del registro
+	 */
+	private long append(String key, String value) throws Exception{
+		LinkedHashMap<String, byte[]> changes = new LinkedHashMap<String, byte[]>();
+		changes.put(key, bytes(value));
+		long lsn = log.appendChanges(Arrays.asList(new WriteAheadLog.TreeChanges(
+				file_tree.getAbsolutePath(), file_blocks.getAbsolutePath(), changes)));
+		log.awaitDurable(lsn);
+		return lsn;
+	}
+
+	/**
+	 * Agrega un registro y hace Commit del arbol con sus paginas
+	 * liberadas esperando al checkpoint, como una transaccion
+	 */
+	private void commit(String key, String value) throws Exception{
+		long lsn = append(key, value);
+		xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "rw"),
+				new RandomAccessFile(file_blocks, "rw"));
+		tree.DeferFrees(WriteAheadLog.frees(file_tree.getAbsolutePath()));
+		tree.set(key, bytes(value));
+		tree.Commit();
+		tree.Shutdown();
+		log.applied(lsn);
+	}
+
+	private File segment(){
+		File[] segments = log_folder.listFiles();
+		Arrays.sort(segments);
+		for (int i = segments.length - 1; i >= 0; i--) {
+			if(segments[i].getName().endsWith(".log")){
+				return segments[i];
+			}
+		}
+		throw new IllegalStateException("no hay segmentos");
+	}
+
+	private boolean contains(String key) throws Exception{
+		xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "r"),
+				new RandomAccessFile(file_blocks, "r"));
+		try {
+			return tree.ContainsKey(key);
+		} finally {
+			tree.Shutdown();
+		}
+	}
+
+	private byte[] read(String key) throws Exception{
+		xBplusTreeBytes tree = xBplusTreeBytes.ReOpen(new RandomAccessFile(file_tree, "r"),
+				new RandomAccessFile(file_blocks, "r"));
+		try {
+			return tree.get(key);
+		} finally {
+			tree.Shutdown();
+		}
+	}
+
+	private static byte[] bytes(String value) throws Exception{
+		return value.getBytes("UTF-8");
+	}
+
+	private static void delete(File file){
+		File[] files = file.listFiles();
+		for (int i = 0; files != null && i < files.length; i++) {
+			delete(files[i]);
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,31 @@
+package urSQL.Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner runs the benchmarks of this project with the JMH
+ * command line options, always adding the gc profiler, which reports
+ * the bytes allocated per operation (gc.alloc.rate.norm) and the time
+ * spent in collections. For example, to compare the lookups of the
+ * BplusTreeLong before and after a change:
+ *
+ *   BenchmarkRunner BplusTreeLongBenchmark.get -p treeSize=100000 -rf json
+ *
+ * Other profilers are added with -prof, such as -prof stack.
+ * @author ArturoMora™
+ *
+ */
+public class BenchmarkRunner
+{
+	public static void main(String[] args) throws Exception
+	{
+		CommandLineOptions options = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder()
+				.parent(options)
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,231 @@
+package urSQL.Benchmarks;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import urSQL.StoredDataManager.BplusJ.BplusTreeLong;
+
+/**
+ * BplusTreeLongBenchmark measures the tree of fixed length keys and
+ * long values that holds the prefixes of every xBplusTreeBytes. The
+ * trial loads treeSize keys and commits them; every iteration ends with
+ * Abort, so the writes of one iteration never reach the next one.
+ * Keys from the second half of the key set are never loaded and are
+ * used for misses and inserts.
+ * @author ArturoMora™
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BplusTreeLongBenchmark
+{
+	/**
+	 * Node size used by BplusTreeBytes.
+	 */
+	private static final int NODE_SIZE = 32;
+
+	/**
+	 * Writes of the insert and remove benchmarks in one iteration.
+	 */
+	static final int BATCH = 1000;
+
+	/**
+	 * Updates before each commit.
+	 */
+	static final int DIRTY_KEYS = 16;
+
+	@Param({ Keys.SEQUENTIAL, Keys.RANDOM, Keys.PREFIXED })
+	public String keyShape;
+
+	@Param({ "16", "64" })
+	public int keyLength;
+
+	@Param({ "10000", "100000" })
+	public int treeSize;
+
+	private File _File;
+	private RandomAccessFile _Stream;
+	private BplusTreeLong _Tree;
+
+	/**
+	 * Loaded keys, then the ones that are not in the tree.
+	 */
+	private String[] _Keys;
+
+	/**
+	 * Loaded keys sorted as the tree keeps them.
+	 */
+	private String[] _Sorted;
+
+	private int[] _Order;
+	private int _Cursor;
+
+	@Setup(Level.Trial)
+	public void load() throws Exception
+	{
+		this._Keys = Keys.create(this.keyShape, this.treeSize * 2, this.keyLength);
+		this._Sorted = Arrays.copyOf(this._Keys, this.treeSize);
+		Arrays.sort(this._Sorted);
+		this._Order = Keys.shuffle(this.treeSize);
+		this._File = File.createTempFile("bench", ".tree");
+		this._File.delete();
+		this._Stream = new RandomAccessFile(this._File, "rw");
+		this._Tree = BplusTreeLong.InitializeInStream(this._Stream, this.keyLength, NODE_SIZE);
+		for (int i = 0; i < this.treeSize; i++)
+		{
+			this._Tree.set(this._Keys[this._Order[i]], i);
+		}
+		this._Tree.Commit();
+	}
+
+	@Setup(Level.Iteration)
+	public void rewind()
+	{
+		this._Cursor = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void abort() throws Exception
+	{
+		this._Tree.Abort();
+	}
+
+	@TearDown(Level.Trial)
+	public void close() throws Exception
+	{
+		this._Tree.Shutdown();
+		this._Stream.close();
+		this._File.delete();
+	}
+
+	private int next()
+	{
+		int position = this._Cursor;
+		this._Cursor = position + 1 == this.treeSize ? 0 : position + 1;
+		return position;
+	}
+
+	@Benchmark
+	public long getRandom() throws Exception
+	{
+		return this._Tree.get(this._Keys[this._Order[next()]]);
+	}
+
+	@Benchmark
+	public long getSequential() throws Exception
+	{
+		return this._Tree.get(this._Sorted[next()]);
+	}
+
+	@Benchmark
+	public boolean containsKeyHit() throws Exception
+	{
+		return this._Tree.ContainsKey(this._Keys[this._Order[next()]]);
+	}
+
+	@Benchmark
+	public boolean containsKeyMiss() throws Exception
+	{
+		return this._Tree.ContainsKey(this._Keys[this.treeSize + this._Order[next()]]);
+	}
+
+	/**
+	 * Walks every key with FirstKey and NextKey.
+	 */
+	@Benchmark
+	public int nextKeyScan() throws Exception
+	{
+		int count = 0;
+		for (String key = this._Tree.FirstKey(); key != null; key = this._Tree.NextKey(key))
+		{
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Overwrites the value of a loaded key, the tree does not grow.
+	 */
+	@Benchmark
+	public void setRandomUpdate() throws Exception
+	{
+		int position = next();
+		this._Tree.set(this._Keys[this._Order[position]], position);
+	}
+
+	/**
+	 * DIRTY_KEYS updates and the commit that writes them.
+	 */
+	@Benchmark
+	public void commit() throws Exception
+	{
+		for (int i = 0; i < DIRTY_KEYS; i++)
+		{
+			int position = next();
+			this._Tree.set(this._Keys[this._Order[position]], position);
+		}
+		this._Tree.Commit();
+	}
+
+	/**
+	 * BATCH new keys in random order; the score is for the whole batch.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10, batchSize = BATCH)
+	@Measurement(iterations = 20, batchSize = BATCH)
+	public void setRandomInsert() throws Exception
+	{
+		int position = next();
+		this._Tree.set(this._Keys[this.treeSize + this._Order[position]], position);
+	}
+
+	/**
+	 * BATCH new keys in the order they were created, which is sorted
+	 * for the sequential and prefixed shapes.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10, batchSize = BATCH)
+	@Measurement(iterations = 20, batchSize = BATCH)
+	public void setSequentialInsert() throws Exception
+	{
+		int position = next();
+		this._Tree.set(this._Keys[this.treeSize + position], position);
+	}
+
+	/**
+	 * BATCH loaded keys removed in random order.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10, batchSize = BATCH)
+	@Measurement(iterations = 20, batchSize = BATCH)
+	public void removeKey() throws Exception
+	{
+		this._Tree.RemoveKey(this._Keys[this._Order[next()]]);
+	}
+}
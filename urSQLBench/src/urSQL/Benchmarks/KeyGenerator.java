@@ -0,0 +1,207 @@
+package urSQL.Benchmarks;
+
+import java.util.Random;
+
+/**
+ * KeyGenerator chooses which of the loaded records an operation reads
+ * or writes, with the request distributions of YCSB. The number of
+ * records is passed on every call because inserts make it grow while
+ * the workload runs.
+ * @author ArturoMora™
+ *
+ */
+public abstract class KeyGenerator
+{
+	public static final String UNIFORM = "uniform";
+	public static final String ZIPFIAN = "zipfian";
+	public static final String HOTSPOT = "hotspot";
+	public static final String LATEST = "latest";
+
+	protected final Random _Random;
+
+	protected KeyGenerator(Random pRandom)
+	{
+		this._Random = pRandom;
+	}
+
+	/**
+	 * Creates the generator of a distribution.
+	 * @param pDistribution UNIFORM, ZIPFIAN, HOTSPOT or LATEST.
+	 * @param pRandom Source of the random numbers.
+	 */
+	public static KeyGenerator create(String pDistribution, Random pRandom)
+	{
+		if (pDistribution.equals(UNIFORM))
+		{
+			return new Uniform(pRandom);
+		}
+		if (pDistribution.equals(ZIPFIAN))
+		{
+			return new Zipfian(pRandom, true);
+		}
+		if (pDistribution.equals(HOTSPOT))
+		{
+			return new Hotspot(pRandom);
+		}
+		if (pDistribution.equals(LATEST))
+		{
+			return new Latest(pRandom);
+		}
+		throw new IllegalArgumentException("Unknown distribution " + pDistribution);
+	}
+
+	/**
+	 * @param pCount Number of records, at least 1.
+	 * @return Record between 0 and pCount - 1.
+	 */
+	public abstract int next(int pCount);
+
+	/**
+	 * Every record is equally likely.
+	 */
+	static class Uniform extends KeyGenerator
+	{
+		Uniform(Random pRandom)
+		{
+			super(pRandom);
+		}
+
+		@Override
+		public int next(int pCount)
+		{
+			return this._Random.nextInt(pCount);
+		}
+	}
+
+	/**
+	 * Zipfian distribution with constant 0.99, by the method of Gray et
+	 * al., "Quickly Generating Billion-Record Synthetic Databases". The
+	 * zeta sum is extended when the number of records grows. Scrambled,
+	 * the popular records are spread over the key space by a hash
+	 * instead of being the lowest keys.
+	 */
+	static class Zipfian extends KeyGenerator
+	{
+		private static final double THETA = 0.99;
+
+		private final boolean _Scrambled;
+		private final double _Alpha;
+		private final double _Zeta2;
+		private int _Count;
+		private double _ZetaN;
+		private double _Eta;
+
+		Zipfian(Random pRandom, boolean pScrambled)
+		{
+			super(pRandom);
+			this._Scrambled = pScrambled;
+			this._Alpha = 1 / (1 - THETA);
+			this._Zeta2 = 1 + Math.pow(0.5, THETA);
+			this._Count = 0;
+			this._ZetaN = 0;
+		}
+
+		@Override
+		public int next(int pCount)
+		{
+			if (pCount != this._Count)
+			{
+				resize(pCount);
+			}
+			double u = this._Random.nextDouble();
+			double uz = u * this._ZetaN;
+			long rank;
+			if (uz < 1)
+			{
+				rank = 0;
+			}
+			else if (uz < 1 + Math.pow(0.5, THETA))
+			{
+				rank = 1;
+			}
+			else
+			{
+				rank = (long) (pCount * Math.pow(this._Eta * u - this._Eta + 1, this._Alpha));
+			}
+			rank = Math.min(rank, pCount - 1);
+			if (!this._Scrambled)
+			{
+				return (int) rank;
+			}
+			return (int) ((fnv(rank) & Long.MAX_VALUE) % pCount);
+		}
+
+		private void resize(int pCount)
+		{
+			if (pCount < this._Count)
+			{
+				this._Count = 0;
+				this._ZetaN = 0;
+			}
+			for (int i = this._Count + 1; i <= pCount; i++)
+			{
+				this._ZetaN += 1 / Math.pow(i, THETA);
+			}
+			this._Count = pCount;
+			this._Eta = (1 - Math.pow(2.0 / pCount, 1 - THETA)) / (1 - this._Zeta2 / this._ZetaN);
+		}
+
+		private static long fnv(long pValue)
+		{
+			long hash = 0xcbf29ce484222325L;
+			for (int i = 0; i < 8; i++)
+			{
+				hash ^= (pValue >>> (i * 8)) & 0xFF;
+				hash *= 0x100000001b3L;
+			}
+			return hash;
+		}
+	}
+
+	/**
+	 * HOT_OPERATIONS of the operations go to the first HOT_RECORDS of
+	 * the records, the rest to the others, uniformly in each part.
+	 */
+	static class Hotspot extends KeyGenerator
+	{
+		private static final double HOT_RECORDS = 0.2;
+		private static final double HOT_OPERATIONS = 0.8;
+
+		Hotspot(Random pRandom)
+		{
+			super(pRandom);
+		}
+
+		@Override
+		public int next(int pCount)
+		{
+			int hot = Math.max(1, (int) (pCount * HOT_RECORDS));
+			if (hot == pCount || this._Random.nextDouble() < HOT_OPERATIONS)
+			{
+				return this._Random.nextInt(hot);
+			}
+			return hot + this._Random.nextInt(pCount - hot);
+		}
+	}
+
+	/**
+	 * The most recently inserted records are the most popular, with a
+	 * zipfian distribution over their age.
+	 */
+	static class Latest extends KeyGenerator
+	{
+		private final Zipfian _Age;
+
+		Latest(Random pRandom)
+		{
+			super(pRandom);
+			this._Age = new Zipfian(pRandom, false);
+		}
+
+		@Override
+		public int next(int pCount)
+		{
+			return pCount - 1 - this._Age.next(pCount);
+		}
+	}
+}
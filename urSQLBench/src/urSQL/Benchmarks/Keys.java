@@ -0,0 +1,131 @@
+package urSQL.Benchmarks;
+
+import java.util.HashSet;
+import java.util.Random;
+
+/**
+ * Keys builds the key sets of the tree benchmarks. Every set is made
+ * from a fixed seed so two runs, before and after a change in the
+ * trees, look up and write the same keys in the same order.
+ * @author ArturoMora™
+ *
+ */
+public class Keys
+{
+	/**
+	 * Zero padded numbers in order, like an INTEGER primary key.
+	 */
+	public static final String SEQUENTIAL = "sequential";
+
+	/**
+	 * Random letters, no two keys share a long prefix.
+	 */
+	public static final String RANDOM = "random";
+
+	/**
+	 * SHARED_PREFIX characters common to every key followed by a zero
+	 * padded number, like the keys of a secondary index on a column
+	 * with few distinct values.
+	 */
+	public static final String PREFIXED = "prefixed";
+
+	public static final int SHARED_PREFIX = 8;
+
+	private static final long SEED = 42;
+
+	private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+	/**
+	 * Creates the keys of a set, all of them distinct.
+	 * @param pShape SEQUENTIAL, RANDOM or PREFIXED.
+	 * @param pCount Number of keys.
+	 * @param pLength Length of every key.
+	 * @return Keys in the order they were created.
+	 */
+	public static String[] create(String pShape, int pCount, int pLength)
+	{
+		String[] keys = new String[pCount];
+		Random random = new Random(SEED);
+		HashSet<String> seen = new HashSet<String>();
+		for (int i = 0; i < pCount; i++)
+		{
+			if (pShape.equals(SEQUENTIAL))
+			{
+				keys[i] = number(i, pLength);
+			}
+			else if (pShape.equals(PREFIXED))
+			{
+				keys[i] = fill('p', SHARED_PREFIX) + number(i, pLength - SHARED_PREFIX);
+			}
+			else if (pShape.equals(RANDOM))
+			{
+				do
+				{
+					StringBuilder key = new StringBuilder(pLength);
+					for (int j = 0; j < pLength; j++)
+					{
+						key.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+					}
+					keys[i] = key.toString();
+				}
+				while (!seen.add(keys[i]));
+			}
+			else
+			{
+				throw new IllegalArgumentException("Unknown key shape " + pShape);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Random permutation of 0..pCount-1, to visit a key set out of order.
+	 */
+	public static int[] shuffle(int pCount)
+	{
+		int[] order = new int[pCount];
+		for (int i = 0; i < pCount; i++)
+		{
+			order[i] = i;
+		}
+		Random random = new Random(SEED + 1);
+		for (int i = pCount - 1; i > 0; i--)
+		{
+			int j = random.nextInt(i + 1);
+			int swap = order[i];
+			order[i] = order[j];
+			order[j] = swap;
+		}
+		return order;
+	}
+
+	/**
+	 * Value of pSize bytes, the same for every key.
+	 */
+	public static byte[] value(int pSize)
+	{
+		byte[] value = new byte[pSize];
+		new Random(SEED).nextBytes(value);
+		return value;
+	}
+
+	private static String number(int pNumber, int pLength)
+	{
+		String digits = Integer.toString(pNumber);
+		if (digits.length() > pLength)
+		{
+			throw new IllegalArgumentException("Key length " + pLength + " is too short for " + pNumber);
+		}
+		return fill('0', pLength - digits.length()) + digits;
+	}
+
+	private static String fill(char pCharacter, int pLength)
+	{
+		StringBuilder fill = new StringBuilder(pLength);
+		for (int i = 0; i < pLength; i++)
+		{
+			fill.append(pCharacter);
+		}
+		return fill.toString();
+	}
+}
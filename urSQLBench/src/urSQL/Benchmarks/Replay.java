@@ -0,0 +1,396 @@
+package urSQL.Benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.GsonBuilder;
+
+import urSQL.API.Connection;
+import urSQL.API.DriverManager;
+import urSQL.API.Statement;
+import urSQL.QueryProcessor.QueryHistory;
+import urSQL.StoredDataManager.StoreDataManager;
+import urSQL.System.ResultSet;
+
+/**
+ * Replay runs again the statements of a history file written by
+ * QueryHistory, on a copy of the data directory where it was captured,
+ * and reports the latencies of the capture next to the ones of the
+ * replay. For example, to replay a capture in 4 sessions at the pace
+ * it was captured:
+ *
+ *   Replay -capture historico_consultas.txt -source /srv/urSQL -sessions 4 -pacing original
+ *
+ * Options, with their defaults:
+ *   -capture   history file to replay                                required
+ *   -source    data directory to copy, with DATABASES and SYSTEM_CATALOG   working directory
+ *   -sessions  concurrent sessions                                   1
+ *   -pacing    original, to wait for the captured start times, or fast     fast
+ *   -speedup   with original pacing, divides the waits               1
+ *   -json      file for the results                                  none
+ *
+ * The statements of a captured session always go to the same replay
+ * session, number modulo -sessions, so each session keeps its order.
+ * The copy is a new temporary directory, deleted after the replay;
+ * its own history is written there too.
+ * @author ArturoMora™
+ *
+ */
+public class Replay
+{
+	public static final String CAPTURE = "capture";
+	public static final String SOURCE = "source";
+	public static final String SESSIONS = "sessions";
+	public static final String PACING = "pacing";
+	public static final String SPEEDUP = "speedup";
+	public static final String JSON = "json";
+
+	public static final String ORIGINAL = "original";
+	public static final String FAST = "fast";
+
+	private static final String DATABASE = "Basesita";
+
+	private final List<QueryHistory.Entry> _Entries;
+	private final int _Sessions;
+	private final boolean _Paced;
+	private final double _Speedup;
+
+	/**
+	 * Latencies by statement type.
+	 */
+	private final Map<String, WorkloadDriver.Result> _Captured;
+	private final Map<String, WorkloadDriver.Result> _Replayed;
+
+	private final AtomicLong _Failed;
+	private final AtomicLong _RowMismatches;
+
+	public Replay(List<QueryHistory.Entry> pEntries, int pSessions, boolean pPaced, double pSpeedup)
+	{
+		this._Entries = pEntries;
+		this._Sessions = pSessions;
+		this._Paced = pPaced;
+		this._Speedup = pSpeedup;
+		this._Captured = new LinkedHashMap<String, WorkloadDriver.Result>();
+		this._Replayed = new ConcurrentHashMap<String, WorkloadDriver.Result>();
+		this._Failed = new AtomicLong();
+		this._RowMismatches = new AtomicLong();
+	}
+
+	/**
+	 * Reads a history file, skipping the lines that cannot be read,
+	 * like the last one of a process that stopped while writing it.
+	 */
+	public static List<QueryHistory.Entry> read(File pFile) throws IOException
+	{
+		List<QueryHistory.Entry> entries = new ArrayList<QueryHistory.Entry>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(pFile),
+				StandardCharsets.UTF_8));
+		try
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				try
+				{
+					entries.add(QueryHistory.Entry.parse(line));
+				}
+				catch (RuntimeException e)
+				{
+					System.err.println("Skipping " + line);
+				}
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+		return entries;
+	}
+
+	/**
+	 * Replays every statement and returns the report.
+	 */
+	public WorkloadDriver.Report run() throws Exception
+	{
+		List<List<QueryHistory.Entry>> sessions = new ArrayList<List<QueryHistory.Entry>>();
+		for (int i = 0; i < this._Sessions; i++)
+		{
+			sessions.add(new ArrayList<QueryHistory.Entry>());
+		}
+		for (QueryHistory.Entry entry : this._Entries)
+		{
+			sessions.get(entry.getSession() % this._Sessions).add(entry);
+			result(this._Captured, type(entry.getSql())).record(entry.getMicros() * 1000);
+		}
+
+		final long first = this._Entries.isEmpty() ? 0 : this._Entries.get(0).getStart().toEpochMilli();
+		final long start = System.nanoTime();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < this._Sessions; i++)
+		{
+			final List<QueryHistory.Entry> session = sessions.get(i);
+			Thread thread = new Thread("replay-" + i)
+			{
+				@Override
+				public void run()
+				{
+					replay(session, first, start);
+				}
+			};
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		WorkloadDriver.Report report = new WorkloadDriver.Report();
+		report.seconds = (System.nanoTime() - start) / 1e9;
+		report.operations = this._Entries.size();
+		report.throughput = report.operations / report.seconds;
+		// in the order of the capture
+		for (String type : this._Captured.keySet())
+		{
+			WorkloadDriver.Result result = this._Replayed.get(type);
+			if (result != null)
+			{
+				report.types.put(type, result.summarize(report.seconds));
+			}
+		}
+		return report;
+	}
+
+	/**
+	 * Runs the statements of one session in order on its own Statement.
+	 */
+	private void replay(List<QueryHistory.Entry> pSession, long pFirst, long pStart)
+	{
+		Connection connection = DriverManager.getConnection(DATABASE);
+		Statement statement = connection.createStatement();
+		for (QueryHistory.Entry entry : pSession)
+		{
+			if (this._Paced)
+			{
+				pace(entry, pFirst, pStart);
+			}
+			boolean executed = false;
+			int rows = 0;
+			long start = System.nanoTime();
+			try
+			{
+				statement.execute(entry.getSql());
+				executed = statement.getQ_Proc().getExecuted();
+				ResultSet rs = statement.getQ_Proc().getRS();
+				rows = rs == null ? 0 : rs.getTableData().getData().size();
+			}
+			catch (Exception e)
+			{
+				System.err.println(entry.getSql() + ": " + e);
+			}
+			finally
+			{
+				statement.close();
+			}
+			result(this._Replayed, type(entry.getSql())).record(System.nanoTime() - start);
+			if (executed != entry.isExecuted())
+			{
+				this._Failed.incrementAndGet();
+			}
+			else if (rows != entry.getRows())
+			{
+				this._RowMismatches.incrementAndGet();
+			}
+		}
+		connection.close();
+	}
+
+	/**
+	 * Waits until the time of a statement since the first one of the
+	 * capture, divided by the speedup.
+	 */
+	private void pace(QueryHistory.Entry pEntry, long pFirst, long pStart)
+	{
+		long due = pStart + (long) ((pEntry.getStart().toEpochMilli() - pFirst) * 1e6 / this._Speedup);
+		long wait = due - System.nanoTime();
+		if (wait <= 0)
+		{
+			return;
+		}
+		try
+		{
+			Thread.sleep(wait / 1000000, (int) (wait % 1000000));
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static synchronized WorkloadDriver.Result result(Map<String, WorkloadDriver.Result> pResults, String pType)
+	{
+		WorkloadDriver.Result result = pResults.get(pType);
+		if (result == null)
+		{
+			result = new WorkloadDriver.Result();
+			pResults.put(pType, result);
+		}
+		return result;
+	}
+
+	/**
+	 * First word of a statement, in upper case.
+	 */
+	private static String type(String pSql)
+	{
+		String sql = pSql.trim();
+		int space = sql.indexOf(' ');
+		return (space < 0 ? sql : sql.substring(0, space)).toUpperCase();
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		Map<String, String> options = new LinkedHashMap<String, String>();
+		options.put(CAPTURE, null);
+		options.put(SOURCE, System.getProperty("user.dir"));
+		options.put(SESSIONS, "1");
+		options.put(PACING, FAST);
+		options.put(SPEEDUP, "1");
+		options.put(JSON, null);
+		for (int i = 0; i + 1 < args.length; i += 2)
+		{
+			String name = args[i].startsWith("-") ? args[i].substring(1) : args[i];
+			if (!options.containsKey(name))
+			{
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+			options.put(name, args[i + 1]);
+		}
+		if (options.get(CAPTURE) == null)
+		{
+			throw new IllegalArgumentException("Missing -capture");
+		}
+		if (!options.get(PACING).equals(ORIGINAL) && !options.get(PACING).equals(FAST))
+		{
+			throw new IllegalArgumentException("Pacing must be " + ORIGINAL + " or " + FAST);
+		}
+
+		List<QueryHistory.Entry> entries = read(new File(options.get(CAPTURE)));
+		File home = Files.createTempDirectory("urSQL-replay").toFile();
+		copy(new File(options.get(SOURCE), "DATABASES"), new File(home, "DATABASES"));
+		copy(new File(options.get(SOURCE), "SYSTEM_CATALOG"), new File(home, "SYSTEM_CATALOG"));
+		// before any class that reads the data directory is loaded
+		System.setProperty(StoreDataManager.HOME_PROPERTY, home.getAbsolutePath());
+
+		Replay replay = new Replay(entries, Integer.parseInt(options.get(SESSIONS)),
+				options.get(PACING).equals(ORIGINAL), Double.parseDouble(options.get(SPEEDUP)));
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(new OutputStream()
+		{
+			@Override
+			public void write(int b)
+			{
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len)
+			{
+			}
+		}));
+		WorkloadDriver.Report report;
+		try
+		{
+			report = replay.run();
+		}
+		finally
+		{
+			System.setOut(out);
+			delete(home);
+		}
+		report.options = options;
+
+		WorkloadDriver.Report captured = new WorkloadDriver.Report();
+		captured.operations = entries.size();
+		if (!entries.isEmpty())
+		{
+			captured.seconds = Math.max(1, entries.get(entries.size() - 1).getStart().toEpochMilli()
+					- entries.get(0).getStart().toEpochMilli()) / 1e3;
+			captured.throughput = captured.operations / captured.seconds;
+		}
+		for (Map.Entry<String, WorkloadDriver.Result> entry : replay._Captured.entrySet())
+		{
+			captured.types.put(entry.getKey(), entry.getValue().summarize(captured.seconds));
+		}
+		out.println("Captured:");
+		captured.print(out);
+		out.println();
+		out.println("Replayed:");
+		report.print(out);
+		out.format("%nStatements with a different outcome: %d, with a different number of rows: %d%n",
+				replay._Failed.get(), replay._RowMismatches.get());
+		if (options.get(JSON) != null)
+		{
+			Map<String, WorkloadDriver.Report> results = new LinkedHashMap<String, WorkloadDriver.Report>();
+			results.put("captured", captured);
+			results.put("replayed", report);
+			FileWriter writer = new FileWriter(options.get(JSON));
+			try
+			{
+				new GsonBuilder().setPrettyPrinting().create().toJson(results, writer);
+			}
+			finally
+			{
+				writer.close();
+			}
+		}
+	}
+
+	/**
+	 * Copies a directory with everything in it, if it exists.
+	 */
+	private static void copy(File pFrom, File pTo) throws IOException
+	{
+		if (!pFrom.exists())
+		{
+			return;
+		}
+		if (pFrom.isDirectory())
+		{
+			pTo.mkdirs();
+			for (File child : pFrom.listFiles())
+			{
+				copy(child, new File(pTo, child.getName()));
+			}
+			return;
+		}
+		Files.copy(pFrom.toPath(), pTo.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static void delete(File pFile)
+	{
+		File[] children = pFile.listFiles();
+		if (children != null)
+		{
+			for (File child : children)
+			{
+				delete(child);
+			}
+		}
+		pFile.delete();
+	}
+}
@@ -0,0 +1,288 @@
+package urSQL.Benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+/**
+ * TpccLiteWorkload is a reduced TPC-C: the five transactions with
+ * their usual mix (45% new order, 43% payment, 4% each order status,
+ * delivery and stock level) on the same tables, scaled down to
+ * CUSTOMERS customers per district and ITEMS items. The grammar
+ * has one column keys and one condition per WHERE, so composite keys
+ * are packed in an INTEGER (district = warehouse * DISTRICTS + number,
+ * order = district * ORDER_SPACE + number, order line = order * 16 +
+ * number), amounts are INTEGER cents, and the values that TPC-C reads back to compute the next
+ * statement, like the next order number, are kept by the workload.
+ * Customers and items are chosen with the key distribution.
+ * @author ArturoMora™
+ *
+ */
+public class TpccLiteWorkload extends Workload
+{
+	public static final String NAME = "tpcc";
+
+	private static final int DISTRICTS = 10;
+	private static final int CUSTOMERS = 100;
+	private static final int CUSTOMER_SPACE = 1000;
+	private static final int ITEMS = 1000;
+	private static final int STOCK_SPACE = 10000;
+	private static final int ORDER_SPACE = 100000;
+	private static final int INITIAL_ORDERS = 30;
+	private static final int INITIAL_NEW_ORDERS = 9;
+
+	/**
+	 * More warehouses overflow the INTEGER keys of the order lines.
+	 */
+	private static final int MAX_WAREHOUSES = 10;
+
+	private final int _Warehouses;
+
+	/**
+	 * Next order number of each district key.
+	 */
+	private final int[] _NextOrder;
+
+	/**
+	 * Orders not delivered yet of each district key, oldest first.
+	 */
+	private final ArrayDeque<Integer>[] _NewOrders;
+
+	/**
+	 * Customer of every order not delivered yet, by order key.
+	 */
+	private final HashMap<Integer, Integer> _OrderCustomer;
+
+	/**
+	 * Last order of every customer, by customer key.
+	 */
+	private final HashMap<Integer, Integer> _LastOrder;
+
+	@SuppressWarnings("unchecked")
+	TpccLiteWorkload(WorkloadDriver pDriver, KeyGenerator pKeys)
+	{
+		super(pDriver, pKeys);
+		this._Warehouses = pDriver.getIntOption(WorkloadDriver.WAREHOUSES);
+		if (this._Warehouses < 1 || this._Warehouses > MAX_WAREHOUSES)
+		{
+			throw new IllegalArgumentException("Warehouses must be between 1 and " + MAX_WAREHOUSES);
+		}
+		int districts = (this._Warehouses + 1) * DISTRICTS;
+		this._NextOrder = new int[districts];
+		this._NewOrders = new ArrayDeque[districts];
+		for (int i = 0; i < districts; i++)
+		{
+			this._NewOrders[i] = new ArrayDeque<Integer>();
+		}
+		this._OrderCustomer = new HashMap<Integer, Integer>();
+		this._LastOrder = new HashMap<Integer, Integer>();
+	}
+
+	@Override
+	public void createSchema() throws Exception
+	{
+		this._Driver.execute("CREATE TABLE warehouse AS (w_id INTEGER NOT NULL w_tax INTEGER NULL"
+				+ " w_ytd INTEGER NULL PRIMARY KEY (w_id))");
+		this._Driver.execute("CREATE TABLE district AS (d_key INTEGER NOT NULL d_tax INTEGER NULL"
+				+ " d_ytd INTEGER NULL d_next_o_id INTEGER NULL PRIMARY KEY (d_key))");
+		this._Driver.execute("CREATE TABLE customer AS (c_key INTEGER NOT NULL c_discount INTEGER NULL"
+				+ " c_balance INTEGER NULL c_payment_cnt INTEGER NULL PRIMARY KEY (c_key))");
+		this._Driver.execute("CREATE TABLE item AS (i_id INTEGER NOT NULL i_im_id INTEGER NULL"
+				+ " i_price INTEGER NULL PRIMARY KEY (i_id))");
+		this._Driver.execute("CREATE TABLE stock AS (s_key INTEGER NOT NULL s_quantity INTEGER NULL"
+				+ " PRIMARY KEY (s_key))");
+		this._Driver.execute("CREATE TABLE orders AS (o_key INTEGER NOT NULL o_c_key INTEGER NULL"
+				+ " o_ol_cnt INTEGER NULL o_carrier_id INTEGER NULL PRIMARY KEY (o_key))");
+		this._Driver.execute("CREATE TABLE new_order AS (no_key INTEGER NOT NULL PRIMARY KEY (no_key))");
+		this._Driver.execute("CREATE TABLE order_line AS (ol_key INTEGER NOT NULL ol_i_id INTEGER NULL"
+				+ " ol_quantity INTEGER NULL ol_amount INTEGER NULL PRIMARY KEY (ol_key))");
+		this._Driver.execute("CREATE INDEX orders_customer ON orders (o_c_key)");
+	}
+
+	@Override
+	public void load() throws Exception
+	{
+		for (int i = 0; i < ITEMS; i++)
+		{
+			this._Driver.execute("INSERT INTO item (i_id i_im_id i_price) VALUES (" + i + " " + value() + " "
+					+ amount(100) + ")");
+		}
+		for (int w = 1; w <= this._Warehouses; w++)
+		{
+			this._Driver.execute("INSERT INTO warehouse (w_id w_tax w_ytd) VALUES (" + w + " "
+					+ this._Random.nextInt(2000) + " 30000000)");
+			for (int i = 0; i < ITEMS; i++)
+			{
+				this._Driver.execute("INSERT INTO stock (s_key s_quantity) VALUES (" + (w * STOCK_SPACE + i) + " "
+						+ (10 + this._Random.nextInt(91)) + ")");
+			}
+			for (int d = 0; d < DISTRICTS; d++)
+			{
+				int district = w * DISTRICTS + d;
+				this._Driver.execute("INSERT INTO district (d_key d_tax d_ytd d_next_o_id) VALUES (" + district + " "
+						+ this._Random.nextInt(2000) + " 3000000 " + INITIAL_ORDERS + ")");
+				for (int c = 0; c < CUSTOMERS; c++)
+				{
+					this._Driver.execute("INSERT INTO customer (c_key c_discount c_balance c_payment_cnt) VALUES ("
+							+ (district * CUSTOMER_SPACE + c) + " " + this._Random.nextInt(5000) + " 1000 1)");
+				}
+				for (int o = 0; o < INITIAL_ORDERS; o++)
+				{
+					insertOrder(district, district * CUSTOMER_SPACE + this._Random.nextInt(CUSTOMERS),
+							o >= INITIAL_ORDERS - INITIAL_NEW_ORDERS);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void operate() throws Exception
+	{
+		long start = System.nanoTime();
+		int choice = this._Random.nextInt(100);
+		if (choice < 45)
+		{
+			newOrder();
+			this._Driver.record("NEW_ORDER", start);
+		}
+		else if (choice < 88)
+		{
+			payment();
+			this._Driver.record("PAYMENT", start);
+		}
+		else if (choice < 92)
+		{
+			orderStatus();
+			this._Driver.record("ORDER_STATUS", start);
+		}
+		else if (choice < 96)
+		{
+			delivery();
+			this._Driver.record("DELIVERY", start);
+		}
+		else
+		{
+			stockLevel();
+			this._Driver.record("STOCK_LEVEL", start);
+		}
+	}
+
+	private int warehouse()
+	{
+		return 1 + this._Random.nextInt(this._Warehouses);
+	}
+
+	private int district(int pWarehouse)
+	{
+		return pWarehouse * DISTRICTS + this._Random.nextInt(DISTRICTS);
+	}
+
+	private int customer(int pDistrict)
+	{
+		return pDistrict * CUSTOMER_SPACE + this._Keys.next(CUSTOMERS);
+	}
+
+	private void newOrder() throws Exception
+	{
+		int warehouse = warehouse();
+		int district = district(warehouse);
+		int customer = customer(district);
+		this._Driver.execute("SELECT * FROM warehouse WHERE w_id = " + warehouse);
+		this._Driver.execute("SELECT * FROM district WHERE d_key = " + district);
+		this._Driver.execute("SELECT * FROM customer WHERE c_key = " + customer);
+		this._Driver.execute("UPDATE district SET d_next_o_id = " + (this._NextOrder[district] + 1)
+				+ " WHERE d_key = " + district);
+		insertOrder(district, customer, true);
+	}
+
+	/**
+	 * Inserts an order with 5 to 15 lines, reading and updating the
+	 * stock of every item.
+	 */
+	private void insertOrder(int pDistrict, int pCustomer, boolean pNew) throws Exception
+	{
+		int order = pDistrict * ORDER_SPACE + this._NextOrder[pDistrict]++;
+		int warehouse = pDistrict / DISTRICTS;
+		int lines = 5 + this._Random.nextInt(11);
+		this._Driver.execute("INSERT INTO orders (o_key o_c_key o_ol_cnt o_carrier_id) VALUES (" + order + " "
+				+ pCustomer + " " + lines + " " + (pNew ? 0 : 1 + this._Random.nextInt(10)) + ")");
+		if (pNew)
+		{
+			this._Driver.execute("INSERT INTO new_order (no_key) VALUES (" + order + ")");
+			this._NewOrders[pDistrict].add(order);
+			this._OrderCustomer.put(order, pCustomer);
+		}
+		this._LastOrder.put(pCustomer, order);
+		for (int i = 0; i < lines; i++)
+		{
+			int item = this._Keys.next(ITEMS);
+			int stock = warehouse * STOCK_SPACE + item;
+			this._Driver.execute("SELECT * FROM item WHERE i_id = " + item);
+			this._Driver.execute("SELECT * FROM stock WHERE s_key = " + stock);
+			this._Driver.execute("UPDATE stock SET s_quantity = " + (10 + this._Random.nextInt(91))
+					+ " WHERE s_key = " + stock);
+			this._Driver.execute("INSERT INTO order_line (ol_key ol_i_id ol_quantity ol_amount) VALUES ("
+					+ (order * 16 + i) + " " + item + " " + (1 + this._Random.nextInt(10)) + " " + amount(100) + ")");
+		}
+	}
+
+	private void payment() throws Exception
+	{
+		int warehouse = warehouse();
+		int district = district(warehouse);
+		int customer = customer(district);
+		this._Driver.execute("UPDATE warehouse SET w_ytd = " + amount(300000) + " WHERE w_id = " + warehouse);
+		this._Driver.execute("UPDATE district SET d_ytd = " + amount(30000) + " WHERE d_key = " + district);
+		this._Driver.execute("SELECT * FROM customer WHERE c_key = " + customer);
+		this._Driver.execute("UPDATE customer SET c_balance = " + amount(5000) + " WHERE c_key = " + customer);
+	}
+
+	private void orderStatus() throws Exception
+	{
+		int customer = customer(district(warehouse()));
+		this._Driver.execute("SELECT * FROM customer WHERE c_key = " + customer);
+		this._Driver.execute("SELECT * FROM orders WHERE o_c_key = " + customer + " ORDER BY o_key DESC LIMIT 1");
+		Integer order = this._LastOrder.get(customer);
+		if (order != null)
+		{
+			this._Driver.execute("SELECT * FROM order_line WHERE ol_key > " + (order * 16 - 1)
+					+ " ORDER BY ol_key LIMIT 15");
+		}
+	}
+
+	/**
+	 * Delivers the oldest new order of every district of a warehouse.
+	 */
+	private void delivery() throws Exception
+	{
+		int warehouse = warehouse();
+		int carrier = 1 + this._Random.nextInt(10);
+		for (int d = 0; d < DISTRICTS; d++)
+		{
+			int district = warehouse * DISTRICTS + d;
+			this._Driver.execute("SELECT * FROM new_order WHERE no_key > " + (district * ORDER_SPACE - 1)
+					+ " ORDER BY no_key LIMIT 1");
+			Integer order = this._NewOrders[district].poll();
+			if (order == null)
+			{
+				continue;
+			}
+			this._Driver.execute("DELETE FROM new_order WHERE no_key = " + order);
+			this._Driver.execute("UPDATE orders SET o_carrier_id = " + carrier + " WHERE o_key = " + order);
+			this._Driver.execute("UPDATE customer SET c_balance = " + amount(5000) + " WHERE c_key = "
+					+ this._OrderCustomer.remove(order));
+		}
+	}
+
+	/**
+	 * Lines of the last 20 orders of a district and the items with
+	 * little stock.
+	 */
+	private void stockLevel() throws Exception
+	{
+		int district = district(warehouse());
+		int first = Math.max(0, this._NextOrder[district] - 20);
+		this._Driver.execute("SELECT * FROM order_line WHERE ol_key > " + ((district * ORDER_SPACE + first) * 16 - 1)
+				+ " ORDER BY ol_key LIMIT 300");
+		this._Driver.execute("SELECT COUNT(s_key) FROM stock WHERE s_quantity < 15");
+	}
+}
@@ -0,0 +1,72 @@
+package urSQL.Benchmarks;
+
+import java.util.Random;
+
+/**
+ * Workload is a mix of statements run by the WorkloadDriver: it creates
+ * its tables, loads the initial records and then runs one operation at
+ * a time, which may be a single statement or a short transaction.
+ * @author ArturoMora™
+ *
+ */
+public abstract class Workload
+{
+	protected final WorkloadDriver _Driver;
+	protected final Random _Random;
+	protected final KeyGenerator _Keys;
+
+	protected Workload(WorkloadDriver pDriver, KeyGenerator pKeys)
+	{
+		this._Driver = pDriver;
+		this._Random = pDriver.getRandom();
+		this._Keys = pKeys;
+	}
+
+	/**
+	 * Creates the workload by name.
+	 * @param pName a to f for the YCSB core workloads, tpcc for TpccLiteWorkload.
+	 * @param pDistribution Key distribution, null for the default of the workload.
+	 */
+	public static Workload create(WorkloadDriver pDriver, String pName, String pDistribution)
+	{
+		String name = pName.toLowerCase();
+		if (name.equals(TpccLiteWorkload.NAME))
+		{
+			return new TpccLiteWorkload(pDriver,
+					KeyGenerator.create(pDistribution == null ? KeyGenerator.UNIFORM : pDistribution, pDriver.getRandom()));
+		}
+		return YcsbWorkload.workload(pDriver, name, pDistribution);
+	}
+
+	/**
+	 * Creates the tables and indexes of the workload.
+	 */
+	public abstract void createSchema() throws Exception;
+
+	/**
+	 * Inserts the initial records.
+	 */
+	public abstract void load() throws Exception;
+
+	/**
+	 * Runs one operation of the mix.
+	 */
+	public abstract void operate() throws Exception;
+
+	/**
+	 * Random value of a field. The system catalog keeps every column as
+	 * INTEGER, so the workloads only use INTEGER columns.
+	 */
+	protected int value()
+	{
+		return this._Random.nextInt(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Random amount in cents.
+	 */
+	protected int amount(int pMax)
+	{
+		return this._Random.nextInt(pMax * 100);
+	}
+}
@@ -0,0 +1,327 @@
+package urSQL.Benchmarks;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import com.google.gson.GsonBuilder;
+
+import urSQL.API.Connection;
+import urSQL.API.DriverManager;
+import urSQL.API.Statement;
+import urSQL.Metrics.LatencyHistogram;
+import urSQL.Metrics.Metrics;
+import urSQL.StoredDataManager.StoreDataManager;
+
+/**
+ * WorkloadDriver runs a Workload end to end through urSQL.API, in a
+ * new data directory unless -home is given: it creates the database
+ * and the tables, loads the records, runs the warmup operations and
+ * then the measured ones, and reports the throughput and the latency
+ * percentiles of every statement type (SELECT, INSERT, UPDATE, DELETE)
+ * and of every transaction of the workload. For example:
+ *
+ *   WorkloadDriver -workload a -distribution zipfian -records 10000 -operations 50000 -json a.json
+ *
+ * Options, with their defaults:
+ *   -workload      a to f (YCSB) or tpcc                       a
+ *   -distribution  uniform, zipfian, hotspot or latest         per workload
+ *   -records       YCSB records loaded                         1000
+ *   -fields        YCSB fields per record                      10
+ *   -warehouses    TPC-C warehouses, 1 to 10                   1
+ *   -warmup        operations before measuring                 1000
+ *   -operations    measured operations                         10000
+ *   -seed          seed of every random choice                 1
+ *   -home          data directory, kept after the run          new temporary directory
+ *   -json          file for the results, to compare releases   none
+ *
+ * The statements go one at a time through a single Statement; Replay
+ * runs concurrent sessions. What the engine prints while executing is
+ * discarded.
+ * @author ArturoMora™
+ *
+ */
+public class WorkloadDriver
+{
+	public static final String WORKLOAD = "workload";
+	public static final String DISTRIBUTION = "distribution";
+	public static final String RECORDS = "records";
+	public static final String FIELDS = "fields";
+	public static final String WAREHOUSES = "warehouses";
+	public static final String WARMUP = "warmup";
+	public static final String OPERATIONS = "operations";
+	public static final String SEED = "seed";
+	public static final String HOME = "home";
+	public static final String JSON = "json";
+
+	/**
+	 * CREATE TABLE always writes in the default database of the
+	 * StoreDataManager, so the workload runs in it.
+	 */
+	private static final String DATABASE = "Basesita";
+
+	private final Map<String, String> _Options;
+	private final Random _Random;
+	private final Map<String, Result> _Results;
+	private Statement _Statement;
+
+	public WorkloadDriver(Map<String, String> pOptions)
+	{
+		this._Options = pOptions;
+		this._Random = new Random(getIntOption(SEED));
+		this._Results = new LinkedHashMap<String, Result>();
+	}
+
+	public Random getRandom()
+	{
+		return this._Random;
+	}
+
+	public String getOption(String pName)
+	{
+		return this._Options.get(pName);
+	}
+
+	public int getIntOption(String pName)
+	{
+		return Integer.parseInt(this._Options.get(pName));
+	}
+
+	/**
+	 * Executes a statement and records its latency under its first word.
+	 */
+	public void execute(String pSql) throws IOException
+	{
+		long errors = Metrics.QUERY_ERRORS.getValue();
+		long start = System.nanoTime();
+		this._Statement.execute(pSql);
+		this._Statement.close();
+		Result result = record(pSql.substring(0, pSql.indexOf(' ')).toUpperCase(), start);
+		if (Metrics.QUERY_ERRORS.getValue() != errors)
+		{
+			result._Errors++;
+		}
+	}
+
+	/**
+	 * Records the latency of an operation that started at pStart.
+	 */
+	public Result record(String pType, long pStart)
+	{
+		long nanos = System.nanoTime() - pStart;
+		Result result = this._Results.get(pType);
+		if (result == null)
+		{
+			result = new Result();
+			this._Results.put(pType, result);
+		}
+		result.record(nanos);
+		return result;
+	}
+
+	/**
+	 * Runs the workload and returns the results of the measured operations.
+	 */
+	public Report run(PrintStream pProgress) throws Exception
+	{
+		Connection connection = DriverManager.getConnection(DATABASE);
+		this._Statement = connection.createStatement();
+		Workload workload = Workload.create(this, getOption(WORKLOAD), getOption(DISTRIBUTION));
+
+		long start = System.nanoTime();
+		execute("CREATE DATABASE " + DATABASE);
+		execute("SET DATABASE " + DATABASE);
+		workload.createSchema();
+		workload.load();
+		Report report = new Report();
+		report.loadSeconds = (System.nanoTime() - start) / 1e9;
+		pProgress.format("Loaded in %.1f s%n", report.loadSeconds);
+
+		int warmup = getIntOption(WARMUP);
+		for (int i = 0; i < warmup; i++)
+		{
+			workload.operate();
+		}
+		this._Results.clear();
+
+		int operations = getIntOption(OPERATIONS);
+		start = System.nanoTime();
+		for (int i = 0; i < operations; i++)
+		{
+			workload.operate();
+		}
+		report.seconds = (System.nanoTime() - start) / 1e9;
+		report.operations = operations;
+		report.throughput = operations / report.seconds;
+		report.options = new LinkedHashMap<String, String>(this._Options);
+		for (Map.Entry<String, Result> entry : this._Results.entrySet())
+		{
+			report.types.put(entry.getKey(), entry.getValue().summarize(report.seconds));
+		}
+		connection.close();
+		return report;
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		Map<String, String> options = new LinkedHashMap<String, String>();
+		options.put(WORKLOAD, "a");
+		options.put(DISTRIBUTION, null);
+		options.put(RECORDS, "1000");
+		options.put(FIELDS, "10");
+		options.put(WAREHOUSES, "1");
+		options.put(WARMUP, "1000");
+		options.put(OPERATIONS, "10000");
+		options.put(SEED, "1");
+		options.put(HOME, null);
+		options.put(JSON, null);
+		for (int i = 0; i + 1 < args.length; i += 2)
+		{
+			String name = args[i].startsWith("-") ? args[i].substring(1) : args[i];
+			if (!options.containsKey(name))
+			{
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+			options.put(name, args[i + 1]);
+		}
+
+		File home = options.get(HOME) == null ? Files.createTempDirectory("urSQL-bench").toFile()
+				: new File(options.get(HOME));
+		home.mkdirs();
+		// before any class that reads the data directory is loaded
+		System.setProperty(StoreDataManager.HOME_PROPERTY, home.getAbsolutePath());
+
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(new OutputStream()
+		{
+			@Override
+			public void write(int b)
+			{
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len)
+			{
+			}
+		}));
+		Report report;
+		try
+		{
+			report = new WorkloadDriver(options).run(out);
+		}
+		finally
+		{
+			System.setOut(out);
+			if (options.get(HOME) == null)
+			{
+				delete(home);
+			}
+		}
+		report.print(out);
+		if (options.get(JSON) != null)
+		{
+			FileWriter writer = new FileWriter(options.get(JSON));
+			try
+			{
+				new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+			}
+			finally
+			{
+				writer.close();
+			}
+		}
+	}
+
+	private static void delete(File pFile)
+	{
+		File[] children = pFile.listFiles();
+		if (children != null)
+		{
+			for (File child : children)
+			{
+				delete(child);
+			}
+		}
+		pFile.delete();
+	}
+
+	/**
+	 * Latencies of one statement or transaction type.
+	 */
+	public static class Result
+	{
+		private final LatencyHistogram _Histogram = new LatencyHistogram();
+		private long _Errors;
+
+		void record(long pNanos)
+		{
+			this._Histogram.record(pNanos);
+		}
+
+		Summary summarize(double pSeconds)
+		{
+			Summary summary = new Summary();
+			summary.count = this._Histogram.getCount();
+			summary.errors = this._Errors;
+			summary.throughput = summary.count / pSeconds;
+			summary.meanMicros = this._Histogram.getMean() / 1000;
+			summary.p50Micros = this._Histogram.getValueAtQuantile(0.5) / 1000.0;
+			summary.p90Micros = this._Histogram.getValueAtQuantile(0.9) / 1000.0;
+			summary.p95Micros = this._Histogram.getValueAtQuantile(0.95) / 1000.0;
+			summary.p99Micros = this._Histogram.getValueAtQuantile(0.99) / 1000.0;
+			summary.p999Micros = this._Histogram.getValueAtQuantile(0.999) / 1000.0;
+			summary.maxMicros = this._Histogram.getMax() / 1000.0;
+			return summary;
+		}
+	}
+
+	/**
+	 * Results of one type, the fields are written as they are in the JSON file.
+	 */
+	public static class Summary
+	{
+		long count;
+		long errors;
+		double throughput;
+		double meanMicros;
+		double p50Micros;
+		double p90Micros;
+		double p95Micros;
+		double p99Micros;
+		double p999Micros;
+		double maxMicros;
+	}
+
+	/**
+	 * Results of a run.
+	 */
+	public static class Report
+	{
+		Map<String, String> options;
+		double loadSeconds;
+		long operations;
+		double seconds;
+		double throughput;
+		Map<String, Summary> types = new LinkedHashMap<String, Summary>();
+
+		void print(PrintStream pOut)
+		{
+			pOut.format("%d operations in %.2f s, %.1f operations/s%n%n", this.operations, this.seconds, this.throughput);
+			pOut.format("%-18s %9s %7s %10s %10s %10s %10s %10s %10s %10s %10s%n", "type", "count", "errors",
+					"ops/s", "mean us", "p50 us", "p90 us", "p95 us", "p99 us", "p99.9 us", "max us");
+			for (Map.Entry<String, Summary> entry : this.types.entrySet())
+			{
+				Summary s = entry.getValue();
+				pOut.format("%-18s %9d %7d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n", entry.getKey(),
+						s.count, s.errors, s.throughput, s.meanMicros, s.p50Micros, s.p90Micros, s.p95Micros,
+						s.p99Micros, s.p999Micros, s.maxMicros);
+			}
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package urSQL.Benchmarks;
+
+/**
+ * YcsbWorkload runs the core workloads of the Yahoo! Cloud Serving
+ * Benchmark on one table usertable with an INTEGER key and
+ * WorkloadDriver.FIELDS INTEGER fields:
+ *
+ *   a  50% read, 50% update                 zipfian
+ *   b  95% read, 5% update                  zipfian
+ *   c  100% read                            zipfian
+ *   d  95% read, 5% insert                  latest
+ *   e  95% short scan, 5% insert            zipfian
+ *   f  50% read, 50% read-modify-write      zipfian
+ *
+ * @author ArturoMora™
+ *
+ */
+public class YcsbWorkload extends Workload
+{
+	public static final String TABLE = "usertable";
+	public static final String KEY = "ycsb_key";
+
+	/**
+	 * Longest scan of workload e, the length is uniform up to it.
+	 */
+	private static final int MAX_SCAN = 100;
+
+	private final double _Read;
+	private final double _Update;
+	private final double _Insert;
+	private final double _Scan;
+	private final int _Fields;
+
+	/**
+	 * Records in the table, inserts add them at the end.
+	 */
+	private int _Records;
+
+	private YcsbWorkload(WorkloadDriver pDriver, KeyGenerator pKeys,
+			double pRead, double pUpdate, double pInsert, double pScan)
+	{
+		super(pDriver, pKeys);
+		this._Read = pRead;
+		this._Update = pUpdate;
+		this._Insert = pInsert;
+		this._Scan = pScan;
+		this._Fields = pDriver.getIntOption(WorkloadDriver.FIELDS);
+		this._Records = 0;
+	}
+
+	static YcsbWorkload workload(WorkloadDriver pDriver, String pName, String pDistribution)
+	{
+		String distribution = pDistribution;
+		if (distribution == null)
+		{
+			distribution = pName.equals("d") ? KeyGenerator.LATEST : KeyGenerator.ZIPFIAN;
+		}
+		KeyGenerator keys = KeyGenerator.create(distribution, pDriver.getRandom());
+		if (pName.equals("a"))
+		{
+			return new YcsbWorkload(pDriver, keys, 0.5, 0.5, 0, 0);
+		}
+		if (pName.equals("b"))
+		{
+			return new YcsbWorkload(pDriver, keys, 0.95, 0.05, 0, 0);
+		}
+		if (pName.equals("c"))
+		{
+			return new YcsbWorkload(pDriver, keys, 1, 0, 0, 0);
+		}
+		if (pName.equals("d"))
+		{
+			return new YcsbWorkload(pDriver, keys, 0.95, 0, 0.05, 0);
+		}
+		if (pName.equals("e"))
+		{
+			return new YcsbWorkload(pDriver, keys, 0, 0, 0.05, 0.95);
+		}
+		if (pName.equals("f"))
+		{
+			// the other half are read-modify-write
+			return new YcsbWorkload(pDriver, keys, 0.5, 0, 0, 0);
+		}
+		throw new IllegalArgumentException("Unknown workload " + pName);
+	}
+
+	@Override
+	public void createSchema() throws Exception
+	{
+		StringBuilder sql = new StringBuilder("CREATE TABLE " + TABLE + " AS (" + KEY + " INTEGER NOT NULL");
+		for (int i = 0; i < this._Fields; i++)
+		{
+			sql.append(" field").append(i).append(" INTEGER NULL");
+		}
+		sql.append(" PRIMARY KEY (" + KEY + "))");
+		this._Driver.execute(sql.toString());
+	}
+
+	@Override
+	public void load() throws Exception
+	{
+		int records = this._Driver.getIntOption(WorkloadDriver.RECORDS);
+		for (int i = 0; i < records; i++)
+		{
+			insert();
+		}
+	}
+
+	@Override
+	public void operate() throws Exception
+	{
+		double choice = this._Random.nextDouble();
+		if (choice < this._Read)
+		{
+			read(this._Keys.next(this._Records));
+		}
+		else if (choice < this._Read + this._Update)
+		{
+			update(this._Keys.next(this._Records));
+		}
+		else if (choice < this._Read + this._Update + this._Insert)
+		{
+			insert();
+		}
+		else if (choice < this._Read + this._Update + this._Insert + this._Scan)
+		{
+			scan(this._Keys.next(this._Records));
+		}
+		else
+		{
+			long start = System.nanoTime();
+			int key = this._Keys.next(this._Records);
+			read(key);
+			update(key);
+			this._Driver.record("READ_MODIFY_WRITE", start);
+		}
+	}
+
+	private void read(int pKey) throws Exception
+	{
+		this._Driver.execute("SELECT * FROM " + TABLE + " WHERE " + KEY + " = " + pKey);
+	}
+
+	private void update(int pKey) throws Exception
+	{
+		this._Driver.execute("UPDATE " + TABLE + " SET field" + this._Random.nextInt(this._Fields) + " = "
+				+ value() + " WHERE " + KEY + " = " + pKey);
+	}
+
+	private void insert() throws Exception
+	{
+		StringBuilder columns = new StringBuilder(KEY);
+		StringBuilder values = new StringBuilder(Integer.toString(this._Records));
+		for (int i = 0; i < this._Fields; i++)
+		{
+			columns.append(" field").append(i);
+			values.append(' ').append(value());
+		}
+		this._Driver.execute("INSERT INTO " + TABLE + " (" + columns + ") VALUES (" + values + ")");
+		this._Records++;
+	}
+
+	/**
+	 * Records from pKey on in key order; >= is evaluated as >, so the
+	 * scan starts after pKey - 1.
+	 */
+	private void scan(int pKey) throws Exception
+	{
+		String where = pKey == 0 ? "" : " WHERE " + KEY + " > " + (pKey - 1);
+		this._Driver.execute("SELECT * FROM " + TABLE + where
+				+ " ORDER BY " + KEY + " LIMIT " + (1 + this._Random.nextInt(MAX_SCAN)));
+	}
+}
@@ -0,0 +1,232 @@
+package urSQL.Benchmarks;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import urSQL.StoredDataManager.BplusJ.xBplusTreeBytes;
+
+/**
+ * xBplusTreeBytesBenchmark measures the tree that stores the rows and
+ * indexes of every table. Keys whose first prefixLength characters are
+ * equal share a bucket that is read and rewritten whole: with keys of
+ * KEY_LENGTH characters a prefix of 13 leaves ten keys per bucket for
+ * the sequential and prefixed shapes, and 32 one key per bucket. Like
+ * BplusTreeLongBenchmark, the trial loads and commits treeSize keys
+ * and every iteration ends with Abort.
+ * @author ArturoMora™
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class xBplusTreeBytesBenchmark
+{
+	/**
+	 * Length of every key.
+	 */
+	private static final int KEY_LENGTH = 14;
+
+	@Param({ Keys.SEQUENTIAL, Keys.RANDOM, Keys.PREFIXED })
+	public String keyShape;
+
+	@Param({ "13", "32" })
+	public int prefixLength;
+
+	@Param({ "16", "256", "4096" })
+	public int valueSize;
+
+	@Param({ "10000", "100000" })
+	public int treeSize;
+
+	private File _TreeFile;
+	private File _BlockFile;
+	private RandomAccessFile _TreeStream;
+	private RandomAccessFile _BlockStream;
+	private xBplusTreeBytes _Tree;
+
+	/**
+	 * Loaded keys, then the ones that are not in the tree.
+	 */
+	private String[] _Keys;
+
+	/**
+	 * Loaded keys sorted as the tree keeps them.
+	 */
+	private String[] _Sorted;
+
+	private int[] _Order;
+	private int _Cursor;
+	private byte[] _Value;
+
+	@Setup(Level.Trial)
+	public void load() throws Exception
+	{
+		this._Keys = Keys.create(this.keyShape, this.treeSize * 2, KEY_LENGTH);
+		this._Sorted = Arrays.copyOf(this._Keys, this.treeSize);
+		Arrays.sort(this._Sorted);
+		this._Order = Keys.shuffle(this.treeSize);
+		this._Value = Keys.value(this.valueSize);
+		this._TreeFile = File.createTempFile("bench", ".tree");
+		this._BlockFile = File.createTempFile("bench", ".blocks");
+		this._TreeFile.delete();
+		this._BlockFile.delete();
+		this._TreeStream = new RandomAccessFile(this._TreeFile, "rw");
+		this._BlockStream = new RandomAccessFile(this._BlockFile, "rw");
+		this._Tree = xBplusTreeBytes.Initialize(this._TreeStream, this._BlockStream, this.prefixLength);
+		for (int i = 0; i < this.treeSize; i++)
+		{
+			this._Tree.set(this._Keys[this._Order[i]], this._Value);
+		}
+		this._Tree.Commit();
+	}
+
+	@Setup(Level.Iteration)
+	public void rewind()
+	{
+		this._Cursor = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void abort() throws Exception
+	{
+		this._Tree.Abort();
+	}
+
+	@TearDown(Level.Trial)
+	public void close() throws Exception
+	{
+		this._Tree.Shutdown();
+		this._TreeStream.close();
+		this._BlockStream.close();
+		this._TreeFile.delete();
+		this._BlockFile.delete();
+	}
+
+	private int next()
+	{
+		int position = this._Cursor;
+		this._Cursor = position + 1 == this.treeSize ? 0 : position + 1;
+		return position;
+	}
+
+	@Benchmark
+	public byte[] getRandom() throws Exception
+	{
+		return this._Tree.get(this._Keys[this._Order[next()]]);
+	}
+
+	@Benchmark
+	public byte[] getSequential() throws Exception
+	{
+		return this._Tree.get(this._Sorted[next()]);
+	}
+
+	@Benchmark
+	public boolean containsKeyHit() throws Exception
+	{
+		return this._Tree.ContainsKey(this._Keys[this._Order[next()]]);
+	}
+
+	@Benchmark
+	public boolean containsKeyMiss() throws Exception
+	{
+		return this._Tree.ContainsKey(this._Keys[this.treeSize + this._Order[next()]]);
+	}
+
+	/**
+	 * Walks every key with FirstKey and NextKey, as a table scan does.
+	 */
+	@Benchmark
+	public int nextKeyScan() throws Exception
+	{
+		int count = 0;
+		for (String key = this._Tree.FirstKey(); key != null; key = this._Tree.NextKey(key))
+		{
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Rewrites the value of a loaded key, the tree does not grow.
+	 */
+	@Benchmark
+	public void setRandomUpdate() throws Exception
+	{
+		this._Tree.set(this._Keys[this._Order[next()]], this._Value);
+	}
+
+	/**
+	 * BplusTreeLongBenchmark.DIRTY_KEYS updates and the commit that
+	 * writes them.
+	 */
+	@Benchmark
+	public void commit() throws Exception
+	{
+		for (int i = 0; i < BplusTreeLongBenchmark.DIRTY_KEYS; i++)
+		{
+			this._Tree.set(this._Keys[this._Order[next()]], this._Value);
+		}
+		this._Tree.Commit();
+	}
+
+	/**
+	 * BplusTreeLongBenchmark.BATCH new keys in random order; the score
+	 * is for the whole batch.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10, batchSize = BplusTreeLongBenchmark.BATCH)
+	@Measurement(iterations = 20, batchSize = BplusTreeLongBenchmark.BATCH)
+	public void setRandomInsert() throws Exception
+	{
+		this._Tree.set(this._Keys[this.treeSize + this._Order[next()]], this._Value);
+	}
+
+	/**
+	 * BplusTreeLongBenchmark.BATCH new keys in the order they were
+	 * created, which is sorted for the sequential and prefixed shapes.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10, batchSize = BplusTreeLongBenchmark.BATCH)
+	@Measurement(iterations = 20, batchSize = BplusTreeLongBenchmark.BATCH)
+	public void setSequentialInsert() throws Exception
+	{
+		this._Tree.set(this._Keys[this.treeSize + next()], this._Value);
+	}
+
+	/**
+	 * BplusTreeLongBenchmark.BATCH loaded keys removed in random order.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 10, batchSize = BplusTreeLongBenchmark.BATCH)
+	@Measurement(iterations = 20, batchSize = BplusTreeLongBenchmark.BATCH)
+	public void removeKey() throws Exception
+	{
+		this._Tree.RemoveKey(this._Keys[this._Order[next()]]);
+	}
+}